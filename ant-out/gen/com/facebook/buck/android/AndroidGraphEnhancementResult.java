@@ -0,0 +1,728 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.apkmodule.APKModuleGraph;
+import com.facebook.buck.android.exopackage.ExopackagePathAndHash;
+import com.facebook.buck.android.packageable.AndroidPackageableCollection;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidGraphEnhancementResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidGraphEnhancementResult.builder()}.
+ */
+@Generated(from = "AbstractAndroidGraphEnhancementResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidGraphEnhancementResult
+    implements AbstractAndroidGraphEnhancementResult {
+  private final AndroidPackageableCollection packageableCollection;
+  private final @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+  private final @Nullable PackageStringAssets packageStringAssets;
+  private final Either<PreDexMerge, NonPreDexedDexBuildable> dexMergeRule;
+  private final SourcePath primaryResourcesApkPath;
+  private final ImmutableMap<APKModule, SourcePath> moduleResourceApkPaths;
+  private final ImmutableList<SourcePath> primaryApkAssetZips;
+  private final ImmutableList<ExopackagePathAndHash> exoResources;
+  private final ImmutableSet<SourcePath> classpathEntriesToDex;
+  private final SourcePath androidManifestPath;
+  private final APKModuleGraph aPKModuleGraph;
+  private transient final Optional<PreDexMerge> preDexMerge;
+  private transient final DexFilesInfo dexFilesInfo;
+  private transient final ImmutableList<SourcePath> additionalRedexInputs;
+
+  private AndroidGraphEnhancementResult(AndroidGraphEnhancementResult.Builder builder) {
+    this.packageableCollection = builder.packageableCollection;
+    this.copyNativeLibraries = builder.copyNativeLibraries;
+    this.packageStringAssets = builder.packageStringAssets;
+    this.dexMergeRule = builder.dexMergeRule;
+    this.primaryResourcesApkPath = builder.primaryResourcesApkPath;
+    this.moduleResourceApkPaths = builder.moduleResourceApkPaths.build();
+    this.primaryApkAssetZips = builder.primaryApkAssetZips.build();
+    this.exoResources = builder.exoResources.build();
+    this.classpathEntriesToDex = builder.classpathEntriesToDex.build();
+    this.androidManifestPath = builder.androidManifestPath;
+    this.aPKModuleGraph = builder.aPKModuleGraph;
+    this.preDexMerge = initShim.getPreDexMerge();
+    this.dexFilesInfo = initShim.getDexFilesInfo();
+    this.additionalRedexInputs = initShim.getAdditionalRedexInputs();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractAndroidGraphEnhancementResult", generator = "Immutables")
+  private final class InitShim {
+    private byte preDexMergeBuildStage = STAGE_UNINITIALIZED;
+    private Optional<PreDexMerge> preDexMerge;
+
+    Optional<PreDexMerge> getPreDexMerge() {
+      if (preDexMergeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (preDexMergeBuildStage == STAGE_UNINITIALIZED) {
+        preDexMergeBuildStage = STAGE_INITIALIZING;
+        this.preDexMerge = Objects.requireNonNull(getPreDexMergeInitialize(), "preDexMerge");
+        preDexMergeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.preDexMerge;
+    }
+
+    private byte dexFilesInfoBuildStage = STAGE_UNINITIALIZED;
+    private DexFilesInfo dexFilesInfo;
+
+    DexFilesInfo getDexFilesInfo() {
+      if (dexFilesInfoBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (dexFilesInfoBuildStage == STAGE_UNINITIALIZED) {
+        dexFilesInfoBuildStage = STAGE_INITIALIZING;
+        this.dexFilesInfo = Objects.requireNonNull(getDexFilesInfoInitialize(), "dexFilesInfo");
+        dexFilesInfoBuildStage = STAGE_INITIALIZED;
+      }
+      return this.dexFilesInfo;
+    }
+
+    private byte additionalRedexInputsBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableList<SourcePath> additionalRedexInputs;
+
+    ImmutableList<SourcePath> getAdditionalRedexInputs() {
+      if (additionalRedexInputsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (additionalRedexInputsBuildStage == STAGE_UNINITIALIZED) {
+        additionalRedexInputsBuildStage = STAGE_INITIALIZING;
+        this.additionalRedexInputs = Objects.requireNonNull(getAdditionalRedexInputsInitialize(), "additionalRedexInputs");
+        additionalRedexInputsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.additionalRedexInputs;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (preDexMergeBuildStage == STAGE_INITIALIZING) attributes.add("preDexMerge");
+      if (dexFilesInfoBuildStage == STAGE_INITIALIZING) attributes.add("dexFilesInfo");
+      if (additionalRedexInputsBuildStage == STAGE_INITIALIZING) attributes.add("additionalRedexInputs");
+      return "Cannot build AndroidGraphEnhancementResult, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private Optional<PreDexMerge> getPreDexMergeInitialize() {
+    return AbstractAndroidGraphEnhancementResult.super.getPreDexMerge();
+  }
+
+  private DexFilesInfo getDexFilesInfoInitialize() {
+    return AbstractAndroidGraphEnhancementResult.super.getDexFilesInfo();
+  }
+
+  private ImmutableList<SourcePath> getAdditionalRedexInputsInitialize() {
+    return AbstractAndroidGraphEnhancementResult.super.getAdditionalRedexInputs();
+  }
+
+  /**
+   * @return The value of the {@code packageableCollection} attribute
+   */
+  @Override
+  public AndroidPackageableCollection getPackageableCollection() {
+    return packageableCollection;
+  }
+
+  /**
+   * @return The value of the {@code copyNativeLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<APKModule, CopyNativeLibraries>> getCopyNativeLibraries() {
+    return Optional.ofNullable(copyNativeLibraries);
+  }
+
+  /**
+   * @return The value of the {@code packageStringAssets} attribute
+   */
+  @Override
+  public Optional<PackageStringAssets> getPackageStringAssets() {
+    return Optional.ofNullable(packageStringAssets);
+  }
+
+  /**
+   * @return The value of the {@code dexMergeRule} attribute
+   */
+  @Override
+  public Either<PreDexMerge, NonPreDexedDexBuildable> getDexMergeRule() {
+    return dexMergeRule;
+  }
+
+  /**
+   * @return The value of the {@code primaryResourcesApkPath} attribute
+   */
+  @Override
+  public SourcePath getPrimaryResourcesApkPath() {
+    return primaryResourcesApkPath;
+  }
+
+  /**
+   * @return The value of the {@code moduleResourceApkPaths} attribute
+   */
+  @Override
+  public ImmutableMap<APKModule, SourcePath> getModuleResourceApkPaths() {
+    return moduleResourceApkPaths;
+  }
+
+  /**
+   * @return The value of the {@code primaryApkAssetZips} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getPrimaryApkAssetZips() {
+    return primaryApkAssetZips;
+  }
+
+  /**
+   * @return The value of the {@code exoResources} attribute
+   */
+  @Override
+  public ImmutableList<ExopackagePathAndHash> getExoResources() {
+    return exoResources;
+  }
+
+  /**
+   * This includes everything from the corresponding {@link
+   * AndroidPackageableCollection#getClasspathEntriesToDex}, and may include additional entries due
+   * to {@link AndroidBuildConfig}s (or R.java, in the future).
+   */
+  @Override
+  public ImmutableSet<SourcePath> getClasspathEntriesToDex() {
+    return classpathEntriesToDex;
+  }
+
+  /**
+   * @return The value of the {@code androidManifestPath} attribute
+   */
+  @Override
+  public SourcePath getAndroidManifestPath() {
+    return androidManifestPath;
+  }
+
+  /**
+   * @return The value of the {@code aPKModuleGraph} attribute
+   */
+  @Override
+  public APKModuleGraph getAPKModuleGraph() {
+    return aPKModuleGraph;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code preDexMerge} attribute
+   */
+  @Override
+  public Optional<PreDexMerge> getPreDexMerge() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPreDexMerge()
+        : this.preDexMerge;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code dexFilesInfo} attribute
+   */
+  @Override
+  public DexFilesInfo getDexFilesInfo() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDexFilesInfo()
+        : this.dexFilesInfo;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code additionalRedexInputs} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getAdditionalRedexInputs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAdditionalRedexInputs()
+        : this.additionalRedexInputs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidGraphEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidGraphEnhancementResult
+        && equalTo((AndroidGraphEnhancementResult) another);
+  }
+
+  private boolean equalTo(AndroidGraphEnhancementResult another) {
+    return packageableCollection.equals(another.packageableCollection)
+        && Objects.equals(copyNativeLibraries, another.copyNativeLibraries)
+        && Objects.equals(packageStringAssets, another.packageStringAssets)
+        && dexMergeRule.equals(another.dexMergeRule)
+        && primaryResourcesApkPath.equals(another.primaryResourcesApkPath)
+        && moduleResourceApkPaths.equals(another.moduleResourceApkPaths)
+        && primaryApkAssetZips.equals(another.primaryApkAssetZips)
+        && exoResources.equals(another.exoResources)
+        && classpathEntriesToDex.equals(another.classpathEntriesToDex)
+        && androidManifestPath.equals(another.androidManifestPath)
+        && aPKModuleGraph.equals(another.aPKModuleGraph)
+        && preDexMerge.equals(another.preDexMerge)
+        && dexFilesInfo.equals(another.dexFilesInfo)
+        && additionalRedexInputs.equals(another.additionalRedexInputs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code packageableCollection}, {@code copyNativeLibraries}, {@code packageStringAssets}, {@code dexMergeRule}, {@code primaryResourcesApkPath}, {@code moduleResourceApkPaths}, {@code primaryApkAssetZips}, {@code exoResources}, {@code classpathEntriesToDex}, {@code androidManifestPath}, {@code aPKModuleGraph}, {@code preDexMerge}, {@code dexFilesInfo}, {@code additionalRedexInputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + packageableCollection.hashCode();
+    h += (h << 5) + Objects.hashCode(copyNativeLibraries);
+    h += (h << 5) + Objects.hashCode(packageStringAssets);
+    h += (h << 5) + dexMergeRule.hashCode();
+    h += (h << 5) + primaryResourcesApkPath.hashCode();
+    h += (h << 5) + moduleResourceApkPaths.hashCode();
+    h += (h << 5) + primaryApkAssetZips.hashCode();
+    h += (h << 5) + exoResources.hashCode();
+    h += (h << 5) + classpathEntriesToDex.hashCode();
+    h += (h << 5) + androidManifestPath.hashCode();
+    h += (h << 5) + aPKModuleGraph.hashCode();
+    h += (h << 5) + preDexMerge.hashCode();
+    h += (h << 5) + dexFilesInfo.hashCode();
+    h += (h << 5) + additionalRedexInputs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidGraphEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidGraphEnhancementResult")
+        .omitNullValues()
+        .add("packageableCollection", packageableCollection)
+        .add("copyNativeLibraries", copyNativeLibraries)
+        .add("packageStringAssets", packageStringAssets)
+        .add("dexMergeRule", dexMergeRule)
+        .add("primaryResourcesApkPath", primaryResourcesApkPath)
+        .add("moduleResourceApkPaths", moduleResourceApkPaths)
+        .add("primaryApkAssetZips", primaryApkAssetZips)
+        .add("exoResources", exoResources)
+        .add("classpathEntriesToDex", classpathEntriesToDex)
+        .add("androidManifestPath", androidManifestPath)
+        .add("aPKModuleGraph", aPKModuleGraph)
+        .add("preDexMerge", preDexMerge)
+        .add("dexFilesInfo", dexFilesInfo)
+        .add("additionalRedexInputs", additionalRedexInputs)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+   * @return A new AndroidGraphEnhancementResult builder
+   */
+  public static AndroidGraphEnhancementResult.Builder builder() {
+    return new AndroidGraphEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAndroidGraphEnhancementResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PACKAGEABLE_COLLECTION = 0x1L;
+    private static final long INIT_BIT_DEX_MERGE_RULE = 0x2L;
+    private static final long INIT_BIT_PRIMARY_RESOURCES_APK_PATH = 0x4L;
+    private static final long INIT_BIT_ANDROID_MANIFEST_PATH = 0x8L;
+    private static final long INIT_BIT_A_P_K_MODULE_GRAPH = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable AndroidPackageableCollection packageableCollection;
+    private @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+    private @Nullable PackageStringAssets packageStringAssets;
+    private @Nullable Either<PreDexMerge, NonPreDexedDexBuildable> dexMergeRule;
+    private @Nullable SourcePath primaryResourcesApkPath;
+    private ImmutableMap.Builder<APKModule, SourcePath> moduleResourceApkPaths = ImmutableMap.builder();
+    private ImmutableList.Builder<SourcePath> primaryApkAssetZips = ImmutableList.builder();
+    private ImmutableList.Builder<ExopackagePathAndHash> exoResources = ImmutableList.builder();
+    private ImmutableSet.Builder<SourcePath> classpathEntriesToDex = ImmutableSet.builder();
+    private @Nullable SourcePath androidManifestPath;
+    private @Nullable APKModuleGraph aPKModuleGraph;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidGraphEnhancementResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidGraphEnhancementResult instance) {
+      return from((AbstractAndroidGraphEnhancementResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidGraphEnhancementResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAndroidGraphEnhancementResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPackageableCollection(instance.getPackageableCollection());
+      Optional<ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibrariesOptional = instance.getCopyNativeLibraries();
+      if (copyNativeLibrariesOptional.isPresent()) {
+        setCopyNativeLibraries(copyNativeLibrariesOptional);
+      }
+      Optional<PackageStringAssets> packageStringAssetsOptional = instance.getPackageStringAssets();
+      if (packageStringAssetsOptional.isPresent()) {
+        setPackageStringAssets(packageStringAssetsOptional);
+      }
+      setDexMergeRule(instance.getDexMergeRule());
+      setPrimaryResourcesApkPath(instance.getPrimaryResourcesApkPath());
+      putAllModuleResourceApkPaths(instance.getModuleResourceApkPaths());
+      addAllPrimaryApkAssetZips(instance.getPrimaryApkAssetZips());
+      addAllExoResources(instance.getExoResources());
+      addAllClasspathEntriesToDex(instance.getClasspathEntriesToDex());
+      setAndroidManifestPath(instance.getAndroidManifestPath());
+      setAPKModuleGraph(instance.getAPKModuleGraph());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidGraphEnhancementResult#getPackageableCollection() packageableCollection} attribute.
+     * @param packageableCollection The value for packageableCollection 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageableCollection(AndroidPackageableCollection packageableCollection) {
+      this.packageableCollection = Objects.requireNonNull(packageableCollection, "packageableCollection");
+      initBits &= ~INIT_BIT_PACKAGEABLE_COLLECTION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCopyNativeLibraries(ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries) {
+      this.copyNativeLibraries = Objects.requireNonNull(copyNativeLibraries, "copyNativeLibraries");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCopyNativeLibraries(Optional<? extends ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibraries) {
+      this.copyNativeLibraries = copyNativeLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets} to packageStringAssets.
+     * @param packageStringAssets The value for packageStringAssets
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStringAssets(PackageStringAssets packageStringAssets) {
+      this.packageStringAssets = Objects.requireNonNull(packageStringAssets, "packageStringAssets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets} to packageStringAssets.
+     * @param packageStringAssets The value for packageStringAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStringAssets(Optional<? extends PackageStringAssets> packageStringAssets) {
+      this.packageStringAssets = packageStringAssets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidGraphEnhancementResult#getDexMergeRule() dexMergeRule} attribute.
+     * @param dexMergeRule The value for dexMergeRule 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexMergeRule(Either<PreDexMerge, NonPreDexedDexBuildable> dexMergeRule) {
+      this.dexMergeRule = Objects.requireNonNull(dexMergeRule, "dexMergeRule");
+      initBits &= ~INIT_BIT_DEX_MERGE_RULE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidGraphEnhancementResult#getPrimaryResourcesApkPath() primaryResourcesApkPath} attribute.
+     * @param primaryResourcesApkPath The value for primaryResourcesApkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryResourcesApkPath(SourcePath primaryResourcesApkPath) {
+      this.primaryResourcesApkPath = Objects.requireNonNull(primaryResourcesApkPath, "primaryResourcesApkPath");
+      initBits &= ~INIT_BIT_PRIMARY_RESOURCES_APK_PATH;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map.
+     * @param key The key in the moduleResourceApkPaths map
+     * @param value The associated value in the moduleResourceApkPaths map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putModuleResourceApkPaths(APKModule key, SourcePath value) {
+      this.moduleResourceApkPaths.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putModuleResourceApkPaths(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.moduleResourceApkPaths.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map. Nulls are not permitted
+     * @param entries The entries that will be added to the moduleResourceApkPaths map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleResourceApkPaths(Map<? extends APKModule, ? extends SourcePath> entries) {
+      this.moduleResourceApkPaths = ImmutableMap.builder();
+      return putAllModuleResourceApkPaths(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map. Nulls are not permitted
+     * @param entries The entries that will be added to the moduleResourceApkPaths map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllModuleResourceApkPaths(Map<? extends APKModule, ? extends SourcePath> entries) {
+      this.moduleResourceApkPaths.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param element A primaryApkAssetZips element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPrimaryApkAssetZips(SourcePath element) {
+      this.primaryApkAssetZips.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param elements An array of primaryApkAssetZips elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPrimaryApkAssetZips(SourcePath... elements) {
+      this.primaryApkAssetZips.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param elements An iterable of primaryApkAssetZips elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryApkAssetZips(Iterable<? extends SourcePath> elements) {
+      this.primaryApkAssetZips = ImmutableList.builder();
+      return addAllPrimaryApkAssetZips(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param elements An iterable of primaryApkAssetZips elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPrimaryApkAssetZips(Iterable<? extends SourcePath> elements) {
+      this.primaryApkAssetZips.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param element A exoResources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExoResources(ExopackagePathAndHash element) {
+      this.exoResources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param elements An array of exoResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExoResources(ExopackagePathAndHash... elements) {
+      this.exoResources.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param elements An iterable of exoResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExoResources(Iterable<? extends ExopackagePathAndHash> elements) {
+      this.exoResources = ImmutableList.builder();
+      return addAllExoResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param elements An iterable of exoResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExoResources(Iterable<? extends ExopackagePathAndHash> elements) {
+      this.exoResources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param element A classpathEntriesToDex element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addClasspathEntriesToDex(SourcePath element) {
+      this.classpathEntriesToDex.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An array of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addClasspathEntriesToDex(SourcePath... elements) {
+      this.classpathEntriesToDex.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex = ImmutableSet.builder();
+      return addAllClasspathEntriesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidGraphEnhancementResult#getAndroidManifestPath() androidManifestPath} attribute.
+     * @param androidManifestPath The value for androidManifestPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidManifestPath(SourcePath androidManifestPath) {
+      this.androidManifestPath = Objects.requireNonNull(androidManifestPath, "androidManifestPath");
+      initBits &= ~INIT_BIT_ANDROID_MANIFEST_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidGraphEnhancementResult#getAPKModuleGraph() aPKModuleGraph} attribute.
+     * @param aPKModuleGraph The value for aPKModuleGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAPKModuleGraph(APKModuleGraph aPKModuleGraph) {
+      this.aPKModuleGraph = Objects.requireNonNull(aPKModuleGraph, "aPKModuleGraph");
+      initBits &= ~INIT_BIT_A_P_K_MODULE_GRAPH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+     * @return An immutable instance of AndroidGraphEnhancementResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidGraphEnhancementResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidGraphEnhancementResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PACKAGEABLE_COLLECTION) != 0) attributes.add("packageableCollection");
+      if ((initBits & INIT_BIT_DEX_MERGE_RULE) != 0) attributes.add("dexMergeRule");
+      if ((initBits & INIT_BIT_PRIMARY_RESOURCES_APK_PATH) != 0) attributes.add("primaryResourcesApkPath");
+      if ((initBits & INIT_BIT_ANDROID_MANIFEST_PATH) != 0) attributes.add("androidManifestPath");
+      if ((initBits & INIT_BIT_A_P_K_MODULE_GRAPH) != 0) attributes.add("aPKModuleGraph");
+      return "Cannot build AndroidGraphEnhancementResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,566 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidInstrumentationTestJVMArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidInstrumentationTestJVMArgs.builder()}.
+ */
+@Generated(from = "AbstractAndroidInstrumentationTestJVMArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidInstrumentationTestJVMArgs
+    extends AbstractAndroidInstrumentationTestJVMArgs {
+  private final String pathToAdbExecutable;
+  private final @Nullable Path directoryForTestResults;
+  private final String testPackage;
+  private final String testRunner;
+  private final String ddmlibJarPath;
+  private final String kxmlJarPath;
+  private final String guavaJarPath;
+  private final String androidToolsCommonJarPath;
+  private final @Nullable String deviceSerial;
+  private final @Nullable Path instrumentationApkPath;
+  private final @Nullable Path apkUnderTestPath;
+  private final @Nullable String testFilter;
+  private final Path testRunnerClasspath;
+
+  private AndroidInstrumentationTestJVMArgs(AndroidInstrumentationTestJVMArgs.Builder builder) {
+    this.pathToAdbExecutable = builder.pathToAdbExecutable;
+    this.directoryForTestResults = builder.directoryForTestResults;
+    this.testPackage = builder.testPackage;
+    this.testRunner = builder.testRunner;
+    this.ddmlibJarPath = builder.ddmlibJarPath;
+    this.kxmlJarPath = builder.kxmlJarPath;
+    this.guavaJarPath = builder.guavaJarPath;
+    this.androidToolsCommonJarPath = builder.androidToolsCommonJarPath;
+    this.deviceSerial = builder.deviceSerial;
+    this.instrumentationApkPath = builder.instrumentationApkPath;
+    this.apkUnderTestPath = builder.apkUnderTestPath;
+    this.testFilter = builder.testFilter;
+    this.testRunnerClasspath = builder.testRunnerClasspath;
+  }
+
+  /**
+   * @return The value of the {@code pathToAdbExecutable} attribute
+   */
+  @Override
+  public String getPathToAdbExecutable() {
+    return pathToAdbExecutable;
+  }
+
+  /**
+   * @return The value of the {@code directoryForTestResults} attribute
+   */
+  @Override
+  public Optional<Path> getDirectoryForTestResults() {
+    return Optional.ofNullable(directoryForTestResults);
+  }
+
+  /**
+   * @return The value of the {@code testPackage} attribute
+   */
+  @Override
+  public String getTestPackage() {
+    return testPackage;
+  }
+
+  /**
+   * @return The value of the {@code testRunner} attribute
+   */
+  @Override
+  public String getTestRunner() {
+    return testRunner;
+  }
+
+  /**
+   * @return The value of the {@code ddmlibJarPath} attribute
+   */
+  @Override
+  public String getDdmlibJarPath() {
+    return ddmlibJarPath;
+  }
+
+  /**
+   * @return The value of the {@code kxmlJarPath} attribute
+   */
+  @Override
+  public String getKxmlJarPath() {
+    return kxmlJarPath;
+  }
+
+  /**
+   * @return The value of the {@code guavaJarPath} attribute
+   */
+  @Override
+  public String getGuavaJarPath() {
+    return guavaJarPath;
+  }
+
+  /**
+   * @return The value of the {@code androidToolsCommonJarPath} attribute
+   */
+  @Override
+  public String getAndroidToolsCommonJarPath() {
+    return androidToolsCommonJarPath;
+  }
+
+  /**
+   * @return The value of the {@code deviceSerial} attribute
+   */
+  @Override
+  public Optional<String> getDeviceSerial() {
+    return Optional.ofNullable(deviceSerial);
+  }
+
+  /**
+   * @return The value of the {@code instrumentationApkPath} attribute
+   */
+  @Override
+  public Optional<Path> getInstrumentationApkPath() {
+    return Optional.ofNullable(instrumentationApkPath);
+  }
+
+  /**
+   * @return The value of the {@code apkUnderTestPath} attribute
+   */
+  @Override
+  public Optional<Path> getApkUnderTestPath() {
+    return Optional.ofNullable(apkUnderTestPath);
+  }
+
+  /**
+   * @return The value of the {@code testFilter} attribute
+   */
+  @Override
+  public Optional<String> getTestFilter() {
+    return Optional.ofNullable(testFilter);
+  }
+
+  /**
+   *@return The filesystem path to the compiled Buck test runner classes. 
+   */
+  @Override
+  public Path getTestRunnerClasspath() {
+    return testRunnerClasspath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidInstrumentationTestJVMArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidInstrumentationTestJVMArgs
+        && equalTo((AndroidInstrumentationTestJVMArgs) another);
+  }
+
+  private boolean equalTo(AndroidInstrumentationTestJVMArgs another) {
+    return pathToAdbExecutable.equals(another.pathToAdbExecutable)
+        && Objects.equals(directoryForTestResults, another.directoryForTestResults)
+        && testPackage.equals(another.testPackage)
+        && testRunner.equals(another.testRunner)
+        && ddmlibJarPath.equals(another.ddmlibJarPath)
+        && kxmlJarPath.equals(another.kxmlJarPath)
+        && guavaJarPath.equals(another.guavaJarPath)
+        && androidToolsCommonJarPath.equals(another.androidToolsCommonJarPath)
+        && Objects.equals(deviceSerial, another.deviceSerial)
+        && Objects.equals(instrumentationApkPath, another.instrumentationApkPath)
+        && Objects.equals(apkUnderTestPath, another.apkUnderTestPath)
+        && Objects.equals(testFilter, another.testFilter)
+        && testRunnerClasspath.equals(another.testRunnerClasspath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToAdbExecutable}, {@code directoryForTestResults}, {@code testPackage}, {@code testRunner}, {@code ddmlibJarPath}, {@code kxmlJarPath}, {@code guavaJarPath}, {@code androidToolsCommonJarPath}, {@code deviceSerial}, {@code instrumentationApkPath}, {@code apkUnderTestPath}, {@code testFilter}, {@code testRunnerClasspath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathToAdbExecutable.hashCode();
+    h += (h << 5) + Objects.hashCode(directoryForTestResults);
+    h += (h << 5) + testPackage.hashCode();
+    h += (h << 5) + testRunner.hashCode();
+    h += (h << 5) + ddmlibJarPath.hashCode();
+    h += (h << 5) + kxmlJarPath.hashCode();
+    h += (h << 5) + guavaJarPath.hashCode();
+    h += (h << 5) + androidToolsCommonJarPath.hashCode();
+    h += (h << 5) + Objects.hashCode(deviceSerial);
+    h += (h << 5) + Objects.hashCode(instrumentationApkPath);
+    h += (h << 5) + Objects.hashCode(apkUnderTestPath);
+    h += (h << 5) + Objects.hashCode(testFilter);
+    h += (h << 5) + testRunnerClasspath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidInstrumentationTestJVMArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidInstrumentationTestJVMArgs")
+        .omitNullValues()
+        .add("pathToAdbExecutable", pathToAdbExecutable)
+        .add("directoryForTestResults", directoryForTestResults)
+        .add("testPackage", testPackage)
+        .add("testRunner", testRunner)
+        .add("ddmlibJarPath", ddmlibJarPath)
+        .add("kxmlJarPath", kxmlJarPath)
+        .add("guavaJarPath", guavaJarPath)
+        .add("androidToolsCommonJarPath", androidToolsCommonJarPath)
+        .add("deviceSerial", deviceSerial)
+        .add("instrumentationApkPath", instrumentationApkPath)
+        .add("apkUnderTestPath", apkUnderTestPath)
+        .add("testFilter", testFilter)
+        .add("testRunnerClasspath", testRunnerClasspath)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+   * @return A new AndroidInstrumentationTestJVMArgs builder
+   */
+  public static AndroidInstrumentationTestJVMArgs.Builder builder() {
+    return new AndroidInstrumentationTestJVMArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAndroidInstrumentationTestJVMArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH_TO_ADB_EXECUTABLE = 0x1L;
+    private static final long INIT_BIT_TEST_PACKAGE = 0x2L;
+    private static final long INIT_BIT_TEST_RUNNER = 0x4L;
+    private static final long INIT_BIT_DDMLIB_JAR_PATH = 0x8L;
+    private static final long INIT_BIT_KXML_JAR_PATH = 0x10L;
+    private static final long INIT_BIT_GUAVA_JAR_PATH = 0x20L;
+    private static final long INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH = 0x40L;
+    private static final long INIT_BIT_TEST_RUNNER_CLASSPATH = 0x80L;
+    private long initBits = 0xffL;
+
+    private @Nullable String pathToAdbExecutable;
+    private @Nullable Path directoryForTestResults;
+    private @Nullable String testPackage;
+    private @Nullable String testRunner;
+    private @Nullable String ddmlibJarPath;
+    private @Nullable String kxmlJarPath;
+    private @Nullable String guavaJarPath;
+    private @Nullable String androidToolsCommonJarPath;
+    private @Nullable String deviceSerial;
+    private @Nullable Path instrumentationApkPath;
+    private @Nullable Path apkUnderTestPath;
+    private @Nullable String testFilter;
+    private @Nullable Path testRunnerClasspath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidInstrumentationTestJVMArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidInstrumentationTestJVMArgs instance) {
+      return from((AbstractAndroidInstrumentationTestJVMArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidInstrumentationTestJVMArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAndroidInstrumentationTestJVMArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPathToAdbExecutable(instance.getPathToAdbExecutable());
+      Optional<Path> directoryForTestResultsOptional = instance.getDirectoryForTestResults();
+      if (directoryForTestResultsOptional.isPresent()) {
+        setDirectoryForTestResults(directoryForTestResultsOptional);
+      }
+      setTestPackage(instance.getTestPackage());
+      setTestRunner(instance.getTestRunner());
+      setDdmlibJarPath(instance.getDdmlibJarPath());
+      setKxmlJarPath(instance.getKxmlJarPath());
+      setGuavaJarPath(instance.getGuavaJarPath());
+      setAndroidToolsCommonJarPath(instance.getAndroidToolsCommonJarPath());
+      Optional<String> deviceSerialOptional = instance.getDeviceSerial();
+      if (deviceSerialOptional.isPresent()) {
+        setDeviceSerial(deviceSerialOptional);
+      }
+      Optional<Path> instrumentationApkPathOptional = instance.getInstrumentationApkPath();
+      if (instrumentationApkPathOptional.isPresent()) {
+        setInstrumentationApkPath(instrumentationApkPathOptional);
+      }
+      Optional<Path> apkUnderTestPathOptional = instance.getApkUnderTestPath();
+      if (apkUnderTestPathOptional.isPresent()) {
+        setApkUnderTestPath(apkUnderTestPathOptional);
+      }
+      Optional<String> testFilterOptional = instance.getTestFilter();
+      if (testFilterOptional.isPresent()) {
+        setTestFilter(testFilterOptional);
+      }
+      setTestRunnerClasspath(instance.getTestRunnerClasspath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getPathToAdbExecutable() pathToAdbExecutable} attribute.
+     * @param pathToAdbExecutable The value for pathToAdbExecutable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathToAdbExecutable(String pathToAdbExecutable) {
+      this.pathToAdbExecutable = Objects.requireNonNull(pathToAdbExecutable, "pathToAdbExecutable");
+      initBits &= ~INIT_BIT_PATH_TO_ADB_EXECUTABLE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirectoryForTestResults(Path directoryForTestResults) {
+      this.directoryForTestResults = Objects.requireNonNull(directoryForTestResults, "directoryForTestResults");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirectoryForTestResults(Optional<? extends Path> directoryForTestResults) {
+      this.directoryForTestResults = directoryForTestResults.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getTestPackage() testPackage} attribute.
+     * @param testPackage The value for testPackage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestPackage(String testPackage) {
+      this.testPackage = Objects.requireNonNull(testPackage, "testPackage");
+      initBits &= ~INIT_BIT_TEST_PACKAGE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getTestRunner() testRunner} attribute.
+     * @param testRunner The value for testRunner 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestRunner(String testRunner) {
+      this.testRunner = Objects.requireNonNull(testRunner, "testRunner");
+      initBits &= ~INIT_BIT_TEST_RUNNER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getDdmlibJarPath() ddmlibJarPath} attribute.
+     * @param ddmlibJarPath The value for ddmlibJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDdmlibJarPath(String ddmlibJarPath) {
+      this.ddmlibJarPath = Objects.requireNonNull(ddmlibJarPath, "ddmlibJarPath");
+      initBits &= ~INIT_BIT_DDMLIB_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getKxmlJarPath() kxmlJarPath} attribute.
+     * @param kxmlJarPath The value for kxmlJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKxmlJarPath(String kxmlJarPath) {
+      this.kxmlJarPath = Objects.requireNonNull(kxmlJarPath, "kxmlJarPath");
+      initBits &= ~INIT_BIT_KXML_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getGuavaJarPath() guavaJarPath} attribute.
+     * @param guavaJarPath The value for guavaJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGuavaJarPath(String guavaJarPath) {
+      this.guavaJarPath = Objects.requireNonNull(guavaJarPath, "guavaJarPath");
+      initBits &= ~INIT_BIT_GUAVA_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getAndroidToolsCommonJarPath() androidToolsCommonJarPath} attribute.
+     * @param androidToolsCommonJarPath The value for androidToolsCommonJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidToolsCommonJarPath(String androidToolsCommonJarPath) {
+      this.androidToolsCommonJarPath = Objects.requireNonNull(androidToolsCommonJarPath, "androidToolsCommonJarPath");
+      initBits &= ~INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} to deviceSerial.
+     * @param deviceSerial The value for deviceSerial
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeviceSerial(String deviceSerial) {
+      this.deviceSerial = Objects.requireNonNull(deviceSerial, "deviceSerial");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} to deviceSerial.
+     * @param deviceSerial The value for deviceSerial
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeviceSerial(Optional<String> deviceSerial) {
+      this.deviceSerial = deviceSerial.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} to instrumentationApkPath.
+     * @param instrumentationApkPath The value for instrumentationApkPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInstrumentationApkPath(Path instrumentationApkPath) {
+      this.instrumentationApkPath = Objects.requireNonNull(instrumentationApkPath, "instrumentationApkPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} to instrumentationApkPath.
+     * @param instrumentationApkPath The value for instrumentationApkPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInstrumentationApkPath(Optional<? extends Path> instrumentationApkPath) {
+      this.instrumentationApkPath = instrumentationApkPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} to apkUnderTestPath.
+     * @param apkUnderTestPath The value for apkUnderTestPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkUnderTestPath(Path apkUnderTestPath) {
+      this.apkUnderTestPath = Objects.requireNonNull(apkUnderTestPath, "apkUnderTestPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} to apkUnderTestPath.
+     * @param apkUnderTestPath The value for apkUnderTestPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkUnderTestPath(Optional<? extends Path> apkUnderTestPath) {
+      this.apkUnderTestPath = apkUnderTestPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} to testFilter.
+     * @param testFilter The value for testFilter
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestFilter(String testFilter) {
+      this.testFilter = Objects.requireNonNull(testFilter, "testFilter");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} to testFilter.
+     * @param testFilter The value for testFilter
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestFilter(Optional<String> testFilter) {
+      this.testFilter = testFilter.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getTestRunnerClasspath() testRunnerClasspath} attribute.
+     * @param testRunnerClasspath The value for testRunnerClasspath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestRunnerClasspath(Path testRunnerClasspath) {
+      this.testRunnerClasspath = Objects.requireNonNull(testRunnerClasspath, "testRunnerClasspath");
+      initBits &= ~INIT_BIT_TEST_RUNNER_CLASSPATH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+     * @return An immutable instance of AndroidInstrumentationTestJVMArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidInstrumentationTestJVMArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidInstrumentationTestJVMArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PATH_TO_ADB_EXECUTABLE) != 0) attributes.add("pathToAdbExecutable");
+      if ((initBits & INIT_BIT_TEST_PACKAGE) != 0) attributes.add("testPackage");
+      if ((initBits & INIT_BIT_TEST_RUNNER) != 0) attributes.add("testRunner");
+      if ((initBits & INIT_BIT_DDMLIB_JAR_PATH) != 0) attributes.add("ddmlibJarPath");
+      if ((initBits & INIT_BIT_KXML_JAR_PATH) != 0) attributes.add("kxmlJarPath");
+      if ((initBits & INIT_BIT_GUAVA_JAR_PATH) != 0) attributes.add("guavaJarPath");
+      if ((initBits & INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH) != 0) attributes.add("androidToolsCommonJarPath");
+      if ((initBits & INIT_BIT_TEST_RUNNER_CLASSPATH) != 0) attributes.add("testRunnerClasspath");
+      return "Cannot build AndroidInstrumentationTestJVMArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidNativeLibsGraphEnhancementResult.builder()}.
+ */
+@Generated(from = "AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidNativeLibsGraphEnhancementResult
+    implements AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult {
+  private final @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+  private final @Nullable ImmutableSortedSet<SourcePath> unstrippedLibraries;
+  private final @Nullable ImmutableSortedMap<String, String> sonameMergeMap;
+  private final @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets;
+
+  private AndroidNativeLibsGraphEnhancementResult(AndroidNativeLibsGraphEnhancementResult.Builder builder) {
+    this.copyNativeLibraries = builder.copyNativeLibraries;
+    this.unstrippedLibraries = builder.unstrippedLibraries;
+    this.sonameMergeMap = builder.sonameMergeMap;
+    this.sharedObjectTargets = builder.sharedObjectTargets;
+  }
+
+  /**
+   * @return The value of the {@code copyNativeLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<APKModule, CopyNativeLibraries>> getCopyNativeLibraries() {
+    return Optional.ofNullable(copyNativeLibraries);
+  }
+
+  /**
+   * @return The value of the {@code unstrippedLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourcePath>> getUnstrippedLibraries() {
+    return Optional.ofNullable(unstrippedLibraries);
+  }
+
+  /**
+   * @return The value of the {@code sonameMergeMap} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, String>> getSonameMergeMap() {
+    return Optional.ofNullable(sonameMergeMap);
+  }
+
+  /**
+   * @return The value of the {@code sharedObjectTargets} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, ImmutableSortedSet<String>>> getSharedObjectTargets() {
+    return Optional.ofNullable(sharedObjectTargets);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidNativeLibsGraphEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidNativeLibsGraphEnhancementResult
+        && equalTo((AndroidNativeLibsGraphEnhancementResult) another);
+  }
+
+  private boolean equalTo(AndroidNativeLibsGraphEnhancementResult another) {
+    return Objects.equals(copyNativeLibraries, another.copyNativeLibraries)
+        && Objects.equals(unstrippedLibraries, another.unstrippedLibraries)
+        && Objects.equals(sonameMergeMap, another.sonameMergeMap)
+        && Objects.equals(sharedObjectTargets, another.sharedObjectTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code copyNativeLibraries}, {@code unstrippedLibraries}, {@code sonameMergeMap}, {@code sharedObjectTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(copyNativeLibraries);
+    h += (h << 5) + Objects.hashCode(unstrippedLibraries);
+    h += (h << 5) + Objects.hashCode(sonameMergeMap);
+    h += (h << 5) + Objects.hashCode(sharedObjectTargets);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidNativeLibsGraphEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidNativeLibsGraphEnhancementResult")
+        .omitNullValues()
+        .add("copyNativeLibraries", copyNativeLibraries)
+        .add("unstrippedLibraries", unstrippedLibraries)
+        .add("sonameMergeMap", sonameMergeMap)
+        .add("sharedObjectTargets", sharedObjectTargets)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidNativeLibsGraphEnhancementResult AndroidNativeLibsGraphEnhancementResult}.
+   * @return A new AndroidNativeLibsGraphEnhancementResult builder
+   */
+  public static AndroidNativeLibsGraphEnhancementResult.Builder builder() {
+    return new AndroidNativeLibsGraphEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidNativeLibsGraphEnhancementResult AndroidNativeLibsGraphEnhancementResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+    private @Nullable ImmutableSortedSet<SourcePath> unstrippedLibraries;
+    private @Nullable ImmutableSortedMap<String, String> sonameMergeMap;
+    private @Nullable ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidNativeLibsGraphEnhancementResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidNativeLibsGraphEnhancementResult instance) {
+      return from((AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidNativeLibsGraphEnhancementResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AndroidNativeLibsPackageableGraphEnhancer.AbstractAndroidNativeLibsGraphEnhancementResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibrariesOptional = instance.getCopyNativeLibraries();
+      if (copyNativeLibrariesOptional.isPresent()) {
+        setCopyNativeLibraries(copyNativeLibrariesOptional);
+      }
+      Optional<ImmutableSortedSet<SourcePath>> unstrippedLibrariesOptional = instance.getUnstrippedLibraries();
+      if (unstrippedLibrariesOptional.isPresent()) {
+        setUnstrippedLibraries(unstrippedLibrariesOptional);
+      }
+      Optional<ImmutableSortedMap<String, String>> sonameMergeMapOptional = instance.getSonameMergeMap();
+      if (sonameMergeMapOptional.isPresent()) {
+        setSonameMergeMap(sonameMergeMapOptional);
+      }
+      Optional<ImmutableSortedMap<String, ImmutableSortedSet<String>>> sharedObjectTargetsOptional = instance.getSharedObjectTargets();
+      if (sharedObjectTargetsOptional.isPresent()) {
+        setSharedObjectTargets(sharedObjectTargetsOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCopyNativeLibraries(ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries) {
+      this.copyNativeLibraries = Objects.requireNonNull(copyNativeLibraries, "copyNativeLibraries");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCopyNativeLibraries(Optional<? extends ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibraries) {
+      this.copyNativeLibraries = copyNativeLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getUnstrippedLibraries() unstrippedLibraries} to unstrippedLibraries.
+     * @param unstrippedLibraries The value for unstrippedLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnstrippedLibraries(ImmutableSortedSet<SourcePath> unstrippedLibraries) {
+      this.unstrippedLibraries = Objects.requireNonNull(unstrippedLibraries, "unstrippedLibraries");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getUnstrippedLibraries() unstrippedLibraries} to unstrippedLibraries.
+     * @param unstrippedLibraries The value for unstrippedLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnstrippedLibraries(Optional<? extends ImmutableSortedSet<SourcePath>> unstrippedLibraries) {
+      this.unstrippedLibraries = unstrippedLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getSonameMergeMap() sonameMergeMap} to sonameMergeMap.
+     * @param sonameMergeMap The value for sonameMergeMap
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSonameMergeMap(ImmutableSortedMap<String, String> sonameMergeMap) {
+      this.sonameMergeMap = Objects.requireNonNull(sonameMergeMap, "sonameMergeMap");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getSonameMergeMap() sonameMergeMap} to sonameMergeMap.
+     * @param sonameMergeMap The value for sonameMergeMap
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSonameMergeMap(Optional<? extends ImmutableSortedMap<String, String>> sonameMergeMap) {
+      this.sonameMergeMap = sonameMergeMap.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getSharedObjectTargets() sharedObjectTargets} to sharedObjectTargets.
+     * @param sharedObjectTargets The value for sharedObjectTargets
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedObjectTargets(ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets) {
+      this.sharedObjectTargets = Objects.requireNonNull(sharedObjectTargets, "sharedObjectTargets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidNativeLibsGraphEnhancementResult#getSharedObjectTargets() sharedObjectTargets} to sharedObjectTargets.
+     * @param sharedObjectTargets The value for sharedObjectTargets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedObjectTargets(Optional<? extends ImmutableSortedMap<String, ImmutableSortedSet<String>>> sharedObjectTargets) {
+      this.sharedObjectTargets = sharedObjectTargets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidNativeLibsGraphEnhancementResult AndroidNativeLibsGraphEnhancementResult}.
+     * @return An immutable instance of AndroidNativeLibsGraphEnhancementResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidNativeLibsGraphEnhancementResult build() {
+      return new AndroidNativeLibsGraphEnhancementResult(this);
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.exopackage.ExopackageInfo;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HasInstallableApk.AbstractApkInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ApkInfo.builder()}.
+ */
+@Generated(from = "HasInstallableApk.AbstractApkInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ApkInfo extends HasInstallableApk.AbstractApkInfo {
+  private final SourcePath manifestPath;
+  private final SourcePath apkPath;
+  private final @Nullable ExopackageInfo exopackageInfo;
+
+  private ApkInfo(ApkInfo.Builder builder) {
+    this.manifestPath = builder.manifestPath;
+    this.apkPath = builder.apkPath;
+    this.exopackageInfo = builder.exopackageInfo;
+  }
+
+  /**
+   * @return the path to the AndroidManifest.xml. Note that this file might be a symlink, and
+   *     might not exist at all before this rule has been built.
+   */
+  @Override
+  public SourcePath getManifestPath() {
+    return manifestPath;
+  }
+
+  /**
+   * @return The APK at this path is the final one that points to an APK that a user should
+   *     install.
+   */
+  @Override
+  public SourcePath getApkPath() {
+    return apkPath;
+  }
+
+  /**
+   * @return The value of the {@code exopackageInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo> getExopackageInfo() {
+    return Optional.ofNullable(exopackageInfo);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ApkInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ApkInfo
+        && equalTo((ApkInfo) another);
+  }
+
+  private boolean equalTo(ApkInfo another) {
+    return manifestPath.equals(another.manifestPath)
+        && apkPath.equals(another.apkPath)
+        && Objects.equals(exopackageInfo, another.exopackageInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifestPath}, {@code apkPath}, {@code exopackageInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + manifestPath.hashCode();
+    h += (h << 5) + apkPath.hashCode();
+    h += (h << 5) + Objects.hashCode(exopackageInfo);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApkInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApkInfo")
+        .omitNullValues()
+        .add("manifestPath", manifestPath)
+        .add("apkPath", apkPath)
+        .add("exopackageInfo", exopackageInfo)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ApkInfo ApkInfo}.
+   * @return A new ApkInfo builder
+   */
+  public static ApkInfo.Builder builder() {
+    return new ApkInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ApkInfo ApkInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "HasInstallableApk.AbstractApkInfo", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MANIFEST_PATH = 0x1L;
+    private static final long INIT_BIT_APK_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath manifestPath;
+    private @Nullable SourcePath apkPath;
+    private @Nullable ExopackageInfo exopackageInfo;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractApkInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasInstallableApk.AbstractApkInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      setManifestPath(instance.getManifestPath());
+      setApkPath(instance.getApkPath());
+      Optional<ExopackageInfo> exopackageInfoOptional = instance.getExopackageInfo();
+      if (exopackageInfoOptional.isPresent()) {
+        setExopackageInfo(exopackageInfoOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HasInstallableApk.AbstractApkInfo#getManifestPath() manifestPath} attribute.
+     * @param manifestPath The value for manifestPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestPath(SourcePath manifestPath) {
+      this.manifestPath = Objects.requireNonNull(manifestPath, "manifestPath");
+      initBits &= ~INIT_BIT_MANIFEST_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HasInstallableApk.AbstractApkInfo#getApkPath() apkPath} attribute.
+     * @param apkPath The value for apkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkPath(SourcePath apkPath) {
+      this.apkPath = Objects.requireNonNull(apkPath, "apkPath");
+      initBits &= ~INIT_BIT_APK_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HasInstallableApk.AbstractApkInfo#getExopackageInfo() exopackageInfo} to exopackageInfo.
+     * @param exopackageInfo The value for exopackageInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExopackageInfo(ExopackageInfo exopackageInfo) {
+      this.exopackageInfo = Objects.requireNonNull(exopackageInfo, "exopackageInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HasInstallableApk.AbstractApkInfo#getExopackageInfo() exopackageInfo} to exopackageInfo.
+     * @param exopackageInfo The value for exopackageInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExopackageInfo(Optional<? extends ExopackageInfo> exopackageInfo) {
+      this.exopackageInfo = exopackageInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ApkInfo ApkInfo}.
+     * @return An immutable instance of ApkInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ApkInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ApkInfo(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_MANIFEST_PATH) != 0) attributes.add("manifestPath");
+      if ((initBits & INIT_BIT_APK_PATH) != 0) attributes.add("apkPath");
+      return "Cannot build ApkInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
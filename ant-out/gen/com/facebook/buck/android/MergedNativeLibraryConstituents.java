@@ -0,0 +1,214 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Data object for internal use, representing the source libraries getting merged together into
+ * one DSO. Libraries not being merged will have one linkable and no soname.
+ */
+@Generated(from = "NativeLibraryMergeEnhancer.AbstractMergedNativeLibraryConstituents", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class MergedNativeLibraryConstituents
+    extends NativeLibraryMergeEnhancer.AbstractMergedNativeLibraryConstituents {
+  private final @Nullable String soname;
+  private final ImmutableSet<NativeLinkable> linkables;
+
+  private MergedNativeLibraryConstituents(MergedNativeLibraryConstituents.Builder builder) {
+    this.soname = builder.soname;
+    this.linkables = builder.linkables.build();
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public Optional<String> getSoname() {
+    return Optional.ofNullable(soname);
+  }
+
+  /**
+   * @return The value of the {@code linkables} attribute
+   */
+  @Override
+  public ImmutableSet<NativeLinkable> getLinkables() {
+    return linkables;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MergedNativeLibraryConstituents} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MergedNativeLibraryConstituents
+        && equalTo((MergedNativeLibraryConstituents) another);
+  }
+
+  private boolean equalTo(MergedNativeLibraryConstituents another) {
+    return Objects.equals(soname, another.soname)
+        && linkables.equals(another.linkables);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code soname}, {@code linkables}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(soname);
+    h += (h << 5) + linkables.hashCode();
+    return h;
+  }
+
+
+  private static MergedNativeLibraryConstituents validate(MergedNativeLibraryConstituents instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link MergedNativeLibraryConstituents MergedNativeLibraryConstituents}.
+   * @return A new MergedNativeLibraryConstituents builder
+   */
+  public static MergedNativeLibraryConstituents.Builder builder() {
+    return new MergedNativeLibraryConstituents.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MergedNativeLibraryConstituents MergedNativeLibraryConstituents}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "NativeLibraryMergeEnhancer.AbstractMergedNativeLibraryConstituents", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable String soname;
+    private ImmutableSet.Builder<NativeLinkable> linkables = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MergedNativeLibraryConstituents} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MergedNativeLibraryConstituents instance) {
+      return from((NativeLibraryMergeEnhancer.AbstractMergedNativeLibraryConstituents) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractMergedNativeLibraryConstituents} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(NativeLibraryMergeEnhancer.AbstractMergedNativeLibraryConstituents instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> sonameOptional = instance.getSoname();
+      if (sonameOptional.isPresent()) {
+        setSoname(sonameOptional);
+      }
+      addAllLinkables(instance.getLinkables());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link MergedNativeLibraryConstituents#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoname(String soname) {
+      this.soname = Objects.requireNonNull(soname, "soname");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link MergedNativeLibraryConstituents#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoname(Optional<String> soname) {
+      this.soname = soname.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link MergedNativeLibraryConstituents#getLinkables() linkables} set.
+     * @param element A linkables element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkables(NativeLinkable element) {
+      this.linkables.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link MergedNativeLibraryConstituents#getLinkables() linkables} set.
+     * @param elements An array of linkables elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkables(NativeLinkable... elements) {
+      this.linkables.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link MergedNativeLibraryConstituents#getLinkables() linkables} set.
+     * @param elements An iterable of linkables elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkables(Iterable<? extends NativeLinkable> elements) {
+      this.linkables = ImmutableSet.builder();
+      return addAllLinkables(elements);
+    }
+
+    /**
+     * Adds elements to {@link MergedNativeLibraryConstituents#getLinkables() linkables} set.
+     * @param elements An iterable of linkables elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLinkables(Iterable<? extends NativeLinkable> elements) {
+      this.linkables.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link MergedNativeLibraryConstituents MergedNativeLibraryConstituents}.
+     * @return An immutable instance of MergedNativeLibraryConstituents
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MergedNativeLibraryConstituents build() {
+      return MergedNativeLibraryConstituents.validate(new MergedNativeLibraryConstituents(this));
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CopyNativeLibraries.AbstractStrippedObjectDescription}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code StrippedObjectDescription.builder()}.
+ */
+@Generated(from = "CopyNativeLibraries.AbstractStrippedObjectDescription", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class StrippedObjectDescription
+    extends CopyNativeLibraries.AbstractStrippedObjectDescription {
+  private final SourcePath sourcePath;
+  private final String strippedObjectName;
+  private final TargetCpuType targetCpuType;
+  private final APKModule apkModule;
+
+  private StrippedObjectDescription(StrippedObjectDescription.Builder builder) {
+    this.sourcePath = builder.sourcePath;
+    this.strippedObjectName = builder.strippedObjectName;
+    this.targetCpuType = builder.targetCpuType;
+    this.apkModule = builder.apkModule;
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public SourcePath getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return The value of the {@code strippedObjectName} attribute
+   */
+  @Override
+  public String getStrippedObjectName() {
+    return strippedObjectName;
+  }
+
+  /**
+   * @return The value of the {@code targetCpuType} attribute
+   */
+  @Override
+  public TargetCpuType getTargetCpuType() {
+    return targetCpuType;
+  }
+
+  /**
+   * @return The value of the {@code apkModule} attribute
+   */
+  @Override
+  public APKModule getApkModule() {
+    return apkModule;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StrippedObjectDescription} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StrippedObjectDescription
+        && equalTo((StrippedObjectDescription) another);
+  }
+
+  private boolean equalTo(StrippedObjectDescription another) {
+    return sourcePath.equals(another.sourcePath)
+        && strippedObjectName.equals(another.strippedObjectName)
+        && targetCpuType.equals(another.targetCpuType)
+        && apkModule.equals(another.apkModule);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePath}, {@code strippedObjectName}, {@code targetCpuType}, {@code apkModule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePath.hashCode();
+    h += (h << 5) + strippedObjectName.hashCode();
+    h += (h << 5) + targetCpuType.hashCode();
+    h += (h << 5) + apkModule.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StrippedObjectDescription} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StrippedObjectDescription")
+        .omitNullValues()
+        .add("sourcePath", sourcePath)
+        .add("strippedObjectName", strippedObjectName)
+        .add("targetCpuType", targetCpuType)
+        .add("apkModule", apkModule)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link StrippedObjectDescription StrippedObjectDescription}.
+   * @return A new StrippedObjectDescription builder
+   */
+  public static StrippedObjectDescription.Builder builder() {
+    return new StrippedObjectDescription.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link StrippedObjectDescription StrippedObjectDescription}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CopyNativeLibraries.AbstractStrippedObjectDescription", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SOURCE_PATH = 0x1L;
+    private static final long INIT_BIT_STRIPPED_OBJECT_NAME = 0x2L;
+    private static final long INIT_BIT_TARGET_CPU_TYPE = 0x4L;
+    private static final long INIT_BIT_APK_MODULE = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable SourcePath sourcePath;
+    private @Nullable String strippedObjectName;
+    private @Nullable TargetCpuType targetCpuType;
+    private @Nullable APKModule apkModule;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StrippedObjectDescription} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(StrippedObjectDescription instance) {
+      return from((CopyNativeLibraries.AbstractStrippedObjectDescription) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractStrippedObjectDescription} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(CopyNativeLibraries.AbstractStrippedObjectDescription instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSourcePath(instance.getSourcePath());
+      setStrippedObjectName(instance.getStrippedObjectName());
+      setTargetCpuType(instance.getTargetCpuType());
+      setApkModule(instance.getApkModule());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StrippedObjectDescription#getSourcePath() sourcePath} attribute.
+     * @param sourcePath The value for sourcePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+      initBits &= ~INIT_BIT_SOURCE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StrippedObjectDescription#getStrippedObjectName() strippedObjectName} attribute.
+     * @param strippedObjectName The value for strippedObjectName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStrippedObjectName(String strippedObjectName) {
+      this.strippedObjectName = Objects.requireNonNull(strippedObjectName, "strippedObjectName");
+      initBits &= ~INIT_BIT_STRIPPED_OBJECT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StrippedObjectDescription#getTargetCpuType() targetCpuType} attribute.
+     * @param targetCpuType The value for targetCpuType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetCpuType(TargetCpuType targetCpuType) {
+      this.targetCpuType = Objects.requireNonNull(targetCpuType, "targetCpuType");
+      initBits &= ~INIT_BIT_TARGET_CPU_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StrippedObjectDescription#getApkModule() apkModule} attribute.
+     * @param apkModule The value for apkModule 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkModule(APKModule apkModule) {
+      this.apkModule = Objects.requireNonNull(apkModule, "apkModule");
+      initBits &= ~INIT_BIT_APK_MODULE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link StrippedObjectDescription StrippedObjectDescription}.
+     * @return An immutable instance of StrippedObjectDescription
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StrippedObjectDescription build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new StrippedObjectDescription(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SOURCE_PATH) != 0) attributes.add("sourcePath");
+      if ((initBits & INIT_BIT_STRIPPED_OBJECT_NAME) != 0) attributes.add("strippedObjectName");
+      if ((initBits & INIT_BIT_TARGET_CPU_TYPE) != 0) attributes.add("targetCpuType");
+      if ((initBits & INIT_BIT_APK_MODULE) != 0) attributes.add("apkModule");
+      return "Cannot build StrippedObjectDescription, some of required attributes are not set " + attributes;
+    }
+  }
+}
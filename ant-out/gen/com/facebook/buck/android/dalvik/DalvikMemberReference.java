@@ -0,0 +1,159 @@
+package com.facebook.buck.android.dalvik;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDalvikMemberReference}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DalvikMemberReference.of()}.
+ */
+@Generated(from = "AbstractDalvikMemberReference", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DalvikMemberReference
+    extends AbstractDalvikMemberReference {
+  private final String className;
+  private final String memberName;
+  private final String descriptor;
+
+  private DalvikMemberReference(String className, String memberName, String descriptor) {
+    this.className = Objects.requireNonNull(className, "className");
+    this.memberName = Objects.requireNonNull(memberName, "memberName");
+    this.descriptor = Objects.requireNonNull(descriptor, "descriptor");
+  }
+
+  private DalvikMemberReference(
+      DalvikMemberReference original,
+      String className,
+      String memberName,
+      String descriptor) {
+    this.className = className;
+    this.memberName = memberName;
+    this.descriptor = descriptor;
+  }
+
+  /**
+   * @return The value of the {@code className} attribute
+   */
+  @Override
+  public String getClassName() {
+    return className;
+  }
+
+  /**
+   * @return The value of the {@code memberName} attribute
+   */
+  @Override
+  public String getMemberName() {
+    return memberName;
+  }
+
+  /**
+   * @return The value of the {@code descriptor} attribute
+   */
+  @Override
+  public String getDescriptor() {
+    return descriptor;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DalvikMemberReference#getClassName() className} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for className
+   * @return A modified copy of the {@code this} object
+   */
+  public final DalvikMemberReference withClassName(String value) {
+    String newValue = Objects.requireNonNull(value, "className");
+    if (this.className.equals(newValue)) return this;
+    return new DalvikMemberReference(this, newValue, this.memberName, this.descriptor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DalvikMemberReference#getMemberName() memberName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for memberName
+   * @return A modified copy of the {@code this} object
+   */
+  public final DalvikMemberReference withMemberName(String value) {
+    String newValue = Objects.requireNonNull(value, "memberName");
+    if (this.memberName.equals(newValue)) return this;
+    return new DalvikMemberReference(this, this.className, newValue, this.descriptor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DalvikMemberReference#getDescriptor() descriptor} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for descriptor
+   * @return A modified copy of the {@code this} object
+   */
+  public final DalvikMemberReference withDescriptor(String value) {
+    String newValue = Objects.requireNonNull(value, "descriptor");
+    if (this.descriptor.equals(newValue)) return this;
+    return new DalvikMemberReference(this, this.className, this.memberName, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DalvikMemberReference} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DalvikMemberReference
+        && equalTo((DalvikMemberReference) another);
+  }
+
+  private boolean equalTo(DalvikMemberReference another) {
+    return className.equals(another.className)
+        && memberName.equals(another.memberName)
+        && descriptor.equals(another.descriptor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code className}, {@code memberName}, {@code descriptor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + className.hashCode();
+    h += (h << 5) + memberName.hashCode();
+    h += (h << 5) + descriptor.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code DalvikMemberReference} instance.
+   * @param className The value for the {@code className} attribute
+   * @param memberName The value for the {@code memberName} attribute
+   * @param descriptor The value for the {@code descriptor} attribute
+   * @return An immutable DalvikMemberReference instance
+   */
+  public static DalvikMemberReference of(String className, String memberName, String descriptor) {
+    return new DalvikMemberReference(className, memberName, descriptor);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDalvikMemberReference} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DalvikMemberReference instance
+   */
+  static DalvikMemberReference copyOf(AbstractDalvikMemberReference instance) {
+    if (instance instanceof DalvikMemberReference) {
+      return (DalvikMemberReference) instance;
+    }
+    return DalvikMemberReference.of(instance.getClassName(), instance.getMemberName(), instance.getDescriptor());
+  }
+}
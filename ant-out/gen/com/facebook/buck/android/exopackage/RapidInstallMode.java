@@ -0,0 +1,161 @@
+package com.facebook.buck.android.exopackage;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RealAndroidDevice.AbstractRapidInstallMode}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RapidInstallMode.builder()}.
+ */
+@Generated(from = "RealAndroidDevice.AbstractRapidInstallMode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class RapidInstallMode
+    extends RealAndroidDevice.AbstractRapidInstallMode {
+  private final String ipAddress;
+
+  private RapidInstallMode(RapidInstallMode.Builder builder) {
+    this.ipAddress = builder.ipAddress;
+  }
+
+  /**
+   * @return The value of the {@code ipAddress} attribute
+   */
+  @Override
+  public String getIpAddress() {
+    return ipAddress;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RapidInstallMode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RapidInstallMode
+        && equalTo((RapidInstallMode) another);
+  }
+
+  private boolean equalTo(RapidInstallMode another) {
+    return ipAddress.equals(another.ipAddress);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ipAddress}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ipAddress.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RapidInstallMode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RapidInstallMode")
+        .omitNullValues()
+        .add("ipAddress", ipAddress)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link RapidInstallMode RapidInstallMode}.
+   * @return A new RapidInstallMode builder
+   */
+  public static RapidInstallMode.Builder builder() {
+    return new RapidInstallMode.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RapidInstallMode RapidInstallMode}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "RealAndroidDevice.AbstractRapidInstallMode", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_IP_ADDRESS = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String ipAddress;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RapidInstallMode} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RapidInstallMode instance) {
+      return from((RealAndroidDevice.AbstractRapidInstallMode) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRapidInstallMode} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(RealAndroidDevice.AbstractRapidInstallMode instance) {
+      Objects.requireNonNull(instance, "instance");
+      setIpAddress(instance.getIpAddress());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RapidInstallMode#getIpAddress() ipAddress} attribute.
+     * @param ipAddress The value for ipAddress 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIpAddress(String ipAddress) {
+      this.ipAddress = Objects.requireNonNull(ipAddress, "ipAddress");
+      initBits &= ~INIT_BIT_IP_ADDRESS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RapidInstallMode RapidInstallMode}.
+     * @return An immutable instance of RapidInstallMode
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RapidInstallMode build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RapidInstallMode(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_IP_ADDRESS) != 0) attributes.add("ipAddress");
+      return "Cannot build RapidInstallMode, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1563 @@
+package com.facebook.buck.android.packageable;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.rules.coercer.BuildConfigFields;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *A collection of Android content that should be included in an Android package (apk or aar). 
+ */
+@Generated(from = "AbstractAndroidPackageableCollection", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidPackageableCollection
+    implements AbstractAndroidPackageableCollection {
+  private final ImmutableMap<APKModule, AndroidPackageableCollection.ResourceDetails> resourceDetails;
+  private final ImmutableMultimap<APKModule, NativeLinkable> nativeLinkables;
+  private final ImmutableMultimap<APKModule, NativeLinkable> nativeLinkablesAssets;
+  private final ImmutableMultimap<APKModule, SourcePath> nativeLibsDirectories;
+  private final ImmutableMultimap<APKModule, SourcePath> nativeLibAssetsDirectories;
+  private final ImmutableMultimap<APKModule, SourcePath> assetsDirectories;
+  private final ImmutableSet<SourcePath> proguardConfigs;
+  private final ImmutableSet<SourcePath> classpathEntriesToDex;
+  private final ImmutableMultimap<APKModule, SourcePath> androidManifestPieces;
+  private final ImmutableMultimap<APKModule, SourcePath> moduleMappedClasspathEntriesToDex;
+  private final ImmutableSet<SourcePath> noDxClasspathEntries;
+  private final ImmutableMap<String, BuildConfigFields> buildConfigs;
+  private final ImmutableMultimap<APKModule, SourcePath> pathsToThirdPartyJars;
+  private final ImmutableSet<BuildTarget> javaLibrariesToDex;
+  private final Supplier<ImmutableMap<String, HashCode>> classNamesToHashesSupplier;
+
+  private AndroidPackageableCollection(AndroidPackageableCollection.Builder builder) {
+    this.resourceDetails = builder.resourceDetails.build();
+    this.nativeLinkables = builder.nativeLinkables.build();
+    this.nativeLinkablesAssets = builder.nativeLinkablesAssets.build();
+    this.nativeLibsDirectories = builder.nativeLibsDirectories.build();
+    this.nativeLibAssetsDirectories = builder.nativeLibAssetsDirectories.build();
+    this.assetsDirectories = builder.assetsDirectories.build();
+    this.proguardConfigs = builder.proguardConfigs.build();
+    this.classpathEntriesToDex = builder.classpathEntriesToDex.build();
+    this.androidManifestPieces = builder.androidManifestPieces.build();
+    this.moduleMappedClasspathEntriesToDex = builder.moduleMappedClasspathEntriesToDex.build();
+    this.noDxClasspathEntries = builder.noDxClasspathEntries.build();
+    this.buildConfigs = builder.buildConfigs.build();
+    this.pathsToThirdPartyJars = builder.pathsToThirdPartyJars.build();
+    this.javaLibrariesToDex = builder.javaLibrariesToDex.build();
+    this.classNamesToHashesSupplier = builder.classNamesToHashesSupplier;
+  }
+
+  /**
+   * @return The value of the {@code resourceDetails} attribute
+   */
+  @Override
+  public ImmutableMap<APKModule, AndroidPackageableCollection.ResourceDetails> getResourceDetails() {
+    return resourceDetails;
+  }
+
+  /**
+   *Native libraries mapped from modules. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getNativeLinkables() {
+    return nativeLinkables;
+  }
+
+  /**
+   *Native libraries to be packaged as assets. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getNativeLinkablesAssets() {
+    return nativeLinkablesAssets;
+  }
+
+  /**
+   *Directories containing native libraries. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getNativeLibsDirectories() {
+    return nativeLibsDirectories;
+  }
+
+  /**
+   *Directories containing native libraries to be used as assets. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getNativeLibAssetsDirectories() {
+    return nativeLibAssetsDirectories;
+  }
+
+  /**
+   * Directories containing assets to be included directly in the apk, under the "assets" directory.
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getAssetsDirectories() {
+    return assetsDirectories;
+  }
+
+  /**
+   *Proguard configurations to include when running release builds. 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getProguardConfigs() {
+    return proguardConfigs;
+  }
+
+  /**
+   *Java classes (jars) to include in the package. 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getClasspathEntriesToDex() {
+    return classpathEntriesToDex;
+  }
+
+  /**
+   *Android manifests to merge with the manifest skeleton. 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getAndroidManifestPieces() {
+    return androidManifestPieces;
+  }
+
+  /**
+   *Java classes to include in the package sorted into modules 
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getModuleMappedClasspathEntriesToDex() {
+    return moduleMappedClasspathEntriesToDex;
+  }
+
+  /**
+   * Java classes that were used during compilation, but don't got into the package. This is only
+   * used by "buck project". (It's existence is kind of contrary to the purpose of this class, but
+   * we make exceptions for "buck project".)
+   */
+  @Override
+  public ImmutableSet<SourcePath> getNoDxClasspathEntries() {
+    return noDxClasspathEntries;
+  }
+
+  /**
+   * @return The value of the {@code buildConfigs} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuildConfigFields> getBuildConfigs() {
+    return buildConfigs;
+  }
+
+  /**
+   * Prebuilt/third-party jars to be included in the package. For apks, their resources will be
+   * placed directly in the apk.
+   */
+  @Override
+  public ImmutableMultimap<APKModule, SourcePath> getPathsToThirdPartyJars() {
+    return pathsToThirdPartyJars;
+  }
+
+  /**
+   *{@link JavaLibrary} rules whose output will be dexed and included in the package. 
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getJavaLibrariesToDex() {
+    return javaLibrariesToDex;
+  }
+
+  /**
+   *See {@link JavaLibrary#getClassNamesToHashes()} 
+   */
+  @Override
+  public Supplier<ImmutableMap<String, HashCode>> getClassNamesToHashesSupplier() {
+    return classNamesToHashesSupplier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidPackageableCollection} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidPackageableCollection
+        && equalTo((AndroidPackageableCollection) another);
+  }
+
+  private boolean equalTo(AndroidPackageableCollection another) {
+    return resourceDetails.equals(another.resourceDetails)
+        && nativeLinkables.equals(another.nativeLinkables)
+        && nativeLinkablesAssets.equals(another.nativeLinkablesAssets)
+        && nativeLibsDirectories.equals(another.nativeLibsDirectories)
+        && nativeLibAssetsDirectories.equals(another.nativeLibAssetsDirectories)
+        && assetsDirectories.equals(another.assetsDirectories)
+        && proguardConfigs.equals(another.proguardConfigs)
+        && classpathEntriesToDex.equals(another.classpathEntriesToDex)
+        && androidManifestPieces.equals(another.androidManifestPieces)
+        && moduleMappedClasspathEntriesToDex.equals(another.moduleMappedClasspathEntriesToDex)
+        && noDxClasspathEntries.equals(another.noDxClasspathEntries)
+        && buildConfigs.equals(another.buildConfigs)
+        && pathsToThirdPartyJars.equals(another.pathsToThirdPartyJars)
+        && javaLibrariesToDex.equals(another.javaLibrariesToDex)
+        && classNamesToHashesSupplier.equals(another.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourceDetails}, {@code nativeLinkables}, {@code nativeLinkablesAssets}, {@code nativeLibsDirectories}, {@code nativeLibAssetsDirectories}, {@code assetsDirectories}, {@code proguardConfigs}, {@code classpathEntriesToDex}, {@code androidManifestPieces}, {@code moduleMappedClasspathEntriesToDex}, {@code noDxClasspathEntries}, {@code buildConfigs}, {@code pathsToThirdPartyJars}, {@code javaLibrariesToDex}, {@code classNamesToHashesSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resourceDetails.hashCode();
+    h += (h << 5) + nativeLinkables.hashCode();
+    h += (h << 5) + nativeLinkablesAssets.hashCode();
+    h += (h << 5) + nativeLibsDirectories.hashCode();
+    h += (h << 5) + nativeLibAssetsDirectories.hashCode();
+    h += (h << 5) + assetsDirectories.hashCode();
+    h += (h << 5) + proguardConfigs.hashCode();
+    h += (h << 5) + classpathEntriesToDex.hashCode();
+    h += (h << 5) + androidManifestPieces.hashCode();
+    h += (h << 5) + moduleMappedClasspathEntriesToDex.hashCode();
+    h += (h << 5) + noDxClasspathEntries.hashCode();
+    h += (h << 5) + buildConfigs.hashCode();
+    h += (h << 5) + pathsToThirdPartyJars.hashCode();
+    h += (h << 5) + javaLibrariesToDex.hashCode();
+    h += (h << 5) + classNamesToHashesSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidPackageableCollection} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidPackageableCollection")
+        .omitNullValues()
+        .add("resourceDetails", resourceDetails)
+        .add("nativeLinkables", nativeLinkables)
+        .add("nativeLinkablesAssets", nativeLinkablesAssets)
+        .add("nativeLibsDirectories", nativeLibsDirectories)
+        .add("nativeLibAssetsDirectories", nativeLibAssetsDirectories)
+        .add("assetsDirectories", assetsDirectories)
+        .add("proguardConfigs", proguardConfigs)
+        .add("classpathEntriesToDex", classpathEntriesToDex)
+        .add("androidManifestPieces", androidManifestPieces)
+        .add("moduleMappedClasspathEntriesToDex", moduleMappedClasspathEntriesToDex)
+        .add("noDxClasspathEntries", noDxClasspathEntries)
+        .add("buildConfigs", buildConfigs)
+        .add("pathsToThirdPartyJars", pathsToThirdPartyJars)
+        .add("javaLibrariesToDex", javaLibrariesToDex)
+        .add("classNamesToHashesSupplier", classNamesToHashesSupplier)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidPackageableCollection AndroidPackageableCollection}.
+   * @return A new AndroidPackageableCollection builder
+   */
+  public static AndroidPackageableCollection.Builder builder() {
+    return new AndroidPackageableCollection.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidPackageableCollection AndroidPackageableCollection}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAndroidPackageableCollection", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableMap.Builder<APKModule, AndroidPackageableCollection.ResourceDetails> resourceDetails = ImmutableMap.builder();
+    private ImmutableMultimap.Builder<APKModule, NativeLinkable> nativeLinkables = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, NativeLinkable> nativeLinkablesAssets = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> nativeLibsDirectories = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> nativeLibAssetsDirectories = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> assetsDirectories = ImmutableMultimap.builder();
+    private ImmutableSet.Builder<SourcePath> proguardConfigs = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> classpathEntriesToDex = ImmutableSet.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> androidManifestPieces = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> moduleMappedClasspathEntriesToDex = ImmutableMultimap.builder();
+    private ImmutableSet.Builder<SourcePath> noDxClasspathEntries = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, BuildConfigFields> buildConfigs = ImmutableMap.builder();
+    private ImmutableMultimap.Builder<APKModule, SourcePath> pathsToThirdPartyJars = ImmutableMultimap.builder();
+    private ImmutableSet.Builder<BuildTarget> javaLibrariesToDex = ImmutableSet.builder();
+    private @Nullable Supplier<ImmutableMap<String, HashCode>> classNamesToHashesSupplier;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidPackageableCollection} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidPackageableCollection instance) {
+      return from((AbstractAndroidPackageableCollection) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidPackageableCollection} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAndroidPackageableCollection instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllResourceDetails(instance.getResourceDetails());
+      putAllNativeLinkables(instance.getNativeLinkables());
+      putAllNativeLinkablesAssets(instance.getNativeLinkablesAssets());
+      putAllNativeLibsDirectories(instance.getNativeLibsDirectories());
+      putAllNativeLibAssetsDirectories(instance.getNativeLibAssetsDirectories());
+      putAllAssetsDirectories(instance.getAssetsDirectories());
+      addAllProguardConfigs(instance.getProguardConfigs());
+      addAllClasspathEntriesToDex(instance.getClasspathEntriesToDex());
+      putAllAndroidManifestPieces(instance.getAndroidManifestPieces());
+      putAllModuleMappedClasspathEntriesToDex(instance.getModuleMappedClasspathEntriesToDex());
+      addAllNoDxClasspathEntries(instance.getNoDxClasspathEntries());
+      putAllBuildConfigs(instance.getBuildConfigs());
+      putAllPathsToThirdPartyJars(instance.getPathsToThirdPartyJars());
+      addAllJavaLibrariesToDex(instance.getJavaLibrariesToDex());
+      setClassNamesToHashesSupplier(instance.getClassNamesToHashesSupplier());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getResourceDetails() resourceDetails} map.
+     * @param key The key in the resourceDetails map
+     * @param value The associated value in the resourceDetails map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putResourceDetails(APKModule key, AndroidPackageableCollection.ResourceDetails value) {
+      this.resourceDetails.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getResourceDetails() resourceDetails} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putResourceDetails(Map.Entry<? extends APKModule, ? extends AndroidPackageableCollection.ResourceDetails> entry) {
+      this.resourceDetails.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getResourceDetails() resourceDetails} map. Nulls are not permitted
+     * @param entries The entries that will be added to the resourceDetails map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceDetails(Map<? extends APKModule, ? extends AndroidPackageableCollection.ResourceDetails> entries) {
+      this.resourceDetails = ImmutableMap.builder();
+      return putAllResourceDetails(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getResourceDetails() resourceDetails} map. Nulls are not permitted
+     * @param entries The entries that will be added to the resourceDetails map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllResourceDetails(Map<? extends APKModule, ? extends AndroidPackageableCollection.ResourceDetails> entries) {
+      this.resourceDetails.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLinkables() nativeLinkables} true. Nulls are not permitted
+     * @param key The key for nativeLinkables
+     * @param values The values for nativeLinkables
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLinkables(APKModule key, NativeLinkable... values) {
+      this.nativeLinkables.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLinkables() nativeLinkables} true. Nulls are not permitted
+     * @param key The key for nativeLinkables
+     * @param values The values for nativeLinkables
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLinkables(APKModule key, Iterable<NativeLinkable> values) {
+      this.nativeLinkables.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLinkables() nativeLinkables} map.
+     * @param key The key in the nativeLinkables map
+     * @param value The associated value in the nativeLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLinkables(APKModule key, NativeLinkable value) {
+      this.nativeLinkables.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLinkables() nativeLinkables} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLinkables(Map.Entry<? extends APKModule, ? extends NativeLinkable> entry) {
+      this.nativeLinkables.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getNativeLinkables() nativeLinkables} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+      this.nativeLinkables = ImmutableMultimap.builder();
+      return putAllNativeLinkables(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getNativeLinkables() nativeLinkables} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+      this.nativeLinkables.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} true. Nulls are not permitted
+     * @param key The key for nativeLinkablesAssets
+     * @param values The values for nativeLinkablesAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLinkablesAssets(APKModule key, NativeLinkable... values) {
+      this.nativeLinkablesAssets.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} true. Nulls are not permitted
+     * @param key The key for nativeLinkablesAssets
+     * @param values The values for nativeLinkablesAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLinkablesAssets(APKModule key, Iterable<NativeLinkable> values) {
+      this.nativeLinkablesAssets.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map.
+     * @param key The key in the nativeLinkablesAssets map
+     * @param value The associated value in the nativeLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLinkablesAssets(APKModule key, NativeLinkable value) {
+      this.nativeLinkablesAssets.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLinkablesAssets(Map.Entry<? extends APKModule, ? extends NativeLinkable> entry) {
+      this.nativeLinkablesAssets.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+      this.nativeLinkablesAssets = ImmutableMultimap.builder();
+      return putAllNativeLinkablesAssets(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+      this.nativeLinkablesAssets.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibsDirectories
+     * @param values The values for nativeLibsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibsDirectories(APKModule key, SourcePath... values) {
+      this.nativeLibsDirectories.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibsDirectories
+     * @param values The values for nativeLibsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLibsDirectories(APKModule key, Iterable<SourcePath> values) {
+      this.nativeLibsDirectories.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map.
+     * @param key The key in the nativeLibsDirectories map
+     * @param value The associated value in the nativeLibsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibsDirectories(APKModule key, SourcePath value) {
+      this.nativeLibsDirectories.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibsDirectories(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.nativeLibsDirectories.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLibsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.nativeLibsDirectories = ImmutableMultimap.builder();
+      return putAllNativeLibsDirectories(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLibsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLibsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.nativeLibsDirectories.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibAssetsDirectories
+     * @param values The values for nativeLibAssetsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibAssetsDirectories(APKModule key, SourcePath... values) {
+      this.nativeLibAssetsDirectories.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} true. Nulls are not permitted
+     * @param key The key for nativeLibAssetsDirectories
+     * @param values The values for nativeLibAssetsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLibAssetsDirectories(APKModule key, Iterable<SourcePath> values) {
+      this.nativeLibAssetsDirectories.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map.
+     * @param key The key in the nativeLibAssetsDirectories map
+     * @param value The associated value in the nativeLibAssetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibAssetsDirectories(APKModule key, SourcePath value) {
+      this.nativeLibAssetsDirectories.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibAssetsDirectories(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.nativeLibAssetsDirectories.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLibAssetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibAssetsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.nativeLibAssetsDirectories = ImmutableMultimap.builder();
+      return putAllNativeLibAssetsDirectories(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLibAssetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLibAssetsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.nativeLibAssetsDirectories.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getAssetsDirectories() assetsDirectories} true. Nulls are not permitted
+     * @param key The key for assetsDirectories
+     * @param values The values for assetsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAssetsDirectories(APKModule key, SourcePath... values) {
+      this.assetsDirectories.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getAssetsDirectories() assetsDirectories} true. Nulls are not permitted
+     * @param key The key for assetsDirectories
+     * @param values The values for assetsDirectories
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllAssetsDirectories(APKModule key, Iterable<SourcePath> values) {
+      this.assetsDirectories.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getAssetsDirectories() assetsDirectories} map.
+     * @param key The key in the assetsDirectories map
+     * @param value The associated value in the assetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAssetsDirectories(APKModule key, SourcePath value) {
+      this.assetsDirectories.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getAssetsDirectories() assetsDirectories} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAssetsDirectories(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.assetsDirectories.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getAssetsDirectories() assetsDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the assetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssetsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.assetsDirectories = ImmutableMultimap.builder();
+      return putAllAssetsDirectories(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getAssetsDirectories() assetsDirectories} map. Nulls are not permitted
+     * @param entries The entries that will be added to the assetsDirectories map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllAssetsDirectories(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.assetsDirectories.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param element A proguardConfigs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProguardConfigs(SourcePath element) {
+      this.proguardConfigs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements An array of proguardConfigs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProguardConfigs(SourcePath... elements) {
+      this.proguardConfigs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements An iterable of proguardConfigs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfigs(Iterable<? extends SourcePath> elements) {
+      this.proguardConfigs = ImmutableSet.builder();
+      return addAllProguardConfigs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements An iterable of proguardConfigs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllProguardConfigs(Iterable<? extends SourcePath> elements) {
+      this.proguardConfigs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param element A classpathEntriesToDex element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addClasspathEntriesToDex(SourcePath element) {
+      this.classpathEntriesToDex.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An array of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addClasspathEntriesToDex(SourcePath... elements) {
+      this.classpathEntriesToDex.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex = ImmutableSet.builder();
+      return addAllClasspathEntriesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getAndroidManifestPieces() androidManifestPieces} true. Nulls are not permitted
+     * @param key The key for androidManifestPieces
+     * @param values The values for androidManifestPieces
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAndroidManifestPieces(APKModule key, SourcePath... values) {
+      this.androidManifestPieces.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getAndroidManifestPieces() androidManifestPieces} true. Nulls are not permitted
+     * @param key The key for androidManifestPieces
+     * @param values The values for androidManifestPieces
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllAndroidManifestPieces(APKModule key, Iterable<SourcePath> values) {
+      this.androidManifestPieces.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getAndroidManifestPieces() androidManifestPieces} map.
+     * @param key The key in the androidManifestPieces map
+     * @param value The associated value in the androidManifestPieces map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAndroidManifestPieces(APKModule key, SourcePath value) {
+      this.androidManifestPieces.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getAndroidManifestPieces() androidManifestPieces} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAndroidManifestPieces(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.androidManifestPieces.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getAndroidManifestPieces() androidManifestPieces} map. Nulls are not permitted
+     * @param entries The entries that will be added to the androidManifestPieces map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidManifestPieces(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.androidManifestPieces = ImmutableMultimap.builder();
+      return putAllAndroidManifestPieces(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getAndroidManifestPieces() androidManifestPieces} map. Nulls are not permitted
+     * @param entries The entries that will be added to the androidManifestPieces map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllAndroidManifestPieces(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.androidManifestPieces.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} true. Nulls are not permitted
+     * @param key The key for moduleMappedClasspathEntriesToDex
+     * @param values The values for moduleMappedClasspathEntriesToDex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putModuleMappedClasspathEntriesToDex(APKModule key, SourcePath... values) {
+      this.moduleMappedClasspathEntriesToDex.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} true. Nulls are not permitted
+     * @param key The key for moduleMappedClasspathEntriesToDex
+     * @param values The values for moduleMappedClasspathEntriesToDex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllModuleMappedClasspathEntriesToDex(APKModule key, Iterable<SourcePath> values) {
+      this.moduleMappedClasspathEntriesToDex.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map.
+     * @param key The key in the moduleMappedClasspathEntriesToDex map
+     * @param value The associated value in the moduleMappedClasspathEntriesToDex map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putModuleMappedClasspathEntriesToDex(APKModule key, SourcePath value) {
+      this.moduleMappedClasspathEntriesToDex.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putModuleMappedClasspathEntriesToDex(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.moduleMappedClasspathEntriesToDex.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map. Nulls are not permitted
+     * @param entries The entries that will be added to the moduleMappedClasspathEntriesToDex map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleMappedClasspathEntriesToDex(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.moduleMappedClasspathEntriesToDex = ImmutableMultimap.builder();
+      return putAllModuleMappedClasspathEntriesToDex(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getModuleMappedClasspathEntriesToDex() moduleMappedClasspathEntriesToDex} map. Nulls are not permitted
+     * @param entries The entries that will be added to the moduleMappedClasspathEntriesToDex map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllModuleMappedClasspathEntriesToDex(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.moduleMappedClasspathEntriesToDex.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param element A noDxClasspathEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNoDxClasspathEntries(SourcePath element) {
+      this.noDxClasspathEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements An array of noDxClasspathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNoDxClasspathEntries(SourcePath... elements) {
+      this.noDxClasspathEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements An iterable of noDxClasspathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.noDxClasspathEntries = ImmutableSet.builder();
+      return addAllNoDxClasspathEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements An iterable of noDxClasspathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.noDxClasspathEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getBuildConfigs() buildConfigs} map.
+     * @param key The key in the buildConfigs map
+     * @param value The associated value in the buildConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putBuildConfigs(String key, BuildConfigFields value) {
+      this.buildConfigs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putBuildConfigs(Map.Entry<String, ? extends BuildConfigFields> entry) {
+      this.buildConfigs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the buildConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildConfigs(Map<String, ? extends BuildConfigFields> entries) {
+      this.buildConfigs = ImmutableMap.builder();
+      return putAllBuildConfigs(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the buildConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllBuildConfigs(Map<String, ? extends BuildConfigFields> entries) {
+      this.buildConfigs.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} true. Nulls are not permitted
+     * @param key The key for pathsToThirdPartyJars
+     * @param values The values for pathsToThirdPartyJars
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPathsToThirdPartyJars(APKModule key, SourcePath... values) {
+      this.pathsToThirdPartyJars.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} true. Nulls are not permitted
+     * @param key The key for pathsToThirdPartyJars
+     * @param values The values for pathsToThirdPartyJars
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllPathsToThirdPartyJars(APKModule key, Iterable<SourcePath> values) {
+      this.pathsToThirdPartyJars.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} map.
+     * @param key The key in the pathsToThirdPartyJars map
+     * @param value The associated value in the pathsToThirdPartyJars map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPathsToThirdPartyJars(APKModule key, SourcePath value) {
+      this.pathsToThirdPartyJars.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPathsToThirdPartyJars(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.pathsToThirdPartyJars.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} map. Nulls are not permitted
+     * @param entries The entries that will be added to the pathsToThirdPartyJars map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathsToThirdPartyJars(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.pathsToThirdPartyJars = ImmutableMultimap.builder();
+      return putAllPathsToThirdPartyJars(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} map. Nulls are not permitted
+     * @param entries The entries that will be added to the pathsToThirdPartyJars map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllPathsToThirdPartyJars(Multimap<? extends APKModule, ? extends SourcePath> entries) {
+      this.pathsToThirdPartyJars.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param element A javaLibrariesToDex element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addJavaLibrariesToDex(BuildTarget element) {
+      this.javaLibrariesToDex.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements An array of javaLibrariesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addJavaLibrariesToDex(BuildTarget... elements) {
+      this.javaLibrariesToDex.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements An iterable of javaLibrariesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+      this.javaLibrariesToDex = ImmutableSet.builder();
+      return addAllJavaLibrariesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements An iterable of javaLibrariesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+      this.javaLibrariesToDex.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPackageableCollection#getClassNamesToHashesSupplier() classNamesToHashesSupplier} attribute.
+     * @param classNamesToHashesSupplier The value for classNamesToHashesSupplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClassNamesToHashesSupplier(Supplier<ImmutableMap<String, HashCode>> classNamesToHashesSupplier) {
+      this.classNamesToHashesSupplier = Objects.requireNonNull(classNamesToHashesSupplier, "classNamesToHashesSupplier");
+      initBits &= ~INIT_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidPackageableCollection AndroidPackageableCollection}.
+     * @return An immutable instance of AndroidPackageableCollection
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidPackageableCollection build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidPackageableCollection(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER) != 0) attributes.add("classNamesToHashesSupplier");
+      return "Cannot build AndroidPackageableCollection, some of required attributes are not set " + attributes;
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code AndroidPackageableCollection.ResourceDetails.builder()}.
+   */
+  @Generated(from = "AbstractAndroidPackageableCollection.AbstractResourceDetails", generator = "Immutables")
+  @Immutable
+  @CheckReturnValue
+  public static final class ResourceDetails
+      extends AbstractAndroidPackageableCollection.AbstractResourceDetails {
+    private final ImmutableList<SourcePath> resourceDirectories;
+    private final ImmutableSet<SourcePath> whitelistedStringDirectories;
+    private final ImmutableList<BuildTarget> resourcesWithNonEmptyResDir;
+    private final ImmutableSet<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDir;
+    private transient final boolean hasResources;
+
+    private ResourceDetails(AndroidPackageableCollection.ResourceDetails.Builder builder) {
+      this.resourceDirectories = builder.resourceDirectories.build();
+      this.whitelistedStringDirectories = builder.whitelistedStringDirectories.build();
+      this.resourcesWithNonEmptyResDir = builder.resourcesWithNonEmptyResDir.build();
+      this.resourcesWithEmptyResButNonEmptyAssetsDir = builder.resourcesWithEmptyResButNonEmptyAssetsDir.build();
+      this.hasResources = super.hasResources();
+    }
+
+    /**
+     * A list of "res" directories that should be passed to the aapt command to build the APK,
+     * sorted topologically.
+     */
+    @Override
+    public ImmutableList<SourcePath> getResourceDirectories() {
+      return resourceDirectories;
+    }
+
+    /**
+     * A set of "res" directories that contain "whitelisted" strings, i.e. the strings-as-assets
+     * resource filter does not affect these directories.
+     */
+    @Override
+    public ImmutableSet<SourcePath> getWhitelistedStringDirectories() {
+      return whitelistedStringDirectories;
+    }
+
+    /**
+     * A list of build targets belonging to {@link com.facebook.buck.android.AndroidResource}s with
+     * non-empty "res" directory, sorted topologically. Note that these are {@link BuildTarget}s to
+     * avoid introducing a circular dependency.
+     */
+    @Override
+    public ImmutableList<BuildTarget> getResourcesWithNonEmptyResDir() {
+      return resourcesWithNonEmptyResDir;
+    }
+
+    /**
+     *Unlike {@link #getResourcesWithNonEmptyResDir}, these resources only contain "assets". 
+     */
+    @Override
+    public ImmutableSet<BuildTarget> getResourcesWithEmptyResButNonEmptyAssetsDir() {
+      return resourcesWithEmptyResButNonEmptyAssetsDir;
+    }
+
+    /**
+     * @return The computed-at-construction value of the {@code hasResources} attribute
+     */
+    @Override
+    public boolean hasResources() {
+      return hasResources;
+    }
+
+    /**
+     * This instance is equal to all instances of {@code ResourceDetails} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof AndroidPackageableCollection.ResourceDetails
+          && equalTo((AndroidPackageableCollection.ResourceDetails) another);
+    }
+
+    private boolean equalTo(AndroidPackageableCollection.ResourceDetails another) {
+      return resourceDirectories.equals(another.resourceDirectories)
+          && whitelistedStringDirectories.equals(another.whitelistedStringDirectories)
+          && resourcesWithNonEmptyResDir.equals(another.resourcesWithNonEmptyResDir)
+          && resourcesWithEmptyResButNonEmptyAssetsDir.equals(another.resourcesWithEmptyResButNonEmptyAssetsDir)
+          && hasResources == another.hasResources;
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code resourceDirectories}, {@code whitelistedStringDirectories}, {@code resourcesWithNonEmptyResDir}, {@code resourcesWithEmptyResButNonEmptyAssetsDir}, {@code hasResources}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      @Var int h = 5381;
+      h += (h << 5) + resourceDirectories.hashCode();
+      h += (h << 5) + whitelistedStringDirectories.hashCode();
+      h += (h << 5) + resourcesWithNonEmptyResDir.hashCode();
+      h += (h << 5) + resourcesWithEmptyResButNonEmptyAssetsDir.hashCode();
+      h += (h << 5) + Booleans.hashCode(hasResources);
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code ResourceDetails} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("ResourceDetails")
+          .omitNullValues()
+          .add("resourceDirectories", resourceDirectories)
+          .add("whitelistedStringDirectories", whitelistedStringDirectories)
+          .add("resourcesWithNonEmptyResDir", resourcesWithNonEmptyResDir)
+          .add("resourcesWithEmptyResButNonEmptyAssetsDir", resourcesWithEmptyResButNonEmptyAssetsDir)
+          .add("hasResources", hasResources)
+          .toString();
+    }
+
+    /**
+     * Creates a builder for {@link AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+     * @return A new ResourceDetails builder
+     */
+    public static AndroidPackageableCollection.ResourceDetails.Builder builder() {
+      return new AndroidPackageableCollection.ResourceDetails.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @Generated(from = "AbstractAndroidPackageableCollection.AbstractResourceDetails", generator = "Immutables")
+    @NotThreadSafe
+    public static final class Builder {
+      private ImmutableList.Builder<SourcePath> resourceDirectories = ImmutableList.builder();
+      private ImmutableSet.Builder<SourcePath> whitelistedStringDirectories = ImmutableSet.builder();
+      private ImmutableList.Builder<BuildTarget> resourcesWithNonEmptyResDir = ImmutableList.builder();
+      private ImmutableSet.Builder<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDir = ImmutableSet.builder();
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code AbstractResourceDetails} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * Collection elements and entries will be added, not replaced.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder from(AbstractAndroidPackageableCollection.AbstractResourceDetails instance) {
+        Objects.requireNonNull(instance, "instance");
+        addAllResourceDirectories(instance.getResourceDirectories());
+        addAllWhitelistedStringDirectories(instance.getWhitelistedStringDirectories());
+        addAllResourcesWithNonEmptyResDir(instance.getResourcesWithNonEmptyResDir());
+        addAllResourcesWithEmptyResButNonEmptyAssetsDir(instance.getResourcesWithEmptyResButNonEmptyAssetsDir());
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param element A resourceDirectories element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourceDirectories(SourcePath element) {
+        this.resourceDirectories.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements An array of resourceDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourceDirectories(SourcePath... elements) {
+        this.resourceDirectories.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements An iterable of resourceDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setResourceDirectories(Iterable<? extends SourcePath> elements) {
+        this.resourceDirectories = ImmutableList.builder();
+        return addAllResourceDirectories(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements An iterable of resourceDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addAllResourceDirectories(Iterable<? extends SourcePath> elements) {
+        this.resourceDirectories.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param element A whitelistedStringDirectories element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addWhitelistedStringDirectories(SourcePath element) {
+        this.whitelistedStringDirectories.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements An array of whitelistedStringDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addWhitelistedStringDirectories(SourcePath... elements) {
+        this.whitelistedStringDirectories.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements An iterable of whitelistedStringDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+        this.whitelistedStringDirectories = ImmutableSet.builder();
+        return addAllWhitelistedStringDirectories(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements An iterable of whitelistedStringDirectories elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addAllWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+        this.whitelistedStringDirectories.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param element A resourcesWithNonEmptyResDir element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourcesWithNonEmptyResDir(BuildTarget element) {
+        this.resourcesWithNonEmptyResDir.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements An array of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourcesWithNonEmptyResDir(BuildTarget... elements) {
+        this.resourcesWithNonEmptyResDir.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements An iterable of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithNonEmptyResDir = ImmutableList.builder();
+        return addAllResourcesWithNonEmptyResDir(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements An iterable of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addAllResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithNonEmptyResDir.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param element A resourcesWithEmptyResButNonEmptyAssetsDir element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget element) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements An array of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget... elements) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements An iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir = ImmutableSet.builder();
+        return addAllResourcesWithEmptyResButNonEmptyAssetsDir(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements An iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addAllResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+        this.resourcesWithEmptyResButNonEmptyAssetsDir.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Builds a new {@link AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+       * @return An immutable instance of ResourceDetails
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public AndroidPackageableCollection.ResourceDetails build() {
+        return new AndroidPackageableCollection.ResourceDetails(this);
+      }
+    }
+  }
+}
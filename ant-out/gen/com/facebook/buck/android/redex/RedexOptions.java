@@ -0,0 +1,266 @@
+package com.facebook.buck.android.redex;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractRedexOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RedexOptions.builder()}.
+ */
+@Generated(from = "AbstractRedexOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class RedexOptions extends AbstractRedexOptions {
+  private final Tool redex;
+  private final @Nullable SourcePath redexConfig;
+  private final ImmutableList<Arg> redexExtraArgs;
+
+  private RedexOptions(RedexOptions.Builder builder) {
+    this.redex = builder.redex;
+    this.redexConfig = builder.redexConfig;
+    this.redexExtraArgs = builder.redexExtraArgs.build();
+  }
+
+  /**
+   * @return The value of the {@code redex} attribute
+   */
+  @Override
+  public Tool getRedex() {
+    return redex;
+  }
+
+  /**
+   * @return The value of the {@code redexConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getRedexConfig() {
+    return Optional.ofNullable(redexConfig);
+  }
+
+  /**
+   * @return The value of the {@code redexExtraArgs} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRedexExtraArgs() {
+    return redexExtraArgs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RedexOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RedexOptions
+        && equalTo((RedexOptions) another);
+  }
+
+  private boolean equalTo(RedexOptions another) {
+    return redex.equals(another.redex)
+        && Objects.equals(redexConfig, another.redexConfig)
+        && redexExtraArgs.equals(another.redexExtraArgs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code redex}, {@code redexConfig}, {@code redexExtraArgs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + redex.hashCode();
+    h += (h << 5) + Objects.hashCode(redexConfig);
+    h += (h << 5) + redexExtraArgs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RedexOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RedexOptions")
+        .omitNullValues()
+        .add("redex", redex)
+        .add("redexConfig", redexConfig)
+        .add("redexExtraArgs", redexExtraArgs)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link RedexOptions RedexOptions}.
+   * @return A new RedexOptions builder
+   */
+  public static RedexOptions.Builder builder() {
+    return new RedexOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RedexOptions RedexOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractRedexOptions", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_REDEX = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Tool redex;
+    private @Nullable SourcePath redexConfig;
+    private ImmutableList.Builder<Arg> redexExtraArgs = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RedexOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RedexOptions instance) {
+      return from((AbstractRedexOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRedexOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractRedexOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRedex(instance.getRedex());
+      Optional<SourcePath> redexConfigOptional = instance.getRedexConfig();
+      if (redexConfigOptional.isPresent()) {
+        setRedexConfig(redexConfigOptional);
+      }
+      addAllRedexExtraArgs(instance.getRedexExtraArgs());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RedexOptions#getRedex() redex} attribute.
+     * @param redex The value for redex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedex(Tool redex) {
+      this.redex = Objects.requireNonNull(redex, "redex");
+      initBits &= ~INIT_BIT_REDEX;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RedexOptions#getRedexConfig() redexConfig} to redexConfig.
+     * @param redexConfig The value for redexConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedexConfig(SourcePath redexConfig) {
+      this.redexConfig = Objects.requireNonNull(redexConfig, "redexConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RedexOptions#getRedexConfig() redexConfig} to redexConfig.
+     * @param redexConfig The value for redexConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedexConfig(Optional<? extends SourcePath> redexConfig) {
+      this.redexConfig = redexConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link RedexOptions#getRedexExtraArgs() redexExtraArgs} list.
+     * @param element A redexExtraArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRedexExtraArgs(Arg element) {
+      this.redexExtraArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link RedexOptions#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An array of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRedexExtraArgs(Arg... elements) {
+      this.redexExtraArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link RedexOptions#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An iterable of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedexExtraArgs(Iterable<? extends Arg> elements) {
+      this.redexExtraArgs = ImmutableList.builder();
+      return addAllRedexExtraArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link RedexOptions#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An iterable of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRedexExtraArgs(Iterable<? extends Arg> elements) {
+      this.redexExtraArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RedexOptions RedexOptions}.
+     * @return An immutable instance of RedexOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RedexOptions build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RedexOptions(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_REDEX) != 0) attributes.add("redex");
+      return "Cannot build RedexOptions, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.facebook.buck.android.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDxToolchain}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DxToolchain.of()}.
+ */
+@Generated(from = "AbstractDxToolchain", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DxToolchain implements AbstractDxToolchain {
+  private final ListeningExecutorService dxExecutorService;
+
+  private DxToolchain(ListeningExecutorService dxExecutorService) {
+    this.dxExecutorService = Objects.requireNonNull(dxExecutorService, "dxExecutorService");
+  }
+
+  /**
+   *Executor service exclusively for the smart dexing step. 
+   */
+  @Override
+  public ListeningExecutorService getDxExecutorService() {
+    return dxExecutorService;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DxToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DxToolchain
+        && equalTo((DxToolchain) another);
+  }
+
+  private boolean equalTo(DxToolchain another) {
+    return dxExecutorService.equals(another.dxExecutorService);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dxExecutorService}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + dxExecutorService.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DxToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DxToolchain")
+        .omitNullValues()
+        .add("dxExecutorService", dxExecutorService)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DxToolchain} instance.
+   * @param dxExecutorService The value for the {@code dxExecutorService} attribute
+   * @return An immutable DxToolchain instance
+   */
+  public static DxToolchain of(ListeningExecutorService dxExecutorService) {
+    return new DxToolchain(dxExecutorService);
+  }
+}
@@ -0,0 +1,156 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.facebook.buck.io.ExecutableFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Part of Android toolchain that provides access to Android NDK 
+ */
+@Generated(from = "AbstractAndroidNdk", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidNdk extends AbstractAndroidNdk {
+  private final String ndkVersion;
+  private final Path ndkRootPath;
+  private final boolean shouldEscapeCFlagsInDoubleQuotes;
+  private final ExecutableFinder executableFinder;
+
+  private AndroidNdk(
+      String ndkVersion,
+      Path ndkRootPath,
+      boolean shouldEscapeCFlagsInDoubleQuotes,
+      ExecutableFinder executableFinder) {
+    this.ndkVersion = Objects.requireNonNull(ndkVersion, "ndkVersion");
+    this.ndkRootPath = Objects.requireNonNull(ndkRootPath, "ndkRootPath");
+    this.shouldEscapeCFlagsInDoubleQuotes = shouldEscapeCFlagsInDoubleQuotes;
+    this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+  }
+
+  /**
+   * @return The value of the {@code ndkVersion} attribute
+   */
+  @Override
+  public String getNdkVersion() {
+    return ndkVersion;
+  }
+
+  /**
+   * @return The value of the {@code ndkRootPath} attribute
+   */
+  @Override
+  public Path getNdkRootPath() {
+    return ndkRootPath;
+  }
+
+  /**
+   *Escaping logic can be different and depends on the version of Android NDK. 
+   */
+  @Override
+  public boolean shouldEscapeCFlagsInDoubleQuotes() {
+    return shouldEscapeCFlagsInDoubleQuotes;
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  public ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidNdk} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidNdk
+        && equalTo((AndroidNdk) another);
+  }
+
+  private boolean equalTo(AndroidNdk another) {
+    return ndkVersion.equals(another.ndkVersion)
+        && ndkRootPath.equals(another.ndkRootPath)
+        && shouldEscapeCFlagsInDoubleQuotes == another.shouldEscapeCFlagsInDoubleQuotes;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ndkVersion}, {@code ndkRootPath}, {@code shouldEscapeCFlagsInDoubleQuotes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ndkVersion.hashCode();
+    h += (h << 5) + ndkRootPath.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldEscapeCFlagsInDoubleQuotes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidNdk} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidNdk")
+        .omitNullValues()
+        .add("ndkVersion", ndkVersion)
+        .add("ndkRootPath", ndkRootPath)
+        .add("shouldEscapeCFlagsInDoubleQuotes", shouldEscapeCFlagsInDoubleQuotes)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Path ndkBuildExecutable;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractAndroidNdk#getNdkBuildExecutable() ndkBuildExecutable} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code ndkBuildExecutable} attribute
+   */
+  @Override
+  public Path getNdkBuildExecutable() {
+    if ((lazyInitBitmap & NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT) == 0) {
+          this.ndkBuildExecutable = Objects.requireNonNull(super.getNdkBuildExecutable(), "ndkBuildExecutable");
+          lazyInitBitmap |= NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return ndkBuildExecutable;
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidNdk} instance.
+   * @param ndkVersion The value for the {@code ndkVersion} attribute
+   * @param ndkRootPath The value for the {@code ndkRootPath} attribute
+   * @param shouldEscapeCFlagsInDoubleQuotes The value for the {@code shouldEscapeCFlagsInDoubleQuotes} attribute
+   * @param executableFinder The value for the {@code executableFinder} attribute
+   * @return An immutable AndroidNdk instance
+   */
+  public static AndroidNdk of(String ndkVersion, Path ndkRootPath, boolean shouldEscapeCFlagsInDoubleQuotes, ExecutableFinder executableFinder) {
+    return new AndroidNdk(ndkVersion, ndkRootPath, shouldEscapeCFlagsInDoubleQuotes, executableFinder);
+  }
+}
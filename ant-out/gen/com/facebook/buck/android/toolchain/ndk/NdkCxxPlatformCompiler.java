@@ -0,0 +1,221 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractNdkCxxPlatformCompiler}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NdkCxxPlatformCompiler.builder()}.
+ */
+@Generated(from = "AbstractNdkCxxPlatformCompiler", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class NdkCxxPlatformCompiler
+    implements AbstractNdkCxxPlatformCompiler {
+  private final NdkCompilerType type;
+  private final String version;
+  private final String gccVersion;
+
+  private NdkCxxPlatformCompiler(NdkCxxPlatformCompiler.Builder builder) {
+    this.type = builder.type;
+    this.version = builder.version;
+    this.gccVersion = builder.gccVersion;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public NdkCompilerType getType() {
+    return type;
+  }
+
+  /**
+   * @return the compiler version, corresponding to either `gcc_version` or `clang_version` from the
+   *     .buckconfig settings, depending on which compiler family was selected.
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * @return the GCC compiler version. Since even runtimes which are not GCC-based need to use GCC
+   *     tools (e.g. ar, as,, ld.gold), we need to *always* have a version of GCC.
+   */
+  @Override
+  public String getGccVersion() {
+    return gccVersion;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkCxxPlatformCompiler} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkCxxPlatformCompiler
+        && equalTo((NdkCxxPlatformCompiler) another);
+  }
+
+  private boolean equalTo(NdkCxxPlatformCompiler another) {
+    return type.equals(another.type)
+        && version.equals(another.version)
+        && gccVersion.equals(another.gccVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code version}, {@code gccVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + gccVersion.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformCompiler} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformCompiler")
+        .omitNullValues()
+        .add("type", type)
+        .add("version", version)
+        .add("gccVersion", gccVersion)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+   * @return A new NdkCxxPlatformCompiler builder
+   */
+  public static NdkCxxPlatformCompiler.Builder builder() {
+    return new NdkCxxPlatformCompiler.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractNdkCxxPlatformCompiler", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_VERSION = 0x2L;
+    private static final long INIT_BIT_GCC_VERSION = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable NdkCompilerType type;
+    private @Nullable String version;
+    private @Nullable String gccVersion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkCxxPlatformCompiler} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NdkCxxPlatformCompiler instance) {
+      return from((AbstractNdkCxxPlatformCompiler) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkCxxPlatformCompiler} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractNdkCxxPlatformCompiler instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      setVersion(instance.getVersion());
+      setGccVersion(instance.getGccVersion());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatformCompiler#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(NdkCompilerType type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatformCompiler#getVersion() version} attribute.
+     * @param version The value for version 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      initBits &= ~INIT_BIT_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatformCompiler#getGccVersion() gccVersion} attribute.
+     * @param gccVersion The value for gccVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGccVersion(String gccVersion) {
+      this.gccVersion = Objects.requireNonNull(gccVersion, "gccVersion");
+      initBits &= ~INIT_BIT_GCC_VERSION;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+     * @return An immutable instance of NdkCxxPlatformCompiler
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkCxxPlatformCompiler build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkCxxPlatformCompiler(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_VERSION) != 0) attributes.add("version");
+      if ((initBits & INIT_BIT_GCC_VERSION) != 0) attributes.add("gccVersion");
+      return "Cannot build NdkCxxPlatformCompiler, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,381 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *A container for all configuration settings needed to define a build target. 
+ */
+@Generated(from = "AbstractNdkCxxPlatformTargetConfiguration", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class NdkCxxPlatformTargetConfiguration
+    extends AbstractNdkCxxPlatformTargetConfiguration {
+  private final TargetCpuType targetCpuType;
+  private final String targetAppPlatform;
+  private transient final int targetAppPlatformLevel;
+  private final NdkCxxPlatformCompiler compiler;
+  private transient final NdkToolchain toolchain;
+  private transient final NdkToolchainTarget toolchainTarget;
+  private transient final NdkTargetArch targetArch;
+  private transient final NdkTargetArchAbi targetArchAbi;
+
+  private NdkCxxPlatformTargetConfiguration(NdkCxxPlatformTargetConfiguration.Builder builder) {
+    this.targetCpuType = builder.targetCpuType;
+    this.targetAppPlatform = builder.targetAppPlatform;
+    this.compiler = builder.compiler;
+    this.targetAppPlatformLevel = initShim.getTargetAppPlatformLevel();
+    this.toolchain = initShim.getToolchain();
+    this.toolchainTarget = initShim.getToolchainTarget();
+    this.targetArch = initShim.getTargetArch();
+    this.targetArchAbi = initShim.getTargetArchAbi();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractNdkCxxPlatformTargetConfiguration", generator = "Immutables")
+  private final class InitShim {
+    private byte targetAppPlatformLevelBuildStage = STAGE_UNINITIALIZED;
+    private int targetAppPlatformLevel;
+
+    int getTargetAppPlatformLevel() {
+      if (targetAppPlatformLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetAppPlatformLevelBuildStage == STAGE_UNINITIALIZED) {
+        targetAppPlatformLevelBuildStage = STAGE_INITIALIZING;
+        this.targetAppPlatformLevel = NdkCxxPlatformTargetConfiguration.super.getTargetAppPlatformLevel();
+        targetAppPlatformLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetAppPlatformLevel;
+    }
+
+    private byte toolchainBuildStage = STAGE_UNINITIALIZED;
+    private NdkToolchain toolchain;
+
+    NdkToolchain getToolchain() {
+      if (toolchainBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (toolchainBuildStage == STAGE_UNINITIALIZED) {
+        toolchainBuildStage = STAGE_INITIALIZING;
+        this.toolchain = Objects.requireNonNull(NdkCxxPlatformTargetConfiguration.super.getToolchain(), "toolchain");
+        toolchainBuildStage = STAGE_INITIALIZED;
+      }
+      return this.toolchain;
+    }
+
+    private byte toolchainTargetBuildStage = STAGE_UNINITIALIZED;
+    private NdkToolchainTarget toolchainTarget;
+
+    NdkToolchainTarget getToolchainTarget() {
+      if (toolchainTargetBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (toolchainTargetBuildStage == STAGE_UNINITIALIZED) {
+        toolchainTargetBuildStage = STAGE_INITIALIZING;
+        this.toolchainTarget = Objects.requireNonNull(NdkCxxPlatformTargetConfiguration.super.getToolchainTarget(), "toolchainTarget");
+        toolchainTargetBuildStage = STAGE_INITIALIZED;
+      }
+      return this.toolchainTarget;
+    }
+
+    private byte targetArchBuildStage = STAGE_UNINITIALIZED;
+    private NdkTargetArch targetArch;
+
+    NdkTargetArch getTargetArch() {
+      if (targetArchBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetArchBuildStage == STAGE_UNINITIALIZED) {
+        targetArchBuildStage = STAGE_INITIALIZING;
+        this.targetArch = Objects.requireNonNull(NdkCxxPlatformTargetConfiguration.super.getTargetArch(), "targetArch");
+        targetArchBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetArch;
+    }
+
+    private byte targetArchAbiBuildStage = STAGE_UNINITIALIZED;
+    private NdkTargetArchAbi targetArchAbi;
+
+    NdkTargetArchAbi getTargetArchAbi() {
+      if (targetArchAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetArchAbiBuildStage == STAGE_UNINITIALIZED) {
+        targetArchAbiBuildStage = STAGE_INITIALIZING;
+        this.targetArchAbi = Objects.requireNonNull(NdkCxxPlatformTargetConfiguration.super.getTargetArchAbi(), "targetArchAbi");
+        targetArchAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetArchAbi;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (targetAppPlatformLevelBuildStage == STAGE_INITIALIZING) attributes.add("targetAppPlatformLevel");
+      if (toolchainBuildStage == STAGE_INITIALIZING) attributes.add("toolchain");
+      if (toolchainTargetBuildStage == STAGE_INITIALIZING) attributes.add("toolchainTarget");
+      if (targetArchBuildStage == STAGE_INITIALIZING) attributes.add("targetArch");
+      if (targetArchAbiBuildStage == STAGE_INITIALIZING) attributes.add("targetArchAbi");
+      return "Cannot build NdkCxxPlatformTargetConfiguration, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code targetCpuType} attribute
+   */
+  @Override
+  public TargetCpuType getTargetCpuType() {
+    return targetCpuType;
+  }
+
+  /**
+   * @return The value of the {@code targetAppPlatform} attribute
+   */
+  @Override
+  public String getTargetAppPlatform() {
+    return targetAppPlatform;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code targetAppPlatformLevel} attribute
+   */
+  @Override
+  public int getTargetAppPlatformLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetAppPlatformLevel()
+        : this.targetAppPlatformLevel;
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public NdkCxxPlatformCompiler getCompiler() {
+    return compiler;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code toolchain} attribute
+   */
+  @Override
+  public NdkToolchain getToolchain() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getToolchain()
+        : this.toolchain;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code toolchainTarget} attribute
+   */
+  @Override
+  public NdkToolchainTarget getToolchainTarget() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getToolchainTarget()
+        : this.toolchainTarget;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code targetArch} attribute
+   */
+  @Override
+  public NdkTargetArch getTargetArch() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetArch()
+        : this.targetArch;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code targetArchAbi} attribute
+   */
+  @Override
+  public NdkTargetArchAbi getTargetArchAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetArchAbi()
+        : this.targetArchAbi;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkCxxPlatformTargetConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkCxxPlatformTargetConfiguration
+        && equalTo((NdkCxxPlatformTargetConfiguration) another);
+  }
+
+  private boolean equalTo(NdkCxxPlatformTargetConfiguration another) {
+    return targetCpuType.equals(another.targetCpuType)
+        && targetAppPlatform.equals(another.targetAppPlatform)
+        && targetAppPlatformLevel == another.targetAppPlatformLevel
+        && compiler.equals(another.compiler)
+        && toolchain.equals(another.toolchain)
+        && toolchainTarget.equals(another.toolchainTarget)
+        && targetArch.equals(another.targetArch)
+        && targetArchAbi.equals(another.targetArchAbi);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetCpuType}, {@code targetAppPlatform}, {@code targetAppPlatformLevel}, {@code compiler}, {@code toolchain}, {@code toolchainTarget}, {@code targetArch}, {@code targetArchAbi}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetCpuType.hashCode();
+    h += (h << 5) + targetAppPlatform.hashCode();
+    h += (h << 5) + targetAppPlatformLevel;
+    h += (h << 5) + compiler.hashCode();
+    h += (h << 5) + toolchain.hashCode();
+    h += (h << 5) + toolchainTarget.hashCode();
+    h += (h << 5) + targetArch.hashCode();
+    h += (h << 5) + targetArchAbi.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformTargetConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformTargetConfiguration")
+        .omitNullValues()
+        .add("targetCpuType", targetCpuType)
+        .add("targetAppPlatform", targetAppPlatform)
+        .add("targetAppPlatformLevel", targetAppPlatformLevel)
+        .add("compiler", compiler)
+        .add("toolchain", toolchain)
+        .add("toolchainTarget", toolchainTarget)
+        .add("targetArch", targetArch)
+        .add("targetArchAbi", targetArchAbi)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+   * @return A new NdkCxxPlatformTargetConfiguration builder
+   */
+  public static NdkCxxPlatformTargetConfiguration.Builder builder() {
+    return new NdkCxxPlatformTargetConfiguration.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractNdkCxxPlatformTargetConfiguration", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET_CPU_TYPE = 0x1L;
+    private static final long INIT_BIT_TARGET_APP_PLATFORM = 0x2L;
+    private static final long INIT_BIT_COMPILER = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable TargetCpuType targetCpuType;
+    private @Nullable String targetAppPlatform;
+    private @Nullable NdkCxxPlatformCompiler compiler;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkCxxPlatformTargetConfiguration} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NdkCxxPlatformTargetConfiguration instance) {
+      return from((AbstractNdkCxxPlatformTargetConfiguration) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkCxxPlatformTargetConfiguration} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractNdkCxxPlatformTargetConfiguration instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTargetCpuType(instance.getTargetCpuType());
+      setTargetAppPlatform(instance.getTargetAppPlatform());
+      setCompiler(instance.getCompiler());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatformTargetConfiguration#getTargetCpuType() targetCpuType} attribute.
+     * @param targetCpuType The value for targetCpuType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetCpuType(TargetCpuType targetCpuType) {
+      this.targetCpuType = Objects.requireNonNull(targetCpuType, "targetCpuType");
+      initBits &= ~INIT_BIT_TARGET_CPU_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatformTargetConfiguration#getTargetAppPlatform() targetAppPlatform} attribute.
+     * @param targetAppPlatform The value for targetAppPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetAppPlatform(String targetAppPlatform) {
+      this.targetAppPlatform = Objects.requireNonNull(targetAppPlatform, "targetAppPlatform");
+      initBits &= ~INIT_BIT_TARGET_APP_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatformTargetConfiguration#getCompiler() compiler} attribute.
+     * @param compiler The value for compiler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompiler(NdkCxxPlatformCompiler compiler) {
+      this.compiler = Objects.requireNonNull(compiler, "compiler");
+      initBits &= ~INIT_BIT_COMPILER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+     * @return An immutable instance of NdkCxxPlatformTargetConfiguration
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkCxxPlatformTargetConfiguration build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkCxxPlatformTargetConfiguration(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TARGET_CPU_TYPE) != 0) attributes.add("targetCpuType");
+      if ((initBits & INIT_BIT_TARGET_APP_PLATFORM) != 0) attributes.add("targetAppPlatform");
+      if ((initBits & INIT_BIT_COMPILER) != 0) attributes.add("compiler");
+      return "Cannot build NdkCxxPlatformTargetConfiguration, some of required attributes are not set " + attributes;
+    }
+  }
+}
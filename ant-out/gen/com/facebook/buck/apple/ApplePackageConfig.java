@@ -0,0 +1,143 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleConfig.AbstractApplePackageConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ApplePackageConfig.of()}.
+ */
+@Generated(from = "AppleConfig.AbstractApplePackageConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ApplePackageConfig
+    implements AppleConfig.AbstractApplePackageConfig {
+  private final String command;
+  private final String extension;
+
+  private ApplePackageConfig(String command, String extension) {
+    this.command = Objects.requireNonNull(command, "command");
+    this.extension = Objects.requireNonNull(extension, "extension");
+  }
+
+  private ApplePackageConfig(ApplePackageConfig original, String command, String extension) {
+    this.command = command;
+    this.extension = extension;
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public String getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public String getExtension() {
+    return extension;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ApplePackageConfig#getCommand() command} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for command
+   * @return A modified copy of the {@code this} object
+   */
+  public final ApplePackageConfig withCommand(String value) {
+    String newValue = Objects.requireNonNull(value, "command");
+    if (this.command.equals(newValue)) return this;
+    return new ApplePackageConfig(this, newValue, this.extension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ApplePackageConfig#getExtension() extension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for extension
+   * @return A modified copy of the {@code this} object
+   */
+  public final ApplePackageConfig withExtension(String value) {
+    String newValue = Objects.requireNonNull(value, "extension");
+    if (this.extension.equals(newValue)) return this;
+    return new ApplePackageConfig(this, this.command, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ApplePackageConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ApplePackageConfig
+        && equalTo((ApplePackageConfig) another);
+  }
+
+  private boolean equalTo(ApplePackageConfig another) {
+    return command.equals(another.command)
+        && extension.equals(another.extension);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code command}, {@code extension}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + extension.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApplePackageConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApplePackageConfig")
+        .omitNullValues()
+        .add("command", command)
+        .add("extension", extension)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ApplePackageConfig} instance.
+   * @param command The value for the {@code command} attribute
+   * @param extension The value for the {@code extension} attribute
+   * @return An immutable ApplePackageConfig instance
+   */
+  public static ApplePackageConfig of(String command, String extension) {
+    return new ApplePackageConfig(command, extension);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AppleConfig.AbstractApplePackageConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ApplePackageConfig instance
+   */
+  static ApplePackageConfig copyOf(AppleConfig.AbstractApplePackageConfig instance) {
+    if (instance instanceof ApplePackageConfig) {
+      return (ApplePackageConfig) instance;
+    }
+    return ApplePackageConfig.of(instance.getCommand(), instance.getExtension());
+  }
+}
@@ -0,0 +1,402 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractGroupedSource}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GroupedSource.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code GroupedSource.of()}.
+ */
+@Generated(from = "AbstractGroupedSource", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class GroupedSource extends AbstractGroupedSource {
+  private final AbstractGroupedSource.Type type;
+  private final @Nullable SourceWithFlags sourceWithFlags;
+  private final @Nullable SourcePath sourcePath;
+  private final @Nullable String sourceGroupName;
+  private final @Nullable Path sourceGroupPathRelativeToTarget;
+  private final @Nullable List<GroupedSource> sourceGroup;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private GroupedSource(
+      AbstractGroupedSource.Type type,
+      Optional<? extends SourceWithFlags> sourceWithFlags,
+      Optional<? extends SourcePath> sourcePath,
+      Optional<String> sourceGroupName,
+      Optional<? extends Path> sourceGroupPathRelativeToTarget,
+      Optional<? extends List<GroupedSource>> sourceGroup) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.sourceWithFlags = sourceWithFlags.orElse(null);
+    this.sourcePath = sourcePath.orElse(null);
+    this.sourceGroupName = sourceGroupName.orElse(null);
+    this.sourceGroupPathRelativeToTarget = sourceGroupPathRelativeToTarget.orElse(null);
+    this.sourceGroup = sourceGroup.orElse(null);
+  }
+
+  private GroupedSource(GroupedSource.Builder builder) {
+    this.type = builder.type;
+    this.sourceWithFlags = builder.sourceWithFlags;
+    this.sourcePath = builder.sourcePath;
+    this.sourceGroupName = builder.sourceGroupName;
+    this.sourceGroupPathRelativeToTarget = builder.sourceGroupPathRelativeToTarget;
+    this.sourceGroup = builder.sourceGroup;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractGroupedSource.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code sourceWithFlags} attribute
+   */
+  @Override
+  public Optional<SourceWithFlags> getSourceWithFlags() {
+    return Optional.ofNullable(sourceWithFlags);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourcePath() {
+    return Optional.ofNullable(sourcePath);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroupName} attribute
+   */
+  @Override
+  public Optional<String> getSourceGroupName() {
+    return Optional.ofNullable(sourceGroupName);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroupPathRelativeToTarget} attribute
+   */
+  @Override
+  public Optional<Path> getSourceGroupPathRelativeToTarget() {
+    return Optional.ofNullable(sourceGroupPathRelativeToTarget);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroup} attribute
+   */
+  @Override
+  public Optional<List<GroupedSource>> getSourceGroup() {
+    return Optional.ofNullable(sourceGroup);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GroupedSource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GroupedSource
+        && equalTo((GroupedSource) another);
+  }
+
+  private boolean equalTo(GroupedSource another) {
+    return type.equals(another.type)
+        && Objects.equals(sourceWithFlags, another.sourceWithFlags)
+        && Objects.equals(sourcePath, another.sourcePath)
+        && Objects.equals(sourceGroupName, another.sourceGroupName)
+        && Objects.equals(sourceGroupPathRelativeToTarget, another.sourceGroupPathRelativeToTarget)
+        && Objects.equals(sourceGroup, another.sourceGroup);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code sourceWithFlags}, {@code sourcePath}, {@code sourceGroupName}, {@code sourceGroupPathRelativeToTarget}, {@code sourceGroup}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceWithFlags);
+    h += (h << 5) + Objects.hashCode(sourcePath);
+    h += (h << 5) + Objects.hashCode(sourceGroupName);
+    h += (h << 5) + Objects.hashCode(sourceGroupPathRelativeToTarget);
+    h += (h << 5) + Objects.hashCode(sourceGroup);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GroupedSource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GroupedSource")
+        .omitNullValues()
+        .add("type", type)
+        .add("sourceWithFlags", sourceWithFlags)
+        .add("sourcePath", sourcePath)
+        .add("sourceGroupName", sourceGroupName)
+        .add("sourceGroupPathRelativeToTarget", sourceGroupPathRelativeToTarget)
+        .add("sourceGroup", sourceGroup)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code GroupedSource} instance.
+   * @param type The value for the {@code type} attribute
+   * @param sourceWithFlags The value for the {@code sourceWithFlags} attribute
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param sourceGroupName The value for the {@code sourceGroupName} attribute
+   * @param sourceGroupPathRelativeToTarget The value for the {@code sourceGroupPathRelativeToTarget} attribute
+   * @param sourceGroup The value for the {@code sourceGroup} attribute
+   * @return An immutable GroupedSource instance
+   */
+  public static GroupedSource of(AbstractGroupedSource.Type type, Optional<? extends SourceWithFlags> sourceWithFlags, Optional<? extends SourcePath> sourcePath, Optional<String> sourceGroupName, Optional<? extends Path> sourceGroupPathRelativeToTarget, Optional<? extends List<GroupedSource>> sourceGroup) {
+    return validate(new GroupedSource(type, sourceWithFlags, sourcePath, sourceGroupName, sourceGroupPathRelativeToTarget, sourceGroup));
+  }
+
+
+  private static GroupedSource validate(GroupedSource instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link GroupedSource GroupedSource}.
+   * @return A new GroupedSource builder
+   */
+  public static GroupedSource.Builder builder() {
+    return new GroupedSource.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GroupedSource GroupedSource}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractGroupedSource", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractGroupedSource.Type type;
+    private @Nullable SourceWithFlags sourceWithFlags;
+    private @Nullable SourcePath sourcePath;
+    private @Nullable String sourceGroupName;
+    private @Nullable Path sourceGroupPathRelativeToTarget;
+    private @Nullable List<GroupedSource> sourceGroup;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GroupedSource} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GroupedSource instance) {
+      return from((AbstractGroupedSource) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGroupedSource} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractGroupedSource instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      Optional<SourceWithFlags> sourceWithFlagsOptional = instance.getSourceWithFlags();
+      if (sourceWithFlagsOptional.isPresent()) {
+        setSourceWithFlags(sourceWithFlagsOptional);
+      }
+      Optional<SourcePath> sourcePathOptional = instance.getSourcePath();
+      if (sourcePathOptional.isPresent()) {
+        setSourcePath(sourcePathOptional);
+      }
+      Optional<String> sourceGroupNameOptional = instance.getSourceGroupName();
+      if (sourceGroupNameOptional.isPresent()) {
+        setSourceGroupName(sourceGroupNameOptional);
+      }
+      Optional<Path> sourceGroupPathRelativeToTargetOptional = instance.getSourceGroupPathRelativeToTarget();
+      if (sourceGroupPathRelativeToTargetOptional.isPresent()) {
+        setSourceGroupPathRelativeToTarget(sourceGroupPathRelativeToTargetOptional);
+      }
+      Optional<List<GroupedSource>> sourceGroupOptional = instance.getSourceGroup();
+      if (sourceGroupOptional.isPresent()) {
+        setSourceGroup(sourceGroupOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link GroupedSource#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(AbstractGroupedSource.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceWithFlags() sourceWithFlags} to sourceWithFlags.
+     * @param sourceWithFlags The value for sourceWithFlags
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceWithFlags(SourceWithFlags sourceWithFlags) {
+      this.sourceWithFlags = Objects.requireNonNull(sourceWithFlags, "sourceWithFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceWithFlags() sourceWithFlags} to sourceWithFlags.
+     * @param sourceWithFlags The value for sourceWithFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceWithFlags(Optional<? extends SourceWithFlags> sourceWithFlags) {
+      this.sourceWithFlags = sourceWithFlags.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourcePath(Optional<? extends SourcePath> sourcePath) {
+      this.sourcePath = sourcePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceGroupName() sourceGroupName} to sourceGroupName.
+     * @param sourceGroupName The value for sourceGroupName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceGroupName(String sourceGroupName) {
+      this.sourceGroupName = Objects.requireNonNull(sourceGroupName, "sourceGroupName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceGroupName() sourceGroupName} to sourceGroupName.
+     * @param sourceGroupName The value for sourceGroupName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceGroupName(Optional<String> sourceGroupName) {
+      this.sourceGroupName = sourceGroupName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget} to sourceGroupPathRelativeToTarget.
+     * @param sourceGroupPathRelativeToTarget The value for sourceGroupPathRelativeToTarget
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceGroupPathRelativeToTarget(Path sourceGroupPathRelativeToTarget) {
+      this.sourceGroupPathRelativeToTarget = Objects.requireNonNull(sourceGroupPathRelativeToTarget, "sourceGroupPathRelativeToTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget} to sourceGroupPathRelativeToTarget.
+     * @param sourceGroupPathRelativeToTarget The value for sourceGroupPathRelativeToTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceGroupPathRelativeToTarget(Optional<? extends Path> sourceGroupPathRelativeToTarget) {
+      this.sourceGroupPathRelativeToTarget = sourceGroupPathRelativeToTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceGroup() sourceGroup} to sourceGroup.
+     * @param sourceGroup The value for sourceGroup
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceGroup(List<GroupedSource> sourceGroup) {
+      this.sourceGroup = Objects.requireNonNull(sourceGroup, "sourceGroup");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link GroupedSource#getSourceGroup() sourceGroup} to sourceGroup.
+     * @param sourceGroup The value for sourceGroup
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceGroup(Optional<? extends List<GroupedSource>> sourceGroup) {
+      this.sourceGroup = sourceGroup.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GroupedSource GroupedSource}.
+     * @return An immutable instance of GroupedSource
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GroupedSource build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return GroupedSource.validate(new GroupedSource(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build GroupedSource, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,353 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleTestDescription.AbstractTestHostInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code TestHostInfo.of()}.
+ */
+@Generated(from = "AppleTestDescription.AbstractTestHostInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class TestHostInfo implements AppleTestDescription.AbstractTestHostInfo {
+  private final AppleBundle testHostApp;
+  private final @Nullable AppleBundle uiTestTargetApp;
+  private final @Nullable SourcePath testHostAppBinarySourcePath;
+  private final @Nullable SourcePath uiTestTargetAppBinarySourcePath;
+  private final ImmutableSet<BuildTarget> blacklist;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private TestHostInfo(
+      AppleBundle testHostApp,
+      Optional<? extends AppleBundle> uiTestTargetApp,
+      Optional<? extends SourcePath> testHostAppBinarySourcePath,
+      Optional<? extends SourcePath> uiTestTargetAppBinarySourcePath,
+      Iterable<? extends BuildTarget> blacklist) {
+    this.testHostApp = Objects.requireNonNull(testHostApp, "testHostApp");
+    this.uiTestTargetApp = uiTestTargetApp.orElse(null);
+    this.testHostAppBinarySourcePath = testHostAppBinarySourcePath.orElse(null);
+    this.uiTestTargetAppBinarySourcePath = uiTestTargetAppBinarySourcePath.orElse(null);
+    this.blacklist = ImmutableSet.copyOf(blacklist);
+  }
+
+  private TestHostInfo(
+      TestHostInfo original,
+      AppleBundle testHostApp,
+      @Nullable AppleBundle uiTestTargetApp,
+      @Nullable SourcePath testHostAppBinarySourcePath,
+      @Nullable SourcePath uiTestTargetAppBinarySourcePath,
+      ImmutableSet<BuildTarget> blacklist) {
+    this.testHostApp = testHostApp;
+    this.uiTestTargetApp = uiTestTargetApp;
+    this.testHostAppBinarySourcePath = testHostAppBinarySourcePath;
+    this.uiTestTargetAppBinarySourcePath = uiTestTargetAppBinarySourcePath;
+    this.blacklist = blacklist;
+  }
+
+  /**
+   * @return The value of the {@code testHostApp} attribute
+   */
+  @Override
+  public AppleBundle getTestHostApp() {
+    return testHostApp;
+  }
+
+  /**
+   * @return The value of the {@code uiTestTargetApp} attribute
+   */
+  @Override
+  public Optional<AppleBundle> getUiTestTargetApp() {
+    return Optional.ofNullable(uiTestTargetApp);
+  }
+
+  /**
+   * Location of the test host binary that can be passed as the "bundle loader" option when
+   * linking the test library.
+   */
+  @Override
+  public Optional<SourcePath> getTestHostAppBinarySourcePath() {
+    return Optional.ofNullable(testHostAppBinarySourcePath);
+  }
+
+  /**
+   * Location of the ui test target binary that can be passed test target application of UITest
+   */
+  @Override
+  public Optional<SourcePath> getUiTestTargetAppBinarySourcePath() {
+    return Optional.ofNullable(uiTestTargetAppBinarySourcePath);
+  }
+
+  /**
+   *Libraries included in test host that should not be linked into the test library. 
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBlacklist() {
+    return blacklist;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TestHostInfo#getTestHostApp() testHostApp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testHostApp
+   * @return A modified copy of the {@code this} object
+   */
+  public final TestHostInfo withTestHostApp(AppleBundle value) {
+    if (this.testHostApp == value) return this;
+    AppleBundle newValue = Objects.requireNonNull(value, "testHostApp");
+    return new TestHostInfo(
+        this,
+        newValue,
+        this.uiTestTargetApp,
+        this.testHostAppBinarySourcePath,
+        this.uiTestTargetAppBinarySourcePath,
+        this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TestHostInfo#getUiTestTargetApp() uiTestTargetApp} attribute.
+   * @param value The value for uiTestTargetApp
+   * @return A modified copy of {@code this} object
+   */
+  public final TestHostInfo withUiTestTargetApp(AppleBundle value) {
+    @Nullable AppleBundle newValue = Objects.requireNonNull(value, "uiTestTargetApp");
+    if (this.uiTestTargetApp == newValue) return this;
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        newValue,
+        this.testHostAppBinarySourcePath,
+        this.uiTestTargetAppBinarySourcePath,
+        this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TestHostInfo#getUiTestTargetApp() uiTestTargetApp} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for uiTestTargetApp
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final TestHostInfo withUiTestTargetApp(Optional<? extends AppleBundle> optional) {
+    @Nullable AppleBundle value = optional.orElse(null);
+    if (this.uiTestTargetApp == value) return this;
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        value,
+        this.testHostAppBinarySourcePath,
+        this.uiTestTargetAppBinarySourcePath,
+        this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TestHostInfo#getTestHostAppBinarySourcePath() testHostAppBinarySourcePath} attribute.
+   * @param value The value for testHostAppBinarySourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final TestHostInfo withTestHostAppBinarySourcePath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "testHostAppBinarySourcePath");
+    if (this.testHostAppBinarySourcePath == newValue) return this;
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        this.uiTestTargetApp,
+        newValue,
+        this.uiTestTargetAppBinarySourcePath,
+        this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TestHostInfo#getTestHostAppBinarySourcePath() testHostAppBinarySourcePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testHostAppBinarySourcePath
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final TestHostInfo withTestHostAppBinarySourcePath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.testHostAppBinarySourcePath == value) return this;
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        this.uiTestTargetApp,
+        value,
+        this.uiTestTargetAppBinarySourcePath,
+        this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TestHostInfo#getUiTestTargetAppBinarySourcePath() uiTestTargetAppBinarySourcePath} attribute.
+   * @param value The value for uiTestTargetAppBinarySourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final TestHostInfo withUiTestTargetAppBinarySourcePath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "uiTestTargetAppBinarySourcePath");
+    if (this.uiTestTargetAppBinarySourcePath == newValue) return this;
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        this.uiTestTargetApp,
+        this.testHostAppBinarySourcePath,
+        newValue,
+        this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TestHostInfo#getUiTestTargetAppBinarySourcePath() uiTestTargetAppBinarySourcePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for uiTestTargetAppBinarySourcePath
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final TestHostInfo withUiTestTargetAppBinarySourcePath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.uiTestTargetAppBinarySourcePath == value) return this;
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        this.uiTestTargetApp,
+        this.testHostAppBinarySourcePath,
+        value,
+        this.blacklist);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TestHostInfo#getBlacklist() blacklist}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestHostInfo withBlacklist(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        this.uiTestTargetApp,
+        this.testHostAppBinarySourcePath,
+        this.uiTestTargetAppBinarySourcePath,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TestHostInfo#getBlacklist() blacklist}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of blacklist elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TestHostInfo withBlacklist(Iterable<? extends BuildTarget> elements) {
+    if (this.blacklist == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TestHostInfo(
+        this,
+        this.testHostApp,
+        this.uiTestTargetApp,
+        this.testHostAppBinarySourcePath,
+        this.uiTestTargetAppBinarySourcePath,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestHostInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestHostInfo
+        && equalTo((TestHostInfo) another);
+  }
+
+  private boolean equalTo(TestHostInfo another) {
+    return testHostApp.equals(another.testHostApp)
+        && Objects.equals(uiTestTargetApp, another.uiTestTargetApp)
+        && Objects.equals(testHostAppBinarySourcePath, another.testHostAppBinarySourcePath)
+        && Objects.equals(uiTestTargetAppBinarySourcePath, another.uiTestTargetAppBinarySourcePath)
+        && blacklist.equals(another.blacklist);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code testHostApp}, {@code uiTestTargetApp}, {@code testHostAppBinarySourcePath}, {@code uiTestTargetAppBinarySourcePath}, {@code blacklist}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + testHostApp.hashCode();
+    h += (h << 5) + Objects.hashCode(uiTestTargetApp);
+    h += (h << 5) + Objects.hashCode(testHostAppBinarySourcePath);
+    h += (h << 5) + Objects.hashCode(uiTestTargetAppBinarySourcePath);
+    h += (h << 5) + blacklist.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestHostInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestHostInfo")
+        .omitNullValues()
+        .add("testHostApp", testHostApp)
+        .add("uiTestTargetApp", uiTestTargetApp)
+        .add("testHostAppBinarySourcePath", testHostAppBinarySourcePath)
+        .add("uiTestTargetAppBinarySourcePath", uiTestTargetAppBinarySourcePath)
+        .add("blacklist", blacklist)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestHostInfo} instance.
+   * @param testHostApp The value for the {@code testHostApp} attribute
+   * @param uiTestTargetApp The value for the {@code uiTestTargetApp} attribute
+   * @param testHostAppBinarySourcePath The value for the {@code testHostAppBinarySourcePath} attribute
+   * @param uiTestTargetAppBinarySourcePath The value for the {@code uiTestTargetAppBinarySourcePath} attribute
+   * @param blacklist The value for the {@code blacklist} attribute
+   * @return An immutable TestHostInfo instance
+   */
+  public static TestHostInfo of(AppleBundle testHostApp, Optional<AppleBundle> uiTestTargetApp, Optional<SourcePath> testHostAppBinarySourcePath, Optional<SourcePath> uiTestTargetAppBinarySourcePath, ImmutableSet<BuildTarget> blacklist) {
+    return of(testHostApp, uiTestTargetApp, testHostAppBinarySourcePath, uiTestTargetAppBinarySourcePath, (Iterable<? extends BuildTarget>) blacklist);
+  }
+
+  /**
+   * Construct a new immutable {@code TestHostInfo} instance.
+   * @param testHostApp The value for the {@code testHostApp} attribute
+   * @param uiTestTargetApp The value for the {@code uiTestTargetApp} attribute
+   * @param testHostAppBinarySourcePath The value for the {@code testHostAppBinarySourcePath} attribute
+   * @param uiTestTargetAppBinarySourcePath The value for the {@code uiTestTargetAppBinarySourcePath} attribute
+   * @param blacklist The value for the {@code blacklist} attribute
+   * @return An immutable TestHostInfo instance
+   */
+  public static TestHostInfo of(AppleBundle testHostApp, Optional<? extends AppleBundle> uiTestTargetApp, Optional<? extends SourcePath> testHostAppBinarySourcePath, Optional<? extends SourcePath> uiTestTargetAppBinarySourcePath, Iterable<? extends BuildTarget> blacklist) {
+    return new TestHostInfo(testHostApp, uiTestTargetApp, testHostAppBinarySourcePath, uiTestTargetAppBinarySourcePath, blacklist);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AppleTestDescription.AbstractTestHostInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TestHostInfo instance
+   */
+  static TestHostInfo copyOf(AppleTestDescription.AbstractTestHostInfo instance) {
+    if (instance instanceof TestHostInfo) {
+      return (TestHostInfo) instance;
+    }
+    return TestHostInfo.of(instance.getTestHostApp(), instance.getUiTestTargetApp(), instance.getTestHostAppBinarySourcePath(), instance.getUiTestTargetAppBinarySourcePath(), instance.getBlacklist());
+  }
+}
@@ -0,0 +1,85 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * The value of {@code [apple] xcode_developer_dir_for_tests} if present. Otherwise this falls back
+ * to {@code [apple] xcode_developer_dir} and finally {@code xcode-select --print-path}.
+ */
+@Generated(from = "AbstractAppleDeveloperDirectoryForTestsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AppleDeveloperDirectoryForTestsProvider
+    implements AbstractAppleDeveloperDirectoryForTestsProvider {
+  private final Path appleDeveloperDirectoryForTests;
+
+  private AppleDeveloperDirectoryForTestsProvider(Path appleDeveloperDirectoryForTests) {
+    this.appleDeveloperDirectoryForTests = Objects.requireNonNull(appleDeveloperDirectoryForTests, "appleDeveloperDirectoryForTests");
+  }
+
+  /**
+   * @return The value of the {@code appleDeveloperDirectoryForTests} attribute
+   */
+  @Override
+  public Path getAppleDeveloperDirectoryForTests() {
+    return appleDeveloperDirectoryForTests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleDeveloperDirectoryForTestsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleDeveloperDirectoryForTestsProvider
+        && equalTo((AppleDeveloperDirectoryForTestsProvider) another);
+  }
+
+  private boolean equalTo(AppleDeveloperDirectoryForTestsProvider another) {
+    return appleDeveloperDirectoryForTests.equals(another.appleDeveloperDirectoryForTests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleDeveloperDirectoryForTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + appleDeveloperDirectoryForTests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleDeveloperDirectoryForTestsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleDeveloperDirectoryForTestsProvider")
+        .omitNullValues()
+        .add("appleDeveloperDirectoryForTests", appleDeveloperDirectoryForTests)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleDeveloperDirectoryForTestsProvider} instance.
+   * @param appleDeveloperDirectoryForTests The value for the {@code appleDeveloperDirectoryForTests} attribute
+   * @return An immutable AppleDeveloperDirectoryForTestsProvider instance
+   */
+  public static AppleDeveloperDirectoryForTestsProvider of(Path appleDeveloperDirectoryForTests) {
+    return new AppleDeveloperDirectoryForTestsProvider(appleDeveloperDirectoryForTests);
+  }
+}
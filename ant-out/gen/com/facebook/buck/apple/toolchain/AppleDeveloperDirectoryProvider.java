@@ -0,0 +1,84 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Provides access to Apple developer directory. 
+ */
+@Generated(from = "AbstractAppleDeveloperDirectoryProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AppleDeveloperDirectoryProvider
+    implements AbstractAppleDeveloperDirectoryProvider {
+  private final Path appleDeveloperDirectory;
+
+  private AppleDeveloperDirectoryProvider(Path appleDeveloperDirectory) {
+    this.appleDeveloperDirectory = Objects.requireNonNull(appleDeveloperDirectory, "appleDeveloperDirectory");
+  }
+
+  /**
+   * @return The value of the {@code appleDeveloperDirectory} attribute
+   */
+  @Override
+  public Path getAppleDeveloperDirectory() {
+    return appleDeveloperDirectory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleDeveloperDirectoryProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleDeveloperDirectoryProvider
+        && equalTo((AppleDeveloperDirectoryProvider) another);
+  }
+
+  private boolean equalTo(AppleDeveloperDirectoryProvider another) {
+    return appleDeveloperDirectory.equals(another.appleDeveloperDirectory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleDeveloperDirectory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + appleDeveloperDirectory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleDeveloperDirectoryProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleDeveloperDirectoryProvider")
+        .omitNullValues()
+        .add("appleDeveloperDirectory", appleDeveloperDirectory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleDeveloperDirectoryProvider} instance.
+   * @param appleDeveloperDirectory The value for the {@code appleDeveloperDirectory} attribute
+   * @return An immutable AppleDeveloperDirectoryProvider instance
+   */
+  public static AppleDeveloperDirectoryProvider of(Path appleDeveloperDirectory) {
+    return new AppleDeveloperDirectoryProvider(appleDeveloperDirectory);
+  }
+}
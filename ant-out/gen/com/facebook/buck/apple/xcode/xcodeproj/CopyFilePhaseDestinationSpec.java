@@ -0,0 +1,218 @@
+package com.facebook.buck.apple.xcode.xcodeproj;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractCopyFilePhaseDestinationSpec}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CopyFilePhaseDestinationSpec.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CopyFilePhaseDestinationSpec.of()}.
+ */
+@Generated(from = "AbstractCopyFilePhaseDestinationSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CopyFilePhaseDestinationSpec
+    implements AbstractCopyFilePhaseDestinationSpec {
+  private final PBXCopyFilesBuildPhase.Destination destination;
+  private final @Nullable String path;
+
+  private CopyFilePhaseDestinationSpec(PBXCopyFilesBuildPhase.Destination destination) {
+    this.destination = Objects.requireNonNull(destination, "destination");
+    this.path = null;
+  }
+
+  private CopyFilePhaseDestinationSpec(CopyFilePhaseDestinationSpec.Builder builder) {
+    this.destination = builder.destination;
+    this.path = builder.path;
+  }
+
+  /**
+   * @return The value of the {@code destination} attribute
+   */
+  @Override
+  public PBXCopyFilesBuildPhase.Destination getDestination() {
+    return destination;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Optional<String> getPath() {
+    return Optional.ofNullable(path);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CopyFilePhaseDestinationSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CopyFilePhaseDestinationSpec
+        && equalTo((CopyFilePhaseDestinationSpec) another);
+  }
+
+  private boolean equalTo(CopyFilePhaseDestinationSpec another) {
+    return destination.equals(another.destination)
+        && Objects.equals(path, another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code destination}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + destination.hashCode();
+    h += (h << 5) + Objects.hashCode(path);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CopyFilePhaseDestinationSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CopyFilePhaseDestinationSpec")
+        .omitNullValues()
+        .add("destination", destination)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CopyFilePhaseDestinationSpec} instance.
+   * @param destination The value for the {@code destination} attribute
+   * @return An immutable CopyFilePhaseDestinationSpec instance
+   */
+  public static CopyFilePhaseDestinationSpec of(PBXCopyFilesBuildPhase.Destination destination) {
+    return new CopyFilePhaseDestinationSpec(destination);
+  }
+
+  /**
+   * Creates a builder for {@link CopyFilePhaseDestinationSpec CopyFilePhaseDestinationSpec}.
+   * @return A new CopyFilePhaseDestinationSpec builder
+   */
+  public static CopyFilePhaseDestinationSpec.Builder builder() {
+    return new CopyFilePhaseDestinationSpec.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CopyFilePhaseDestinationSpec CopyFilePhaseDestinationSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractCopyFilePhaseDestinationSpec", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_DESTINATION = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable PBXCopyFilesBuildPhase.Destination destination;
+    private @Nullable String path;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CopyFilePhaseDestinationSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CopyFilePhaseDestinationSpec instance) {
+      return from((AbstractCopyFilePhaseDestinationSpec) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCopyFilePhaseDestinationSpec} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCopyFilePhaseDestinationSpec instance) {
+      Objects.requireNonNull(instance, "instance");
+      setDestination(instance.getDestination());
+      Optional<String> pathOptional = instance.getPath();
+      if (pathOptional.isPresent()) {
+        setPath(pathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CopyFilePhaseDestinationSpec#getDestination() destination} attribute.
+     * @param destination The value for destination 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDestination(PBXCopyFilesBuildPhase.Destination destination) {
+      this.destination = Objects.requireNonNull(destination, "destination");
+      initBits &= ~INIT_BIT_DESTINATION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CopyFilePhaseDestinationSpec#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPath(String path) {
+      this.path = Objects.requireNonNull(path, "path");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CopyFilePhaseDestinationSpec#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPath(Optional<String> path) {
+      this.path = path.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CopyFilePhaseDestinationSpec CopyFilePhaseDestinationSpec}.
+     * @return An immutable instance of CopyFilePhaseDestinationSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CopyFilePhaseDestinationSpec build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CopyFilePhaseDestinationSpec(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_DESTINATION) != 0) attributes.add("destination");
+      return "Cannot build CopyFilePhaseDestinationSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
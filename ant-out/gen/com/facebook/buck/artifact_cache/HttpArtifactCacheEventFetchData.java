@@ -0,0 +1,425 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheEvent.AbstractHttpArtifactCacheEventFetchData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HttpArtifactCacheEventFetchData.builder()}.
+ */
+@Generated(from = "HttpArtifactCacheEvent.AbstractHttpArtifactCacheEventFetchData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class HttpArtifactCacheEventFetchData
+    implements HttpArtifactCacheEvent.AbstractHttpArtifactCacheEventFetchData {
+  private final @Nullable Long responseSizeBytes;
+  private final @Nullable CacheResult fetchResult;
+  private final RuleKey requestedRuleKey;
+  private final @Nullable String artifactContentHash;
+  private final @Nullable Long artifactSizeBytes;
+  private final @Nullable String errorMessage;
+  private final ImmutableSet<RuleKey> associatedRuleKeys;
+
+  private HttpArtifactCacheEventFetchData(HttpArtifactCacheEventFetchData.Builder builder) {
+    this.responseSizeBytes = builder.responseSizeBytes;
+    this.fetchResult = builder.fetchResult;
+    this.requestedRuleKey = builder.requestedRuleKey;
+    this.artifactContentHash = builder.artifactContentHash;
+    this.artifactSizeBytes = builder.artifactSizeBytes;
+    this.errorMessage = builder.errorMessage;
+    this.associatedRuleKeys = builder.associatedRuleKeys.build();
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getResponseSizeBytes() {
+    return Optional.ofNullable(responseSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code fetchResult} attribute
+   */
+  @Override
+  public Optional<CacheResult> getFetchResult() {
+    return Optional.ofNullable(fetchResult);
+  }
+
+  /**
+   * @return The value of the {@code requestedRuleKey} attribute
+   */
+  @Override
+  public RuleKey getRequestedRuleKey() {
+    return requestedRuleKey;
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHash} attribute
+   */
+  @Override
+  public Optional<String> getArtifactContentHash() {
+    return Optional.ofNullable(artifactContentHash);
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getArtifactSizeBytes() {
+    return Optional.ofNullable(artifactSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code errorMessage} attribute
+   */
+  @Override
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  /**
+   * @return The value of the {@code associatedRuleKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getAssociatedRuleKeys() {
+    return associatedRuleKeys;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HttpArtifactCacheEventFetchData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HttpArtifactCacheEventFetchData
+        && equalTo((HttpArtifactCacheEventFetchData) another);
+  }
+
+  private boolean equalTo(HttpArtifactCacheEventFetchData another) {
+    return Objects.equals(responseSizeBytes, another.responseSizeBytes)
+        && Objects.equals(fetchResult, another.fetchResult)
+        && requestedRuleKey.equals(another.requestedRuleKey)
+        && Objects.equals(artifactContentHash, another.artifactContentHash)
+        && Objects.equals(artifactSizeBytes, another.artifactSizeBytes)
+        && Objects.equals(errorMessage, another.errorMessage)
+        && associatedRuleKeys.equals(another.associatedRuleKeys);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code responseSizeBytes}, {@code fetchResult}, {@code requestedRuleKey}, {@code artifactContentHash}, {@code artifactSizeBytes}, {@code errorMessage}, {@code associatedRuleKeys}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(responseSizeBytes);
+    h += (h << 5) + Objects.hashCode(fetchResult);
+    h += (h << 5) + requestedRuleKey.hashCode();
+    h += (h << 5) + Objects.hashCode(artifactContentHash);
+    h += (h << 5) + Objects.hashCode(artifactSizeBytes);
+    h += (h << 5) + Objects.hashCode(errorMessage);
+    h += (h << 5) + associatedRuleKeys.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HttpArtifactCacheEventFetchData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpArtifactCacheEventFetchData")
+        .omitNullValues()
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("fetchResult", fetchResult)
+        .add("requestedRuleKey", requestedRuleKey)
+        .add("artifactContentHash", artifactContentHash)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .add("errorMessage", errorMessage)
+        .add("associatedRuleKeys", associatedRuleKeys)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link HttpArtifactCacheEventFetchData HttpArtifactCacheEventFetchData}.
+   * @return A new HttpArtifactCacheEventFetchData builder
+   */
+  public static HttpArtifactCacheEventFetchData.Builder builder() {
+    return new HttpArtifactCacheEventFetchData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HttpArtifactCacheEventFetchData HttpArtifactCacheEventFetchData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "HttpArtifactCacheEvent.AbstractHttpArtifactCacheEventFetchData", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_REQUESTED_RULE_KEY = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Long responseSizeBytes;
+    private @Nullable CacheResult fetchResult;
+    private @Nullable RuleKey requestedRuleKey;
+    private @Nullable String artifactContentHash;
+    private @Nullable Long artifactSizeBytes;
+    private @Nullable String errorMessage;
+    private ImmutableSet.Builder<RuleKey> associatedRuleKeys = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HttpArtifactCacheEventFetchData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HttpArtifactCacheEventFetchData instance) {
+      return from((HttpArtifactCacheEvent.AbstractHttpArtifactCacheEventFetchData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHttpArtifactCacheEventFetchData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(HttpArtifactCacheEvent.AbstractHttpArtifactCacheEventFetchData instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> responseSizeBytesOptional = instance.getResponseSizeBytes();
+      if (responseSizeBytesOptional.isPresent()) {
+        setResponseSizeBytes(responseSizeBytesOptional);
+      }
+      Optional<CacheResult> fetchResultOptional = instance.getFetchResult();
+      if (fetchResultOptional.isPresent()) {
+        setFetchResult(fetchResultOptional);
+      }
+      setRequestedRuleKey(instance.getRequestedRuleKey());
+      Optional<String> artifactContentHashOptional = instance.getArtifactContentHash();
+      if (artifactContentHashOptional.isPresent()) {
+        setArtifactContentHash(artifactContentHashOptional);
+      }
+      Optional<Long> artifactSizeBytesOptional = instance.getArtifactSizeBytes();
+      if (artifactSizeBytesOptional.isPresent()) {
+        setArtifactSizeBytes(artifactSizeBytesOptional);
+      }
+      Optional<String> errorMessageOptional = instance.getErrorMessage();
+      if (errorMessageOptional.isPresent()) {
+        setErrorMessage(errorMessageOptional);
+      }
+      addAllAssociatedRuleKeys(instance.getAssociatedRuleKeys());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(Optional<Long> responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getFetchResult() fetchResult} to fetchResult.
+     * @param fetchResult The value for fetchResult
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFetchResult(CacheResult fetchResult) {
+      this.fetchResult = Objects.requireNonNull(fetchResult, "fetchResult");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getFetchResult() fetchResult} to fetchResult.
+     * @param fetchResult The value for fetchResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFetchResult(Optional<? extends CacheResult> fetchResult) {
+      this.fetchResult = fetchResult.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheEventFetchData#getRequestedRuleKey() requestedRuleKey} attribute.
+     * @param requestedRuleKey The value for requestedRuleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestedRuleKey(RuleKey requestedRuleKey) {
+      this.requestedRuleKey = Objects.requireNonNull(requestedRuleKey, "requestedRuleKey");
+      initBits &= ~INIT_BIT_REQUESTED_RULE_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(String artifactContentHash) {
+      this.artifactContentHash = Objects.requireNonNull(artifactContentHash, "artifactContentHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(Optional<String> artifactContentHash) {
+      this.artifactContentHash = artifactContentHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(Optional<Long> artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorMessage(String errorMessage) {
+      this.errorMessage = Objects.requireNonNull(errorMessage, "errorMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpArtifactCacheEventFetchData#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HttpArtifactCacheEventFetchData#getAssociatedRuleKeys() associatedRuleKeys} set.
+     * @param element A associatedRuleKeys element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAssociatedRuleKeys(RuleKey element) {
+      this.associatedRuleKeys.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheEventFetchData#getAssociatedRuleKeys() associatedRuleKeys} set.
+     * @param elements An array of associatedRuleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAssociatedRuleKeys(RuleKey... elements) {
+      this.associatedRuleKeys.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpArtifactCacheEventFetchData#getAssociatedRuleKeys() associatedRuleKeys} set.
+     * @param elements An iterable of associatedRuleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssociatedRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.associatedRuleKeys = ImmutableSet.builder();
+      return addAllAssociatedRuleKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheEventFetchData#getAssociatedRuleKeys() associatedRuleKeys} set.
+     * @param elements An iterable of associatedRuleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAssociatedRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.associatedRuleKeys.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HttpArtifactCacheEventFetchData HttpArtifactCacheEventFetchData}.
+     * @return An immutable instance of HttpArtifactCacheEventFetchData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpArtifactCacheEventFetchData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HttpArtifactCacheEventFetchData(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_REQUESTED_RULE_KEY) != 0) attributes.add("requestedRuleKey");
+      return "Cannot build HttpArtifactCacheEventFetchData, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Return type used by the implementations of this abstract class. 
+ */
+@Generated(from = "AbstractAsynchronousCache.AbstractMultiFetchResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class MultiFetchResult
+    implements AbstractAsynchronousCache.AbstractMultiFetchResult {
+  private final ImmutableList<FetchResult> results;
+
+  private MultiFetchResult(Iterable<? extends FetchResult> results) {
+    this.results = ImmutableList.copyOf(results);
+  }
+
+  private MultiFetchResult(MultiFetchResult original, ImmutableList<FetchResult> results) {
+    this.results = results;
+  }
+
+  /**
+   *At least one of the results must be non-skipped. 
+   */
+  @Override
+  public ImmutableList<FetchResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAsynchronousCache.AbstractMultiFetchResult#getResults() results}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final MultiFetchResult withResults(FetchResult... elements) {
+    ImmutableList<FetchResult> newValue = ImmutableList.copyOf(elements);
+    return new MultiFetchResult(this, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAsynchronousCache.AbstractMultiFetchResult#getResults() results}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of results elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final MultiFetchResult withResults(Iterable<? extends FetchResult> elements) {
+    if (this.results == elements) return this;
+    ImmutableList<FetchResult> newValue = ImmutableList.copyOf(elements);
+    return new MultiFetchResult(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MultiFetchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MultiFetchResult
+        && equalTo((MultiFetchResult) another);
+  }
+
+  private boolean equalTo(MultiFetchResult another) {
+    return results.equals(another.results);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code results}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + results.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MultiFetchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MultiFetchResult")
+        .omitNullValues()
+        .add("results", results)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MultiFetchResult} instance.
+   * @param results The value for the {@code results} attribute
+   * @return An immutable MultiFetchResult instance
+   */
+  public static MultiFetchResult of(ImmutableList<FetchResult> results) {
+    return of((Iterable<? extends FetchResult>) results);
+  }
+
+  /**
+   * Construct a new immutable {@code MultiFetchResult} instance.
+   * @param results The value for the {@code results} attribute
+   * @return An immutable MultiFetchResult instance
+   */
+  public static MultiFetchResult of(Iterable<? extends FetchResult> results) {
+    return new MultiFetchResult(results);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAsynchronousCache.AbstractMultiFetchResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MultiFetchResult instance
+   */
+  public static MultiFetchResult copyOf(AbstractAsynchronousCache.AbstractMultiFetchResult instance) {
+    if (instance instanceof MultiFetchResult) {
+      return (MultiFetchResult) instance;
+    }
+    return MultiFetchResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link MultiFetchResult MultiFetchResult}.
+   * @return A new MultiFetchResult builder
+   */
+  public static MultiFetchResult.Builder builder() {
+    return new MultiFetchResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MultiFetchResult MultiFetchResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAsynchronousCache.AbstractMultiFetchResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<FetchResult> results = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractMultiFetchResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAsynchronousCache.AbstractMultiFetchResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllResults(instance.getResults());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAsynchronousCache.AbstractMultiFetchResult#getResults() results} list.
+     * @param element A results element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResults(FetchResult element) {
+      this.results.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAsynchronousCache.AbstractMultiFetchResult#getResults() results} list.
+     * @param elements An array of results elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResults(FetchResult... elements) {
+      this.results.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAsynchronousCache.AbstractMultiFetchResult#getResults() results} list.
+     * @param elements An iterable of results elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResults(Iterable<? extends FetchResult> elements) {
+      this.results = ImmutableList.builder();
+      return addAllResults(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAsynchronousCache.AbstractMultiFetchResult#getResults() results} list.
+     * @param elements An iterable of results elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResults(Iterable<? extends FetchResult> elements) {
+      this.results.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link MultiFetchResult MultiFetchResult}.
+     * @return An immutable instance of MultiFetchResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MultiFetchResult build() {
+      return new MultiFetchResult(null, results.build());
+    }
+  }
+}
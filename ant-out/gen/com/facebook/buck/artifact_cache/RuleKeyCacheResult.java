@@ -0,0 +1,319 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.rules.keys.RuleKeyType;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractRuleKeyCacheResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RuleKeyCacheResult.builder()}.
+ */
+@Generated(from = "AbstractRuleKeyCacheResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class RuleKeyCacheResult extends AbstractRuleKeyCacheResult {
+  private final String buildTarget;
+  private final String ruleKey;
+  private final long requestTimestampMillis;
+  private final RuleKeyType ruleKeyType;
+  private final CacheResultType cacheResult;
+  private final @Nullable String twoLevelContentHashKey;
+
+  private RuleKeyCacheResult(RuleKeyCacheResult.Builder builder) {
+    this.buildTarget = builder.buildTarget;
+    this.ruleKey = builder.ruleKey;
+    this.requestTimestampMillis = builder.requestTimestampMillis;
+    this.ruleKeyType = builder.ruleKeyType;
+    this.cacheResult = builder.cacheResult;
+    this.twoLevelContentHashKey = builder.twoLevelContentHashKey;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public String buildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public String ruleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code requestTimestampMillis} attribute
+   */
+  @Override
+  public long requestTimestampMillis() {
+    return requestTimestampMillis;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyType} attribute
+   */
+  @Override
+  public RuleKeyType ruleKeyType() {
+    return ruleKeyType;
+  }
+
+  /**
+   * @return The value of the {@code cacheResult} attribute
+   */
+  @Override
+  public CacheResultType cacheResult() {
+    return cacheResult;
+  }
+
+  /**
+   * @return The value of the {@code twoLevelContentHashKey} attribute
+   */
+  @Override
+  public Optional<String> twoLevelContentHashKey() {
+    return Optional.ofNullable(twoLevelContentHashKey);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyCacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyCacheResult
+        && equalTo((RuleKeyCacheResult) another);
+  }
+
+  private boolean equalTo(RuleKeyCacheResult another) {
+    return buildTarget.equals(another.buildTarget)
+        && ruleKey.equals(another.ruleKey)
+        && requestTimestampMillis == another.requestTimestampMillis
+        && ruleKeyType.equals(another.ruleKeyType)
+        && cacheResult.equals(another.cacheResult)
+        && Objects.equals(twoLevelContentHashKey, another.twoLevelContentHashKey);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code ruleKey}, {@code requestTimestampMillis}, {@code ruleKeyType}, {@code cacheResult}, {@code twoLevelContentHashKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + Longs.hashCode(requestTimestampMillis);
+    h += (h << 5) + ruleKeyType.hashCode();
+    h += (h << 5) + cacheResult.hashCode();
+    h += (h << 5) + Objects.hashCode(twoLevelContentHashKey);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyCacheResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyCacheResult")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("ruleKey", ruleKey)
+        .add("requestTimestampMillis", requestTimestampMillis)
+        .add("ruleKeyType", ruleKeyType)
+        .add("cacheResult", cacheResult)
+        .add("twoLevelContentHashKey", twoLevelContentHashKey)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link RuleKeyCacheResult RuleKeyCacheResult}.
+   * @return A new RuleKeyCacheResult builder
+   */
+  public static RuleKeyCacheResult.Builder builder() {
+    return new RuleKeyCacheResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RuleKeyCacheResult RuleKeyCacheResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractRuleKeyCacheResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_TARGET = 0x1L;
+    private static final long INIT_BIT_RULE_KEY = 0x2L;
+    private static final long INIT_BIT_REQUEST_TIMESTAMP_MILLIS = 0x4L;
+    private static final long INIT_BIT_RULE_KEY_TYPE = 0x8L;
+    private static final long INIT_BIT_CACHE_RESULT = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable String buildTarget;
+    private @Nullable String ruleKey;
+    private long requestTimestampMillis;
+    private @Nullable RuleKeyType ruleKeyType;
+    private @Nullable CacheResultType cacheResult;
+    private @Nullable String twoLevelContentHashKey;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RuleKeyCacheResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RuleKeyCacheResult instance) {
+      return from((AbstractRuleKeyCacheResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRuleKeyCacheResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractRuleKeyCacheResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildTarget(instance.buildTarget());
+      setRuleKey(instance.ruleKey());
+      setRequestTimestampMillis(instance.requestTimestampMillis());
+      setRuleKeyType(instance.ruleKeyType());
+      setCacheResult(instance.cacheResult());
+      Optional<String> twoLevelContentHashKeyOptional = instance.twoLevelContentHashKey();
+      if (twoLevelContentHashKeyOptional.isPresent()) {
+        setTwoLevelContentHashKey(twoLevelContentHashKeyOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyCacheResult#buildTarget() buildTarget} attribute.
+     * @param buildTarget The value for buildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(String buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      initBits &= ~INIT_BIT_BUILD_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyCacheResult#ruleKey() ruleKey} attribute.
+     * @param ruleKey The value for ruleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKey(String ruleKey) {
+      this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+      initBits &= ~INIT_BIT_RULE_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyCacheResult#requestTimestampMillis() requestTimestampMillis} attribute.
+     * @param requestTimestampMillis The value for requestTimestampMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestTimestampMillis(long requestTimestampMillis) {
+      this.requestTimestampMillis = requestTimestampMillis;
+      initBits &= ~INIT_BIT_REQUEST_TIMESTAMP_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyCacheResult#ruleKeyType() ruleKeyType} attribute.
+     * @param ruleKeyType The value for ruleKeyType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyType(RuleKeyType ruleKeyType) {
+      this.ruleKeyType = Objects.requireNonNull(ruleKeyType, "ruleKeyType");
+      initBits &= ~INIT_BIT_RULE_KEY_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyCacheResult#cacheResult() cacheResult} attribute.
+     * @param cacheResult The value for cacheResult 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResult(CacheResultType cacheResult) {
+      this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+      initBits &= ~INIT_BIT_CACHE_RESULT;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RuleKeyCacheResult#twoLevelContentHashKey() twoLevelContentHashKey} to twoLevelContentHashKey.
+     * @param twoLevelContentHashKey The value for twoLevelContentHashKey
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTwoLevelContentHashKey(String twoLevelContentHashKey) {
+      this.twoLevelContentHashKey = Objects.requireNonNull(twoLevelContentHashKey, "twoLevelContentHashKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link RuleKeyCacheResult#twoLevelContentHashKey() twoLevelContentHashKey} to twoLevelContentHashKey.
+     * @param twoLevelContentHashKey The value for twoLevelContentHashKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTwoLevelContentHashKey(Optional<String> twoLevelContentHashKey) {
+      this.twoLevelContentHashKey = twoLevelContentHashKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RuleKeyCacheResult RuleKeyCacheResult}.
+     * @return An immutable instance of RuleKeyCacheResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RuleKeyCacheResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RuleKeyCacheResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BUILD_TARGET) != 0) attributes.add("buildTarget");
+      if ((initBits & INIT_BIT_RULE_KEY) != 0) attributes.add("ruleKey");
+      if ((initBits & INIT_BIT_REQUEST_TIMESTAMP_MILLIS) != 0) attributes.add("requestTimestampMillis");
+      if ((initBits & INIT_BIT_RULE_KEY_TYPE) != 0) attributes.add("ruleKeyType");
+      if ((initBits & INIT_BIT_CACHE_RESULT) != 0) attributes.add("cacheResult");
+      return "Cannot build RuleKeyCacheResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
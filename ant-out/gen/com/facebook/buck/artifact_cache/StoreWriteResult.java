@@ -0,0 +1,192 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code StoreWriteResult.builder()}.
+ */
+@Generated(from = "HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class StoreWriteResult
+    extends HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult {
+  private final HashCode artifactContentHashCode;
+  private final long artifactSizeBytes;
+
+  private StoreWriteResult(StoreWriteResult.Builder builder) {
+    this.artifactContentHashCode = builder.artifactContentHashCode;
+    this.artifactSizeBytes = builder.artifactSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHashCode} attribute
+   */
+  @Override
+  public HashCode getArtifactContentHashCode() {
+    return artifactContentHashCode;
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public long getArtifactSizeBytes() {
+    return artifactSizeBytes;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StoreWriteResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StoreWriteResult
+        && equalTo((StoreWriteResult) another);
+  }
+
+  private boolean equalTo(StoreWriteResult another) {
+    return artifactContentHashCode.equals(another.artifactContentHashCode)
+        && artifactSizeBytes == another.artifactSizeBytes;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code artifactContentHashCode}, {@code artifactSizeBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + artifactContentHashCode.hashCode();
+    h += (h << 5) + Longs.hashCode(artifactSizeBytes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StoreWriteResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StoreWriteResult")
+        .omitNullValues()
+        .add("artifactContentHashCode", artifactContentHashCode)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link StoreWriteResult StoreWriteResult}.
+   * @return A new StoreWriteResult builder
+   */
+  public static StoreWriteResult.Builder builder() {
+    return new StoreWriteResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link StoreWriteResult StoreWriteResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ARTIFACT_CONTENT_HASH_CODE = 0x1L;
+    private static final long INIT_BIT_ARTIFACT_SIZE_BYTES = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable HashCode artifactContentHashCode;
+    private long artifactSizeBytes;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StoreWriteResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(StoreWriteResult instance) {
+      return from((HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractStoreWriteResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setArtifactContentHashCode(instance.getArtifactContentHashCode());
+      setArtifactSizeBytes(instance.getArtifactSizeBytes());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StoreWriteResult#getArtifactContentHashCode() artifactContentHashCode} attribute.
+     * @param artifactContentHashCode The value for artifactContentHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHashCode(HashCode artifactContentHashCode) {
+      this.artifactContentHashCode = Objects.requireNonNull(artifactContentHashCode, "artifactContentHashCode");
+      initBits &= ~INIT_BIT_ARTIFACT_CONTENT_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StoreWriteResult#getArtifactSizeBytes() artifactSizeBytes} attribute.
+     * @param artifactSizeBytes The value for artifactSizeBytes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      initBits &= ~INIT_BIT_ARTIFACT_SIZE_BYTES;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link StoreWriteResult StoreWriteResult}.
+     * @return An immutable instance of StoreWriteResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StoreWriteResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new StoreWriteResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_ARTIFACT_CONTENT_HASH_CODE) != 0) attributes.add("artifactContentHashCode");
+      if ((initBits & INIT_BIT_ARTIFACT_SIZE_BYTES) != 0) attributes.add("artifactSizeBytes");
+      return "Cannot build StoreWriteResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
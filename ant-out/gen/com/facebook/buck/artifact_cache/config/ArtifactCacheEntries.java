@@ -0,0 +1,302 @@
+package com.facebook.buck.artifact_cache.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractArtifactCacheEntries}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ArtifactCacheEntries.builder()}.
+ */
+@Generated(from = "AbstractArtifactCacheEntries", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ArtifactCacheEntries
+    extends AbstractArtifactCacheEntries {
+  private final ImmutableSet<HttpCacheEntry> httpCacheEntries;
+  private final ImmutableSet<DirCacheEntry> dirCacheEntries;
+  private final ImmutableSet<SQLiteCacheEntry> sQLiteCacheEntries;
+
+  private ArtifactCacheEntries(ArtifactCacheEntries.Builder builder) {
+    this.httpCacheEntries = builder.httpCacheEntries.build();
+    this.dirCacheEntries = builder.dirCacheEntries.build();
+    this.sQLiteCacheEntries = builder.sQLiteCacheEntries.build();
+  }
+
+  /**
+   * @return The value of the {@code httpCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<HttpCacheEntry> getHttpCacheEntries() {
+    return httpCacheEntries;
+  }
+
+  /**
+   * @return The value of the {@code dirCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<DirCacheEntry> getDirCacheEntries() {
+    return dirCacheEntries;
+  }
+
+  /**
+   * @return The value of the {@code sQLiteCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<SQLiteCacheEntry> getSQLiteCacheEntries() {
+    return sQLiteCacheEntries;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ArtifactCacheEntries} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ArtifactCacheEntries
+        && equalTo((ArtifactCacheEntries) another);
+  }
+
+  private boolean equalTo(ArtifactCacheEntries another) {
+    return httpCacheEntries.equals(another.httpCacheEntries)
+        && dirCacheEntries.equals(another.dirCacheEntries)
+        && sQLiteCacheEntries.equals(another.sQLiteCacheEntries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code httpCacheEntries}, {@code dirCacheEntries}, {@code sQLiteCacheEntries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + httpCacheEntries.hashCode();
+    h += (h << 5) + dirCacheEntries.hashCode();
+    h += (h << 5) + sQLiteCacheEntries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArtifactCacheEntries} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArtifactCacheEntries")
+        .omitNullValues()
+        .add("httpCacheEntries", httpCacheEntries)
+        .add("dirCacheEntries", dirCacheEntries)
+        .add("sQLiteCacheEntries", sQLiteCacheEntries)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ArtifactCacheEntries ArtifactCacheEntries}.
+   * @return A new ArtifactCacheEntries builder
+   */
+  public static ArtifactCacheEntries.Builder builder() {
+    return new ArtifactCacheEntries.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ArtifactCacheEntries ArtifactCacheEntries}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractArtifactCacheEntries", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<HttpCacheEntry> httpCacheEntries = ImmutableSet.builder();
+    private ImmutableSet.Builder<DirCacheEntry> dirCacheEntries = ImmutableSet.builder();
+    private ImmutableSet.Builder<SQLiteCacheEntry> sQLiteCacheEntries = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ArtifactCacheEntries} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ArtifactCacheEntries instance) {
+      return from((AbstractArtifactCacheEntries) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractArtifactCacheEntries} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractArtifactCacheEntries instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllHttpCacheEntries(instance.getHttpCacheEntries());
+      addAllDirCacheEntries(instance.getDirCacheEntries());
+      addAllSQLiteCacheEntries(instance.getSQLiteCacheEntries());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param element A httpCacheEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHttpCacheEntries(HttpCacheEntry element) {
+      this.httpCacheEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param elements An array of httpCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHttpCacheEntries(HttpCacheEntry... elements) {
+      this.httpCacheEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param elements An iterable of httpCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHttpCacheEntries(Iterable<? extends HttpCacheEntry> elements) {
+      this.httpCacheEntries = ImmutableSet.builder();
+      return addAllHttpCacheEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheEntries#getHttpCacheEntries() httpCacheEntries} set.
+     * @param elements An iterable of httpCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllHttpCacheEntries(Iterable<? extends HttpCacheEntry> elements) {
+      this.httpCacheEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param element A dirCacheEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirCacheEntries(DirCacheEntry element) {
+      this.dirCacheEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param elements An array of dirCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirCacheEntries(DirCacheEntry... elements) {
+      this.dirCacheEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param elements An iterable of dirCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirCacheEntries(Iterable<? extends DirCacheEntry> elements) {
+      this.dirCacheEntries = ImmutableSet.builder();
+      return addAllDirCacheEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheEntries#getDirCacheEntries() dirCacheEntries} set.
+     * @param elements An iterable of dirCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDirCacheEntries(Iterable<? extends DirCacheEntry> elements) {
+      this.dirCacheEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param element A sQLiteCacheEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSQLiteCacheEntries(SQLiteCacheEntry element) {
+      this.sQLiteCacheEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param elements An array of sQLiteCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSQLiteCacheEntries(SQLiteCacheEntry... elements) {
+      this.sQLiteCacheEntries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param elements An iterable of sQLiteCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSQLiteCacheEntries(Iterable<? extends SQLiteCacheEntry> elements) {
+      this.sQLiteCacheEntries = ImmutableSet.builder();
+      return addAllSQLiteCacheEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheEntries#getSQLiteCacheEntries() sQLiteCacheEntries} set.
+     * @param elements An iterable of sQLiteCacheEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSQLiteCacheEntries(Iterable<? extends SQLiteCacheEntry> elements) {
+      this.sQLiteCacheEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ArtifactCacheEntries ArtifactCacheEntries}.
+     * @return An immutable instance of ArtifactCacheEntries
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ArtifactCacheEntries build() {
+      return new ArtifactCacheEntries(this);
+    }
+  }
+}
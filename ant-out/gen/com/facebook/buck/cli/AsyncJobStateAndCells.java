@@ -0,0 +1,104 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.distributed.DistBuildCellIndexer;
+import com.facebook.buck.distributed.thrift.BuildJobState;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractAsyncJobStateAndCells}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code AsyncJobStateAndCells.of()}.
+ */
+@Generated(from = "AbstractAsyncJobStateAndCells", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AsyncJobStateAndCells extends AbstractAsyncJobStateAndCells {
+  private final ListenableFuture<BuildJobState> asyncJobState;
+  private final DistBuildCellIndexer distBuildCellIndexer;
+
+  private AsyncJobStateAndCells(
+      ListenableFuture<BuildJobState> asyncJobState,
+      DistBuildCellIndexer distBuildCellIndexer) {
+    this.asyncJobState = Objects.requireNonNull(asyncJobState, "asyncJobState");
+    this.distBuildCellIndexer = Objects.requireNonNull(distBuildCellIndexer, "distBuildCellIndexer");
+  }
+
+  /**
+   * @return The value of the {@code asyncJobState} attribute
+   */
+  @Override
+  public ListenableFuture<BuildJobState> getAsyncJobState() {
+    return asyncJobState;
+  }
+
+  /**
+   * @return The value of the {@code distBuildCellIndexer} attribute
+   */
+  @Override
+  public DistBuildCellIndexer getDistBuildCellIndexer() {
+    return distBuildCellIndexer;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AsyncJobStateAndCells} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AsyncJobStateAndCells
+        && equalTo((AsyncJobStateAndCells) another);
+  }
+
+  private boolean equalTo(AsyncJobStateAndCells another) {
+    return asyncJobState.equals(another.asyncJobState)
+        && distBuildCellIndexer.equals(another.distBuildCellIndexer);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code asyncJobState}, {@code distBuildCellIndexer}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + asyncJobState.hashCode();
+    h += (h << 5) + distBuildCellIndexer.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AsyncJobStateAndCells} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AsyncJobStateAndCells")
+        .omitNullValues()
+        .add("asyncJobState", asyncJobState)
+        .add("distBuildCellIndexer", distBuildCellIndexer)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AsyncJobStateAndCells} instance.
+   * @param asyncJobState The value for the {@code asyncJobState} attribute
+   * @param distBuildCellIndexer The value for the {@code distBuildCellIndexer} attribute
+   * @return An immutable AsyncJobStateAndCells instance
+   */
+  public static AsyncJobStateAndCells of(ListenableFuture<BuildJobState> asyncJobState, DistBuildCellIndexer distBuildCellIndexer) {
+    return new AsyncJobStateAndCells(asyncJobState, distBuildCellIndexer);
+  }
+}
@@ -0,0 +1,99 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractCliConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code CliConfig.of()}.
+ */
+@Generated(from = "AbstractCliConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CliConfig extends AbstractCliConfig {
+  private final BuckConfig delegate;
+  private transient final JsonAttributeFormat jsonAttributeFormat;
+
+  private CliConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.jsonAttributeFormat = Objects.requireNonNull(super.getJsonAttributeFormat(), "jsonAttributeFormat");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   *When printing out json representation of targets, what formatting should be applied 
+   */
+  @Override
+  public JsonAttributeFormat getJsonAttributeFormat() {
+    return jsonAttributeFormat;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CliConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CliConfig
+        && equalTo((CliConfig) another);
+  }
+
+  private boolean equalTo(CliConfig another) {
+    return delegate.equals(another.delegate)
+        && jsonAttributeFormat.equals(another.jsonAttributeFormat);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}, {@code jsonAttributeFormat}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    h += (h << 5) + jsonAttributeFormat.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CliConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CliConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .add("jsonAttributeFormat", jsonAttributeFormat)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CliConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable CliConfig instance
+   */
+  public static CliConfig of(BuckConfig delegate) {
+    return new CliConfig(delegate);
+  }
+}
@@ -0,0 +1,284 @@
+package com.facebook.buck.cli;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AuditConfigCommand.AbstractConfigValue}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ConfigValue.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ConfigValue.of()}.
+ */
+@Generated(from = "AuditConfigCommand.AbstractConfigValue", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ConfigValue extends AuditConfigCommand.AbstractConfigValue {
+  private final String key;
+  private final String section;
+  private final String property;
+  private final @Nullable String value;
+
+  private ConfigValue(
+      String key,
+      String section,
+      String property,
+      Optional<String> value) {
+    this.key = Objects.requireNonNull(key, "key");
+    this.section = Objects.requireNonNull(section, "section");
+    this.property = Objects.requireNonNull(property, "property");
+    this.value = value.orElse(null);
+  }
+
+  private ConfigValue(ConfigValue.Builder builder) {
+    this.key = builder.key;
+    this.section = builder.section;
+    this.property = builder.property;
+    this.value = builder.value;
+  }
+
+  /**
+   * @return The value of the {@code key} attribute
+   */
+  @Override
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * @return The value of the {@code section} attribute
+   */
+  @Override
+  public String getSection() {
+    return section;
+  }
+
+  /**
+   * @return The value of the {@code property} attribute
+   */
+  @Override
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public Optional<String> getValue() {
+    return Optional.ofNullable(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ConfigValue} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ConfigValue
+        && equalTo((ConfigValue) another);
+  }
+
+  private boolean equalTo(ConfigValue another) {
+    return key.equals(another.key)
+        && section.equals(another.section)
+        && property.equals(another.property)
+        && Objects.equals(value, another.value);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code key}, {@code section}, {@code property}, {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + key.hashCode();
+    h += (h << 5) + section.hashCode();
+    h += (h << 5) + property.hashCode();
+    h += (h << 5) + Objects.hashCode(value);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConfigValue} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConfigValue")
+        .omitNullValues()
+        .add("key", key)
+        .add("section", section)
+        .add("property", property)
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ConfigValue} instance.
+   * @param key The value for the {@code key} attribute
+   * @param section The value for the {@code section} attribute
+   * @param property The value for the {@code property} attribute
+   * @param value The value for the {@code value} attribute
+   * @return An immutable ConfigValue instance
+   */
+  public static ConfigValue of(String key, String section, String property, Optional<String> value) {
+    return new ConfigValue(key, section, property, value);
+  }
+
+  /**
+   * Creates a builder for {@link ConfigValue ConfigValue}.
+   * @return A new ConfigValue builder
+   */
+  public static ConfigValue.Builder builder() {
+    return new ConfigValue.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ConfigValue ConfigValue}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AuditConfigCommand.AbstractConfigValue", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_KEY = 0x1L;
+    private static final long INIT_BIT_SECTION = 0x2L;
+    private static final long INIT_BIT_PROPERTY = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String key;
+    private @Nullable String section;
+    private @Nullable String property;
+    private @Nullable String value;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ConfigValue} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ConfigValue instance) {
+      return from((AuditConfigCommand.AbstractConfigValue) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractConfigValue} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AuditConfigCommand.AbstractConfigValue instance) {
+      Objects.requireNonNull(instance, "instance");
+      setKey(instance.getKey());
+      setSection(instance.getSection());
+      setProperty(instance.getProperty());
+      Optional<String> valueOptional = instance.getValue();
+      if (valueOptional.isPresent()) {
+        setValue(valueOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConfigValue#getKey() key} attribute.
+     * @param key The value for key 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKey(String key) {
+      this.key = Objects.requireNonNull(key, "key");
+      initBits &= ~INIT_BIT_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConfigValue#getSection() section} attribute.
+     * @param section The value for section 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSection(String section) {
+      this.section = Objects.requireNonNull(section, "section");
+      initBits &= ~INIT_BIT_SECTION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConfigValue#getProperty() property} attribute.
+     * @param property The value for property 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProperty(String property) {
+      this.property = Objects.requireNonNull(property, "property");
+      initBits &= ~INIT_BIT_PROPERTY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConfigValue#getValue() value} to value.
+     * @param value The value for value
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValue(String value) {
+      this.value = Objects.requireNonNull(value, "value");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ConfigValue#getValue() value} to value.
+     * @param value The value for value
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValue(Optional<String> value) {
+      this.value = value.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ConfigValue ConfigValue}.
+     * @return An immutable instance of ConfigValue
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ConfigValue build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ConfigValue(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_KEY) != 0) attributes.add("key");
+      if ((initBits & INIT_BIT_SECTION) != 0) attributes.add("section");
+      if ((initBits & INIT_BIT_PROPERTY) != 0) attributes.add("property");
+      return "Cannot build ConfigValue, some of required attributes are not set " + attributes;
+    }
+  }
+}
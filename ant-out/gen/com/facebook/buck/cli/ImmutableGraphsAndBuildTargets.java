@@ -0,0 +1,115 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.graph.ActionAndTargetGraphs;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildCommand.GraphsAndBuildTargets}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableGraphsAndBuildTargets.of()}.
+ */
+@Generated(from = "BuildCommand.GraphsAndBuildTargets", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableGraphsAndBuildTargets
+    implements BuildCommand.GraphsAndBuildTargets {
+  private final ActionAndTargetGraphs graphs;
+  private final ImmutableSet<BuildTarget> buildTargets;
+
+  private ImmutableGraphsAndBuildTargets(
+      ActionAndTargetGraphs graphs,
+      Iterable<? extends BuildTarget> buildTargets) {
+    this.graphs = Objects.requireNonNull(graphs, "graphs");
+    this.buildTargets = ImmutableSet.copyOf(buildTargets);
+  }
+
+  /**
+   * @return The value of the {@code graphs} attribute
+   */
+  @Override
+  public ActionAndTargetGraphs getGraphs() {
+    return graphs;
+  }
+
+  /**
+   * @return The value of the {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBuildTargets() {
+    return buildTargets;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableGraphsAndBuildTargets} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableGraphsAndBuildTargets
+        && equalTo((ImmutableGraphsAndBuildTargets) another);
+  }
+
+  private boolean equalTo(ImmutableGraphsAndBuildTargets another) {
+    return graphs.equals(another.graphs)
+        && buildTargets.equals(another.buildTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code graphs}, {@code buildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + graphs.hashCode();
+    h += (h << 5) + buildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GraphsAndBuildTargets} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GraphsAndBuildTargets")
+        .omitNullValues()
+        .add("graphs", graphs)
+        .add("buildTargets", buildTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code GraphsAndBuildTargets} instance.
+   * @param graphs The value for the {@code graphs} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable GraphsAndBuildTargets instance
+   */
+  public static ImmutableGraphsAndBuildTargets of(ActionAndTargetGraphs graphs, ImmutableSet<BuildTarget> buildTargets) {
+    return of(graphs, (Iterable<? extends BuildTarget>) buildTargets);
+  }
+
+  /**
+   * Construct a new immutable {@code GraphsAndBuildTargets} instance.
+   * @param graphs The value for the {@code graphs} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable GraphsAndBuildTargets instance
+   */
+  public static ImmutableGraphsAndBuildTargets of(ActionAndTargetGraphs graphs, Iterable<? extends BuildTarget> buildTargets) {
+    return new ImmutableGraphsAndBuildTargets(graphs, buildTargets);
+  }
+}
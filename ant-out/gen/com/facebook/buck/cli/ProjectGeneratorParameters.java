@@ -0,0 +1,329 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.parser.TargetNodeSpec;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractProjectGeneratorParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ProjectGeneratorParameters.builder()}.
+ */
+@Generated(from = "AbstractProjectGeneratorParameters", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ProjectGeneratorParameters extends AbstractProjectGeneratorParameters {
+  private final CommandRunnerParams commandRunnerParams;
+  private final boolean dryRun;
+  private final boolean withTests;
+  private final boolean withoutTests;
+  private final boolean withoutDependenciesTests;
+  private final boolean enableParserProfiling;
+  private final Function<Iterable<String>, ImmutableList<TargetNodeSpec>> argsParser;
+
+  private ProjectGeneratorParameters(ProjectGeneratorParameters.Builder builder) {
+    this.commandRunnerParams = builder.commandRunnerParams;
+    this.dryRun = builder.dryRun;
+    this.withTests = builder.withTests;
+    this.withoutTests = builder.withoutTests;
+    this.withoutDependenciesTests = builder.withoutDependenciesTests;
+    this.enableParserProfiling = builder.enableParserProfiling;
+    this.argsParser = builder.argsParser;
+  }
+
+  /**
+   * @return The value of the {@code commandRunnerParams} attribute
+   */
+  @Override
+  public CommandRunnerParams getCommandRunnerParams() {
+    return commandRunnerParams;
+  }
+
+  /**
+   * @return The value of the {@code dryRun} attribute
+   */
+  @Override
+  public boolean isDryRun() {
+    return dryRun;
+  }
+
+  /**
+   * @return The value of the {@code withTests} attribute
+   */
+  @Override
+  public boolean isWithTests() {
+    return withTests;
+  }
+
+  /**
+   * @return The value of the {@code withoutTests} attribute
+   */
+  @Override
+  public boolean isWithoutTests() {
+    return withoutTests;
+  }
+
+  /**
+   * @return The value of the {@code withoutDependenciesTests} attribute
+   */
+  @Override
+  public boolean isWithoutDependenciesTests() {
+    return withoutDependenciesTests;
+  }
+
+  /**
+   * @return The value of the {@code enableParserProfiling} attribute
+   */
+  @Override
+  public boolean getEnableParserProfiling() {
+    return enableParserProfiling;
+  }
+
+  /**
+   * @return The value of the {@code argsParser} attribute
+   */
+  @Override
+  public Function<Iterable<String>, ImmutableList<TargetNodeSpec>> getArgsParser() {
+    return argsParser;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProjectGeneratorParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProjectGeneratorParameters
+        && equalTo((ProjectGeneratorParameters) another);
+  }
+
+  private boolean equalTo(ProjectGeneratorParameters another) {
+    return commandRunnerParams.equals(another.commandRunnerParams)
+        && dryRun == another.dryRun
+        && withTests == another.withTests
+        && withoutTests == another.withoutTests
+        && withoutDependenciesTests == another.withoutDependenciesTests
+        && enableParserProfiling == another.enableParserProfiling
+        && argsParser.equals(another.argsParser);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code commandRunnerParams}, {@code dryRun}, {@code withTests}, {@code withoutTests}, {@code withoutDependenciesTests}, {@code enableParserProfiling}, {@code argsParser}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + commandRunnerParams.hashCode();
+    h += (h << 5) + Booleans.hashCode(dryRun);
+    h += (h << 5) + Booleans.hashCode(withTests);
+    h += (h << 5) + Booleans.hashCode(withoutTests);
+    h += (h << 5) + Booleans.hashCode(withoutDependenciesTests);
+    h += (h << 5) + Booleans.hashCode(enableParserProfiling);
+    h += (h << 5) + argsParser.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProjectGeneratorParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectGeneratorParameters")
+        .omitNullValues()
+        .add("commandRunnerParams", commandRunnerParams)
+        .add("dryRun", dryRun)
+        .add("withTests", withTests)
+        .add("withoutTests", withoutTests)
+        .add("withoutDependenciesTests", withoutDependenciesTests)
+        .add("enableParserProfiling", enableParserProfiling)
+        .add("argsParser", argsParser)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ProjectGeneratorParameters ProjectGeneratorParameters}.
+   * @return A new ProjectGeneratorParameters builder
+   */
+  public static ProjectGeneratorParameters.Builder builder() {
+    return new ProjectGeneratorParameters.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProjectGeneratorParameters ProjectGeneratorParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractProjectGeneratorParameters", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_COMMAND_RUNNER_PARAMS = 0x1L;
+    private static final long INIT_BIT_DRY_RUN = 0x2L;
+    private static final long INIT_BIT_WITH_TESTS = 0x4L;
+    private static final long INIT_BIT_WITHOUT_TESTS = 0x8L;
+    private static final long INIT_BIT_WITHOUT_DEPENDENCIES_TESTS = 0x10L;
+    private static final long INIT_BIT_ENABLE_PARSER_PROFILING = 0x20L;
+    private static final long INIT_BIT_ARGS_PARSER = 0x40L;
+    private long initBits = 0x7fL;
+
+    private @Nullable CommandRunnerParams commandRunnerParams;
+    private boolean dryRun;
+    private boolean withTests;
+    private boolean withoutTests;
+    private boolean withoutDependenciesTests;
+    private boolean enableParserProfiling;
+    private @Nullable Function<Iterable<String>, ImmutableList<TargetNodeSpec>> argsParser;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractProjectGeneratorParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractProjectGeneratorParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCommandRunnerParams(instance.getCommandRunnerParams());
+      setDryRun(instance.isDryRun());
+      setWithTests(instance.isWithTests());
+      setWithoutTests(instance.isWithoutTests());
+      setWithoutDependenciesTests(instance.isWithoutDependenciesTests());
+      setEnableParserProfiling(instance.getEnableParserProfiling());
+      setArgsParser(instance.getArgsParser());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectGeneratorParameters#getCommandRunnerParams() commandRunnerParams} attribute.
+     * @param commandRunnerParams The value for commandRunnerParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCommandRunnerParams(CommandRunnerParams commandRunnerParams) {
+      this.commandRunnerParams = Objects.requireNonNull(commandRunnerParams, "commandRunnerParams");
+      initBits &= ~INIT_BIT_COMMAND_RUNNER_PARAMS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectGeneratorParameters#isDryRun() dryRun} attribute.
+     * @param dryRun The value for dryRun 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDryRun(boolean dryRun) {
+      this.dryRun = dryRun;
+      initBits &= ~INIT_BIT_DRY_RUN;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectGeneratorParameters#isWithTests() withTests} attribute.
+     * @param withTests The value for withTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWithTests(boolean withTests) {
+      this.withTests = withTests;
+      initBits &= ~INIT_BIT_WITH_TESTS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectGeneratorParameters#isWithoutTests() withoutTests} attribute.
+     * @param withoutTests The value for withoutTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWithoutTests(boolean withoutTests) {
+      this.withoutTests = withoutTests;
+      initBits &= ~INIT_BIT_WITHOUT_TESTS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectGeneratorParameters#isWithoutDependenciesTests() withoutDependenciesTests} attribute.
+     * @param withoutDependenciesTests The value for withoutDependenciesTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWithoutDependenciesTests(boolean withoutDependenciesTests) {
+      this.withoutDependenciesTests = withoutDependenciesTests;
+      initBits &= ~INIT_BIT_WITHOUT_DEPENDENCIES_TESTS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectGeneratorParameters#getEnableParserProfiling() enableParserProfiling} attribute.
+     * @param enableParserProfiling The value for enableParserProfiling 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnableParserProfiling(boolean enableParserProfiling) {
+      this.enableParserProfiling = enableParserProfiling;
+      initBits &= ~INIT_BIT_ENABLE_PARSER_PROFILING;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectGeneratorParameters#getArgsParser() argsParser} attribute.
+     * @param argsParser The value for argsParser 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArgsParser(Function<Iterable<String>, ImmutableList<TargetNodeSpec>> argsParser) {
+      this.argsParser = Objects.requireNonNull(argsParser, "argsParser");
+      initBits &= ~INIT_BIT_ARGS_PARSER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ProjectGeneratorParameters ProjectGeneratorParameters}.
+     * @return An immutable instance of ProjectGeneratorParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProjectGeneratorParameters build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProjectGeneratorParameters(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_COMMAND_RUNNER_PARAMS) != 0) attributes.add("commandRunnerParams");
+      if ((initBits & INIT_BIT_DRY_RUN) != 0) attributes.add("dryRun");
+      if ((initBits & INIT_BIT_WITH_TESTS) != 0) attributes.add("withTests");
+      if ((initBits & INIT_BIT_WITHOUT_TESTS) != 0) attributes.add("withoutTests");
+      if ((initBits & INIT_BIT_WITHOUT_DEPENDENCIES_TESTS) != 0) attributes.add("withoutDependenciesTests");
+      if ((initBits & INIT_BIT_ENABLE_PARSER_PROFILING) != 0) attributes.add("enableParserProfiling");
+      if ((initBits & INIT_BIT_ARGS_PARSER) != 0) attributes.add("argsParser");
+      return "Cannot build ProjectGeneratorParameters, some of required attributes are not set " + attributes;
+    }
+  }
+}
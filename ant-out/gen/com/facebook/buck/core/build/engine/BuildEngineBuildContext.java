@@ -0,0 +1,452 @@
+package com.facebook.buck.core.build.engine;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.core.build.context.BuildContext;
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Per-build context used by {@link BuildEngine}. 
+ */
+@Generated(from = "AbstractBuildEngineBuildContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildEngineBuildContext
+    extends AbstractBuildEngineBuildContext {
+  private final BuildContext buildContext;
+  private final ArtifactCache artifactCache;
+  private final Clock clock;
+  private final BuildId buildId;
+  private final ImmutableMap<String, String> environment;
+  private final boolean keepGoing;
+
+  private BuildEngineBuildContext(BuildEngineBuildContext.Builder builder) {
+    this.buildContext = builder.buildContext;
+    this.artifactCache = builder.artifactCache;
+    this.clock = builder.clock;
+    this.buildId = builder.buildId;
+    this.environment = builder.environment.build();
+    this.keepGoing = builder.keepGoingIsSet()
+        ? builder.keepGoing
+        : super.isKeepGoing();
+  }
+
+  private BuildEngineBuildContext(
+      BuildContext buildContext,
+      ArtifactCache artifactCache,
+      Clock clock,
+      BuildId buildId,
+      ImmutableMap<String, String> environment,
+      boolean keepGoing) {
+    this.buildContext = buildContext;
+    this.artifactCache = artifactCache;
+    this.clock = clock;
+    this.buildId = buildId;
+    this.environment = environment;
+    this.keepGoing = keepGoing;
+  }
+
+  /**
+   * {@code BuildContext} used by various rules to generate {@link com.facebook.buck.step.Step}s.
+   */
+  @Override
+  public BuildContext getBuildContext() {
+    return buildContext;
+  }
+
+  /**
+   * @return The value of the {@code artifactCache} attribute
+   */
+  @Override
+  public ArtifactCache getArtifactCache() {
+    return artifactCache;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code keepGoing} attribute
+   */
+  @Override
+  public boolean isKeepGoing() {
+    return keepGoing;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildEngineBuildContext#getBuildContext() buildContext} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildContext
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildEngineBuildContext withBuildContext(BuildContext value) {
+    if (this.buildContext == value) return this;
+    BuildContext newValue = Objects.requireNonNull(value, "buildContext");
+    return new BuildEngineBuildContext(newValue, this.artifactCache, this.clock, this.buildId, this.environment, this.keepGoing);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildEngineBuildContext#getArtifactCache() artifactCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildEngineBuildContext withArtifactCache(ArtifactCache value) {
+    if (this.artifactCache == value) return this;
+    ArtifactCache newValue = Objects.requireNonNull(value, "artifactCache");
+    return new BuildEngineBuildContext(this.buildContext, newValue, this.clock, this.buildId, this.environment, this.keepGoing);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildEngineBuildContext#getClock() clock} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for clock
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildEngineBuildContext withClock(Clock value) {
+    if (this.clock == value) return this;
+    Clock newValue = Objects.requireNonNull(value, "clock");
+    return new BuildEngineBuildContext(this.buildContext, this.artifactCache, newValue, this.buildId, this.environment, this.keepGoing);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildEngineBuildContext#getBuildId() buildId} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildId
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildEngineBuildContext withBuildId(BuildId value) {
+    if (this.buildId == value) return this;
+    BuildId newValue = Objects.requireNonNull(value, "buildId");
+    return new BuildEngineBuildContext(this.buildContext, this.artifactCache, this.clock, newValue, this.environment, this.keepGoing);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link BuildEngineBuildContext#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildEngineBuildContext withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new BuildEngineBuildContext(this.buildContext, this.artifactCache, this.clock, this.buildId, newValue, this.keepGoing);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildEngineBuildContext#isKeepGoing() keepGoing} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for keepGoing
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildEngineBuildContext withKeepGoing(boolean value) {
+    if (this.keepGoing == value) return this;
+    return new BuildEngineBuildContext(this.buildContext, this.artifactCache, this.clock, this.buildId, this.environment, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildEngineBuildContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildEngineBuildContext
+        && equalTo((BuildEngineBuildContext) another);
+  }
+
+  private boolean equalTo(BuildEngineBuildContext another) {
+    return buildContext.equals(another.buildContext)
+        && artifactCache.equals(another.artifactCache)
+        && clock.equals(another.clock)
+        && buildId.equals(another.buildId)
+        && environment.equals(another.environment)
+        && keepGoing == another.keepGoing;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildContext}, {@code artifactCache}, {@code clock}, {@code buildId}, {@code environment}, {@code keepGoing}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildContext.hashCode();
+    h += (h << 5) + artifactCache.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + Booleans.hashCode(keepGoing);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildEngineBuildContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEngineBuildContext")
+        .omitNullValues()
+        .add("buildContext", buildContext)
+        .add("artifactCache", artifactCache)
+        .add("clock", clock)
+        .add("buildId", buildId)
+        .add("environment", environment)
+        .add("keepGoing", keepGoing)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildEngineBuildContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildEngineBuildContext instance
+   */
+  static BuildEngineBuildContext copyOf(AbstractBuildEngineBuildContext instance) {
+    if (instance instanceof BuildEngineBuildContext) {
+      return (BuildEngineBuildContext) instance;
+    }
+    return BuildEngineBuildContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildEngineBuildContext BuildEngineBuildContext}.
+   * @return A new BuildEngineBuildContext builder
+   */
+  public static BuildEngineBuildContext.Builder builder() {
+    return new BuildEngineBuildContext.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildEngineBuildContext BuildEngineBuildContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractBuildEngineBuildContext", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_CONTEXT = 0x1L;
+    private static final long INIT_BIT_ARTIFACT_CACHE = 0x2L;
+    private static final long INIT_BIT_CLOCK = 0x4L;
+    private static final long INIT_BIT_BUILD_ID = 0x8L;
+    private static final long OPT_BIT_KEEP_GOING = 0x1L;
+    private long initBits = 0xfL;
+    private long optBits;
+
+    private @Nullable BuildContext buildContext;
+    private @Nullable ArtifactCache artifactCache;
+    private @Nullable Clock clock;
+    private @Nullable BuildId buildId;
+    private ImmutableMap.Builder<String, String> environment = ImmutableMap.builder();
+    private boolean keepGoing;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildEngineBuildContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildEngineBuildContext instance) {
+      return from((AbstractBuildEngineBuildContext) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildEngineBuildContext} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildEngineBuildContext instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildContext(instance.getBuildContext());
+      setArtifactCache(instance.getArtifactCache());
+      setClock(instance.getClock());
+      setBuildId(instance.getBuildId());
+      putAllEnvironment(instance.getEnvironment());
+      setKeepGoing(instance.isKeepGoing());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEngineBuildContext#getBuildContext() buildContext} attribute.
+     * @param buildContext The value for buildContext 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildContext(BuildContext buildContext) {
+      this.buildContext = Objects.requireNonNull(buildContext, "buildContext");
+      initBits &= ~INIT_BIT_BUILD_CONTEXT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEngineBuildContext#getArtifactCache() artifactCache} attribute.
+     * @param artifactCache The value for artifactCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactCache(ArtifactCache artifactCache) {
+      this.artifactCache = Objects.requireNonNull(artifactCache, "artifactCache");
+      initBits &= ~INIT_BIT_ARTIFACT_CACHE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEngineBuildContext#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEngineBuildContext#getBuildId() buildId} attribute.
+     * @param buildId The value for buildId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Objects.requireNonNull(buildId, "buildId");
+      initBits &= ~INIT_BIT_BUILD_ID;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuildEngineBuildContext#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuildEngineBuildContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link BuildEngineBuildContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironment(Map<String, ? extends String> entries) {
+      this.environment = ImmutableMap.builder();
+      return putAllEnvironment(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link BuildEngineBuildContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllEnvironment(Map<String, ? extends String> entries) {
+      this.environment.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEngineBuildContext#isKeepGoing() keepGoing} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuildEngineBuildContext#isKeepGoing() keepGoing}.</em>
+     * @param keepGoing The value for keepGoing 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKeepGoing(boolean keepGoing) {
+      this.keepGoing = keepGoing;
+      optBits |= OPT_BIT_KEEP_GOING;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildEngineBuildContext BuildEngineBuildContext}.
+     * @return An immutable instance of BuildEngineBuildContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildEngineBuildContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildEngineBuildContext(this);
+    }
+
+    private boolean keepGoingIsSet() {
+      return (optBits & OPT_BIT_KEEP_GOING) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BUILD_CONTEXT) != 0) attributes.add("buildContext");
+      if ((initBits & INIT_BIT_ARTIFACT_CACHE) != 0) attributes.add("artifactCache");
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_BUILD_ID) != 0) attributes.add("buildId");
+      return "Cannot build BuildEngineBuildContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,399 @@
+package com.facebook.buck.core.build.engine;
+
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.core.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * This is a union type that represents either a success or a failure. This exists so that {@code
+ * com.facebook.buck.core.build.engine.impl.CachingBuildEngine#buildOnceDepsAreBuilt()} can return a
+ * strongly typed value.
+ */
+@Generated(from = "AbstractBuildResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildResult extends AbstractBuildResult {
+  private final BuildRule rule;
+  private final BuildRuleStatus status;
+  private final @Nullable CacheResult cacheResult;
+  private final @Nullable ListenableFuture<Void> uploadCompleteFuture;
+  private final @Nullable BuildRuleSuccessType successOptional;
+  private final @Nullable Throwable failureOptional;
+  private final @Nullable Set<String> depsWithCacheMisses;
+
+  private BuildResult(BuildResult.Builder builder) {
+    this.rule = builder.rule;
+    this.status = builder.status;
+    this.cacheResult = builder.cacheResult;
+    this.uploadCompleteFuture = builder.uploadCompleteFuture;
+    this.successOptional = builder.successOptional;
+    this.failureOptional = builder.failureOptional;
+    this.depsWithCacheMisses = builder.depsWithCacheMisses;
+  }
+
+  /**
+   * @return The value of the {@code rule} attribute
+   */
+  @Override
+  public BuildRule getRule() {
+    return rule;
+  }
+
+  /**
+   * @return The value of the {@code status} attribute
+   */
+  @Override
+  public BuildRuleStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * @return The value of the {@code cacheResult} attribute
+   */
+  @Override
+  public Optional<CacheResult> getCacheResult() {
+    return Optional.ofNullable(cacheResult);
+  }
+
+  /**
+   *Signals that the cache upload for this rule (if there were one) has completed. 
+   */
+  @Override
+  public Optional<ListenableFuture<Void>> getUploadCompleteFuture() {
+    return Optional.ofNullable(uploadCompleteFuture);
+  }
+
+  /**
+   * @return The value of the {@code successOptional} attribute
+   */
+  @Override
+  public Optional<BuildRuleSuccessType> getSuccessOptional() {
+    return Optional.ofNullable(successOptional);
+  }
+
+  /**
+   * @return The value of the {@code failureOptional} attribute
+   */
+  @Override
+  public Optional<Throwable> getFailureOptional() {
+    return Optional.ofNullable(failureOptional);
+  }
+
+  /**
+   * @return The value of the {@code depsWithCacheMisses} attribute
+   */
+  @Override
+  public Optional<Set<String>> getDepsWithCacheMisses() {
+    return Optional.ofNullable(depsWithCacheMisses);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildResult
+        && equalTo((BuildResult) another);
+  }
+
+  private boolean equalTo(BuildResult another) {
+    return rule.equals(another.rule)
+        && status.equals(another.status)
+        && Objects.equals(cacheResult, another.cacheResult)
+        && Objects.equals(uploadCompleteFuture, another.uploadCompleteFuture)
+        && Objects.equals(successOptional, another.successOptional)
+        && Objects.equals(failureOptional, another.failureOptional)
+        && Objects.equals(depsWithCacheMisses, another.depsWithCacheMisses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code rule}, {@code status}, {@code cacheResult}, {@code uploadCompleteFuture}, {@code successOptional}, {@code failureOptional}, {@code depsWithCacheMisses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + rule.hashCode();
+    h += (h << 5) + status.hashCode();
+    h += (h << 5) + Objects.hashCode(cacheResult);
+    h += (h << 5) + Objects.hashCode(uploadCompleteFuture);
+    h += (h << 5) + Objects.hashCode(successOptional);
+    h += (h << 5) + Objects.hashCode(failureOptional);
+    h += (h << 5) + Objects.hashCode(depsWithCacheMisses);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildResult")
+        .omitNullValues()
+        .add("rule", rule)
+        .add("status", status)
+        .add("cacheResult", cacheResult)
+        .add("uploadCompleteFuture", uploadCompleteFuture)
+        .add("successOptional", successOptional)
+        .add("failureOptional", failureOptional)
+        .add("depsWithCacheMisses", depsWithCacheMisses)
+        .toString();
+  }
+
+
+  private static BuildResult validate(BuildResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link BuildResult BuildResult}.
+   * @return A new BuildResult builder
+   */
+  public static BuildResult.Builder builder() {
+    return new BuildResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildResult BuildResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractBuildResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RULE = 0x1L;
+    private static final long INIT_BIT_STATUS = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildRule rule;
+    private @Nullable BuildRuleStatus status;
+    private @Nullable CacheResult cacheResult;
+    private @Nullable ListenableFuture<Void> uploadCompleteFuture;
+    private @Nullable BuildRuleSuccessType successOptional;
+    private @Nullable Throwable failureOptional;
+    private @Nullable Set<String> depsWithCacheMisses;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildResult instance) {
+      return from((AbstractBuildResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRule(instance.getRule());
+      setStatus(instance.getStatus());
+      Optional<CacheResult> cacheResultOptional = instance.getCacheResult();
+      if (cacheResultOptional.isPresent()) {
+        setCacheResult(cacheResultOptional);
+      }
+      Optional<ListenableFuture<Void>> uploadCompleteFutureOptional = instance.getUploadCompleteFuture();
+      if (uploadCompleteFutureOptional.isPresent()) {
+        setUploadCompleteFuture(uploadCompleteFutureOptional);
+      }
+      Optional<BuildRuleSuccessType> successOptionalOptional = instance.getSuccessOptional();
+      if (successOptionalOptional.isPresent()) {
+        setSuccessOptional(successOptionalOptional);
+      }
+      Optional<Throwable> failureOptionalOptional = instance.getFailureOptional();
+      if (failureOptionalOptional.isPresent()) {
+        setFailureOptional(failureOptionalOptional);
+      }
+      Optional<Set<String>> depsWithCacheMissesOptional = instance.getDepsWithCacheMisses();
+      if (depsWithCacheMissesOptional.isPresent()) {
+        setDepsWithCacheMisses(depsWithCacheMissesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildResult#getRule() rule} attribute.
+     * @param rule The value for rule 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRule(BuildRule rule) {
+      this.rule = Objects.requireNonNull(rule, "rule");
+      initBits &= ~INIT_BIT_RULE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildResult#getStatus() status} attribute.
+     * @param status The value for status 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStatus(BuildRuleStatus status) {
+      this.status = Objects.requireNonNull(status, "status");
+      initBits &= ~INIT_BIT_STATUS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getCacheResult() cacheResult} to cacheResult.
+     * @param cacheResult The value for cacheResult
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResult(CacheResult cacheResult) {
+      this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getCacheResult() cacheResult} to cacheResult.
+     * @param cacheResult The value for cacheResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResult(Optional<? extends CacheResult> cacheResult) {
+      this.cacheResult = cacheResult.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getUploadCompleteFuture() uploadCompleteFuture} to uploadCompleteFuture.
+     * @param uploadCompleteFuture The value for uploadCompleteFuture
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadCompleteFuture(ListenableFuture<Void> uploadCompleteFuture) {
+      this.uploadCompleteFuture = Objects.requireNonNull(uploadCompleteFuture, "uploadCompleteFuture");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getUploadCompleteFuture() uploadCompleteFuture} to uploadCompleteFuture.
+     * @param uploadCompleteFuture The value for uploadCompleteFuture
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadCompleteFuture(Optional<? extends ListenableFuture<Void>> uploadCompleteFuture) {
+      this.uploadCompleteFuture = uploadCompleteFuture.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getSuccessOptional() successOptional} to successOptional.
+     * @param successOptional The value for successOptional
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSuccessOptional(BuildRuleSuccessType successOptional) {
+      this.successOptional = Objects.requireNonNull(successOptional, "successOptional");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getSuccessOptional() successOptional} to successOptional.
+     * @param successOptional The value for successOptional
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSuccessOptional(Optional<? extends BuildRuleSuccessType> successOptional) {
+      this.successOptional = successOptional.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getFailureOptional() failureOptional} to failureOptional.
+     * @param failureOptional The value for failureOptional
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFailureOptional(Throwable failureOptional) {
+      this.failureOptional = Objects.requireNonNull(failureOptional, "failureOptional");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getFailureOptional() failureOptional} to failureOptional.
+     * @param failureOptional The value for failureOptional
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFailureOptional(Optional<? extends Throwable> failureOptional) {
+      this.failureOptional = failureOptional.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getDepsWithCacheMisses() depsWithCacheMisses} to depsWithCacheMisses.
+     * @param depsWithCacheMisses The value for depsWithCacheMisses
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepsWithCacheMisses(Set<String> depsWithCacheMisses) {
+      this.depsWithCacheMisses = Objects.requireNonNull(depsWithCacheMisses, "depsWithCacheMisses");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getDepsWithCacheMisses() depsWithCacheMisses} to depsWithCacheMisses.
+     * @param depsWithCacheMisses The value for depsWithCacheMisses
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepsWithCacheMisses(Optional<? extends Set<String>> depsWithCacheMisses) {
+      this.depsWithCacheMisses = depsWithCacheMisses.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildResult BuildResult}.
+     * @return An immutable instance of BuildResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return BuildResult.validate(new BuildResult(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_RULE) != 0) attributes.add("rule");
+      if ((initBits & INIT_BIT_STATUS) != 0) attributes.add("status");
+      return "Cannot build BuildResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
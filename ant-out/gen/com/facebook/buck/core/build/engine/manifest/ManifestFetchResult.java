@@ -0,0 +1,327 @@
+package com.facebook.buck.core.build.engine.manifest;
+
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Provides a results summary of a manifest-based cache fetch process. 
+ */
+@Generated(from = "AbstractManifestFetchResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ManifestFetchResult
+    extends AbstractManifestFetchResult {
+  private final CacheResult manifestCacheResult;
+  private final @Nullable String manifestLoadError;
+  private final @Nullable ManifestStats manifestStats;
+  private final @Nullable RuleKey depFileRuleKey;
+  private final @Nullable CacheResult ruleCacheResult;
+
+  private ManifestFetchResult(ManifestFetchResult.Builder builder) {
+    this.manifestCacheResult = builder.manifestCacheResult;
+    this.manifestLoadError = builder.manifestLoadError;
+    this.manifestStats = builder.manifestStats;
+    this.depFileRuleKey = builder.depFileRuleKey;
+    this.ruleCacheResult = builder.ruleCacheResult;
+  }
+
+  /**
+   *@return the result fetching the manifest from cache. 
+   */
+  @Override
+  public CacheResult getManifestCacheResult() {
+    return manifestCacheResult;
+  }
+
+  /**
+   *@return the error generated when trying to load the manifest. 
+   */
+  @Override
+  public Optional<String> getManifestLoadError() {
+    return Optional.ofNullable(manifestLoadError);
+  }
+
+  /**
+   *@return stats for the fetched manifest. 
+   */
+  @Override
+  public Optional<ManifestStats> getManifestStats() {
+    return Optional.ofNullable(manifestStats);
+  }
+
+  /**
+   *@return the matching dep file rule key found in the manifest. 
+   */
+  @Override
+  public Optional<RuleKey> getDepFileRuleKey() {
+    return Optional.ofNullable(depFileRuleKey);
+  }
+
+  /**
+   *@return the result from fetching the rule outputs via the found dep file rule key. 
+   */
+  @Override
+  public Optional<CacheResult> getRuleCacheResult() {
+    return Optional.ofNullable(ruleCacheResult);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ManifestFetchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ManifestFetchResult
+        && equalTo((ManifestFetchResult) another);
+  }
+
+  private boolean equalTo(ManifestFetchResult another) {
+    return manifestCacheResult.equals(another.manifestCacheResult)
+        && Objects.equals(manifestLoadError, another.manifestLoadError)
+        && Objects.equals(manifestStats, another.manifestStats)
+        && Objects.equals(depFileRuleKey, another.depFileRuleKey)
+        && Objects.equals(ruleCacheResult, another.ruleCacheResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifestCacheResult}, {@code manifestLoadError}, {@code manifestStats}, {@code depFileRuleKey}, {@code ruleCacheResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + manifestCacheResult.hashCode();
+    h += (h << 5) + Objects.hashCode(manifestLoadError);
+    h += (h << 5) + Objects.hashCode(manifestStats);
+    h += (h << 5) + Objects.hashCode(depFileRuleKey);
+    h += (h << 5) + Objects.hashCode(ruleCacheResult);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestFetchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestFetchResult")
+        .omitNullValues()
+        .add("manifestCacheResult", manifestCacheResult)
+        .add("manifestLoadError", manifestLoadError)
+        .add("manifestStats", manifestStats)
+        .add("depFileRuleKey", depFileRuleKey)
+        .add("ruleCacheResult", ruleCacheResult)
+        .toString();
+  }
+
+
+  private static ManifestFetchResult validate(ManifestFetchResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link ManifestFetchResult ManifestFetchResult}.
+   * @return A new ManifestFetchResult builder
+   */
+  public static ManifestFetchResult.Builder builder() {
+    return new ManifestFetchResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ManifestFetchResult ManifestFetchResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractManifestFetchResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MANIFEST_CACHE_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable CacheResult manifestCacheResult;
+    private @Nullable String manifestLoadError;
+    private @Nullable ManifestStats manifestStats;
+    private @Nullable RuleKey depFileRuleKey;
+    private @Nullable CacheResult ruleCacheResult;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ManifestFetchResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ManifestFetchResult instance) {
+      return from((AbstractManifestFetchResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractManifestFetchResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractManifestFetchResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setManifestCacheResult(instance.getManifestCacheResult());
+      Optional<String> manifestLoadErrorOptional = instance.getManifestLoadError();
+      if (manifestLoadErrorOptional.isPresent()) {
+        setManifestLoadError(manifestLoadErrorOptional);
+      }
+      Optional<ManifestStats> manifestStatsOptional = instance.getManifestStats();
+      if (manifestStatsOptional.isPresent()) {
+        setManifestStats(manifestStatsOptional);
+      }
+      Optional<RuleKey> depFileRuleKeyOptional = instance.getDepFileRuleKey();
+      if (depFileRuleKeyOptional.isPresent()) {
+        setDepFileRuleKey(depFileRuleKeyOptional);
+      }
+      Optional<CacheResult> ruleCacheResultOptional = instance.getRuleCacheResult();
+      if (ruleCacheResultOptional.isPresent()) {
+        setRuleCacheResult(ruleCacheResultOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ManifestFetchResult#getManifestCacheResult() manifestCacheResult} attribute.
+     * @param manifestCacheResult The value for manifestCacheResult 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestCacheResult(CacheResult manifestCacheResult) {
+      this.manifestCacheResult = Objects.requireNonNull(manifestCacheResult, "manifestCacheResult");
+      initBits &= ~INIT_BIT_MANIFEST_CACHE_RESULT;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestLoadError() manifestLoadError} to manifestLoadError.
+     * @param manifestLoadError The value for manifestLoadError
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestLoadError(String manifestLoadError) {
+      this.manifestLoadError = Objects.requireNonNull(manifestLoadError, "manifestLoadError");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestLoadError() manifestLoadError} to manifestLoadError.
+     * @param manifestLoadError The value for manifestLoadError
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestLoadError(Optional<String> manifestLoadError) {
+      this.manifestLoadError = manifestLoadError.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestStats() manifestStats} to manifestStats.
+     * @param manifestStats The value for manifestStats
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestStats(ManifestStats manifestStats) {
+      this.manifestStats = Objects.requireNonNull(manifestStats, "manifestStats");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getManifestStats() manifestStats} to manifestStats.
+     * @param manifestStats The value for manifestStats
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestStats(Optional<? extends ManifestStats> manifestStats) {
+      this.manifestStats = manifestStats.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepFileRuleKey(RuleKey depFileRuleKey) {
+      this.depFileRuleKey = Objects.requireNonNull(depFileRuleKey, "depFileRuleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepFileRuleKey(Optional<? extends RuleKey> depFileRuleKey) {
+      this.depFileRuleKey = depFileRuleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getRuleCacheResult() ruleCacheResult} to ruleCacheResult.
+     * @param ruleCacheResult The value for ruleCacheResult
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleCacheResult(CacheResult ruleCacheResult) {
+      this.ruleCacheResult = Objects.requireNonNull(ruleCacheResult, "ruleCacheResult");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestFetchResult#getRuleCacheResult() ruleCacheResult} to ruleCacheResult.
+     * @param ruleCacheResult The value for ruleCacheResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleCacheResult(Optional<? extends CacheResult> ruleCacheResult) {
+      this.ruleCacheResult = ruleCacheResult.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ManifestFetchResult ManifestFetchResult}.
+     * @return An immutable instance of ManifestFetchResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ManifestFetchResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ManifestFetchResult.validate(new ManifestFetchResult(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_MANIFEST_CACHE_RESULT) != 0) attributes.add("manifestCacheResult");
+      return "Cannot build ManifestFetchResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
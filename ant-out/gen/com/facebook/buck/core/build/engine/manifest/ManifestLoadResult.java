@@ -0,0 +1,176 @@
+package com.facebook.buck.core.build.engine.manifest;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *A union of results of loading a {@link Manifest} from it's serialized form. 
+ */
+@Generated(from = "AbstractManifestLoadResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ManifestLoadResult
+    extends AbstractManifestLoadResult {
+  private final @Nullable Manifest manifest;
+  private final @Nullable String error;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ManifestLoadResult(
+      Optional<? extends Manifest> manifest,
+      Optional<String> error) {
+    this.manifest = manifest.orElse(null);
+    this.error = error.orElse(null);
+  }
+
+  private ManifestLoadResult(
+      ManifestLoadResult original,
+      @Nullable Manifest manifest,
+      @Nullable String error) {
+    this.manifest = manifest;
+    this.error = error;
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public Optional<Manifest> getManifest() {
+    return Optional.ofNullable(manifest);
+  }
+
+  /**
+   * @return The value of the {@code error} attribute
+   */
+  @Override
+  public Optional<String> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ManifestLoadResult#getManifest() manifest} attribute.
+   * @param value The value for manifest
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestLoadResult withManifest(Manifest value) {
+    @Nullable Manifest newValue = Objects.requireNonNull(value, "manifest");
+    if (this.manifest == newValue) return this;
+    return validate(new ManifestLoadResult(this, newValue, this.error));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ManifestLoadResult#getManifest() manifest} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifest
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ManifestLoadResult withManifest(Optional<? extends Manifest> optional) {
+    @Nullable Manifest value = optional.orElse(null);
+    if (this.manifest == value) return this;
+    return validate(new ManifestLoadResult(this, value, this.error));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ManifestLoadResult#getError() error} attribute.
+   * @param value The value for error
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestLoadResult withError(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "error");
+    if (Objects.equals(this.error, newValue)) return this;
+    return validate(new ManifestLoadResult(this, this.manifest, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ManifestLoadResult#getError() error} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for error
+   * @return A modified copy of {@code this} object
+   */
+  public final ManifestLoadResult withError(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.error, value)) return this;
+    return validate(new ManifestLoadResult(this, this.manifest, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ManifestLoadResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ManifestLoadResult
+        && equalTo((ManifestLoadResult) another);
+  }
+
+  private boolean equalTo(ManifestLoadResult another) {
+    return Objects.equals(manifest, another.manifest)
+        && Objects.equals(error, another.error);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifest}, {@code error}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(manifest);
+    h += (h << 5) + Objects.hashCode(error);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestLoadResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestLoadResult")
+        .omitNullValues()
+        .add("manifest", manifest)
+        .add("error", error)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ManifestLoadResult} instance.
+   * @param manifest The value for the {@code manifest} attribute
+   * @param error The value for the {@code error} attribute
+   * @return An immutable ManifestLoadResult instance
+   */
+  public static ManifestLoadResult of(Optional<? extends Manifest> manifest, Optional<String> error) {
+    return validate(new ManifestLoadResult(manifest, error));
+  }
+
+
+  private static ManifestLoadResult validate(ManifestLoadResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractManifestLoadResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ManifestLoadResult instance
+   */
+  static ManifestLoadResult copyOf(AbstractManifestLoadResult instance) {
+    if (instance instanceof ManifestLoadResult) {
+      return (ManifestLoadResult) instance;
+    }
+    return ManifestLoadResult.of(instance.getManifest(), instance.getError());
+  }
+}
@@ -0,0 +1,276 @@
+package com.facebook.buck.core.build.engine.manifest;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Provides a results summary of a manifest-based cache store/update process. 
+ */
+@Generated(from = "AbstractManifestStoreResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ManifestStoreResult
+    implements AbstractManifestStoreResult {
+  private final boolean didCreateNewManifest;
+  private final ManifestStats manifestStats;
+  private final @Nullable String manifestLoadError;
+  private final @Nullable ListenableFuture<Void> storeFuture;
+
+  private ManifestStoreResult(ManifestStoreResult.Builder builder) {
+    this.didCreateNewManifest = builder.didCreateNewManifest;
+    this.manifestStats = builder.manifestStats;
+    this.manifestLoadError = builder.manifestLoadError;
+    this.storeFuture = builder.storeFuture;
+  }
+
+  /**
+   *@return whether an existing manifest was updated, or a new one was stored. 
+   */
+  @Override
+  public boolean didCreateNewManifest() {
+    return didCreateNewManifest;
+  }
+
+  /**
+   *@return stats for the stored manifest. 
+   */
+  @Override
+  public ManifestStats getManifestStats() {
+    return manifestStats;
+  }
+
+  /**
+   *@return the error generated when trying to load an existing manifest. 
+   */
+  @Override
+  public Optional<String> getManifestLoadError() {
+    return Optional.ofNullable(manifestLoadError);
+  }
+
+  /**
+   *@return a future wrapping the asynchronous cache upload. 
+   */
+  @Override
+  public Optional<ListenableFuture<Void>> getStoreFuture() {
+    return Optional.ofNullable(storeFuture);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ManifestStoreResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ManifestStoreResult
+        && equalTo((ManifestStoreResult) another);
+  }
+
+  private boolean equalTo(ManifestStoreResult another) {
+    return didCreateNewManifest == another.didCreateNewManifest
+        && manifestStats.equals(another.manifestStats)
+        && Objects.equals(manifestLoadError, another.manifestLoadError)
+        && Objects.equals(storeFuture, another.storeFuture);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code didCreateNewManifest}, {@code manifestStats}, {@code manifestLoadError}, {@code storeFuture}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(didCreateNewManifest);
+    h += (h << 5) + manifestStats.hashCode();
+    h += (h << 5) + Objects.hashCode(manifestLoadError);
+    h += (h << 5) + Objects.hashCode(storeFuture);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestStoreResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestStoreResult")
+        .omitNullValues()
+        .add("didCreateNewManifest", didCreateNewManifest)
+        .add("manifestStats", manifestStats)
+        .add("manifestLoadError", manifestLoadError)
+        .add("storeFuture", storeFuture)
+        .toString();
+  }
+
+
+  private static ManifestStoreResult validate(ManifestStoreResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link ManifestStoreResult ManifestStoreResult}.
+   * @return A new ManifestStoreResult builder
+   */
+  public static ManifestStoreResult.Builder builder() {
+    return new ManifestStoreResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ManifestStoreResult ManifestStoreResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractManifestStoreResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_DID_CREATE_NEW_MANIFEST = 0x1L;
+    private static final long INIT_BIT_MANIFEST_STATS = 0x2L;
+    private long initBits = 0x3L;
+
+    private boolean didCreateNewManifest;
+    private @Nullable ManifestStats manifestStats;
+    private @Nullable String manifestLoadError;
+    private @Nullable ListenableFuture<Void> storeFuture;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ManifestStoreResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ManifestStoreResult instance) {
+      return from((AbstractManifestStoreResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractManifestStoreResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractManifestStoreResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setDidCreateNewManifest(instance.didCreateNewManifest());
+      setManifestStats(instance.getManifestStats());
+      Optional<String> manifestLoadErrorOptional = instance.getManifestLoadError();
+      if (manifestLoadErrorOptional.isPresent()) {
+        setManifestLoadError(manifestLoadErrorOptional);
+      }
+      Optional<ListenableFuture<Void>> storeFutureOptional = instance.getStoreFuture();
+      if (storeFutureOptional.isPresent()) {
+        setStoreFuture(storeFutureOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ManifestStoreResult#didCreateNewManifest() didCreateNewManifest} attribute.
+     * @param didCreateNewManifest The value for didCreateNewManifest 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDidCreateNewManifest(boolean didCreateNewManifest) {
+      this.didCreateNewManifest = didCreateNewManifest;
+      initBits &= ~INIT_BIT_DID_CREATE_NEW_MANIFEST;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ManifestStoreResult#getManifestStats() manifestStats} attribute.
+     * @param manifestStats The value for manifestStats 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestStats(ManifestStats manifestStats) {
+      this.manifestStats = Objects.requireNonNull(manifestStats, "manifestStats");
+      initBits &= ~INIT_BIT_MANIFEST_STATS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestStoreResult#getManifestLoadError() manifestLoadError} to manifestLoadError.
+     * @param manifestLoadError The value for manifestLoadError
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestLoadError(String manifestLoadError) {
+      this.manifestLoadError = Objects.requireNonNull(manifestLoadError, "manifestLoadError");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestStoreResult#getManifestLoadError() manifestLoadError} to manifestLoadError.
+     * @param manifestLoadError The value for manifestLoadError
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestLoadError(Optional<String> manifestLoadError) {
+      this.manifestLoadError = manifestLoadError.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestStoreResult#getStoreFuture() storeFuture} to storeFuture.
+     * @param storeFuture The value for storeFuture
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStoreFuture(ListenableFuture<Void> storeFuture) {
+      this.storeFuture = Objects.requireNonNull(storeFuture, "storeFuture");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestStoreResult#getStoreFuture() storeFuture} to storeFuture.
+     * @param storeFuture The value for storeFuture
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStoreFuture(Optional<? extends ListenableFuture<Void>> storeFuture) {
+      this.storeFuture = storeFuture.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ManifestStoreResult ManifestStoreResult}.
+     * @return An immutable instance of ManifestStoreResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ManifestStoreResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ManifestStoreResult.validate(new ManifestStoreResult(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_DID_CREATE_NEW_MANIFEST) != 0) attributes.add("didCreateNewManifest");
+      if ((initBits & INIT_BIT_MANIFEST_STATS) != 0) attributes.add("manifestStats");
+      return "Cannot build ManifestStoreResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,409 @@
+package com.facebook.buck.core.cell.impl;
+
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.cell.CellProvider;
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.toolchain.ToolchainProvider;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractImmutableCell}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCell.of()}.
+ */
+@Generated(from = "AbstractImmutableCell", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableCell extends AbstractImmutableCell {
+  private final ImmutableSortedSet<Path> knownRoots;
+  private final @Nullable String canonicalName;
+  private final ProjectFilesystem filesystem;
+  private final BuckConfig buckConfig;
+  private final CellProvider cellProvider;
+  private final ToolchainProvider toolchainProvider;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+  private final CellPathResolver cellPathResolver;
+  private transient final int hashCode;
+
+  private ImmutableCell(
+      ImmutableSortedSet<Path> knownRoots,
+      Optional<String> canonicalName,
+      ProjectFilesystem filesystem,
+      BuckConfig buckConfig,
+      CellProvider cellProvider,
+      ToolchainProvider toolchainProvider,
+      RuleKeyConfiguration ruleKeyConfiguration,
+      CellPathResolver cellPathResolver) {
+    this.knownRoots = Objects.requireNonNull(knownRoots, "knownRoots");
+    this.canonicalName = canonicalName.orElse(null);
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.cellProvider = Objects.requireNonNull(cellProvider, "cellProvider");
+    this.toolchainProvider = Objects.requireNonNull(toolchainProvider, "toolchainProvider");
+    this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.hashCode = computeHashCode();
+  }
+
+  private ImmutableCell(
+      ImmutableCell original,
+      ImmutableSortedSet<Path> knownRoots,
+      @Nullable String canonicalName,
+      ProjectFilesystem filesystem,
+      BuckConfig buckConfig,
+      CellProvider cellProvider,
+      ToolchainProvider toolchainProvider,
+      RuleKeyConfiguration ruleKeyConfiguration,
+      CellPathResolver cellPathResolver) {
+    this.knownRoots = knownRoots;
+    this.canonicalName = canonicalName;
+    this.filesystem = filesystem;
+    this.buckConfig = buckConfig;
+    this.cellProvider = cellProvider;
+    this.toolchainProvider = toolchainProvider;
+    this.ruleKeyConfiguration = ruleKeyConfiguration;
+    this.cellPathResolver = cellPathResolver;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code knownRoots} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getKnownRoots() {
+    return knownRoots;
+  }
+
+  /**
+   * @return The value of the {@code canonicalName} attribute
+   */
+  @Override
+  public Optional<String> getCanonicalName() {
+    return Optional.ofNullable(canonicalName);
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code cellProvider} attribute
+   */
+  @Override
+  public CellProvider getCellProvider() {
+    return cellProvider;
+  }
+
+  /**
+   * @return The value of the {@code toolchainProvider} attribute
+   */
+  @Override
+  public ToolchainProvider getToolchainProvider() {
+    return toolchainProvider;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableCell#getKnownRoots() knownRoots} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for knownRoots
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableCell withKnownRoots(ImmutableSortedSet<Path> value) {
+    if (this.knownRoots == value) return this;
+    ImmutableSortedSet<Path> newValue = Objects.requireNonNull(value, "knownRoots");
+    return new ImmutableCell(
+        this,
+        newValue,
+        this.canonicalName,
+        this.filesystem,
+        this.buckConfig,
+        this.cellProvider,
+        this.toolchainProvider,
+        this.ruleKeyConfiguration,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ImmutableCell#getCanonicalName() canonicalName} attribute.
+   * @param value The value for canonicalName
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableCell withCanonicalName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "canonicalName");
+    if (Objects.equals(this.canonicalName, newValue)) return this;
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        newValue,
+        this.filesystem,
+        this.buckConfig,
+        this.cellProvider,
+        this.toolchainProvider,
+        this.ruleKeyConfiguration,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ImmutableCell#getCanonicalName() canonicalName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for canonicalName
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableCell withCanonicalName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.canonicalName, value)) return this;
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        value,
+        this.filesystem,
+        this.buckConfig,
+        this.cellProvider,
+        this.toolchainProvider,
+        this.ruleKeyConfiguration,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableCell#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableCell withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        this.canonicalName,
+        newValue,
+        this.buckConfig,
+        this.cellProvider,
+        this.toolchainProvider,
+        this.ruleKeyConfiguration,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableCell#getBuckConfig() buckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableCell withBuckConfig(BuckConfig value) {
+    if (this.buckConfig == value) return this;
+    BuckConfig newValue = Objects.requireNonNull(value, "buckConfig");
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        this.canonicalName,
+        this.filesystem,
+        newValue,
+        this.cellProvider,
+        this.toolchainProvider,
+        this.ruleKeyConfiguration,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableCell#getCellProvider() cellProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableCell withCellProvider(CellProvider value) {
+    if (this.cellProvider == value) return this;
+    CellProvider newValue = Objects.requireNonNull(value, "cellProvider");
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        this.canonicalName,
+        this.filesystem,
+        this.buckConfig,
+        newValue,
+        this.toolchainProvider,
+        this.ruleKeyConfiguration,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableCell#getToolchainProvider() toolchainProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for toolchainProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableCell withToolchainProvider(ToolchainProvider value) {
+    if (this.toolchainProvider == value) return this;
+    ToolchainProvider newValue = Objects.requireNonNull(value, "toolchainProvider");
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        this.canonicalName,
+        this.filesystem,
+        this.buckConfig,
+        this.cellProvider,
+        newValue,
+        this.ruleKeyConfiguration,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableCell#getRuleKeyConfiguration() ruleKeyConfiguration} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKeyConfiguration
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableCell withRuleKeyConfiguration(RuleKeyConfiguration value) {
+    if (this.ruleKeyConfiguration == value) return this;
+    RuleKeyConfiguration newValue = Objects.requireNonNull(value, "ruleKeyConfiguration");
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        this.canonicalName,
+        this.filesystem,
+        this.buckConfig,
+        this.cellProvider,
+        this.toolchainProvider,
+        newValue,
+        this.cellPathResolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableCell#getCellPathResolver() cellPathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableCell withCellPathResolver(CellPathResolver value) {
+    if (this.cellPathResolver == value) return this;
+    CellPathResolver newValue = Objects.requireNonNull(value, "cellPathResolver");
+    return new ImmutableCell(
+        this,
+        this.knownRoots,
+        this.canonicalName,
+        this.filesystem,
+        this.buckConfig,
+        this.cellProvider,
+        this.toolchainProvider,
+        this.ruleKeyConfiguration,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCell} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCell
+        && equalTo((ImmutableCell) another);
+  }
+
+  private boolean equalTo(ImmutableCell another) {
+    if (hashCode != another.hashCode) return false;
+    return cellPathResolver.equals(another.cellPathResolver);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code cellPathResolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellPathResolver.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ImmutableCell} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ImmutableCell")
+        .omitNullValues()
+        .add("cellPathResolver", cellPathResolver)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ImmutableCell} instance.
+   * @param knownRoots The value for the {@code knownRoots} attribute
+   * @param canonicalName The value for the {@code canonicalName} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param cellProvider The value for the {@code cellProvider} attribute
+   * @param toolchainProvider The value for the {@code toolchainProvider} attribute
+   * @param ruleKeyConfiguration The value for the {@code ruleKeyConfiguration} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @return An immutable ImmutableCell instance
+   */
+  public static ImmutableCell of(ImmutableSortedSet<Path> knownRoots, Optional<String> canonicalName, ProjectFilesystem filesystem, BuckConfig buckConfig, CellProvider cellProvider, ToolchainProvider toolchainProvider, RuleKeyConfiguration ruleKeyConfiguration, CellPathResolver cellPathResolver) {
+    return new ImmutableCell(knownRoots, canonicalName, filesystem, buckConfig, cellProvider, toolchainProvider, ruleKeyConfiguration, cellPathResolver);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractImmutableCell} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ImmutableCell instance
+   */
+  static ImmutableCell copyOf(AbstractImmutableCell instance) {
+    if (instance instanceof ImmutableCell) {
+      return (ImmutableCell) instance;
+    }
+    return ImmutableCell.of(instance.getKnownRoots(), instance.getCanonicalName(), instance.getFilesystem(), instance.getBuckConfig(), instance.getCellProvider(), instance.getToolchainProvider(), instance.getRuleKeyConfiguration(), instance.getCellPathResolver());
+  }
+}
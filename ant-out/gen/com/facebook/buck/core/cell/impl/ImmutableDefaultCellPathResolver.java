@@ -0,0 +1,183 @@
+package com.facebook.buck.core.cell.impl;
+
+import com.facebook.buck.core.cell.CellName;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultCellPathResolver}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultCellPathResolver.of()}.
+ */
+@Generated(from = "DefaultCellPathResolver", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableDefaultCellPathResolver
+    extends DefaultCellPathResolver {
+  private final Path root;
+  private final ImmutableMap<String, Path> cellPaths;
+
+  private ImmutableDefaultCellPathResolver(Path root, Map<String, ? extends Path> cellPaths) {
+    this.root = Objects.requireNonNull(root, "root");
+    this.cellPaths = ImmutableMap.copyOf(cellPaths);
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public Path getRoot() {
+    return root;
+  }
+
+  /**
+   * @return The value of the {@code cellPaths} attribute
+   */
+  @Override
+  public ImmutableMap<String, Path> getCellPaths() {
+    return cellPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultCellPathResolver} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultCellPathResolver
+        && equalTo((ImmutableDefaultCellPathResolver) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultCellPathResolver another) {
+    return root.equals(another.root)
+        && cellPaths.equals(another.cellPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code root}, {@code cellPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + root.hashCode();
+    h += (h << 5) + cellPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultCellPathResolver} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultCellPathResolver")
+        .omitNullValues()
+        .add("root", root)
+        .add("cellPaths", cellPaths)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long CANONICAL_NAMES_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<Path, String> canonicalNames;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultCellPathResolver#getCanonicalNames() canonicalNames} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code canonicalNames} attribute
+   */
+  @Override
+  public ImmutableMap<Path, String> getCanonicalNames() {
+    if ((lazyInitBitmap & CANONICAL_NAMES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CANONICAL_NAMES_LAZY_INIT_BIT) == 0) {
+          this.canonicalNames = Objects.requireNonNull(super.getCanonicalNames(), "canonicalNames");
+          lazyInitBitmap |= CANONICAL_NAMES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return canonicalNames;
+  }
+
+  private static final long PATH_MAPPING_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<CellName, Path> pathMapping;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultCellPathResolver#getPathMapping() pathMapping} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code pathMapping} attribute
+   */
+  @Override
+  public ImmutableMap<CellName, Path> getPathMapping() {
+    if ((lazyInitBitmap & PATH_MAPPING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PATH_MAPPING_LAZY_INIT_BIT) == 0) {
+          this.pathMapping = Objects.requireNonNull(super.getPathMapping(), "pathMapping");
+          lazyInitBitmap |= PATH_MAPPING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pathMapping;
+  }
+
+  private static final long KNOWN_ROOTS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<Path> knownRoots;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultCellPathResolver#getKnownRoots() knownRoots} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code knownRoots} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getKnownRoots() {
+    if ((lazyInitBitmap & KNOWN_ROOTS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & KNOWN_ROOTS_LAZY_INIT_BIT) == 0) {
+          this.knownRoots = Objects.requireNonNull(super.getKnownRoots(), "knownRoots");
+          lazyInitBitmap |= KNOWN_ROOTS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return knownRoots;
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultCellPathResolver} instance.
+   * @param root The value for the {@code root} attribute
+   * @param cellPaths The value for the {@code cellPaths} attribute
+   * @return An immutable DefaultCellPathResolver instance
+   */
+  public static ImmutableDefaultCellPathResolver of(Path root, Map<String, ? extends Path> cellPaths) {
+    return new ImmutableDefaultCellPathResolver(root, cellPaths);
+  }
+}
@@ -0,0 +1,142 @@
+package com.facebook.buck.core.config;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Contains the logic for handling the [alias] section of .buckconfig. 
+ */
+@Generated(from = "AbstractAliasConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AliasConfig extends AbstractAliasConfig {
+  private final BuckConfig delegate;
+
+  private AliasConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  private AliasConfig(AliasConfig original, BuckConfig delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AliasConfig#getDelegate() delegate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for delegate
+   * @return A modified copy of the {@code this} object
+   */
+  public final AliasConfig withDelegate(BuckConfig value) {
+    if (this.delegate == value) return this;
+    BuckConfig newValue = Objects.requireNonNull(value, "delegate");
+    return new AliasConfig(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AliasConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AliasConfig
+        && equalTo((AliasConfig) another);
+  }
+
+  private boolean equalTo(AliasConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AliasConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AliasConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long ALIASES_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSetMultimap<String, BuildTarget> aliases;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AliasConfig#getAliases() aliases} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code aliases} attribute
+   */
+  @Override
+  public ImmutableSetMultimap<String, BuildTarget> getAliases() {
+    if ((lazyInitBitmap & ALIASES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALIASES_LAZY_INIT_BIT) == 0) {
+          this.aliases = Objects.requireNonNull(super.getAliases(), "aliases");
+          lazyInitBitmap |= ALIASES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return aliases;
+  }
+
+  /**
+   * Construct a new immutable {@code AliasConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable AliasConfig instance
+   */
+  public static AliasConfig of(BuckConfig delegate) {
+    return new AliasConfig(delegate);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAliasConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AliasConfig instance
+   */
+  static AliasConfig copyOf(AbstractAliasConfig instance) {
+    if (instance instanceof AliasConfig) {
+      return (AliasConfig) instance;
+    }
+    return AliasConfig.of(instance.getDelegate());
+  }
+}
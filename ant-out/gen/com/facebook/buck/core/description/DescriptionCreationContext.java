@@ -0,0 +1,133 @@
+package com.facebook.buck.core.description;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.toolchain.ToolchainProvider;
+import com.facebook.buck.sandbox.SandboxExecutionStrategy;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+import org.pf4j.PluginManager;
+
+/**
+ *Contains objects that can be used during the creation of descriptions. 
+ */
+@Generated(from = "AbstractDescriptionCreationContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DescriptionCreationContext
+    implements AbstractDescriptionCreationContext {
+  private final BuckConfig buckConfig;
+  private final ToolchainProvider toolchainProvider;
+  private final SandboxExecutionStrategy sandboxExecutionStrategy;
+  private final PluginManager pluginManager;
+
+  private DescriptionCreationContext(
+      BuckConfig buckConfig,
+      ToolchainProvider toolchainProvider,
+      SandboxExecutionStrategy sandboxExecutionStrategy,
+      PluginManager pluginManager) {
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.toolchainProvider = Objects.requireNonNull(toolchainProvider, "toolchainProvider");
+    this.sandboxExecutionStrategy = Objects.requireNonNull(sandboxExecutionStrategy, "sandboxExecutionStrategy");
+    this.pluginManager = Objects.requireNonNull(pluginManager, "pluginManager");
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code toolchainProvider} attribute
+   */
+  @Override
+  public ToolchainProvider getToolchainProvider() {
+    return toolchainProvider;
+  }
+
+  /**
+   * @return The value of the {@code sandboxExecutionStrategy} attribute
+   */
+  @Override
+  public SandboxExecutionStrategy getSandboxExecutionStrategy() {
+    return sandboxExecutionStrategy;
+  }
+
+  /**
+   * @return The value of the {@code pluginManager} attribute
+   */
+  @Override
+  public PluginManager getPluginManager() {
+    return pluginManager;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DescriptionCreationContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DescriptionCreationContext
+        && equalTo((DescriptionCreationContext) another);
+  }
+
+  private boolean equalTo(DescriptionCreationContext another) {
+    return buckConfig.equals(another.buckConfig)
+        && toolchainProvider.equals(another.toolchainProvider)
+        && sandboxExecutionStrategy.equals(another.sandboxExecutionStrategy)
+        && pluginManager.equals(another.pluginManager);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buckConfig}, {@code toolchainProvider}, {@code sandboxExecutionStrategy}, {@code pluginManager}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + toolchainProvider.hashCode();
+    h += (h << 5) + sandboxExecutionStrategy.hashCode();
+    h += (h << 5) + pluginManager.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DescriptionCreationContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DescriptionCreationContext")
+        .omitNullValues()
+        .add("buckConfig", buckConfig)
+        .add("toolchainProvider", toolchainProvider)
+        .add("sandboxExecutionStrategy", sandboxExecutionStrategy)
+        .add("pluginManager", pluginManager)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DescriptionCreationContext} instance.
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param toolchainProvider The value for the {@code toolchainProvider} attribute
+   * @param sandboxExecutionStrategy The value for the {@code sandboxExecutionStrategy} attribute
+   * @param pluginManager The value for the {@code pluginManager} attribute
+   * @return An immutable DescriptionCreationContext instance
+   */
+  public static DescriptionCreationContext of(BuckConfig buckConfig, ToolchainProvider toolchainProvider, SandboxExecutionStrategy sandboxExecutionStrategy, PluginManager pluginManager) {
+    return new DescriptionCreationContext(buckConfig, toolchainProvider, sandboxExecutionStrategy, pluginManager);
+  }
+}
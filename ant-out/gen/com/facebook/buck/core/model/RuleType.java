@@ -0,0 +1,235 @@
+package com.facebook.buck.core.model;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractRuleType}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RuleType.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code RuleType.of()}.
+ */
+@Generated(from = "AbstractRuleType", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class RuleType extends AbstractRuleType {
+  private final String name;
+  private final AbstractRuleType.Kind kind;
+  private transient final boolean testRule;
+
+  private RuleType(String name, AbstractRuleType.Kind kind) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.kind = Objects.requireNonNull(kind, "kind");
+    this.testRule = super.isTestRule();
+  }
+
+  private RuleType(RuleType.Builder builder) {
+    this.name = builder.name;
+    this.kind = builder.kind;
+    this.testRule = super.isTestRule();
+  }
+
+  /**
+   *@return the name as displayed in a build file, such as "java_library" 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   *@return the kind of this type. 
+   */
+  @Override
+  public AbstractRuleType.Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code testRule} attribute
+   */
+  @Override
+  public boolean isTestRule() {
+    return testRule;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleType} that have equal attribute values.
+   * As instances of the {@code RuleType} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  private boolean equalTo(RuleType another) {
+    return name.equals(another.name)
+        && kind.equals(another.kind)
+        && testRule == another.testRule;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code kind}, {@code testRule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + kind.hashCode();
+    h += (h << 5) + Booleans.hashCode(testRule);
+    return h;
+  }
+
+  @Generated(from = "AbstractRuleType", generator = "Immutables")
+  private static class InternProxy {
+    final RuleType instance;
+
+    InternProxy(RuleType instance) {
+      this.instance = instance;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return another != null && instance.equalTo(((InternProxy) another).instance);
+    }
+
+    @Override
+    public int hashCode() {
+      return instance.hashCode();
+    }
+  }
+
+  private static final Interner<InternProxy> INTERNER = Interners.newStrongInterner();
+
+  /**
+   * Construct a new immutable {@code RuleType} instance.
+   * @param name The value for the {@code name} attribute
+   * @param kind The value for the {@code kind} attribute
+   * @return An immutable RuleType instance
+   */
+  public static RuleType of(String name, AbstractRuleType.Kind kind) {
+    return validate(new RuleType(name, kind));
+  }
+
+
+  private static RuleType validate(RuleType instance) {
+    instance.check();
+    return INTERNER.intern(new InternProxy(instance)).instance;
+  }
+
+  /**
+   * Creates a builder for {@link RuleType RuleType}.
+   * @return A new RuleType builder
+   */
+  public static RuleType.Builder builder() {
+    return new RuleType.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RuleType RuleType}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractRuleType", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_KIND = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String name;
+    private @Nullable AbstractRuleType.Kind kind;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RuleType} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RuleType instance) {
+      return from((AbstractRuleType) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRuleType} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractRuleType instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      setKind(instance.getKind());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleType#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleType#getKind() kind} attribute.
+     * @param kind The value for kind 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKind(AbstractRuleType.Kind kind) {
+      this.kind = Objects.requireNonNull(kind, "kind");
+      initBits &= ~INIT_BIT_KIND;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RuleType RuleType}.
+     * @return An immutable instance of RuleType
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RuleType build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return RuleType.validate(new RuleType(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_KIND) != 0) attributes.add("kind");
+      return "Cannot build RuleType, some of required attributes are not set " + attributes;
+    }
+  }
+}
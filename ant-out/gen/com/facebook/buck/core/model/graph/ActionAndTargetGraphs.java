@@ -0,0 +1,232 @@
+package com.facebook.buck.core.model.graph;
+
+import com.facebook.buck.core.model.actiongraph.ActionGraphAndBuilder;
+import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Container class for {@link ActionGraphAndBuilder} and {@link TargetGraphAndBuildTargets}. Also
+ * contains helper methods for which {@link TargetGraph} to use for local and distributed builds
+ * ({@link com.facebook.buck.versions.VersionedTargetGraph} vs un-versioned).
+ */
+@Generated(from = "AbstractActionAndTargetGraphs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ActionAndTargetGraphs
+    extends AbstractActionAndTargetGraphs {
+  private final TargetGraphAndBuildTargets unversionedTargetGraph;
+  private final @Nullable TargetGraphAndBuildTargets versionedTargetGraph;
+  private final ActionGraphAndBuilder actionGraphAndBuilder;
+
+  private ActionAndTargetGraphs(ActionAndTargetGraphs.Builder builder) {
+    this.unversionedTargetGraph = builder.unversionedTargetGraph;
+    this.versionedTargetGraph = builder.versionedTargetGraph;
+    this.actionGraphAndBuilder = builder.actionGraphAndBuilder;
+  }
+
+  /**
+   * @return The value of the {@code unversionedTargetGraph} attribute
+   */
+  @Override
+  public TargetGraphAndBuildTargets getUnversionedTargetGraph() {
+    return unversionedTargetGraph;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraph} attribute
+   */
+  @Override
+  public Optional<TargetGraphAndBuildTargets> getVersionedTargetGraph() {
+    return Optional.ofNullable(versionedTargetGraph);
+  }
+
+  /**
+   * @return The value of the {@code actionGraphAndBuilder} attribute
+   */
+  @Override
+  public ActionGraphAndBuilder getActionGraphAndBuilder() {
+    return actionGraphAndBuilder;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ActionAndTargetGraphs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ActionAndTargetGraphs
+        && equalTo((ActionAndTargetGraphs) another);
+  }
+
+  private boolean equalTo(ActionAndTargetGraphs another) {
+    return unversionedTargetGraph.equals(another.unversionedTargetGraph)
+        && Objects.equals(versionedTargetGraph, another.versionedTargetGraph)
+        && actionGraphAndBuilder.equals(another.actionGraphAndBuilder);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code unversionedTargetGraph}, {@code versionedTargetGraph}, {@code actionGraphAndBuilder}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unversionedTargetGraph.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedTargetGraph);
+    h += (h << 5) + actionGraphAndBuilder.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionAndTargetGraphs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionAndTargetGraphs")
+        .omitNullValues()
+        .add("unversionedTargetGraph", unversionedTargetGraph)
+        .add("versionedTargetGraph", versionedTargetGraph)
+        .add("actionGraphAndBuilder", actionGraphAndBuilder)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ActionAndTargetGraphs ActionAndTargetGraphs}.
+   * @return A new ActionAndTargetGraphs builder
+   */
+  public static ActionAndTargetGraphs.Builder builder() {
+    return new ActionAndTargetGraphs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ActionAndTargetGraphs ActionAndTargetGraphs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractActionAndTargetGraphs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_UNVERSIONED_TARGET_GRAPH = 0x1L;
+    private static final long INIT_BIT_ACTION_GRAPH_AND_BUILDER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable TargetGraphAndBuildTargets unversionedTargetGraph;
+    private @Nullable TargetGraphAndBuildTargets versionedTargetGraph;
+    private @Nullable ActionGraphAndBuilder actionGraphAndBuilder;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ActionAndTargetGraphs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ActionAndTargetGraphs instance) {
+      return from((AbstractActionAndTargetGraphs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractActionAndTargetGraphs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractActionAndTargetGraphs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setUnversionedTargetGraph(instance.getUnversionedTargetGraph());
+      Optional<TargetGraphAndBuildTargets> versionedTargetGraphOptional = instance.getVersionedTargetGraph();
+      if (versionedTargetGraphOptional.isPresent()) {
+        setVersionedTargetGraph(versionedTargetGraphOptional);
+      }
+      setActionGraphAndBuilder(instance.getActionGraphAndBuilder());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ActionAndTargetGraphs#getUnversionedTargetGraph() unversionedTargetGraph} attribute.
+     * @param unversionedTargetGraph The value for unversionedTargetGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnversionedTargetGraph(TargetGraphAndBuildTargets unversionedTargetGraph) {
+      this.unversionedTargetGraph = Objects.requireNonNull(unversionedTargetGraph, "unversionedTargetGraph");
+      initBits &= ~INIT_BIT_UNVERSIONED_TARGET_GRAPH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ActionAndTargetGraphs#getVersionedTargetGraph() versionedTargetGraph} to versionedTargetGraph.
+     * @param versionedTargetGraph The value for versionedTargetGraph
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedTargetGraph(TargetGraphAndBuildTargets versionedTargetGraph) {
+      this.versionedTargetGraph = Objects.requireNonNull(versionedTargetGraph, "versionedTargetGraph");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ActionAndTargetGraphs#getVersionedTargetGraph() versionedTargetGraph} to versionedTargetGraph.
+     * @param versionedTargetGraph The value for versionedTargetGraph
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedTargetGraph(Optional<? extends TargetGraphAndBuildTargets> versionedTargetGraph) {
+      this.versionedTargetGraph = versionedTargetGraph.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ActionAndTargetGraphs#getActionGraphAndBuilder() actionGraphAndBuilder} attribute.
+     * @param actionGraphAndBuilder The value for actionGraphAndBuilder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraphAndBuilder(ActionGraphAndBuilder actionGraphAndBuilder) {
+      this.actionGraphAndBuilder = Objects.requireNonNull(actionGraphAndBuilder, "actionGraphAndBuilder");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_AND_BUILDER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ActionAndTargetGraphs ActionAndTargetGraphs}.
+     * @return An immutable instance of ActionAndTargetGraphs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ActionAndTargetGraphs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ActionAndTargetGraphs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_UNVERSIONED_TARGET_GRAPH) != 0) attributes.add("unversionedTargetGraph");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_AND_BUILDER) != 0) attributes.add("actionGraphAndBuilder");
+      return "Cannot build ActionAndTargetGraphs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.facebook.buck.core.model.impl;
+
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractImmutableBuildTarget}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTarget.of()}.
+ */
+@Generated(from = "AbstractImmutableBuildTarget", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableBuildTarget extends AbstractImmutableBuildTarget {
+  private final UnflavoredBuildTarget unflavoredBuildTarget;
+  private final ImmutableSortedSet<Flavor> flavors;
+  private transient final int hashCode;
+
+  private ImmutableBuildTarget(
+      UnflavoredBuildTarget unflavoredBuildTarget,
+      Iterable<? extends Flavor> flavors) {
+    this.unflavoredBuildTarget = Objects.requireNonNull(unflavoredBuildTarget, "unflavoredBuildTarget");
+    this.flavors = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        flavors);
+    this.hashCode = computeHashCode();
+  }
+
+  private ImmutableBuildTarget(
+      ImmutableBuildTarget original,
+      UnflavoredBuildTarget unflavoredBuildTarget,
+      ImmutableSortedSet<Flavor> flavors) {
+    this.unflavoredBuildTarget = unflavoredBuildTarget;
+    this.flavors = flavors;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code unflavoredBuildTarget} attribute
+   */
+  @Override
+  public UnflavoredBuildTarget getUnflavoredBuildTarget() {
+    return unflavoredBuildTarget;
+  }
+
+  /**
+   * @return The value of the {@code flavors} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Flavor> getFlavors() {
+    return flavors;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ImmutableBuildTarget#getUnflavoredBuildTarget() unflavoredBuildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for unflavoredBuildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableBuildTarget withUnflavoredBuildTarget(UnflavoredBuildTarget value) {
+    if (this.unflavoredBuildTarget == value) return this;
+    UnflavoredBuildTarget newValue = Objects.requireNonNull(value, "unflavoredBuildTarget");
+    return validate(new ImmutableBuildTarget(this, newValue, this.flavors));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ImmutableBuildTarget#getFlavors() flavors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableBuildTarget withFlavors(Flavor... elements) {
+    ImmutableSortedSet<Flavor> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        Arrays.asList(elements));
+    return validate(new ImmutableBuildTarget(this, this.unflavoredBuildTarget, newValue));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ImmutableBuildTarget#getFlavors() flavors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of flavors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableBuildTarget withFlavors(Iterable<? extends Flavor> elements) {
+    if (this.flavors == elements) return this;
+    ImmutableSortedSet<Flavor> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        elements);
+    return validate(new ImmutableBuildTarget(this, this.unflavoredBuildTarget, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTarget
+        && equalTo((ImmutableBuildTarget) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTarget another) {
+    if (hashCode != another.hashCode) return false;
+    return unflavoredBuildTarget.equals(another.unflavoredBuildTarget)
+        && flavors.equals(another.flavors);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code unflavoredBuildTarget}, {@code flavors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unflavoredBuildTarget.hashCode();
+    h += (h << 5) + flavors.hashCode();
+    return h;
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long FULLY_QUALIFIED_NAME_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient String fullyQualifiedName;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ImmutableBuildTarget#getFullyQualifiedName() fullyQualifiedName} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code fullyQualifiedName} attribute
+   */
+  @Override
+  public String getFullyQualifiedName() {
+    if ((lazyInitBitmap & FULLY_QUALIFIED_NAME_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FULLY_QUALIFIED_NAME_LAZY_INIT_BIT) == 0) {
+          this.fullyQualifiedName = Objects.requireNonNull(super.getFullyQualifiedName(), "fullyQualifiedName");
+          lazyInitBitmap |= FULLY_QUALIFIED_NAME_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return fullyQualifiedName;
+  }
+
+  /**
+   * Construct a new immutable {@code ImmutableBuildTarget} instance.
+   * @param unflavoredBuildTarget The value for the {@code unflavoredBuildTarget} attribute
+   * @param flavors The value for the {@code flavors} attribute
+   * @return An immutable ImmutableBuildTarget instance
+   */
+  public static ImmutableBuildTarget of(UnflavoredBuildTarget unflavoredBuildTarget, ImmutableSortedSet<Flavor> flavors) {
+    return of(unflavoredBuildTarget, (Iterable<? extends Flavor>) flavors);
+  }
+
+  /**
+   * Construct a new immutable {@code ImmutableBuildTarget} instance.
+   * @param unflavoredBuildTarget The value for the {@code unflavoredBuildTarget} attribute
+   * @param flavors The value for the {@code flavors} attribute
+   * @return An immutable ImmutableBuildTarget instance
+   */
+  public static ImmutableBuildTarget of(UnflavoredBuildTarget unflavoredBuildTarget, Iterable<? extends Flavor> flavors) {
+    return validate(new ImmutableBuildTarget(unflavoredBuildTarget, flavors));
+  }
+
+
+  private static ImmutableBuildTarget validate(ImmutableBuildTarget instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractImmutableBuildTarget} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ImmutableBuildTarget instance
+   */
+  static ImmutableBuildTarget copyOf(AbstractImmutableBuildTarget instance) {
+    if (instance instanceof ImmutableBuildTarget) {
+      return (ImmutableBuildTarget) instance;
+    }
+    return ImmutableBuildTarget.of(instance.getUnflavoredBuildTarget(), instance.getFlavors());
+  }
+}
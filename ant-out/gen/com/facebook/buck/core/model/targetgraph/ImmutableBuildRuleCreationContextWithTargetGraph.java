@@ -0,0 +1,151 @@
+package com.facebook.buck.core.model.targetgraph;
+
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.toolchain.ToolchainProvider;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildRuleCreationContextWithTargetGraph}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildRuleCreationContextWithTargetGraph.of()}.
+ */
+@Generated(from = "BuildRuleCreationContextWithTargetGraph", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableBuildRuleCreationContextWithTargetGraph
+    implements BuildRuleCreationContextWithTargetGraph {
+  private final TargetGraph targetGraph;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final ProjectFilesystem projectFilesystem;
+  private final CellPathResolver cellPathResolver;
+  private final ToolchainProvider toolchainProvider;
+
+  private ImmutableBuildRuleCreationContextWithTargetGraph(
+      TargetGraph targetGraph,
+      ActionGraphBuilder actionGraphBuilder,
+      ProjectFilesystem projectFilesystem,
+      CellPathResolver cellPathResolver,
+      ToolchainProvider toolchainProvider) {
+    this.targetGraph = Objects.requireNonNull(targetGraph, "targetGraph");
+    this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.toolchainProvider = Objects.requireNonNull(toolchainProvider, "toolchainProvider");
+  }
+
+  /**
+   * @return The value of the {@code targetGraph} attribute
+   */
+  @Override
+  public TargetGraph getTargetGraph() {
+    return targetGraph;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  public ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code toolchainProvider} attribute
+   */
+  @Override
+  public ToolchainProvider getToolchainProvider() {
+    return toolchainProvider;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildRuleCreationContextWithTargetGraph} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildRuleCreationContextWithTargetGraph
+        && equalTo((ImmutableBuildRuleCreationContextWithTargetGraph) another);
+  }
+
+  private boolean equalTo(ImmutableBuildRuleCreationContextWithTargetGraph another) {
+    return targetGraph.equals(another.targetGraph)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && toolchainProvider.equals(another.toolchainProvider);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetGraph}, {@code actionGraphBuilder}, {@code projectFilesystem}, {@code cellPathResolver}, {@code toolchainProvider}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetGraph.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + toolchainProvider.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRuleCreationContextWithTargetGraph} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleCreationContextWithTargetGraph")
+        .omitNullValues()
+        .add("targetGraph", targetGraph)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("projectFilesystem", projectFilesystem)
+        .add("cellPathResolver", cellPathResolver)
+        .add("toolchainProvider", toolchainProvider)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleCreationContextWithTargetGraph} instance.
+   * @param targetGraph The value for the {@code targetGraph} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param toolchainProvider The value for the {@code toolchainProvider} attribute
+   * @return An immutable BuildRuleCreationContextWithTargetGraph instance
+   */
+  public static ImmutableBuildRuleCreationContextWithTargetGraph of(TargetGraph targetGraph, ActionGraphBuilder actionGraphBuilder, ProjectFilesystem projectFilesystem, CellPathResolver cellPathResolver, ToolchainProvider toolchainProvider) {
+    return new ImmutableBuildRuleCreationContextWithTargetGraph(targetGraph, actionGraphBuilder, projectFilesystem, cellPathResolver, toolchainProvider);
+  }
+}
@@ -0,0 +1,167 @@
+package com.facebook.buck.core.model.targetgraph;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Holds a TargetGraph and a set of BuildTargetPaths. 
+ */
+@Generated(from = "AbstractTargetGraphAndBuildTargets", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class TargetGraphAndBuildTargets
+    implements AbstractTargetGraphAndBuildTargets {
+  private final TargetGraph targetGraph;
+  private final ImmutableSet<BuildTarget> buildTargets;
+
+  private TargetGraphAndBuildTargets(
+      TargetGraph targetGraph,
+      Iterable<? extends BuildTarget> buildTargets) {
+    this.targetGraph = Objects.requireNonNull(targetGraph, "targetGraph");
+    this.buildTargets = ImmutableSet.copyOf(buildTargets);
+  }
+
+  private TargetGraphAndBuildTargets(
+      TargetGraphAndBuildTargets original,
+      TargetGraph targetGraph,
+      ImmutableSet<BuildTarget> buildTargets) {
+    this.targetGraph = targetGraph;
+    this.buildTargets = buildTargets;
+  }
+
+  /**
+   * @return The value of the {@code targetGraph} attribute
+   */
+  @Override
+  public TargetGraph getTargetGraph() {
+    return targetGraph;
+  }
+
+  /**
+   * @return The value of the {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBuildTargets() {
+    return buildTargets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TargetGraphAndBuildTargets#getTargetGraph() targetGraph} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraph
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetGraphAndBuildTargets withTargetGraph(TargetGraph value) {
+    if (this.targetGraph == value) return this;
+    TargetGraph newValue = Objects.requireNonNull(value, "targetGraph");
+    return new TargetGraphAndBuildTargets(this, newValue, this.buildTargets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetGraphAndBuildTargets#getBuildTargets() buildTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetGraphAndBuildTargets withBuildTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetGraphAndBuildTargets(this, this.targetGraph, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link TargetGraphAndBuildTargets#getBuildTargets() buildTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of buildTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetGraphAndBuildTargets withBuildTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.buildTargets == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetGraphAndBuildTargets(this, this.targetGraph, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TargetGraphAndBuildTargets} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TargetGraphAndBuildTargets
+        && equalTo((TargetGraphAndBuildTargets) another);
+  }
+
+  private boolean equalTo(TargetGraphAndBuildTargets another) {
+    return targetGraph.equals(another.targetGraph)
+        && buildTargets.equals(another.buildTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetGraph}, {@code buildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetGraph.hashCode();
+    h += (h << 5) + buildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TargetGraphAndBuildTargets} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetGraphAndBuildTargets")
+        .omitNullValues()
+        .add("targetGraph", targetGraph)
+        .add("buildTargets", buildTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TargetGraphAndBuildTargets} instance.
+   * @param targetGraph The value for the {@code targetGraph} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable TargetGraphAndBuildTargets instance
+   */
+  public static TargetGraphAndBuildTargets of(TargetGraph targetGraph, ImmutableSet<BuildTarget> buildTargets) {
+    return of(targetGraph, (Iterable<? extends BuildTarget>) buildTargets);
+  }
+
+  /**
+   * Construct a new immutable {@code TargetGraphAndBuildTargets} instance.
+   * @param targetGraph The value for the {@code targetGraph} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable TargetGraphAndBuildTargets instance
+   */
+  public static TargetGraphAndBuildTargets of(TargetGraph targetGraph, Iterable<? extends BuildTarget> buildTargets) {
+    return new TargetGraphAndBuildTargets(targetGraph, buildTargets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTargetGraphAndBuildTargets} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TargetGraphAndBuildTargets instance
+   */
+  static TargetGraphAndBuildTargets copyOf(AbstractTargetGraphAndBuildTargets instance) {
+    if (instance instanceof TargetGraphAndBuildTargets) {
+      return (TargetGraphAndBuildTargets) instance;
+    }
+    return TargetGraphAndBuildTargets.of(instance.getTargetGraph(), instance.getBuildTargets());
+  }
+}
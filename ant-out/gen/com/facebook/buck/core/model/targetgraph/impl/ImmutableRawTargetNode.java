@@ -0,0 +1,198 @@
+package com.facebook.buck.core.model.targetgraph.impl;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.RuleType;
+import com.facebook.buck.core.model.targetgraph.RawAttributes;
+import com.facebook.buck.rules.visibility.VisibilityPattern;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Immutable implementation of {@link RawTargetNode}. 
+ */
+@Generated(from = "AbstractImmutableRawTargetNode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableRawTargetNode
+    extends AbstractImmutableRawTargetNode {
+  private final BuildTarget buildTarget;
+  private final RuleType ruleType;
+  private final RawAttributes attributes;
+  private final ImmutableSet<VisibilityPattern> visibilityPatterns;
+  private final ImmutableSet<VisibilityPattern> withinViewPatterns;
+  private transient final int hashCode;
+
+  private ImmutableRawTargetNode(
+      BuildTarget buildTarget,
+      RuleType ruleType,
+      RawAttributes attributes,
+      Iterable<? extends VisibilityPattern> visibilityPatterns,
+      Iterable<? extends VisibilityPattern> withinViewPatterns) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+    this.attributes = Objects.requireNonNull(attributes, "attributes");
+    this.visibilityPatterns = ImmutableSet.copyOf(visibilityPatterns);
+    this.withinViewPatterns = ImmutableSet.copyOf(withinViewPatterns);
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @Override
+  public RuleType getRuleType() {
+    return ruleType;
+  }
+
+  /**
+   * @return The value of the {@code attributes} attribute
+   */
+  @Override
+  public RawAttributes getAttributes() {
+    return attributes;
+  }
+
+  /**
+   * @return The value of the {@code visibilityPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getVisibilityPatterns() {
+    return visibilityPatterns;
+  }
+
+  /**
+   * @return The value of the {@code withinViewPatterns} attribute
+   */
+  @Override
+  public ImmutableSet<VisibilityPattern> getWithinViewPatterns() {
+    return withinViewPatterns;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRawTargetNode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRawTargetNode
+        && equalTo((ImmutableRawTargetNode) another);
+  }
+
+  private boolean equalTo(ImmutableRawTargetNode another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && ruleType.equals(another.ruleType)
+        && attributes.equals(another.attributes)
+        && visibilityPatterns.equals(another.visibilityPatterns)
+        && withinViewPatterns.equals(another.withinViewPatterns);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code ruleType}, {@code attributes}, {@code visibilityPatterns}, {@code withinViewPatterns}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + ruleType.hashCode();
+    h += (h << 5) + attributes.hashCode();
+    h += (h << 5) + visibilityPatterns.hashCode();
+    h += (h << 5) + withinViewPatterns.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ImmutableRawTargetNode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ImmutableRawTargetNode")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("ruleType", ruleType)
+        .add("attributes", attributes)
+        .add("visibilityPatterns", visibilityPatterns)
+        .add("withinViewPatterns", withinViewPatterns)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long GET_HASH_CODE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient HashCode getHashCode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractImmutableRawTargetNode#getHashCode() getHashCode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code getHashCode} attribute
+   */
+  @Override
+  public HashCode getHashCode() {
+    if ((lazyInitBitmap & GET_HASH_CODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GET_HASH_CODE_LAZY_INIT_BIT) == 0) {
+          this.getHashCode = Objects.requireNonNull(super.getHashCode(), "getHashCode");
+          lazyInitBitmap |= GET_HASH_CODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return getHashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code ImmutableRawTargetNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param ruleType The value for the {@code ruleType} attribute
+   * @param attributes The value for the {@code attributes} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @return An immutable ImmutableRawTargetNode instance
+   */
+  public static ImmutableRawTargetNode of(BuildTarget buildTarget, RuleType ruleType, RawAttributes attributes, ImmutableSet<VisibilityPattern> visibilityPatterns, ImmutableSet<VisibilityPattern> withinViewPatterns) {
+    return of(buildTarget, ruleType, attributes, (Iterable<? extends VisibilityPattern>) visibilityPatterns, (Iterable<? extends VisibilityPattern>) withinViewPatterns);
+  }
+
+  /**
+   * Construct a new immutable {@code ImmutableRawTargetNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param ruleType The value for the {@code ruleType} attribute
+   * @param attributes The value for the {@code attributes} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @return An immutable ImmutableRawTargetNode instance
+   */
+  public static ImmutableRawTargetNode of(BuildTarget buildTarget, RuleType ruleType, RawAttributes attributes, Iterable<? extends VisibilityPattern> visibilityPatterns, Iterable<? extends VisibilityPattern> withinViewPatterns) {
+    return new ImmutableRawTargetNode(buildTarget, ruleType, attributes, visibilityPatterns, withinViewPatterns);
+  }
+}
@@ -0,0 +1,299 @@
+package com.facebook.buck.core.rulekey;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractBuildRuleKeys}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildRuleKeys.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code BuildRuleKeys.of()}.
+ */
+@Generated(from = "AbstractBuildRuleKeys", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildRuleKeys implements AbstractBuildRuleKeys {
+  private final RuleKey ruleKey;
+  private final @Nullable RuleKey inputRuleKey;
+  private final @Nullable RuleKey depFileRuleKey;
+  private final @Nullable RuleKey manifestRuleKey;
+
+  private BuildRuleKeys(RuleKey ruleKey) {
+    this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+    this.inputRuleKey = null;
+    this.depFileRuleKey = null;
+    this.manifestRuleKey = null;
+  }
+
+  private BuildRuleKeys(BuildRuleKeys.Builder builder) {
+    this.ruleKey = builder.ruleKey;
+    this.inputRuleKey = builder.inputRuleKey;
+    this.depFileRuleKey = builder.depFileRuleKey;
+    this.manifestRuleKey = builder.manifestRuleKey;
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public RuleKey getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code inputRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getInputRuleKey() {
+    return Optional.ofNullable(inputRuleKey);
+  }
+
+  /**
+   * @return The value of the {@code depFileRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getDepFileRuleKey() {
+    return Optional.ofNullable(depFileRuleKey);
+  }
+
+  /**
+   * @return The value of the {@code manifestRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getManifestRuleKey() {
+    return Optional.ofNullable(manifestRuleKey);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildRuleKeys} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildRuleKeys
+        && equalTo((BuildRuleKeys) another);
+  }
+
+  private boolean equalTo(BuildRuleKeys another) {
+    return ruleKey.equals(another.ruleKey)
+        && Objects.equals(inputRuleKey, another.inputRuleKey)
+        && Objects.equals(depFileRuleKey, another.depFileRuleKey)
+        && Objects.equals(manifestRuleKey, another.manifestRuleKey);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKey}, {@code inputRuleKey}, {@code depFileRuleKey}, {@code manifestRuleKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + Objects.hashCode(inputRuleKey);
+    h += (h << 5) + Objects.hashCode(depFileRuleKey);
+    h += (h << 5) + Objects.hashCode(manifestRuleKey);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRuleKeys} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleKeys")
+        .omitNullValues()
+        .add("ruleKey", ruleKey)
+        .add("inputRuleKey", inputRuleKey)
+        .add("depFileRuleKey", depFileRuleKey)
+        .add("manifestRuleKey", manifestRuleKey)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleKeys} instance.
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @return An immutable BuildRuleKeys instance
+   */
+  public static BuildRuleKeys of(RuleKey ruleKey) {
+    return new BuildRuleKeys(ruleKey);
+  }
+
+  /**
+   * Creates a builder for {@link BuildRuleKeys BuildRuleKeys}.
+   * @return A new BuildRuleKeys builder
+   */
+  public static BuildRuleKeys.Builder builder() {
+    return new BuildRuleKeys.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildRuleKeys BuildRuleKeys}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractBuildRuleKeys", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RULE_KEY = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable RuleKey ruleKey;
+    private @Nullable RuleKey inputRuleKey;
+    private @Nullable RuleKey depFileRuleKey;
+    private @Nullable RuleKey manifestRuleKey;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildRuleKeys} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildRuleKeys instance) {
+      return from((AbstractBuildRuleKeys) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildRuleKeys} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildRuleKeys instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRuleKey(instance.getRuleKey());
+      Optional<RuleKey> inputRuleKeyOptional = instance.getInputRuleKey();
+      if (inputRuleKeyOptional.isPresent()) {
+        setInputRuleKey(inputRuleKeyOptional);
+      }
+      Optional<RuleKey> depFileRuleKeyOptional = instance.getDepFileRuleKey();
+      if (depFileRuleKeyOptional.isPresent()) {
+        setDepFileRuleKey(depFileRuleKeyOptional);
+      }
+      Optional<RuleKey> manifestRuleKeyOptional = instance.getManifestRuleKey();
+      if (manifestRuleKeyOptional.isPresent()) {
+        setManifestRuleKey(manifestRuleKeyOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleKeys#getRuleKey() ruleKey} attribute.
+     * @param ruleKey The value for ruleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKey(RuleKey ruleKey) {
+      this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+      initBits &= ~INIT_BIT_RULE_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleKeys#getInputRuleKey() inputRuleKey} to inputRuleKey.
+     * @param inputRuleKey The value for inputRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInputRuleKey(RuleKey inputRuleKey) {
+      this.inputRuleKey = Objects.requireNonNull(inputRuleKey, "inputRuleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleKeys#getInputRuleKey() inputRuleKey} to inputRuleKey.
+     * @param inputRuleKey The value for inputRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInputRuleKey(Optional<? extends RuleKey> inputRuleKey) {
+      this.inputRuleKey = inputRuleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleKeys#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepFileRuleKey(RuleKey depFileRuleKey) {
+      this.depFileRuleKey = Objects.requireNonNull(depFileRuleKey, "depFileRuleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleKeys#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepFileRuleKey(Optional<? extends RuleKey> depFileRuleKey) {
+      this.depFileRuleKey = depFileRuleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleKeys#getManifestRuleKey() manifestRuleKey} to manifestRuleKey.
+     * @param manifestRuleKey The value for manifestRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestRuleKey(RuleKey manifestRuleKey) {
+      this.manifestRuleKey = Objects.requireNonNull(manifestRuleKey, "manifestRuleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleKeys#getManifestRuleKey() manifestRuleKey} to manifestRuleKey.
+     * @param manifestRuleKey The value for manifestRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestRuleKey(Optional<? extends RuleKey> manifestRuleKey) {
+      this.manifestRuleKey = manifestRuleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildRuleKeys BuildRuleKeys}.
+     * @return An immutable instance of BuildRuleKeys
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildRuleKeys build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildRuleKeys(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_RULE_KEY) != 0) attributes.add("ruleKey");
+      return "Cannot build BuildRuleKeys, some of required attributes are not set " + attributes;
+    }
+  }
+}
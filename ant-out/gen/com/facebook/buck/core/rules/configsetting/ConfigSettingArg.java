@@ -0,0 +1,286 @@
+package com.facebook.buck.core.rules.configsetting;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConfigSettingDescription.AbstractConfigSettingArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ConfigSettingArg.builder()}.
+ */
+@Generated(from = "ConfigSettingDescription.AbstractConfigSettingArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ConfigSettingArg
+    implements ConfigSettingDescription.AbstractConfigSettingArg {
+  private final String name;
+  private final ImmutableMap<String, String> values;
+  private final ImmutableSet<BuildTarget> constraintValues;
+
+  private ConfigSettingArg(ConfigSettingArg.Builder builder) {
+    this.name = builder.name;
+    this.values = builder.values.build();
+    this.constraintValues = builder.constraintValues.build();
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getValues() {
+    return values;
+  }
+
+  /**
+   * @return The value of the {@code constraintValues} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getConstraintValues() {
+    return constraintValues;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ConfigSettingArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ConfigSettingArg
+        && equalTo((ConfigSettingArg) another);
+  }
+
+  private boolean equalTo(ConfigSettingArg another) {
+    return name.equals(another.name)
+        && values.equals(another.values)
+        && constraintValues.equals(another.constraintValues);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code values}, {@code constraintValues}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + values.hashCode();
+    h += (h << 5) + constraintValues.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConfigSettingArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConfigSettingArg")
+        .omitNullValues()
+        .add("name", name)
+        .add("values", values)
+        .add("constraintValues", constraintValues)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ConfigSettingArg ConfigSettingArg}.
+   * @return A new ConfigSettingArg builder
+   */
+  public static ConfigSettingArg.Builder builder() {
+    return new ConfigSettingArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ConfigSettingArg ConfigSettingArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ConfigSettingDescription.AbstractConfigSettingArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+    private ImmutableMap.Builder<String, String> values = ImmutableMap.builder();
+    private ImmutableSet.Builder<BuildTarget> constraintValues = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ConfigSettingArg} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ConfigSettingArg instance) {
+      return from((ConfigSettingDescription.AbstractConfigSettingArg) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractConfigSettingArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(ConfigSettingDescription.AbstractConfigSettingArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      putAllValues(instance.getValues());
+      addAllConstraintValues(instance.getConstraintValues());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConfigSettingArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ConfigSettingArg#getValues() values} map.
+     * @param key The key in the values map
+     * @param value The associated value in the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putValues(String key, String value) {
+      this.values.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ConfigSettingArg#getValues() values} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putValues(Map.Entry<String, ? extends String> entry) {
+      this.values.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ConfigSettingArg#getValues() values} map. Nulls are not permitted
+     * @param entries The entries that will be added to the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValues(Map<String, ? extends String> entries) {
+      this.values = ImmutableMap.builder();
+      return putAllValues(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ConfigSettingArg#getValues() values} map. Nulls are not permitted
+     * @param entries The entries that will be added to the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllValues(Map<String, ? extends String> entries) {
+      this.values.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ConfigSettingArg#getConstraintValues() constraintValues} set.
+     * @param element A constraintValues element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addConstraintValues(BuildTarget element) {
+      this.constraintValues.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ConfigSettingArg#getConstraintValues() constraintValues} set.
+     * @param elements An array of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addConstraintValues(BuildTarget... elements) {
+      this.constraintValues.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ConfigSettingArg#getConstraintValues() constraintValues} set.
+     * @param elements An iterable of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConstraintValues(Iterable<? extends BuildTarget> elements) {
+      this.constraintValues = ImmutableSet.builder();
+      return addAllConstraintValues(elements);
+    }
+
+    /**
+     * Adds elements to {@link ConfigSettingArg#getConstraintValues() constraintValues} set.
+     * @param elements An iterable of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllConstraintValues(Iterable<? extends BuildTarget> elements) {
+      this.constraintValues.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ConfigSettingArg ConfigSettingArg}.
+     * @return An immutable instance of ConfigSettingArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ConfigSettingArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ConfigSettingArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ConfigSettingArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.facebook.buck.core.rules.knowntypes;
+
+import com.facebook.buck.core.description.BaseDescription;
+import com.facebook.buck.core.model.RuleType;
+import com.facebook.buck.core.model.targetgraph.DescriptionWithTargetGraph;
+import com.facebook.buck.core.rules.config.ConfigurationRuleDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Provides access to rule types. 
+ */
+@Generated(from = "AbstractKnownRuleTypes", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class KnownRuleTypes extends AbstractKnownRuleTypes {
+  private final ImmutableList<DescriptionWithTargetGraph<?>> knownBuildDescriptions;
+  private final ImmutableList<ConfigurationRuleDescription<?>> knownConfigurationDescriptions;
+
+  private KnownRuleTypes(
+      Iterable<? extends DescriptionWithTargetGraph<?>> knownBuildDescriptions,
+      Iterable<? extends ConfigurationRuleDescription<?>> knownConfigurationDescriptions) {
+    this.knownBuildDescriptions = ImmutableList.copyOf(knownBuildDescriptions);
+    this.knownConfigurationDescriptions = ImmutableList.copyOf(knownConfigurationDescriptions);
+  }
+
+  /**
+   * @return The value of the {@code knownBuildDescriptions} attribute
+   */
+  @Override
+  public ImmutableList<DescriptionWithTargetGraph<?>> getKnownBuildDescriptions() {
+    return knownBuildDescriptions;
+  }
+
+  /**
+   * @return The value of the {@code knownConfigurationDescriptions} attribute
+   */
+  @Override
+  public ImmutableList<ConfigurationRuleDescription<?>> getKnownConfigurationDescriptions() {
+    return knownConfigurationDescriptions;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code KnownRuleTypes} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof KnownRuleTypes
+        && equalTo((KnownRuleTypes) another);
+  }
+
+  private boolean equalTo(KnownRuleTypes another) {
+    return knownBuildDescriptions.equals(another.knownBuildDescriptions)
+        && knownConfigurationDescriptions.equals(another.knownConfigurationDescriptions);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code knownBuildDescriptions}, {@code knownConfigurationDescriptions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + knownBuildDescriptions.hashCode();
+    h += (h << 5) + knownConfigurationDescriptions.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code KnownRuleTypes} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("KnownRuleTypes")
+        .omitNullValues()
+        .add("knownBuildDescriptions", knownBuildDescriptions)
+        .add("knownConfigurationDescriptions", knownConfigurationDescriptions)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long TYPES_BY_NAME_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, RuleType> typesByName;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractKnownRuleTypes#getTypesByName() typesByName} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code typesByName} attribute
+   */
+  @Override
+  public ImmutableMap<String, RuleType> getTypesByName() {
+    if ((lazyInitBitmap & TYPES_BY_NAME_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & TYPES_BY_NAME_LAZY_INIT_BIT) == 0) {
+          this.typesByName = Objects.requireNonNull(super.getTypesByName(), "typesByName");
+          lazyInitBitmap |= TYPES_BY_NAME_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return typesByName;
+  }
+
+  private static final long DESCRIPTIONS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<BaseDescription<?>> descriptions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractKnownRuleTypes#getDescriptions() descriptions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code descriptions} attribute
+   */
+  @Override
+  public ImmutableList<BaseDescription<?>> getDescriptions() {
+    if ((lazyInitBitmap & DESCRIPTIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DESCRIPTIONS_LAZY_INIT_BIT) == 0) {
+          this.descriptions = Objects.requireNonNull(super.getDescriptions(), "descriptions");
+          lazyInitBitmap |= DESCRIPTIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return descriptions;
+  }
+
+  private static final long DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<RuleType, BaseDescription<?>> descriptionsByRule;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractKnownRuleTypes#getDescriptionsByRule() descriptionsByRule} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code descriptionsByRule} attribute
+   */
+  @Override
+  public ImmutableMap<RuleType, BaseDescription<?>> getDescriptionsByRule() {
+    if ((lazyInitBitmap & DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT) == 0) {
+          this.descriptionsByRule = Objects.requireNonNull(super.getDescriptionsByRule(), "descriptionsByRule");
+          lazyInitBitmap |= DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return descriptionsByRule;
+  }
+
+  /**
+   * Construct a new immutable {@code KnownRuleTypes} instance.
+   * @param knownBuildDescriptions The value for the {@code knownBuildDescriptions} attribute
+   * @param knownConfigurationDescriptions The value for the {@code knownConfigurationDescriptions} attribute
+   * @return An immutable KnownRuleTypes instance
+   */
+  public static KnownRuleTypes of(ImmutableList<DescriptionWithTargetGraph<?>> knownBuildDescriptions, ImmutableList<ConfigurationRuleDescription<?>> knownConfigurationDescriptions) {
+    return of((Iterable<? extends DescriptionWithTargetGraph<?>>) knownBuildDescriptions, (Iterable<? extends ConfigurationRuleDescription<?>>) knownConfigurationDescriptions);
+  }
+
+  /**
+   * Construct a new immutable {@code KnownRuleTypes} instance.
+   * @param knownBuildDescriptions The value for the {@code knownBuildDescriptions} attribute
+   * @param knownConfigurationDescriptions The value for the {@code knownConfigurationDescriptions} attribute
+   * @return An immutable KnownRuleTypes instance
+   */
+  public static KnownRuleTypes of(Iterable<? extends DescriptionWithTargetGraph<?>> knownBuildDescriptions, Iterable<? extends ConfigurationRuleDescription<?>> knownConfigurationDescriptions) {
+    return validate(new KnownRuleTypes(knownBuildDescriptions, knownConfigurationDescriptions));
+  }
+
+
+  private static KnownRuleTypes validate(KnownRuleTypes instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,161 @@
+package com.facebook.buck.core.rules.platform;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConstraintSettingDescription.AbstractConstraintSettingArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ConstraintSettingArg.builder()}.
+ */
+@Generated(from = "ConstraintSettingDescription.AbstractConstraintSettingArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ConstraintSettingArg
+    implements ConstraintSettingDescription.AbstractConstraintSettingArg {
+  private final String name;
+
+  private ConstraintSettingArg(ConstraintSettingArg.Builder builder) {
+    this.name = builder.name;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ConstraintSettingArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ConstraintSettingArg
+        && equalTo((ConstraintSettingArg) another);
+  }
+
+  private boolean equalTo(ConstraintSettingArg another) {
+    return name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConstraintSettingArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConstraintSettingArg")
+        .omitNullValues()
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ConstraintSettingArg ConstraintSettingArg}.
+   * @return A new ConstraintSettingArg builder
+   */
+  public static ConstraintSettingArg.Builder builder() {
+    return new ConstraintSettingArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ConstraintSettingArg ConstraintSettingArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ConstraintSettingDescription.AbstractConstraintSettingArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ConstraintSettingArg} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ConstraintSettingArg instance) {
+      return from((ConstraintSettingDescription.AbstractConstraintSettingArg) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractConstraintSettingArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(ConstraintSettingDescription.AbstractConstraintSettingArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstraintSettingArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ConstraintSettingArg ConstraintSettingArg}.
+     * @return An immutable instance of ConstraintSettingArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ConstraintSettingArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ConstraintSettingArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ConstraintSettingArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.facebook.buck.core.rules.platform;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *{@code platform} rule. 
+ */
+@Generated(from = "PlatformDescription.AbstractPlatformRule", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PlatformRule
+    implements PlatformDescription.AbstractPlatformRule {
+  private final BuildTarget buildTarget;
+  private final String name;
+  private final ImmutableList<BuildTarget> constrainValues;
+
+  private PlatformRule(
+      BuildTarget buildTarget,
+      String name,
+      Iterable<? extends BuildTarget> constrainValues) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.name = Objects.requireNonNull(name, "name");
+    this.constrainValues = ImmutableList.copyOf(constrainValues);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code constrainValues} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getConstrainValues() {
+    return constrainValues;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PlatformRule} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PlatformRule
+        && equalTo((PlatformRule) another);
+  }
+
+  private boolean equalTo(PlatformRule another) {
+    return buildTarget.equals(another.buildTarget)
+        && name.equals(another.name)
+        && constrainValues.equals(another.constrainValues);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code name}, {@code constrainValues}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + constrainValues.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PlatformRule} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PlatformRule")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("name", name)
+        .add("constrainValues", constrainValues)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PlatformRule} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param name The value for the {@code name} attribute
+   * @param constrainValues The value for the {@code constrainValues} attribute
+   * @return An immutable PlatformRule instance
+   */
+  public static PlatformRule of(BuildTarget buildTarget, String name, ImmutableList<BuildTarget> constrainValues) {
+    return of(buildTarget, name, (Iterable<? extends BuildTarget>) constrainValues);
+  }
+
+  /**
+   * Construct a new immutable {@code PlatformRule} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param name The value for the {@code name} attribute
+   * @param constrainValues The value for the {@code constrainValues} attribute
+   * @return An immutable PlatformRule instance
+   */
+  public static PlatformRule of(BuildTarget buildTarget, String name, Iterable<? extends BuildTarget> constrainValues) {
+    return new PlatformRule(buildTarget, name, constrainValues);
+  }
+}
@@ -0,0 +1,260 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *A {@link SourcePath} that can reference a member within an archive. 
+ */
+@Generated(from = "AbstractArchiveMemberSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ArchiveMemberSourcePath
+    extends AbstractArchiveMemberSourcePath {
+  private final SourcePath archiveSourcePath;
+  private final Path memberPath;
+  private transient final int hashCode;
+
+  private ArchiveMemberSourcePath(SourcePath archiveSourcePath, Path memberPath) {
+    this.archiveSourcePath = Objects.requireNonNull(archiveSourcePath, "archiveSourcePath");
+    this.memberPath = Objects.requireNonNull(memberPath, "memberPath");
+    this.hashCode = computeHashCode();
+  }
+
+  private ArchiveMemberSourcePath(
+      ArchiveMemberSourcePath original,
+      SourcePath archiveSourcePath,
+      Path memberPath) {
+    this.archiveSourcePath = archiveSourcePath;
+    this.memberPath = memberPath;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code archiveSourcePath} attribute
+   */
+  @Override
+  public SourcePath getArchiveSourcePath() {
+    return archiveSourcePath;
+  }
+
+  /**
+   * @return The value of the {@code memberPath} attribute
+   */
+  @Override
+  public Path getMemberPath() {
+    return memberPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArchiveMemberSourcePath#getArchiveSourcePath() archiveSourcePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for archiveSourcePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ArchiveMemberSourcePath withArchiveSourcePath(SourcePath value) {
+    if (this.archiveSourcePath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "archiveSourcePath");
+    return validate(new ArchiveMemberSourcePath(this, newValue, this.memberPath));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArchiveMemberSourcePath#getMemberPath() memberPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for memberPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ArchiveMemberSourcePath withMemberPath(Path value) {
+    if (this.memberPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "memberPath");
+    return validate(new ArchiveMemberSourcePath(this, this.archiveSourcePath, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ArchiveMemberSourcePath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ArchiveMemberSourcePath
+        && equalTo((ArchiveMemberSourcePath) another);
+  }
+
+  private boolean equalTo(ArchiveMemberSourcePath another) {
+    if (hashCode != another.hashCode) return false;
+    return archiveSourcePath.equals(another.archiveSourcePath)
+        && memberPath.equals(another.memberPath);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code archiveSourcePath}, {@code memberPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + archiveSourcePath.hashCode();
+    h += (h << 5) + memberPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArchiveMemberSourcePath} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArchiveMemberSourcePath")
+        .omitNullValues()
+        .add("archiveSourcePath", archiveSourcePath)
+        .add("memberPath", memberPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ArchiveMemberSourcePath} instance.
+   * @param archiveSourcePath The value for the {@code archiveSourcePath} attribute
+   * @param memberPath The value for the {@code memberPath} attribute
+   * @return An immutable ArchiveMemberSourcePath instance
+   */
+  public static ArchiveMemberSourcePath of(SourcePath archiveSourcePath, Path memberPath) {
+    return validate(new ArchiveMemberSourcePath(archiveSourcePath, memberPath));
+  }
+
+
+  private static ArchiveMemberSourcePath validate(ArchiveMemberSourcePath instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractArchiveMemberSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ArchiveMemberSourcePath instance
+   */
+  static ArchiveMemberSourcePath copyOf(AbstractArchiveMemberSourcePath instance) {
+    if (instance instanceof ArchiveMemberSourcePath) {
+      return (ArchiveMemberSourcePath) instance;
+    }
+    return ArchiveMemberSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ArchiveMemberSourcePath ArchiveMemberSourcePath}.
+   * @return A new ArchiveMemberSourcePath builder
+   */
+  public static ArchiveMemberSourcePath.Builder builder() {
+    return new ArchiveMemberSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ArchiveMemberSourcePath ArchiveMemberSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractArchiveMemberSourcePath", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ARCHIVE_SOURCE_PATH = 0x1L;
+    private static final long INIT_BIT_MEMBER_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath archiveSourcePath;
+    private @Nullable Path memberPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ArchiveMemberSourcePath} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ArchiveMemberSourcePath instance) {
+      return from((AbstractArchiveMemberSourcePath) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractArchiveMemberSourcePath} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractArchiveMemberSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      setArchiveSourcePath(instance.getArchiveSourcePath());
+      setMemberPath(instance.getMemberPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArchiveMemberSourcePath#getArchiveSourcePath() archiveSourcePath} attribute.
+     * @param archiveSourcePath The value for archiveSourcePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArchiveSourcePath(SourcePath archiveSourcePath) {
+      this.archiveSourcePath = Objects.requireNonNull(archiveSourcePath, "archiveSourcePath");
+      initBits &= ~INIT_BIT_ARCHIVE_SOURCE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArchiveMemberSourcePath#getMemberPath() memberPath} attribute.
+     * @param memberPath The value for memberPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMemberPath(Path memberPath) {
+      this.memberPath = Objects.requireNonNull(memberPath, "memberPath");
+      initBits &= ~INIT_BIT_MEMBER_PATH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ArchiveMemberSourcePath ArchiveMemberSourcePath}.
+     * @return An immutable instance of ArchiveMemberSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ArchiveMemberSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ArchiveMemberSourcePath.validate(new ArchiveMemberSourcePath(null, archiveSourcePath, memberPath));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_ARCHIVE_SOURCE_PATH) != 0) attributes.add("archiveSourcePath");
+      if ((initBits & INIT_BIT_MEMBER_PATH) != 0) attributes.add("memberPath");
+      return "Cannot build ArchiveMemberSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
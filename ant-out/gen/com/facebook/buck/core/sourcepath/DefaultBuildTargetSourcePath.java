@@ -0,0 +1,269 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * A {@link BuildTargetSourcePath} which resolves to the default output of the {@link
+ * com.facebook.buck.core.rules.BuildRule} referred to by its target.
+ */
+@Generated(from = "AbstractDefaultBuildTargetSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DefaultBuildTargetSourcePath
+    extends AbstractDefaultBuildTargetSourcePath {
+  private final BuildTarget target;
+  private final @Nullable HashCode precomputedHash;
+  private transient final int hashCode;
+
+  private DefaultBuildTargetSourcePath(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.precomputedHash = null;
+    this.hashCode = super.hashCode();
+  }
+
+  private DefaultBuildTargetSourcePath(
+      BuildTarget target,
+      @Nullable HashCode precomputedHash) {
+    this.target = target;
+    this.precomputedHash = precomputedHash;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code precomputedHash} attribute
+   */
+  @Override
+  public Optional<HashCode> getPrecomputedHash() {
+    return Optional.ofNullable(precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultBuildTargetSourcePath#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultBuildTargetSourcePath withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new DefaultBuildTargetSourcePath(newValue, this.precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDefaultBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+   * @param value The value for precomputedHash
+   * @return A modified copy of {@code this} object
+   */
+  public final DefaultBuildTargetSourcePath withPrecomputedHash(HashCode value) {
+    @Nullable HashCode newValue = Objects.requireNonNull(value, "precomputedHash");
+    if (this.precomputedHash == newValue) return this;
+    return new DefaultBuildTargetSourcePath(this.target, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDefaultBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for precomputedHash
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final DefaultBuildTargetSourcePath withPrecomputedHash(Optional<? extends HashCode> optional) {
+    @Nullable HashCode value = optional.orElse(null);
+    if (this.precomputedHash == value) return this;
+    return new DefaultBuildTargetSourcePath(this.target, value);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultBuildTargetSourcePath} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable DefaultBuildTargetSourcePath instance
+   */
+  public static DefaultBuildTargetSourcePath of(BuildTarget target) {
+    return new DefaultBuildTargetSourcePath(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDefaultBuildTargetSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DefaultBuildTargetSourcePath instance
+   */
+  public static DefaultBuildTargetSourcePath copyOf(AbstractDefaultBuildTargetSourcePath instance) {
+    if (instance instanceof DefaultBuildTargetSourcePath) {
+      return (DefaultBuildTargetSourcePath) instance;
+    }
+    return DefaultBuildTargetSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DefaultBuildTargetSourcePath DefaultBuildTargetSourcePath}.
+   * @return A new DefaultBuildTargetSourcePath builder
+   */
+  public static DefaultBuildTargetSourcePath.Builder builder() {
+    return new DefaultBuildTargetSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DefaultBuildTargetSourcePath DefaultBuildTargetSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractDefaultBuildTargetSourcePath", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable HashCode precomputedHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.AbstractDefaultBuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractDefaultBuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.BuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof AbstractDefaultBuildTargetSourcePath) {
+        AbstractDefaultBuildTargetSourcePath instance = (AbstractDefaultBuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          Optional<HashCode> precomputedHashOptional = instance.getPrecomputedHash();
+          if (precomputedHashOptional.isPresent()) {
+            setPrecomputedHash(precomputedHashOptional);
+          }
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof BuildTargetSourcePath) {
+        BuildTargetSourcePath instance = (BuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          Optional<HashCode> precomputedHashOptional = instance.getPrecomputedHash();
+          if (precomputedHashOptional.isPresent()) {
+            setPrecomputedHash(precomputedHashOptional);
+          }
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultBuildTargetSourcePath#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDefaultBuildTargetSourcePath#getPrecomputedHash() precomputedHash} to precomputedHash.
+     * @param precomputedHash The value for precomputedHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedHash(HashCode precomputedHash) {
+      this.precomputedHash = Objects.requireNonNull(precomputedHash, "precomputedHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDefaultBuildTargetSourcePath#getPrecomputedHash() precomputedHash} to precomputedHash.
+     * @param precomputedHash The value for precomputedHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedHash(Optional<? extends HashCode> precomputedHash) {
+      this.precomputedHash = precomputedHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DefaultBuildTargetSourcePath DefaultBuildTargetSourcePath}.
+     * @return An immutable instance of DefaultBuildTargetSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefaultBuildTargetSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DefaultBuildTargetSourcePath(target, precomputedHash);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      return "Cannot build DefaultBuildTargetSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
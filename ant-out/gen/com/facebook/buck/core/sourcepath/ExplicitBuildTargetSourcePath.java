@@ -0,0 +1,311 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * A {@link BuildTargetSourcePath} which resolves to a specific (possibly non-default) output of the
+ * {@link com.facebook.buck.core.rules.BuildRule} referred to by its target.
+ */
+@Generated(from = "AbstractExplicitBuildTargetSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ExplicitBuildTargetSourcePath
+    extends AbstractExplicitBuildTargetSourcePath {
+  private final BuildTarget target;
+  private final Path resolvedPath;
+  private final @Nullable HashCode precomputedHash;
+  private transient final int hashCode;
+
+  private ExplicitBuildTargetSourcePath(BuildTarget target, Path resolvedPath) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.resolvedPath = Objects.requireNonNull(resolvedPath, "resolvedPath");
+    this.precomputedHash = null;
+    this.hashCode = super.hashCode();
+  }
+
+  private ExplicitBuildTargetSourcePath(
+      BuildTarget target,
+      Path resolvedPath,
+      @Nullable HashCode precomputedHash) {
+    this.target = target;
+    this.resolvedPath = resolvedPath;
+    this.precomputedHash = precomputedHash;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code resolvedPath} attribute
+   */
+  @Override
+  public Path getResolvedPath() {
+    return resolvedPath;
+  }
+
+  /**
+   * @return The value of the {@code precomputedHash} attribute
+   */
+  @Override
+  public Optional<HashCode> getPrecomputedHash() {
+    return Optional.ofNullable(precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExplicitBuildTargetSourcePath#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExplicitBuildTargetSourcePath withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new ExplicitBuildTargetSourcePath(newValue, this.resolvedPath, this.precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExplicitBuildTargetSourcePath#getResolvedPath() resolvedPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resolvedPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExplicitBuildTargetSourcePath withResolvedPath(Path value) {
+    if (this.resolvedPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "resolvedPath");
+    return new ExplicitBuildTargetSourcePath(this.target, newValue, this.precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExplicitBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+   * @param value The value for precomputedHash
+   * @return A modified copy of {@code this} object
+   */
+  public final ExplicitBuildTargetSourcePath withPrecomputedHash(HashCode value) {
+    @Nullable HashCode newValue = Objects.requireNonNull(value, "precomputedHash");
+    if (this.precomputedHash == newValue) return this;
+    return new ExplicitBuildTargetSourcePath(this.target, this.resolvedPath, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExplicitBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for precomputedHash
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ExplicitBuildTargetSourcePath withPrecomputedHash(Optional<? extends HashCode> optional) {
+    @Nullable HashCode value = optional.orElse(null);
+    if (this.precomputedHash == value) return this;
+    return new ExplicitBuildTargetSourcePath(this.target, this.resolvedPath, value);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code ExplicitBuildTargetSourcePath} instance.
+   * @param target The value for the {@code target} attribute
+   * @param resolvedPath The value for the {@code resolvedPath} attribute
+   * @return An immutable ExplicitBuildTargetSourcePath instance
+   */
+  public static ExplicitBuildTargetSourcePath of(BuildTarget target, Path resolvedPath) {
+    return new ExplicitBuildTargetSourcePath(target, resolvedPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExplicitBuildTargetSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExplicitBuildTargetSourcePath instance
+   */
+  public static ExplicitBuildTargetSourcePath copyOf(AbstractExplicitBuildTargetSourcePath instance) {
+    if (instance instanceof ExplicitBuildTargetSourcePath) {
+      return (ExplicitBuildTargetSourcePath) instance;
+    }
+    return ExplicitBuildTargetSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExplicitBuildTargetSourcePath ExplicitBuildTargetSourcePath}.
+   * @return A new ExplicitBuildTargetSourcePath builder
+   */
+  public static ExplicitBuildTargetSourcePath.Builder builder() {
+    return new ExplicitBuildTargetSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExplicitBuildTargetSourcePath ExplicitBuildTargetSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractExplicitBuildTargetSourcePath", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private static final long INIT_BIT_RESOLVED_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable Path resolvedPath;
+    private @Nullable HashCode precomputedHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.BuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.AbstractExplicitBuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractExplicitBuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof BuildTargetSourcePath) {
+        BuildTargetSourcePath instance = (BuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          Optional<HashCode> precomputedHashOptional = instance.getPrecomputedHash();
+          if (precomputedHashOptional.isPresent()) {
+            setPrecomputedHash(precomputedHashOptional);
+          }
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof AbstractExplicitBuildTargetSourcePath) {
+        AbstractExplicitBuildTargetSourcePath instance = (AbstractExplicitBuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          Optional<HashCode> precomputedHashOptional = instance.getPrecomputedHash();
+          if (precomputedHashOptional.isPresent()) {
+            setPrecomputedHash(precomputedHashOptional);
+          }
+          bits |= 0x1L;
+        }
+        setResolvedPath(instance.getResolvedPath());
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExplicitBuildTargetSourcePath#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExplicitBuildTargetSourcePath#getResolvedPath() resolvedPath} attribute.
+     * @param resolvedPath The value for resolvedPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResolvedPath(Path resolvedPath) {
+      this.resolvedPath = Objects.requireNonNull(resolvedPath, "resolvedPath");
+      initBits &= ~INIT_BIT_RESOLVED_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExplicitBuildTargetSourcePath#getPrecomputedHash() precomputedHash} to precomputedHash.
+     * @param precomputedHash The value for precomputedHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedHash(HashCode precomputedHash) {
+      this.precomputedHash = Objects.requireNonNull(precomputedHash, "precomputedHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExplicitBuildTargetSourcePath#getPrecomputedHash() precomputedHash} to precomputedHash.
+     * @param precomputedHash The value for precomputedHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedHash(Optional<? extends HashCode> precomputedHash) {
+      this.precomputedHash = precomputedHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExplicitBuildTargetSourcePath ExplicitBuildTargetSourcePath}.
+     * @return An immutable instance of ExplicitBuildTargetSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExplicitBuildTargetSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExplicitBuildTargetSourcePath(target, resolvedPath, precomputedHash);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      if ((initBits & INIT_BIT_RESOLVED_PATH) != 0) attributes.add("resolvedPath");
+      return "Cannot build ExplicitBuildTargetSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
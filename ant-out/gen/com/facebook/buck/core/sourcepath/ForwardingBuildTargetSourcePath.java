@@ -0,0 +1,311 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *A {@link BuildTargetSourcePath} which resolves to the value of another SourcePath. 
+ */
+@Generated(from = "AbstractForwardingBuildTargetSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ForwardingBuildTargetSourcePath
+    extends AbstractForwardingBuildTargetSourcePath {
+  private final BuildTarget target;
+  private final SourcePath delegate;
+  private final @Nullable HashCode precomputedHash;
+  private transient final int hashCode;
+
+  private ForwardingBuildTargetSourcePath(
+      BuildTarget target,
+      SourcePath delegate) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.precomputedHash = null;
+    this.hashCode = super.hashCode();
+  }
+
+  private ForwardingBuildTargetSourcePath(
+      BuildTarget target,
+      SourcePath delegate,
+      @Nullable HashCode precomputedHash) {
+    this.target = target;
+    this.delegate = delegate;
+    this.precomputedHash = precomputedHash;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public SourcePath getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * @return The value of the {@code precomputedHash} attribute
+   */
+  @Override
+  public Optional<HashCode> getPrecomputedHash() {
+    return Optional.ofNullable(precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractForwardingBuildTargetSourcePath#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ForwardingBuildTargetSourcePath withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new ForwardingBuildTargetSourcePath(newValue, this.delegate, this.precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractForwardingBuildTargetSourcePath#getDelegate() delegate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for delegate
+   * @return A modified copy of the {@code this} object
+   */
+  public final ForwardingBuildTargetSourcePath withDelegate(SourcePath value) {
+    if (this.delegate == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "delegate");
+    return new ForwardingBuildTargetSourcePath(this.target, newValue, this.precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractForwardingBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+   * @param value The value for precomputedHash
+   * @return A modified copy of {@code this} object
+   */
+  public final ForwardingBuildTargetSourcePath withPrecomputedHash(HashCode value) {
+    @Nullable HashCode newValue = Objects.requireNonNull(value, "precomputedHash");
+    if (this.precomputedHash == newValue) return this;
+    return new ForwardingBuildTargetSourcePath(this.target, this.delegate, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractForwardingBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for precomputedHash
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ForwardingBuildTargetSourcePath withPrecomputedHash(Optional<? extends HashCode> optional) {
+    @Nullable HashCode value = optional.orElse(null);
+    if (this.precomputedHash == value) return this;
+    return new ForwardingBuildTargetSourcePath(this.target, this.delegate, value);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code ForwardingBuildTargetSourcePath} instance.
+   * @param target The value for the {@code target} attribute
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ForwardingBuildTargetSourcePath instance
+   */
+  public static ForwardingBuildTargetSourcePath of(BuildTarget target, SourcePath delegate) {
+    return new ForwardingBuildTargetSourcePath(target, delegate);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractForwardingBuildTargetSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ForwardingBuildTargetSourcePath instance
+   */
+  public static ForwardingBuildTargetSourcePath copyOf(AbstractForwardingBuildTargetSourcePath instance) {
+    if (instance instanceof ForwardingBuildTargetSourcePath) {
+      return (ForwardingBuildTargetSourcePath) instance;
+    }
+    return ForwardingBuildTargetSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ForwardingBuildTargetSourcePath ForwardingBuildTargetSourcePath}.
+   * @return A new ForwardingBuildTargetSourcePath builder
+   */
+  public static ForwardingBuildTargetSourcePath.Builder builder() {
+    return new ForwardingBuildTargetSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ForwardingBuildTargetSourcePath ForwardingBuildTargetSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractForwardingBuildTargetSourcePath", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private static final long INIT_BIT_DELEGATE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable SourcePath delegate;
+    private @Nullable HashCode precomputedHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.BuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.AbstractForwardingBuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractForwardingBuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof BuildTargetSourcePath) {
+        BuildTargetSourcePath instance = (BuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          Optional<HashCode> precomputedHashOptional = instance.getPrecomputedHash();
+          if (precomputedHashOptional.isPresent()) {
+            setPrecomputedHash(precomputedHashOptional);
+          }
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof AbstractForwardingBuildTargetSourcePath) {
+        AbstractForwardingBuildTargetSourcePath instance = (AbstractForwardingBuildTargetSourcePath) object;
+        setDelegate(instance.getDelegate());
+        if ((bits & 0x1L) == 0) {
+          Optional<HashCode> precomputedHashOptional = instance.getPrecomputedHash();
+          if (precomputedHashOptional.isPresent()) {
+            setPrecomputedHash(precomputedHashOptional);
+          }
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractForwardingBuildTargetSourcePath#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractForwardingBuildTargetSourcePath#getDelegate() delegate} attribute.
+     * @param delegate The value for delegate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDelegate(SourcePath delegate) {
+      this.delegate = Objects.requireNonNull(delegate, "delegate");
+      initBits &= ~INIT_BIT_DELEGATE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractForwardingBuildTargetSourcePath#getPrecomputedHash() precomputedHash} to precomputedHash.
+     * @param precomputedHash The value for precomputedHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedHash(HashCode precomputedHash) {
+      this.precomputedHash = Objects.requireNonNull(precomputedHash, "precomputedHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractForwardingBuildTargetSourcePath#getPrecomputedHash() precomputedHash} to precomputedHash.
+     * @param precomputedHash The value for precomputedHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedHash(Optional<? extends HashCode> precomputedHash) {
+      this.precomputedHash = precomputedHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ForwardingBuildTargetSourcePath ForwardingBuildTargetSourcePath}.
+     * @return An immutable instance of ForwardingBuildTargetSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ForwardingBuildTargetSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ForwardingBuildTargetSourcePath(target, delegate, precomputedHash);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      if ((initBits & INIT_BIT_DELEGATE) != 0) attributes.add("delegate");
+      return "Cannot build ForwardingBuildTargetSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.facebook.buck.core.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Contains basic information about a {@link Toolchain} that can be used to identify and construct
+ * an instance of a particular Toolchain.
+ */
+@Generated(from = "AbstractToolchainDescriptor", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ToolchainDescriptor<T extends Toolchain>
+    implements AbstractToolchainDescriptor<T> {
+  private final String name;
+  private final Class<T> toolchainClass;
+  private final Class<? extends ToolchainFactory<T>> toolchainFactoryClass;
+
+  private ToolchainDescriptor(
+      String name,
+      Class<T> toolchainClass,
+      Class<? extends ToolchainFactory<T>> toolchainFactoryClass) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.toolchainClass = Objects.requireNonNull(toolchainClass, "toolchainClass");
+    this.toolchainFactoryClass = Objects.requireNonNull(toolchainFactoryClass, "toolchainFactoryClass");
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code toolchainClass} attribute
+   */
+  @Override
+  public Class<T> getToolchainClass() {
+    return toolchainClass;
+  }
+
+  /**
+   * @return The value of the {@code toolchainFactoryClass} attribute
+   */
+  @Override
+  public Class<? extends ToolchainFactory<T>> getToolchainFactoryClass() {
+    return toolchainFactoryClass;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ToolchainDescriptor} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ToolchainDescriptor<?>
+        && equalTo((ToolchainDescriptor<?>) another);
+  }
+
+  private boolean equalTo(ToolchainDescriptor<?> another) {
+    return name.equals(another.name)
+        && toolchainClass.equals(another.toolchainClass)
+        && toolchainFactoryClass.equals(another.toolchainFactoryClass);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code toolchainClass}, {@code toolchainFactoryClass}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + toolchainClass.hashCode();
+    h += (h << 5) + toolchainFactoryClass.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ToolchainDescriptor} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ToolchainDescriptor")
+        .omitNullValues()
+        .add("name", name)
+        .add("toolchainClass", toolchainClass)
+        .add("toolchainFactoryClass", toolchainFactoryClass)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ToolchainDescriptor} instance.
+   * @param name The value for the {@code name} attribute
+   * @param toolchainClass The value for the {@code toolchainClass} attribute
+   * @param toolchainFactoryClass The value for the {@code toolchainFactoryClass} attribute
+   * @return An immutable ToolchainDescriptor instance
+   */
+  public static <T extends Toolchain> ToolchainDescriptor<T> of(String name, Class<T> toolchainClass, Class<? extends ToolchainFactory<T>> toolchainFactoryClass) {
+    return new ToolchainDescriptor<>(name, toolchainClass, toolchainFactoryClass);
+  }
+}
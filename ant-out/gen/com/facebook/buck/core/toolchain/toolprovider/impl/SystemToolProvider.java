@@ -0,0 +1,353 @@
+package com.facebook.buck.core.toolchain.toolprovider.impl;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.io.ExecutableFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * A {@link ToolProvider} which returns a {@link HashedFileTool} found from searching the system.
+ */
+@Generated(from = "AbstractSystemToolProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class SystemToolProvider
+    extends AbstractSystemToolProvider {
+  private final ExecutableFinder executableFinder;
+  private final ImmutableMap<String, String> environment;
+  private final Function<Path, SourcePath> sourcePathConverter;
+  private final Path name;
+  private final @Nullable String source;
+
+  private SystemToolProvider(SystemToolProvider.Builder builder) {
+    this.executableFinder = builder.executableFinder;
+    this.environment = builder.environment.build();
+    this.sourcePathConverter = builder.sourcePathConverter;
+    this.name = builder.name;
+    this.source = builder.source;
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  public ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathConverter} attribute
+   */
+  @Override
+  public Function<Path, SourcePath> getSourcePathConverter() {
+    return sourcePathConverter;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public Path getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public Optional<String> getSource() {
+    return Optional.ofNullable(source);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SystemToolProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SystemToolProvider
+        && equalTo((SystemToolProvider) another);
+  }
+
+  private boolean equalTo(SystemToolProvider another) {
+    return executableFinder.equals(another.executableFinder)
+        && environment.equals(another.environment)
+        && sourcePathConverter.equals(another.sourcePathConverter)
+        && name.equals(another.name)
+        && Objects.equals(source, another.source);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executableFinder}, {@code environment}, {@code sourcePathConverter}, {@code name}, {@code source}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + executableFinder.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + sourcePathConverter.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Objects.hashCode(source);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SystemToolProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SystemToolProvider")
+        .omitNullValues()
+        .add("executableFinder", executableFinder)
+        .add("environment", environment)
+        .add("sourcePathConverter", sourcePathConverter)
+        .add("name", name)
+        .add("source", source)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long RESOLVE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Tool resolve;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link SystemToolProvider#resolve() resolve} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code resolve} attribute
+   */
+  @Override
+  public Tool resolve() {
+    if ((lazyInitBitmap & RESOLVE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RESOLVE_LAZY_INIT_BIT) == 0) {
+          this.resolve = Objects.requireNonNull(super.resolve(), "resolve");
+          lazyInitBitmap |= RESOLVE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return resolve;
+  }
+
+  /**
+   * Creates a builder for {@link SystemToolProvider SystemToolProvider}.
+   * @return A new SystemToolProvider builder
+   */
+  public static SystemToolProvider.Builder builder() {
+    return new SystemToolProvider.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SystemToolProvider SystemToolProvider}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractSystemToolProvider", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_EXECUTABLE_FINDER = 0x1L;
+    private static final long INIT_BIT_SOURCE_PATH_CONVERTER = 0x2L;
+    private static final long INIT_BIT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable ExecutableFinder executableFinder;
+    private ImmutableMap.Builder<String, String> environment = ImmutableMap.builder();
+    private @Nullable Function<Path, SourcePath> sourcePathConverter;
+    private @Nullable Path name;
+    private @Nullable String source;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SystemToolProvider} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SystemToolProvider instance) {
+      return from((AbstractSystemToolProvider) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSystemToolProvider} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractSystemToolProvider instance) {
+      Objects.requireNonNull(instance, "instance");
+      setExecutableFinder(instance.getExecutableFinder());
+      putAllEnvironment(instance.getEnvironment());
+      setSourcePathConverter(instance.getSourcePathConverter());
+      setName(instance.getName());
+      Optional<String> sourceOptional = instance.getSource();
+      if (sourceOptional.isPresent()) {
+        setSource(sourceOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link SystemToolProvider#getExecutableFinder() executableFinder} attribute.
+     * @param executableFinder The value for executableFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutableFinder(ExecutableFinder executableFinder) {
+      this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+      initBits &= ~INIT_BIT_EXECUTABLE_FINDER;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link SystemToolProvider#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link SystemToolProvider#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link SystemToolProvider#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironment(Map<String, ? extends String> entries) {
+      this.environment = ImmutableMap.builder();
+      return putAllEnvironment(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link SystemToolProvider#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllEnvironment(Map<String, ? extends String> entries) {
+      this.environment.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link SystemToolProvider#getSourcePathConverter() sourcePathConverter} attribute.
+     * @param sourcePathConverter The value for sourcePathConverter 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourcePathConverter(Function<Path, SourcePath> sourcePathConverter) {
+      this.sourcePathConverter = Objects.requireNonNull(sourcePathConverter, "sourcePathConverter");
+      initBits &= ~INIT_BIT_SOURCE_PATH_CONVERTER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link SystemToolProvider#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(Path name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SystemToolProvider#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSource(String source) {
+      this.source = Objects.requireNonNull(source, "source");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SystemToolProvider#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSource(Optional<String> source) {
+      this.source = source.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SystemToolProvider SystemToolProvider}.
+     * @return An immutable instance of SystemToolProvider
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SystemToolProvider build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SystemToolProvider(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_EXECUTABLE_FINDER) != 0) attributes.add("executableFinder");
+      if ((initBits & INIT_BIT_SOURCE_PATH_CONVERTER) != 0) attributes.add("sourcePathConverter");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build SystemToolProvider, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,370 @@
+package com.facebook.buck.counters;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractCounterSnapshot}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CounterSnapshot.builder()}.
+ */
+@Generated(from = "AbstractCounterSnapshot", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CounterSnapshot extends AbstractCounterSnapshot {
+  private final String category;
+  private final ImmutableMap<String, String> tags;
+  private final ImmutableSetMultimap<String, String> tagSets;
+  private final ImmutableMap<String, Long> values;
+
+  private CounterSnapshot(CounterSnapshot.Builder builder) {
+    this.category = builder.category;
+    this.tags = builder.tags.build();
+    this.tagSets = builder.tagSets.build();
+    this.values = builder.values.build();
+  }
+
+  /**
+   * @return The value of the {@code category} attribute
+   */
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return The value of the {@code tags} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * @return The value of the {@code tagSets} attribute
+   */
+  @Override
+  public ImmutableSetMultimap<String, String> getTagSets() {
+    return tagSets;
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<String, Long> getValues() {
+    return values;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CounterSnapshot} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CounterSnapshot
+        && equalTo((CounterSnapshot) another);
+  }
+
+  private boolean equalTo(CounterSnapshot another) {
+    return category.equals(another.category)
+        && tags.equals(another.tags)
+        && tagSets.equals(another.tagSets)
+        && values.equals(another.values);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code category}, {@code tags}, {@code tagSets}, {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + category.hashCode();
+    h += (h << 5) + tags.hashCode();
+    h += (h << 5) + tagSets.hashCode();
+    h += (h << 5) + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CounterSnapshot} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CounterSnapshot")
+        .omitNullValues()
+        .add("category", category)
+        .add("tags", tags)
+        .add("tagSets", tagSets)
+        .add("values", values)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CounterSnapshot CounterSnapshot}.
+   * @return A new CounterSnapshot builder
+   */
+  public static CounterSnapshot.Builder builder() {
+    return new CounterSnapshot.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CounterSnapshot CounterSnapshot}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractCounterSnapshot", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CATEGORY = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String category;
+    private ImmutableMap.Builder<String, String> tags = ImmutableMap.builder();
+    private ImmutableSetMultimap.Builder<String, String> tagSets = ImmutableSetMultimap.builder();
+    private ImmutableMap.Builder<String, Long> values = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CounterSnapshot} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CounterSnapshot instance) {
+      return from((AbstractCounterSnapshot) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCounterSnapshot} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCounterSnapshot instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCategory(instance.getCategory());
+      putAllTags(instance.getTags());
+      putAllTagSets(instance.getTagSets());
+      putAllValues(instance.getValues());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CounterSnapshot#getCategory() category} attribute.
+     * @param category The value for category 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCategory(String category) {
+      this.category = Objects.requireNonNull(category, "category");
+      initBits &= ~INIT_BIT_CATEGORY;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CounterSnapshot#getTags() tags} map.
+     * @param key The key in the tags map
+     * @param value The associated value in the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putTags(String key, String value) {
+      this.tags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putTags(Map.Entry<String, ? extends String> entry) {
+      this.tags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTags(Map<String, ? extends String> entries) {
+      this.tags = ImmutableMap.builder();
+      return putAllTags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllTags(Map<String, ? extends String> entries) {
+      this.tags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CounterSnapshot#getTagSets() tagSets} true. Nulls are not permitted
+     * @param key The key for tagSets
+     * @param values The values for tagSets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putTagSets(String key, String... values) {
+      this.tagSets.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CounterSnapshot#getTagSets() tagSets} true. Nulls are not permitted
+     * @param key The key for tagSets
+     * @param values The values for tagSets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllTagSets(String key, Iterable<String> values) {
+      this.tagSets.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CounterSnapshot#getTagSets() tagSets} map.
+     * @param key The key in the tagSets map
+     * @param value The associated value in the tagSets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putTagSets(String key, String value) {
+      this.tagSets.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CounterSnapshot#getTagSets() tagSets} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putTagSets(Map.Entry<String, ? extends String> entry) {
+      this.tagSets.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CounterSnapshot#getTagSets() tagSets} map. Nulls are not permitted
+     * @param entries The entries that will be added to the tagSets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTagSets(Multimap<String, ? extends String> entries) {
+      this.tagSets = ImmutableSetMultimap.builder();
+      return putAllTagSets(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CounterSnapshot#getTagSets() tagSets} map. Nulls are not permitted
+     * @param entries The entries that will be added to the tagSets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllTagSets(Multimap<String, ? extends String> entries) {
+      this.tagSets.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CounterSnapshot#getValues() values} map.
+     * @param key The key in the values map
+     * @param value The associated value in the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putValues(String key, long value) {
+      this.values.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putValues(Map.Entry<String, ? extends Long> entry) {
+      this.values.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param entries The entries that will be added to the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValues(Map<String, ? extends Long> entries) {
+      this.values = ImmutableMap.builder();
+      return putAllValues(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param entries The entries that will be added to the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllValues(Map<String, ? extends Long> entries) {
+      this.values.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CounterSnapshot CounterSnapshot}.
+     * @return An immutable instance of CounterSnapshot
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CounterSnapshot build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CounterSnapshot(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CATEGORY) != 0) attributes.add("category");
+      return "Cannot build CounterSnapshot, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractCxxRawHeaders}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxRawHeaders.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CxxRawHeaders.of()}.
+ */
+@Generated(from = "AbstractCxxRawHeaders", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CxxRawHeaders extends AbstractCxxRawHeaders {
+  private final ImmutableSortedSet<SourcePath> headers;
+
+  private CxxRawHeaders(ImmutableSortedSet<SourcePath> headers) {
+    this.headers = Objects.requireNonNull(headers, "headers");
+  }
+
+  private CxxRawHeaders(CxxRawHeaders.Builder builder) {
+    this.headers = builder.headers;
+  }
+
+  /**
+   * @return The value of the {@code headers} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getHeaders() {
+    return headers;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxRawHeaders} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxRawHeaders
+        && equalTo((CxxRawHeaders) another);
+  }
+
+  private boolean equalTo(CxxRawHeaders another) {
+    return headers.equals(another.headers);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code headers}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + headers.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxRawHeaders} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxRawHeaders")
+        .omitNullValues()
+        .add("headers", headers)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxRawHeaders} instance.
+   * @param headers The value for the {@code headers} attribute
+   * @return An immutable CxxRawHeaders instance
+   */
+  public static CxxRawHeaders of(ImmutableSortedSet<SourcePath> headers) {
+    return new CxxRawHeaders(headers);
+  }
+
+  /**
+   * Creates a builder for {@link CxxRawHeaders CxxRawHeaders}.
+   * @return A new CxxRawHeaders builder
+   */
+  public static CxxRawHeaders.Builder builder() {
+    return new CxxRawHeaders.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxRawHeaders CxxRawHeaders}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractCxxRawHeaders", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_HEADERS = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ImmutableSortedSet<SourcePath> headers;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxRawHeaders} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxRawHeaders instance) {
+      return from((AbstractCxxRawHeaders) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxRawHeaders} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCxxRawHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      setHeaders(instance.getHeaders());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxRawHeaders#getHeaders() headers} attribute.
+     * @param headers The value for headers 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaders(ImmutableSortedSet<SourcePath> headers) {
+      this.headers = Objects.requireNonNull(headers, "headers");
+      initBits &= ~INIT_BIT_HEADERS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxRawHeaders CxxRawHeaders}.
+     * @return An immutable instance of CxxRawHeaders
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxRawHeaders build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxRawHeaders(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_HEADERS) != 0) attributes.add("headers");
+      return "Cannot build CxxRawHeaders, some of required attributes are not set " + attributes;
+    }
+  }
+}
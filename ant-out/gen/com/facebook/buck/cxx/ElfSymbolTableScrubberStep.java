@@ -0,0 +1,318 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractElfSymbolTableScrubberStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ElfSymbolTableScrubberStep.of()}.
+ */
+@Generated(from = "AbstractElfSymbolTableScrubberStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ElfSymbolTableScrubberStep extends AbstractElfSymbolTableScrubberStep {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+  private final String section;
+  private final @Nullable String versymSection;
+  private final boolean allowMissing;
+  private final boolean scrubUndefinedSymbols;
+
+  private ElfSymbolTableScrubberStep(
+      ProjectFilesystem filesystem,
+      Path path,
+      String section,
+      Optional<String> versymSection,
+      boolean allowMissing,
+      boolean scrubUndefinedSymbols) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.path = Objects.requireNonNull(path, "path");
+    this.section = Objects.requireNonNull(section, "section");
+    this.versymSection = versymSection.orElse(null);
+    this.allowMissing = allowMissing;
+    this.scrubUndefinedSymbols = scrubUndefinedSymbols;
+  }
+
+  private ElfSymbolTableScrubberStep(
+      ElfSymbolTableScrubberStep original,
+      ProjectFilesystem filesystem,
+      Path path,
+      String section,
+      @Nullable String versymSection,
+      boolean allowMissing,
+      boolean scrubUndefinedSymbols) {
+    this.filesystem = filesystem;
+    this.path = path;
+    this.section = section;
+    this.versymSection = versymSection;
+    this.allowMissing = allowMissing;
+    this.scrubUndefinedSymbols = scrubUndefinedSymbols;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code section} attribute
+   */
+  @Override
+  String getSection() {
+    return section;
+  }
+
+  /**
+   * @return The value of the {@code versymSection} attribute
+   */
+  @Override
+  Optional<String> getVersymSection() {
+    return Optional.ofNullable(versymSection);
+  }
+
+  /**
+   * @return The value of the {@code allowMissing} attribute
+   */
+  @Override
+  boolean isAllowMissing() {
+    return allowMissing;
+  }
+
+  /**
+   * @return The value of the {@code scrubUndefinedSymbols} attribute
+   */
+  @Override
+  boolean isScrubUndefinedSymbols() {
+    return scrubUndefinedSymbols;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSymbolTableScrubberStep#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSymbolTableScrubberStep withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new ElfSymbolTableScrubberStep(
+        this,
+        newValue,
+        this.path,
+        this.section,
+        this.versymSection,
+        this.allowMissing,
+        this.scrubUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSymbolTableScrubberStep#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSymbolTableScrubberStep withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new ElfSymbolTableScrubberStep(
+        this,
+        this.filesystem,
+        newValue,
+        this.section,
+        this.versymSection,
+        this.allowMissing,
+        this.scrubUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSymbolTableScrubberStep#getSection() section} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for section
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSymbolTableScrubberStep withSection(String value) {
+    String newValue = Objects.requireNonNull(value, "section");
+    if (this.section.equals(newValue)) return this;
+    return new ElfSymbolTableScrubberStep(
+        this,
+        this.filesystem,
+        this.path,
+        newValue,
+        this.versymSection,
+        this.allowMissing,
+        this.scrubUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractElfSymbolTableScrubberStep#getVersymSection() versymSection} attribute.
+   * @param value The value for versymSection
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfSymbolTableScrubberStep withVersymSection(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "versymSection");
+    if (Objects.equals(this.versymSection, newValue)) return this;
+    return new ElfSymbolTableScrubberStep(
+        this,
+        this.filesystem,
+        this.path,
+        this.section,
+        newValue,
+        this.allowMissing,
+        this.scrubUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractElfSymbolTableScrubberStep#getVersymSection() versymSection} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for versymSection
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfSymbolTableScrubberStep withVersymSection(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.versymSection, value)) return this;
+    return new ElfSymbolTableScrubberStep(
+        this,
+        this.filesystem,
+        this.path,
+        this.section,
+        value,
+        this.allowMissing,
+        this.scrubUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSymbolTableScrubberStep#isAllowMissing() allowMissing} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for allowMissing
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSymbolTableScrubberStep withAllowMissing(boolean value) {
+    if (this.allowMissing == value) return this;
+    return new ElfSymbolTableScrubberStep(
+        this,
+        this.filesystem,
+        this.path,
+        this.section,
+        this.versymSection,
+        value,
+        this.scrubUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSymbolTableScrubberStep#isScrubUndefinedSymbols() scrubUndefinedSymbols} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for scrubUndefinedSymbols
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSymbolTableScrubberStep withScrubUndefinedSymbols(boolean value) {
+    if (this.scrubUndefinedSymbols == value) return this;
+    return new ElfSymbolTableScrubberStep(this, this.filesystem, this.path, this.section, this.versymSection, this.allowMissing, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfSymbolTableScrubberStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfSymbolTableScrubberStep
+        && equalTo((ElfSymbolTableScrubberStep) another);
+  }
+
+  private boolean equalTo(ElfSymbolTableScrubberStep another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path)
+        && section.equals(another.section)
+        && Objects.equals(versymSection, another.versymSection)
+        && allowMissing == another.allowMissing
+        && scrubUndefinedSymbols == another.scrubUndefinedSymbols;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}, {@code section}, {@code versymSection}, {@code allowMissing}, {@code scrubUndefinedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + section.hashCode();
+    h += (h << 5) + Objects.hashCode(versymSection);
+    h += (h << 5) + Booleans.hashCode(allowMissing);
+    h += (h << 5) + Booleans.hashCode(scrubUndefinedSymbols);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSymbolTableScrubberStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSymbolTableScrubberStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .add("section", section)
+        .add("versymSection", versymSection)
+        .add("allowMissing", allowMissing)
+        .add("scrubUndefinedSymbols", scrubUndefinedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSymbolTableScrubberStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @param section The value for the {@code section} attribute
+   * @param versymSection The value for the {@code versymSection} attribute
+   * @param allowMissing The value for the {@code allowMissing} attribute
+   * @param scrubUndefinedSymbols The value for the {@code scrubUndefinedSymbols} attribute
+   * @return An immutable ElfSymbolTableScrubberStep instance
+   */
+  public static ElfSymbolTableScrubberStep of(ProjectFilesystem filesystem, Path path, String section, Optional<String> versymSection, boolean allowMissing, boolean scrubUndefinedSymbols) {
+    return new ElfSymbolTableScrubberStep(filesystem, path, section, versymSection, allowMissing, scrubUndefinedSymbols);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfSymbolTableScrubberStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfSymbolTableScrubberStep instance
+   */
+  public static ElfSymbolTableScrubberStep copyOf(AbstractElfSymbolTableScrubberStep instance) {
+    if (instance instanceof ElfSymbolTableScrubberStep) {
+      return (ElfSymbolTableScrubberStep) instance;
+    }
+    return ElfSymbolTableScrubberStep.of(instance.getFilesystem(), instance.getPath(), instance.getSection(), instance.getVersymSection(), instance.isAllowMissing(), instance.isScrubUndefinedSymbols());
+  }
+}
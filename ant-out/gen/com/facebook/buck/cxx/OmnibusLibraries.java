@@ -0,0 +1,273 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Omnibus.AbstractOmnibusLibraries}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code OmnibusLibraries.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code OmnibusLibraries.of()}.
+ */
+@Generated(from = "Omnibus.AbstractOmnibusLibraries", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class OmnibusLibraries extends Omnibus.AbstractOmnibusLibraries {
+  private final ImmutableMap<BuildTarget, OmnibusRoot> roots;
+  private final ImmutableList<OmnibusLibrary> libraries;
+
+  private OmnibusLibraries(
+      Map<? extends BuildTarget, ? extends OmnibusRoot> roots,
+      Iterable<? extends OmnibusLibrary> libraries) {
+    this.roots = ImmutableMap.copyOf(roots);
+    this.libraries = ImmutableList.copyOf(libraries);
+  }
+
+  private OmnibusLibraries(OmnibusLibraries.Builder builder) {
+    this.roots = builder.roots.build();
+    this.libraries = builder.libraries.build();
+  }
+
+  /**
+   * @return The value of the {@code roots} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, OmnibusRoot> getRoots() {
+    return roots;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableList<OmnibusLibrary> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OmnibusLibraries} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OmnibusLibraries
+        && equalTo((OmnibusLibraries) another);
+  }
+
+  private boolean equalTo(OmnibusLibraries another) {
+    return roots.equals(another.roots)
+        && libraries.equals(another.libraries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code roots}, {@code libraries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + roots.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusLibraries} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusLibraries")
+        .omitNullValues()
+        .add("roots", roots)
+        .add("libraries", libraries)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusLibraries} instance.
+   * @param roots The value for the {@code roots} attribute
+   * @param libraries The value for the {@code libraries} attribute
+   * @return An immutable OmnibusLibraries instance
+   */
+  public static OmnibusLibraries of(ImmutableMap<BuildTarget, OmnibusRoot> roots, ImmutableList<OmnibusLibrary> libraries) {
+    return of(roots, (Iterable<? extends OmnibusLibrary>) libraries);
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusLibraries} instance.
+   * @param roots The value for the {@code roots} attribute
+   * @param libraries The value for the {@code libraries} attribute
+   * @return An immutable OmnibusLibraries instance
+   */
+  public static OmnibusLibraries of(Map<? extends BuildTarget, ? extends OmnibusRoot> roots, Iterable<? extends OmnibusLibrary> libraries) {
+    return new OmnibusLibraries(roots, libraries);
+  }
+
+  /**
+   * Creates a builder for {@link OmnibusLibraries OmnibusLibraries}.
+   * @return A new OmnibusLibraries builder
+   */
+  public static OmnibusLibraries.Builder builder() {
+    return new OmnibusLibraries.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link OmnibusLibraries OmnibusLibraries}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "Omnibus.AbstractOmnibusLibraries", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<BuildTarget, OmnibusRoot> roots = ImmutableMap.builder();
+    private ImmutableList.Builder<OmnibusLibrary> libraries = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OmnibusLibraries} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(OmnibusLibraries instance) {
+      return from((Omnibus.AbstractOmnibusLibraries) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractOmnibusLibraries} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(Omnibus.AbstractOmnibusLibraries instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllRoots(instance.getRoots());
+      addAllLibraries(instance.getLibraries());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link OmnibusLibraries#getRoots() roots} map.
+     * @param key The key in the roots map
+     * @param value The associated value in the roots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRoots(BuildTarget key, OmnibusRoot value) {
+      this.roots.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link OmnibusLibraries#getRoots() roots} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRoots(Map.Entry<? extends BuildTarget, ? extends OmnibusRoot> entry) {
+      this.roots.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link OmnibusLibraries#getRoots() roots} map. Nulls are not permitted
+     * @param entries The entries that will be added to the roots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRoots(Map<? extends BuildTarget, ? extends OmnibusRoot> entries) {
+      this.roots = ImmutableMap.builder();
+      return putAllRoots(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link OmnibusLibraries#getRoots() roots} map. Nulls are not permitted
+     * @param entries The entries that will be added to the roots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllRoots(Map<? extends BuildTarget, ? extends OmnibusRoot> entries) {
+      this.roots.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link OmnibusLibraries#getLibraries() libraries} list.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLibraries(OmnibusLibrary element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link OmnibusLibraries#getLibraries() libraries} list.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLibraries(OmnibusLibrary... elements) {
+      this.libraries.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link OmnibusLibraries#getLibraries() libraries} list.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLibraries(Iterable<? extends OmnibusLibrary> elements) {
+      this.libraries = ImmutableList.builder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link OmnibusLibraries#getLibraries() libraries} list.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLibraries(Iterable<? extends OmnibusLibrary> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link OmnibusLibraries OmnibusLibraries}.
+     * @return An immutable instance of OmnibusLibraries
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public OmnibusLibraries build() {
+      return new OmnibusLibraries(this);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.facebook.buck.cxx;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractPrebuiltCxxLibraryGroupDescription}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code PrebuiltCxxLibraryGroupDescription.of()}.
+ */
+@Generated(from = "AbstractPrebuiltCxxLibraryGroupDescription", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PrebuiltCxxLibraryGroupDescription
+    extends AbstractPrebuiltCxxLibraryGroupDescription {
+
+  private PrebuiltCxxLibraryGroupDescription() {}
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltCxxLibraryGroupDescription} that have equal attribute values.
+   * As instances of the {@code PrebuiltCxxLibraryGroupDescription} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 1962914676;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltCxxLibraryGroupDescription}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "PrebuiltCxxLibraryGroupDescription{}";
+  }
+
+  private static final PrebuiltCxxLibraryGroupDescription INSTANCE = new PrebuiltCxxLibraryGroupDescription();
+
+  /**
+   * Returns the default immutable singleton value of {@code PrebuiltCxxLibraryGroupDescription}
+   * @return An immutable instance of PrebuiltCxxLibraryGroupDescription
+   */
+  public static PrebuiltCxxLibraryGroupDescription of() {
+    return INSTANCE;
+  }
+}
@@ -0,0 +1,175 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.NonHashableSourcePathContainer;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Contains information needed to consume a possibly precompiled header. 
+ */
+@Generated(from = "AbstractPrecompiledHeaderData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PrecompiledHeaderData implements AbstractPrecompiledHeaderData {
+  private final NonHashableSourcePathContainer headerContainer;
+  private final SourcePath input;
+  private final boolean precompiled;
+
+  private PrecompiledHeaderData(
+      NonHashableSourcePathContainer headerContainer,
+      SourcePath input,
+      boolean precompiled) {
+    this.headerContainer = Objects.requireNonNull(headerContainer, "headerContainer");
+    this.input = Objects.requireNonNull(input, "input");
+    this.precompiled = precompiled;
+  }
+
+  private PrecompiledHeaderData(
+      PrecompiledHeaderData original,
+      NonHashableSourcePathContainer headerContainer,
+      SourcePath input,
+      boolean precompiled) {
+    this.headerContainer = headerContainer;
+    this.input = input;
+    this.precompiled = precompiled;
+  }
+
+  /**
+   * @return The value of the {@code headerContainer} attribute
+   */
+  @Override
+  public NonHashableSourcePathContainer getHeaderContainer() {
+    return headerContainer;
+  }
+
+  /**
+   * @return The value of the {@code input} attribute
+   */
+  @Override
+  public SourcePath getInput() {
+    return input;
+  }
+
+  /**
+   * @return The value of the {@code precompiled} attribute
+   */
+  @Override
+  public boolean isPrecompiled() {
+    return precompiled;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrecompiledHeaderData#getHeaderContainer() headerContainer} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headerContainer
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrecompiledHeaderData withHeaderContainer(NonHashableSourcePathContainer value) {
+    if (this.headerContainer == value) return this;
+    NonHashableSourcePathContainer newValue = Objects.requireNonNull(value, "headerContainer");
+    return new PrecompiledHeaderData(this, newValue, this.input, this.precompiled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrecompiledHeaderData#getInput() input} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for input
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrecompiledHeaderData withInput(SourcePath value) {
+    if (this.input == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "input");
+    return new PrecompiledHeaderData(this, this.headerContainer, newValue, this.precompiled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PrecompiledHeaderData#isPrecompiled() precompiled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for precompiled
+   * @return A modified copy of the {@code this} object
+   */
+  public final PrecompiledHeaderData withPrecompiled(boolean value) {
+    if (this.precompiled == value) return this;
+    return new PrecompiledHeaderData(this, this.headerContainer, this.input, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrecompiledHeaderData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrecompiledHeaderData
+        && equalTo((PrecompiledHeaderData) another);
+  }
+
+  private boolean equalTo(PrecompiledHeaderData another) {
+    return headerContainer.equals(another.headerContainer)
+        && input.equals(another.input)
+        && precompiled == another.precompiled;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code headerContainer}, {@code input}, {@code precompiled}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + headerContainer.hashCode();
+    h += (h << 5) + input.hashCode();
+    h += (h << 5) + Booleans.hashCode(precompiled);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrecompiledHeaderData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrecompiledHeaderData")
+        .omitNullValues()
+        .add("headerContainer", headerContainer)
+        .add("input", input)
+        .add("precompiled", precompiled)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PrecompiledHeaderData} instance.
+   * @param headerContainer The value for the {@code headerContainer} attribute
+   * @param input The value for the {@code input} attribute
+   * @param precompiled The value for the {@code precompiled} attribute
+   * @return An immutable PrecompiledHeaderData instance
+   */
+  public static PrecompiledHeaderData of(NonHashableSourcePathContainer headerContainer, SourcePath input, boolean precompiled) {
+    return new PrecompiledHeaderData(headerContainer, input, precompiled);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPrecompiledHeaderData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PrecompiledHeaderData instance
+   */
+  static PrecompiledHeaderData copyOf(AbstractPrecompiledHeaderData instance) {
+    if (instance instanceof PrecompiledHeaderData) {
+      return (PrecompiledHeaderData) instance;
+    }
+    return PrecompiledHeaderData.of(instance.getHeaderContainer(), instance.getInput(), instance.isPrecompiled());
+  }
+}
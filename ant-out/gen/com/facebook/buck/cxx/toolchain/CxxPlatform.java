@@ -0,0 +1,7432 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.FlavorConvertible;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.cxx.toolchain.linker.LinkerProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Multimap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Interface describing a C/C++ toolchain and platform to build for. 
+ */
+@Generated(from = "AbstractCxxPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CxxPlatform implements AbstractCxxPlatform {
+  private final Flavor flavor;
+  private final CompilerProvider as;
+  private final ImmutableList<String> asflags;
+  private final PreprocessorProvider aspp;
+  private final ImmutableList<String> asppflags;
+  private final CompilerProvider cc;
+  private final ImmutableList<String> cflags;
+  private final CompilerProvider cxx;
+  private final ImmutableList<String> cxxflags;
+  private final PreprocessorProvider cpp;
+  private final ImmutableList<String> cppflags;
+  private final PreprocessorProvider cxxpp;
+  private final ImmutableList<String> cxxppflags;
+  private final @Nullable PreprocessorProvider cudapp;
+  private final ImmutableList<String> cudappflags;
+  private final @Nullable CompilerProvider cuda;
+  private final ImmutableList<String> cudaflags;
+  private final @Nullable PreprocessorProvider hippp;
+  private final ImmutableList<String> hipppflags;
+  private final @Nullable CompilerProvider hip;
+  private final ImmutableList<String> hipflags;
+  private final @Nullable PreprocessorProvider asmpp;
+  private final ImmutableList<String> asmppflags;
+  private final @Nullable CompilerProvider asm;
+  private final ImmutableList<String> asmflags;
+  private final LinkerProvider ld;
+  private final ImmutableList<String> ldflags;
+  private final ImmutableMultimap<Linker.LinkableDepType, String> runtimeLdflags;
+  private final Tool strip;
+  private final ImmutableList<String> stripFlags;
+  private final ArchiverProvider ar;
+  private final ImmutableList<String> arflags;
+  private final @Nullable ToolProvider ranlib;
+  private final ImmutableList<String> ranlibflags;
+  private final SymbolNameTool symbolNameTool;
+  private final String sharedLibraryExtension;
+  private final String sharedLibraryVersionedExtensionFormat;
+  private final String staticLibraryExtension;
+  private final String objectFileExtension;
+  private final DebugPathSanitizer compilerDebugPathSanitizer;
+  private final DebugPathSanitizer assemblerDebugPathSanitizer;
+  private final HeaderVerification headerVerification;
+  private final @Nullable Boolean useArgFile;
+  private final ImmutableMap<String, String> flagMacros;
+  private final @Nullable SharedLibraryInterfaceParams sharedLibraryInterfaceParams;
+  private final @Nullable String binaryExtension;
+  private final boolean publicHeadersSymlinksEnabled;
+  private final boolean privateHeadersSymlinksEnabled;
+  private final PicType picTypeForSharedLinking;
+  private final ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist;
+  private final @Nullable HeaderMode headerMode;
+
+  private CxxPlatform(CxxPlatform.Builder builder) {
+    this.flavor = builder.flavor;
+    this.as = builder.as;
+    this.asflags = builder.asflags.build();
+    this.aspp = builder.aspp;
+    this.asppflags = builder.asppflags.build();
+    this.cc = builder.cc;
+    this.cflags = builder.cflags.build();
+    this.cxx = builder.cxx;
+    this.cxxflags = builder.cxxflags.build();
+    this.cpp = builder.cpp;
+    this.cppflags = builder.cppflags.build();
+    this.cxxpp = builder.cxxpp;
+    this.cxxppflags = builder.cxxppflags.build();
+    this.cudapp = builder.cudapp;
+    this.cudappflags = builder.cudappflags.build();
+    this.cuda = builder.cuda;
+    this.cudaflags = builder.cudaflags.build();
+    this.hippp = builder.hippp;
+    this.hipppflags = builder.hipppflags.build();
+    this.hip = builder.hip;
+    this.hipflags = builder.hipflags.build();
+    this.asmpp = builder.asmpp;
+    this.asmppflags = builder.asmppflags.build();
+    this.asm = builder.asm;
+    this.asmflags = builder.asmflags.build();
+    this.ld = builder.ld;
+    this.ldflags = builder.ldflags.build();
+    this.runtimeLdflags = builder.runtimeLdflags.build();
+    this.strip = builder.strip;
+    this.stripFlags = builder.stripFlags.build();
+    this.ar = builder.ar;
+    this.arflags = builder.arflags.build();
+    this.ranlib = builder.ranlib;
+    this.ranlibflags = builder.ranlibflags.build();
+    this.symbolNameTool = builder.symbolNameTool;
+    this.sharedLibraryExtension = builder.sharedLibraryExtension;
+    this.sharedLibraryVersionedExtensionFormat = builder.sharedLibraryVersionedExtensionFormat;
+    this.staticLibraryExtension = builder.staticLibraryExtension;
+    this.objectFileExtension = builder.objectFileExtension;
+    this.compilerDebugPathSanitizer = builder.compilerDebugPathSanitizer;
+    this.assemblerDebugPathSanitizer = builder.assemblerDebugPathSanitizer;
+    this.headerVerification = builder.headerVerification;
+    this.useArgFile = builder.useArgFile;
+    this.flagMacros = builder.flagMacros.build();
+    this.sharedLibraryInterfaceParams = builder.sharedLibraryInterfaceParams;
+    this.binaryExtension = builder.binaryExtension;
+    this.publicHeadersSymlinksEnabled = builder.publicHeadersSymlinksEnabled;
+    this.privateHeadersSymlinksEnabled = builder.privateHeadersSymlinksEnabled;
+    this.headerMode = builder.headerMode;
+    if (builder.picTypeForSharedLinking != null) {
+      initShim.setPicTypeForSharedLinking(builder.picTypeForSharedLinking);
+    }
+    if (builder.conflictingHeaderBasenameWhitelist != null) {
+      initShim.setConflictingHeaderBasenameWhitelist(builder.conflictingHeaderBasenameWhitelist);
+    }
+    this.picTypeForSharedLinking = initShim.getPicTypeForSharedLinking();
+    this.conflictingHeaderBasenameWhitelist = initShim.getConflictingHeaderBasenameWhitelist();
+    this.initShim = null;
+  }
+
+  private CxxPlatform(
+      Flavor flavor,
+      CompilerProvider as,
+      ImmutableList<String> asflags,
+      PreprocessorProvider aspp,
+      ImmutableList<String> asppflags,
+      CompilerProvider cc,
+      ImmutableList<String> cflags,
+      CompilerProvider cxx,
+      ImmutableList<String> cxxflags,
+      PreprocessorProvider cpp,
+      ImmutableList<String> cppflags,
+      PreprocessorProvider cxxpp,
+      ImmutableList<String> cxxppflags,
+      @Nullable PreprocessorProvider cudapp,
+      ImmutableList<String> cudappflags,
+      @Nullable CompilerProvider cuda,
+      ImmutableList<String> cudaflags,
+      @Nullable PreprocessorProvider hippp,
+      ImmutableList<String> hipppflags,
+      @Nullable CompilerProvider hip,
+      ImmutableList<String> hipflags,
+      @Nullable PreprocessorProvider asmpp,
+      ImmutableList<String> asmppflags,
+      @Nullable CompilerProvider asm,
+      ImmutableList<String> asmflags,
+      LinkerProvider ld,
+      ImmutableList<String> ldflags,
+      ImmutableMultimap<Linker.LinkableDepType, String> runtimeLdflags,
+      Tool strip,
+      ImmutableList<String> stripFlags,
+      ArchiverProvider ar,
+      ImmutableList<String> arflags,
+      @Nullable ToolProvider ranlib,
+      ImmutableList<String> ranlibflags,
+      SymbolNameTool symbolNameTool,
+      String sharedLibraryExtension,
+      String sharedLibraryVersionedExtensionFormat,
+      String staticLibraryExtension,
+      String objectFileExtension,
+      DebugPathSanitizer compilerDebugPathSanitizer,
+      DebugPathSanitizer assemblerDebugPathSanitizer,
+      HeaderVerification headerVerification,
+      @Nullable Boolean useArgFile,
+      ImmutableMap<String, String> flagMacros,
+      @Nullable SharedLibraryInterfaceParams sharedLibraryInterfaceParams,
+      @Nullable String binaryExtension,
+      boolean publicHeadersSymlinksEnabled,
+      boolean privateHeadersSymlinksEnabled,
+      PicType picTypeForSharedLinking,
+      ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist,
+      @Nullable HeaderMode headerMode) {
+    this.flavor = flavor;
+    this.as = as;
+    this.asflags = asflags;
+    this.aspp = aspp;
+    this.asppflags = asppflags;
+    this.cc = cc;
+    this.cflags = cflags;
+    this.cxx = cxx;
+    this.cxxflags = cxxflags;
+    this.cpp = cpp;
+    this.cppflags = cppflags;
+    this.cxxpp = cxxpp;
+    this.cxxppflags = cxxppflags;
+    this.cudapp = cudapp;
+    this.cudappflags = cudappflags;
+    this.cuda = cuda;
+    this.cudaflags = cudaflags;
+    this.hippp = hippp;
+    this.hipppflags = hipppflags;
+    this.hip = hip;
+    this.hipflags = hipflags;
+    this.asmpp = asmpp;
+    this.asmppflags = asmppflags;
+    this.asm = asm;
+    this.asmflags = asmflags;
+    this.ld = ld;
+    this.ldflags = ldflags;
+    this.runtimeLdflags = runtimeLdflags;
+    this.strip = strip;
+    this.stripFlags = stripFlags;
+    this.ar = ar;
+    this.arflags = arflags;
+    this.ranlib = ranlib;
+    this.ranlibflags = ranlibflags;
+    this.symbolNameTool = symbolNameTool;
+    this.sharedLibraryExtension = sharedLibraryExtension;
+    this.sharedLibraryVersionedExtensionFormat = sharedLibraryVersionedExtensionFormat;
+    this.staticLibraryExtension = staticLibraryExtension;
+    this.objectFileExtension = objectFileExtension;
+    this.compilerDebugPathSanitizer = compilerDebugPathSanitizer;
+    this.assemblerDebugPathSanitizer = assemblerDebugPathSanitizer;
+    this.headerVerification = headerVerification;
+    this.useArgFile = useArgFile;
+    this.flagMacros = flagMacros;
+    this.sharedLibraryInterfaceParams = sharedLibraryInterfaceParams;
+    this.binaryExtension = binaryExtension;
+    this.publicHeadersSymlinksEnabled = publicHeadersSymlinksEnabled;
+    this.privateHeadersSymlinksEnabled = privateHeadersSymlinksEnabled;
+    this.picTypeForSharedLinking = picTypeForSharedLinking;
+    this.conflictingHeaderBasenameWhitelist = conflictingHeaderBasenameWhitelist;
+    this.headerMode = headerMode;
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractCxxPlatform", generator = "Immutables")
+  private final class InitShim {
+    private byte picTypeForSharedLinkingBuildStage = STAGE_UNINITIALIZED;
+    private PicType picTypeForSharedLinking;
+
+    PicType getPicTypeForSharedLinking() {
+      if (picTypeForSharedLinkingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (picTypeForSharedLinkingBuildStage == STAGE_UNINITIALIZED) {
+        picTypeForSharedLinkingBuildStage = STAGE_INITIALIZING;
+        this.picTypeForSharedLinking = Objects.requireNonNull(getPicTypeForSharedLinkingInitialize(), "picTypeForSharedLinking");
+        picTypeForSharedLinkingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.picTypeForSharedLinking;
+    }
+
+    void setPicTypeForSharedLinking(PicType picTypeForSharedLinking) {
+      this.picTypeForSharedLinking = picTypeForSharedLinking;
+      picTypeForSharedLinkingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte conflictingHeaderBasenameWhitelistBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist;
+
+    ImmutableSortedSet<String> getConflictingHeaderBasenameWhitelist() {
+      if (conflictingHeaderBasenameWhitelistBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (conflictingHeaderBasenameWhitelistBuildStage == STAGE_UNINITIALIZED) {
+        conflictingHeaderBasenameWhitelistBuildStage = STAGE_INITIALIZING;
+        this.conflictingHeaderBasenameWhitelist = Objects.requireNonNull(getConflictingHeaderBasenameWhitelistInitialize(), "conflictingHeaderBasenameWhitelist");
+        conflictingHeaderBasenameWhitelistBuildStage = STAGE_INITIALIZED;
+      }
+      return this.conflictingHeaderBasenameWhitelist;
+    }
+
+    void setConflictingHeaderBasenameWhitelist(ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist) {
+      this.conflictingHeaderBasenameWhitelist = conflictingHeaderBasenameWhitelist;
+      conflictingHeaderBasenameWhitelistBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (picTypeForSharedLinkingBuildStage == STAGE_INITIALIZING) attributes.add("picTypeForSharedLinking");
+      if (conflictingHeaderBasenameWhitelistBuildStage == STAGE_INITIALIZING) attributes.add("conflictingHeaderBasenameWhitelist");
+      return "Cannot build CxxPlatform, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private PicType getPicTypeForSharedLinkingInitialize() {
+    return AbstractCxxPlatform.super.getPicTypeForSharedLinking();
+  }
+
+  private ImmutableSortedSet<String> getConflictingHeaderBasenameWhitelistInitialize() {
+    return AbstractCxxPlatform.super.getConflictingHeaderBasenameWhitelist();
+  }
+
+  /**
+   * @return The value of the {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * @return The value of the {@code as} attribute
+   */
+  @Override
+  public CompilerProvider getAs() {
+    return as;
+  }
+
+  /**
+   * @return The value of the {@code asflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsflags() {
+    return asflags;
+  }
+
+  /**
+   * @return The value of the {@code aspp} attribute
+   */
+  @Override
+  public PreprocessorProvider getAspp() {
+    return aspp;
+  }
+
+  /**
+   * @return The value of the {@code asppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsppflags() {
+    return asppflags;
+  }
+
+  /**
+   * @return The value of the {@code cc} attribute
+   */
+  @Override
+  public CompilerProvider getCc() {
+    return cc;
+  }
+
+  /**
+   * @return The value of the {@code cflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCflags() {
+    return cflags;
+  }
+
+  /**
+   * @return The value of the {@code cxx} attribute
+   */
+  @Override
+  public CompilerProvider getCxx() {
+    return cxx;
+  }
+
+  /**
+   * @return The value of the {@code cxxflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCxxflags() {
+    return cxxflags;
+  }
+
+  /**
+   * @return The value of the {@code cpp} attribute
+   */
+  @Override
+  public PreprocessorProvider getCpp() {
+    return cpp;
+  }
+
+  /**
+   * @return The value of the {@code cppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCppflags() {
+    return cppflags;
+  }
+
+  /**
+   * @return The value of the {@code cxxpp} attribute
+   */
+  @Override
+  public PreprocessorProvider getCxxpp() {
+    return cxxpp;
+  }
+
+  /**
+   * @return The value of the {@code cxxppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCxxppflags() {
+    return cxxppflags;
+  }
+
+  /**
+   * @return The value of the {@code cudapp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getCudapp() {
+    return Optional.ofNullable(cudapp);
+  }
+
+  /**
+   * @return The value of the {@code cudappflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCudappflags() {
+    return cudappflags;
+  }
+
+  /**
+   * @return The value of the {@code cuda} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getCuda() {
+    return Optional.ofNullable(cuda);
+  }
+
+  /**
+   * @return The value of the {@code cudaflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCudaflags() {
+    return cudaflags;
+  }
+
+  /**
+   * @return The value of the {@code hippp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getHippp() {
+    return Optional.ofNullable(hippp);
+  }
+
+  /**
+   * @return The value of the {@code hipppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getHipppflags() {
+    return hipppflags;
+  }
+
+  /**
+   * @return The value of the {@code hip} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getHip() {
+    return Optional.ofNullable(hip);
+  }
+
+  /**
+   * @return The value of the {@code hipflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getHipflags() {
+    return hipflags;
+  }
+
+  /**
+   * @return The value of the {@code asmpp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getAsmpp() {
+    return Optional.ofNullable(asmpp);
+  }
+
+  /**
+   * @return The value of the {@code asmppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsmppflags() {
+    return asmppflags;
+  }
+
+  /**
+   * @return The value of the {@code asm} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getAsm() {
+    return Optional.ofNullable(asm);
+  }
+
+  /**
+   * @return The value of the {@code asmflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsmflags() {
+    return asmflags;
+  }
+
+  /**
+   * @return The value of the {@code ld} attribute
+   */
+  @Override
+  public LinkerProvider getLd() {
+    return ld;
+  }
+
+  /**
+   * @return The value of the {@code ldflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLdflags() {
+    return ldflags;
+  }
+
+  /**
+   * @return The value of the {@code runtimeLdflags} attribute
+   */
+  @Override
+  public ImmutableMultimap<Linker.LinkableDepType, String> getRuntimeLdflags() {
+    return runtimeLdflags;
+  }
+
+  /**
+   * @return The value of the {@code strip} attribute
+   */
+  @Override
+  public Tool getStrip() {
+    return strip;
+  }
+
+  /**
+   * @return The value of the {@code stripFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getStripFlags() {
+    return stripFlags;
+  }
+
+  /**
+   * @return The value of the {@code ar} attribute
+   */
+  @Override
+  public ArchiverProvider getAr() {
+    return ar;
+  }
+
+  /**
+   * @return The value of the {@code arflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getArflags() {
+    return arflags;
+  }
+
+  /**
+   * @return The value of the {@code ranlib} attribute
+   */
+  @Override
+  public Optional<ToolProvider> getRanlib() {
+    return Optional.ofNullable(ranlib);
+  }
+
+  /**
+   * @return The value of the {@code ranlibflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getRanlibflags() {
+    return ranlibflags;
+  }
+
+  /**
+   * @return The value of the {@code symbolNameTool} attribute
+   */
+  @Override
+  public SymbolNameTool getSymbolNameTool() {
+    return symbolNameTool;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibraryExtension} attribute
+   */
+  @Override
+  public String getSharedLibraryExtension() {
+    return sharedLibraryExtension;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibraryVersionedExtensionFormat} attribute
+   */
+  @Override
+  public String getSharedLibraryVersionedExtensionFormat() {
+    return sharedLibraryVersionedExtensionFormat;
+  }
+
+  /**
+   * @return The value of the {@code staticLibraryExtension} attribute
+   */
+  @Override
+  public String getStaticLibraryExtension() {
+    return staticLibraryExtension;
+  }
+
+  /**
+   * @return The value of the {@code objectFileExtension} attribute
+   */
+  @Override
+  public String getObjectFileExtension() {
+    return objectFileExtension;
+  }
+
+  /**
+   * @return The value of the {@code compilerDebugPathSanitizer} attribute
+   */
+  @Override
+  public DebugPathSanitizer getCompilerDebugPathSanitizer() {
+    return compilerDebugPathSanitizer;
+  }
+
+  /**
+   * @return The value of the {@code assemblerDebugPathSanitizer} attribute
+   */
+  @Override
+  public DebugPathSanitizer getAssemblerDebugPathSanitizer() {
+    return assemblerDebugPathSanitizer;
+  }
+
+  /**
+   * @return The value of the {@code headerVerification} attribute
+   */
+  @Override
+  public HeaderVerification getHeaderVerification() {
+    return headerVerification;
+  }
+
+  /**
+   * @return The value of the {@code useArgFile} attribute
+   */
+  @Override
+  public Optional<Boolean> getUseArgFile() {
+    return Optional.ofNullable(useArgFile);
+  }
+
+  /**
+   * @return a map for macro names to their respective expansions, to be used to expand macro
+   *     references in user-provided flags.
+   */
+  @Override
+  public ImmutableMap<String, String> getFlagMacros() {
+    return flagMacros;
+  }
+
+  /**
+   * @return params used to determine which shared library interfaces to generate, which are used
+   *     for linking in liu of the original shared library.
+   */
+  @Override
+  public Optional<SharedLibraryInterfaceParams> getSharedLibraryInterfaceParams() {
+    return Optional.ofNullable(sharedLibraryInterfaceParams);
+  }
+
+  /**
+   * @return The value of the {@code binaryExtension} attribute
+   */
+  @Override
+  public Optional<String> getBinaryExtension() {
+    return Optional.ofNullable(binaryExtension);
+  }
+
+  /**
+   * When building or creating a project, create symlinks for the public headers if it's true. It
+   * would allow public headers to include an other public header with #include "foobar.h"\ even if
+   * it's not in the same folder.
+   */
+  @Override
+  public boolean getPublicHeadersSymlinksEnabled() {
+    return publicHeadersSymlinksEnabled;
+  }
+
+  /**
+   *When building or creating a project, create symlinks for the public headers if it's true. 
+   */
+  @Override
+  public boolean getPrivateHeadersSymlinksEnabled() {
+    return privateHeadersSymlinksEnabled;
+  }
+
+  /**
+   **nix platforms use PIC object files for shared libraries, while windows doesn't. 
+   */
+  @Override
+  public PicType getPicTypeForSharedLinking() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPicTypeForSharedLinking()
+        : this.picTypeForSharedLinking;
+  }
+
+  /**
+   *@return whitelist of basenames to exclude from conflicting header checks. 
+   */
+  @Override
+  public ImmutableSortedSet<String> getConflictingHeaderBasenameWhitelist() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConflictingHeaderBasenameWhitelist()
+        : this.conflictingHeaderBasenameWhitelist;
+  }
+
+  /**
+   *@return the explicit header mode to use for this platform. 
+   */
+  @Override
+  public Optional<HeaderMode> getHeaderMode() {
+    return Optional.ofNullable(headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getFlavor() flavor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flavor
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withFlavor(Flavor value) {
+    if (this.flavor == value) return this;
+    Flavor newValue = Objects.requireNonNull(value, "flavor");
+    return new CxxPlatform(
+        newValue,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getAs() as} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for as
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAs(CompilerProvider value) {
+    if (this.as == value) return this;
+    CompilerProvider newValue = Objects.requireNonNull(value, "as");
+    return new CxxPlatform(
+        this.flavor,
+        newValue,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsflags() asflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        newValue,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsflags() asflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsflags(Iterable<String> elements) {
+    if (this.asflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        newValue,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getAspp() aspp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aspp
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAspp(PreprocessorProvider value) {
+    if (this.aspp == value) return this;
+    PreprocessorProvider newValue = Objects.requireNonNull(value, "aspp");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        newValue,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsppflags() asppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        newValue,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsppflags() asppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsppflags(Iterable<String> elements) {
+    if (this.asppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        newValue,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getCc() cc} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cc
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCc(CompilerProvider value) {
+    if (this.cc == value) return this;
+    CompilerProvider newValue = Objects.requireNonNull(value, "cc");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        newValue,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCflags() cflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        newValue,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCflags() cflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCflags(Iterable<String> elements) {
+    if (this.cflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        newValue,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getCxx() cxx} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxx
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCxx(CompilerProvider value) {
+    if (this.cxx == value) return this;
+    CompilerProvider newValue = Objects.requireNonNull(value, "cxx");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        newValue,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCxxflags() cxxflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        newValue,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCxxflags() cxxflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cxxflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxflags(Iterable<String> elements) {
+    if (this.cxxflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        newValue,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getCpp() cpp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cpp
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCpp(PreprocessorProvider value) {
+    if (this.cpp == value) return this;
+    PreprocessorProvider newValue = Objects.requireNonNull(value, "cpp");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        newValue,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCppflags() cppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        newValue,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCppflags() cppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCppflags(Iterable<String> elements) {
+    if (this.cppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        newValue,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getCxxpp() cxxpp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxpp
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCxxpp(PreprocessorProvider value) {
+    if (this.cxxpp == value) return this;
+    PreprocessorProvider newValue = Objects.requireNonNull(value, "cxxpp");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        newValue,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCxxppflags() cxxppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        newValue,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCxxppflags() cxxppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cxxppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxppflags(Iterable<String> elements) {
+    if (this.cxxppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        newValue,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getCudapp() cudapp} attribute.
+   * @param value The value for cudapp
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudapp(PreprocessorProvider value) {
+    @Nullable PreprocessorProvider newValue = Objects.requireNonNull(value, "cudapp");
+    if (this.cudapp == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        newValue,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getCudapp() cudapp} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cudapp
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withCudapp(Optional<? extends PreprocessorProvider> optional) {
+    @Nullable PreprocessorProvider value = optional.orElse(null);
+    if (this.cudapp == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        value,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCudappflags() cudappflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudappflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        newValue,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCudappflags() cudappflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cudappflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudappflags(Iterable<String> elements) {
+    if (this.cudappflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        newValue,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getCuda() cuda} attribute.
+   * @param value The value for cuda
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCuda(CompilerProvider value) {
+    @Nullable CompilerProvider newValue = Objects.requireNonNull(value, "cuda");
+    if (this.cuda == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        newValue,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getCuda() cuda} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cuda
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withCuda(Optional<? extends CompilerProvider> optional) {
+    @Nullable CompilerProvider value = optional.orElse(null);
+    if (this.cuda == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        value,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCudaflags() cudaflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudaflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        newValue,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getCudaflags() cudaflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cudaflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudaflags(Iterable<String> elements) {
+    if (this.cudaflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        newValue,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getHippp() hippp} attribute.
+   * @param value The value for hippp
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withHippp(PreprocessorProvider value) {
+    @Nullable PreprocessorProvider newValue = Objects.requireNonNull(value, "hippp");
+    if (this.hippp == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        newValue,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getHippp() hippp} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for hippp
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withHippp(Optional<? extends PreprocessorProvider> optional) {
+    @Nullable PreprocessorProvider value = optional.orElse(null);
+    if (this.hippp == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        value,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getHipppflags() hipppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withHipppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        newValue,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getHipppflags() hipppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of hipppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withHipppflags(Iterable<String> elements) {
+    if (this.hipppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        newValue,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getHip() hip} attribute.
+   * @param value The value for hip
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withHip(CompilerProvider value) {
+    @Nullable CompilerProvider newValue = Objects.requireNonNull(value, "hip");
+    if (this.hip == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        newValue,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getHip() hip} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for hip
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withHip(Optional<? extends CompilerProvider> optional) {
+    @Nullable CompilerProvider value = optional.orElse(null);
+    if (this.hip == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        value,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getHipflags() hipflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withHipflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        newValue,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getHipflags() hipflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of hipflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withHipflags(Iterable<String> elements) {
+    if (this.hipflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        newValue,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getAsmpp() asmpp} attribute.
+   * @param value The value for asmpp
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmpp(PreprocessorProvider value) {
+    @Nullable PreprocessorProvider newValue = Objects.requireNonNull(value, "asmpp");
+    if (this.asmpp == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        newValue,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getAsmpp() asmpp} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for asmpp
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withAsmpp(Optional<? extends PreprocessorProvider> optional) {
+    @Nullable PreprocessorProvider value = optional.orElse(null);
+    if (this.asmpp == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        value,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsmppflags() asmppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        newValue,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsmppflags() asmppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asmppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmppflags(Iterable<String> elements) {
+    if (this.asmppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        newValue,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getAsm() asm} attribute.
+   * @param value The value for asm
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsm(CompilerProvider value) {
+    @Nullable CompilerProvider newValue = Objects.requireNonNull(value, "asm");
+    if (this.asm == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        newValue,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getAsm() asm} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for asm
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withAsm(Optional<? extends CompilerProvider> optional) {
+    @Nullable CompilerProvider value = optional.orElse(null);
+    if (this.asm == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        value,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsmflags() asmflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        newValue,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getAsmflags() asmflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asmflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmflags(Iterable<String> elements) {
+    if (this.asmflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        newValue,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getLd() ld} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ld
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withLd(LinkerProvider value) {
+    if (this.ld == value) return this;
+    LinkerProvider newValue = Objects.requireNonNull(value, "ld");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        newValue,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getLdflags() ldflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withLdflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        newValue,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getLdflags() ldflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ldflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withLdflags(Iterable<String> elements) {
+    if (this.ldflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        newValue,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the runtimeLdflags map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends String> entries) {
+    if (this.runtimeLdflags == entries) return this;
+    ImmutableMultimap<Linker.LinkableDepType, String> newValue = ImmutableMultimap.copyOf(entries);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        newValue,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getStrip() strip} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for strip
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withStrip(Tool value) {
+    if (this.strip == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "strip");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        newValue,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getStripFlags() stripFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withStripFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        newValue,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getStripFlags() stripFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of stripFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withStripFlags(Iterable<String> elements) {
+    if (this.stripFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        newValue,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getAr() ar} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ar
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAr(ArchiverProvider value) {
+    if (this.ar == value) return this;
+    ArchiverProvider newValue = Objects.requireNonNull(value, "ar");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        newValue,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getArflags() arflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withArflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        newValue,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getArflags() arflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of arflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withArflags(Iterable<String> elements) {
+    if (this.arflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        newValue,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getRanlib() ranlib} attribute.
+   * @param value The value for ranlib
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withRanlib(ToolProvider value) {
+    @Nullable ToolProvider newValue = Objects.requireNonNull(value, "ranlib");
+    if (this.ranlib == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        newValue,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getRanlib() ranlib} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ranlib
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withRanlib(Optional<? extends ToolProvider> optional) {
+    @Nullable ToolProvider value = optional.orElse(null);
+    if (this.ranlib == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        value,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getRanlibflags() ranlibflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withRanlibflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        newValue,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link CxxPlatform#getRanlibflags() ranlibflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ranlibflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withRanlibflags(Iterable<String> elements) {
+    if (this.ranlibflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        newValue,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getSymbolNameTool() symbolNameTool} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for symbolNameTool
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSymbolNameTool(SymbolNameTool value) {
+    if (this.symbolNameTool == value) return this;
+    SymbolNameTool newValue = Objects.requireNonNull(value, "symbolNameTool");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        newValue,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getSharedLibraryExtension() sharedLibraryExtension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sharedLibraryExtension
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryExtension(String value) {
+    String newValue = Objects.requireNonNull(value, "sharedLibraryExtension");
+    if (this.sharedLibraryExtension.equals(newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        newValue,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sharedLibraryVersionedExtensionFormat
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryVersionedExtensionFormat(String value) {
+    String newValue = Objects.requireNonNull(value, "sharedLibraryVersionedExtensionFormat");
+    if (this.sharedLibraryVersionedExtensionFormat.equals(newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        newValue,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getStaticLibraryExtension() staticLibraryExtension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for staticLibraryExtension
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withStaticLibraryExtension(String value) {
+    String newValue = Objects.requireNonNull(value, "staticLibraryExtension");
+    if (this.staticLibraryExtension.equals(newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        newValue,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getObjectFileExtension() objectFileExtension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for objectFileExtension
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withObjectFileExtension(String value) {
+    String newValue = Objects.requireNonNull(value, "objectFileExtension");
+    if (this.objectFileExtension.equals(newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        newValue,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getCompilerDebugPathSanitizer() compilerDebugPathSanitizer} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compilerDebugPathSanitizer
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCompilerDebugPathSanitizer(DebugPathSanitizer value) {
+    if (this.compilerDebugPathSanitizer == value) return this;
+    DebugPathSanitizer newValue = Objects.requireNonNull(value, "compilerDebugPathSanitizer");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        newValue,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getAssemblerDebugPathSanitizer() assemblerDebugPathSanitizer} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for assemblerDebugPathSanitizer
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAssemblerDebugPathSanitizer(DebugPathSanitizer value) {
+    if (this.assemblerDebugPathSanitizer == value) return this;
+    DebugPathSanitizer newValue = Objects.requireNonNull(value, "assemblerDebugPathSanitizer");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        newValue,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getHeaderVerification() headerVerification} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headerVerification
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withHeaderVerification(HeaderVerification value) {
+    if (this.headerVerification == value) return this;
+    HeaderVerification newValue = Objects.requireNonNull(value, "headerVerification");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        newValue,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getUseArgFile() useArgFile} attribute.
+   * @param value The value for useArgFile
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withUseArgFile(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.useArgFile, newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        newValue,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getUseArgFile() useArgFile} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for useArgFile
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withUseArgFile(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.useArgFile, value)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        value,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link CxxPlatform#getFlagMacros() flagMacros} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the flagMacros map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withFlagMacros(Map<String, ? extends String> entries) {
+    if (this.flagMacros == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        newValue,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getSharedLibraryInterfaceParams() sharedLibraryInterfaceParams} attribute.
+   * @param value The value for sharedLibraryInterfaceParams
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryInterfaceParams(SharedLibraryInterfaceParams value) {
+    @Nullable SharedLibraryInterfaceParams newValue = Objects.requireNonNull(value, "sharedLibraryInterfaceParams");
+    if (this.sharedLibraryInterfaceParams == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        newValue,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getSharedLibraryInterfaceParams() sharedLibraryInterfaceParams} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sharedLibraryInterfaceParams
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withSharedLibraryInterfaceParams(Optional<? extends SharedLibraryInterfaceParams> optional) {
+    @Nullable SharedLibraryInterfaceParams value = optional.orElse(null);
+    if (this.sharedLibraryInterfaceParams == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        value,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getBinaryExtension() binaryExtension} attribute.
+   * @param value The value for binaryExtension
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withBinaryExtension(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "binaryExtension");
+    if (Objects.equals(this.binaryExtension, newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        newValue,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getBinaryExtension() binaryExtension} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for binaryExtension
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withBinaryExtension(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.binaryExtension, value)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        value,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getPublicHeadersSymlinksEnabled() publicHeadersSymlinksEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for publicHeadersSymlinksEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withPublicHeadersSymlinksEnabled(boolean value) {
+    if (this.publicHeadersSymlinksEnabled == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        value,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getPrivateHeadersSymlinksEnabled() privateHeadersSymlinksEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for privateHeadersSymlinksEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withPrivateHeadersSymlinksEnabled(boolean value) {
+    if (this.privateHeadersSymlinksEnabled == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        value,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getPicTypeForSharedLinking() picTypeForSharedLinking} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for picTypeForSharedLinking
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withPicTypeForSharedLinking(PicType value) {
+    if (this.picTypeForSharedLinking == value) return this;
+    PicType newValue = Objects.requireNonNull(value, "picTypeForSharedLinking");
+    if (this.picTypeForSharedLinking.equals(newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        newValue,
+        this.conflictingHeaderBasenameWhitelist,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CxxPlatform#getConflictingHeaderBasenameWhitelist() conflictingHeaderBasenameWhitelist} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for conflictingHeaderBasenameWhitelist
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withConflictingHeaderBasenameWhitelist(ImmutableSortedSet<String> value) {
+    if (this.conflictingHeaderBasenameWhitelist == value) return this;
+    ImmutableSortedSet<String> newValue = Objects.requireNonNull(value, "conflictingHeaderBasenameWhitelist");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        newValue,
+        this.headerMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link CxxPlatform#getHeaderMode() headerMode} attribute.
+   * @param value The value for headerMode
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withHeaderMode(HeaderMode value) {
+    @Nullable HeaderMode newValue = Objects.requireNonNull(value, "headerMode");
+    if (this.headerMode == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link CxxPlatform#getHeaderMode() headerMode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerMode
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final CxxPlatform withHeaderMode(Optional<? extends HeaderMode> optional) {
+    @Nullable HeaderMode value = optional.orElse(null);
+    if (Objects.equals(this.headerMode, value)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.hippp,
+        this.hipppflags,
+        this.hip,
+        this.hipflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.useArgFile,
+        this.flagMacros,
+        this.sharedLibraryInterfaceParams,
+        this.binaryExtension,
+        this.publicHeadersSymlinksEnabled,
+        this.privateHeadersSymlinksEnabled,
+        this.picTypeForSharedLinking,
+        this.conflictingHeaderBasenameWhitelist,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxPlatform
+        && equalTo((CxxPlatform) another);
+  }
+
+  private boolean equalTo(CxxPlatform another) {
+    return flavor.equals(another.flavor)
+        && as.equals(another.as)
+        && asflags.equals(another.asflags)
+        && aspp.equals(another.aspp)
+        && asppflags.equals(another.asppflags)
+        && cc.equals(another.cc)
+        && cflags.equals(another.cflags)
+        && cxx.equals(another.cxx)
+        && cxxflags.equals(another.cxxflags)
+        && cpp.equals(another.cpp)
+        && cppflags.equals(another.cppflags)
+        && cxxpp.equals(another.cxxpp)
+        && cxxppflags.equals(another.cxxppflags)
+        && Objects.equals(cudapp, another.cudapp)
+        && cudappflags.equals(another.cudappflags)
+        && Objects.equals(cuda, another.cuda)
+        && cudaflags.equals(another.cudaflags)
+        && Objects.equals(hippp, another.hippp)
+        && hipppflags.equals(another.hipppflags)
+        && Objects.equals(hip, another.hip)
+        && hipflags.equals(another.hipflags)
+        && Objects.equals(asmpp, another.asmpp)
+        && asmppflags.equals(another.asmppflags)
+        && Objects.equals(asm, another.asm)
+        && asmflags.equals(another.asmflags)
+        && ld.equals(another.ld)
+        && ldflags.equals(another.ldflags)
+        && runtimeLdflags.equals(another.runtimeLdflags)
+        && strip.equals(another.strip)
+        && stripFlags.equals(another.stripFlags)
+        && ar.equals(another.ar)
+        && arflags.equals(another.arflags)
+        && Objects.equals(ranlib, another.ranlib)
+        && ranlibflags.equals(another.ranlibflags)
+        && symbolNameTool.equals(another.symbolNameTool)
+        && sharedLibraryExtension.equals(another.sharedLibraryExtension)
+        && sharedLibraryVersionedExtensionFormat.equals(another.sharedLibraryVersionedExtensionFormat)
+        && staticLibraryExtension.equals(another.staticLibraryExtension)
+        && objectFileExtension.equals(another.objectFileExtension)
+        && compilerDebugPathSanitizer.equals(another.compilerDebugPathSanitizer)
+        && assemblerDebugPathSanitizer.equals(another.assemblerDebugPathSanitizer)
+        && headerVerification.equals(another.headerVerification)
+        && Objects.equals(useArgFile, another.useArgFile)
+        && flagMacros.equals(another.flagMacros)
+        && Objects.equals(sharedLibraryInterfaceParams, another.sharedLibraryInterfaceParams)
+        && Objects.equals(binaryExtension, another.binaryExtension)
+        && publicHeadersSymlinksEnabled == another.publicHeadersSymlinksEnabled
+        && privateHeadersSymlinksEnabled == another.privateHeadersSymlinksEnabled
+        && picTypeForSharedLinking.equals(another.picTypeForSharedLinking)
+        && conflictingHeaderBasenameWhitelist.equals(another.conflictingHeaderBasenameWhitelist)
+        && Objects.equals(headerMode, another.headerMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code flavor}, {@code as}, {@code asflags}, {@code aspp}, {@code asppflags}, {@code cc}, {@code cflags}, {@code cxx}, {@code cxxflags}, {@code cpp}, {@code cppflags}, {@code cxxpp}, {@code cxxppflags}, {@code cudapp}, {@code cudappflags}, {@code cuda}, {@code cudaflags}, {@code hippp}, {@code hipppflags}, {@code hip}, {@code hipflags}, {@code asmpp}, {@code asmppflags}, {@code asm}, {@code asmflags}, {@code ld}, {@code ldflags}, {@code runtimeLdflags}, {@code strip}, {@code stripFlags}, {@code ar}, {@code arflags}, {@code ranlib}, {@code ranlibflags}, {@code symbolNameTool}, {@code sharedLibraryExtension}, {@code sharedLibraryVersionedExtensionFormat}, {@code staticLibraryExtension}, {@code objectFileExtension}, {@code compilerDebugPathSanitizer}, {@code assemblerDebugPathSanitizer}, {@code headerVerification}, {@code useArgFile}, {@code flagMacros}, {@code sharedLibraryInterfaceParams}, {@code binaryExtension}, {@code publicHeadersSymlinksEnabled}, {@code privateHeadersSymlinksEnabled}, {@code picTypeForSharedLinking}, {@code conflictingHeaderBasenameWhitelist}, {@code headerMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + flavor.hashCode();
+    h += (h << 5) + as.hashCode();
+    h += (h << 5) + asflags.hashCode();
+    h += (h << 5) + aspp.hashCode();
+    h += (h << 5) + asppflags.hashCode();
+    h += (h << 5) + cc.hashCode();
+    h += (h << 5) + cflags.hashCode();
+    h += (h << 5) + cxx.hashCode();
+    h += (h << 5) + cxxflags.hashCode();
+    h += (h << 5) + cpp.hashCode();
+    h += (h << 5) + cppflags.hashCode();
+    h += (h << 5) + cxxpp.hashCode();
+    h += (h << 5) + cxxppflags.hashCode();
+    h += (h << 5) + Objects.hashCode(cudapp);
+    h += (h << 5) + cudappflags.hashCode();
+    h += (h << 5) + Objects.hashCode(cuda);
+    h += (h << 5) + cudaflags.hashCode();
+    h += (h << 5) + Objects.hashCode(hippp);
+    h += (h << 5) + hipppflags.hashCode();
+    h += (h << 5) + Objects.hashCode(hip);
+    h += (h << 5) + hipflags.hashCode();
+    h += (h << 5) + Objects.hashCode(asmpp);
+    h += (h << 5) + asmppflags.hashCode();
+    h += (h << 5) + Objects.hashCode(asm);
+    h += (h << 5) + asmflags.hashCode();
+    h += (h << 5) + ld.hashCode();
+    h += (h << 5) + ldflags.hashCode();
+    h += (h << 5) + runtimeLdflags.hashCode();
+    h += (h << 5) + strip.hashCode();
+    h += (h << 5) + stripFlags.hashCode();
+    h += (h << 5) + ar.hashCode();
+    h += (h << 5) + arflags.hashCode();
+    h += (h << 5) + Objects.hashCode(ranlib);
+    h += (h << 5) + ranlibflags.hashCode();
+    h += (h << 5) + symbolNameTool.hashCode();
+    h += (h << 5) + sharedLibraryExtension.hashCode();
+    h += (h << 5) + sharedLibraryVersionedExtensionFormat.hashCode();
+    h += (h << 5) + staticLibraryExtension.hashCode();
+    h += (h << 5) + objectFileExtension.hashCode();
+    h += (h << 5) + compilerDebugPathSanitizer.hashCode();
+    h += (h << 5) + assemblerDebugPathSanitizer.hashCode();
+    h += (h << 5) + headerVerification.hashCode();
+    h += (h << 5) + Objects.hashCode(useArgFile);
+    h += (h << 5) + flagMacros.hashCode();
+    h += (h << 5) + Objects.hashCode(sharedLibraryInterfaceParams);
+    h += (h << 5) + Objects.hashCode(binaryExtension);
+    h += (h << 5) + Booleans.hashCode(publicHeadersSymlinksEnabled);
+    h += (h << 5) + Booleans.hashCode(privateHeadersSymlinksEnabled);
+    h += (h << 5) + picTypeForSharedLinking.hashCode();
+    h += (h << 5) + conflictingHeaderBasenameWhitelist.hashCode();
+    h += (h << 5) + Objects.hashCode(headerMode);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPlatform")
+        .omitNullValues()
+        .add("flavor", flavor)
+        .add("as", as)
+        .add("asflags", asflags)
+        .add("aspp", aspp)
+        .add("asppflags", asppflags)
+        .add("cc", cc)
+        .add("cflags", cflags)
+        .add("cxx", cxx)
+        .add("cxxflags", cxxflags)
+        .add("cpp", cpp)
+        .add("cppflags", cppflags)
+        .add("cxxpp", cxxpp)
+        .add("cxxppflags", cxxppflags)
+        .add("cudapp", cudapp)
+        .add("cudappflags", cudappflags)
+        .add("cuda", cuda)
+        .add("cudaflags", cudaflags)
+        .add("hippp", hippp)
+        .add("hipppflags", hipppflags)
+        .add("hip", hip)
+        .add("hipflags", hipflags)
+        .add("asmpp", asmpp)
+        .add("asmppflags", asmppflags)
+        .add("asm", asm)
+        .add("asmflags", asmflags)
+        .add("ld", ld)
+        .add("ldflags", ldflags)
+        .add("runtimeLdflags", runtimeLdflags)
+        .add("strip", strip)
+        .add("stripFlags", stripFlags)
+        .add("ar", ar)
+        .add("arflags", arflags)
+        .add("ranlib", ranlib)
+        .add("ranlibflags", ranlibflags)
+        .add("symbolNameTool", symbolNameTool)
+        .add("sharedLibraryExtension", sharedLibraryExtension)
+        .add("sharedLibraryVersionedExtensionFormat", sharedLibraryVersionedExtensionFormat)
+        .add("staticLibraryExtension", staticLibraryExtension)
+        .add("objectFileExtension", objectFileExtension)
+        .add("compilerDebugPathSanitizer", compilerDebugPathSanitizer)
+        .add("assemblerDebugPathSanitizer", assemblerDebugPathSanitizer)
+        .add("headerVerification", headerVerification)
+        .add("useArgFile", useArgFile)
+        .add("flagMacros", flagMacros)
+        .add("sharedLibraryInterfaceParams", sharedLibraryInterfaceParams)
+        .add("binaryExtension", binaryExtension)
+        .add("publicHeadersSymlinksEnabled", publicHeadersSymlinksEnabled)
+        .add("privateHeadersSymlinksEnabled", privateHeadersSymlinksEnabled)
+        .add("picTypeForSharedLinking", picTypeForSharedLinking)
+        .add("conflictingHeaderBasenameWhitelist", conflictingHeaderBasenameWhitelist)
+        .add("headerMode", headerMode)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxPlatform instance
+   */
+  static CxxPlatform copyOf(AbstractCxxPlatform instance) {
+    if (instance instanceof CxxPlatform) {
+      return (CxxPlatform) instance;
+    }
+    return CxxPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxPlatform CxxPlatform}.
+   * @return A new CxxPlatform builder
+   */
+  public static CxxPlatform.Builder builder() {
+    return new CxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxPlatform CxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractCxxPlatform", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FLAVOR = 0x1L;
+    private static final long INIT_BIT_AS = 0x2L;
+    private static final long INIT_BIT_ASPP = 0x4L;
+    private static final long INIT_BIT_CC = 0x8L;
+    private static final long INIT_BIT_CXX = 0x10L;
+    private static final long INIT_BIT_CPP = 0x20L;
+    private static final long INIT_BIT_CXXPP = 0x40L;
+    private static final long INIT_BIT_LD = 0x80L;
+    private static final long INIT_BIT_STRIP = 0x100L;
+    private static final long INIT_BIT_AR = 0x200L;
+    private static final long INIT_BIT_SYMBOL_NAME_TOOL = 0x400L;
+    private static final long INIT_BIT_SHARED_LIBRARY_EXTENSION = 0x800L;
+    private static final long INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT = 0x1000L;
+    private static final long INIT_BIT_STATIC_LIBRARY_EXTENSION = 0x2000L;
+    private static final long INIT_BIT_OBJECT_FILE_EXTENSION = 0x4000L;
+    private static final long INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER = 0x8000L;
+    private static final long INIT_BIT_ASSEMBLER_DEBUG_PATH_SANITIZER = 0x10000L;
+    private static final long INIT_BIT_HEADER_VERIFICATION = 0x20000L;
+    private static final long INIT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED = 0x40000L;
+    private static final long INIT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED = 0x80000L;
+    private long initBits = 0xfffffL;
+
+    private @Nullable Flavor flavor;
+    private @Nullable CompilerProvider as;
+    private ImmutableList.Builder<String> asflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider aspp;
+    private ImmutableList.Builder<String> asppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cc;
+    private ImmutableList.Builder<String> cflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cxx;
+    private ImmutableList.Builder<String> cxxflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cpp;
+    private ImmutableList.Builder<String> cppflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cxxpp;
+    private ImmutableList.Builder<String> cxxppflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cudapp;
+    private ImmutableList.Builder<String> cudappflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cuda;
+    private ImmutableList.Builder<String> cudaflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider hippp;
+    private ImmutableList.Builder<String> hipppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider hip;
+    private ImmutableList.Builder<String> hipflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider asmpp;
+    private ImmutableList.Builder<String> asmppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider asm;
+    private ImmutableList.Builder<String> asmflags = ImmutableList.builder();
+    private @Nullable LinkerProvider ld;
+    private ImmutableList.Builder<String> ldflags = ImmutableList.builder();
+    private ImmutableMultimap.Builder<Linker.LinkableDepType, String> runtimeLdflags = ImmutableMultimap.builder();
+    private @Nullable Tool strip;
+    private ImmutableList.Builder<String> stripFlags = ImmutableList.builder();
+    private @Nullable ArchiverProvider ar;
+    private ImmutableList.Builder<String> arflags = ImmutableList.builder();
+    private @Nullable ToolProvider ranlib;
+    private ImmutableList.Builder<String> ranlibflags = ImmutableList.builder();
+    private @Nullable SymbolNameTool symbolNameTool;
+    private @Nullable String sharedLibraryExtension;
+    private @Nullable String sharedLibraryVersionedExtensionFormat;
+    private @Nullable String staticLibraryExtension;
+    private @Nullable String objectFileExtension;
+    private @Nullable DebugPathSanitizer compilerDebugPathSanitizer;
+    private @Nullable DebugPathSanitizer assemblerDebugPathSanitizer;
+    private @Nullable HeaderVerification headerVerification;
+    private @Nullable Boolean useArgFile;
+    private ImmutableMap.Builder<String, String> flagMacros = ImmutableMap.builder();
+    private @Nullable SharedLibraryInterfaceParams sharedLibraryInterfaceParams;
+    private @Nullable String binaryExtension;
+    private boolean publicHeadersSymlinksEnabled;
+    private boolean privateHeadersSymlinksEnabled;
+    private @Nullable PicType picTypeForSharedLinking;
+    private @Nullable ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist;
+    private @Nullable HeaderMode headerMode;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractCxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.model.FlavorConvertible} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(FlavorConvertible instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof AbstractCxxPlatform) {
+        AbstractCxxPlatform instance = (AbstractCxxPlatform) object;
+        Optional<Boolean> useArgFileOptional = instance.getUseArgFile();
+        if (useArgFileOptional.isPresent()) {
+          setUseArgFile(useArgFileOptional);
+        }
+        Optional<SharedLibraryInterfaceParams> sharedLibraryInterfaceParamsOptional = instance.getSharedLibraryInterfaceParams();
+        if (sharedLibraryInterfaceParamsOptional.isPresent()) {
+          setSharedLibraryInterfaceParams(sharedLibraryInterfaceParamsOptional);
+        }
+        addAllHipppflags(instance.getHipppflags());
+        setPicTypeForSharedLinking(instance.getPicTypeForSharedLinking());
+        Optional<HeaderMode> headerModeOptional = instance.getHeaderMode();
+        if (headerModeOptional.isPresent()) {
+          setHeaderMode(headerModeOptional);
+        }
+        setCompilerDebugPathSanitizer(instance.getCompilerDebugPathSanitizer());
+        Optional<CompilerProvider> hipOptional = instance.getHip();
+        if (hipOptional.isPresent()) {
+          setHip(hipOptional);
+        }
+        addAllCudappflags(instance.getCudappflags());
+        addAllHipflags(instance.getHipflags());
+        setStrip(instance.getStrip());
+        putAllRuntimeLdflags(instance.getRuntimeLdflags());
+        Optional<ToolProvider> ranlibOptional = instance.getRanlib();
+        if (ranlibOptional.isPresent()) {
+          setRanlib(ranlibOptional);
+        }
+        addAllLdflags(instance.getLdflags());
+        setStaticLibraryExtension(instance.getStaticLibraryExtension());
+        setAspp(instance.getAspp());
+        Optional<PreprocessorProvider> cudappOptional = instance.getCudapp();
+        if (cudappOptional.isPresent()) {
+          setCudapp(cudappOptional);
+        }
+        setCxx(instance.getCxx());
+        setCpp(instance.getCpp());
+        Optional<PreprocessorProvider> hipppOptional = instance.getHippp();
+        if (hipppOptional.isPresent()) {
+          setHippp(hipppOptional);
+        }
+        setHeaderVerification(instance.getHeaderVerification());
+        addAllAsppflags(instance.getAsppflags());
+        setObjectFileExtension(instance.getObjectFileExtension());
+        Optional<String> binaryExtensionOptional = instance.getBinaryExtension();
+        if (binaryExtensionOptional.isPresent()) {
+          setBinaryExtension(binaryExtensionOptional);
+        }
+        addAllStripFlags(instance.getStripFlags());
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+        setAr(instance.getAr());
+        setAssemblerDebugPathSanitizer(instance.getAssemblerDebugPathSanitizer());
+        setAs(instance.getAs());
+        putAllFlagMacros(instance.getFlagMacros());
+        addAllCxxppflags(instance.getCxxppflags());
+        addAllAsmppflags(instance.getAsmppflags());
+        Optional<PreprocessorProvider> asmppOptional = instance.getAsmpp();
+        if (asmppOptional.isPresent()) {
+          setAsmpp(asmppOptional);
+        }
+        addAllCflags(instance.getCflags());
+        setPrivateHeadersSymlinksEnabled(instance.getPrivateHeadersSymlinksEnabled());
+        Optional<CompilerProvider> cudaOptional = instance.getCuda();
+        if (cudaOptional.isPresent()) {
+          setCuda(cudaOptional);
+        }
+        setConflictingHeaderBasenameWhitelist(instance.getConflictingHeaderBasenameWhitelist());
+        setCxxpp(instance.getCxxpp());
+        addAllRanlibflags(instance.getRanlibflags());
+        addAllCxxflags(instance.getCxxflags());
+        addAllAsflags(instance.getAsflags());
+        addAllCudaflags(instance.getCudaflags());
+        setCc(instance.getCc());
+        addAllAsmflags(instance.getAsmflags());
+        addAllArflags(instance.getArflags());
+        setSharedLibraryExtension(instance.getSharedLibraryExtension());
+        setSharedLibraryVersionedExtensionFormat(instance.getSharedLibraryVersionedExtensionFormat());
+        addAllCppflags(instance.getCppflags());
+        setLd(instance.getLd());
+        Optional<CompilerProvider> asmOptional = instance.getAsm();
+        if (asmOptional.isPresent()) {
+          setAsm(asmOptional);
+        }
+        setSymbolNameTool(instance.getSymbolNameTool());
+        setPublicHeadersSymlinksEnabled(instance.getPublicHeadersSymlinksEnabled());
+      }
+      if (object instanceof FlavorConvertible) {
+        FlavorConvertible instance = (FlavorConvertible) object;
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getFlavor() flavor} attribute.
+     * @param flavor The value for flavor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFlavor(Flavor flavor) {
+      this.flavor = Objects.requireNonNull(flavor, "flavor");
+      initBits &= ~INIT_BIT_FLAVOR;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getAs() as} attribute.
+     * @param as The value for as 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAs(CompilerProvider as) {
+      this.as = Objects.requireNonNull(as, "as");
+      initBits &= ~INIT_BIT_AS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsflags() asflags} list.
+     * @param element A asflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsflags(String element) {
+      this.asflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsflags() asflags} list.
+     * @param elements An array of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsflags(String... elements) {
+      this.asflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsflags() asflags} list.
+     * @param elements An iterable of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsflags(Iterable<String> elements) {
+      this.asflags = ImmutableList.builder();
+      return addAllAsflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsflags() asflags} list.
+     * @param elements An iterable of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAsflags(Iterable<String> elements) {
+      this.asflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getAspp() aspp} attribute.
+     * @param aspp The value for aspp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAspp(PreprocessorProvider aspp) {
+      this.aspp = Objects.requireNonNull(aspp, "aspp");
+      initBits &= ~INIT_BIT_ASPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param element A asppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsppflags(String element) {
+      this.asppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An array of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsppflags(String... elements) {
+      this.asppflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An iterable of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsppflags(Iterable<String> elements) {
+      this.asppflags = ImmutableList.builder();
+      return addAllAsppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An iterable of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAsppflags(Iterable<String> elements) {
+      this.asppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCc() cc} attribute.
+     * @param cc The value for cc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCc(CompilerProvider cc) {
+      this.cc = Objects.requireNonNull(cc, "cc");
+      initBits &= ~INIT_BIT_CC;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCflags() cflags} list.
+     * @param element A cflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCflags(String element) {
+      this.cflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCflags() cflags} list.
+     * @param elements An array of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCflags(String... elements) {
+      this.cflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCflags() cflags} list.
+     * @param elements An iterable of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCflags(Iterable<String> elements) {
+      this.cflags = ImmutableList.builder();
+      return addAllCflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCflags() cflags} list.
+     * @param elements An iterable of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCflags(Iterable<String> elements) {
+      this.cflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCxx() cxx} attribute.
+     * @param cxx The value for cxx 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxx(CompilerProvider cxx) {
+      this.cxx = Objects.requireNonNull(cxx, "cxx");
+      initBits &= ~INIT_BIT_CXX;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param element A cxxflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCxxflags(String element) {
+      this.cxxflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An array of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCxxflags(String... elements) {
+      this.cxxflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An iterable of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxflags(Iterable<String> elements) {
+      this.cxxflags = ImmutableList.builder();
+      return addAllCxxflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An iterable of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCxxflags(Iterable<String> elements) {
+      this.cxxflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCpp() cpp} attribute.
+     * @param cpp The value for cpp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCpp(PreprocessorProvider cpp) {
+      this.cpp = Objects.requireNonNull(cpp, "cpp");
+      initBits &= ~INIT_BIT_CPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param element A cppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCppflags(String element) {
+      this.cppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param elements An array of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCppflags(String... elements) {
+      this.cppflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param elements An iterable of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCppflags(Iterable<String> elements) {
+      this.cppflags = ImmutableList.builder();
+      return addAllCppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param elements An iterable of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCppflags(Iterable<String> elements) {
+      this.cppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCxxpp() cxxpp} attribute.
+     * @param cxxpp The value for cxxpp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxpp(PreprocessorProvider cxxpp) {
+      this.cxxpp = Objects.requireNonNull(cxxpp, "cxxpp");
+      initBits &= ~INIT_BIT_CXXPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param element A cxxppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCxxppflags(String element) {
+      this.cxxppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An array of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCxxppflags(String... elements) {
+      this.cxxppflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An iterable of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxppflags(Iterable<String> elements) {
+      this.cxxppflags = ImmutableList.builder();
+      return addAllCxxppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An iterable of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCxxppflags(Iterable<String> elements) {
+      this.cxxppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCudapp() cudapp} to cudapp.
+     * @param cudapp The value for cudapp
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCudapp(PreprocessorProvider cudapp) {
+      this.cudapp = Objects.requireNonNull(cudapp, "cudapp");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCudapp() cudapp} to cudapp.
+     * @param cudapp The value for cudapp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCudapp(Optional<? extends PreprocessorProvider> cudapp) {
+      this.cudapp = cudapp.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param element A cudappflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCudappflags(String element) {
+      this.cudappflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An array of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCudappflags(String... elements) {
+      this.cudappflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An iterable of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCudappflags(Iterable<String> elements) {
+      this.cudappflags = ImmutableList.builder();
+      return addAllCudappflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An iterable of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCudappflags(Iterable<String> elements) {
+      this.cudappflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCuda() cuda} to cuda.
+     * @param cuda The value for cuda
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCuda(CompilerProvider cuda) {
+      this.cuda = Objects.requireNonNull(cuda, "cuda");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCuda() cuda} to cuda.
+     * @param cuda The value for cuda
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCuda(Optional<? extends CompilerProvider> cuda) {
+      this.cuda = cuda.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param element A cudaflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCudaflags(String element) {
+      this.cudaflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An array of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCudaflags(String... elements) {
+      this.cudaflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An iterable of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCudaflags(Iterable<String> elements) {
+      this.cudaflags = ImmutableList.builder();
+      return addAllCudaflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An iterable of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCudaflags(Iterable<String> elements) {
+      this.cudaflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHippp() hippp} to hippp.
+     * @param hippp The value for hippp
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHippp(PreprocessorProvider hippp) {
+      this.hippp = Objects.requireNonNull(hippp, "hippp");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHippp() hippp} to hippp.
+     * @param hippp The value for hippp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHippp(Optional<? extends PreprocessorProvider> hippp) {
+      this.hippp = hippp.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param element A hipppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHipppflags(String element) {
+      this.hipppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param elements An array of hipppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHipppflags(String... elements) {
+      this.hipppflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param elements An iterable of hipppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHipppflags(Iterable<String> elements) {
+      this.hipppflags = ImmutableList.builder();
+      return addAllHipppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param elements An iterable of hipppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllHipppflags(Iterable<String> elements) {
+      this.hipppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHip() hip} to hip.
+     * @param hip The value for hip
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHip(CompilerProvider hip) {
+      this.hip = Objects.requireNonNull(hip, "hip");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHip() hip} to hip.
+     * @param hip The value for hip
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHip(Optional<? extends CompilerProvider> hip) {
+      this.hip = hip.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param element A hipflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHipflags(String element) {
+      this.hipflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param elements An array of hipflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHipflags(String... elements) {
+      this.hipflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param elements An iterable of hipflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHipflags(Iterable<String> elements) {
+      this.hipflags = ImmutableList.builder();
+      return addAllHipflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param elements An iterable of hipflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllHipflags(Iterable<String> elements) {
+      this.hipflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsmpp() asmpp} to asmpp.
+     * @param asmpp The value for asmpp
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsmpp(PreprocessorProvider asmpp) {
+      this.asmpp = Objects.requireNonNull(asmpp, "asmpp");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsmpp() asmpp} to asmpp.
+     * @param asmpp The value for asmpp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsmpp(Optional<? extends PreprocessorProvider> asmpp) {
+      this.asmpp = asmpp.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param element A asmppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsmppflags(String element) {
+      this.asmppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An array of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsmppflags(String... elements) {
+      this.asmppflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An iterable of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsmppflags(Iterable<String> elements) {
+      this.asmppflags = ImmutableList.builder();
+      return addAllAsmppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An iterable of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAsmppflags(Iterable<String> elements) {
+      this.asmppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsm() asm} to asm.
+     * @param asm The value for asm
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsm(CompilerProvider asm) {
+      this.asm = Objects.requireNonNull(asm, "asm");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsm() asm} to asm.
+     * @param asm The value for asm
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsm(Optional<? extends CompilerProvider> asm) {
+      this.asm = asm.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param element A asmflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsmflags(String element) {
+      this.asmflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An array of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAsmflags(String... elements) {
+      this.asmflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An iterable of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsmflags(Iterable<String> elements) {
+      this.asmflags = ImmutableList.builder();
+      return addAllAsmflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An iterable of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAsmflags(Iterable<String> elements) {
+      this.asmflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getLd() ld} attribute.
+     * @param ld The value for ld 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLd(LinkerProvider ld) {
+      this.ld = Objects.requireNonNull(ld, "ld");
+      initBits &= ~INIT_BIT_LD;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param element A ldflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLdflags(String element) {
+      this.ldflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param elements An array of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLdflags(String... elements) {
+      this.ldflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param elements An iterable of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLdflags(Iterable<String> elements) {
+      this.ldflags = ImmutableList.builder();
+      return addAllLdflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param elements An iterable of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLdflags(Iterable<String> elements) {
+      this.ldflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key The key for runtimeLdflags
+     * @param values The values for runtimeLdflags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRuntimeLdflags(Linker.LinkableDepType key, String... values) {
+      this.runtimeLdflags.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key The key for runtimeLdflags
+     * @param values The values for runtimeLdflags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllRuntimeLdflags(Linker.LinkableDepType key, Iterable<String> values) {
+      this.runtimeLdflags.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map.
+     * @param key The key in the runtimeLdflags map
+     * @param value The associated value in the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRuntimeLdflags(Linker.LinkableDepType key, String value) {
+      this.runtimeLdflags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRuntimeLdflags(Map.Entry<? extends Linker.LinkableDepType, ? extends String> entry) {
+      this.runtimeLdflags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends String> entries) {
+      this.runtimeLdflags = ImmutableMultimap.builder();
+      return putAllRuntimeLdflags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends String> entries) {
+      this.runtimeLdflags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getStrip() strip} attribute.
+     * @param strip The value for strip 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStrip(Tool strip) {
+      this.strip = Objects.requireNonNull(strip, "strip");
+      initBits &= ~INIT_BIT_STRIP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param element A stripFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStripFlags(String element) {
+      this.stripFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An array of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStripFlags(String... elements) {
+      this.stripFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStripFlags(Iterable<String> elements) {
+      this.stripFlags = ImmutableList.builder();
+      return addAllStripFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStripFlags(Iterable<String> elements) {
+      this.stripFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getAr() ar} attribute.
+     * @param ar The value for ar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAr(ArchiverProvider ar) {
+      this.ar = Objects.requireNonNull(ar, "ar");
+      initBits &= ~INIT_BIT_AR;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getArflags() arflags} list.
+     * @param element A arflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArflags(String element) {
+      this.arflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getArflags() arflags} list.
+     * @param elements An array of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArflags(String... elements) {
+      this.arflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getArflags() arflags} list.
+     * @param elements An iterable of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArflags(Iterable<String> elements) {
+      this.arflags = ImmutableList.builder();
+      return addAllArflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getArflags() arflags} list.
+     * @param elements An iterable of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllArflags(Iterable<String> elements) {
+      this.arflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getRanlib() ranlib} to ranlib.
+     * @param ranlib The value for ranlib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRanlib(ToolProvider ranlib) {
+      this.ranlib = Objects.requireNonNull(ranlib, "ranlib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getRanlib() ranlib} to ranlib.
+     * @param ranlib The value for ranlib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRanlib(Optional<? extends ToolProvider> ranlib) {
+      this.ranlib = ranlib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param element A ranlibflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRanlibflags(String element) {
+      this.ranlibflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An array of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRanlibflags(String... elements) {
+      this.ranlibflags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An iterable of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRanlibflags(Iterable<String> elements) {
+      this.ranlibflags = ImmutableList.builder();
+      return addAllRanlibflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An iterable of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRanlibflags(Iterable<String> elements) {
+      this.ranlibflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getSymbolNameTool() symbolNameTool} attribute.
+     * @param symbolNameTool The value for symbolNameTool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSymbolNameTool(SymbolNameTool symbolNameTool) {
+      this.symbolNameTool = Objects.requireNonNull(symbolNameTool, "symbolNameTool");
+      initBits &= ~INIT_BIT_SYMBOL_NAME_TOOL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getSharedLibraryExtension() sharedLibraryExtension} attribute.
+     * @param sharedLibraryExtension The value for sharedLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibraryExtension(String sharedLibraryExtension) {
+      this.sharedLibraryExtension = Objects.requireNonNull(sharedLibraryExtension, "sharedLibraryExtension");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat} attribute.
+     * @param sharedLibraryVersionedExtensionFormat The value for sharedLibraryVersionedExtensionFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibraryVersionedExtensionFormat(String sharedLibraryVersionedExtensionFormat) {
+      this.sharedLibraryVersionedExtensionFormat = Objects.requireNonNull(sharedLibraryVersionedExtensionFormat, "sharedLibraryVersionedExtensionFormat");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getStaticLibraryExtension() staticLibraryExtension} attribute.
+     * @param staticLibraryExtension The value for staticLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLibraryExtension(String staticLibraryExtension) {
+      this.staticLibraryExtension = Objects.requireNonNull(staticLibraryExtension, "staticLibraryExtension");
+      initBits &= ~INIT_BIT_STATIC_LIBRARY_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getObjectFileExtension() objectFileExtension} attribute.
+     * @param objectFileExtension The value for objectFileExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setObjectFileExtension(String objectFileExtension) {
+      this.objectFileExtension = Objects.requireNonNull(objectFileExtension, "objectFileExtension");
+      initBits &= ~INIT_BIT_OBJECT_FILE_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCompilerDebugPathSanitizer() compilerDebugPathSanitizer} attribute.
+     * @param compilerDebugPathSanitizer The value for compilerDebugPathSanitizer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerDebugPathSanitizer(DebugPathSanitizer compilerDebugPathSanitizer) {
+      this.compilerDebugPathSanitizer = Objects.requireNonNull(compilerDebugPathSanitizer, "compilerDebugPathSanitizer");
+      initBits &= ~INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getAssemblerDebugPathSanitizer() assemblerDebugPathSanitizer} attribute.
+     * @param assemblerDebugPathSanitizer The value for assemblerDebugPathSanitizer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssemblerDebugPathSanitizer(DebugPathSanitizer assemblerDebugPathSanitizer) {
+      this.assemblerDebugPathSanitizer = Objects.requireNonNull(assemblerDebugPathSanitizer, "assemblerDebugPathSanitizer");
+      initBits &= ~INIT_BIT_ASSEMBLER_DEBUG_PATH_SANITIZER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getHeaderVerification() headerVerification} attribute.
+     * @param headerVerification The value for headerVerification 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderVerification(HeaderVerification headerVerification) {
+      this.headerVerification = Objects.requireNonNull(headerVerification, "headerVerification");
+      initBits &= ~INIT_BIT_HEADER_VERIFICATION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getUseArgFile() useArgFile} to useArgFile.
+     * @param useArgFile The value for useArgFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUseArgFile(boolean useArgFile) {
+      this.useArgFile = useArgFile;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getUseArgFile() useArgFile} to useArgFile.
+     * @param useArgFile The value for useArgFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUseArgFile(Optional<Boolean> useArgFile) {
+      this.useArgFile = useArgFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getFlagMacros() flagMacros} map.
+     * @param key The key in the flagMacros map
+     * @param value The associated value in the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putFlagMacros(String key, String value) {
+      this.flagMacros.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putFlagMacros(Map.Entry<String, ? extends String> entry) {
+      this.flagMacros.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entries The entries that will be added to the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFlagMacros(Map<String, ? extends String> entries) {
+      this.flagMacros = ImmutableMap.builder();
+      return putAllFlagMacros(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entries The entries that will be added to the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllFlagMacros(Map<String, ? extends String> entries) {
+      this.flagMacros.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getSharedLibraryInterfaceParams() sharedLibraryInterfaceParams} to sharedLibraryInterfaceParams.
+     * @param sharedLibraryInterfaceParams The value for sharedLibraryInterfaceParams
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibraryInterfaceParams(SharedLibraryInterfaceParams sharedLibraryInterfaceParams) {
+      this.sharedLibraryInterfaceParams = Objects.requireNonNull(sharedLibraryInterfaceParams, "sharedLibraryInterfaceParams");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getSharedLibraryInterfaceParams() sharedLibraryInterfaceParams} to sharedLibraryInterfaceParams.
+     * @param sharedLibraryInterfaceParams The value for sharedLibraryInterfaceParams
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibraryInterfaceParams(Optional<? extends SharedLibraryInterfaceParams> sharedLibraryInterfaceParams) {
+      this.sharedLibraryInterfaceParams = sharedLibraryInterfaceParams.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinaryExtension(String binaryExtension) {
+      this.binaryExtension = Objects.requireNonNull(binaryExtension, "binaryExtension");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinaryExtension(Optional<String> binaryExtension) {
+      this.binaryExtension = binaryExtension.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getPublicHeadersSymlinksEnabled() publicHeadersSymlinksEnabled} attribute.
+     * @param publicHeadersSymlinksEnabled The value for publicHeadersSymlinksEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPublicHeadersSymlinksEnabled(boolean publicHeadersSymlinksEnabled) {
+      this.publicHeadersSymlinksEnabled = publicHeadersSymlinksEnabled;
+      initBits &= ~INIT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getPrivateHeadersSymlinksEnabled() privateHeadersSymlinksEnabled} attribute.
+     * @param privateHeadersSymlinksEnabled The value for privateHeadersSymlinksEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrivateHeadersSymlinksEnabled(boolean privateHeadersSymlinksEnabled) {
+      this.privateHeadersSymlinksEnabled = privateHeadersSymlinksEnabled;
+      initBits &= ~INIT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getPicTypeForSharedLinking() picTypeForSharedLinking} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxPlatform#getPicTypeForSharedLinking() picTypeForSharedLinking}.</em>
+     * @param picTypeForSharedLinking The value for picTypeForSharedLinking 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPicTypeForSharedLinking(PicType picTypeForSharedLinking) {
+      this.picTypeForSharedLinking = Objects.requireNonNull(picTypeForSharedLinking, "picTypeForSharedLinking");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getConflictingHeaderBasenameWhitelist() conflictingHeaderBasenameWhitelist} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxPlatform#getConflictingHeaderBasenameWhitelist() conflictingHeaderBasenameWhitelist}.</em>
+     * @param conflictingHeaderBasenameWhitelist The value for conflictingHeaderBasenameWhitelist 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConflictingHeaderBasenameWhitelist(ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist) {
+      this.conflictingHeaderBasenameWhitelist = Objects.requireNonNull(conflictingHeaderBasenameWhitelist, "conflictingHeaderBasenameWhitelist");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHeaderMode() headerMode} to headerMode.
+     * @param headerMode The value for headerMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderMode(HeaderMode headerMode) {
+      this.headerMode = Objects.requireNonNull(headerMode, "headerMode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHeaderMode() headerMode} to headerMode.
+     * @param headerMode The value for headerMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderMode(Optional<? extends HeaderMode> headerMode) {
+      this.headerMode = headerMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxPlatform CxxPlatform}.
+     * @return An immutable instance of CxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxPlatform(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_FLAVOR) != 0) attributes.add("flavor");
+      if ((initBits & INIT_BIT_AS) != 0) attributes.add("as");
+      if ((initBits & INIT_BIT_ASPP) != 0) attributes.add("aspp");
+      if ((initBits & INIT_BIT_CC) != 0) attributes.add("cc");
+      if ((initBits & INIT_BIT_CXX) != 0) attributes.add("cxx");
+      if ((initBits & INIT_BIT_CPP) != 0) attributes.add("cpp");
+      if ((initBits & INIT_BIT_CXXPP) != 0) attributes.add("cxxpp");
+      if ((initBits & INIT_BIT_LD) != 0) attributes.add("ld");
+      if ((initBits & INIT_BIT_STRIP) != 0) attributes.add("strip");
+      if ((initBits & INIT_BIT_AR) != 0) attributes.add("ar");
+      if ((initBits & INIT_BIT_SYMBOL_NAME_TOOL) != 0) attributes.add("symbolNameTool");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_EXTENSION) != 0) attributes.add("sharedLibraryExtension");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT) != 0) attributes.add("sharedLibraryVersionedExtensionFormat");
+      if ((initBits & INIT_BIT_STATIC_LIBRARY_EXTENSION) != 0) attributes.add("staticLibraryExtension");
+      if ((initBits & INIT_BIT_OBJECT_FILE_EXTENSION) != 0) attributes.add("objectFileExtension");
+      if ((initBits & INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER) != 0) attributes.add("compilerDebugPathSanitizer");
+      if ((initBits & INIT_BIT_ASSEMBLER_DEBUG_PATH_SANITIZER) != 0) attributes.add("assemblerDebugPathSanitizer");
+      if ((initBits & INIT_BIT_HEADER_VERIFICATION) != 0) attributes.add("headerVerification");
+      if ((initBits & INIT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED) != 0) attributes.add("publicHeadersSymlinksEnabled");
+      if ((initBits & INIT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED) != 0) attributes.add("privateHeadersSymlinksEnabled");
+      return "Cannot build CxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.model.FlavorDomain;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractCxxPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code CxxPlatformsProvider.of()}.
+ */
+@Generated(from = "AbstractCxxPlatformsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CxxPlatformsProvider extends AbstractCxxPlatformsProvider {
+  private final CxxPlatform defaultCxxPlatform;
+  private final FlavorDomain<CxxPlatform> cxxPlatforms;
+
+  private CxxPlatformsProvider(
+      CxxPlatform defaultCxxPlatform,
+      FlavorDomain<CxxPlatform> cxxPlatforms) {
+    this.defaultCxxPlatform = Objects.requireNonNull(defaultCxxPlatform, "defaultCxxPlatform");
+    this.cxxPlatforms = Objects.requireNonNull(cxxPlatforms, "cxxPlatforms");
+  }
+
+  /**
+   * @return The value of the {@code defaultCxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getDefaultCxxPlatform() {
+    return defaultCxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatforms} attribute
+   */
+  @Override
+  public FlavorDomain<CxxPlatform> getCxxPlatforms() {
+    return cxxPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxPlatformsProvider
+        && equalTo((CxxPlatformsProvider) another);
+  }
+
+  private boolean equalTo(CxxPlatformsProvider another) {
+    return defaultCxxPlatform.equals(another.defaultCxxPlatform)
+        && cxxPlatforms.equals(another.cxxPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code defaultCxxPlatform}, {@code cxxPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + defaultCxxPlatform.hashCode();
+    h += (h << 5) + cxxPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPlatformsProvider")
+        .omitNullValues()
+        .add("defaultCxxPlatform", defaultCxxPlatform)
+        .add("cxxPlatforms", cxxPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxPlatformsProvider} instance.
+   * @param defaultCxxPlatform The value for the {@code defaultCxxPlatform} attribute
+   * @param cxxPlatforms The value for the {@code cxxPlatforms} attribute
+   * @return An immutable CxxPlatformsProvider instance
+   */
+  public static CxxPlatformsProvider of(CxxPlatform defaultCxxPlatform, FlavorDomain<CxxPlatform> cxxPlatforms) {
+    return new CxxPlatformsProvider(defaultCxxPlatform, cxxPlatforms);
+  }
+}
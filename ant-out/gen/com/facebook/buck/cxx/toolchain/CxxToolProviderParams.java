@@ -0,0 +1,330 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxBuckConfig.AbstractCxxToolProviderParams}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxToolProviderParams.builder()}.
+ */
+@Generated(from = "CxxBuckConfig.AbstractCxxToolProviderParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CxxToolProviderParams
+    extends CxxBuckConfig.AbstractCxxToolProviderParams {
+  private final String source;
+  private final @Nullable BuildTarget buildTarget;
+  private final @Nullable PathSourcePath path;
+  private final @Nullable CxxToolProvider.Type type;
+  private final @Nullable Boolean preferDependencyTree;
+
+  private CxxToolProviderParams(CxxToolProviderParams.Builder builder) {
+    this.source = builder.source;
+    this.buildTarget = builder.buildTarget;
+    this.path = builder.path;
+    this.type = builder.type;
+    this.preferDependencyTree = builder.preferDependencyTree;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getBuildTarget() {
+    return Optional.ofNullable(buildTarget);
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Optional<PathSourcePath> getPath() {
+    return Optional.ofNullable(path);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Optional<CxxToolProvider.Type> getType() {
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * @return The value of the {@code preferDependencyTree} attribute
+   */
+  @Override
+  public Optional<Boolean> getPreferDependencyTree() {
+    return Optional.ofNullable(preferDependencyTree);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxToolProviderParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxToolProviderParams
+        && equalTo((CxxToolProviderParams) another);
+  }
+
+  private boolean equalTo(CxxToolProviderParams another) {
+    return source.equals(another.source)
+        && Objects.equals(buildTarget, another.buildTarget)
+        && Objects.equals(path, another.path)
+        && Objects.equals(type, another.type)
+        && Objects.equals(preferDependencyTree, another.preferDependencyTree);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code source}, {@code buildTarget}, {@code path}, {@code type}, {@code preferDependencyTree}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + source.hashCode();
+    h += (h << 5) + Objects.hashCode(buildTarget);
+    h += (h << 5) + Objects.hashCode(path);
+    h += (h << 5) + Objects.hashCode(type);
+    h += (h << 5) + Objects.hashCode(preferDependencyTree);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxToolProviderParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxToolProviderParams")
+        .omitNullValues()
+        .add("source", source)
+        .add("buildTarget", buildTarget)
+        .add("path", path)
+        .add("type", type)
+        .add("preferDependencyTree", preferDependencyTree)
+        .toString();
+  }
+
+
+  private static CxxToolProviderParams validate(CxxToolProviderParams instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link CxxToolProviderParams CxxToolProviderParams}.
+   * @return A new CxxToolProviderParams builder
+   */
+  public static CxxToolProviderParams.Builder builder() {
+    return new CxxToolProviderParams.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxToolProviderParams CxxToolProviderParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CxxBuckConfig.AbstractCxxToolProviderParams", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SOURCE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String source;
+    private @Nullable BuildTarget buildTarget;
+    private @Nullable PathSourcePath path;
+    private @Nullable CxxToolProvider.Type type;
+    private @Nullable Boolean preferDependencyTree;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxToolProviderParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxToolProviderParams instance) {
+      return from((CxxBuckConfig.AbstractCxxToolProviderParams) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxToolProviderParams} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(CxxBuckConfig.AbstractCxxToolProviderParams instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSource(instance.getSource());
+      Optional<BuildTarget> buildTargetOptional = instance.getBuildTarget();
+      if (buildTargetOptional.isPresent()) {
+        setBuildTarget(buildTargetOptional);
+      }
+      Optional<PathSourcePath> pathOptional = instance.getPath();
+      if (pathOptional.isPresent()) {
+        setPath(pathOptional);
+      }
+      Optional<CxxToolProvider.Type> typeOptional = instance.getType();
+      if (typeOptional.isPresent()) {
+        setType(typeOptional);
+      }
+      Optional<Boolean> preferDependencyTreeOptional = instance.getPreferDependencyTree();
+      if (preferDependencyTreeOptional.isPresent()) {
+        setPreferDependencyTree(preferDependencyTreeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolProviderParams#getSource() source} attribute.
+     * @param source The value for source 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSource(String source) {
+      this.source = Objects.requireNonNull(source, "source");
+      initBits &= ~INIT_BIT_SOURCE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(Optional<? extends BuildTarget> buildTarget) {
+      this.buildTarget = buildTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPath(PathSourcePath path) {
+      this.path = Objects.requireNonNull(path, "path");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getPath() path} to path.
+     * @param path The value for path
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPath(Optional<? extends PathSourcePath> path) {
+      this.path = path.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(CxxToolProvider.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getType() type} to type.
+     * @param type The value for type
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(Optional<? extends CxxToolProvider.Type> type) {
+      this.type = type.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getPreferDependencyTree() preferDependencyTree} to preferDependencyTree.
+     * @param preferDependencyTree The value for preferDependencyTree
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreferDependencyTree(boolean preferDependencyTree) {
+      this.preferDependencyTree = preferDependencyTree;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolProviderParams#getPreferDependencyTree() preferDependencyTree} to preferDependencyTree.
+     * @param preferDependencyTree The value for preferDependencyTree
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreferDependencyTree(Optional<Boolean> preferDependencyTree) {
+      this.preferDependencyTree = preferDependencyTree.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxToolProviderParams CxxToolProviderParams}.
+     * @return An immutable instance of CxxToolProviderParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxToolProviderParams build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return CxxToolProviderParams.validate(new CxxToolProviderParams(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SOURCE) != 0) attributes.add("source");
+      return "Cannot build CxxToolProviderParams, some of required attributes are not set " + attributes;
+    }
+  }
+}
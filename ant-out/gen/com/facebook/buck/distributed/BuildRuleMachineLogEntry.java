@@ -0,0 +1,524 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.core.build.engine.BuildRuleStatus;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildRuleMachineLogEntry.builder()}.
+ */
+@Generated(from = "DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildRuleMachineLogEntry
+    extends DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry {
+  private final @Nullable String ruleName;
+  private final @Nullable String ruleType;
+  private final long wallMillisDuration;
+  private final String ruleKey;
+  private final String inputRuleKey;
+  private final @Nullable BuildRuleStatus buildRuleStatus;
+  private final @Nullable CacheResultType cacheResultType;
+  private final String outputHash;
+  private transient final boolean wasFailure;
+  private transient final boolean wasSuccessful;
+  private transient final boolean wasCanceled;
+  private transient final boolean wasCacheMiss;
+
+  private BuildRuleMachineLogEntry(BuildRuleMachineLogEntry.Builder builder) {
+    this.ruleName = builder.ruleName;
+    this.ruleType = builder.ruleType;
+    this.wallMillisDuration = builder.wallMillisDuration;
+    this.ruleKey = builder.ruleKey;
+    this.inputRuleKey = builder.inputRuleKey;
+    this.buildRuleStatus = builder.buildRuleStatus;
+    this.cacheResultType = builder.cacheResultType;
+    this.outputHash = builder.outputHash;
+    this.wasFailure = initShim.wasFailure();
+    this.wasSuccessful = initShim.wasSuccessful();
+    this.wasCanceled = initShim.wasCanceled();
+    this.wasCacheMiss = initShim.wasCacheMiss();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry", generator = "Immutables")
+  private final class InitShim {
+    private byte wasFailureBuildStage = STAGE_UNINITIALIZED;
+    private boolean wasFailure;
+
+    boolean wasFailure() {
+      if (wasFailureBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasFailureBuildStage == STAGE_UNINITIALIZED) {
+        wasFailureBuildStage = STAGE_INITIALIZING;
+        this.wasFailure = BuildRuleMachineLogEntry.super.wasFailure();
+        wasFailureBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasFailure;
+    }
+
+    private byte wasSuccessfulBuildStage = STAGE_UNINITIALIZED;
+    private boolean wasSuccessful;
+
+    boolean wasSuccessful() {
+      if (wasSuccessfulBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasSuccessfulBuildStage == STAGE_UNINITIALIZED) {
+        wasSuccessfulBuildStage = STAGE_INITIALIZING;
+        this.wasSuccessful = BuildRuleMachineLogEntry.super.wasSuccessful();
+        wasSuccessfulBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasSuccessful;
+    }
+
+    private byte wasCanceledBuildStage = STAGE_UNINITIALIZED;
+    private boolean wasCanceled;
+
+    boolean wasCanceled() {
+      if (wasCanceledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasCanceledBuildStage == STAGE_UNINITIALIZED) {
+        wasCanceledBuildStage = STAGE_INITIALIZING;
+        this.wasCanceled = BuildRuleMachineLogEntry.super.wasCanceled();
+        wasCanceledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasCanceled;
+    }
+
+    private byte wasCacheMissBuildStage = STAGE_UNINITIALIZED;
+    private boolean wasCacheMiss;
+
+    boolean wasCacheMiss() {
+      if (wasCacheMissBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasCacheMissBuildStage == STAGE_UNINITIALIZED) {
+        wasCacheMissBuildStage = STAGE_INITIALIZING;
+        this.wasCacheMiss = BuildRuleMachineLogEntry.super.wasCacheMiss();
+        wasCacheMissBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasCacheMiss;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (wasFailureBuildStage == STAGE_INITIALIZING) attributes.add("wasFailure");
+      if (wasSuccessfulBuildStage == STAGE_INITIALIZING) attributes.add("wasSuccessful");
+      if (wasCanceledBuildStage == STAGE_INITIALIZING) attributes.add("wasCanceled");
+      if (wasCacheMissBuildStage == STAGE_INITIALIZING) attributes.add("wasCacheMiss");
+      return "Cannot build BuildRuleMachineLogEntry, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code ruleName} attribute
+   */
+  @Override
+  public Optional<String> getRuleName() {
+    return Optional.ofNullable(ruleName);
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @Override
+  public Optional<String> getRuleType() {
+    return Optional.ofNullable(ruleType);
+  }
+
+  /**
+   * @return The value of the {@code wallMillisDuration} attribute
+   */
+  @Override
+  public long getWallMillisDuration() {
+    return wallMillisDuration;
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public String getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code inputRuleKey} attribute
+   */
+  @Override
+  public String getInputRuleKey() {
+    return inputRuleKey;
+  }
+
+  /**
+   * @return The value of the {@code buildRuleStatus} attribute
+   */
+  @Override
+  public Optional<BuildRuleStatus> getBuildRuleStatus() {
+    return Optional.ofNullable(buildRuleStatus);
+  }
+
+  /**
+   * @return The value of the {@code cacheResultType} attribute
+   */
+  @Override
+  public Optional<CacheResultType> getCacheResultType() {
+    return Optional.ofNullable(cacheResultType);
+  }
+
+  /**
+   * @return The value of the {@code outputHash} attribute
+   */
+  @Override
+  public String getOutputHash() {
+    return outputHash;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasFailure} attribute
+   */
+  @Override
+  public boolean wasFailure() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasFailure()
+        : this.wasFailure;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasSuccessful} attribute
+   */
+  @Override
+  public boolean wasSuccessful() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasSuccessful()
+        : this.wasSuccessful;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasCanceled} attribute
+   */
+  @Override
+  public boolean wasCanceled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasCanceled()
+        : this.wasCanceled;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code wasCacheMiss} attribute
+   */
+  @Override
+  public boolean wasCacheMiss() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasCacheMiss()
+        : this.wasCacheMiss;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildRuleMachineLogEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildRuleMachineLogEntry
+        && equalTo((BuildRuleMachineLogEntry) another);
+  }
+
+  private boolean equalTo(BuildRuleMachineLogEntry another) {
+    return Objects.equals(ruleName, another.ruleName)
+        && Objects.equals(ruleType, another.ruleType)
+        && wallMillisDuration == another.wallMillisDuration
+        && ruleKey.equals(another.ruleKey)
+        && inputRuleKey.equals(another.inputRuleKey)
+        && Objects.equals(buildRuleStatus, another.buildRuleStatus)
+        && Objects.equals(cacheResultType, another.cacheResultType)
+        && outputHash.equals(another.outputHash)
+        && wasFailure == another.wasFailure
+        && wasSuccessful == another.wasSuccessful
+        && wasCanceled == another.wasCanceled
+        && wasCacheMiss == another.wasCacheMiss;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleName}, {@code ruleType}, {@code wallMillisDuration}, {@code ruleKey}, {@code inputRuleKey}, {@code buildRuleStatus}, {@code cacheResultType}, {@code outputHash}, {@code wasFailure}, {@code wasSuccessful}, {@code wasCanceled}, {@code wasCacheMiss}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(ruleName);
+    h += (h << 5) + Objects.hashCode(ruleType);
+    h += (h << 5) + Longs.hashCode(wallMillisDuration);
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + inputRuleKey.hashCode();
+    h += (h << 5) + Objects.hashCode(buildRuleStatus);
+    h += (h << 5) + Objects.hashCode(cacheResultType);
+    h += (h << 5) + outputHash.hashCode();
+    h += (h << 5) + Booleans.hashCode(wasFailure);
+    h += (h << 5) + Booleans.hashCode(wasSuccessful);
+    h += (h << 5) + Booleans.hashCode(wasCanceled);
+    h += (h << 5) + Booleans.hashCode(wasCacheMiss);
+    return h;
+  }
+
+  /**
+   * Creates a builder for {@link BuildRuleMachineLogEntry BuildRuleMachineLogEntry}.
+   * @return A new BuildRuleMachineLogEntry builder
+   */
+  public static BuildRuleMachineLogEntry.Builder builder() {
+    return new BuildRuleMachineLogEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildRuleMachineLogEntry BuildRuleMachineLogEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_WALL_MILLIS_DURATION = 0x1L;
+    private static final long INIT_BIT_RULE_KEY = 0x2L;
+    private static final long INIT_BIT_INPUT_RULE_KEY = 0x4L;
+    private static final long INIT_BIT_OUTPUT_HASH = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String ruleName;
+    private @Nullable String ruleType;
+    private long wallMillisDuration;
+    private @Nullable String ruleKey;
+    private @Nullable String inputRuleKey;
+    private @Nullable BuildRuleStatus buildRuleStatus;
+    private @Nullable CacheResultType cacheResultType;
+    private @Nullable String outputHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildRuleMachineLogEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildRuleMachineLogEntry instance) {
+      return from((DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildRuleMachineLogEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> ruleNameOptional = instance.getRuleName();
+      if (ruleNameOptional.isPresent()) {
+        setRuleName(ruleNameOptional);
+      }
+      Optional<String> ruleTypeOptional = instance.getRuleType();
+      if (ruleTypeOptional.isPresent()) {
+        setRuleType(ruleTypeOptional);
+      }
+      setWallMillisDuration(instance.getWallMillisDuration());
+      setRuleKey(instance.getRuleKey());
+      setInputRuleKey(instance.getInputRuleKey());
+      Optional<BuildRuleStatus> buildRuleStatusOptional = instance.getBuildRuleStatus();
+      if (buildRuleStatusOptional.isPresent()) {
+        setBuildRuleStatus(buildRuleStatusOptional);
+      }
+      Optional<CacheResultType> cacheResultTypeOptional = instance.getCacheResultType();
+      if (cacheResultTypeOptional.isPresent()) {
+        setCacheResultType(cacheResultTypeOptional);
+      }
+      setOutputHash(instance.getOutputHash());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getRuleName() ruleName} to ruleName.
+     * @param ruleName The value for ruleName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleName(String ruleName) {
+      this.ruleName = Objects.requireNonNull(ruleName, "ruleName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getRuleName() ruleName} to ruleName.
+     * @param ruleName The value for ruleName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleName(Optional<String> ruleName) {
+      this.ruleName = ruleName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getRuleType() ruleType} to ruleType.
+     * @param ruleType The value for ruleType
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleType(String ruleType) {
+      this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getRuleType() ruleType} to ruleType.
+     * @param ruleType The value for ruleType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleType(Optional<String> ruleType) {
+      this.ruleType = ruleType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleMachineLogEntry#getWallMillisDuration() wallMillisDuration} attribute.
+     * @param wallMillisDuration The value for wallMillisDuration 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWallMillisDuration(long wallMillisDuration) {
+      this.wallMillisDuration = wallMillisDuration;
+      initBits &= ~INIT_BIT_WALL_MILLIS_DURATION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleMachineLogEntry#getRuleKey() ruleKey} attribute.
+     * @param ruleKey The value for ruleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKey(String ruleKey) {
+      this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+      initBits &= ~INIT_BIT_RULE_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleMachineLogEntry#getInputRuleKey() inputRuleKey} attribute.
+     * @param inputRuleKey The value for inputRuleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInputRuleKey(String inputRuleKey) {
+      this.inputRuleKey = Objects.requireNonNull(inputRuleKey, "inputRuleKey");
+      initBits &= ~INIT_BIT_INPUT_RULE_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getBuildRuleStatus() buildRuleStatus} to buildRuleStatus.
+     * @param buildRuleStatus The value for buildRuleStatus
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildRuleStatus(BuildRuleStatus buildRuleStatus) {
+      this.buildRuleStatus = Objects.requireNonNull(buildRuleStatus, "buildRuleStatus");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getBuildRuleStatus() buildRuleStatus} to buildRuleStatus.
+     * @param buildRuleStatus The value for buildRuleStatus
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildRuleStatus(Optional<? extends BuildRuleStatus> buildRuleStatus) {
+      this.buildRuleStatus = buildRuleStatus.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getCacheResultType() cacheResultType} to cacheResultType.
+     * @param cacheResultType The value for cacheResultType
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResultType(CacheResultType cacheResultType) {
+      this.cacheResultType = Objects.requireNonNull(cacheResultType, "cacheResultType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildRuleMachineLogEntry#getCacheResultType() cacheResultType} to cacheResultType.
+     * @param cacheResultType The value for cacheResultType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResultType(Optional<? extends CacheResultType> cacheResultType) {
+      this.cacheResultType = cacheResultType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleMachineLogEntry#getOutputHash() outputHash} attribute.
+     * @param outputHash The value for outputHash 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputHash(String outputHash) {
+      this.outputHash = Objects.requireNonNull(outputHash, "outputHash");
+      initBits &= ~INIT_BIT_OUTPUT_HASH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildRuleMachineLogEntry BuildRuleMachineLogEntry}.
+     * @return An immutable instance of BuildRuleMachineLogEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildRuleMachineLogEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildRuleMachineLogEntry(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_WALL_MILLIS_DURATION) != 0) attributes.add("wallMillisDuration");
+      if ((initBits & INIT_BIT_RULE_KEY) != 0) attributes.add("ruleKey");
+      if ((initBits & INIT_BIT_INPUT_RULE_KEY) != 0) attributes.add("inputRuleKey");
+      if ((initBits & INIT_BIT_OUTPUT_HASH) != 0) attributes.add("outputHash");
+      return "Cannot build BuildRuleMachineLogEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,349 @@
+package com.facebook.buck.distributed;
+
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DistBuildPostBuildAnalysis.AbstractBuildRuleStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildRuleStats.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code BuildRuleStats.of()}.
+ */
+@Generated(from = "DistBuildPostBuildAnalysis.AbstractBuildRuleStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildRuleStats
+    extends DistBuildPostBuildAnalysis.AbstractBuildRuleStats {
+  private final String slaveRunId;
+  private final boolean wasDefaultRuleKeyMismatch;
+  private final boolean wasInputRuleKeyMismatch;
+  private final DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry;
+
+  private BuildRuleStats(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry) {
+    this.logEntry = Objects.requireNonNull(logEntry, "logEntry");
+    this.slaveRunId = initShim.slaveRunId();
+    this.wasDefaultRuleKeyMismatch = initShim.wasDefaultRuleKeyMismatch();
+    this.wasInputRuleKeyMismatch = initShim.wasInputRuleKeyMismatch();
+    this.initShim = null;
+  }
+
+  private BuildRuleStats(BuildRuleStats.Builder builder) {
+    this.logEntry = builder.logEntry;
+    if (builder.slaveRunId != null) {
+      initShim.setSlaveRunId(builder.slaveRunId);
+    }
+    if (builder.wasDefaultRuleKeyMismatchIsSet()) {
+      initShim.setWasDefaultRuleKeyMismatch(builder.wasDefaultRuleKeyMismatch);
+    }
+    if (builder.wasInputRuleKeyMismatchIsSet()) {
+      initShim.setWasInputRuleKeyMismatch(builder.wasInputRuleKeyMismatch);
+    }
+    this.slaveRunId = initShim.slaveRunId();
+    this.wasDefaultRuleKeyMismatch = initShim.wasDefaultRuleKeyMismatch();
+    this.wasInputRuleKeyMismatch = initShim.wasInputRuleKeyMismatch();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "DistBuildPostBuildAnalysis.AbstractBuildRuleStats", generator = "Immutables")
+  private final class InitShim {
+    private byte slaveRunIdBuildStage = STAGE_UNINITIALIZED;
+    private String slaveRunId;
+
+    String slaveRunId() {
+      if (slaveRunIdBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (slaveRunIdBuildStage == STAGE_UNINITIALIZED) {
+        slaveRunIdBuildStage = STAGE_INITIALIZING;
+        this.slaveRunId = Objects.requireNonNull(BuildRuleStats.super.slaveRunId(), "slaveRunId");
+        slaveRunIdBuildStage = STAGE_INITIALIZED;
+      }
+      return this.slaveRunId;
+    }
+
+    void setSlaveRunId(String slaveRunId) {
+      this.slaveRunId = slaveRunId;
+      slaveRunIdBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte wasDefaultRuleKeyMismatchBuildStage = STAGE_UNINITIALIZED;
+    private boolean wasDefaultRuleKeyMismatch;
+
+    boolean wasDefaultRuleKeyMismatch() {
+      if (wasDefaultRuleKeyMismatchBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasDefaultRuleKeyMismatchBuildStage == STAGE_UNINITIALIZED) {
+        wasDefaultRuleKeyMismatchBuildStage = STAGE_INITIALIZING;
+        this.wasDefaultRuleKeyMismatch = BuildRuleStats.super.wasDefaultRuleKeyMismatch();
+        wasDefaultRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasDefaultRuleKeyMismatch;
+    }
+
+    void setWasDefaultRuleKeyMismatch(boolean wasDefaultRuleKeyMismatch) {
+      this.wasDefaultRuleKeyMismatch = wasDefaultRuleKeyMismatch;
+      wasDefaultRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte wasInputRuleKeyMismatchBuildStage = STAGE_UNINITIALIZED;
+    private boolean wasInputRuleKeyMismatch;
+
+    boolean wasInputRuleKeyMismatch() {
+      if (wasInputRuleKeyMismatchBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (wasInputRuleKeyMismatchBuildStage == STAGE_UNINITIALIZED) {
+        wasInputRuleKeyMismatchBuildStage = STAGE_INITIALIZING;
+        this.wasInputRuleKeyMismatch = BuildRuleStats.super.wasInputRuleKeyMismatch();
+        wasInputRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+      }
+      return this.wasInputRuleKeyMismatch;
+    }
+
+    void setWasInputRuleKeyMismatch(boolean wasInputRuleKeyMismatch) {
+      this.wasInputRuleKeyMismatch = wasInputRuleKeyMismatch;
+      wasInputRuleKeyMismatchBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (slaveRunIdBuildStage == STAGE_INITIALIZING) attributes.add("slaveRunId");
+      if (wasDefaultRuleKeyMismatchBuildStage == STAGE_INITIALIZING) attributes.add("wasDefaultRuleKeyMismatch");
+      if (wasInputRuleKeyMismatchBuildStage == STAGE_INITIALIZING) attributes.add("wasInputRuleKeyMismatch");
+      return "Cannot build BuildRuleStats, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code slaveRunId} attribute
+   */
+  @Override
+  public String slaveRunId() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.slaveRunId()
+        : this.slaveRunId;
+  }
+
+  /**
+   * @return The value of the {@code wasDefaultRuleKeyMismatch} attribute
+   */
+  @Override
+  public boolean wasDefaultRuleKeyMismatch() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasDefaultRuleKeyMismatch()
+        : this.wasDefaultRuleKeyMismatch;
+  }
+
+  /**
+   * @return The value of the {@code wasInputRuleKeyMismatch} attribute
+   */
+  @Override
+  public boolean wasInputRuleKeyMismatch() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.wasInputRuleKeyMismatch()
+        : this.wasInputRuleKeyMismatch;
+  }
+
+  /**
+   * @return The value of the {@code logEntry} attribute
+   */
+  @Override
+  public DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry() {
+    return logEntry;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildRuleStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildRuleStats
+        && equalTo((BuildRuleStats) another);
+  }
+
+  private boolean equalTo(BuildRuleStats another) {
+    return slaveRunId.equals(another.slaveRunId)
+        && wasDefaultRuleKeyMismatch == another.wasDefaultRuleKeyMismatch
+        && wasInputRuleKeyMismatch == another.wasInputRuleKeyMismatch
+        && logEntry.equals(another.logEntry);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code slaveRunId}, {@code wasDefaultRuleKeyMismatch}, {@code wasInputRuleKeyMismatch}, {@code logEntry}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + slaveRunId.hashCode();
+    h += (h << 5) + Booleans.hashCode(wasDefaultRuleKeyMismatch);
+    h += (h << 5) + Booleans.hashCode(wasInputRuleKeyMismatch);
+    h += (h << 5) + logEntry.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleStats} instance.
+   * @param logEntry The value for the {@code logEntry} attribute
+   * @return An immutable BuildRuleStats instance
+   */
+  public static BuildRuleStats of(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry) {
+    return new BuildRuleStats(logEntry);
+  }
+
+  /**
+   * Creates a builder for {@link BuildRuleStats BuildRuleStats}.
+   * @return A new BuildRuleStats builder
+   */
+  public static BuildRuleStats.Builder builder() {
+    return new BuildRuleStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildRuleStats BuildRuleStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "DistBuildPostBuildAnalysis.AbstractBuildRuleStats", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LOG_ENTRY = 0x1L;
+    private static final long OPT_BIT_WAS_DEFAULT_RULE_KEY_MISMATCH = 0x1L;
+    private static final long OPT_BIT_WAS_INPUT_RULE_KEY_MISMATCH = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable String slaveRunId;
+    private boolean wasDefaultRuleKeyMismatch;
+    private boolean wasInputRuleKeyMismatch;
+    private @Nullable DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildRuleStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildRuleStats instance) {
+      return from((DistBuildPostBuildAnalysis.AbstractBuildRuleStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildRuleStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(DistBuildPostBuildAnalysis.AbstractBuildRuleStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSlaveRunId(instance.slaveRunId());
+      setWasDefaultRuleKeyMismatch(instance.wasDefaultRuleKeyMismatch());
+      setWasInputRuleKeyMismatch(instance.wasInputRuleKeyMismatch());
+      setLogEntry(instance.logEntry());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleStats#slaveRunId() slaveRunId} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuildRuleStats#slaveRunId() slaveRunId}.</em>
+     * @param slaveRunId The value for slaveRunId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSlaveRunId(String slaveRunId) {
+      this.slaveRunId = Objects.requireNonNull(slaveRunId, "slaveRunId");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleStats#wasDefaultRuleKeyMismatch() wasDefaultRuleKeyMismatch} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuildRuleStats#wasDefaultRuleKeyMismatch() wasDefaultRuleKeyMismatch}.</em>
+     * @param wasDefaultRuleKeyMismatch The value for wasDefaultRuleKeyMismatch 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWasDefaultRuleKeyMismatch(boolean wasDefaultRuleKeyMismatch) {
+      this.wasDefaultRuleKeyMismatch = wasDefaultRuleKeyMismatch;
+      optBits |= OPT_BIT_WAS_DEFAULT_RULE_KEY_MISMATCH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleStats#wasInputRuleKeyMismatch() wasInputRuleKeyMismatch} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuildRuleStats#wasInputRuleKeyMismatch() wasInputRuleKeyMismatch}.</em>
+     * @param wasInputRuleKeyMismatch The value for wasInputRuleKeyMismatch 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWasInputRuleKeyMismatch(boolean wasInputRuleKeyMismatch) {
+      this.wasInputRuleKeyMismatch = wasInputRuleKeyMismatch;
+      optBits |= OPT_BIT_WAS_INPUT_RULE_KEY_MISMATCH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildRuleStats#logEntry() logEntry} attribute.
+     * @param logEntry The value for logEntry 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogEntry(DistBuildPostBuildAnalysis.AbstractBuildRuleMachineLogEntry logEntry) {
+      this.logEntry = Objects.requireNonNull(logEntry, "logEntry");
+      initBits &= ~INIT_BIT_LOG_ENTRY;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildRuleStats BuildRuleStats}.
+     * @return An immutable instance of BuildRuleStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildRuleStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildRuleStats(this);
+    }
+
+    private boolean wasDefaultRuleKeyMismatchIsSet() {
+      return (optBits & OPT_BIT_WAS_DEFAULT_RULE_KEY_MISMATCH) != 0;
+    }
+
+    private boolean wasInputRuleKeyMismatchIsSet() {
+      return (optBits & OPT_BIT_WAS_INPUT_RULE_KEY_MISMATCH) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_LOG_ENTRY) != 0) attributes.add("logEntry");
+      return "Cannot build BuildRuleStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
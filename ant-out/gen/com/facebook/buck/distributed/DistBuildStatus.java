@@ -0,0 +1,224 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.distributed.thrift.BuildSlaveStatus;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DistBuildStatusEvent.AbstractDistBuildStatus}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildStatus.builder()}.
+ */
+@Generated(from = "DistBuildStatusEvent.AbstractDistBuildStatus", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DistBuildStatus
+    extends DistBuildStatusEvent.AbstractDistBuildStatus {
+  private final @Nullable String status;
+  private final ImmutableList<BuildSlaveStatus> slaveStatuses;
+
+  private DistBuildStatus(DistBuildStatus.Builder builder) {
+    this.status = builder.status;
+    this.slaveStatuses = builder.slaveStatuses.build();
+  }
+
+  /**
+   *@return dist-build status 
+   */
+  @Override
+  public Optional<String> getStatus() {
+    return Optional.ofNullable(status);
+  }
+
+  /**
+   *@return the status of each build slave 
+   */
+  @Override
+  public ImmutableList<BuildSlaveStatus> getSlaveStatuses() {
+    return slaveStatuses;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildStatus} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildStatus
+        && equalTo((DistBuildStatus) another);
+  }
+
+  private boolean equalTo(DistBuildStatus another) {
+    return Objects.equals(status, another.status)
+        && slaveStatuses.equals(another.slaveStatuses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code status}, {@code slaveStatuses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(status);
+    h += (h << 5) + slaveStatuses.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildStatus} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildStatus")
+        .omitNullValues()
+        .add("status", status)
+        .add("slaveStatuses", slaveStatuses)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildStatus DistBuildStatus}.
+   * @return A new DistBuildStatus builder
+   */
+  public static DistBuildStatus.Builder builder() {
+    return new DistBuildStatus.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildStatus DistBuildStatus}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "DistBuildStatusEvent.AbstractDistBuildStatus", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable String status;
+    private ImmutableList.Builder<BuildSlaveStatus> slaveStatuses = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildStatus} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildStatus instance) {
+      return from((DistBuildStatusEvent.AbstractDistBuildStatus) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildStatus} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(DistBuildStatusEvent.AbstractDistBuildStatus instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> statusOptional = instance.getStatus();
+      if (statusOptional.isPresent()) {
+        setStatus(statusOptional);
+      }
+      addAllSlaveStatuses(instance.getSlaveStatuses());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatus#getStatus() status} to status.
+     * @param status The value for status
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStatus(String status) {
+      this.status = Objects.requireNonNull(status, "status");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatus#getStatus() status} to status.
+     * @param status The value for status
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStatus(Optional<String> status) {
+      this.status = status.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param element A slaveStatuses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSlaveStatuses(BuildSlaveStatus element) {
+      this.slaveStatuses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param elements An array of slaveStatuses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSlaveStatuses(BuildSlaveStatus... elements) {
+      this.slaveStatuses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param elements An iterable of slaveStatuses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSlaveStatuses(Iterable<? extends BuildSlaveStatus> elements) {
+      this.slaveStatuses = ImmutableList.builder();
+      return addAllSlaveStatuses(elements);
+    }
+
+    /**
+     * Adds elements to {@link DistBuildStatus#getSlaveStatuses() slaveStatuses} list.
+     * @param elements An iterable of slaveStatuses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSlaveStatuses(Iterable<? extends BuildSlaveStatus> elements) {
+      this.slaveStatuses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildStatus DistBuildStatus}.
+     * @return An immutable instance of DistBuildStatus
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildStatus build() {
+      return new DistBuildStatus(this);
+    }
+  }
+}
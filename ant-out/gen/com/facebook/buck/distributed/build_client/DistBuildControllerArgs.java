@@ -0,0 +1,750 @@
+package com.facebook.buck.distributed.build_client;
+
+import com.facebook.buck.command.BuildExecutorArgs;
+import com.facebook.buck.core.build.distributed.synchronization.RemoteBuildRuleCompletionNotifier;
+import com.facebook.buck.core.build.engine.delegate.CachingBuildEngineDelegate;
+import com.facebook.buck.core.build.event.BuildEvent;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.graph.ActionAndTargetGraphs;
+import com.facebook.buck.distributed.ClientStatsTracker;
+import com.facebook.buck.distributed.DistBuildCellIndexer;
+import com.facebook.buck.distributed.DistBuildService;
+import com.facebook.buck.distributed.thrift.BuckVersion;
+import com.facebook.buck.distributed.thrift.BuildJobState;
+import com.facebook.buck.distributed.thrift.StampedeId;
+import com.facebook.buck.event.BuckEventBus;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Constructor arguments for DelegateAndGraphsInitializer. 
+ */
+@Generated(from = "AbstractDistBuildControllerArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DistBuildControllerArgs
+    extends AbstractDistBuildControllerArgs {
+  private final BuildExecutorArgs builderExecutorArgs;
+  private final ImmutableSet<BuildTarget> topLevelTargets;
+  private final ActionAndTargetGraphs buildGraphs;
+  private final @Nullable CachingBuildEngineDelegate cachingBuildEngineDelegate;
+  private final ListenableFuture<BuildJobState> asyncJobState;
+  private final DistBuildCellIndexer distBuildCellIndexer;
+  private final DistBuildService distBuildService;
+  private final LogStateTracker distBuildLogStateTracker;
+  private final BuckVersion buckVersion;
+  private final ClientStatsTracker distBuildClientStats;
+  private final ScheduledExecutorService scheduler;
+  private final long maxTimeoutWaitingForLogsMillis;
+  private final boolean logMaterializationEnabled;
+  private final RemoteBuildRuleCompletionNotifier remoteBuildRuleCompletionNotifier;
+  private final AtomicReference<StampedeId> stampedeIdReference;
+  private final String buildLabel;
+  private final BuckEventBus buckEventBus;
+  private final BuildEvent.DistBuildStarted distBuildStartedEvent;
+  private final int statusPollIntervalMillis;
+
+  private DistBuildControllerArgs(DistBuildControllerArgs.Builder builder) {
+    this.builderExecutorArgs = builder.builderExecutorArgs;
+    this.topLevelTargets = builder.topLevelTargets.build();
+    this.buildGraphs = builder.buildGraphs;
+    this.cachingBuildEngineDelegate = builder.cachingBuildEngineDelegate;
+    this.asyncJobState = builder.asyncJobState;
+    this.distBuildCellIndexer = builder.distBuildCellIndexer;
+    this.distBuildService = builder.distBuildService;
+    this.distBuildLogStateTracker = builder.distBuildLogStateTracker;
+    this.buckVersion = builder.buckVersion;
+    this.distBuildClientStats = builder.distBuildClientStats;
+    this.scheduler = builder.scheduler;
+    this.maxTimeoutWaitingForLogsMillis = builder.maxTimeoutWaitingForLogsMillis;
+    this.logMaterializationEnabled = builder.logMaterializationEnabled;
+    this.remoteBuildRuleCompletionNotifier = builder.remoteBuildRuleCompletionNotifier;
+    this.stampedeIdReference = builder.stampedeIdReference;
+    this.buildLabel = builder.buildLabel;
+    this.buckEventBus = builder.buckEventBus;
+    this.distBuildStartedEvent = builder.distBuildStartedEvent;
+    this.statusPollIntervalMillis = builder.statusPollIntervalMillisIsSet()
+        ? builder.statusPollIntervalMillis
+        : super.getStatusPollIntervalMillis();
+  }
+
+  /**
+   * @return The value of the {@code builderExecutorArgs} attribute
+   */
+  @Override
+  public BuildExecutorArgs getBuilderExecutorArgs() {
+    return builderExecutorArgs;
+  }
+
+  /**
+   * @return The value of the {@code topLevelTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getTopLevelTargets() {
+    return topLevelTargets;
+  }
+
+  /**
+   * @return The value of the {@code buildGraphs} attribute
+   */
+  @Override
+  public ActionAndTargetGraphs getBuildGraphs() {
+    return buildGraphs;
+  }
+
+  /**
+   * @return The value of the {@code cachingBuildEngineDelegate} attribute
+   */
+  @Override
+  public Optional<CachingBuildEngineDelegate> getCachingBuildEngineDelegate() {
+    return Optional.ofNullable(cachingBuildEngineDelegate);
+  }
+
+  /**
+   * @return The value of the {@code asyncJobState} attribute
+   */
+  @Override
+  public ListenableFuture<BuildJobState> getAsyncJobState() {
+    return asyncJobState;
+  }
+
+  /**
+   * @return The value of the {@code distBuildCellIndexer} attribute
+   */
+  @Override
+  public DistBuildCellIndexer getDistBuildCellIndexer() {
+    return distBuildCellIndexer;
+  }
+
+  /**
+   * @return The value of the {@code distBuildService} attribute
+   */
+  @Override
+  public DistBuildService getDistBuildService() {
+    return distBuildService;
+  }
+
+  /**
+   * @return The value of the {@code distBuildLogStateTracker} attribute
+   */
+  @Override
+  public LogStateTracker getDistBuildLogStateTracker() {
+    return distBuildLogStateTracker;
+  }
+
+  /**
+   * @return The value of the {@code buckVersion} attribute
+   */
+  @Override
+  public BuckVersion getBuckVersion() {
+    return buckVersion;
+  }
+
+  /**
+   * @return The value of the {@code distBuildClientStats} attribute
+   */
+  @Override
+  public ClientStatsTracker getDistBuildClientStats() {
+    return distBuildClientStats;
+  }
+
+  /**
+   * @return The value of the {@code scheduler} attribute
+   */
+  @Override
+  public ScheduledExecutorService getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * @return The value of the {@code maxTimeoutWaitingForLogsMillis} attribute
+   */
+  @Override
+  public long getMaxTimeoutWaitingForLogsMillis() {
+    return maxTimeoutWaitingForLogsMillis;
+  }
+
+  /**
+   * @return The value of the {@code logMaterializationEnabled} attribute
+   */
+  @Override
+  public boolean getLogMaterializationEnabled() {
+    return logMaterializationEnabled;
+  }
+
+  /**
+   * @return The value of the {@code remoteBuildRuleCompletionNotifier} attribute
+   */
+  @Override
+  public RemoteBuildRuleCompletionNotifier getRemoteBuildRuleCompletionNotifier() {
+    return remoteBuildRuleCompletionNotifier;
+  }
+
+  /**
+   * @return The value of the {@code stampedeIdReference} attribute
+   */
+  @Override
+  public AtomicReference<StampedeId> getStampedeIdReference() {
+    return stampedeIdReference;
+  }
+
+  /**
+   * @return The value of the {@code buildLabel} attribute
+   */
+  @Override
+  public String getBuildLabel() {
+    return buildLabel;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code distBuildStartedEvent} attribute
+   */
+  @Override
+  public BuildEvent.DistBuildStarted getDistBuildStartedEvent() {
+    return distBuildStartedEvent;
+  }
+
+  /**
+   * @return The value of the {@code statusPollIntervalMillis} attribute
+   */
+  @Override
+  public int getStatusPollIntervalMillis() {
+    return statusPollIntervalMillis;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildControllerArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildControllerArgs
+        && equalTo((DistBuildControllerArgs) another);
+  }
+
+  private boolean equalTo(DistBuildControllerArgs another) {
+    return builderExecutorArgs.equals(another.builderExecutorArgs)
+        && topLevelTargets.equals(another.topLevelTargets)
+        && buildGraphs.equals(another.buildGraphs)
+        && Objects.equals(cachingBuildEngineDelegate, another.cachingBuildEngineDelegate)
+        && asyncJobState.equals(another.asyncJobState)
+        && distBuildCellIndexer.equals(another.distBuildCellIndexer)
+        && distBuildService.equals(another.distBuildService)
+        && distBuildLogStateTracker.equals(another.distBuildLogStateTracker)
+        && buckVersion.equals(another.buckVersion)
+        && distBuildClientStats.equals(another.distBuildClientStats)
+        && scheduler.equals(another.scheduler)
+        && maxTimeoutWaitingForLogsMillis == another.maxTimeoutWaitingForLogsMillis
+        && logMaterializationEnabled == another.logMaterializationEnabled
+        && remoteBuildRuleCompletionNotifier.equals(another.remoteBuildRuleCompletionNotifier)
+        && stampedeIdReference.equals(another.stampedeIdReference)
+        && buildLabel.equals(another.buildLabel)
+        && buckEventBus.equals(another.buckEventBus)
+        && distBuildStartedEvent.equals(another.distBuildStartedEvent)
+        && statusPollIntervalMillis == another.statusPollIntervalMillis;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code builderExecutorArgs}, {@code topLevelTargets}, {@code buildGraphs}, {@code cachingBuildEngineDelegate}, {@code asyncJobState}, {@code distBuildCellIndexer}, {@code distBuildService}, {@code distBuildLogStateTracker}, {@code buckVersion}, {@code distBuildClientStats}, {@code scheduler}, {@code maxTimeoutWaitingForLogsMillis}, {@code logMaterializationEnabled}, {@code remoteBuildRuleCompletionNotifier}, {@code stampedeIdReference}, {@code buildLabel}, {@code buckEventBus}, {@code distBuildStartedEvent}, {@code statusPollIntervalMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + builderExecutorArgs.hashCode();
+    h += (h << 5) + topLevelTargets.hashCode();
+    h += (h << 5) + buildGraphs.hashCode();
+    h += (h << 5) + Objects.hashCode(cachingBuildEngineDelegate);
+    h += (h << 5) + asyncJobState.hashCode();
+    h += (h << 5) + distBuildCellIndexer.hashCode();
+    h += (h << 5) + distBuildService.hashCode();
+    h += (h << 5) + distBuildLogStateTracker.hashCode();
+    h += (h << 5) + buckVersion.hashCode();
+    h += (h << 5) + distBuildClientStats.hashCode();
+    h += (h << 5) + scheduler.hashCode();
+    h += (h << 5) + Longs.hashCode(maxTimeoutWaitingForLogsMillis);
+    h += (h << 5) + Booleans.hashCode(logMaterializationEnabled);
+    h += (h << 5) + remoteBuildRuleCompletionNotifier.hashCode();
+    h += (h << 5) + stampedeIdReference.hashCode();
+    h += (h << 5) + buildLabel.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + distBuildStartedEvent.hashCode();
+    h += (h << 5) + statusPollIntervalMillis;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildControllerArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildControllerArgs")
+        .omitNullValues()
+        .add("builderExecutorArgs", builderExecutorArgs)
+        .add("topLevelTargets", topLevelTargets)
+        .add("buildGraphs", buildGraphs)
+        .add("cachingBuildEngineDelegate", cachingBuildEngineDelegate)
+        .add("asyncJobState", asyncJobState)
+        .add("distBuildCellIndexer", distBuildCellIndexer)
+        .add("distBuildService", distBuildService)
+        .add("distBuildLogStateTracker", distBuildLogStateTracker)
+        .add("buckVersion", buckVersion)
+        .add("distBuildClientStats", distBuildClientStats)
+        .add("scheduler", scheduler)
+        .add("maxTimeoutWaitingForLogsMillis", maxTimeoutWaitingForLogsMillis)
+        .add("logMaterializationEnabled", logMaterializationEnabled)
+        .add("remoteBuildRuleCompletionNotifier", remoteBuildRuleCompletionNotifier)
+        .add("stampedeIdReference", stampedeIdReference)
+        .add("buildLabel", buildLabel)
+        .add("buckEventBus", buckEventBus)
+        .add("distBuildStartedEvent", distBuildStartedEvent)
+        .add("statusPollIntervalMillis", statusPollIntervalMillis)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildControllerArgs DistBuildControllerArgs}.
+   * @return A new DistBuildControllerArgs builder
+   */
+  public static DistBuildControllerArgs.Builder builder() {
+    return new DistBuildControllerArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildControllerArgs DistBuildControllerArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractDistBuildControllerArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILDER_EXECUTOR_ARGS = 0x1L;
+    private static final long INIT_BIT_BUILD_GRAPHS = 0x2L;
+    private static final long INIT_BIT_ASYNC_JOB_STATE = 0x4L;
+    private static final long INIT_BIT_DIST_BUILD_CELL_INDEXER = 0x8L;
+    private static final long INIT_BIT_DIST_BUILD_SERVICE = 0x10L;
+    private static final long INIT_BIT_DIST_BUILD_LOG_STATE_TRACKER = 0x20L;
+    private static final long INIT_BIT_BUCK_VERSION = 0x40L;
+    private static final long INIT_BIT_DIST_BUILD_CLIENT_STATS = 0x80L;
+    private static final long INIT_BIT_SCHEDULER = 0x100L;
+    private static final long INIT_BIT_MAX_TIMEOUT_WAITING_FOR_LOGS_MILLIS = 0x200L;
+    private static final long INIT_BIT_LOG_MATERIALIZATION_ENABLED = 0x400L;
+    private static final long INIT_BIT_REMOTE_BUILD_RULE_COMPLETION_NOTIFIER = 0x800L;
+    private static final long INIT_BIT_STAMPEDE_ID_REFERENCE = 0x1000L;
+    private static final long INIT_BIT_BUILD_LABEL = 0x2000L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x4000L;
+    private static final long INIT_BIT_DIST_BUILD_STARTED_EVENT = 0x8000L;
+    private static final long OPT_BIT_STATUS_POLL_INTERVAL_MILLIS = 0x1L;
+    private long initBits = 0xffffL;
+    private long optBits;
+
+    private @Nullable BuildExecutorArgs builderExecutorArgs;
+    private ImmutableSet.Builder<BuildTarget> topLevelTargets = ImmutableSet.builder();
+    private @Nullable ActionAndTargetGraphs buildGraphs;
+    private @Nullable CachingBuildEngineDelegate cachingBuildEngineDelegate;
+    private @Nullable ListenableFuture<BuildJobState> asyncJobState;
+    private @Nullable DistBuildCellIndexer distBuildCellIndexer;
+    private @Nullable DistBuildService distBuildService;
+    private @Nullable LogStateTracker distBuildLogStateTracker;
+    private @Nullable BuckVersion buckVersion;
+    private @Nullable ClientStatsTracker distBuildClientStats;
+    private @Nullable ScheduledExecutorService scheduler;
+    private long maxTimeoutWaitingForLogsMillis;
+    private boolean logMaterializationEnabled;
+    private @Nullable RemoteBuildRuleCompletionNotifier remoteBuildRuleCompletionNotifier;
+    private @Nullable AtomicReference<StampedeId> stampedeIdReference;
+    private @Nullable String buildLabel;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable BuildEvent.DistBuildStarted distBuildStartedEvent;
+    private int statusPollIntervalMillis;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildControllerArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildControllerArgs instance) {
+      return from((AbstractDistBuildControllerArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildControllerArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDistBuildControllerArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuilderExecutorArgs(instance.getBuilderExecutorArgs());
+      addAllTopLevelTargets(instance.getTopLevelTargets());
+      setBuildGraphs(instance.getBuildGraphs());
+      Optional<CachingBuildEngineDelegate> cachingBuildEngineDelegateOptional = instance.getCachingBuildEngineDelegate();
+      if (cachingBuildEngineDelegateOptional.isPresent()) {
+        setCachingBuildEngineDelegate(cachingBuildEngineDelegateOptional);
+      }
+      setAsyncJobState(instance.getAsyncJobState());
+      setDistBuildCellIndexer(instance.getDistBuildCellIndexer());
+      setDistBuildService(instance.getDistBuildService());
+      setDistBuildLogStateTracker(instance.getDistBuildLogStateTracker());
+      setBuckVersion(instance.getBuckVersion());
+      setDistBuildClientStats(instance.getDistBuildClientStats());
+      setScheduler(instance.getScheduler());
+      setMaxTimeoutWaitingForLogsMillis(instance.getMaxTimeoutWaitingForLogsMillis());
+      setLogMaterializationEnabled(instance.getLogMaterializationEnabled());
+      setRemoteBuildRuleCompletionNotifier(instance.getRemoteBuildRuleCompletionNotifier());
+      setStampedeIdReference(instance.getStampedeIdReference());
+      setBuildLabel(instance.getBuildLabel());
+      setBuckEventBus(instance.getBuckEventBus());
+      setDistBuildStartedEvent(instance.getDistBuildStartedEvent());
+      setStatusPollIntervalMillis(instance.getStatusPollIntervalMillis());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getBuilderExecutorArgs() builderExecutorArgs} attribute.
+     * @param builderExecutorArgs The value for builderExecutorArgs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuilderExecutorArgs(BuildExecutorArgs builderExecutorArgs) {
+      this.builderExecutorArgs = Objects.requireNonNull(builderExecutorArgs, "builderExecutorArgs");
+      initBits &= ~INIT_BIT_BUILDER_EXECUTOR_ARGS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DistBuildControllerArgs#getTopLevelTargets() topLevelTargets} set.
+     * @param element A topLevelTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTopLevelTargets(BuildTarget element) {
+      this.topLevelTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DistBuildControllerArgs#getTopLevelTargets() topLevelTargets} set.
+     * @param elements An array of topLevelTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTopLevelTargets(BuildTarget... elements) {
+      this.topLevelTargets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DistBuildControllerArgs#getTopLevelTargets() topLevelTargets} set.
+     * @param elements An iterable of topLevelTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTopLevelTargets(Iterable<? extends BuildTarget> elements) {
+      this.topLevelTargets = ImmutableSet.builder();
+      return addAllTopLevelTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link DistBuildControllerArgs#getTopLevelTargets() topLevelTargets} set.
+     * @param elements An iterable of topLevelTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTopLevelTargets(Iterable<? extends BuildTarget> elements) {
+      this.topLevelTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getBuildGraphs() buildGraphs} attribute.
+     * @param buildGraphs The value for buildGraphs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildGraphs(ActionAndTargetGraphs buildGraphs) {
+      this.buildGraphs = Objects.requireNonNull(buildGraphs, "buildGraphs");
+      initBits &= ~INIT_BIT_BUILD_GRAPHS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildControllerArgs#getCachingBuildEngineDelegate() cachingBuildEngineDelegate} to cachingBuildEngineDelegate.
+     * @param cachingBuildEngineDelegate The value for cachingBuildEngineDelegate
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCachingBuildEngineDelegate(CachingBuildEngineDelegate cachingBuildEngineDelegate) {
+      this.cachingBuildEngineDelegate = Objects.requireNonNull(cachingBuildEngineDelegate, "cachingBuildEngineDelegate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildControllerArgs#getCachingBuildEngineDelegate() cachingBuildEngineDelegate} to cachingBuildEngineDelegate.
+     * @param cachingBuildEngineDelegate The value for cachingBuildEngineDelegate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCachingBuildEngineDelegate(Optional<? extends CachingBuildEngineDelegate> cachingBuildEngineDelegate) {
+      this.cachingBuildEngineDelegate = cachingBuildEngineDelegate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getAsyncJobState() asyncJobState} attribute.
+     * @param asyncJobState The value for asyncJobState 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAsyncJobState(ListenableFuture<BuildJobState> asyncJobState) {
+      this.asyncJobState = Objects.requireNonNull(asyncJobState, "asyncJobState");
+      initBits &= ~INIT_BIT_ASYNC_JOB_STATE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getDistBuildCellIndexer() distBuildCellIndexer} attribute.
+     * @param distBuildCellIndexer The value for distBuildCellIndexer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildCellIndexer(DistBuildCellIndexer distBuildCellIndexer) {
+      this.distBuildCellIndexer = Objects.requireNonNull(distBuildCellIndexer, "distBuildCellIndexer");
+      initBits &= ~INIT_BIT_DIST_BUILD_CELL_INDEXER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getDistBuildService() distBuildService} attribute.
+     * @param distBuildService The value for distBuildService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildService(DistBuildService distBuildService) {
+      this.distBuildService = Objects.requireNonNull(distBuildService, "distBuildService");
+      initBits &= ~INIT_BIT_DIST_BUILD_SERVICE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getDistBuildLogStateTracker() distBuildLogStateTracker} attribute.
+     * @param distBuildLogStateTracker The value for distBuildLogStateTracker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildLogStateTracker(LogStateTracker distBuildLogStateTracker) {
+      this.distBuildLogStateTracker = Objects.requireNonNull(distBuildLogStateTracker, "distBuildLogStateTracker");
+      initBits &= ~INIT_BIT_DIST_BUILD_LOG_STATE_TRACKER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getBuckVersion() buckVersion} attribute.
+     * @param buckVersion The value for buckVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckVersion(BuckVersion buckVersion) {
+      this.buckVersion = Objects.requireNonNull(buckVersion, "buckVersion");
+      initBits &= ~INIT_BIT_BUCK_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getDistBuildClientStats() distBuildClientStats} attribute.
+     * @param distBuildClientStats The value for distBuildClientStats 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildClientStats(ClientStatsTracker distBuildClientStats) {
+      this.distBuildClientStats = Objects.requireNonNull(distBuildClientStats, "distBuildClientStats");
+      initBits &= ~INIT_BIT_DIST_BUILD_CLIENT_STATS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getScheduler() scheduler} attribute.
+     * @param scheduler The value for scheduler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setScheduler(ScheduledExecutorService scheduler) {
+      this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+      initBits &= ~INIT_BIT_SCHEDULER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getMaxTimeoutWaitingForLogsMillis() maxTimeoutWaitingForLogsMillis} attribute.
+     * @param maxTimeoutWaitingForLogsMillis The value for maxTimeoutWaitingForLogsMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxTimeoutWaitingForLogsMillis(long maxTimeoutWaitingForLogsMillis) {
+      this.maxTimeoutWaitingForLogsMillis = maxTimeoutWaitingForLogsMillis;
+      initBits &= ~INIT_BIT_MAX_TIMEOUT_WAITING_FOR_LOGS_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getLogMaterializationEnabled() logMaterializationEnabled} attribute.
+     * @param logMaterializationEnabled The value for logMaterializationEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogMaterializationEnabled(boolean logMaterializationEnabled) {
+      this.logMaterializationEnabled = logMaterializationEnabled;
+      initBits &= ~INIT_BIT_LOG_MATERIALIZATION_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getRemoteBuildRuleCompletionNotifier() remoteBuildRuleCompletionNotifier} attribute.
+     * @param remoteBuildRuleCompletionNotifier The value for remoteBuildRuleCompletionNotifier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemoteBuildRuleCompletionNotifier(RemoteBuildRuleCompletionNotifier remoteBuildRuleCompletionNotifier) {
+      this.remoteBuildRuleCompletionNotifier = Objects.requireNonNull(remoteBuildRuleCompletionNotifier, "remoteBuildRuleCompletionNotifier");
+      initBits &= ~INIT_BIT_REMOTE_BUILD_RULE_COMPLETION_NOTIFIER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getStampedeIdReference() stampedeIdReference} attribute.
+     * @param stampedeIdReference The value for stampedeIdReference 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStampedeIdReference(AtomicReference<StampedeId> stampedeIdReference) {
+      this.stampedeIdReference = Objects.requireNonNull(stampedeIdReference, "stampedeIdReference");
+      initBits &= ~INIT_BIT_STAMPEDE_ID_REFERENCE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getBuildLabel() buildLabel} attribute.
+     * @param buildLabel The value for buildLabel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildLabel(String buildLabel) {
+      this.buildLabel = Objects.requireNonNull(buildLabel, "buildLabel");
+      initBits &= ~INIT_BIT_BUILD_LABEL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getDistBuildStartedEvent() distBuildStartedEvent} attribute.
+     * @param distBuildStartedEvent The value for distBuildStartedEvent 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildStartedEvent(BuildEvent.DistBuildStarted distBuildStartedEvent) {
+      this.distBuildStartedEvent = Objects.requireNonNull(distBuildStartedEvent, "distBuildStartedEvent");
+      initBits &= ~INIT_BIT_DIST_BUILD_STARTED_EVENT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildControllerArgs#getStatusPollIntervalMillis() statusPollIntervalMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DistBuildControllerArgs#getStatusPollIntervalMillis() statusPollIntervalMillis}.</em>
+     * @param statusPollIntervalMillis The value for statusPollIntervalMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStatusPollIntervalMillis(int statusPollIntervalMillis) {
+      this.statusPollIntervalMillis = statusPollIntervalMillis;
+      optBits |= OPT_BIT_STATUS_POLL_INTERVAL_MILLIS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildControllerArgs DistBuildControllerArgs}.
+     * @return An immutable instance of DistBuildControllerArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildControllerArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildControllerArgs(this);
+    }
+
+    private boolean statusPollIntervalMillisIsSet() {
+      return (optBits & OPT_BIT_STATUS_POLL_INTERVAL_MILLIS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BUILDER_EXECUTOR_ARGS) != 0) attributes.add("builderExecutorArgs");
+      if ((initBits & INIT_BIT_BUILD_GRAPHS) != 0) attributes.add("buildGraphs");
+      if ((initBits & INIT_BIT_ASYNC_JOB_STATE) != 0) attributes.add("asyncJobState");
+      if ((initBits & INIT_BIT_DIST_BUILD_CELL_INDEXER) != 0) attributes.add("distBuildCellIndexer");
+      if ((initBits & INIT_BIT_DIST_BUILD_SERVICE) != 0) attributes.add("distBuildService");
+      if ((initBits & INIT_BIT_DIST_BUILD_LOG_STATE_TRACKER) != 0) attributes.add("distBuildLogStateTracker");
+      if ((initBits & INIT_BIT_BUCK_VERSION) != 0) attributes.add("buckVersion");
+      if ((initBits & INIT_BIT_DIST_BUILD_CLIENT_STATS) != 0) attributes.add("distBuildClientStats");
+      if ((initBits & INIT_BIT_SCHEDULER) != 0) attributes.add("scheduler");
+      if ((initBits & INIT_BIT_MAX_TIMEOUT_WAITING_FOR_LOGS_MILLIS) != 0) attributes.add("maxTimeoutWaitingForLogsMillis");
+      if ((initBits & INIT_BIT_LOG_MATERIALIZATION_ENABLED) != 0) attributes.add("logMaterializationEnabled");
+      if ((initBits & INIT_BIT_REMOTE_BUILD_RULE_COMPLETION_NOTIFIER) != 0) attributes.add("remoteBuildRuleCompletionNotifier");
+      if ((initBits & INIT_BIT_STAMPEDE_ID_REFERENCE) != 0) attributes.add("stampedeIdReference");
+      if ((initBits & INIT_BIT_BUILD_LABEL) != 0) attributes.add("buildLabel");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_DIST_BUILD_STARTED_EVENT) != 0) attributes.add("distBuildStartedEvent");
+      return "Cannot build DistBuildControllerArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
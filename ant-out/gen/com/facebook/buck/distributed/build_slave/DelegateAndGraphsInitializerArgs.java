@@ -0,0 +1,554 @@
+package com.facebook.buck.distributed.build_slave;
+
+import com.facebook.buck.core.model.actiongraph.computation.ActionGraphProvider;
+import com.facebook.buck.core.rules.knowntypes.KnownRuleTypesProvider;
+import com.facebook.buck.distributed.DistBuildConfig;
+import com.facebook.buck.distributed.DistBuildState;
+import com.facebook.buck.distributed.FileContentsProvider;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.facebook.buck.step.ExecutorPool;
+import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
+import com.facebook.buck.versions.InstrumentedVersionedTargetGraphCache;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Constructor arguments for DelegateAndGraphsInitializer. 
+ */
+@Generated(from = "AbstractDelegateAndGraphsInitializerArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DelegateAndGraphsInitializerArgs
+    extends AbstractDelegateAndGraphsInitializerArgs {
+  private final DistBuildState state;
+  private final BuildSlaveTimingStatsTracker timingStatsTracker;
+  private final InstrumentedVersionedTargetGraphCache versionedTargetGraphCache;
+  private final ActionGraphProvider actionGraphProvider;
+  private final Parser parser;
+  private final BuckEventBus buckEventBus;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final WeightedListeningExecutorService executorService;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final FileContentsProvider provider;
+  private final KnownRuleTypesProvider knownRuleTypesProvider;
+  private final DistBuildConfig distBuildConfig;
+
+  private DelegateAndGraphsInitializerArgs(DelegateAndGraphsInitializerArgs.Builder builder) {
+    this.state = builder.state;
+    this.timingStatsTracker = builder.timingStatsTracker;
+    this.versionedTargetGraphCache = builder.versionedTargetGraphCache;
+    this.actionGraphProvider = builder.actionGraphProvider;
+    this.parser = builder.parser;
+    this.buckEventBus = builder.buckEventBus;
+    this.ruleKeyConfiguration = builder.ruleKeyConfiguration;
+    this.projectFilesystemFactory = builder.projectFilesystemFactory;
+    this.executorService = builder.executorService;
+    this.executors = Maps.immutableEnumMap(builder.executors.build());
+    this.provider = builder.provider;
+    this.knownRuleTypesProvider = builder.knownRuleTypesProvider;
+    this.distBuildConfig = builder.distBuildConfig;
+  }
+
+  /**
+   * @return The value of the {@code state} attribute
+   */
+  @Override
+  public DistBuildState getState() {
+    return state;
+  }
+
+  /**
+   * @return The value of the {@code timingStatsTracker} attribute
+   */
+  @Override
+  public BuildSlaveTimingStatsTracker getTimingStatsTracker() {
+    return timingStatsTracker;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public InstrumentedVersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphProvider} attribute
+   */
+  @Override
+  public ActionGraphProvider getActionGraphProvider() {
+    return actionGraphProvider;
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code executorService} attribute
+   */
+  @Override
+  public WeightedListeningExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code provider} attribute
+   */
+  @Override
+  public FileContentsProvider getProvider() {
+    return provider;
+  }
+
+  /**
+   * @return The value of the {@code knownRuleTypesProvider} attribute
+   */
+  @Override
+  public KnownRuleTypesProvider getKnownRuleTypesProvider() {
+    return knownRuleTypesProvider;
+  }
+
+  /**
+   * @return The value of the {@code distBuildConfig} attribute
+   */
+  @Override
+  public DistBuildConfig getDistBuildConfig() {
+    return distBuildConfig;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DelegateAndGraphsInitializerArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DelegateAndGraphsInitializerArgs
+        && equalTo((DelegateAndGraphsInitializerArgs) another);
+  }
+
+  private boolean equalTo(DelegateAndGraphsInitializerArgs another) {
+    return state.equals(another.state)
+        && timingStatsTracker.equals(another.timingStatsTracker)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && actionGraphProvider.equals(another.actionGraphProvider)
+        && parser.equals(another.parser)
+        && buckEventBus.equals(another.buckEventBus)
+        && ruleKeyConfiguration.equals(another.ruleKeyConfiguration)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && executorService.equals(another.executorService)
+        && executors.equals(another.executors)
+        && provider.equals(another.provider)
+        && knownRuleTypesProvider.equals(another.knownRuleTypesProvider)
+        && distBuildConfig.equals(another.distBuildConfig);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code state}, {@code timingStatsTracker}, {@code versionedTargetGraphCache}, {@code actionGraphProvider}, {@code parser}, {@code buckEventBus}, {@code ruleKeyConfiguration}, {@code projectFilesystemFactory}, {@code executorService}, {@code executors}, {@code provider}, {@code knownRuleTypesProvider}, {@code distBuildConfig}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + state.hashCode();
+    h += (h << 5) + timingStatsTracker.hashCode();
+    h += (h << 5) + versionedTargetGraphCache.hashCode();
+    h += (h << 5) + actionGraphProvider.hashCode();
+    h += (h << 5) + parser.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + ruleKeyConfiguration.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + executorService.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + provider.hashCode();
+    h += (h << 5) + knownRuleTypesProvider.hashCode();
+    h += (h << 5) + distBuildConfig.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DelegateAndGraphsInitializerArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DelegateAndGraphsInitializerArgs")
+        .omitNullValues()
+        .add("state", state)
+        .add("timingStatsTracker", timingStatsTracker)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("actionGraphProvider", actionGraphProvider)
+        .add("parser", parser)
+        .add("buckEventBus", buckEventBus)
+        .add("ruleKeyConfiguration", ruleKeyConfiguration)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("executorService", executorService)
+        .add("executors", executors)
+        .add("provider", provider)
+        .add("knownRuleTypesProvider", knownRuleTypesProvider)
+        .add("distBuildConfig", distBuildConfig)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DelegateAndGraphsInitializerArgs DelegateAndGraphsInitializerArgs}.
+   * @return A new DelegateAndGraphsInitializerArgs builder
+   */
+  public static DelegateAndGraphsInitializerArgs.Builder builder() {
+    return new DelegateAndGraphsInitializerArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DelegateAndGraphsInitializerArgs DelegateAndGraphsInitializerArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractDelegateAndGraphsInitializerArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STATE = 0x1L;
+    private static final long INIT_BIT_TIMING_STATS_TRACKER = 0x2L;
+    private static final long INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE = 0x4L;
+    private static final long INIT_BIT_ACTION_GRAPH_PROVIDER = 0x8L;
+    private static final long INIT_BIT_PARSER = 0x10L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x20L;
+    private static final long INIT_BIT_RULE_KEY_CONFIGURATION = 0x40L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM_FACTORY = 0x80L;
+    private static final long INIT_BIT_EXECUTOR_SERVICE = 0x100L;
+    private static final long INIT_BIT_PROVIDER = 0x200L;
+    private static final long INIT_BIT_KNOWN_RULE_TYPES_PROVIDER = 0x400L;
+    private static final long INIT_BIT_DIST_BUILD_CONFIG = 0x800L;
+    private long initBits = 0xfffL;
+
+    private @Nullable DistBuildState state;
+    private @Nullable BuildSlaveTimingStatsTracker timingStatsTracker;
+    private @Nullable InstrumentedVersionedTargetGraphCache versionedTargetGraphCache;
+    private @Nullable ActionGraphProvider actionGraphProvider;
+    private @Nullable Parser parser;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable RuleKeyConfiguration ruleKeyConfiguration;
+    private @Nullable ProjectFilesystemFactory projectFilesystemFactory;
+    private @Nullable WeightedListeningExecutorService executorService;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable FileContentsProvider provider;
+    private @Nullable KnownRuleTypesProvider knownRuleTypesProvider;
+    private @Nullable DistBuildConfig distBuildConfig;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DelegateAndGraphsInitializerArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DelegateAndGraphsInitializerArgs instance) {
+      return from((AbstractDelegateAndGraphsInitializerArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDelegateAndGraphsInitializerArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDelegateAndGraphsInitializerArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setState(instance.getState());
+      setTimingStatsTracker(instance.getTimingStatsTracker());
+      setVersionedTargetGraphCache(instance.getVersionedTargetGraphCache());
+      setActionGraphProvider(instance.getActionGraphProvider());
+      setParser(instance.getParser());
+      setBuckEventBus(instance.getBuckEventBus());
+      setRuleKeyConfiguration(instance.getRuleKeyConfiguration());
+      setProjectFilesystemFactory(instance.getProjectFilesystemFactory());
+      setExecutorService(instance.getExecutorService());
+      putAllExecutors(instance.getExecutors());
+      setProvider(instance.getProvider());
+      setKnownRuleTypesProvider(instance.getKnownRuleTypesProvider());
+      setDistBuildConfig(instance.getDistBuildConfig());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getState() state} attribute.
+     * @param state The value for state 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setState(DistBuildState state) {
+      this.state = Objects.requireNonNull(state, "state");
+      initBits &= ~INIT_BIT_STATE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getTimingStatsTracker() timingStatsTracker} attribute.
+     * @param timingStatsTracker The value for timingStatsTracker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTimingStatsTracker(BuildSlaveTimingStatsTracker timingStatsTracker) {
+      this.timingStatsTracker = Objects.requireNonNull(timingStatsTracker, "timingStatsTracker");
+      initBits &= ~INIT_BIT_TIMING_STATS_TRACKER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+     * @param versionedTargetGraphCache The value for versionedTargetGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedTargetGraphCache(InstrumentedVersionedTargetGraphCache versionedTargetGraphCache) {
+      this.versionedTargetGraphCache = Objects.requireNonNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+      initBits &= ~INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getActionGraphProvider() actionGraphProvider} attribute.
+     * @param actionGraphProvider The value for actionGraphProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraphProvider(ActionGraphProvider actionGraphProvider) {
+      this.actionGraphProvider = Objects.requireNonNull(actionGraphProvider, "actionGraphProvider");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_PROVIDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getParser() parser} attribute.
+     * @param parser The value for parser 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setParser(Parser parser) {
+      this.parser = Objects.requireNonNull(parser, "parser");
+      initBits &= ~INIT_BIT_PARSER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getRuleKeyConfiguration() ruleKeyConfiguration} attribute.
+     * @param ruleKeyConfiguration The value for ruleKeyConfiguration 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyConfiguration(RuleKeyConfiguration ruleKeyConfiguration) {
+      this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+      initBits &= ~INIT_BIT_RULE_KEY_CONFIGURATION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+     * @param projectFilesystemFactory The value for projectFilesystemFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProjectFilesystemFactory(ProjectFilesystemFactory projectFilesystemFactory) {
+      this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM_FACTORY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getExecutorService() executorService} attribute.
+     * @param executorService The value for executorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutorService(WeightedListeningExecutorService executorService) {
+      this.executorService = Objects.requireNonNull(executorService, "executorService");
+      initBits &= ~INIT_BIT_EXECUTOR_SERVICE;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link DelegateAndGraphsInitializerArgs#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link DelegateAndGraphsInitializerArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link DelegateAndGraphsInitializerArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link DelegateAndGraphsInitializerArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getProvider() provider} attribute.
+     * @param provider The value for provider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvider(FileContentsProvider provider) {
+      this.provider = Objects.requireNonNull(provider, "provider");
+      initBits &= ~INIT_BIT_PROVIDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getKnownRuleTypesProvider() knownRuleTypesProvider} attribute.
+     * @param knownRuleTypesProvider The value for knownRuleTypesProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKnownRuleTypesProvider(KnownRuleTypesProvider knownRuleTypesProvider) {
+      this.knownRuleTypesProvider = Objects.requireNonNull(knownRuleTypesProvider, "knownRuleTypesProvider");
+      initBits &= ~INIT_BIT_KNOWN_RULE_TYPES_PROVIDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DelegateAndGraphsInitializerArgs#getDistBuildConfig() distBuildConfig} attribute.
+     * @param distBuildConfig The value for distBuildConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildConfig(DistBuildConfig distBuildConfig) {
+      this.distBuildConfig = Objects.requireNonNull(distBuildConfig, "distBuildConfig");
+      initBits &= ~INIT_BIT_DIST_BUILD_CONFIG;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DelegateAndGraphsInitializerArgs DelegateAndGraphsInitializerArgs}.
+     * @return An immutable instance of DelegateAndGraphsInitializerArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DelegateAndGraphsInitializerArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DelegateAndGraphsInitializerArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_STATE) != 0) attributes.add("state");
+      if ((initBits & INIT_BIT_TIMING_STATS_TRACKER) != 0) attributes.add("timingStatsTracker");
+      if ((initBits & INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE) != 0) attributes.add("versionedTargetGraphCache");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_PROVIDER) != 0) attributes.add("actionGraphProvider");
+      if ((initBits & INIT_BIT_PARSER) != 0) attributes.add("parser");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_RULE_KEY_CONFIGURATION) != 0) attributes.add("ruleKeyConfiguration");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM_FACTORY) != 0) attributes.add("projectFilesystemFactory");
+      if ((initBits & INIT_BIT_EXECUTOR_SERVICE) != 0) attributes.add("executorService");
+      if ((initBits & INIT_BIT_PROVIDER) != 0) attributes.add("provider");
+      if ((initBits & INIT_BIT_KNOWN_RULE_TYPES_PROVIDER) != 0) attributes.add("knownRuleTypesProvider");
+      if ((initBits & INIT_BIT_DIST_BUILD_CONFIG) != 0) attributes.add("distBuildConfig");
+      return "Cannot build DelegateAndGraphsInitializerArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
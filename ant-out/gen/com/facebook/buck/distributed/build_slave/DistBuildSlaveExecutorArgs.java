@@ -0,0 +1,1104 @@
+package com.facebook.buck.distributed.build_slave;
+
+import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
+import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
+import com.facebook.buck.core.model.actiongraph.computation.ActionGraphProvider;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.knowntypes.KnownRuleTypesProvider;
+import com.facebook.buck.distributed.DistBuildMode;
+import com.facebook.buck.distributed.DistBuildService;
+import com.facebook.buck.distributed.DistBuildState;
+import com.facebook.buck.distributed.FileContentsProvider;
+import com.facebook.buck.distributed.thrift.BuildSlaveRunId;
+import com.facebook.buck.distributed.thrift.RemoteCommand;
+import com.facebook.buck.distributed.thrift.StampedeId;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.log.TraceInfoProvider;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.rules.keys.RuleKeyCacheScope;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.facebook.buck.step.ExecutorPool;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.timing.Clock;
+import com.facebook.buck.versions.InstrumentedVersionedTargetGraphCache;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDistBuildSlaveExecutorArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildSlaveExecutorArgs.builder()}.
+ */
+@Generated(from = "AbstractDistBuildSlaveExecutorArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DistBuildSlaveExecutorArgs
+    extends AbstractDistBuildSlaveExecutorArgs {
+  private final DistBuildState state;
+  private final Parser parser;
+  private final BuckEventBus buckEventBus;
+  private final WeightedListeningExecutorService executorService;
+  private final ActionGraphProvider actionGraphProvider;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+  private final Console console;
+  private final ArtifactCacheFactory artifactCacheFactory;
+  private final Path logDirectoryPath;
+  private final Platform platform;
+  private final Clock clock;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final FileContentsProvider provider;
+  private final DistBuildMode distBuildMode;
+  private final int remoteCoordinatorPort;
+  private final StampedeId stampedeId;
+  private final CapacityService capacityService;
+  private final BuildSlaveRunId buildSlaveRunId;
+  private final String remoteCoordinatorAddress;
+  private final InstrumentedVersionedTargetGraphCache versionedTargetGraphCache;
+  private final BuildInfoStoreManager buildInfoStoreManager;
+  private final DistBuildService distBuildService;
+  private final RuleKeyCacheScope<RuleKey> ruleKeyCacheScope;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final KnownRuleTypesProvider knownRuleTypesProvider;
+  private final CoordinatorBuildRuleEventsPublisher coordinatorBuildRuleEventsPublisher;
+  private final MinionBuildProgressTracker minionBuildProgressTracker;
+  private final HealthCheckStatsTracker healthCheckStatsTracker;
+  private final RemoteCommand remoteCommand;
+  private final @Nullable TraceInfoProvider traceInfoProvider;
+  private final BuildSlaveTimingStatsTracker timingStatsTracker;
+
+  private DistBuildSlaveExecutorArgs(DistBuildSlaveExecutorArgs.Builder builder) {
+    this.state = builder.state;
+    this.parser = builder.parser;
+    this.buckEventBus = builder.buckEventBus;
+    this.executorService = builder.executorService;
+    this.actionGraphProvider = builder.actionGraphProvider;
+    this.ruleKeyConfiguration = builder.ruleKeyConfiguration;
+    this.console = builder.console;
+    this.artifactCacheFactory = builder.artifactCacheFactory;
+    this.logDirectoryPath = builder.logDirectoryPath;
+    this.platform = builder.platform;
+    this.clock = builder.clock;
+    this.executors = Maps.immutableEnumMap(builder.executors.build());
+    this.provider = builder.provider;
+    this.distBuildMode = builder.distBuildMode;
+    this.remoteCoordinatorPort = builder.remoteCoordinatorPort;
+    this.stampedeId = builder.stampedeId;
+    this.capacityService = builder.capacityService;
+    this.buildSlaveRunId = builder.buildSlaveRunId;
+    this.remoteCoordinatorAddress = builder.remoteCoordinatorAddress;
+    this.versionedTargetGraphCache = builder.versionedTargetGraphCache;
+    this.buildInfoStoreManager = builder.buildInfoStoreManager;
+    this.distBuildService = builder.distBuildService;
+    this.ruleKeyCacheScope = builder.ruleKeyCacheScope;
+    this.projectFilesystemFactory = builder.projectFilesystemFactory;
+    this.knownRuleTypesProvider = builder.knownRuleTypesProvider;
+    this.coordinatorBuildRuleEventsPublisher = builder.coordinatorBuildRuleEventsPublisher;
+    this.minionBuildProgressTracker = builder.minionBuildProgressTracker;
+    this.healthCheckStatsTracker = builder.healthCheckStatsTracker;
+    this.remoteCommand = builder.remoteCommand;
+    this.traceInfoProvider = builder.traceInfoProvider;
+    this.timingStatsTracker = builder.timingStatsTracker;
+  }
+
+  /**
+   * @return The value of the {@code state} attribute
+   */
+  @Override
+  public DistBuildState getState() {
+    return state;
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code executorService} attribute
+   */
+  @Override
+  public WeightedListeningExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphProvider} attribute
+   */
+  @Override
+  public ActionGraphProvider getActionGraphProvider() {
+    return actionGraphProvider;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code artifactCacheFactory} attribute
+   */
+  @Override
+  public ArtifactCacheFactory getArtifactCacheFactory() {
+    return artifactCacheFactory;
+  }
+
+  /**
+   * @return The value of the {@code logDirectoryPath} attribute
+   */
+  @Override
+  public Path getLogDirectoryPath() {
+    return logDirectoryPath;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code provider} attribute
+   */
+  @Override
+  public FileContentsProvider getProvider() {
+    return provider;
+  }
+
+  /**
+   * @return The value of the {@code distBuildMode} attribute
+   */
+  @Override
+  public DistBuildMode getDistBuildMode() {
+    return distBuildMode;
+  }
+
+  /**
+   * @return The value of the {@code remoteCoordinatorPort} attribute
+   */
+  @Override
+  public int getRemoteCoordinatorPort() {
+    return remoteCoordinatorPort;
+  }
+
+  /**
+   * @return The value of the {@code stampedeId} attribute
+   */
+  @Override
+  public StampedeId getStampedeId() {
+    return stampedeId;
+  }
+
+  /**
+   * @return The value of the {@code capacityService} attribute
+   */
+  @Override
+  public CapacityService getCapacityService() {
+    return capacityService;
+  }
+
+  /**
+   * @return The value of the {@code buildSlaveRunId} attribute
+   */
+  @Override
+  public BuildSlaveRunId getBuildSlaveRunId() {
+    return buildSlaveRunId;
+  }
+
+  /**
+   * @return The value of the {@code remoteCoordinatorAddress} attribute
+   */
+  @Override
+  public String getRemoteCoordinatorAddress() {
+    return remoteCoordinatorAddress;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public InstrumentedVersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code buildInfoStoreManager} attribute
+   */
+  @Override
+  public BuildInfoStoreManager getBuildInfoStoreManager() {
+    return buildInfoStoreManager;
+  }
+
+  /**
+   * @return The value of the {@code distBuildService} attribute
+   */
+  @Override
+  public DistBuildService getDistBuildService() {
+    return distBuildService;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyCacheScope} attribute
+   */
+  @Override
+  public RuleKeyCacheScope<RuleKey> getRuleKeyCacheScope() {
+    return ruleKeyCacheScope;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code knownRuleTypesProvider} attribute
+   */
+  @Override
+  public KnownRuleTypesProvider getKnownRuleTypesProvider() {
+    return knownRuleTypesProvider;
+  }
+
+  /**
+   * @return The value of the {@code coordinatorBuildRuleEventsPublisher} attribute
+   */
+  @Override
+  public CoordinatorBuildRuleEventsPublisher getCoordinatorBuildRuleEventsPublisher() {
+    return coordinatorBuildRuleEventsPublisher;
+  }
+
+  /**
+   * @return The value of the {@code minionBuildProgressTracker} attribute
+   */
+  @Override
+  public MinionBuildProgressTracker getMinionBuildProgressTracker() {
+    return minionBuildProgressTracker;
+  }
+
+  /**
+   * @return The value of the {@code healthCheckStatsTracker} attribute
+   */
+  @Override
+  public HealthCheckStatsTracker getHealthCheckStatsTracker() {
+    return healthCheckStatsTracker;
+  }
+
+  /**
+   * @return The value of the {@code remoteCommand} attribute
+   */
+  @Override
+  public RemoteCommand getRemoteCommand() {
+    return remoteCommand;
+  }
+
+  /**
+   * @return The value of the {@code traceInfoProvider} attribute
+   */
+  @Override
+  public Optional<TraceInfoProvider> getTraceInfoProvider() {
+    return Optional.ofNullable(traceInfoProvider);
+  }
+
+  /**
+   * @return The value of the {@code timingStatsTracker} attribute
+   */
+  @Override
+  public BuildSlaveTimingStatsTracker getTimingStatsTracker() {
+    return timingStatsTracker;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildSlaveExecutorArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildSlaveExecutorArgs
+        && equalTo((DistBuildSlaveExecutorArgs) another);
+  }
+
+  private boolean equalTo(DistBuildSlaveExecutorArgs another) {
+    return state.equals(another.state)
+        && parser.equals(another.parser)
+        && buckEventBus.equals(another.buckEventBus)
+        && executorService.equals(another.executorService)
+        && actionGraphProvider.equals(another.actionGraphProvider)
+        && ruleKeyConfiguration.equals(another.ruleKeyConfiguration)
+        && console.equals(another.console)
+        && artifactCacheFactory.equals(another.artifactCacheFactory)
+        && logDirectoryPath.equals(another.logDirectoryPath)
+        && platform.equals(another.platform)
+        && clock.equals(another.clock)
+        && executors.equals(another.executors)
+        && provider.equals(another.provider)
+        && distBuildMode.equals(another.distBuildMode)
+        && remoteCoordinatorPort == another.remoteCoordinatorPort
+        && stampedeId.equals(another.stampedeId)
+        && capacityService.equals(another.capacityService)
+        && buildSlaveRunId.equals(another.buildSlaveRunId)
+        && remoteCoordinatorAddress.equals(another.remoteCoordinatorAddress)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && buildInfoStoreManager.equals(another.buildInfoStoreManager)
+        && distBuildService.equals(another.distBuildService)
+        && ruleKeyCacheScope.equals(another.ruleKeyCacheScope)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && knownRuleTypesProvider.equals(another.knownRuleTypesProvider)
+        && coordinatorBuildRuleEventsPublisher.equals(another.coordinatorBuildRuleEventsPublisher)
+        && minionBuildProgressTracker.equals(another.minionBuildProgressTracker)
+        && healthCheckStatsTracker.equals(another.healthCheckStatsTracker)
+        && remoteCommand.equals(another.remoteCommand)
+        && Objects.equals(traceInfoProvider, another.traceInfoProvider)
+        && timingStatsTracker.equals(another.timingStatsTracker);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code state}, {@code parser}, {@code buckEventBus}, {@code executorService}, {@code actionGraphProvider}, {@code ruleKeyConfiguration}, {@code console}, {@code artifactCacheFactory}, {@code logDirectoryPath}, {@code platform}, {@code clock}, {@code executors}, {@code provider}, {@code distBuildMode}, {@code remoteCoordinatorPort}, {@code stampedeId}, {@code capacityService}, {@code buildSlaveRunId}, {@code remoteCoordinatorAddress}, {@code versionedTargetGraphCache}, {@code buildInfoStoreManager}, {@code distBuildService}, {@code ruleKeyCacheScope}, {@code projectFilesystemFactory}, {@code knownRuleTypesProvider}, {@code coordinatorBuildRuleEventsPublisher}, {@code minionBuildProgressTracker}, {@code healthCheckStatsTracker}, {@code remoteCommand}, {@code traceInfoProvider}, {@code timingStatsTracker}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + state.hashCode();
+    h += (h << 5) + parser.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + executorService.hashCode();
+    h += (h << 5) + actionGraphProvider.hashCode();
+    h += (h << 5) + ruleKeyConfiguration.hashCode();
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + artifactCacheFactory.hashCode();
+    h += (h << 5) + logDirectoryPath.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + provider.hashCode();
+    h += (h << 5) + distBuildMode.hashCode();
+    h += (h << 5) + remoteCoordinatorPort;
+    h += (h << 5) + stampedeId.hashCode();
+    h += (h << 5) + capacityService.hashCode();
+    h += (h << 5) + buildSlaveRunId.hashCode();
+    h += (h << 5) + remoteCoordinatorAddress.hashCode();
+    h += (h << 5) + versionedTargetGraphCache.hashCode();
+    h += (h << 5) + buildInfoStoreManager.hashCode();
+    h += (h << 5) + distBuildService.hashCode();
+    h += (h << 5) + ruleKeyCacheScope.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + knownRuleTypesProvider.hashCode();
+    h += (h << 5) + coordinatorBuildRuleEventsPublisher.hashCode();
+    h += (h << 5) + minionBuildProgressTracker.hashCode();
+    h += (h << 5) + healthCheckStatsTracker.hashCode();
+    h += (h << 5) + remoteCommand.hashCode();
+    h += (h << 5) + Objects.hashCode(traceInfoProvider);
+    h += (h << 5) + timingStatsTracker.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildSlaveExecutorArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildSlaveExecutorArgs")
+        .omitNullValues()
+        .add("state", state)
+        .add("parser", parser)
+        .add("buckEventBus", buckEventBus)
+        .add("executorService", executorService)
+        .add("actionGraphProvider", actionGraphProvider)
+        .add("ruleKeyConfiguration", ruleKeyConfiguration)
+        .add("console", console)
+        .add("artifactCacheFactory", artifactCacheFactory)
+        .add("logDirectoryPath", logDirectoryPath)
+        .add("platform", platform)
+        .add("clock", clock)
+        .add("executors", executors)
+        .add("provider", provider)
+        .add("distBuildMode", distBuildMode)
+        .add("remoteCoordinatorPort", remoteCoordinatorPort)
+        .add("stampedeId", stampedeId)
+        .add("capacityService", capacityService)
+        .add("buildSlaveRunId", buildSlaveRunId)
+        .add("remoteCoordinatorAddress", remoteCoordinatorAddress)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("buildInfoStoreManager", buildInfoStoreManager)
+        .add("distBuildService", distBuildService)
+        .add("ruleKeyCacheScope", ruleKeyCacheScope)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("knownRuleTypesProvider", knownRuleTypesProvider)
+        .add("coordinatorBuildRuleEventsPublisher", coordinatorBuildRuleEventsPublisher)
+        .add("minionBuildProgressTracker", minionBuildProgressTracker)
+        .add("healthCheckStatsTracker", healthCheckStatsTracker)
+        .add("remoteCommand", remoteCommand)
+        .add("traceInfoProvider", traceInfoProvider)
+        .add("timingStatsTracker", timingStatsTracker)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildSlaveExecutorArgs DistBuildSlaveExecutorArgs}.
+   * @return A new DistBuildSlaveExecutorArgs builder
+   */
+  public static DistBuildSlaveExecutorArgs.Builder builder() {
+    return new DistBuildSlaveExecutorArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildSlaveExecutorArgs DistBuildSlaveExecutorArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractDistBuildSlaveExecutorArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STATE = 0x1L;
+    private static final long INIT_BIT_PARSER = 0x2L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x4L;
+    private static final long INIT_BIT_EXECUTOR_SERVICE = 0x8L;
+    private static final long INIT_BIT_ACTION_GRAPH_PROVIDER = 0x10L;
+    private static final long INIT_BIT_RULE_KEY_CONFIGURATION = 0x20L;
+    private static final long INIT_BIT_CONSOLE = 0x40L;
+    private static final long INIT_BIT_ARTIFACT_CACHE_FACTORY = 0x80L;
+    private static final long INIT_BIT_LOG_DIRECTORY_PATH = 0x100L;
+    private static final long INIT_BIT_PLATFORM = 0x200L;
+    private static final long INIT_BIT_CLOCK = 0x400L;
+    private static final long INIT_BIT_PROVIDER = 0x800L;
+    private static final long INIT_BIT_DIST_BUILD_MODE = 0x1000L;
+    private static final long INIT_BIT_REMOTE_COORDINATOR_PORT = 0x2000L;
+    private static final long INIT_BIT_STAMPEDE_ID = 0x4000L;
+    private static final long INIT_BIT_CAPACITY_SERVICE = 0x8000L;
+    private static final long INIT_BIT_BUILD_SLAVE_RUN_ID = 0x10000L;
+    private static final long INIT_BIT_REMOTE_COORDINATOR_ADDRESS = 0x20000L;
+    private static final long INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE = 0x40000L;
+    private static final long INIT_BIT_BUILD_INFO_STORE_MANAGER = 0x80000L;
+    private static final long INIT_BIT_DIST_BUILD_SERVICE = 0x100000L;
+    private static final long INIT_BIT_RULE_KEY_CACHE_SCOPE = 0x200000L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM_FACTORY = 0x400000L;
+    private static final long INIT_BIT_KNOWN_RULE_TYPES_PROVIDER = 0x800000L;
+    private static final long INIT_BIT_COORDINATOR_BUILD_RULE_EVENTS_PUBLISHER = 0x1000000L;
+    private static final long INIT_BIT_MINION_BUILD_PROGRESS_TRACKER = 0x2000000L;
+    private static final long INIT_BIT_HEALTH_CHECK_STATS_TRACKER = 0x4000000L;
+    private static final long INIT_BIT_REMOTE_COMMAND = 0x8000000L;
+    private static final long INIT_BIT_TIMING_STATS_TRACKER = 0x10000000L;
+    private long initBits = 0x1fffffffL;
+
+    private @Nullable DistBuildState state;
+    private @Nullable Parser parser;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable WeightedListeningExecutorService executorService;
+    private @Nullable ActionGraphProvider actionGraphProvider;
+    private @Nullable RuleKeyConfiguration ruleKeyConfiguration;
+    private @Nullable Console console;
+    private @Nullable ArtifactCacheFactory artifactCacheFactory;
+    private @Nullable Path logDirectoryPath;
+    private @Nullable Platform platform;
+    private @Nullable Clock clock;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable FileContentsProvider provider;
+    private @Nullable DistBuildMode distBuildMode;
+    private int remoteCoordinatorPort;
+    private @Nullable StampedeId stampedeId;
+    private @Nullable CapacityService capacityService;
+    private @Nullable BuildSlaveRunId buildSlaveRunId;
+    private @Nullable String remoteCoordinatorAddress;
+    private @Nullable InstrumentedVersionedTargetGraphCache versionedTargetGraphCache;
+    private @Nullable BuildInfoStoreManager buildInfoStoreManager;
+    private @Nullable DistBuildService distBuildService;
+    private @Nullable RuleKeyCacheScope<RuleKey> ruleKeyCacheScope;
+    private @Nullable ProjectFilesystemFactory projectFilesystemFactory;
+    private @Nullable KnownRuleTypesProvider knownRuleTypesProvider;
+    private @Nullable CoordinatorBuildRuleEventsPublisher coordinatorBuildRuleEventsPublisher;
+    private @Nullable MinionBuildProgressTracker minionBuildProgressTracker;
+    private @Nullable HealthCheckStatsTracker healthCheckStatsTracker;
+    private @Nullable RemoteCommand remoteCommand;
+    private @Nullable TraceInfoProvider traceInfoProvider;
+    private @Nullable BuildSlaveTimingStatsTracker timingStatsTracker;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildSlaveExecutorArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildSlaveExecutorArgs instance) {
+      return from((AbstractDistBuildSlaveExecutorArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildSlaveExecutorArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDistBuildSlaveExecutorArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setState(instance.getState());
+      setParser(instance.getParser());
+      setBuckEventBus(instance.getBuckEventBus());
+      setExecutorService(instance.getExecutorService());
+      setActionGraphProvider(instance.getActionGraphProvider());
+      setRuleKeyConfiguration(instance.getRuleKeyConfiguration());
+      setConsole(instance.getConsole());
+      setArtifactCacheFactory(instance.getArtifactCacheFactory());
+      setLogDirectoryPath(instance.getLogDirectoryPath());
+      setPlatform(instance.getPlatform());
+      setClock(instance.getClock());
+      putAllExecutors(instance.getExecutors());
+      setProvider(instance.getProvider());
+      setDistBuildMode(instance.getDistBuildMode());
+      setRemoteCoordinatorPort(instance.getRemoteCoordinatorPort());
+      setStampedeId(instance.getStampedeId());
+      setCapacityService(instance.getCapacityService());
+      setBuildSlaveRunId(instance.getBuildSlaveRunId());
+      setRemoteCoordinatorAddress(instance.getRemoteCoordinatorAddress());
+      setVersionedTargetGraphCache(instance.getVersionedTargetGraphCache());
+      setBuildInfoStoreManager(instance.getBuildInfoStoreManager());
+      setDistBuildService(instance.getDistBuildService());
+      setRuleKeyCacheScope(instance.getRuleKeyCacheScope());
+      setProjectFilesystemFactory(instance.getProjectFilesystemFactory());
+      setKnownRuleTypesProvider(instance.getKnownRuleTypesProvider());
+      setCoordinatorBuildRuleEventsPublisher(instance.getCoordinatorBuildRuleEventsPublisher());
+      setMinionBuildProgressTracker(instance.getMinionBuildProgressTracker());
+      setHealthCheckStatsTracker(instance.getHealthCheckStatsTracker());
+      setRemoteCommand(instance.getRemoteCommand());
+      Optional<TraceInfoProvider> traceInfoProviderOptional = instance.getTraceInfoProvider();
+      if (traceInfoProviderOptional.isPresent()) {
+        setTraceInfoProvider(traceInfoProviderOptional);
+      }
+      setTimingStatsTracker(instance.getTimingStatsTracker());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getState() state} attribute.
+     * @param state The value for state 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setState(DistBuildState state) {
+      this.state = Objects.requireNonNull(state, "state");
+      initBits &= ~INIT_BIT_STATE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getParser() parser} attribute.
+     * @param parser The value for parser 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setParser(Parser parser) {
+      this.parser = Objects.requireNonNull(parser, "parser");
+      initBits &= ~INIT_BIT_PARSER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getExecutorService() executorService} attribute.
+     * @param executorService The value for executorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutorService(WeightedListeningExecutorService executorService) {
+      this.executorService = Objects.requireNonNull(executorService, "executorService");
+      initBits &= ~INIT_BIT_EXECUTOR_SERVICE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getActionGraphProvider() actionGraphProvider} attribute.
+     * @param actionGraphProvider The value for actionGraphProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraphProvider(ActionGraphProvider actionGraphProvider) {
+      this.actionGraphProvider = Objects.requireNonNull(actionGraphProvider, "actionGraphProvider");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_PROVIDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getRuleKeyConfiguration() ruleKeyConfiguration} attribute.
+     * @param ruleKeyConfiguration The value for ruleKeyConfiguration 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyConfiguration(RuleKeyConfiguration ruleKeyConfiguration) {
+      this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+      initBits &= ~INIT_BIT_RULE_KEY_CONFIGURATION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConsole(Console console) {
+      this.console = Objects.requireNonNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getArtifactCacheFactory() artifactCacheFactory} attribute.
+     * @param artifactCacheFactory The value for artifactCacheFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactCacheFactory(ArtifactCacheFactory artifactCacheFactory) {
+      this.artifactCacheFactory = Objects.requireNonNull(artifactCacheFactory, "artifactCacheFactory");
+      initBits &= ~INIT_BIT_ARTIFACT_CACHE_FACTORY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getLogDirectoryPath() logDirectoryPath} attribute.
+     * @param logDirectoryPath The value for logDirectoryPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogDirectoryPath(Path logDirectoryPath) {
+      this.logDirectoryPath = Objects.requireNonNull(logDirectoryPath, "logDirectoryPath");
+      initBits &= ~INIT_BIT_LOG_DIRECTORY_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatform(Platform platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link DistBuildSlaveExecutorArgs#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link DistBuildSlaveExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link DistBuildSlaveExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link DistBuildSlaveExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getProvider() provider} attribute.
+     * @param provider The value for provider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvider(FileContentsProvider provider) {
+      this.provider = Objects.requireNonNull(provider, "provider");
+      initBits &= ~INIT_BIT_PROVIDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getDistBuildMode() distBuildMode} attribute.
+     * @param distBuildMode The value for distBuildMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildMode(DistBuildMode distBuildMode) {
+      this.distBuildMode = Objects.requireNonNull(distBuildMode, "distBuildMode");
+      initBits &= ~INIT_BIT_DIST_BUILD_MODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getRemoteCoordinatorPort() remoteCoordinatorPort} attribute.
+     * @param remoteCoordinatorPort The value for remoteCoordinatorPort 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemoteCoordinatorPort(int remoteCoordinatorPort) {
+      this.remoteCoordinatorPort = remoteCoordinatorPort;
+      initBits &= ~INIT_BIT_REMOTE_COORDINATOR_PORT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getStampedeId() stampedeId} attribute.
+     * @param stampedeId The value for stampedeId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStampedeId(StampedeId stampedeId) {
+      this.stampedeId = Objects.requireNonNull(stampedeId, "stampedeId");
+      initBits &= ~INIT_BIT_STAMPEDE_ID;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getCapacityService() capacityService} attribute.
+     * @param capacityService The value for capacityService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCapacityService(CapacityService capacityService) {
+      this.capacityService = Objects.requireNonNull(capacityService, "capacityService");
+      initBits &= ~INIT_BIT_CAPACITY_SERVICE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getBuildSlaveRunId() buildSlaveRunId} attribute.
+     * @param buildSlaveRunId The value for buildSlaveRunId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildSlaveRunId(BuildSlaveRunId buildSlaveRunId) {
+      this.buildSlaveRunId = Objects.requireNonNull(buildSlaveRunId, "buildSlaveRunId");
+      initBits &= ~INIT_BIT_BUILD_SLAVE_RUN_ID;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getRemoteCoordinatorAddress() remoteCoordinatorAddress} attribute.
+     * @param remoteCoordinatorAddress The value for remoteCoordinatorAddress 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemoteCoordinatorAddress(String remoteCoordinatorAddress) {
+      this.remoteCoordinatorAddress = Objects.requireNonNull(remoteCoordinatorAddress, "remoteCoordinatorAddress");
+      initBits &= ~INIT_BIT_REMOTE_COORDINATOR_ADDRESS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+     * @param versionedTargetGraphCache The value for versionedTargetGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedTargetGraphCache(InstrumentedVersionedTargetGraphCache versionedTargetGraphCache) {
+      this.versionedTargetGraphCache = Objects.requireNonNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+      initBits &= ~INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getBuildInfoStoreManager() buildInfoStoreManager} attribute.
+     * @param buildInfoStoreManager The value for buildInfoStoreManager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildInfoStoreManager(BuildInfoStoreManager buildInfoStoreManager) {
+      this.buildInfoStoreManager = Objects.requireNonNull(buildInfoStoreManager, "buildInfoStoreManager");
+      initBits &= ~INIT_BIT_BUILD_INFO_STORE_MANAGER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getDistBuildService() distBuildService} attribute.
+     * @param distBuildService The value for distBuildService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistBuildService(DistBuildService distBuildService) {
+      this.distBuildService = Objects.requireNonNull(distBuildService, "distBuildService");
+      initBits &= ~INIT_BIT_DIST_BUILD_SERVICE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getRuleKeyCacheScope() ruleKeyCacheScope} attribute.
+     * @param ruleKeyCacheScope The value for ruleKeyCacheScope 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyCacheScope(RuleKeyCacheScope<RuleKey> ruleKeyCacheScope) {
+      this.ruleKeyCacheScope = Objects.requireNonNull(ruleKeyCacheScope, "ruleKeyCacheScope");
+      initBits &= ~INIT_BIT_RULE_KEY_CACHE_SCOPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+     * @param projectFilesystemFactory The value for projectFilesystemFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProjectFilesystemFactory(ProjectFilesystemFactory projectFilesystemFactory) {
+      this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM_FACTORY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getKnownRuleTypesProvider() knownRuleTypesProvider} attribute.
+     * @param knownRuleTypesProvider The value for knownRuleTypesProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKnownRuleTypesProvider(KnownRuleTypesProvider knownRuleTypesProvider) {
+      this.knownRuleTypesProvider = Objects.requireNonNull(knownRuleTypesProvider, "knownRuleTypesProvider");
+      initBits &= ~INIT_BIT_KNOWN_RULE_TYPES_PROVIDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getCoordinatorBuildRuleEventsPublisher() coordinatorBuildRuleEventsPublisher} attribute.
+     * @param coordinatorBuildRuleEventsPublisher The value for coordinatorBuildRuleEventsPublisher 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCoordinatorBuildRuleEventsPublisher(CoordinatorBuildRuleEventsPublisher coordinatorBuildRuleEventsPublisher) {
+      this.coordinatorBuildRuleEventsPublisher = Objects.requireNonNull(coordinatorBuildRuleEventsPublisher, "coordinatorBuildRuleEventsPublisher");
+      initBits &= ~INIT_BIT_COORDINATOR_BUILD_RULE_EVENTS_PUBLISHER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getMinionBuildProgressTracker() minionBuildProgressTracker} attribute.
+     * @param minionBuildProgressTracker The value for minionBuildProgressTracker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinionBuildProgressTracker(MinionBuildProgressTracker minionBuildProgressTracker) {
+      this.minionBuildProgressTracker = Objects.requireNonNull(minionBuildProgressTracker, "minionBuildProgressTracker");
+      initBits &= ~INIT_BIT_MINION_BUILD_PROGRESS_TRACKER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getHealthCheckStatsTracker() healthCheckStatsTracker} attribute.
+     * @param healthCheckStatsTracker The value for healthCheckStatsTracker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHealthCheckStatsTracker(HealthCheckStatsTracker healthCheckStatsTracker) {
+      this.healthCheckStatsTracker = Objects.requireNonNull(healthCheckStatsTracker, "healthCheckStatsTracker");
+      initBits &= ~INIT_BIT_HEALTH_CHECK_STATS_TRACKER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getRemoteCommand() remoteCommand} attribute.
+     * @param remoteCommand The value for remoteCommand 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemoteCommand(RemoteCommand remoteCommand) {
+      this.remoteCommand = Objects.requireNonNull(remoteCommand, "remoteCommand");
+      initBits &= ~INIT_BIT_REMOTE_COMMAND;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildSlaveExecutorArgs#getTraceInfoProvider() traceInfoProvider} to traceInfoProvider.
+     * @param traceInfoProvider The value for traceInfoProvider
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTraceInfoProvider(TraceInfoProvider traceInfoProvider) {
+      this.traceInfoProvider = Objects.requireNonNull(traceInfoProvider, "traceInfoProvider");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildSlaveExecutorArgs#getTraceInfoProvider() traceInfoProvider} to traceInfoProvider.
+     * @param traceInfoProvider The value for traceInfoProvider
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTraceInfoProvider(Optional<? extends TraceInfoProvider> traceInfoProvider) {
+      this.traceInfoProvider = traceInfoProvider.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildSlaveExecutorArgs#getTimingStatsTracker() timingStatsTracker} attribute.
+     * @param timingStatsTracker The value for timingStatsTracker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTimingStatsTracker(BuildSlaveTimingStatsTracker timingStatsTracker) {
+      this.timingStatsTracker = Objects.requireNonNull(timingStatsTracker, "timingStatsTracker");
+      initBits &= ~INIT_BIT_TIMING_STATS_TRACKER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildSlaveExecutorArgs DistBuildSlaveExecutorArgs}.
+     * @return An immutable instance of DistBuildSlaveExecutorArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildSlaveExecutorArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildSlaveExecutorArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_STATE) != 0) attributes.add("state");
+      if ((initBits & INIT_BIT_PARSER) != 0) attributes.add("parser");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_EXECUTOR_SERVICE) != 0) attributes.add("executorService");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_PROVIDER) != 0) attributes.add("actionGraphProvider");
+      if ((initBits & INIT_BIT_RULE_KEY_CONFIGURATION) != 0) attributes.add("ruleKeyConfiguration");
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_ARTIFACT_CACHE_FACTORY) != 0) attributes.add("artifactCacheFactory");
+      if ((initBits & INIT_BIT_LOG_DIRECTORY_PATH) != 0) attributes.add("logDirectoryPath");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_PROVIDER) != 0) attributes.add("provider");
+      if ((initBits & INIT_BIT_DIST_BUILD_MODE) != 0) attributes.add("distBuildMode");
+      if ((initBits & INIT_BIT_REMOTE_COORDINATOR_PORT) != 0) attributes.add("remoteCoordinatorPort");
+      if ((initBits & INIT_BIT_STAMPEDE_ID) != 0) attributes.add("stampedeId");
+      if ((initBits & INIT_BIT_CAPACITY_SERVICE) != 0) attributes.add("capacityService");
+      if ((initBits & INIT_BIT_BUILD_SLAVE_RUN_ID) != 0) attributes.add("buildSlaveRunId");
+      if ((initBits & INIT_BIT_REMOTE_COORDINATOR_ADDRESS) != 0) attributes.add("remoteCoordinatorAddress");
+      if ((initBits & INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE) != 0) attributes.add("versionedTargetGraphCache");
+      if ((initBits & INIT_BIT_BUILD_INFO_STORE_MANAGER) != 0) attributes.add("buildInfoStoreManager");
+      if ((initBits & INIT_BIT_DIST_BUILD_SERVICE) != 0) attributes.add("distBuildService");
+      if ((initBits & INIT_BIT_RULE_KEY_CACHE_SCOPE) != 0) attributes.add("ruleKeyCacheScope");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM_FACTORY) != 0) attributes.add("projectFilesystemFactory");
+      if ((initBits & INIT_BIT_KNOWN_RULE_TYPES_PROVIDER) != 0) attributes.add("knownRuleTypesProvider");
+      if ((initBits & INIT_BIT_COORDINATOR_BUILD_RULE_EVENTS_PUBLISHER) != 0) attributes.add("coordinatorBuildRuleEventsPublisher");
+      if ((initBits & INIT_BIT_MINION_BUILD_PROGRESS_TRACKER) != 0) attributes.add("minionBuildProgressTracker");
+      if ((initBits & INIT_BIT_HEALTH_CHECK_STATS_TRACKER) != 0) attributes.add("healthCheckStatsTracker");
+      if ((initBits & INIT_BIT_REMOTE_COMMAND) != 0) attributes.add("remoteCommand");
+      if ((initBits & INIT_BIT_TIMING_STATS_TRACKER) != 0) attributes.add("timingStatsTracker");
+      return "Cannot build DistBuildSlaveExecutorArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,468 @@
+package com.facebook.buck.doctor;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.doctor.config.SourceControlInfo;
+import com.facebook.buck.doctor.config.UserLocalConfiguration;
+import com.facebook.buck.util.environment.BuildEnvironmentDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefectReporter.AbstractDefectReport}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DefectReport.builder()}.
+ */
+@Generated(from = "DefectReporter.AbstractDefectReport", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DefectReport implements DefectReporter.AbstractDefectReport {
+  private final @Nullable UserReport userReport;
+  private final ImmutableSet<BuildId> highlightedBuildIds;
+  private final ImmutableSet<Path> includedPaths;
+  private final BuildEnvironmentDescription buildEnvironmentDescription;
+  private final @Nullable SourceControlInfo sourceControlInfo;
+  private final @Nullable String extraInfo;
+  private final @Nullable FileChangesIgnoredReport fileChangesIgnoredReport;
+  private final UserLocalConfiguration userLocalConfiguration;
+
+  private DefectReport(DefectReport.Builder builder) {
+    this.userReport = builder.userReport;
+    this.highlightedBuildIds = builder.highlightedBuildIds.build();
+    this.includedPaths = builder.includedPaths.build();
+    this.buildEnvironmentDescription = builder.buildEnvironmentDescription;
+    this.sourceControlInfo = builder.sourceControlInfo;
+    this.extraInfo = builder.extraInfo;
+    this.fileChangesIgnoredReport = builder.fileChangesIgnoredReport;
+    this.userLocalConfiguration = builder.userLocalConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code userReport} attribute
+   */
+  @Override
+  public Optional<UserReport> getUserReport() {
+    return Optional.ofNullable(userReport);
+  }
+
+  /**
+   * @return The value of the {@code highlightedBuildIds} attribute
+   */
+  @Override
+  public ImmutableSet<BuildId> getHighlightedBuildIds() {
+    return highlightedBuildIds;
+  }
+
+  /**
+   * @return The value of the {@code includedPaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getIncludedPaths() {
+    return includedPaths;
+  }
+
+  /**
+   * @return The value of the {@code buildEnvironmentDescription} attribute
+   */
+  @Override
+  public BuildEnvironmentDescription getBuildEnvironmentDescription() {
+    return buildEnvironmentDescription;
+  }
+
+  /**
+   * @return The value of the {@code sourceControlInfo} attribute
+   */
+  @Override
+  public Optional<SourceControlInfo> getSourceControlInfo() {
+    return Optional.ofNullable(sourceControlInfo);
+  }
+
+  /**
+   * @return The value of the {@code extraInfo} attribute
+   */
+  @Override
+  public Optional<String> getExtraInfo() {
+    return Optional.ofNullable(extraInfo);
+  }
+
+  /**
+   * @return The value of the {@code fileChangesIgnoredReport} attribute
+   */
+  @Override
+  public Optional<FileChangesIgnoredReport> getFileChangesIgnoredReport() {
+    return Optional.ofNullable(fileChangesIgnoredReport);
+  }
+
+  /**
+   * @return The value of the {@code userLocalConfiguration} attribute
+   */
+  @Override
+  public UserLocalConfiguration getUserLocalConfiguration() {
+    return userLocalConfiguration;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DefectReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DefectReport
+        && equalTo((DefectReport) another);
+  }
+
+  private boolean equalTo(DefectReport another) {
+    return Objects.equals(userReport, another.userReport)
+        && highlightedBuildIds.equals(another.highlightedBuildIds)
+        && includedPaths.equals(another.includedPaths)
+        && buildEnvironmentDescription.equals(another.buildEnvironmentDescription)
+        && Objects.equals(sourceControlInfo, another.sourceControlInfo)
+        && Objects.equals(extraInfo, another.extraInfo)
+        && Objects.equals(fileChangesIgnoredReport, another.fileChangesIgnoredReport)
+        && userLocalConfiguration.equals(another.userLocalConfiguration);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code userReport}, {@code highlightedBuildIds}, {@code includedPaths}, {@code buildEnvironmentDescription}, {@code sourceControlInfo}, {@code extraInfo}, {@code fileChangesIgnoredReport}, {@code userLocalConfiguration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(userReport);
+    h += (h << 5) + highlightedBuildIds.hashCode();
+    h += (h << 5) + includedPaths.hashCode();
+    h += (h << 5) + buildEnvironmentDescription.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceControlInfo);
+    h += (h << 5) + Objects.hashCode(extraInfo);
+    h += (h << 5) + Objects.hashCode(fileChangesIgnoredReport);
+    h += (h << 5) + userLocalConfiguration.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefectReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefectReport")
+        .omitNullValues()
+        .add("userReport", userReport)
+        .add("highlightedBuildIds", highlightedBuildIds)
+        .add("includedPaths", includedPaths)
+        .add("buildEnvironmentDescription", buildEnvironmentDescription)
+        .add("sourceControlInfo", sourceControlInfo)
+        .add("extraInfo", extraInfo)
+        .add("fileChangesIgnoredReport", fileChangesIgnoredReport)
+        .add("userLocalConfiguration", userLocalConfiguration)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DefectReport DefectReport}.
+   * @return A new DefectReport builder
+   */
+  public static DefectReport.Builder builder() {
+    return new DefectReport.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DefectReport DefectReport}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "DefectReporter.AbstractDefectReport", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION = 0x1L;
+    private static final long INIT_BIT_USER_LOCAL_CONFIGURATION = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable UserReport userReport;
+    private ImmutableSet.Builder<BuildId> highlightedBuildIds = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> includedPaths = ImmutableSet.builder();
+    private @Nullable BuildEnvironmentDescription buildEnvironmentDescription;
+    private @Nullable SourceControlInfo sourceControlInfo;
+    private @Nullable String extraInfo;
+    private @Nullable FileChangesIgnoredReport fileChangesIgnoredReport;
+    private @Nullable UserLocalConfiguration userLocalConfiguration;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractDefectReport} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(DefectReporter.AbstractDefectReport instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<UserReport> userReportOptional = instance.getUserReport();
+      if (userReportOptional.isPresent()) {
+        setUserReport(userReportOptional);
+      }
+      addAllHighlightedBuildIds(instance.getHighlightedBuildIds());
+      addAllIncludedPaths(instance.getIncludedPaths());
+      setBuildEnvironmentDescription(instance.getBuildEnvironmentDescription());
+      Optional<SourceControlInfo> sourceControlInfoOptional = instance.getSourceControlInfo();
+      if (sourceControlInfoOptional.isPresent()) {
+        setSourceControlInfo(sourceControlInfoOptional);
+      }
+      Optional<String> extraInfoOptional = instance.getExtraInfo();
+      if (extraInfoOptional.isPresent()) {
+        setExtraInfo(extraInfoOptional);
+      }
+      Optional<FileChangesIgnoredReport> fileChangesIgnoredReportOptional = instance.getFileChangesIgnoredReport();
+      if (fileChangesIgnoredReportOptional.isPresent()) {
+        setFileChangesIgnoredReport(fileChangesIgnoredReportOptional);
+      }
+      setUserLocalConfiguration(instance.getUserLocalConfiguration());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getUserReport() userReport} to userReport.
+     * @param userReport The value for userReport
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUserReport(UserReport userReport) {
+      this.userReport = Objects.requireNonNull(userReport, "userReport");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getUserReport() userReport} to userReport.
+     * @param userReport The value for userReport
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUserReport(Optional<? extends UserReport> userReport) {
+      this.userReport = userReport.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param element A highlightedBuildIds element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHighlightedBuildIds(BuildId element) {
+      this.highlightedBuildIds.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An array of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHighlightedBuildIds(BuildId... elements) {
+      this.highlightedBuildIds.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An iterable of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHighlightedBuildIds(Iterable<? extends BuildId> elements) {
+      this.highlightedBuildIds = ImmutableSet.builder();
+      return addAllHighlightedBuildIds(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An iterable of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllHighlightedBuildIds(Iterable<? extends BuildId> elements) {
+      this.highlightedBuildIds.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param element A includedPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludedPaths(Path element) {
+      this.includedPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An array of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludedPaths(Path... elements) {
+      this.includedPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An iterable of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludedPaths(Iterable<? extends Path> elements) {
+      this.includedPaths = ImmutableSet.builder();
+      return addAllIncludedPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An iterable of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllIncludedPaths(Iterable<? extends Path> elements) {
+      this.includedPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefectReporter.AbstractDefectReport#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+     * @param buildEnvironmentDescription The value for buildEnvironmentDescription 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildEnvironmentDescription(BuildEnvironmentDescription buildEnvironmentDescription) {
+      this.buildEnvironmentDescription = Objects.requireNonNull(buildEnvironmentDescription, "buildEnvironmentDescription");
+      initBits &= ~INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getSourceControlInfo() sourceControlInfo} to sourceControlInfo.
+     * @param sourceControlInfo The value for sourceControlInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceControlInfo(SourceControlInfo sourceControlInfo) {
+      this.sourceControlInfo = Objects.requireNonNull(sourceControlInfo, "sourceControlInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getSourceControlInfo() sourceControlInfo} to sourceControlInfo.
+     * @param sourceControlInfo The value for sourceControlInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceControlInfo(Optional<? extends SourceControlInfo> sourceControlInfo) {
+      this.sourceControlInfo = sourceControlInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getExtraInfo() extraInfo} to extraInfo.
+     * @param extraInfo The value for extraInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraInfo(String extraInfo) {
+      this.extraInfo = Objects.requireNonNull(extraInfo, "extraInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getExtraInfo() extraInfo} to extraInfo.
+     * @param extraInfo The value for extraInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraInfo(Optional<String> extraInfo) {
+      this.extraInfo = extraInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} to fileChangesIgnoredReport.
+     * @param fileChangesIgnoredReport The value for fileChangesIgnoredReport
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFileChangesIgnoredReport(FileChangesIgnoredReport fileChangesIgnoredReport) {
+      this.fileChangesIgnoredReport = Objects.requireNonNull(fileChangesIgnoredReport, "fileChangesIgnoredReport");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} to fileChangesIgnoredReport.
+     * @param fileChangesIgnoredReport The value for fileChangesIgnoredReport
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFileChangesIgnoredReport(Optional<? extends FileChangesIgnoredReport> fileChangesIgnoredReport) {
+      this.fileChangesIgnoredReport = fileChangesIgnoredReport.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefectReporter.AbstractDefectReport#getUserLocalConfiguration() userLocalConfiguration} attribute.
+     * @param userLocalConfiguration The value for userLocalConfiguration 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUserLocalConfiguration(UserLocalConfiguration userLocalConfiguration) {
+      this.userLocalConfiguration = Objects.requireNonNull(userLocalConfiguration, "userLocalConfiguration");
+      initBits &= ~INIT_BIT_USER_LOCAL_CONFIGURATION;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DefectReport DefectReport}.
+     * @return An immutable instance of DefectReport
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefectReport build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DefectReport(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION) != 0) attributes.add("buildEnvironmentDescription");
+      if ((initBits & INIT_BIT_USER_LOCAL_CONFIGURATION) != 0) attributes.add("userLocalConfiguration");
+      return "Cannot build DefectReport, some of required attributes are not set " + attributes;
+    }
+  }
+}
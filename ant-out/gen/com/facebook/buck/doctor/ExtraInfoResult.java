@@ -0,0 +1,215 @@
+package com.facebook.buck.doctor;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExtraInfoCollector.AbstractExtraInfoResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExtraInfoResult.builder()}.
+ */
+@Generated(from = "ExtraInfoCollector.AbstractExtraInfoResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ExtraInfoResult
+    implements ExtraInfoCollector.AbstractExtraInfoResult {
+  private final String output;
+  private final ImmutableSet<Path> extraFiles;
+
+  private ExtraInfoResult(ExtraInfoResult.Builder builder) {
+    this.output = builder.output;
+    this.extraFiles = builder.extraFiles.build();
+  }
+
+  /**
+   * @return The value of the {@code output} attribute
+   */
+  @Override
+  public String getOutput() {
+    return output;
+  }
+
+  /**
+   * @return The value of the {@code extraFiles} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getExtraFiles() {
+    return extraFiles;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExtraInfoResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExtraInfoResult
+        && equalTo((ExtraInfoResult) another);
+  }
+
+  private boolean equalTo(ExtraInfoResult another) {
+    return output.equals(another.output)
+        && extraFiles.equals(another.extraFiles);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code output}, {@code extraFiles}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + output.hashCode();
+    h += (h << 5) + extraFiles.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExtraInfoResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExtraInfoResult")
+        .omitNullValues()
+        .add("output", output)
+        .add("extraFiles", extraFiles)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ExtraInfoResult ExtraInfoResult}.
+   * @return A new ExtraInfoResult builder
+   */
+  public static ExtraInfoResult.Builder builder() {
+    return new ExtraInfoResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExtraInfoResult ExtraInfoResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ExtraInfoCollector.AbstractExtraInfoResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_OUTPUT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String output;
+    private ImmutableSet.Builder<Path> extraFiles = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractExtraInfoResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ExtraInfoCollector.AbstractExtraInfoResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setOutput(instance.getOutput());
+      addAllExtraFiles(instance.getExtraFiles());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExtraInfoCollector.AbstractExtraInfoResult#getOutput() output} attribute.
+     * @param output The value for output 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutput(String output) {
+      this.output = Objects.requireNonNull(output, "output");
+      initBits &= ~INIT_BIT_OUTPUT;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ExtraInfoCollector.AbstractExtraInfoResult#getExtraFiles() extraFiles} set.
+     * @param element A extraFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraFiles(Path element) {
+      this.extraFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ExtraInfoCollector.AbstractExtraInfoResult#getExtraFiles() extraFiles} set.
+     * @param elements An array of extraFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraFiles(Path... elements) {
+      this.extraFiles.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExtraInfoCollector.AbstractExtraInfoResult#getExtraFiles() extraFiles} set.
+     * @param elements An iterable of extraFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraFiles(Iterable<? extends Path> elements) {
+      this.extraFiles = ImmutableSet.builder();
+      return addAllExtraFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExtraInfoCollector.AbstractExtraInfoResult#getExtraFiles() extraFiles} set.
+     * @param elements An iterable of extraFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraFiles(Iterable<? extends Path> elements) {
+      this.extraFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExtraInfoResult ExtraInfoResult}.
+     * @return An immutable instance of ExtraInfoResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExtraInfoResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExtraInfoResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_OUTPUT) != 0) attributes.add("output");
+      return "Cannot build ExtraInfoResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,343 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.slb.SlbBuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDoctorConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DoctorConfig.of()}.
+ */
+@Generated(from = "AbstractDoctorConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DoctorConfig extends AbstractDoctorConfig {
+  private final BuckConfig delegate;
+
+  private DoctorConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DoctorConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DoctorConfig
+        && equalTo((DoctorConfig) another);
+  }
+
+  private boolean equalTo(DoctorConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long PROTOCOL_VERSION_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient DoctorProtocolVersion protocolVersion;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getProtocolVersion() protocolVersion} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code protocolVersion} attribute
+   */
+  @Override
+  public DoctorProtocolVersion getProtocolVersion() {
+    if ((lazyInitBitmap & PROTOCOL_VERSION_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PROTOCOL_VERSION_LAZY_INIT_BIT) == 0) {
+          this.protocolVersion = Objects.requireNonNull(super.getProtocolVersion(), "protocolVersion");
+          lazyInitBitmap |= PROTOCOL_VERSION_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return protocolVersion;
+  }
+
+  private static final long ENDPOINT_URL_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> endpointUrl;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getEndpointUrl() endpointUrl} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code endpointUrl} attribute
+   */
+  @Override
+  public Optional<String> getEndpointUrl() {
+    if ((lazyInitBitmap & ENDPOINT_URL_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENDPOINT_URL_LAZY_INIT_BIT) == 0) {
+          this.endpointUrl = Objects.requireNonNull(super.getEndpointUrl(), "endpointUrl");
+          lazyInitBitmap |= ENDPOINT_URL_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return endpointUrl;
+  }
+
+  private static final long ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient long endpointTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getEndpointTimeoutMs() endpointTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code endpointTimeoutMs} attribute
+   */
+  @Override
+  public long getEndpointTimeoutMs() {
+    if ((lazyInitBitmap & ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.endpointTimeoutMs = super.getEndpointTimeoutMs();
+          lazyInitBitmap |= ENDPOINT_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return endpointTimeoutMs;
+  }
+
+  private static final long ENDPOINT_EXTRA_REQUEST_ARGS_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, String> endpointExtraRequestArgs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getEndpointExtraRequestArgs() endpointExtraRequestArgs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code endpointExtraRequestArgs} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEndpointExtraRequestArgs() {
+    if ((lazyInitBitmap & ENDPOINT_EXTRA_REQUEST_ARGS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENDPOINT_EXTRA_REQUEST_ARGS_LAZY_INIT_BIT) == 0) {
+          this.endpointExtraRequestArgs = Objects.requireNonNull(super.getEndpointExtraRequestArgs(), "endpointExtraRequestArgs");
+          lazyInitBitmap |= ENDPOINT_EXTRA_REQUEST_ARGS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return endpointExtraRequestArgs;
+  }
+
+  private static final long REPORT_UPLOAD_PATH_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient String reportUploadPath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getReportUploadPath() reportUploadPath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code reportUploadPath} attribute
+   */
+  @Override
+  public String getReportUploadPath() {
+    if ((lazyInitBitmap & REPORT_UPLOAD_PATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & REPORT_UPLOAD_PATH_LAZY_INIT_BIT) == 0) {
+          this.reportUploadPath = Objects.requireNonNull(super.getReportUploadPath(), "reportUploadPath");
+          lazyInitBitmap |= REPORT_UPLOAD_PATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return reportUploadPath;
+  }
+
+  private static final long REPORT_MAX_SIZE_BYTES_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<Long> reportMaxSizeBytes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getReportMaxSizeBytes() reportMaxSizeBytes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code reportMaxSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getReportMaxSizeBytes() {
+    if ((lazyInitBitmap & REPORT_MAX_SIZE_BYTES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & REPORT_MAX_SIZE_BYTES_LAZY_INIT_BIT) == 0) {
+          this.reportMaxSizeBytes = Objects.requireNonNull(super.getReportMaxSizeBytes(), "reportMaxSizeBytes");
+          lazyInitBitmap |= REPORT_MAX_SIZE_BYTES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return reportMaxSizeBytes;
+  }
+
+  private static final long REPORT_TIMEOUT_MS_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient long reportTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getReportTimeoutMs() reportTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code reportTimeoutMs} attribute
+   */
+  @Override
+  public long getReportTimeoutMs() {
+    if ((lazyInitBitmap & REPORT_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & REPORT_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.reportTimeoutMs = super.getReportTimeoutMs();
+          lazyInitBitmap |= REPORT_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return reportTimeoutMs;
+  }
+
+  private static final long REPORT_MAX_UPLOAD_RETRIES_LAZY_INIT_BIT = 0x80L;
+
+  @SuppressWarnings("Immutable")
+  private transient int reportMaxUploadRetries;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getReportMaxUploadRetries() reportMaxUploadRetries} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code reportMaxUploadRetries} attribute
+   */
+  @Override
+  public int getReportMaxUploadRetries() {
+    if ((lazyInitBitmap & REPORT_MAX_UPLOAD_RETRIES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & REPORT_MAX_UPLOAD_RETRIES_LAZY_INIT_BIT) == 0) {
+          this.reportMaxUploadRetries = super.getReportMaxUploadRetries();
+          lazyInitBitmap |= REPORT_MAX_UPLOAD_RETRIES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return reportMaxUploadRetries;
+  }
+
+  private static final long FRONTEND_CONFIG_LAZY_INIT_BIT = 0x100L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<SlbBuckConfig> frontendConfig;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getFrontendConfig() frontendConfig} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code frontendConfig} attribute
+   */
+  @Override
+  public Optional<SlbBuckConfig> getFrontendConfig() {
+    if ((lazyInitBitmap & FRONTEND_CONFIG_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FRONTEND_CONFIG_LAZY_INIT_BIT) == 0) {
+          this.frontendConfig = Objects.requireNonNull(super.getFrontendConfig(), "frontendConfig");
+          lazyInitBitmap |= FRONTEND_CONFIG_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return frontendConfig;
+  }
+
+  private static final long EXTRA_INFO_COMMAND_LAZY_INIT_BIT = 0x200L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> extraInfoCommand;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DoctorConfig#getExtraInfoCommand() extraInfoCommand} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code extraInfoCommand} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraInfoCommand() {
+    if ((lazyInitBitmap & EXTRA_INFO_COMMAND_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EXTRA_INFO_COMMAND_LAZY_INIT_BIT) == 0) {
+          this.extraInfoCommand = Objects.requireNonNull(super.getExtraInfoCommand(), "extraInfoCommand");
+          lazyInitBitmap |= EXTRA_INFO_COMMAND_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return extraInfoCommand;
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable DoctorConfig instance
+   */
+  public static DoctorConfig of(BuckConfig delegate) {
+    return new DoctorConfig(delegate);
+  }
+}
@@ -0,0 +1,308 @@
+package com.facebook.buck.doctor.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractUserLocalConfiguration}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code UserLocalConfiguration.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code UserLocalConfiguration.of()}.
+ */
+@Generated(from = "AbstractUserLocalConfiguration", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class UserLocalConfiguration
+    extends AbstractUserLocalConfiguration {
+  private final boolean noBuckCheckPresent;
+  private final ImmutableMap<Path, String> localConfigsContents;
+  private final ImmutableMap<String, String> configOverrides;
+
+  private UserLocalConfiguration(
+      boolean noBuckCheckPresent,
+      Map<? extends Path, ? extends String> localConfigsContents,
+      Map<String, ? extends String> configOverrides) {
+    this.noBuckCheckPresent = noBuckCheckPresent;
+    this.localConfigsContents = ImmutableMap.copyOf(localConfigsContents);
+    this.configOverrides = ImmutableMap.copyOf(configOverrides);
+  }
+
+  private UserLocalConfiguration(UserLocalConfiguration.Builder builder) {
+    this.noBuckCheckPresent = builder.noBuckCheckPresent;
+    this.localConfigsContents = builder.localConfigsContents.build();
+    this.configOverrides = builder.configOverrides.build();
+  }
+
+  /**
+   * @return The value of the {@code noBuckCheckPresent} attribute
+   */
+  @Override
+  public boolean isNoBuckCheckPresent() {
+    return noBuckCheckPresent;
+  }
+
+  /**
+   * @return The value of the {@code localConfigsContents} attribute
+   */
+  @Override
+  public ImmutableMap<Path, String> getLocalConfigsContents() {
+    return localConfigsContents;
+  }
+
+  /**
+   * @return The value of the {@code configOverrides} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getConfigOverrides() {
+    return configOverrides;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UserLocalConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UserLocalConfiguration
+        && equalTo((UserLocalConfiguration) another);
+  }
+
+  private boolean equalTo(UserLocalConfiguration another) {
+    return noBuckCheckPresent == another.noBuckCheckPresent
+        && localConfigsContents.equals(another.localConfigsContents)
+        && configOverrides.equals(another.configOverrides);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code noBuckCheckPresent}, {@code localConfigsContents}, {@code configOverrides}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(noBuckCheckPresent);
+    h += (h << 5) + localConfigsContents.hashCode();
+    h += (h << 5) + configOverrides.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UserLocalConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UserLocalConfiguration")
+        .omitNullValues()
+        .add("noBuckCheckPresent", noBuckCheckPresent)
+        .add("localConfigsContents", localConfigsContents)
+        .add("configOverrides", configOverrides)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UserLocalConfiguration} instance.
+   * @param noBuckCheckPresent The value for the {@code noBuckCheckPresent} attribute
+   * @param localConfigsContents The value for the {@code localConfigsContents} attribute
+   * @param configOverrides The value for the {@code configOverrides} attribute
+   * @return An immutable UserLocalConfiguration instance
+   */
+  public static UserLocalConfiguration of(boolean noBuckCheckPresent, Map<? extends Path, ? extends String> localConfigsContents, Map<String, ? extends String> configOverrides) {
+    return new UserLocalConfiguration(noBuckCheckPresent, localConfigsContents, configOverrides);
+  }
+
+  /**
+   * Creates a builder for {@link UserLocalConfiguration UserLocalConfiguration}.
+   * @return A new UserLocalConfiguration builder
+   */
+  public static UserLocalConfiguration.Builder builder() {
+    return new UserLocalConfiguration.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link UserLocalConfiguration UserLocalConfiguration}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractUserLocalConfiguration", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NO_BUCK_CHECK_PRESENT = 0x1L;
+    private long initBits = 0x1L;
+
+    private boolean noBuckCheckPresent;
+    private ImmutableMap.Builder<Path, String> localConfigsContents = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, String> configOverrides = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code UserLocalConfiguration} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(UserLocalConfiguration instance) {
+      return from((AbstractUserLocalConfiguration) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractUserLocalConfiguration} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractUserLocalConfiguration instance) {
+      Objects.requireNonNull(instance, "instance");
+      setNoBuckCheckPresent(instance.isNoBuckCheckPresent());
+      putAllLocalConfigsContents(instance.getLocalConfigsContents());
+      putAllConfigOverrides(instance.getConfigOverrides());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link UserLocalConfiguration#isNoBuckCheckPresent() noBuckCheckPresent} attribute.
+     * @param noBuckCheckPresent The value for noBuckCheckPresent 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoBuckCheckPresent(boolean noBuckCheckPresent) {
+      this.noBuckCheckPresent = noBuckCheckPresent;
+      initBits &= ~INIT_BIT_NO_BUCK_CHECK_PRESENT;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link UserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map.
+     * @param key The key in the localConfigsContents map
+     * @param value The associated value in the localConfigsContents map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLocalConfigsContents(Path key, String value) {
+      this.localConfigsContents.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link UserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLocalConfigsContents(Map.Entry<? extends Path, ? extends String> entry) {
+      this.localConfigsContents.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link UserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map. Nulls are not permitted
+     * @param entries The entries that will be added to the localConfigsContents map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalConfigsContents(Map<? extends Path, ? extends String> entries) {
+      this.localConfigsContents = ImmutableMap.builder();
+      return putAllLocalConfigsContents(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link UserLocalConfiguration#getLocalConfigsContents() localConfigsContents} map. Nulls are not permitted
+     * @param entries The entries that will be added to the localConfigsContents map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllLocalConfigsContents(Map<? extends Path, ? extends String> entries) {
+      this.localConfigsContents.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link UserLocalConfiguration#getConfigOverrides() configOverrides} map.
+     * @param key The key in the configOverrides map
+     * @param value The associated value in the configOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putConfigOverrides(String key, String value) {
+      this.configOverrides.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link UserLocalConfiguration#getConfigOverrides() configOverrides} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putConfigOverrides(Map.Entry<String, ? extends String> entry) {
+      this.configOverrides.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link UserLocalConfiguration#getConfigOverrides() configOverrides} map. Nulls are not permitted
+     * @param entries The entries that will be added to the configOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConfigOverrides(Map<String, ? extends String> entries) {
+      this.configOverrides = ImmutableMap.builder();
+      return putAllConfigOverrides(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link UserLocalConfiguration#getConfigOverrides() configOverrides} map. Nulls are not permitted
+     * @param entries The entries that will be added to the configOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllConfigOverrides(Map<String, ? extends String> entries) {
+      this.configOverrides.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link UserLocalConfiguration UserLocalConfiguration}.
+     * @return An immutable instance of UserLocalConfiguration
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public UserLocalConfiguration build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new UserLocalConfiguration(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NO_BUCK_CHECK_PRESENT) != 0) attributes.add("noBuckCheckPresent");
+      return "Cannot build UserLocalConfiguration, some of required attributes are not set " + attributes;
+    }
+  }
+}
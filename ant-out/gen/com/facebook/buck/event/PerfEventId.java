@@ -0,0 +1,181 @@
+package com.facebook.buck.event;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SimplePerfEvent.AbstractPerfEventId}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PerfEventId.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code PerfEventId.of()}.
+ */
+@Generated(from = "SimplePerfEvent.AbstractPerfEventId", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PerfEventId extends SimplePerfEvent.AbstractPerfEventId {
+  private final String value;
+
+  private PerfEventId(String value) {
+    this.value = Objects.requireNonNull(value, "value");
+  }
+
+  private PerfEventId(PerfEventId.Builder builder) {
+    this.value = builder.value;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PerfEventId} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PerfEventId
+        && equalTo((PerfEventId) another);
+  }
+
+  private boolean equalTo(PerfEventId another) {
+    return value.equals(another.value);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + value.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerfEventId} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerfEventId")
+        .omitNullValues()
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PerfEventId} instance.
+   * @param value The value for the {@code value} attribute
+   * @return An immutable PerfEventId instance
+   */
+  public static PerfEventId of(String value) {
+    return validate(new PerfEventId(value));
+  }
+
+
+  private static PerfEventId validate(PerfEventId instance) {
+    instance.nameIsNotEmpty();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link PerfEventId PerfEventId}.
+   * @return A new PerfEventId builder
+   */
+  public static PerfEventId.Builder builder() {
+    return new PerfEventId.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PerfEventId PerfEventId}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "SimplePerfEvent.AbstractPerfEventId", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_VALUE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String value;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerfEventId} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PerfEventId instance) {
+      return from((SimplePerfEvent.AbstractPerfEventId) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPerfEventId} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(SimplePerfEvent.AbstractPerfEventId instance) {
+      Objects.requireNonNull(instance, "instance");
+      setValue(instance.getValue());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfEventId#getValue() value} attribute.
+     * @param value The value for value 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValue(String value) {
+      this.value = Objects.requireNonNull(value, "value");
+      initBits &= ~INIT_BIT_VALUE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PerfEventId PerfEventId}.
+     * @return An immutable instance of PerfEventId
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerfEventId build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return PerfEventId.validate(new PerfEventId(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_VALUE) != 0) attributes.add("value");
+      return "Cannot build PerfEventId, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,426 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.actiongraph.ActionGraph;
+import com.facebook.buck.log.InvocationInfo;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Arguments to {@link BuildTargetDurationListenerCloseAction}. 
+ */
+@Generated(from = "BuildTargetDurationListener.AbstractBuildTargetDurationListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildTargetDurationListenerCloseArgs
+    extends BuildTargetDurationListener.AbstractBuildTargetDurationListenerCloseArgs {
+  private final Path logFilePath;
+  private final Path targetFilePath;
+  private final Path traceFilePath;
+  private final InvocationInfo invocationInfo;
+  private final int criticalPathCount;
+  private final @Nullable ImmutableSet<BuildTarget> targetBuildRules;
+  private final ConcurrentMap<String, BuildTargetDurationListener.BuildRuleInfo> buildRuleInfos;
+  private final @Nullable ActionGraph actionGraph;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private BuildTargetDurationListenerCloseArgs(
+      Path logFilePath,
+      Path targetFilePath,
+      Path traceFilePath,
+      InvocationInfo invocationInfo,
+      int criticalPathCount,
+      Optional<? extends ImmutableSet<BuildTarget>> targetBuildRules,
+      ConcurrentMap<String, BuildTargetDurationListener.BuildRuleInfo> buildRuleInfos,
+      Optional<? extends ActionGraph> actionGraph) {
+    this.logFilePath = Objects.requireNonNull(logFilePath, "logFilePath");
+    this.targetFilePath = Objects.requireNonNull(targetFilePath, "targetFilePath");
+    this.traceFilePath = Objects.requireNonNull(traceFilePath, "traceFilePath");
+    this.invocationInfo = Objects.requireNonNull(invocationInfo, "invocationInfo");
+    this.criticalPathCount = criticalPathCount;
+    this.targetBuildRules = targetBuildRules.orElse(null);
+    this.buildRuleInfos = Objects.requireNonNull(buildRuleInfos, "buildRuleInfos");
+    this.actionGraph = actionGraph.orElse(null);
+  }
+
+  private BuildTargetDurationListenerCloseArgs(BuildTargetDurationListenerCloseArgs.Builder builder) {
+    this.logFilePath = builder.logFilePath;
+    this.targetFilePath = builder.targetFilePath;
+    this.traceFilePath = builder.traceFilePath;
+    this.invocationInfo = builder.invocationInfo;
+    this.criticalPathCount = builder.criticalPathCount;
+    this.targetBuildRules = builder.targetBuildRules;
+    this.buildRuleInfos = builder.buildRuleInfos;
+    this.actionGraph = builder.actionGraph;
+  }
+
+  /**
+   * @return The value of the {@code logFilePath} attribute
+   */
+  @Override
+  public Path getLogFilePath() {
+    return logFilePath;
+  }
+
+  /**
+   * @return The value of the {@code targetFilePath} attribute
+   */
+  @Override
+  public Path getTargetFilePath() {
+    return targetFilePath;
+  }
+
+  /**
+   * @return The value of the {@code traceFilePath} attribute
+   */
+  @Override
+  public Path getTraceFilePath() {
+    return traceFilePath;
+  }
+
+  /**
+   * @return The value of the {@code invocationInfo} attribute
+   */
+  @Override
+  public InvocationInfo getInvocationInfo() {
+    return invocationInfo;
+  }
+
+  /**
+   * @return The value of the {@code criticalPathCount} attribute
+   */
+  @Override
+  public int getCriticalPathCount() {
+    return criticalPathCount;
+  }
+
+  /**
+   * @return The value of the {@code targetBuildRules} attribute
+   */
+  @Override
+  public Optional<ImmutableSet<BuildTarget>> getTargetBuildRules() {
+    return Optional.ofNullable(targetBuildRules);
+  }
+
+  /**
+   * @return The value of the {@code buildRuleInfos} attribute
+   */
+  @Override
+  public ConcurrentMap<String, BuildTargetDurationListener.BuildRuleInfo> getBuildRuleInfos() {
+    return buildRuleInfos;
+  }
+
+  /**
+   * @return The value of the {@code actionGraph} attribute
+   */
+  @Override
+  public Optional<ActionGraph> getActionGraph() {
+    return Optional.ofNullable(actionGraph);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildTargetDurationListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildTargetDurationListenerCloseArgs
+        && equalTo((BuildTargetDurationListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(BuildTargetDurationListenerCloseArgs another) {
+    return logFilePath.equals(another.logFilePath)
+        && targetFilePath.equals(another.targetFilePath)
+        && traceFilePath.equals(another.traceFilePath)
+        && invocationInfo.equals(another.invocationInfo)
+        && criticalPathCount == another.criticalPathCount
+        && Objects.equals(targetBuildRules, another.targetBuildRules)
+        && buildRuleInfos.equals(another.buildRuleInfos)
+        && Objects.equals(actionGraph, another.actionGraph);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code logFilePath}, {@code targetFilePath}, {@code traceFilePath}, {@code invocationInfo}, {@code criticalPathCount}, {@code targetBuildRules}, {@code buildRuleInfos}, {@code actionGraph}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + logFilePath.hashCode();
+    h += (h << 5) + targetFilePath.hashCode();
+    h += (h << 5) + traceFilePath.hashCode();
+    h += (h << 5) + invocationInfo.hashCode();
+    h += (h << 5) + criticalPathCount;
+    h += (h << 5) + Objects.hashCode(targetBuildRules);
+    h += (h << 5) + buildRuleInfos.hashCode();
+    h += (h << 5) + Objects.hashCode(actionGraph);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildTargetDurationListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildTargetDurationListenerCloseArgs")
+        .omitNullValues()
+        .add("logFilePath", logFilePath)
+        .add("targetFilePath", targetFilePath)
+        .add("traceFilePath", traceFilePath)
+        .add("invocationInfo", invocationInfo)
+        .add("criticalPathCount", criticalPathCount)
+        .add("targetBuildRules", targetBuildRules)
+        .add("buildRuleInfos", buildRuleInfos)
+        .add("actionGraph", actionGraph)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetDurationListenerCloseArgs} instance.
+   * @param logFilePath The value for the {@code logFilePath} attribute
+   * @param targetFilePath The value for the {@code targetFilePath} attribute
+   * @param traceFilePath The value for the {@code traceFilePath} attribute
+   * @param invocationInfo The value for the {@code invocationInfo} attribute
+   * @param criticalPathCount The value for the {@code criticalPathCount} attribute
+   * @param targetBuildRules The value for the {@code targetBuildRules} attribute
+   * @param buildRuleInfos The value for the {@code buildRuleInfos} attribute
+   * @param actionGraph The value for the {@code actionGraph} attribute
+   * @return An immutable BuildTargetDurationListenerCloseArgs instance
+   */
+  public static BuildTargetDurationListenerCloseArgs of(Path logFilePath, Path targetFilePath, Path traceFilePath, InvocationInfo invocationInfo, int criticalPathCount, Optional<? extends ImmutableSet<BuildTarget>> targetBuildRules, ConcurrentMap<String, BuildTargetDurationListener.BuildRuleInfo> buildRuleInfos, Optional<? extends ActionGraph> actionGraph) {
+    return new BuildTargetDurationListenerCloseArgs(logFilePath, targetFilePath, traceFilePath, invocationInfo, criticalPathCount, targetBuildRules, buildRuleInfos, actionGraph);
+  }
+
+  /**
+   * Creates a builder for {@link BuildTargetDurationListenerCloseArgs BuildTargetDurationListenerCloseArgs}.
+   * @return A new BuildTargetDurationListenerCloseArgs builder
+   */
+  public static BuildTargetDurationListenerCloseArgs.Builder builder() {
+    return new BuildTargetDurationListenerCloseArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildTargetDurationListenerCloseArgs BuildTargetDurationListenerCloseArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "BuildTargetDurationListener.AbstractBuildTargetDurationListenerCloseArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LOG_FILE_PATH = 0x1L;
+    private static final long INIT_BIT_TARGET_FILE_PATH = 0x2L;
+    private static final long INIT_BIT_TRACE_FILE_PATH = 0x4L;
+    private static final long INIT_BIT_INVOCATION_INFO = 0x8L;
+    private static final long INIT_BIT_CRITICAL_PATH_COUNT = 0x10L;
+    private static final long INIT_BIT_BUILD_RULE_INFOS = 0x20L;
+    private long initBits = 0x3fL;
+
+    private @Nullable Path logFilePath;
+    private @Nullable Path targetFilePath;
+    private @Nullable Path traceFilePath;
+    private @Nullable InvocationInfo invocationInfo;
+    private int criticalPathCount;
+    private @Nullable ImmutableSet<BuildTarget> targetBuildRules;
+    private @Nullable ConcurrentMap<String, BuildTargetDurationListener.BuildRuleInfo> buildRuleInfos;
+    private @Nullable ActionGraph actionGraph;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildTargetDurationListenerCloseArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildTargetDurationListenerCloseArgs instance) {
+      return from((BuildTargetDurationListener.AbstractBuildTargetDurationListenerCloseArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildTargetDurationListenerCloseArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(BuildTargetDurationListener.AbstractBuildTargetDurationListenerCloseArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setLogFilePath(instance.getLogFilePath());
+      setTargetFilePath(instance.getTargetFilePath());
+      setTraceFilePath(instance.getTraceFilePath());
+      setInvocationInfo(instance.getInvocationInfo());
+      setCriticalPathCount(instance.getCriticalPathCount());
+      Optional<ImmutableSet<BuildTarget>> targetBuildRulesOptional = instance.getTargetBuildRules();
+      if (targetBuildRulesOptional.isPresent()) {
+        setTargetBuildRules(targetBuildRulesOptional);
+      }
+      setBuildRuleInfos(instance.getBuildRuleInfos());
+      Optional<ActionGraph> actionGraphOptional = instance.getActionGraph();
+      if (actionGraphOptional.isPresent()) {
+        setActionGraph(actionGraphOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildTargetDurationListenerCloseArgs#getLogFilePath() logFilePath} attribute.
+     * @param logFilePath The value for logFilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogFilePath(Path logFilePath) {
+      this.logFilePath = Objects.requireNonNull(logFilePath, "logFilePath");
+      initBits &= ~INIT_BIT_LOG_FILE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildTargetDurationListenerCloseArgs#getTargetFilePath() targetFilePath} attribute.
+     * @param targetFilePath The value for targetFilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetFilePath(Path targetFilePath) {
+      this.targetFilePath = Objects.requireNonNull(targetFilePath, "targetFilePath");
+      initBits &= ~INIT_BIT_TARGET_FILE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildTargetDurationListenerCloseArgs#getTraceFilePath() traceFilePath} attribute.
+     * @param traceFilePath The value for traceFilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTraceFilePath(Path traceFilePath) {
+      this.traceFilePath = Objects.requireNonNull(traceFilePath, "traceFilePath");
+      initBits &= ~INIT_BIT_TRACE_FILE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildTargetDurationListenerCloseArgs#getInvocationInfo() invocationInfo} attribute.
+     * @param invocationInfo The value for invocationInfo 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInvocationInfo(InvocationInfo invocationInfo) {
+      this.invocationInfo = Objects.requireNonNull(invocationInfo, "invocationInfo");
+      initBits &= ~INIT_BIT_INVOCATION_INFO;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildTargetDurationListenerCloseArgs#getCriticalPathCount() criticalPathCount} attribute.
+     * @param criticalPathCount The value for criticalPathCount 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCriticalPathCount(int criticalPathCount) {
+      this.criticalPathCount = criticalPathCount;
+      initBits &= ~INIT_BIT_CRITICAL_PATH_COUNT;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildTargetDurationListenerCloseArgs#getTargetBuildRules() targetBuildRules} to targetBuildRules.
+     * @param targetBuildRules The value for targetBuildRules
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetBuildRules(ImmutableSet<BuildTarget> targetBuildRules) {
+      this.targetBuildRules = Objects.requireNonNull(targetBuildRules, "targetBuildRules");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildTargetDurationListenerCloseArgs#getTargetBuildRules() targetBuildRules} to targetBuildRules.
+     * @param targetBuildRules The value for targetBuildRules
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetBuildRules(Optional<? extends ImmutableSet<BuildTarget>> targetBuildRules) {
+      this.targetBuildRules = targetBuildRules.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildTargetDurationListenerCloseArgs#getBuildRuleInfos() buildRuleInfos} attribute.
+     * @param buildRuleInfos The value for buildRuleInfos 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildRuleInfos(ConcurrentMap<String, BuildTargetDurationListener.BuildRuleInfo> buildRuleInfos) {
+      this.buildRuleInfos = Objects.requireNonNull(buildRuleInfos, "buildRuleInfos");
+      initBits &= ~INIT_BIT_BUILD_RULE_INFOS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildTargetDurationListenerCloseArgs#getActionGraph() actionGraph} to actionGraph.
+     * @param actionGraph The value for actionGraph
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraph(ActionGraph actionGraph) {
+      this.actionGraph = Objects.requireNonNull(actionGraph, "actionGraph");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildTargetDurationListenerCloseArgs#getActionGraph() actionGraph} to actionGraph.
+     * @param actionGraph The value for actionGraph
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraph(Optional<? extends ActionGraph> actionGraph) {
+      this.actionGraph = actionGraph.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildTargetDurationListenerCloseArgs BuildTargetDurationListenerCloseArgs}.
+     * @return An immutable instance of BuildTargetDurationListenerCloseArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildTargetDurationListenerCloseArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildTargetDurationListenerCloseArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_LOG_FILE_PATH) != 0) attributes.add("logFilePath");
+      if ((initBits & INIT_BIT_TARGET_FILE_PATH) != 0) attributes.add("targetFilePath");
+      if ((initBits & INIT_BIT_TRACE_FILE_PATH) != 0) attributes.add("traceFilePath");
+      if ((initBits & INIT_BIT_INVOCATION_INFO) != 0) attributes.add("invocationInfo");
+      if ((initBits & INIT_BIT_CRITICAL_PATH_COUNT) != 0) attributes.add("criticalPathCount");
+      if ((initBits & INIT_BIT_BUILD_RULE_INFOS) != 0) attributes.add("buildRuleInfos");
+      return "Cannot build BuildTargetDurationListenerCloseArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,398 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.event.chrome_trace.ChromeTraceBuckConfig;
+import com.facebook.buck.event.chrome_trace.ChromeTraceWriter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Abstract class holding arguments to close() logic. 
+ */
+@Generated(from = "ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ChromeTraceBuildListenerCloseArgs
+    extends ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs {
+  private final ExecutorService outputExecutor;
+  private final Path tracePath;
+  private final ChromeTraceWriter chromeTraceWriter;
+  private final OutputStream traceStream;
+  private final ChromeTraceBuckConfig config;
+  private final Path logDirectoryPath;
+  private final BuildId buildId;
+  private final ProjectFilesystem projectFilesystem;
+
+  private ChromeTraceBuildListenerCloseArgs(
+      ExecutorService outputExecutor,
+      Path tracePath,
+      ChromeTraceWriter chromeTraceWriter,
+      OutputStream traceStream,
+      ChromeTraceBuckConfig config,
+      Path logDirectoryPath,
+      BuildId buildId,
+      ProjectFilesystem projectFilesystem) {
+    this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+    this.tracePath = Objects.requireNonNull(tracePath, "tracePath");
+    this.chromeTraceWriter = Objects.requireNonNull(chromeTraceWriter, "chromeTraceWriter");
+    this.traceStream = Objects.requireNonNull(traceStream, "traceStream");
+    this.config = Objects.requireNonNull(config, "config");
+    this.logDirectoryPath = Objects.requireNonNull(logDirectoryPath, "logDirectoryPath");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+  }
+
+  private ChromeTraceBuildListenerCloseArgs(
+      ChromeTraceBuildListenerCloseArgs original,
+      ExecutorService outputExecutor,
+      Path tracePath,
+      ChromeTraceWriter chromeTraceWriter,
+      OutputStream traceStream,
+      ChromeTraceBuckConfig config,
+      Path logDirectoryPath,
+      BuildId buildId,
+      ProjectFilesystem projectFilesystem) {
+    this.outputExecutor = outputExecutor;
+    this.tracePath = tracePath;
+    this.chromeTraceWriter = chromeTraceWriter;
+    this.traceStream = traceStream;
+    this.config = config;
+    this.logDirectoryPath = logDirectoryPath;
+    this.buildId = buildId;
+    this.projectFilesystem = projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code outputExecutor} attribute
+   */
+  @Override
+  public ExecutorService getOutputExecutor() {
+    return outputExecutor;
+  }
+
+  /**
+   * @return The value of the {@code tracePath} attribute
+   */
+  @Override
+  public Path getTracePath() {
+    return tracePath;
+  }
+
+  /**
+   * @return The value of the {@code chromeTraceWriter} attribute
+   */
+  @Override
+  public ChromeTraceWriter getChromeTraceWriter() {
+    return chromeTraceWriter;
+  }
+
+  /**
+   * @return The value of the {@code traceStream} attribute
+   */
+  @Override
+  public OutputStream getTraceStream() {
+    return traceStream;
+  }
+
+  /**
+   * @return The value of the {@code config} attribute
+   */
+  @Override
+  public ChromeTraceBuckConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * @return The value of the {@code logDirectoryPath} attribute
+   */
+  @Override
+  public Path getLogDirectoryPath() {
+    return logDirectoryPath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getOutputExecutor() outputExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for outputExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withOutputExecutor(ExecutorService value) {
+    if (this.outputExecutor == value) return this;
+    ExecutorService newValue = Objects.requireNonNull(value, "outputExecutor");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        newValue,
+        this.tracePath,
+        this.chromeTraceWriter,
+        this.traceStream,
+        this.config,
+        this.logDirectoryPath,
+        this.buildId,
+        this.projectFilesystem);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getTracePath() tracePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for tracePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withTracePath(Path value) {
+    if (this.tracePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "tracePath");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        this.outputExecutor,
+        newValue,
+        this.chromeTraceWriter,
+        this.traceStream,
+        this.config,
+        this.logDirectoryPath,
+        this.buildId,
+        this.projectFilesystem);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getChromeTraceWriter() chromeTraceWriter} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for chromeTraceWriter
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withChromeTraceWriter(ChromeTraceWriter value) {
+    if (this.chromeTraceWriter == value) return this;
+    ChromeTraceWriter newValue = Objects.requireNonNull(value, "chromeTraceWriter");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        this.outputExecutor,
+        this.tracePath,
+        newValue,
+        this.traceStream,
+        this.config,
+        this.logDirectoryPath,
+        this.buildId,
+        this.projectFilesystem);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getTraceStream() traceStream} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for traceStream
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withTraceStream(OutputStream value) {
+    if (this.traceStream == value) return this;
+    OutputStream newValue = Objects.requireNonNull(value, "traceStream");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        this.outputExecutor,
+        this.tracePath,
+        this.chromeTraceWriter,
+        newValue,
+        this.config,
+        this.logDirectoryPath,
+        this.buildId,
+        this.projectFilesystem);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getConfig() config} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for config
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withConfig(ChromeTraceBuckConfig value) {
+    if (this.config == value) return this;
+    ChromeTraceBuckConfig newValue = Objects.requireNonNull(value, "config");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        this.outputExecutor,
+        this.tracePath,
+        this.chromeTraceWriter,
+        this.traceStream,
+        newValue,
+        this.logDirectoryPath,
+        this.buildId,
+        this.projectFilesystem);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getLogDirectoryPath() logDirectoryPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for logDirectoryPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withLogDirectoryPath(Path value) {
+    if (this.logDirectoryPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "logDirectoryPath");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        this.outputExecutor,
+        this.tracePath,
+        this.chromeTraceWriter,
+        this.traceStream,
+        this.config,
+        newValue,
+        this.buildId,
+        this.projectFilesystem);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getBuildId() buildId} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildId
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withBuildId(BuildId value) {
+    if (this.buildId == value) return this;
+    BuildId newValue = Objects.requireNonNull(value, "buildId");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        this.outputExecutor,
+        this.tracePath,
+        this.chromeTraceWriter,
+        this.traceStream,
+        this.config,
+        this.logDirectoryPath,
+        newValue,
+        this.projectFilesystem);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ChromeTraceBuildListenerCloseArgs withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "projectFilesystem");
+    return new ChromeTraceBuildListenerCloseArgs(
+        this,
+        this.outputExecutor,
+        this.tracePath,
+        this.chromeTraceWriter,
+        this.traceStream,
+        this.config,
+        this.logDirectoryPath,
+        this.buildId,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ChromeTraceBuildListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ChromeTraceBuildListenerCloseArgs
+        && equalTo((ChromeTraceBuildListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(ChromeTraceBuildListenerCloseArgs another) {
+    return outputExecutor.equals(another.outputExecutor)
+        && tracePath.equals(another.tracePath)
+        && chromeTraceWriter.equals(another.chromeTraceWriter)
+        && traceStream.equals(another.traceStream)
+        && config.equals(another.config)
+        && logDirectoryPath.equals(another.logDirectoryPath)
+        && buildId.equals(another.buildId)
+        && projectFilesystem.equals(another.projectFilesystem);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputExecutor}, {@code tracePath}, {@code chromeTraceWriter}, {@code traceStream}, {@code config}, {@code logDirectoryPath}, {@code buildId}, {@code projectFilesystem}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputExecutor.hashCode();
+    h += (h << 5) + tracePath.hashCode();
+    h += (h << 5) + chromeTraceWriter.hashCode();
+    h += (h << 5) + traceStream.hashCode();
+    h += (h << 5) + config.hashCode();
+    h += (h << 5) + logDirectoryPath.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ChromeTraceBuildListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ChromeTraceBuildListenerCloseArgs")
+        .omitNullValues()
+        .add("outputExecutor", outputExecutor)
+        .add("tracePath", tracePath)
+        .add("chromeTraceWriter", chromeTraceWriter)
+        .add("traceStream", traceStream)
+        .add("config", config)
+        .add("logDirectoryPath", logDirectoryPath)
+        .add("buildId", buildId)
+        .add("projectFilesystem", projectFilesystem)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ChromeTraceBuildListenerCloseArgs} instance.
+   * @param outputExecutor The value for the {@code outputExecutor} attribute
+   * @param tracePath The value for the {@code tracePath} attribute
+   * @param chromeTraceWriter The value for the {@code chromeTraceWriter} attribute
+   * @param traceStream The value for the {@code traceStream} attribute
+   * @param config The value for the {@code config} attribute
+   * @param logDirectoryPath The value for the {@code logDirectoryPath} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @return An immutable ChromeTraceBuildListenerCloseArgs instance
+   */
+  public static ChromeTraceBuildListenerCloseArgs of(ExecutorService outputExecutor, Path tracePath, ChromeTraceWriter chromeTraceWriter, OutputStream traceStream, ChromeTraceBuckConfig config, Path logDirectoryPath, BuildId buildId, ProjectFilesystem projectFilesystem) {
+    return new ChromeTraceBuildListenerCloseArgs(outputExecutor, tracePath, chromeTraceWriter, traceStream, config, logDirectoryPath, buildId, projectFilesystem);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ChromeTraceBuildListenerCloseArgs instance
+   */
+  public static ChromeTraceBuildListenerCloseArgs copyOf(ChromeTraceBuildListenerCloseAction.AbstractChromeTraceBuildListenerCloseArgs instance) {
+    if (instance instanceof ChromeTraceBuildListenerCloseArgs) {
+      return (ChromeTraceBuildListenerCloseArgs) instance;
+    }
+    return ChromeTraceBuildListenerCloseArgs.of(instance.getOutputExecutor(), instance.getTracePath(), instance.getChromeTraceWriter(), instance.getTraceStream(), instance.getConfig(), instance.getLogDirectoryPath(), instance.getBuildId(), instance.getProjectFilesystem());
+  }
+}
@@ -0,0 +1,209 @@
+package com.facebook.buck.event.listener;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildTargetDurationListener.BuildRuleCriticalPath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildRuleCriticalPath.of()}.
+ */
+@Generated(from = "BuildTargetDurationListener.BuildRuleCriticalPath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildRuleCriticalPath
+    implements BuildTargetDurationListener.BuildRuleCriticalPath {
+  private final String targetName;
+  private final long targetDuration;
+  private final ImmutableList<BuildTargetDurationListener.CriticalPathEntry> criticalPath;
+  private final long criticalPathDuration;
+
+  private ImmutableBuildRuleCriticalPath(
+      String targetName,
+      long targetDuration,
+      Iterable<? extends BuildTargetDurationListener.CriticalPathEntry> criticalPath,
+      long criticalPathDuration) {
+    this.targetName = Objects.requireNonNull(targetName, "targetName");
+    this.targetDuration = targetDuration;
+    this.criticalPath = ImmutableList.copyOf(criticalPath);
+    this.criticalPathDuration = criticalPathDuration;
+  }
+
+  /**
+   * @return The value of the {@code targetName} attribute
+   */
+  @JsonProperty("target-name")
+  @Override
+  public String targetName() {
+    return targetName;
+  }
+
+  /**
+   * @return The value of the {@code targetDuration} attribute
+   */
+  @JsonProperty("target-duration")
+  @Override
+  public long targetDuration() {
+    return targetDuration;
+  }
+
+  /**
+   * @return The value of the {@code criticalPath} attribute
+   */
+  @JsonProperty("critical-path")
+  @Override
+  public ImmutableList<BuildTargetDurationListener.CriticalPathEntry> criticalPath() {
+    return criticalPath;
+  }
+
+  /**
+   * @return The value of the {@code criticalPathDuration} attribute
+   */
+  @JsonProperty("critical-path-duration")
+  @Override
+  public long criticalPathDuration() {
+    return criticalPathDuration;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildRuleCriticalPath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildRuleCriticalPath
+        && equalTo((ImmutableBuildRuleCriticalPath) another);
+  }
+
+  private boolean equalTo(ImmutableBuildRuleCriticalPath another) {
+    return targetName.equals(another.targetName)
+        && targetDuration == another.targetDuration
+        && criticalPath.equals(another.criticalPath)
+        && criticalPathDuration == another.criticalPathDuration;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetName}, {@code targetDuration}, {@code criticalPath}, {@code criticalPathDuration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetName.hashCode();
+    h += (h << 5) + Longs.hashCode(targetDuration);
+    h += (h << 5) + criticalPath.hashCode();
+    h += (h << 5) + Longs.hashCode(criticalPathDuration);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRuleCriticalPath} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleCriticalPath")
+        .omitNullValues()
+        .add("targetName", targetName)
+        .add("targetDuration", targetDuration)
+        .add("criticalPath", criticalPath)
+        .add("criticalPathDuration", criticalPathDuration)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "BuildTargetDurationListener.BuildRuleCriticalPath", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      implements BuildTargetDurationListener.BuildRuleCriticalPath {
+    @Nullable String targetName;
+    long targetDuration;
+    boolean targetDurationIsSet;
+    @Nullable ImmutableList<BuildTargetDurationListener.CriticalPathEntry> criticalPath = ImmutableList.of();
+    long criticalPathDuration;
+    boolean criticalPathDurationIsSet;
+    @JsonProperty("target-name")
+    public void setTargetName(String targetName) {
+      this.targetName = targetName;
+    }
+    @JsonProperty("target-duration")
+    public void setTargetDuration(long targetDuration) {
+      this.targetDuration = targetDuration;
+      this.targetDurationIsSet = true;
+    }
+    @JsonProperty("critical-path")
+    public void setCriticalPath(ImmutableList<BuildTargetDurationListener.CriticalPathEntry> criticalPath) {
+      this.criticalPath = criticalPath;
+    }
+    @JsonProperty("critical-path-duration")
+    public void setCriticalPathDuration(long criticalPathDuration) {
+      this.criticalPathDuration = criticalPathDuration;
+      this.criticalPathDurationIsSet = true;
+    }
+    @Override
+    public String targetName() { throw new UnsupportedOperationException(); }
+    @Override
+    public long targetDuration() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<BuildTargetDurationListener.CriticalPathEntry> criticalPath() { throw new UnsupportedOperationException(); }
+    @Override
+    public long criticalPathDuration() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableBuildRuleCriticalPath fromJson(Json json) {
+    ImmutableBuildRuleCriticalPath instance = ImmutableBuildRuleCriticalPath.of(json.targetName, json.targetDuration, json.criticalPath, json.criticalPathDuration);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleCriticalPath} instance.
+   * @param targetName The value for the {@code targetName} attribute
+   * @param targetDuration The value for the {@code targetDuration} attribute
+   * @param criticalPath The value for the {@code criticalPath} attribute
+   * @param criticalPathDuration The value for the {@code criticalPathDuration} attribute
+   * @return An immutable BuildRuleCriticalPath instance
+   */
+  public static ImmutableBuildRuleCriticalPath of(String targetName, long targetDuration, ImmutableList<BuildTargetDurationListener.CriticalPathEntry> criticalPath, long criticalPathDuration) {
+    return of(targetName, targetDuration, (Iterable<? extends BuildTargetDurationListener.CriticalPathEntry>) criticalPath, criticalPathDuration);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleCriticalPath} instance.
+   * @param targetName The value for the {@code targetName} attribute
+   * @param targetDuration The value for the {@code targetDuration} attribute
+   * @param criticalPath The value for the {@code criticalPath} attribute
+   * @param criticalPathDuration The value for the {@code criticalPathDuration} attribute
+   * @return An immutable BuildRuleCriticalPath instance
+   */
+  public static ImmutableBuildRuleCriticalPath of(String targetName, long targetDuration, Iterable<? extends BuildTargetDurationListener.CriticalPathEntry> criticalPath, long criticalPathDuration) {
+    return new ImmutableBuildRuleCriticalPath(targetName, targetDuration, criticalPath, criticalPathDuration);
+  }
+}
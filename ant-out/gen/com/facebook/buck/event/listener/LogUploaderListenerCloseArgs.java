@@ -0,0 +1,271 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Task arguments passed to {@link LogUploaderListenerCloseAction}. 
+ */
+@Generated(from = "LogUploaderListener.AbstractLogUploaderListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class LogUploaderListenerCloseArgs
+    extends LogUploaderListener.AbstractLogUploaderListenerCloseArgs {
+  private final URI traceUploadURI;
+  private final Path logDirectoryPath;
+  private final Path logFilePath;
+  private final BuildId buildId;
+
+  private LogUploaderListenerCloseArgs(
+      URI traceUploadURI,
+      Path logDirectoryPath,
+      Path logFilePath,
+      BuildId buildId) {
+    this.traceUploadURI = Objects.requireNonNull(traceUploadURI, "traceUploadURI");
+    this.logDirectoryPath = Objects.requireNonNull(logDirectoryPath, "logDirectoryPath");
+    this.logFilePath = Objects.requireNonNull(logFilePath, "logFilePath");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+  }
+
+  private LogUploaderListenerCloseArgs(LogUploaderListenerCloseArgs.Builder builder) {
+    this.traceUploadURI = builder.traceUploadURI;
+    this.logDirectoryPath = builder.logDirectoryPath;
+    this.logFilePath = builder.logFilePath;
+    this.buildId = builder.buildId;
+  }
+
+  /**
+   * @return The value of the {@code traceUploadURI} attribute
+   */
+  @Override
+  public URI getTraceUploadURI() {
+    return traceUploadURI;
+  }
+
+  /**
+   * @return The value of the {@code logDirectoryPath} attribute
+   */
+  @Override
+  public Path getLogDirectoryPath() {
+    return logDirectoryPath;
+  }
+
+  /**
+   * @return The value of the {@code logFilePath} attribute
+   */
+  @Override
+  public Path getLogFilePath() {
+    return logFilePath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LogUploaderListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LogUploaderListenerCloseArgs
+        && equalTo((LogUploaderListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(LogUploaderListenerCloseArgs another) {
+    return traceUploadURI.equals(another.traceUploadURI)
+        && logDirectoryPath.equals(another.logDirectoryPath)
+        && logFilePath.equals(another.logFilePath)
+        && buildId.equals(another.buildId);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code traceUploadURI}, {@code logDirectoryPath}, {@code logFilePath}, {@code buildId}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + traceUploadURI.hashCode();
+    h += (h << 5) + logDirectoryPath.hashCode();
+    h += (h << 5) + logFilePath.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LogUploaderListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LogUploaderListenerCloseArgs")
+        .omitNullValues()
+        .add("traceUploadURI", traceUploadURI)
+        .add("logDirectoryPath", logDirectoryPath)
+        .add("logFilePath", logFilePath)
+        .add("buildId", buildId)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LogUploaderListenerCloseArgs} instance.
+   * @param traceUploadURI The value for the {@code traceUploadURI} attribute
+   * @param logDirectoryPath The value for the {@code logDirectoryPath} attribute
+   * @param logFilePath The value for the {@code logFilePath} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @return An immutable LogUploaderListenerCloseArgs instance
+   */
+  public static LogUploaderListenerCloseArgs of(URI traceUploadURI, Path logDirectoryPath, Path logFilePath, BuildId buildId) {
+    return new LogUploaderListenerCloseArgs(traceUploadURI, logDirectoryPath, logFilePath, buildId);
+  }
+
+  /**
+   * Creates a builder for {@link LogUploaderListenerCloseArgs LogUploaderListenerCloseArgs}.
+   * @return A new LogUploaderListenerCloseArgs builder
+   */
+  public static LogUploaderListenerCloseArgs.Builder builder() {
+    return new LogUploaderListenerCloseArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LogUploaderListenerCloseArgs LogUploaderListenerCloseArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "LogUploaderListener.AbstractLogUploaderListenerCloseArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TRACE_UPLOAD_U_R_I = 0x1L;
+    private static final long INIT_BIT_LOG_DIRECTORY_PATH = 0x2L;
+    private static final long INIT_BIT_LOG_FILE_PATH = 0x4L;
+    private static final long INIT_BIT_BUILD_ID = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable URI traceUploadURI;
+    private @Nullable Path logDirectoryPath;
+    private @Nullable Path logFilePath;
+    private @Nullable BuildId buildId;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LogUploaderListenerCloseArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LogUploaderListenerCloseArgs instance) {
+      return from((LogUploaderListener.AbstractLogUploaderListenerCloseArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLogUploaderListenerCloseArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(LogUploaderListener.AbstractLogUploaderListenerCloseArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTraceUploadURI(instance.getTraceUploadURI());
+      setLogDirectoryPath(instance.getLogDirectoryPath());
+      setLogFilePath(instance.getLogFilePath());
+      setBuildId(instance.getBuildId());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link LogUploaderListenerCloseArgs#getTraceUploadURI() traceUploadURI} attribute.
+     * @param traceUploadURI The value for traceUploadURI 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTraceUploadURI(URI traceUploadURI) {
+      this.traceUploadURI = Objects.requireNonNull(traceUploadURI, "traceUploadURI");
+      initBits &= ~INIT_BIT_TRACE_UPLOAD_U_R_I;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link LogUploaderListenerCloseArgs#getLogDirectoryPath() logDirectoryPath} attribute.
+     * @param logDirectoryPath The value for logDirectoryPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogDirectoryPath(Path logDirectoryPath) {
+      this.logDirectoryPath = Objects.requireNonNull(logDirectoryPath, "logDirectoryPath");
+      initBits &= ~INIT_BIT_LOG_DIRECTORY_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link LogUploaderListenerCloseArgs#getLogFilePath() logFilePath} attribute.
+     * @param logFilePath The value for logFilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogFilePath(Path logFilePath) {
+      this.logFilePath = Objects.requireNonNull(logFilePath, "logFilePath");
+      initBits &= ~INIT_BIT_LOG_FILE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link LogUploaderListenerCloseArgs#getBuildId() buildId} attribute.
+     * @param buildId The value for buildId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Objects.requireNonNull(buildId, "buildId");
+      initBits &= ~INIT_BIT_BUILD_ID;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link LogUploaderListenerCloseArgs LogUploaderListenerCloseArgs}.
+     * @return An immutable instance of LogUploaderListenerCloseArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LogUploaderListenerCloseArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new LogUploaderListenerCloseArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TRACE_UPLOAD_U_R_I) != 0) attributes.add("traceUploadURI");
+      if ((initBits & INIT_BIT_LOG_DIRECTORY_PATH) != 0) attributes.add("logDirectoryPath");
+      if ((initBits & INIT_BIT_LOG_FILE_PATH) != 0) attributes.add("logFilePath");
+      if ((initBits & INIT_BIT_BUILD_ID) != 0) attributes.add("buildId");
+      return "Cannot build LogUploaderListenerCloseArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
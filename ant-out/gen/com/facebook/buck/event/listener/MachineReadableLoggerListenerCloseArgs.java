@@ -0,0 +1,172 @@
+package com.facebook.buck.event.listener;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Arguments to {@link MachineReadableLoggerListenerCloseAction}. 
+ */
+@Generated(from = "MachineReadableLoggerListener.AbstractMachineReadableLoggerListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class MachineReadableLoggerListenerCloseArgs
+    extends MachineReadableLoggerListener.AbstractMachineReadableLoggerListenerCloseArgs {
+  private final ExecutorService executor;
+
+  private MachineReadableLoggerListenerCloseArgs(ExecutorService executor) {
+    this.executor = Objects.requireNonNull(executor, "executor");
+  }
+
+  private MachineReadableLoggerListenerCloseArgs(MachineReadableLoggerListenerCloseArgs.Builder builder) {
+    this.executor = builder.executor;
+  }
+
+  /**
+   * @return The value of the {@code executor} attribute
+   */
+  @Override
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MachineReadableLoggerListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MachineReadableLoggerListenerCloseArgs
+        && equalTo((MachineReadableLoggerListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(MachineReadableLoggerListenerCloseArgs another) {
+    return executor.equals(another.executor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + executor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachineReadableLoggerListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachineReadableLoggerListenerCloseArgs")
+        .omitNullValues()
+        .add("executor", executor)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachineReadableLoggerListenerCloseArgs} instance.
+   * @param executor The value for the {@code executor} attribute
+   * @return An immutable MachineReadableLoggerListenerCloseArgs instance
+   */
+  public static MachineReadableLoggerListenerCloseArgs of(ExecutorService executor) {
+    return new MachineReadableLoggerListenerCloseArgs(executor);
+  }
+
+  /**
+   * Creates a builder for {@link MachineReadableLoggerListenerCloseArgs MachineReadableLoggerListenerCloseArgs}.
+   * @return A new MachineReadableLoggerListenerCloseArgs builder
+   */
+  public static MachineReadableLoggerListenerCloseArgs.Builder builder() {
+    return new MachineReadableLoggerListenerCloseArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MachineReadableLoggerListenerCloseArgs MachineReadableLoggerListenerCloseArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "MachineReadableLoggerListener.AbstractMachineReadableLoggerListenerCloseArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_EXECUTOR = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ExecutorService executor;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MachineReadableLoggerListenerCloseArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MachineReadableLoggerListenerCloseArgs instance) {
+      return from((MachineReadableLoggerListener.AbstractMachineReadableLoggerListenerCloseArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractMachineReadableLoggerListenerCloseArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(MachineReadableLoggerListener.AbstractMachineReadableLoggerListenerCloseArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setExecutor(instance.getExecutor());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link MachineReadableLoggerListenerCloseArgs#getExecutor() executor} attribute.
+     * @param executor The value for executor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutor(ExecutorService executor) {
+      this.executor = Objects.requireNonNull(executor, "executor");
+      initBits &= ~INIT_BIT_EXECUTOR;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link MachineReadableLoggerListenerCloseArgs MachineReadableLoggerListenerCloseArgs}.
+     * @return An immutable instance of MachineReadableLoggerListenerCloseArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MachineReadableLoggerListenerCloseArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new MachineReadableLoggerListenerCloseArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_EXECUTOR) != 0) attributes.add("executor");
+      return "Cannot build MachineReadableLoggerListenerCloseArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
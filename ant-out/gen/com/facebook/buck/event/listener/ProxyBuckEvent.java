@@ -0,0 +1,204 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.event.external.events.BuckEventExternalInterface;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Proxy events are used by the logging system when we need to slice a {@link
+ * com.facebook.buck.event.BuckEvent} in half in order to calculate time elapsed.
+ */
+@Generated(from = "AbstractProxyBuckEvent", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ProxyBuckEvent extends AbstractProxyBuckEvent {
+  private final long timestamp;
+
+  private ProxyBuckEvent(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  private ProxyBuckEvent(ProxyBuckEvent.Builder builder) {
+    this.timestamp = builder.timestamp;
+  }
+
+  /**
+   * @return The value of the {@code timestamp} attribute
+   */
+  @Override
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProxyBuckEvent} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProxyBuckEvent
+        && equalTo((ProxyBuckEvent) another);
+  }
+
+  private boolean equalTo(ProxyBuckEvent another) {
+    return timestamp == another.timestamp;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code timestamp}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(timestamp);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProxyBuckEvent} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProxyBuckEvent")
+        .omitNullValues()
+        .add("timestamp", timestamp)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProxyBuckEvent} instance.
+   * @param timestamp The value for the {@code timestamp} attribute
+   * @return An immutable ProxyBuckEvent instance
+   */
+  public static ProxyBuckEvent of(long timestamp) {
+    return new ProxyBuckEvent(timestamp);
+  }
+
+  /**
+   * Creates a builder for {@link ProxyBuckEvent ProxyBuckEvent}.
+   * @return A new ProxyBuckEvent builder
+   */
+  public static ProxyBuckEvent.Builder builder() {
+    return new ProxyBuckEvent.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProxyBuckEvent ProxyBuckEvent}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractProxyBuckEvent", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TIMESTAMP = 0x1L;
+    private long initBits = 0x1L;
+
+    private long timestamp;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProxyBuckEvent} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ProxyBuckEvent instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProxyBuckEvent} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractProxyBuckEvent instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.event.external.events.BuckEventExternalInterface} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuckEventExternalInterface instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof AbstractProxyBuckEvent) {
+        AbstractProxyBuckEvent instance = (AbstractProxyBuckEvent) object;
+        if ((bits & 0x1L) == 0) {
+          setTimestamp(instance.getTimestamp());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof BuckEventExternalInterface) {
+        BuckEventExternalInterface instance = (BuckEventExternalInterface) object;
+        if ((bits & 0x1L) == 0) {
+          setTimestamp(instance.getTimestamp());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link ProxyBuckEvent#getTimestamp() timestamp} attribute.
+     * @param timestamp The value for timestamp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTimestamp(long timestamp) {
+      this.timestamp = timestamp;
+      initBits &= ~INIT_BIT_TIMESTAMP;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ProxyBuckEvent ProxyBuckEvent}.
+     * @return An immutable instance of ProxyBuckEvent
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProxyBuckEvent build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProxyBuckEvent(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TIMESTAMP) != 0) attributes.add("timestamp");
+      return "Cannot build ProxyBuckEvent, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.facebook.buck.event.listener;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Arguments to {@link RuleKeyDiagnosticsListenerCloseAction}. 
+ */
+@Generated(from = "RuleKeyDiagnosticsListener.AbstractRuleKeyDiagnosticsListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class RuleKeyDiagnosticsListenerCloseArgs
+    extends RuleKeyDiagnosticsListener.AbstractRuleKeyDiagnosticsListenerCloseArgs {
+  private final ExecutorService outputExecutor;
+
+  private RuleKeyDiagnosticsListenerCloseArgs(ExecutorService outputExecutor) {
+    this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+  }
+
+  private RuleKeyDiagnosticsListenerCloseArgs(RuleKeyDiagnosticsListenerCloseArgs.Builder builder) {
+    this.outputExecutor = builder.outputExecutor;
+  }
+
+  /**
+   * @return The value of the {@code outputExecutor} attribute
+   */
+  @Override
+  public ExecutorService getOutputExecutor() {
+    return outputExecutor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyDiagnosticsListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyDiagnosticsListenerCloseArgs
+        && equalTo((RuleKeyDiagnosticsListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(RuleKeyDiagnosticsListenerCloseArgs another) {
+    return outputExecutor.equals(another.outputExecutor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputExecutor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputExecutor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyDiagnosticsListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyDiagnosticsListenerCloseArgs")
+        .omitNullValues()
+        .add("outputExecutor", outputExecutor)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyDiagnosticsListenerCloseArgs} instance.
+   * @param outputExecutor The value for the {@code outputExecutor} attribute
+   * @return An immutable RuleKeyDiagnosticsListenerCloseArgs instance
+   */
+  public static RuleKeyDiagnosticsListenerCloseArgs of(ExecutorService outputExecutor) {
+    return new RuleKeyDiagnosticsListenerCloseArgs(outputExecutor);
+  }
+
+  /**
+   * Creates a builder for {@link RuleKeyDiagnosticsListenerCloseArgs RuleKeyDiagnosticsListenerCloseArgs}.
+   * @return A new RuleKeyDiagnosticsListenerCloseArgs builder
+   */
+  public static RuleKeyDiagnosticsListenerCloseArgs.Builder builder() {
+    return new RuleKeyDiagnosticsListenerCloseArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RuleKeyDiagnosticsListenerCloseArgs RuleKeyDiagnosticsListenerCloseArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "RuleKeyDiagnosticsListener.AbstractRuleKeyDiagnosticsListenerCloseArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_OUTPUT_EXECUTOR = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ExecutorService outputExecutor;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RuleKeyDiagnosticsListenerCloseArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RuleKeyDiagnosticsListenerCloseArgs instance) {
+      return from((RuleKeyDiagnosticsListener.AbstractRuleKeyDiagnosticsListenerCloseArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRuleKeyDiagnosticsListenerCloseArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(RuleKeyDiagnosticsListener.AbstractRuleKeyDiagnosticsListenerCloseArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setOutputExecutor(instance.getOutputExecutor());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyDiagnosticsListenerCloseArgs#getOutputExecutor() outputExecutor} attribute.
+     * @param outputExecutor The value for outputExecutor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputExecutor(ExecutorService outputExecutor) {
+      this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+      initBits &= ~INIT_BIT_OUTPUT_EXECUTOR;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RuleKeyDiagnosticsListenerCloseArgs RuleKeyDiagnosticsListenerCloseArgs}.
+     * @return An immutable instance of RuleKeyDiagnosticsListenerCloseArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RuleKeyDiagnosticsListenerCloseArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RuleKeyDiagnosticsListenerCloseArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_OUTPUT_EXECUTOR) != 0) attributes.add("outputExecutor");
+      return "Cannot build RuleKeyDiagnosticsListenerCloseArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
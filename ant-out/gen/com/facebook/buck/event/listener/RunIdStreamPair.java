@@ -0,0 +1,206 @@
+package com.facebook.buck.event.listener;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractRunIdStreamPair}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RunIdStreamPair.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code RunIdStreamPair.of()}.
+ */
+@Generated(from = "AbstractRunIdStreamPair", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class RunIdStreamPair extends AbstractRunIdStreamPair {
+  private final String runId;
+  private final String stream;
+
+  private RunIdStreamPair(String runId, String stream) {
+    this.runId = Objects.requireNonNull(runId, "runId");
+    this.stream = Objects.requireNonNull(stream, "stream");
+  }
+
+  private RunIdStreamPair(RunIdStreamPair.Builder builder) {
+    this.runId = builder.runId;
+    this.stream = builder.stream;
+  }
+
+  /**
+   * @return The value of the {@code runId} attribute
+   */
+  @Override
+  public String getRunId() {
+    return runId;
+  }
+
+  /**
+   * @return The value of the {@code stream} attribute
+   */
+  @Override
+  public String getStream() {
+    return stream;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RunIdStreamPair} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RunIdStreamPair
+        && equalTo((RunIdStreamPair) another);
+  }
+
+  private boolean equalTo(RunIdStreamPair another) {
+    return runId.equals(another.runId)
+        && stream.equals(another.stream);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code runId}, {@code stream}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + runId.hashCode();
+    h += (h << 5) + stream.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RunIdStreamPair} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RunIdStreamPair")
+        .omitNullValues()
+        .add("runId", runId)
+        .add("stream", stream)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RunIdStreamPair} instance.
+   * @param runId The value for the {@code runId} attribute
+   * @param stream The value for the {@code stream} attribute
+   * @return An immutable RunIdStreamPair instance
+   */
+  public static RunIdStreamPair of(String runId, String stream) {
+    return new RunIdStreamPair(runId, stream);
+  }
+
+  /**
+   * Creates a builder for {@link RunIdStreamPair RunIdStreamPair}.
+   * @return A new RunIdStreamPair builder
+   */
+  public static RunIdStreamPair.Builder builder() {
+    return new RunIdStreamPair.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RunIdStreamPair RunIdStreamPair}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractRunIdStreamPair", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RUN_ID = 0x1L;
+    private static final long INIT_BIT_STREAM = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String runId;
+    private @Nullable String stream;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RunIdStreamPair} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RunIdStreamPair instance) {
+      return from((AbstractRunIdStreamPair) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRunIdStreamPair} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractRunIdStreamPair instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRunId(instance.getRunId());
+      setStream(instance.getStream());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RunIdStreamPair#getRunId() runId} attribute.
+     * @param runId The value for runId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRunId(String runId) {
+      this.runId = Objects.requireNonNull(runId, "runId");
+      initBits &= ~INIT_BIT_RUN_ID;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RunIdStreamPair#getStream() stream} attribute.
+     * @param stream The value for stream 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStream(String stream) {
+      this.stream = Objects.requireNonNull(stream, "stream");
+      initBits &= ~INIT_BIT_STREAM;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RunIdStreamPair RunIdStreamPair}.
+     * @return An immutable instance of RunIdStreamPair
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RunIdStreamPair build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RunIdStreamPair(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_RUN_ID) != 0) attributes.add("runId");
+      if ((initBits & INIT_BIT_STREAM) != 0) attributes.add("stream");
+      return "Cannot build RunIdStreamPair, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.io.watchman;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractWatchmanOverflowEvent}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WatchmanOverflowEvent.of()}.
+ */
+@Generated(from = "AbstractWatchmanOverflowEvent", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class WatchmanOverflowEvent extends AbstractWatchmanOverflowEvent {
+  private final Path cellPath;
+  private final String reason;
+
+  private WatchmanOverflowEvent(Path cellPath, String reason) {
+    this.cellPath = Objects.requireNonNull(cellPath, "cellPath");
+    this.reason = Objects.requireNonNull(reason, "reason");
+  }
+
+  /**
+   * @return The value of the {@code cellPath} attribute
+   */
+  @Override
+  public Path getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * @return The value of the {@code reason} attribute
+   */
+  @Override
+  public String getReason() {
+    return reason;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WatchmanOverflowEvent} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WatchmanOverflowEvent
+        && equalTo((WatchmanOverflowEvent) another);
+  }
+
+  private boolean equalTo(WatchmanOverflowEvent another) {
+    return cellPath.equals(another.cellPath)
+        && reason.equals(another.reason);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellPath}, {@code reason}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellPath.hashCode();
+    h += (h << 5) + reason.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WatchmanOverflowEvent} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WatchmanOverflowEvent")
+        .omitNullValues()
+        .add("cellPath", cellPath)
+        .add("reason", reason)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanOverflowEvent} instance.
+   * @param cellPath The value for the {@code cellPath} attribute
+   * @param reason The value for the {@code reason} attribute
+   * @return An immutable WatchmanOverflowEvent instance
+   */
+  public static WatchmanOverflowEvent of(Path cellPath, String reason) {
+    return new WatchmanOverflowEvent(cellPath, reason);
+  }
+}
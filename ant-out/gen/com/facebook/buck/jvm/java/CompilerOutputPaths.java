@@ -0,0 +1,355 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Provides access to the various output paths for a java library. 
+ */
+@Generated(from = "AbstractCompilerOutputPaths", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CompilerOutputPaths extends AbstractCompilerOutputPaths {
+  private final Path classesDir;
+  private final Path outputJarDirPath;
+  private final @Nullable Path abiJarPath;
+  private final Path annotationPath;
+  private final Path pathToSourcesList;
+  private final Path workingDirectory;
+  private final @Nullable Path outputJarPath;
+
+  private CompilerOutputPaths(CompilerOutputPaths.Builder builder) {
+    this.classesDir = builder.classesDir;
+    this.outputJarDirPath = builder.outputJarDirPath;
+    this.abiJarPath = builder.abiJarPath;
+    this.annotationPath = builder.annotationPath;
+    this.pathToSourcesList = builder.pathToSourcesList;
+    this.workingDirectory = builder.workingDirectory;
+    this.outputJarPath = builder.outputJarPath;
+  }
+
+  /**
+   * @return The value of the {@code classesDir} attribute
+   */
+  @Override
+  public Path getClassesDir() {
+    return classesDir;
+  }
+
+  /**
+   * @return The value of the {@code outputJarDirPath} attribute
+   */
+  @Override
+  public Path getOutputJarDirPath() {
+    return outputJarDirPath;
+  }
+
+  /**
+   * @return The value of the {@code abiJarPath} attribute
+   */
+  @Override
+  public Optional<Path> getAbiJarPath() {
+    return Optional.ofNullable(abiJarPath);
+  }
+
+  /**
+   * @return The value of the {@code annotationPath} attribute
+   */
+  @Override
+  public Path getAnnotationPath() {
+    return annotationPath;
+  }
+
+  /**
+   * @return The value of the {@code pathToSourcesList} attribute
+   */
+  @Override
+  public Path getPathToSourcesList() {
+    return pathToSourcesList;
+  }
+
+  /**
+   * @return The value of the {@code workingDirectory} attribute
+   */
+  @Override
+  public Path getWorkingDirectory() {
+    return workingDirectory;
+  }
+
+  /**
+   * @return The value of the {@code outputJarPath} attribute
+   */
+  @Override
+  public Optional<Path> getOutputJarPath() {
+    return Optional.ofNullable(outputJarPath);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CompilerOutputPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CompilerOutputPaths
+        && equalTo((CompilerOutputPaths) another);
+  }
+
+  private boolean equalTo(CompilerOutputPaths another) {
+    return classesDir.equals(another.classesDir)
+        && outputJarDirPath.equals(another.outputJarDirPath)
+        && Objects.equals(abiJarPath, another.abiJarPath)
+        && annotationPath.equals(another.annotationPath)
+        && pathToSourcesList.equals(another.pathToSourcesList)
+        && workingDirectory.equals(another.workingDirectory)
+        && Objects.equals(outputJarPath, another.outputJarPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code classesDir}, {@code outputJarDirPath}, {@code abiJarPath}, {@code annotationPath}, {@code pathToSourcesList}, {@code workingDirectory}, {@code outputJarPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + classesDir.hashCode();
+    h += (h << 5) + outputJarDirPath.hashCode();
+    h += (h << 5) + Objects.hashCode(abiJarPath);
+    h += (h << 5) + annotationPath.hashCode();
+    h += (h << 5) + pathToSourcesList.hashCode();
+    h += (h << 5) + workingDirectory.hashCode();
+    h += (h << 5) + Objects.hashCode(outputJarPath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CompilerOutputPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CompilerOutputPaths")
+        .omitNullValues()
+        .add("classesDir", classesDir)
+        .add("outputJarDirPath", outputJarDirPath)
+        .add("abiJarPath", abiJarPath)
+        .add("annotationPath", annotationPath)
+        .add("pathToSourcesList", pathToSourcesList)
+        .add("workingDirectory", workingDirectory)
+        .add("outputJarPath", outputJarPath)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CompilerOutputPaths CompilerOutputPaths}.
+   * @return A new CompilerOutputPaths builder
+   */
+  public static CompilerOutputPaths.Builder builder() {
+    return new CompilerOutputPaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CompilerOutputPaths CompilerOutputPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractCompilerOutputPaths", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CLASSES_DIR = 0x1L;
+    private static final long INIT_BIT_OUTPUT_JAR_DIR_PATH = 0x2L;
+    private static final long INIT_BIT_ANNOTATION_PATH = 0x4L;
+    private static final long INIT_BIT_PATH_TO_SOURCES_LIST = 0x8L;
+    private static final long INIT_BIT_WORKING_DIRECTORY = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable Path classesDir;
+    private @Nullable Path outputJarDirPath;
+    private @Nullable Path abiJarPath;
+    private @Nullable Path annotationPath;
+    private @Nullable Path pathToSourcesList;
+    private @Nullable Path workingDirectory;
+    private @Nullable Path outputJarPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CompilerOutputPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CompilerOutputPaths instance) {
+      return from((AbstractCompilerOutputPaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCompilerOutputPaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCompilerOutputPaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setClassesDir(instance.getClassesDir());
+      setOutputJarDirPath(instance.getOutputJarDirPath());
+      Optional<Path> abiJarPathOptional = instance.getAbiJarPath();
+      if (abiJarPathOptional.isPresent()) {
+        setAbiJarPath(abiJarPathOptional);
+      }
+      setAnnotationPath(instance.getAnnotationPath());
+      setPathToSourcesList(instance.getPathToSourcesList());
+      setWorkingDirectory(instance.getWorkingDirectory());
+      Optional<Path> outputJarPathOptional = instance.getOutputJarPath();
+      if (outputJarPathOptional.isPresent()) {
+        setOutputJarPath(outputJarPathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CompilerOutputPaths#getClassesDir() classesDir} attribute.
+     * @param classesDir The value for classesDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClassesDir(Path classesDir) {
+      this.classesDir = Objects.requireNonNull(classesDir, "classesDir");
+      initBits &= ~INIT_BIT_CLASSES_DIR;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CompilerOutputPaths#getOutputJarDirPath() outputJarDirPath} attribute.
+     * @param outputJarDirPath The value for outputJarDirPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputJarDirPath(Path outputJarDirPath) {
+      this.outputJarDirPath = Objects.requireNonNull(outputJarDirPath, "outputJarDirPath");
+      initBits &= ~INIT_BIT_OUTPUT_JAR_DIR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CompilerOutputPaths#getAbiJarPath() abiJarPath} to abiJarPath.
+     * @param abiJarPath The value for abiJarPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiJarPath(Path abiJarPath) {
+      this.abiJarPath = Objects.requireNonNull(abiJarPath, "abiJarPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CompilerOutputPaths#getAbiJarPath() abiJarPath} to abiJarPath.
+     * @param abiJarPath The value for abiJarPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiJarPath(Optional<? extends Path> abiJarPath) {
+      this.abiJarPath = abiJarPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CompilerOutputPaths#getAnnotationPath() annotationPath} attribute.
+     * @param annotationPath The value for annotationPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationPath(Path annotationPath) {
+      this.annotationPath = Objects.requireNonNull(annotationPath, "annotationPath");
+      initBits &= ~INIT_BIT_ANNOTATION_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CompilerOutputPaths#getPathToSourcesList() pathToSourcesList} attribute.
+     * @param pathToSourcesList The value for pathToSourcesList 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathToSourcesList(Path pathToSourcesList) {
+      this.pathToSourcesList = Objects.requireNonNull(pathToSourcesList, "pathToSourcesList");
+      initBits &= ~INIT_BIT_PATH_TO_SOURCES_LIST;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CompilerOutputPaths#getWorkingDirectory() workingDirectory} attribute.
+     * @param workingDirectory The value for workingDirectory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWorkingDirectory(Path workingDirectory) {
+      this.workingDirectory = Objects.requireNonNull(workingDirectory, "workingDirectory");
+      initBits &= ~INIT_BIT_WORKING_DIRECTORY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CompilerOutputPaths#getOutputJarPath() outputJarPath} to outputJarPath.
+     * @param outputJarPath The value for outputJarPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputJarPath(Path outputJarPath) {
+      this.outputJarPath = Objects.requireNonNull(outputJarPath, "outputJarPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CompilerOutputPaths#getOutputJarPath() outputJarPath} to outputJarPath.
+     * @param outputJarPath The value for outputJarPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputJarPath(Optional<? extends Path> outputJarPath) {
+      this.outputJarPath = outputJarPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CompilerOutputPaths CompilerOutputPaths}.
+     * @return An immutable instance of CompilerOutputPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CompilerOutputPaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CompilerOutputPaths(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CLASSES_DIR) != 0) attributes.add("classesDir");
+      if ((initBits & INIT_BIT_OUTPUT_JAR_DIR_PATH) != 0) attributes.add("outputJarDirPath");
+      if ((initBits & INIT_BIT_ANNOTATION_PATH) != 0) attributes.add("annotationPath");
+      if ((initBits & INIT_BIT_PATH_TO_SOURCES_LIST) != 0) attributes.add("pathToSourcesList");
+      if ((initBits & INIT_BIT_WORKING_DIRECTORY) != 0) attributes.add("workingDirectory");
+      return "Cannot build CompilerOutputPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,591 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.BuildRuleParams;
+import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDefaultJavaLibraryClasspaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DefaultJavaLibraryClasspaths.builder()}.
+ */
+@Generated(from = "AbstractDefaultJavaLibraryClasspaths", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DefaultJavaLibraryClasspaths
+    extends AbstractDefaultJavaLibraryClasspaths {
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final BuildRuleParams buildRuleParams;
+  private final JavaLibraryDeps deps;
+  private final CompileAgainstLibraryType compileAgainstLibraryType;
+  private final boolean shouldCreateSourceOnlyAbi;
+
+  private DefaultJavaLibraryClasspaths(DefaultJavaLibraryClasspaths.Builder builder) {
+    this.actionGraphBuilder = builder.actionGraphBuilder;
+    this.buildRuleParams = builder.buildRuleParams;
+    this.deps = builder.deps;
+    if (builder.compileAgainstLibraryType != null) {
+      initShim.setCompileAgainstLibraryType(builder.compileAgainstLibraryType);
+    }
+    if (builder.shouldCreateSourceOnlyAbiIsSet()) {
+      initShim.setShouldCreateSourceOnlyAbi(builder.shouldCreateSourceOnlyAbi);
+    }
+    this.compileAgainstLibraryType = initShim.getCompileAgainstLibraryType();
+    this.shouldCreateSourceOnlyAbi = initShim.shouldCreateSourceOnlyAbi();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractDefaultJavaLibraryClasspaths", generator = "Immutables")
+  private final class InitShim {
+    private byte compileAgainstLibraryTypeBuildStage = STAGE_UNINITIALIZED;
+    private CompileAgainstLibraryType compileAgainstLibraryType;
+
+    CompileAgainstLibraryType getCompileAgainstLibraryType() {
+      if (compileAgainstLibraryTypeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (compileAgainstLibraryTypeBuildStage == STAGE_UNINITIALIZED) {
+        compileAgainstLibraryTypeBuildStage = STAGE_INITIALIZING;
+        this.compileAgainstLibraryType = Objects.requireNonNull(DefaultJavaLibraryClasspaths.super.getCompileAgainstLibraryType(), "compileAgainstLibraryType");
+        compileAgainstLibraryTypeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.compileAgainstLibraryType;
+    }
+
+    void setCompileAgainstLibraryType(CompileAgainstLibraryType compileAgainstLibraryType) {
+      this.compileAgainstLibraryType = compileAgainstLibraryType;
+      compileAgainstLibraryTypeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte shouldCreateSourceOnlyAbiBuildStage = STAGE_UNINITIALIZED;
+    private boolean shouldCreateSourceOnlyAbi;
+
+    boolean shouldCreateSourceOnlyAbi() {
+      if (shouldCreateSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldCreateSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        shouldCreateSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.shouldCreateSourceOnlyAbi = DefaultJavaLibraryClasspaths.super.shouldCreateSourceOnlyAbi();
+        shouldCreateSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldCreateSourceOnlyAbi;
+    }
+
+    void setShouldCreateSourceOnlyAbi(boolean shouldCreateSourceOnlyAbi) {
+      this.shouldCreateSourceOnlyAbi = shouldCreateSourceOnlyAbi;
+      shouldCreateSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (compileAgainstLibraryTypeBuildStage == STAGE_INITIALIZING) attributes.add("compileAgainstLibraryType");
+      if (shouldCreateSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("shouldCreateSourceOnlyAbi");
+      return "Cannot build DefaultJavaLibraryClasspaths, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  public ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code buildRuleParams} attribute
+   */
+  @Override
+  public BuildRuleParams getBuildRuleParams() {
+    return buildRuleParams;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public JavaLibraryDeps getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code compileAgainstLibraryType} attribute
+   */
+  @Override
+  public CompileAgainstLibraryType getCompileAgainstLibraryType() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCompileAgainstLibraryType()
+        : this.compileAgainstLibraryType;
+  }
+
+  /**
+   * @return The value of the {@code shouldCreateSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean shouldCreateSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldCreateSourceOnlyAbi()
+        : this.shouldCreateSourceOnlyAbi;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DefaultJavaLibraryClasspaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DefaultJavaLibraryClasspaths
+        && equalTo((DefaultJavaLibraryClasspaths) another);
+  }
+
+  private boolean equalTo(DefaultJavaLibraryClasspaths another) {
+    return actionGraphBuilder.equals(another.actionGraphBuilder)
+        && buildRuleParams.equals(another.buildRuleParams)
+        && deps.equals(another.deps)
+        && compileAgainstLibraryType.equals(another.compileAgainstLibraryType)
+        && shouldCreateSourceOnlyAbi == another.shouldCreateSourceOnlyAbi;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code actionGraphBuilder}, {@code buildRuleParams}, {@code deps}, {@code compileAgainstLibraryType}, {@code shouldCreateSourceOnlyAbi}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + buildRuleParams.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + compileAgainstLibraryType.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldCreateSourceOnlyAbi);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultJavaLibraryClasspaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultJavaLibraryClasspaths")
+        .omitNullValues()
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("buildRuleParams", buildRuleParams)
+        .add("deps", deps)
+        .add("compileAgainstLibraryType", compileAgainstLibraryType)
+        .add("shouldCreateSourceOnlyAbi", shouldCreateSourceOnlyAbi)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient SourcePathRuleFinder sourcePathRuleFinder;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getSourcePathRuleFinder() sourcePathRuleFinder} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sourcePathRuleFinder} attribute
+   */
+  @Override
+  public SourcePathRuleFinder getSourcePathRuleFinder() {
+    if ((lazyInitBitmap & SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT) == 0) {
+          this.sourcePathRuleFinder = Objects.requireNonNull(super.getSourcePathRuleFinder(), "sourcePathRuleFinder");
+          lazyInitBitmap |= SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourcePathRuleFinder;
+  }
+
+  private static final long FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> firstOrderPackageableDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getFirstOrderPackageableDeps() firstOrderPackageableDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code firstOrderPackageableDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getFirstOrderPackageableDeps() {
+    if ((lazyInitBitmap & FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT) == 0) {
+          this.firstOrderPackageableDeps = Objects.requireNonNull(super.getFirstOrderPackageableDeps(), "firstOrderPackageableDeps");
+          lazyInitBitmap |= FIRST_ORDER_PACKAGEABLE_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return firstOrderPackageableDeps;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<SourcePath> compileTimeClasspathSourcePaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getCompileTimeClasspathSourcePaths() compileTimeClasspathSourcePaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code compileTimeClasspathSourcePaths} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getCompileTimeClasspathSourcePaths() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathSourcePaths = Objects.requireNonNull(super.getCompileTimeClasspathSourcePaths(), "compileTimeClasspathSourcePaths");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_SOURCE_PATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathSourcePaths;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> compileTimeClasspathFullDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getCompileTimeClasspathFullDeps() compileTimeClasspathFullDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code compileTimeClasspathFullDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getCompileTimeClasspathFullDeps() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathFullDeps = Objects.requireNonNull(super.getCompileTimeClasspathFullDeps(), "compileTimeClasspathFullDeps");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_FULL_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathFullDeps;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> compileTimeClasspathAbiDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getCompileTimeClasspathAbiDeps() compileTimeClasspathAbiDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code compileTimeClasspathAbiDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getCompileTimeClasspathAbiDeps() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathAbiDeps = Objects.requireNonNull(super.getCompileTimeClasspathAbiDeps(), "compileTimeClasspathAbiDeps");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_ABI_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathAbiDeps;
+  }
+
+  private static final long COMPILE_TIME_FIRST_ORDER_DEPS_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient Iterable<BuildRule> compileTimeFirstOrderDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getCompileTimeFirstOrderDeps() compileTimeFirstOrderDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code compileTimeFirstOrderDeps} attribute
+   */
+  @Override
+  public Iterable<BuildRule> getCompileTimeFirstOrderDeps() {
+    if ((lazyInitBitmap & COMPILE_TIME_FIRST_ORDER_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_FIRST_ORDER_DEPS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeFirstOrderDeps = Objects.requireNonNull(super.getCompileTimeFirstOrderDeps(), "compileTimeFirstOrderDeps");
+          lazyInitBitmap |= COMPILE_TIME_FIRST_ORDER_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeFirstOrderDeps;
+  }
+
+  private static final long COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSet<BuildRule> compileTimeClasspathUnfilteredFullDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getCompileTimeClasspathUnfilteredFullDeps() compileTimeClasspathUnfilteredFullDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code compileTimeClasspathUnfilteredFullDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildRule> getCompileTimeClasspathUnfilteredFullDeps() {
+    if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT) == 0) {
+          this.compileTimeClasspathUnfilteredFullDeps = Objects.requireNonNull(super.getCompileTimeClasspathUnfilteredFullDeps(), "compileTimeClasspathUnfilteredFullDeps");
+          lazyInitBitmap |= COMPILE_TIME_CLASSPATH_UNFILTERED_FULL_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileTimeClasspathUnfilteredFullDeps;
+  }
+
+  private static final long SOURCE_ONLY_ABI_CLASSPATHS_LAZY_INIT_BIT = 0x80L;
+
+  @SuppressWarnings("Immutable")
+  private transient DefaultJavaLibraryClasspaths sourceOnlyAbiClasspaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getSourceOnlyAbiClasspaths() sourceOnlyAbiClasspaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sourceOnlyAbiClasspaths} attribute
+   */
+  @Override
+  public DefaultJavaLibraryClasspaths getSourceOnlyAbiClasspaths() {
+    if ((lazyInitBitmap & SOURCE_ONLY_ABI_CLASSPATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_ONLY_ABI_CLASSPATHS_LAZY_INIT_BIT) == 0) {
+          this.sourceOnlyAbiClasspaths = Objects.requireNonNull(super.getSourceOnlyAbiClasspaths(), "sourceOnlyAbiClasspaths");
+          lazyInitBitmap |= SOURCE_ONLY_ABI_CLASSPATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourceOnlyAbiClasspaths;
+  }
+
+  private static final long DEPENDENCY_INFOS_LAZY_INIT_BIT = 0x100L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<JarBuildStepsFactory.JavaDependencyInfo> dependencyInfos;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryClasspaths#getDependencyInfos() dependencyInfos} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code dependencyInfos} attribute
+   */
+  @Override
+  public ImmutableList<JarBuildStepsFactory.JavaDependencyInfo> getDependencyInfos() {
+    if ((lazyInitBitmap & DEPENDENCY_INFOS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEPENDENCY_INFOS_LAZY_INIT_BIT) == 0) {
+          this.dependencyInfos = Objects.requireNonNull(super.getDependencyInfos(), "dependencyInfos");
+          lazyInitBitmap |= DEPENDENCY_INFOS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return dependencyInfos;
+  }
+
+  /**
+   * Creates a builder for {@link DefaultJavaLibraryClasspaths DefaultJavaLibraryClasspaths}.
+   * @param actionGraphBuilder {@code actionGraphBuilder} parameter
+   * @return A new DefaultJavaLibraryClasspaths builder
+   */
+  public static DefaultJavaLibraryClasspaths.Builder builder(ActionGraphBuilder actionGraphBuilder) {
+    return new DefaultJavaLibraryClasspaths.Builder(actionGraphBuilder);
+  }
+
+  static DefaultJavaLibraryClasspaths.Builder builder() {
+    return new DefaultJavaLibraryClasspaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DefaultJavaLibraryClasspaths DefaultJavaLibraryClasspaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractDefaultJavaLibraryClasspaths", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ACTION_GRAPH_BUILDER = 0x1L;
+    private static final long INIT_BIT_BUILD_RULE_PARAMS = 0x2L;
+    private static final long INIT_BIT_DEPS = 0x4L;
+    private static final long OPT_BIT_SHOULD_CREATE_SOURCE_ONLY_ABI = 0x1L;
+    private long initBits = 0x7L;
+    private long optBits;
+
+    private @Nullable ActionGraphBuilder actionGraphBuilder;
+    private @Nullable BuildRuleParams buildRuleParams;
+    private @Nullable JavaLibraryDeps deps;
+    private @Nullable CompileAgainstLibraryType compileAgainstLibraryType;
+    private boolean shouldCreateSourceOnlyAbi;
+
+    private Builder(ActionGraphBuilder actionGraphBuilder) {
+      setActionGraphBuilder(actionGraphBuilder);
+    }
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DefaultJavaLibraryClasspaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DefaultJavaLibraryClasspaths instance) {
+      return from((AbstractDefaultJavaLibraryClasspaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDefaultJavaLibraryClasspaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDefaultJavaLibraryClasspaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setActionGraphBuilder(instance.getActionGraphBuilder());
+      setBuildRuleParams(instance.getBuildRuleParams());
+      setDeps(instance.getDeps());
+      setCompileAgainstLibraryType(instance.getCompileAgainstLibraryType());
+      setShouldCreateSourceOnlyAbi(instance.shouldCreateSourceOnlyAbi());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryClasspaths#getActionGraphBuilder() actionGraphBuilder} attribute.
+     * @param actionGraphBuilder The value for actionGraphBuilder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder setActionGraphBuilder(ActionGraphBuilder actionGraphBuilder) {
+      this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_BUILDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryClasspaths#getBuildRuleParams() buildRuleParams} attribute.
+     * @param buildRuleParams The value for buildRuleParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildRuleParams(BuildRuleParams buildRuleParams) {
+      this.buildRuleParams = Objects.requireNonNull(buildRuleParams, "buildRuleParams");
+      initBits &= ~INIT_BIT_BUILD_RULE_PARAMS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryClasspaths#getDeps() deps} attribute.
+     * @param deps The value for deps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(JavaLibraryDeps deps) {
+      this.deps = Objects.requireNonNull(deps, "deps");
+      initBits &= ~INIT_BIT_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryClasspaths#getCompileAgainstLibraryType() compileAgainstLibraryType} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryClasspaths#getCompileAgainstLibraryType() compileAgainstLibraryType}.</em>
+     * @param compileAgainstLibraryType The value for compileAgainstLibraryType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompileAgainstLibraryType(CompileAgainstLibraryType compileAgainstLibraryType) {
+      this.compileAgainstLibraryType = Objects.requireNonNull(compileAgainstLibraryType, "compileAgainstLibraryType");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryClasspaths#shouldCreateSourceOnlyAbi() shouldCreateSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryClasspaths#shouldCreateSourceOnlyAbi() shouldCreateSourceOnlyAbi}.</em>
+     * @param shouldCreateSourceOnlyAbi The value for shouldCreateSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldCreateSourceOnlyAbi(boolean shouldCreateSourceOnlyAbi) {
+      this.shouldCreateSourceOnlyAbi = shouldCreateSourceOnlyAbi;
+      optBits |= OPT_BIT_SHOULD_CREATE_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DefaultJavaLibraryClasspaths DefaultJavaLibraryClasspaths}.
+     * @return An immutable instance of DefaultJavaLibraryClasspaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefaultJavaLibraryClasspaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DefaultJavaLibraryClasspaths(this);
+    }
+
+    private boolean shouldCreateSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_SHOULD_CREATE_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_ACTION_GRAPH_BUILDER) != 0) attributes.add("actionGraphBuilder");
+      if ((initBits & INIT_BIT_BUILD_RULE_PARAMS) != 0) attributes.add("buildRuleParams");
+      if ((initBits & INIT_BIT_DEPS) != 0) attributes.add("deps");
+      return "Cannot build DefaultJavaLibraryClasspaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
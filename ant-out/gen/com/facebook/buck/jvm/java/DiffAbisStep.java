@@ -0,0 +1,178 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDiffAbisStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DiffAbisStep.of()}.
+ */
+@Generated(from = "AbstractDiffAbisStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DiffAbisStep extends AbstractDiffAbisStep {
+  private final Path classAbiPath;
+  private final Path sourceAbiPath;
+  private final JavaBuckConfig.SourceAbiVerificationMode verificationMode;
+
+  private DiffAbisStep(
+      Path classAbiPath,
+      Path sourceAbiPath,
+      JavaBuckConfig.SourceAbiVerificationMode verificationMode) {
+    this.classAbiPath = Objects.requireNonNull(classAbiPath, "classAbiPath");
+    this.sourceAbiPath = Objects.requireNonNull(sourceAbiPath, "sourceAbiPath");
+    this.verificationMode = Objects.requireNonNull(verificationMode, "verificationMode");
+  }
+
+  private DiffAbisStep(
+      DiffAbisStep original,
+      Path classAbiPath,
+      Path sourceAbiPath,
+      JavaBuckConfig.SourceAbiVerificationMode verificationMode) {
+    this.classAbiPath = classAbiPath;
+    this.sourceAbiPath = sourceAbiPath;
+    this.verificationMode = verificationMode;
+  }
+
+  /**
+   * @return The value of the {@code classAbiPath} attribute
+   */
+  @Override
+  public Path getClassAbiPath() {
+    return classAbiPath;
+  }
+
+  /**
+   * @return The value of the {@code sourceAbiPath} attribute
+   */
+  @Override
+  public Path getSourceAbiPath() {
+    return sourceAbiPath;
+  }
+
+  /**
+   * @return The value of the {@code verificationMode} attribute
+   */
+  @Override
+  public JavaBuckConfig.SourceAbiVerificationMode getVerificationMode() {
+    return verificationMode;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DiffAbisStep#getClassAbiPath() classAbiPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classAbiPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DiffAbisStep withClassAbiPath(Path value) {
+    if (this.classAbiPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "classAbiPath");
+    return new DiffAbisStep(this, newValue, this.sourceAbiPath, this.verificationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DiffAbisStep#getSourceAbiPath() sourceAbiPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourceAbiPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DiffAbisStep withSourceAbiPath(Path value) {
+    if (this.sourceAbiPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "sourceAbiPath");
+    return new DiffAbisStep(this, this.classAbiPath, newValue, this.verificationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DiffAbisStep#getVerificationMode() verificationMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for verificationMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final DiffAbisStep withVerificationMode(JavaBuckConfig.SourceAbiVerificationMode value) {
+    if (this.verificationMode == value) return this;
+    JavaBuckConfig.SourceAbiVerificationMode newValue = Objects.requireNonNull(value, "verificationMode");
+    if (this.verificationMode.equals(newValue)) return this;
+    return new DiffAbisStep(this, this.classAbiPath, this.sourceAbiPath, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DiffAbisStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DiffAbisStep
+        && equalTo((DiffAbisStep) another);
+  }
+
+  private boolean equalTo(DiffAbisStep another) {
+    return classAbiPath.equals(another.classAbiPath)
+        && sourceAbiPath.equals(another.sourceAbiPath)
+        && verificationMode.equals(another.verificationMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code classAbiPath}, {@code sourceAbiPath}, {@code verificationMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + classAbiPath.hashCode();
+    h += (h << 5) + sourceAbiPath.hashCode();
+    h += (h << 5) + verificationMode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DiffAbisStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DiffAbisStep")
+        .omitNullValues()
+        .add("classAbiPath", classAbiPath)
+        .add("sourceAbiPath", sourceAbiPath)
+        .add("verificationMode", verificationMode)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DiffAbisStep} instance.
+   * @param classAbiPath The value for the {@code classAbiPath} attribute
+   * @param sourceAbiPath The value for the {@code sourceAbiPath} attribute
+   * @param verificationMode The value for the {@code verificationMode} attribute
+   * @return An immutable DiffAbisStep instance
+   */
+  public static DiffAbisStep of(Path classAbiPath, Path sourceAbiPath, JavaBuckConfig.SourceAbiVerificationMode verificationMode) {
+    return new DiffAbisStep(classAbiPath, sourceAbiPath, verificationMode);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDiffAbisStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DiffAbisStep instance
+   */
+  static DiffAbisStep copyOf(AbstractDiffAbisStep instance) {
+    if (instance instanceof DiffAbisStep) {
+      return (DiffAbisStep) instance;
+    }
+    return DiffAbisStep.of(instance.getClassAbiPath(), instance.getSourceAbiPath(), instance.getVerificationMode());
+  }
+}
@@ -0,0 +1,1016 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.BuildRuleResolver;
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavaLibraryDeps}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new JavaLibraryDeps.Builder()}.
+ */
+@Generated(from = "JavaLibraryDeps", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavaLibraryDeps extends JavaLibraryDeps {
+  private final BuildRuleResolver resolver;
+  private final ImmutableSortedSet<BuildTarget> depTargets;
+  private final ImmutableSortedSet<BuildTarget> providedDepTargets;
+  private final ImmutableSortedSet<BuildTarget> exportedDepTargets;
+  private final ImmutableSortedSet<BuildTarget> exportedProvidedDepTargets;
+  private final ImmutableSortedSet<BuildTarget> sourceOnlyAbiDepTargets;
+  private final @Nullable Query depsQuery;
+  private final @Nullable Query providedDepsQuery;
+
+  private ImmutableJavaLibraryDeps(
+      BuildRuleResolver resolver,
+      ImmutableSortedSet<BuildTarget> depTargets,
+      ImmutableSortedSet<BuildTarget> providedDepTargets,
+      ImmutableSortedSet<BuildTarget> exportedDepTargets,
+      ImmutableSortedSet<BuildTarget> exportedProvidedDepTargets,
+      ImmutableSortedSet<BuildTarget> sourceOnlyAbiDepTargets,
+      @Nullable Query depsQuery,
+      @Nullable Query providedDepsQuery) {
+    this.resolver = resolver;
+    this.depTargets = depTargets;
+    this.providedDepTargets = providedDepTargets;
+    this.exportedDepTargets = exportedDepTargets;
+    this.exportedProvidedDepTargets = exportedProvidedDepTargets;
+    this.sourceOnlyAbiDepTargets = sourceOnlyAbiDepTargets;
+    this.depsQuery = depsQuery;
+    this.providedDepsQuery = providedDepsQuery;
+  }
+
+  /**
+   * @return The value of the {@code resolver} attribute
+   */
+  @Override
+  BuildRuleResolver getResolver() {
+    return resolver;
+  }
+
+  /**
+   * @return The value of the {@code depTargets} attribute
+   */
+  @Override
+  ImmutableSortedSet<BuildTarget> getDepTargets() {
+    return depTargets;
+  }
+
+  /**
+   * @return The value of the {@code providedDepTargets} attribute
+   */
+  @Override
+  ImmutableSortedSet<BuildTarget> getProvidedDepTargets() {
+    return providedDepTargets;
+  }
+
+  /**
+   * @return The value of the {@code exportedDepTargets} attribute
+   */
+  @Override
+  ImmutableSortedSet<BuildTarget> getExportedDepTargets() {
+    return exportedDepTargets;
+  }
+
+  /**
+   * @return The value of the {@code exportedProvidedDepTargets} attribute
+   */
+  @Override
+  ImmutableSortedSet<BuildTarget> getExportedProvidedDepTargets() {
+    return exportedProvidedDepTargets;
+  }
+
+  /**
+   * @return The value of the {@code sourceOnlyAbiDepTargets} attribute
+   */
+  @Override
+  ImmutableSortedSet<BuildTarget> getSourceOnlyAbiDepTargets() {
+    return sourceOnlyAbiDepTargets;
+  }
+
+  /**
+   * @return The value of the {@code depsQuery} attribute
+   */
+  @Override
+  Optional<Query> getDepsQuery() {
+    return Optional.ofNullable(depsQuery);
+  }
+
+  /**
+   * @return The value of the {@code providedDepsQuery} attribute
+   */
+  @Override
+  Optional<Query> getProvidedDepsQuery() {
+    return Optional.ofNullable(providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link JavaLibraryDeps#getResolver() resolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withResolver(BuildRuleResolver value) {
+    if (this.resolver == value) return this;
+    BuildRuleResolver newValue = Objects.requireNonNull(value, "resolver");
+    return new ImmutableJavaLibraryDeps(
+        newValue,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getDepTargets() depTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withDepTargets(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        newValue,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getDepTargets() depTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of depTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withDepTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.depTargets == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        newValue,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getProvidedDepTargets() providedDepTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withProvidedDepTargets(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        newValue,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getProvidedDepTargets() providedDepTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of providedDepTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withProvidedDepTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.providedDepTargets == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        newValue,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getExportedDepTargets() exportedDepTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withExportedDepTargets(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        newValue,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getExportedDepTargets() exportedDepTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDepTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withExportedDepTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDepTargets == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        newValue,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getExportedProvidedDepTargets() exportedProvidedDepTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withExportedProvidedDepTargets(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        newValue,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getExportedProvidedDepTargets() exportedProvidedDepTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedProvidedDepTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withExportedProvidedDepTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedProvidedDepTargets == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        newValue,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getSourceOnlyAbiDepTargets() sourceOnlyAbiDepTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withSourceOnlyAbiDepTargets(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        newValue,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link JavaLibraryDeps#getSourceOnlyAbiDepTargets() sourceOnlyAbiDepTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sourceOnlyAbiDepTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withSourceOnlyAbiDepTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.sourceOnlyAbiDepTargets == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        newValue,
+        this.depsQuery,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaLibraryDeps#getDepsQuery() depsQuery} attribute.
+   * @param value The value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "depsQuery");
+    if (this.depsQuery == newValue) return this;
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        newValue,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaLibraryDeps#getDepsQuery() depsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ImmutableJavaLibraryDeps withDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.depsQuery == value) return this;
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        value,
+        this.providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link JavaLibraryDeps#getProvidedDepsQuery() providedDepsQuery} attribute.
+   * @param value The value for providedDepsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableJavaLibraryDeps withProvidedDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "providedDepsQuery");
+    if (this.providedDepsQuery == newValue) return this;
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link JavaLibraryDeps#getProvidedDepsQuery() providedDepsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for providedDepsQuery
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ImmutableJavaLibraryDeps withProvidedDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.providedDepsQuery == value) return this;
+    return new ImmutableJavaLibraryDeps(
+        this.resolver,
+        this.depTargets,
+        this.providedDepTargets,
+        this.exportedDepTargets,
+        this.exportedProvidedDepTargets,
+        this.sourceOnlyAbiDepTargets,
+        this.depsQuery,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavaLibraryDeps} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavaLibraryDeps
+        && equalTo((ImmutableJavaLibraryDeps) another);
+  }
+
+  private boolean equalTo(ImmutableJavaLibraryDeps another) {
+    return resolver.equals(another.resolver)
+        && depTargets.equals(another.depTargets)
+        && providedDepTargets.equals(another.providedDepTargets)
+        && exportedDepTargets.equals(another.exportedDepTargets)
+        && exportedProvidedDepTargets.equals(another.exportedProvidedDepTargets)
+        && sourceOnlyAbiDepTargets.equals(another.sourceOnlyAbiDepTargets)
+        && Objects.equals(depsQuery, another.depsQuery)
+        && Objects.equals(providedDepsQuery, another.providedDepsQuery);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resolver}, {@code depTargets}, {@code providedDepTargets}, {@code exportedDepTargets}, {@code exportedProvidedDepTargets}, {@code sourceOnlyAbiDepTargets}, {@code depsQuery}, {@code providedDepsQuery}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resolver.hashCode();
+    h += (h << 5) + depTargets.hashCode();
+    h += (h << 5) + providedDepTargets.hashCode();
+    h += (h << 5) + exportedDepTargets.hashCode();
+    h += (h << 5) + exportedProvidedDepTargets.hashCode();
+    h += (h << 5) + sourceOnlyAbiDepTargets.hashCode();
+    h += (h << 5) + Objects.hashCode(depsQuery);
+    h += (h << 5) + Objects.hashCode(providedDepsQuery);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaLibraryDeps} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaLibraryDeps")
+        .omitNullValues()
+        .add("resolver", resolver)
+        .add("depTargets", depTargets)
+        .add("providedDepTargets", providedDepTargets)
+        .add("exportedDepTargets", exportedDepTargets)
+        .add("exportedProvidedDepTargets", exportedProvidedDepTargets)
+        .add("sourceOnlyAbiDepTargets", sourceOnlyAbiDepTargets)
+        .add("depsQuery", depsQuery)
+        .add("providedDepsQuery", providedDepsQuery)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long DEPS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> deps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link JavaLibraryDeps#getDeps() deps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getDeps() {
+    if ((lazyInitBitmap & DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEPS_LAZY_INIT_BIT) == 0) {
+          this.deps = Objects.requireNonNull(super.getDeps(), "deps");
+          lazyInitBitmap |= DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return deps;
+  }
+
+  private static final long PROVIDED_DEPS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> providedDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link JavaLibraryDeps#getProvidedDeps() providedDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code providedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getProvidedDeps() {
+    if ((lazyInitBitmap & PROVIDED_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PROVIDED_DEPS_LAZY_INIT_BIT) == 0) {
+          this.providedDeps = Objects.requireNonNull(super.getProvidedDeps(), "providedDeps");
+          lazyInitBitmap |= PROVIDED_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return providedDeps;
+  }
+
+  private static final long EXPORTED_DEPS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> exportedDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link JavaLibraryDeps#getExportedDeps() exportedDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getExportedDeps() {
+    if ((lazyInitBitmap & EXPORTED_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EXPORTED_DEPS_LAZY_INIT_BIT) == 0) {
+          this.exportedDeps = Objects.requireNonNull(super.getExportedDeps(), "exportedDeps");
+          lazyInitBitmap |= EXPORTED_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return exportedDeps;
+  }
+
+  private static final long EXPORTED_PROVIDED_DEPS_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> exportedProvidedDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link JavaLibraryDeps#getExportedProvidedDeps() exportedProvidedDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code exportedProvidedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getExportedProvidedDeps() {
+    if ((lazyInitBitmap & EXPORTED_PROVIDED_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EXPORTED_PROVIDED_DEPS_LAZY_INIT_BIT) == 0) {
+          this.exportedProvidedDeps = Objects.requireNonNull(super.getExportedProvidedDeps(), "exportedProvidedDeps");
+          lazyInitBitmap |= EXPORTED_PROVIDED_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return exportedProvidedDeps;
+  }
+
+  private static final long SOURCE_ONLY_ABI_DEPS_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSortedSet<BuildRule> sourceOnlyAbiDeps;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link JavaLibraryDeps#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sourceOnlyAbiDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getSourceOnlyAbiDeps() {
+    if ((lazyInitBitmap & SOURCE_ONLY_ABI_DEPS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_ONLY_ABI_DEPS_LAZY_INIT_BIT) == 0) {
+          this.sourceOnlyAbiDeps = Objects.requireNonNull(super.getSourceOnlyAbiDeps(), "sourceOnlyAbiDeps");
+          lazyInitBitmap |= SOURCE_ONLY_ABI_DEPS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourceOnlyAbiDeps;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link JavaLibraryDeps} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavaLibraryDeps instance
+   */
+  public static JavaLibraryDeps copyOf(JavaLibraryDeps instance) {
+    if (instance instanceof ImmutableJavaLibraryDeps) {
+      return (ImmutableJavaLibraryDeps) instance;
+    }
+    return new JavaLibraryDeps.Builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Builds instances of type {@link JavaLibraryDeps JavaLibraryDeps}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "JavaLibraryDeps", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_RESOLVER = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildRuleResolver resolver;
+    private ImmutableSortedSet.Builder<BuildTarget> depTargets = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> providedDepTargets = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDepTargets = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedProvidedDepTargets = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> sourceOnlyAbiDepTargets = ImmutableSortedSet.naturalOrder();
+    private @Nullable Query depsQuery;
+    private @Nullable Query providedDepsQuery;
+
+    /**
+     * Creates a builder for {@link JavaLibraryDeps JavaLibraryDeps} instances.
+     * @param resolver {@code resolver} parameter
+     */
+    public Builder(BuildRuleResolver resolver) {
+      if (!(this instanceof JavaLibraryDeps.Builder)) {
+        throw new UnsupportedOperationException("Use: new JavaLibraryDeps.Builder()");
+      }
+      setResolver(resolver);
+    }
+
+    Builder() {
+      if (!(this instanceof JavaLibraryDeps.Builder)) {
+        throw new UnsupportedOperationException("Use: new JavaLibraryDeps.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavaLibraryDeps} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder from(JavaLibraryDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      setResolver(instance.getResolver());
+      addAllDepTargets(instance.getDepTargets());
+      addAllProvidedDepTargets(instance.getProvidedDepTargets());
+      addAllExportedDepTargets(instance.getExportedDepTargets());
+      addAllExportedProvidedDepTargets(instance.getExportedProvidedDepTargets());
+      addAllSourceOnlyAbiDepTargets(instance.getSourceOnlyAbiDepTargets());
+      Optional<Query> depsQueryOptional = instance.getDepsQuery();
+      if (depsQueryOptional.isPresent()) {
+        setDepsQuery(depsQueryOptional);
+      }
+      Optional<Query> providedDepsQueryOptional = instance.getProvidedDepsQuery();
+      if (providedDepsQueryOptional.isPresent()) {
+        setProvidedDepsQuery(providedDepsQueryOptional);
+      }
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaLibraryDeps#getResolver() resolver} attribute.
+     * @param resolver The value for resolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final JavaLibraryDeps.Builder setResolver(BuildRuleResolver resolver) {
+      this.resolver = Objects.requireNonNull(resolver, "resolver");
+      initBits &= ~INIT_BIT_RESOLVER;
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavaLibraryDeps#getDepTargets() depTargets} sortedSet.
+     * @param element A depTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addDepTargets(BuildTarget element) {
+      this.depTargets.add(element);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getDepTargets() depTargets} sortedSet.
+     * @param elements An array of depTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addDepTargets(BuildTarget... elements) {
+      this.depTargets.addAll(Arrays.asList(elements));
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaLibraryDeps#getDepTargets() depTargets} sortedSet.
+     * @param elements An iterable of depTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.depTargets = ImmutableSortedSet.naturalOrder();
+      return addAllDepTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getDepTargets() depTargets} sortedSet.
+     * @param elements An iterable of depTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addAllDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.depTargets.addAll(elements);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavaLibraryDeps#getProvidedDepTargets() providedDepTargets} sortedSet.
+     * @param element A providedDepTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addProvidedDepTargets(BuildTarget element) {
+      this.providedDepTargets.add(element);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getProvidedDepTargets() providedDepTargets} sortedSet.
+     * @param elements An array of providedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addProvidedDepTargets(BuildTarget... elements) {
+      this.providedDepTargets.addAll(Arrays.asList(elements));
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaLibraryDeps#getProvidedDepTargets() providedDepTargets} sortedSet.
+     * @param elements An iterable of providedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setProvidedDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.providedDepTargets = ImmutableSortedSet.naturalOrder();
+      return addAllProvidedDepTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getProvidedDepTargets() providedDepTargets} sortedSet.
+     * @param elements An iterable of providedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addAllProvidedDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.providedDepTargets.addAll(elements);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavaLibraryDeps#getExportedDepTargets() exportedDepTargets} sortedSet.
+     * @param element A exportedDepTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addExportedDepTargets(BuildTarget element) {
+      this.exportedDepTargets.add(element);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getExportedDepTargets() exportedDepTargets} sortedSet.
+     * @param elements An array of exportedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addExportedDepTargets(BuildTarget... elements) {
+      this.exportedDepTargets.addAll(Arrays.asList(elements));
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaLibraryDeps#getExportedDepTargets() exportedDepTargets} sortedSet.
+     * @param elements An iterable of exportedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setExportedDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.exportedDepTargets = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDepTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getExportedDepTargets() exportedDepTargets} sortedSet.
+     * @param elements An iterable of exportedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addAllExportedDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.exportedDepTargets.addAll(elements);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavaLibraryDeps#getExportedProvidedDepTargets() exportedProvidedDepTargets} sortedSet.
+     * @param element A exportedProvidedDepTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addExportedProvidedDepTargets(BuildTarget element) {
+      this.exportedProvidedDepTargets.add(element);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getExportedProvidedDepTargets() exportedProvidedDepTargets} sortedSet.
+     * @param elements An array of exportedProvidedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addExportedProvidedDepTargets(BuildTarget... elements) {
+      this.exportedProvidedDepTargets.addAll(Arrays.asList(elements));
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaLibraryDeps#getExportedProvidedDepTargets() exportedProvidedDepTargets} sortedSet.
+     * @param elements An iterable of exportedProvidedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setExportedProvidedDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.exportedProvidedDepTargets = ImmutableSortedSet.naturalOrder();
+      return addAllExportedProvidedDepTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getExportedProvidedDepTargets() exportedProvidedDepTargets} sortedSet.
+     * @param elements An iterable of exportedProvidedDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addAllExportedProvidedDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.exportedProvidedDepTargets.addAll(elements);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavaLibraryDeps#getSourceOnlyAbiDepTargets() sourceOnlyAbiDepTargets} sortedSet.
+     * @param element A sourceOnlyAbiDepTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addSourceOnlyAbiDepTargets(BuildTarget element) {
+      this.sourceOnlyAbiDepTargets.add(element);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getSourceOnlyAbiDepTargets() sourceOnlyAbiDepTargets} sortedSet.
+     * @param elements An array of sourceOnlyAbiDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addSourceOnlyAbiDepTargets(BuildTarget... elements) {
+      this.sourceOnlyAbiDepTargets.addAll(Arrays.asList(elements));
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaLibraryDeps#getSourceOnlyAbiDepTargets() sourceOnlyAbiDepTargets} sortedSet.
+     * @param elements An iterable of sourceOnlyAbiDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setSourceOnlyAbiDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.sourceOnlyAbiDepTargets = ImmutableSortedSet.naturalOrder();
+      return addAllSourceOnlyAbiDepTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaLibraryDeps#getSourceOnlyAbiDepTargets() sourceOnlyAbiDepTargets} sortedSet.
+     * @param elements An iterable of sourceOnlyAbiDepTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder addAllSourceOnlyAbiDepTargets(Iterable<? extends BuildTarget> elements) {
+      this.sourceOnlyAbiDepTargets.addAll(elements);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaLibraryDeps#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setDepsQuery(Query depsQuery) {
+      this.depsQuery = Objects.requireNonNull(depsQuery, "depsQuery");
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaLibraryDeps#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setDepsQuery(Optional<? extends Query> depsQuery) {
+      this.depsQuery = depsQuery.orElse(null);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaLibraryDeps#getProvidedDepsQuery() providedDepsQuery} to providedDepsQuery.
+     * @param providedDepsQuery The value for providedDepsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setProvidedDepsQuery(Query providedDepsQuery) {
+      this.providedDepsQuery = Objects.requireNonNull(providedDepsQuery, "providedDepsQuery");
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JavaLibraryDeps#getProvidedDepsQuery() providedDepsQuery} to providedDepsQuery.
+     * @param providedDepsQuery The value for providedDepsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavaLibraryDeps.Builder setProvidedDepsQuery(Optional<? extends Query> providedDepsQuery) {
+      this.providedDepsQuery = providedDepsQuery.orElse(null);
+      return (JavaLibraryDeps.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link JavaLibraryDeps JavaLibraryDeps}.
+     * @return An immutable instance of JavaLibraryDeps
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavaLibraryDeps build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableJavaLibraryDeps(
+          resolver,
+          depTargets.build(),
+          providedDepTargets.build(),
+          exportedDepTargets.build(),
+          exportedProvidedDepTargets.build(),
+          sourceOnlyAbiDepTargets.build(),
+          depsQuery,
+          providedDepsQuery);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_RESOLVER) != 0) attributes.add("resolver");
+      return "Cannot build JavaLibraryDeps, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractResourcesParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ResourcesParameters.builder()}.
+ */
+@Generated(from = "AbstractResourcesParameters", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ResourcesParameters extends AbstractResourcesParameters {
+  private final ImmutableSortedMap<String, SourcePath> resources;
+  private final @Nullable String resourcesRoot;
+
+  private ResourcesParameters(ResourcesParameters.Builder builder) {
+    this.resourcesRoot = builder.resourcesRoot;
+    this.resources = builder.resources != null
+        ? builder.resources
+        : Objects.requireNonNull(super.getResources(), "resources");
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  public Optional<String> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourcesParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourcesParameters
+        && equalTo((ResourcesParameters) another);
+  }
+
+  private boolean equalTo(ResourcesParameters another) {
+    return resources.equals(another.resources)
+        && Objects.equals(resourcesRoot, another.resourcesRoot);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resources}, {@code resourcesRoot}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourcesParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourcesParameters")
+        .omitNullValues()
+        .add("resources", resources)
+        .add("resourcesRoot", resourcesRoot)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ResourcesParameters ResourcesParameters}.
+   * @return A new ResourcesParameters builder
+   */
+  public static ResourcesParameters.Builder builder() {
+    return new ResourcesParameters.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ResourcesParameters ResourcesParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractResourcesParameters", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable ImmutableSortedMap<String, SourcePath> resources;
+    private @Nullable String resourcesRoot;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ResourcesParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ResourcesParameters instance) {
+      return from((AbstractResourcesParameters) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractResourcesParameters} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractResourcesParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setResources(instance.getResources());
+      Optional<String> resourcesRootOptional = instance.getResourcesRoot();
+      if (resourcesRootOptional.isPresent()) {
+        setResourcesRoot(resourcesRootOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ResourcesParameters#getResources() resources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ResourcesParameters#getResources() resources}.</em>
+     * @param resources The value for resources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResources(ImmutableSortedMap<String, SourcePath> resources) {
+      this.resources = Objects.requireNonNull(resources, "resources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ResourcesParameters#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesRoot(String resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ResourcesParameters#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesRoot(Optional<String> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ResourcesParameters ResourcesParameters}.
+     * @return An immutable instance of ResourcesParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ResourcesParameters build() {
+      return new ResourcesParameters(this);
+    }
+  }
+}
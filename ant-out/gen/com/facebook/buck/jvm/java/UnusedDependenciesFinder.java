@@ -0,0 +1,198 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.BuildRuleResolver;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolver;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractUnusedDependenciesFinder}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code UnusedDependenciesFinder.of()}.
+ */
+@Generated(from = "AbstractUnusedDependenciesFinder", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class UnusedDependenciesFinder
+    extends AbstractUnusedDependenciesFinder {
+  private final BuildTarget buildTarget;
+  private final ProjectFilesystem projectFilesystem;
+  private final BuildRuleResolver buildRuleResolver;
+  private final CellPathResolver cellPathResolver;
+  private final Path depFileRelativePath;
+  private final JavaLibraryDeps javaLibraryDeps;
+  private final SourcePathResolver sourcePathResolver;
+  private final JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction;
+
+  private UnusedDependenciesFinder(
+      BuildTarget buildTarget,
+      ProjectFilesystem projectFilesystem,
+      BuildRuleResolver buildRuleResolver,
+      CellPathResolver cellPathResolver,
+      Path depFileRelativePath,
+      JavaLibraryDeps javaLibraryDeps,
+      SourcePathResolver sourcePathResolver,
+      JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.buildRuleResolver = Objects.requireNonNull(buildRuleResolver, "buildRuleResolver");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.depFileRelativePath = Objects.requireNonNull(depFileRelativePath, "depFileRelativePath");
+    this.javaLibraryDeps = Objects.requireNonNull(javaLibraryDeps, "javaLibraryDeps");
+    this.sourcePathResolver = Objects.requireNonNull(sourcePathResolver, "sourcePathResolver");
+    this.unusedDependenciesAction = Objects.requireNonNull(unusedDependenciesAction, "unusedDependenciesAction");
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code buildRuleResolver} attribute
+   */
+  @Override
+  public BuildRuleResolver getBuildRuleResolver() {
+    return buildRuleResolver;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code depFileRelativePath} attribute
+   */
+  @Override
+  public Path getDepFileRelativePath() {
+    return depFileRelativePath;
+  }
+
+  /**
+   * @return The value of the {@code javaLibraryDeps} attribute
+   */
+  @Override
+  public JavaLibraryDeps getJavaLibraryDeps() {
+    return javaLibraryDeps;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   * @return The value of the {@code unusedDependenciesAction} attribute
+   */
+  @Override
+  public JavaBuckConfig.UnusedDependenciesAction getUnusedDependenciesAction() {
+    return unusedDependenciesAction;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UnusedDependenciesFinder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UnusedDependenciesFinder
+        && equalTo((UnusedDependenciesFinder) another);
+  }
+
+  private boolean equalTo(UnusedDependenciesFinder another) {
+    return buildTarget.equals(another.buildTarget)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && buildRuleResolver.equals(another.buildRuleResolver)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && depFileRelativePath.equals(another.depFileRelativePath)
+        && javaLibraryDeps.equals(another.javaLibraryDeps)
+        && sourcePathResolver.equals(another.sourcePathResolver)
+        && unusedDependenciesAction.equals(another.unusedDependenciesAction);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code projectFilesystem}, {@code buildRuleResolver}, {@code cellPathResolver}, {@code depFileRelativePath}, {@code javaLibraryDeps}, {@code sourcePathResolver}, {@code unusedDependenciesAction}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + buildRuleResolver.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + depFileRelativePath.hashCode();
+    h += (h << 5) + javaLibraryDeps.hashCode();
+    h += (h << 5) + sourcePathResolver.hashCode();
+    h += (h << 5) + unusedDependenciesAction.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UnusedDependenciesFinder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UnusedDependenciesFinder")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("projectFilesystem", projectFilesystem)
+        .add("buildRuleResolver", buildRuleResolver)
+        .add("cellPathResolver", cellPathResolver)
+        .add("depFileRelativePath", depFileRelativePath)
+        .add("javaLibraryDeps", javaLibraryDeps)
+        .add("sourcePathResolver", sourcePathResolver)
+        .add("unusedDependenciesAction", unusedDependenciesAction)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UnusedDependenciesFinder} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param buildRuleResolver The value for the {@code buildRuleResolver} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param depFileRelativePath The value for the {@code depFileRelativePath} attribute
+   * @param javaLibraryDeps The value for the {@code javaLibraryDeps} attribute
+   * @param sourcePathResolver The value for the {@code sourcePathResolver} attribute
+   * @param unusedDependenciesAction The value for the {@code unusedDependenciesAction} attribute
+   * @return An immutable UnusedDependenciesFinder instance
+   */
+  public static UnusedDependenciesFinder of(BuildTarget buildTarget, ProjectFilesystem projectFilesystem, BuildRuleResolver buildRuleResolver, CellPathResolver cellPathResolver, Path depFileRelativePath, JavaLibraryDeps javaLibraryDeps, SourcePathResolver sourcePathResolver, JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction) {
+    return new UnusedDependenciesFinder(buildTarget, projectFilesystem, buildRuleResolver, cellPathResolver, depFileRelativePath, javaLibraryDeps, sourcePathResolver, unusedDependenciesAction);
+  }
+}
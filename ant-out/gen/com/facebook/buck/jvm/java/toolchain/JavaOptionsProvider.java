@@ -0,0 +1,103 @@
+package com.facebook.buck.jvm.java.toolchain;
+
+import com.facebook.buck.jvm.java.JavaOptions;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractJavaOptionsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code JavaOptionsProvider.of()}.
+ */
+@Generated(from = "AbstractJavaOptionsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class JavaOptionsProvider
+    extends AbstractJavaOptionsProvider {
+  private final JavaOptions javaOptions;
+  private final JavaOptions javaOptionsForTests;
+
+  private JavaOptionsProvider(
+      JavaOptions javaOptions,
+      JavaOptions javaOptionsForTests) {
+    this.javaOptions = Objects.requireNonNull(javaOptions, "javaOptions");
+    this.javaOptionsForTests = Objects.requireNonNull(javaOptionsForTests, "javaOptionsForTests");
+  }
+
+  /**
+   * @return The value of the {@code javaOptions} attribute
+   */
+  @Override
+  public JavaOptions getJavaOptions() {
+    return javaOptions;
+  }
+
+  /**
+   * @return The value of the {@code javaOptionsForTests} attribute
+   */
+  @Override
+  public JavaOptions getJavaOptionsForTests() {
+    return javaOptionsForTests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaOptionsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaOptionsProvider
+        && equalTo((JavaOptionsProvider) another);
+  }
+
+  private boolean equalTo(JavaOptionsProvider another) {
+    return javaOptions.equals(another.javaOptions)
+        && javaOptionsForTests.equals(another.javaOptionsForTests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javaOptions}, {@code javaOptionsForTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + javaOptions.hashCode();
+    h += (h << 5) + javaOptionsForTests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaOptionsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaOptionsProvider")
+        .omitNullValues()
+        .add("javaOptions", javaOptions)
+        .add("javaOptionsForTests", javaOptionsForTests)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavaOptionsProvider} instance.
+   * @param javaOptions The value for the {@code javaOptions} attribute
+   * @param javaOptionsForTests The value for the {@code javaOptionsForTests} attribute
+   * @return An immutable JavaOptionsProvider instance
+   */
+  public static JavaOptionsProvider of(JavaOptions javaOptions, JavaOptions javaOptionsForTests) {
+    return new JavaOptionsProvider(javaOptions, javaOptionsForTests);
+  }
+}
@@ -0,0 +1,158 @@
+package com.facebook.buck.jvm.java.toolchain;
+
+import com.facebook.buck.jvm.java.JavacProvider;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *The java toolchain. 
+ */
+@Generated(from = "AbstractJavaToolchain", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class JavaToolchain implements AbstractJavaToolchain {
+  private final JavacProvider javacProvider;
+
+  private JavaToolchain(JavaToolchain.Builder builder) {
+    this.javacProvider = builder.javacProvider;
+  }
+
+  /**
+   * @return The value of the {@code javacProvider} attribute
+   */
+  @Override
+  public JavacProvider getJavacProvider() {
+    return javacProvider;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaToolchain
+        && equalTo((JavaToolchain) another);
+  }
+
+  private boolean equalTo(JavaToolchain another) {
+    return javacProvider.equals(another.javacProvider);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javacProvider}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + javacProvider.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaToolchain")
+        .omitNullValues()
+        .add("javacProvider", javacProvider)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link JavaToolchain JavaToolchain}.
+   * @return A new JavaToolchain builder
+   */
+  public static JavaToolchain.Builder builder() {
+    return new JavaToolchain.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavaToolchain JavaToolchain}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractJavaToolchain", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_JAVAC_PROVIDER = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable JavacProvider javacProvider;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavaToolchain} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavaToolchain instance) {
+      return from((AbstractJavaToolchain) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavaToolchain} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractJavaToolchain instance) {
+      Objects.requireNonNull(instance, "instance");
+      setJavacProvider(instance.getJavacProvider());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaToolchain#getJavacProvider() javacProvider} attribute.
+     * @param javacProvider The value for javacProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacProvider(JavacProvider javacProvider) {
+      this.javacProvider = Objects.requireNonNull(javacProvider, "javacProvider");
+      initBits &= ~INIT_BIT_JAVAC_PROVIDER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JavaToolchain JavaToolchain}.
+     * @return An immutable instance of JavaToolchain
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavaToolchain build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavaToolchain(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_JAVAC_PROVIDER) != 0) attributes.add("javacProvider");
+      return "Cannot build JavaToolchain, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,766 @@
+package com.facebook.buck.log;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractPerfTimesStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PerfTimesStats.builder()}.
+ */
+@Generated(from = "AbstractPerfTimesStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PerfTimesStats extends AbstractPerfTimesStats {
+  private final Long pythonTimeMs;
+  private final Long initTimeMs;
+  private final Long processingTimeMs;
+  private final Long parseTimeMs;
+  private final Long actionGraphTimeMs;
+  private final Long rulekeyTimeMs;
+  private final Long totalRulekeyTimeMs;
+  private final Long fetchTimeMs;
+  private final Long buildTimeMs;
+  private final Long timeToFirstActionMs;
+  private final Boolean newDaemonInstance;
+  private final Long installTimeMs;
+
+  private PerfTimesStats(PerfTimesStats.Builder builder) {
+    if (builder.pythonTimeMs != null) {
+      initShim.setPythonTimeMs(builder.pythonTimeMs);
+    }
+    if (builder.initTimeMs != null) {
+      initShim.setInitTimeMs(builder.initTimeMs);
+    }
+    if (builder.processingTimeMs != null) {
+      initShim.setProcessingTimeMs(builder.processingTimeMs);
+    }
+    if (builder.parseTimeMs != null) {
+      initShim.setParseTimeMs(builder.parseTimeMs);
+    }
+    if (builder.actionGraphTimeMs != null) {
+      initShim.setActionGraphTimeMs(builder.actionGraphTimeMs);
+    }
+    if (builder.rulekeyTimeMs != null) {
+      initShim.setRulekeyTimeMs(builder.rulekeyTimeMs);
+    }
+    if (builder.totalRulekeyTimeMs != null) {
+      initShim.setTotalRulekeyTimeMs(builder.totalRulekeyTimeMs);
+    }
+    if (builder.fetchTimeMs != null) {
+      initShim.setFetchTimeMs(builder.fetchTimeMs);
+    }
+    if (builder.buildTimeMs != null) {
+      initShim.setBuildTimeMs(builder.buildTimeMs);
+    }
+    if (builder.timeToFirstActionMs != null) {
+      initShim.setTimeToFirstActionMs(builder.timeToFirstActionMs);
+    }
+    if (builder.newDaemonInstance != null) {
+      initShim.setNewDaemonInstance(builder.newDaemonInstance);
+    }
+    if (builder.installTimeMs != null) {
+      initShim.setInstallTimeMs(builder.installTimeMs);
+    }
+    this.pythonTimeMs = initShim.getPythonTimeMs();
+    this.initTimeMs = initShim.getInitTimeMs();
+    this.processingTimeMs = initShim.getProcessingTimeMs();
+    this.parseTimeMs = initShim.getParseTimeMs();
+    this.actionGraphTimeMs = initShim.getActionGraphTimeMs();
+    this.rulekeyTimeMs = initShim.getRulekeyTimeMs();
+    this.totalRulekeyTimeMs = initShim.getTotalRulekeyTimeMs();
+    this.fetchTimeMs = initShim.getFetchTimeMs();
+    this.buildTimeMs = initShim.getBuildTimeMs();
+    this.timeToFirstActionMs = initShim.getTimeToFirstActionMs();
+    this.newDaemonInstance = initShim.getNewDaemonInstance();
+    this.installTimeMs = initShim.getInstallTimeMs();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractPerfTimesStats", generator = "Immutables")
+  private final class InitShim {
+    private byte pythonTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long pythonTimeMs;
+
+    Long getPythonTimeMs() {
+      if (pythonTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (pythonTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        pythonTimeMsBuildStage = STAGE_INITIALIZING;
+        this.pythonTimeMs = Objects.requireNonNull(PerfTimesStats.super.getPythonTimeMs(), "pythonTimeMs");
+        pythonTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.pythonTimeMs;
+    }
+
+    void setPythonTimeMs(Long pythonTimeMs) {
+      this.pythonTimeMs = pythonTimeMs;
+      pythonTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte initTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long initTimeMs;
+
+    Long getInitTimeMs() {
+      if (initTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (initTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        initTimeMsBuildStage = STAGE_INITIALIZING;
+        this.initTimeMs = Objects.requireNonNull(PerfTimesStats.super.getInitTimeMs(), "initTimeMs");
+        initTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.initTimeMs;
+    }
+
+    void setInitTimeMs(Long initTimeMs) {
+      this.initTimeMs = initTimeMs;
+      initTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte processingTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long processingTimeMs;
+
+    Long getProcessingTimeMs() {
+      if (processingTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (processingTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        processingTimeMsBuildStage = STAGE_INITIALIZING;
+        this.processingTimeMs = Objects.requireNonNull(PerfTimesStats.super.getProcessingTimeMs(), "processingTimeMs");
+        processingTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.processingTimeMs;
+    }
+
+    void setProcessingTimeMs(Long processingTimeMs) {
+      this.processingTimeMs = processingTimeMs;
+      processingTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte parseTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long parseTimeMs;
+
+    Long getParseTimeMs() {
+      if (parseTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (parseTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        parseTimeMsBuildStage = STAGE_INITIALIZING;
+        this.parseTimeMs = Objects.requireNonNull(PerfTimesStats.super.getParseTimeMs(), "parseTimeMs");
+        parseTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.parseTimeMs;
+    }
+
+    void setParseTimeMs(Long parseTimeMs) {
+      this.parseTimeMs = parseTimeMs;
+      parseTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte actionGraphTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long actionGraphTimeMs;
+
+    Long getActionGraphTimeMs() {
+      if (actionGraphTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (actionGraphTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        actionGraphTimeMsBuildStage = STAGE_INITIALIZING;
+        this.actionGraphTimeMs = Objects.requireNonNull(PerfTimesStats.super.getActionGraphTimeMs(), "actionGraphTimeMs");
+        actionGraphTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.actionGraphTimeMs;
+    }
+
+    void setActionGraphTimeMs(Long actionGraphTimeMs) {
+      this.actionGraphTimeMs = actionGraphTimeMs;
+      actionGraphTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte rulekeyTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long rulekeyTimeMs;
+
+    Long getRulekeyTimeMs() {
+      if (rulekeyTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rulekeyTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        rulekeyTimeMsBuildStage = STAGE_INITIALIZING;
+        this.rulekeyTimeMs = Objects.requireNonNull(PerfTimesStats.super.getRulekeyTimeMs(), "rulekeyTimeMs");
+        rulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rulekeyTimeMs;
+    }
+
+    void setRulekeyTimeMs(Long rulekeyTimeMs) {
+      this.rulekeyTimeMs = rulekeyTimeMs;
+      rulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte totalRulekeyTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long totalRulekeyTimeMs;
+
+    Long getTotalRulekeyTimeMs() {
+      if (totalRulekeyTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (totalRulekeyTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        totalRulekeyTimeMsBuildStage = STAGE_INITIALIZING;
+        this.totalRulekeyTimeMs = Objects.requireNonNull(PerfTimesStats.super.getTotalRulekeyTimeMs(), "totalRulekeyTimeMs");
+        totalRulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.totalRulekeyTimeMs;
+    }
+
+    void setTotalRulekeyTimeMs(Long totalRulekeyTimeMs) {
+      this.totalRulekeyTimeMs = totalRulekeyTimeMs;
+      totalRulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte fetchTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long fetchTimeMs;
+
+    Long getFetchTimeMs() {
+      if (fetchTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (fetchTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        fetchTimeMsBuildStage = STAGE_INITIALIZING;
+        this.fetchTimeMs = Objects.requireNonNull(PerfTimesStats.super.getFetchTimeMs(), "fetchTimeMs");
+        fetchTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.fetchTimeMs;
+    }
+
+    void setFetchTimeMs(Long fetchTimeMs) {
+      this.fetchTimeMs = fetchTimeMs;
+      fetchTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte buildTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long buildTimeMs;
+
+    Long getBuildTimeMs() {
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        buildTimeMsBuildStage = STAGE_INITIALIZING;
+        this.buildTimeMs = Objects.requireNonNull(PerfTimesStats.super.getBuildTimeMs(), "buildTimeMs");
+        buildTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildTimeMs;
+    }
+
+    void setBuildTimeMs(Long buildTimeMs) {
+      this.buildTimeMs = buildTimeMs;
+      buildTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte timeToFirstActionMsBuildStage = STAGE_UNINITIALIZED;
+    private Long timeToFirstActionMs;
+
+    Long getTimeToFirstActionMs() {
+      if (timeToFirstActionMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (timeToFirstActionMsBuildStage == STAGE_UNINITIALIZED) {
+        timeToFirstActionMsBuildStage = STAGE_INITIALIZING;
+        this.timeToFirstActionMs = Objects.requireNonNull(PerfTimesStats.super.getTimeToFirstActionMs(), "timeToFirstActionMs");
+        timeToFirstActionMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.timeToFirstActionMs;
+    }
+
+    void setTimeToFirstActionMs(Long timeToFirstActionMs) {
+      this.timeToFirstActionMs = timeToFirstActionMs;
+      timeToFirstActionMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte newDaemonInstanceBuildStage = STAGE_UNINITIALIZED;
+    private Boolean newDaemonInstance;
+
+    Boolean getNewDaemonInstance() {
+      if (newDaemonInstanceBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (newDaemonInstanceBuildStage == STAGE_UNINITIALIZED) {
+        newDaemonInstanceBuildStage = STAGE_INITIALIZING;
+        this.newDaemonInstance = Objects.requireNonNull(PerfTimesStats.super.getNewDaemonInstance(), "newDaemonInstance");
+        newDaemonInstanceBuildStage = STAGE_INITIALIZED;
+      }
+      return this.newDaemonInstance;
+    }
+
+    void setNewDaemonInstance(Boolean newDaemonInstance) {
+      this.newDaemonInstance = newDaemonInstance;
+      newDaemonInstanceBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte installTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long installTimeMs;
+
+    Long getInstallTimeMs() {
+      if (installTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (installTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        installTimeMsBuildStage = STAGE_INITIALIZING;
+        this.installTimeMs = Objects.requireNonNull(PerfTimesStats.super.getInstallTimeMs(), "installTimeMs");
+        installTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.installTimeMs;
+    }
+
+    void setInstallTimeMs(Long installTimeMs) {
+      this.installTimeMs = installTimeMs;
+      installTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (pythonTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("pythonTimeMs");
+      if (initTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("initTimeMs");
+      if (processingTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("processingTimeMs");
+      if (parseTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("parseTimeMs");
+      if (actionGraphTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("actionGraphTimeMs");
+      if (rulekeyTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("rulekeyTimeMs");
+      if (totalRulekeyTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("totalRulekeyTimeMs");
+      if (fetchTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("fetchTimeMs");
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("buildTimeMs");
+      if (timeToFirstActionMsBuildStage == STAGE_INITIALIZING) attributes.add("timeToFirstActionMs");
+      if (newDaemonInstanceBuildStage == STAGE_INITIALIZING) attributes.add("newDaemonInstance");
+      if (installTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("installTimeMs");
+      return "Cannot build PerfTimesStats, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   *@return duration of the time spent in python, in milliseconds. 
+   */
+  @Override
+  public Long getPythonTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPythonTimeMs()
+        : this.pythonTimeMs;
+  }
+
+  /**
+   *@return duration Buck spends initializing, in milliseconds. 
+   */
+  @Override
+  public Long getInitTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInitTimeMs()
+        : this.initTimeMs;
+  }
+
+  /**
+   *@return time spent between initialization and start of parsing, in milliseconds. 
+   */
+  @Override
+  public Long getProcessingTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProcessingTimeMs()
+        : this.processingTimeMs;
+  }
+
+  /**
+   *@return time spent parsing and processing BUCK files, in milliseconds. 
+   */
+  @Override
+  public Long getParseTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getParseTimeMs()
+        : this.parseTimeMs;
+  }
+
+  /**
+   *@return time it takes to generate the action graph, in milliseconds. 
+   */
+  @Override
+  public Long getActionGraphTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getActionGraphTimeMs()
+        : this.actionGraphTimeMs;
+  }
+
+  /**
+   * @return duration of the rule keys computation, from the start of rule key calculation to the
+   *     fetching of the first artifact from the remote cache, in milliseconds.
+   */
+  @Override
+  public Long getRulekeyTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRulekeyTimeMs()
+        : this.rulekeyTimeMs;
+  }
+
+  /**
+   * @return rule key computation is happening throughout the build with different types of rule
+   *     keys. This measures the total time we spend calculating all different types of rule keys.
+   */
+  @Override
+  public Long getTotalRulekeyTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTotalRulekeyTimeMs()
+        : this.totalRulekeyTimeMs;
+  }
+
+  /**
+   * @return duration of the fetch operation, from the first fetch event to the start of the local
+   *     build, in milliseconds.
+   */
+  @Override
+  public Long getFetchTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFetchTimeMs()
+        : this.fetchTimeMs;
+  }
+
+  /**
+   * @return duration of the local build phase, from start of the local build to when the build
+   *     completes, in milliseconds.
+   */
+  @Override
+  public Long getBuildTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildTimeMs()
+        : this.buildTimeMs;
+  }
+
+  /**
+   * @return time from the end of initialization to the start of the first build rule, in
+   *     milliseconds. Together with {@link #getNewDaemonInstance()} this measures how long a cold
+   *     daemon takes to get to the first action.
+   */
+  @Override
+  public Long getTimeToFirstActionMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTimeToFirstActionMs()
+        : this.timeToFirstActionMs;
+  }
+
+  /**
+   *@return whether the command was run by a newly started daemon. 
+   */
+  @Override
+  public Boolean getNewDaemonInstance() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNewDaemonInstance()
+        : this.newDaemonInstance;
+  }
+
+  /**
+   *@return time it takes to install to a device, in milliseconds. 
+   */
+  @Override
+  public Long getInstallTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInstallTimeMs()
+        : this.installTimeMs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PerfTimesStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PerfTimesStats
+        && equalTo((PerfTimesStats) another);
+  }
+
+  private boolean equalTo(PerfTimesStats another) {
+    return pythonTimeMs.equals(another.pythonTimeMs)
+        && initTimeMs.equals(another.initTimeMs)
+        && processingTimeMs.equals(another.processingTimeMs)
+        && parseTimeMs.equals(another.parseTimeMs)
+        && actionGraphTimeMs.equals(another.actionGraphTimeMs)
+        && rulekeyTimeMs.equals(another.rulekeyTimeMs)
+        && totalRulekeyTimeMs.equals(another.totalRulekeyTimeMs)
+        && fetchTimeMs.equals(another.fetchTimeMs)
+        && buildTimeMs.equals(another.buildTimeMs)
+        && timeToFirstActionMs.equals(another.timeToFirstActionMs)
+        && newDaemonInstance.equals(another.newDaemonInstance)
+        && installTimeMs.equals(another.installTimeMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pythonTimeMs}, {@code initTimeMs}, {@code processingTimeMs}, {@code parseTimeMs}, {@code actionGraphTimeMs}, {@code rulekeyTimeMs}, {@code totalRulekeyTimeMs}, {@code fetchTimeMs}, {@code buildTimeMs}, {@code timeToFirstActionMs}, {@code newDaemonInstance}, {@code installTimeMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pythonTimeMs.hashCode();
+    h += (h << 5) + initTimeMs.hashCode();
+    h += (h << 5) + processingTimeMs.hashCode();
+    h += (h << 5) + parseTimeMs.hashCode();
+    h += (h << 5) + actionGraphTimeMs.hashCode();
+    h += (h << 5) + rulekeyTimeMs.hashCode();
+    h += (h << 5) + totalRulekeyTimeMs.hashCode();
+    h += (h << 5) + fetchTimeMs.hashCode();
+    h += (h << 5) + buildTimeMs.hashCode();
+    h += (h << 5) + timeToFirstActionMs.hashCode();
+    h += (h << 5) + newDaemonInstance.hashCode();
+    h += (h << 5) + installTimeMs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerfTimesStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerfTimesStats")
+        .omitNullValues()
+        .add("pythonTimeMs", pythonTimeMs)
+        .add("initTimeMs", initTimeMs)
+        .add("processingTimeMs", processingTimeMs)
+        .add("parseTimeMs", parseTimeMs)
+        .add("actionGraphTimeMs", actionGraphTimeMs)
+        .add("rulekeyTimeMs", rulekeyTimeMs)
+        .add("totalRulekeyTimeMs", totalRulekeyTimeMs)
+        .add("fetchTimeMs", fetchTimeMs)
+        .add("buildTimeMs", buildTimeMs)
+        .add("timeToFirstActionMs", timeToFirstActionMs)
+        .add("newDaemonInstance", newDaemonInstance)
+        .add("installTimeMs", installTimeMs)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PerfTimesStats PerfTimesStats}.
+   * @return A new PerfTimesStats builder
+   */
+  public static PerfTimesStats.Builder builder() {
+    return new PerfTimesStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PerfTimesStats PerfTimesStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractPerfTimesStats", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Long pythonTimeMs;
+    private @Nullable Long initTimeMs;
+    private @Nullable Long processingTimeMs;
+    private @Nullable Long parseTimeMs;
+    private @Nullable Long actionGraphTimeMs;
+    private @Nullable Long rulekeyTimeMs;
+    private @Nullable Long totalRulekeyTimeMs;
+    private @Nullable Long fetchTimeMs;
+    private @Nullable Long buildTimeMs;
+    private @Nullable Long timeToFirstActionMs;
+    private @Nullable Boolean newDaemonInstance;
+    private @Nullable Long installTimeMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerfTimesStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PerfTimesStats instance) {
+      return from((AbstractPerfTimesStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPerfTimesStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractPerfTimesStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPythonTimeMs(instance.getPythonTimeMs());
+      setInitTimeMs(instance.getInitTimeMs());
+      setProcessingTimeMs(instance.getProcessingTimeMs());
+      setParseTimeMs(instance.getParseTimeMs());
+      setActionGraphTimeMs(instance.getActionGraphTimeMs());
+      setRulekeyTimeMs(instance.getRulekeyTimeMs());
+      setTotalRulekeyTimeMs(instance.getTotalRulekeyTimeMs());
+      setFetchTimeMs(instance.getFetchTimeMs());
+      setBuildTimeMs(instance.getBuildTimeMs());
+      setTimeToFirstActionMs(instance.getTimeToFirstActionMs());
+      setNewDaemonInstance(instance.getNewDaemonInstance());
+      setInstallTimeMs(instance.getInstallTimeMs());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getPythonTimeMs() pythonTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getPythonTimeMs() pythonTimeMs}.</em>
+     * @param pythonTimeMs The value for pythonTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPythonTimeMs(Long pythonTimeMs) {
+      this.pythonTimeMs = Objects.requireNonNull(pythonTimeMs, "pythonTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getInitTimeMs() initTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getInitTimeMs() initTimeMs}.</em>
+     * @param initTimeMs The value for initTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInitTimeMs(Long initTimeMs) {
+      this.initTimeMs = Objects.requireNonNull(initTimeMs, "initTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getProcessingTimeMs() processingTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getProcessingTimeMs() processingTimeMs}.</em>
+     * @param processingTimeMs The value for processingTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProcessingTimeMs(Long processingTimeMs) {
+      this.processingTimeMs = Objects.requireNonNull(processingTimeMs, "processingTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getParseTimeMs() parseTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getParseTimeMs() parseTimeMs}.</em>
+     * @param parseTimeMs The value for parseTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setParseTimeMs(Long parseTimeMs) {
+      this.parseTimeMs = Objects.requireNonNull(parseTimeMs, "parseTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getActionGraphTimeMs() actionGraphTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getActionGraphTimeMs() actionGraphTimeMs}.</em>
+     * @param actionGraphTimeMs The value for actionGraphTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraphTimeMs(Long actionGraphTimeMs) {
+      this.actionGraphTimeMs = Objects.requireNonNull(actionGraphTimeMs, "actionGraphTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getRulekeyTimeMs() rulekeyTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getRulekeyTimeMs() rulekeyTimeMs}.</em>
+     * @param rulekeyTimeMs The value for rulekeyTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRulekeyTimeMs(Long rulekeyTimeMs) {
+      this.rulekeyTimeMs = Objects.requireNonNull(rulekeyTimeMs, "rulekeyTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getTotalRulekeyTimeMs() totalRulekeyTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getTotalRulekeyTimeMs() totalRulekeyTimeMs}.</em>
+     * @param totalRulekeyTimeMs The value for totalRulekeyTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTotalRulekeyTimeMs(Long totalRulekeyTimeMs) {
+      this.totalRulekeyTimeMs = Objects.requireNonNull(totalRulekeyTimeMs, "totalRulekeyTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getFetchTimeMs() fetchTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getFetchTimeMs() fetchTimeMs}.</em>
+     * @param fetchTimeMs The value for fetchTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFetchTimeMs(Long fetchTimeMs) {
+      this.fetchTimeMs = Objects.requireNonNull(fetchTimeMs, "fetchTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getBuildTimeMs() buildTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getBuildTimeMs() buildTimeMs}.</em>
+     * @param buildTimeMs The value for buildTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTimeMs(Long buildTimeMs) {
+      this.buildTimeMs = Objects.requireNonNull(buildTimeMs, "buildTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getTimeToFirstActionMs() timeToFirstActionMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getTimeToFirstActionMs() timeToFirstActionMs}.</em>
+     * @param timeToFirstActionMs The value for timeToFirstActionMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTimeToFirstActionMs(Long timeToFirstActionMs) {
+      this.timeToFirstActionMs = Objects.requireNonNull(timeToFirstActionMs, "timeToFirstActionMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getNewDaemonInstance() newDaemonInstance} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getNewDaemonInstance() newDaemonInstance}.</em>
+     * @param newDaemonInstance The value for newDaemonInstance 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNewDaemonInstance(Boolean newDaemonInstance) {
+      this.newDaemonInstance = Objects.requireNonNull(newDaemonInstance, "newDaemonInstance");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getInstallTimeMs() installTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getInstallTimeMs() installTimeMs}.</em>
+     * @param installTimeMs The value for installTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInstallTimeMs(Long installTimeMs) {
+      this.installTimeMs = Objects.requireNonNull(installTimeMs, "installTimeMs");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PerfTimesStats PerfTimesStats}.
+     * @return An immutable instance of PerfTimesStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerfTimesStats build() {
+      return new PerfTimesStats(this);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.facebook.buck.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *A specification used by the parser, via {@link TargetNodeSpec}, to match build files. 
+ */
+@Generated(from = "AbstractBuildFileSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildFileSpec extends AbstractBuildFileSpec {
+  private final Path basePath;
+  private final boolean recursive;
+  private final Path cellPath;
+
+  private BuildFileSpec(Path basePath, boolean recursive, Path cellPath) {
+    this.basePath = Objects.requireNonNull(basePath, "basePath");
+    this.recursive = recursive;
+    this.cellPath = Objects.requireNonNull(cellPath, "cellPath");
+  }
+
+  private BuildFileSpec(BuildFileSpec original, Path basePath, boolean recursive, Path cellPath) {
+    this.basePath = basePath;
+    this.recursive = recursive;
+    this.cellPath = cellPath;
+  }
+
+  /**
+   * @return The value of the {@code basePath} attribute
+   */
+  @Override
+  public Path getBasePath() {
+    return basePath;
+  }
+
+  /**
+   * @return The value of the {@code recursive} attribute
+   */
+  @Override
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * @return The value of the {@code cellPath} attribute
+   */
+  @Override
+  public Path getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildFileSpec#getBasePath() basePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for basePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileSpec withBasePath(Path value) {
+    if (this.basePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "basePath");
+    return new BuildFileSpec(this, newValue, this.recursive, this.cellPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildFileSpec#isRecursive() recursive} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for recursive
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileSpec withRecursive(boolean value) {
+    if (this.recursive == value) return this;
+    return new BuildFileSpec(this, this.basePath, value, this.cellPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildFileSpec#getCellPath() cellPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileSpec withCellPath(Path value) {
+    if (this.cellPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "cellPath");
+    return new BuildFileSpec(this, this.basePath, this.recursive, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildFileSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildFileSpec
+        && equalTo((BuildFileSpec) another);
+  }
+
+  private boolean equalTo(BuildFileSpec another) {
+    return basePath.equals(another.basePath)
+        && recursive == another.recursive
+        && cellPath.equals(another.cellPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code basePath}, {@code recursive}, {@code cellPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + basePath.hashCode();
+    h += (h << 5) + Booleans.hashCode(recursive);
+    h += (h << 5) + cellPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileSpec")
+        .omitNullValues()
+        .add("basePath", basePath)
+        .add("recursive", recursive)
+        .add("cellPath", cellPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileSpec} instance.
+   * @param basePath The value for the {@code basePath} attribute
+   * @param recursive The value for the {@code recursive} attribute
+   * @param cellPath The value for the {@code cellPath} attribute
+   * @return An immutable BuildFileSpec instance
+   */
+  public static BuildFileSpec of(Path basePath, boolean recursive, Path cellPath) {
+    return new BuildFileSpec(basePath, recursive, cellPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildFileSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildFileSpec instance
+   */
+  static BuildFileSpec copyOf(AbstractBuildFileSpec instance) {
+    if (instance instanceof BuildFileSpec) {
+      return (BuildFileSpec) instance;
+    }
+    return BuildFileSpec.of(instance.getBasePath(), instance.isRecursive(), instance.getCellPath());
+  }
+}
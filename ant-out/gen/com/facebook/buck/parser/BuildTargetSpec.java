@@ -0,0 +1,131 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Matches a {@link TargetNode} name by a specific {@link BuildTarget}. 
+ */
+@Generated(from = "AbstractBuildTargetSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildTargetSpec extends AbstractBuildTargetSpec {
+  private final BuildTarget buildTarget;
+  private final BuildFileSpec buildFileSpec;
+
+  private BuildTargetSpec(
+      BuildTarget buildTarget,
+      BuildFileSpec buildFileSpec) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.buildFileSpec = Objects.requireNonNull(buildFileSpec, "buildFileSpec");
+  }
+
+  private BuildTargetSpec(
+      BuildTargetSpec original,
+      BuildTarget buildTarget,
+      BuildFileSpec buildFileSpec) {
+    this.buildTarget = buildTarget;
+    this.buildFileSpec = buildFileSpec;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code buildFileSpec} attribute
+   */
+  @Override
+  public BuildFileSpec getBuildFileSpec() {
+    return buildFileSpec;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildTargetSpec#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildTargetSpec withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return new BuildTargetSpec(this, newValue, this.buildFileSpec);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildTargetSpec#getBuildFileSpec() buildFileSpec} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildFileSpec
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildTargetSpec withBuildFileSpec(BuildFileSpec value) {
+    if (this.buildFileSpec == value) return this;
+    BuildFileSpec newValue = Objects.requireNonNull(value, "buildFileSpec");
+    return new BuildTargetSpec(this, this.buildTarget, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildTargetSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildTargetSpec
+        && equalTo((BuildTargetSpec) another);
+  }
+
+  private boolean equalTo(BuildTargetSpec another) {
+    return buildTarget.equals(another.buildTarget)
+        && buildFileSpec.equals(another.buildFileSpec);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code buildFileSpec}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + buildFileSpec.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetSpec} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param buildFileSpec The value for the {@code buildFileSpec} attribute
+   * @return An immutable BuildTargetSpec instance
+   */
+  public static BuildTargetSpec of(BuildTarget buildTarget, BuildFileSpec buildFileSpec) {
+    return new BuildTargetSpec(buildTarget, buildFileSpec);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildTargetSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildTargetSpec instance
+   */
+  static BuildTargetSpec copyOf(AbstractBuildTargetSpec instance) {
+    if (instance instanceof BuildTargetSpec) {
+      return (BuildTargetSpec) instance;
+    }
+    return BuildTargetSpec.of(instance.getBuildTarget(), instance.getBuildFileSpec());
+  }
+}
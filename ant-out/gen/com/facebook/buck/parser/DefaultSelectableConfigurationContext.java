@@ -0,0 +1,118 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.model.platform.ConstraintResolver;
+import com.facebook.buck.core.model.platform.Platform;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * An implementation of {@link com.facebook.buck.core.select.SelectableConfigurationContext} that is
+ * used in parser implementation.
+ */
+@Generated(from = "AbstractDefaultSelectableConfigurationContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DefaultSelectableConfigurationContext
+    extends AbstractDefaultSelectableConfigurationContext {
+  private final BuckConfig buckConfig;
+  private final ConstraintResolver constraintResolver;
+  private final Platform targetPlatform;
+
+  private DefaultSelectableConfigurationContext(
+      BuckConfig buckConfig,
+      ConstraintResolver constraintResolver,
+      Platform targetPlatform) {
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.constraintResolver = Objects.requireNonNull(constraintResolver, "constraintResolver");
+    this.targetPlatform = Objects.requireNonNull(targetPlatform, "targetPlatform");
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code constraintResolver} attribute
+   */
+  @Override
+  public ConstraintResolver getConstraintResolver() {
+    return constraintResolver;
+  }
+
+  /**
+   * @return The value of the {@code targetPlatform} attribute
+   */
+  @Override
+  public Platform getTargetPlatform() {
+    return targetPlatform;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DefaultSelectableConfigurationContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DefaultSelectableConfigurationContext
+        && equalTo((DefaultSelectableConfigurationContext) another);
+  }
+
+  private boolean equalTo(DefaultSelectableConfigurationContext another) {
+    return buckConfig.equals(another.buckConfig)
+        && constraintResolver.equals(another.constraintResolver)
+        && targetPlatform.equals(another.targetPlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buckConfig}, {@code constraintResolver}, {@code targetPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + constraintResolver.hashCode();
+    h += (h << 5) + targetPlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultSelectableConfigurationContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultSelectableConfigurationContext")
+        .omitNullValues()
+        .add("buckConfig", buckConfig)
+        .add("constraintResolver", constraintResolver)
+        .add("targetPlatform", targetPlatform)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultSelectableConfigurationContext} instance.
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param constraintResolver The value for the {@code constraintResolver} attribute
+   * @param targetPlatform The value for the {@code targetPlatform} attribute
+   * @return An immutable DefaultSelectableConfigurationContext instance
+   */
+  public static DefaultSelectableConfigurationContext of(BuckConfig buckConfig, ConstraintResolver constraintResolver, Platform targetPlatform) {
+    return new DefaultSelectableConfigurationContext(buckConfig, constraintResolver, targetPlatform);
+  }
+}
@@ -0,0 +1,139 @@
+package com.facebook.buck.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Matches all {@link TargetNode} objects in a repository that match the specification. 
+ */
+@Generated(from = "AbstractTargetNodePredicateSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class TargetNodePredicateSpec extends AbstractTargetNodePredicateSpec {
+  private final BuildFileSpec buildFileSpec;
+  private final boolean onlyTests;
+
+  private TargetNodePredicateSpec(BuildFileSpec buildFileSpec) {
+    this.buildFileSpec = Objects.requireNonNull(buildFileSpec, "buildFileSpec");
+    this.onlyTests = super.onlyTests();
+  }
+
+  private TargetNodePredicateSpec(BuildFileSpec buildFileSpec, boolean onlyTests) {
+    this.buildFileSpec = buildFileSpec;
+    this.onlyTests = onlyTests;
+  }
+
+  /**
+   * @return The value of the {@code buildFileSpec} attribute
+   */
+  @Override
+  public BuildFileSpec getBuildFileSpec() {
+    return buildFileSpec;
+  }
+
+  /**
+   * @return The value of the {@code onlyTests} attribute
+   */
+  @Override
+  public boolean onlyTests() {
+    return onlyTests;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TargetNodePredicateSpec#getBuildFileSpec() buildFileSpec} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildFileSpec
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNodePredicateSpec withBuildFileSpec(BuildFileSpec value) {
+    if (this.buildFileSpec == value) return this;
+    BuildFileSpec newValue = Objects.requireNonNull(value, "buildFileSpec");
+    return new TargetNodePredicateSpec(newValue, this.onlyTests);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TargetNodePredicateSpec#onlyTests() onlyTests} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for onlyTests
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNodePredicateSpec withOnlyTests(boolean value) {
+    if (this.onlyTests == value) return this;
+    return new TargetNodePredicateSpec(this.buildFileSpec, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TargetNodePredicateSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TargetNodePredicateSpec
+        && equalTo((TargetNodePredicateSpec) another);
+  }
+
+  private boolean equalTo(TargetNodePredicateSpec another) {
+    return buildFileSpec.equals(another.buildFileSpec)
+        && onlyTests == another.onlyTests;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildFileSpec}, {@code onlyTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildFileSpec.hashCode();
+    h += (h << 5) + Booleans.hashCode(onlyTests);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TargetNodePredicateSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetNodePredicateSpec")
+        .omitNullValues()
+        .add("buildFileSpec", buildFileSpec)
+        .add("onlyTests", onlyTests)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TargetNodePredicateSpec} instance.
+   * @param buildFileSpec The value for the {@code buildFileSpec} attribute
+   * @return An immutable TargetNodePredicateSpec instance
+   */
+  public static TargetNodePredicateSpec of(BuildFileSpec buildFileSpec) {
+    return new TargetNodePredicateSpec(buildFileSpec);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTargetNodePredicateSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TargetNodePredicateSpec instance
+   */
+  static TargetNodePredicateSpec copyOf(AbstractTargetNodePredicateSpec instance) {
+    if (instance instanceof TargetNodePredicateSpec) {
+      return (TargetNodePredicateSpec) instance;
+    }
+    return TargetNodePredicateSpec.of(instance.getBuildFileSpec())
+        .withOnlyTests(instance.onlyTests());
+  }
+}
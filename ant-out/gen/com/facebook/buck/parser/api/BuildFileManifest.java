@@ -0,0 +1,344 @@
+package com.facebook.buck.parser.api;
+
+import com.facebook.buck.skylark.io.GlobSpecWithResult;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Describes the content of a build file, which includes defined targets and their metadata. 
+ */
+@Generated(from = "AbstractBuildFileManifest", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildFileManifest extends AbstractBuildFileManifest {
+  private final ImmutableMap<String, Map<String, Object>> targets;
+  private final ImmutableSortedSet<String> includes;
+  private final ImmutableMap<String, Object> configs;
+  private final @Nullable ImmutableMap<String, Optional<String>> env;
+  private final ImmutableList<GlobSpecWithResult> globManifest;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private BuildFileManifest(
+      Map<String, ? extends Map<String, Object>> targets,
+      ImmutableSortedSet<String> includes,
+      Map<String, ? extends Object> configs,
+      Optional<? extends ImmutableMap<String, Optional<String>>> env,
+      Iterable<? extends GlobSpecWithResult> globManifest) {
+    this.targets = ImmutableMap.copyOf(targets);
+    this.includes = Objects.requireNonNull(includes, "includes");
+    this.configs = ImmutableMap.copyOf(configs);
+    this.env = env.orElse(null);
+    this.globManifest = ImmutableList.copyOf(globManifest);
+  }
+
+  private BuildFileManifest(
+      BuildFileManifest original,
+      ImmutableMap<String, Map<String, Object>> targets,
+      ImmutableSortedSet<String> includes,
+      ImmutableMap<String, Object> configs,
+      @Nullable ImmutableMap<String, Optional<String>> env,
+      ImmutableList<GlobSpecWithResult> globManifest) {
+    this.targets = targets;
+    this.includes = includes;
+    this.configs = configs;
+    this.env = env;
+    this.globManifest = globManifest;
+  }
+
+  /**
+   *@return a list of targets defined in the build file. 
+   */
+  @JsonProperty("targets")
+  @Override
+  public ImmutableMap<String, Map<String, Object>> getTargets() {
+    return targets;
+  }
+
+  /**
+   *@return a set of extension files read during parsing. 
+   */
+  @JsonProperty("includes")
+  @Override
+  public ImmutableSortedSet<String> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return a map from configuration section to configuration key to the value returned during
+   *     parsing.
+   */
+  @JsonProperty("configs")
+  @Override
+  public ImmutableMap<String, Object> getConfigs() {
+    return configs;
+  }
+
+  /**
+   *@return an optional map from environment variable to a value read during parsing (if any). 
+   */
+  @JsonProperty("env")
+  @Override
+  public Optional<ImmutableMap<String, Optional<String>>> getEnv() {
+    return Optional.ofNullable(env);
+  }
+
+  /**
+   *@return A list of the glob operations performed with their results. 
+   */
+  @JsonProperty("globManifest")
+  @Override
+  public ImmutableList<GlobSpecWithResult> getGlobManifest() {
+    return globManifest;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link BuildFileManifest#getTargets() targets} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the targets map
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileManifest withTargets(Map<String, ? extends Map<String, Object>> entries) {
+    if (this.targets == entries) return this;
+    ImmutableMap<String, Map<String, Object>> newValue = ImmutableMap.copyOf(entries);
+    return new BuildFileManifest(this, newValue, this.includes, this.configs, this.env, this.globManifest);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuildFileManifest#getIncludes() includes} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includes
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileManifest withIncludes(ImmutableSortedSet<String> value) {
+    if (this.includes == value) return this;
+    ImmutableSortedSet<String> newValue = Objects.requireNonNull(value, "includes");
+    return new BuildFileManifest(this, this.targets, newValue, this.configs, this.env, this.globManifest);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link BuildFileManifest#getConfigs() configs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the configs map
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileManifest withConfigs(Map<String, ? extends Object> entries) {
+    if (this.configs == entries) return this;
+    ImmutableMap<String, Object> newValue = ImmutableMap.copyOf(entries);
+    return new BuildFileManifest(this, this.targets, this.includes, newValue, this.env, this.globManifest);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuildFileManifest#getEnv() env} attribute.
+   * @param value The value for env
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileManifest withEnv(ImmutableMap<String, Optional<String>> value) {
+    @Nullable ImmutableMap<String, Optional<String>> newValue = Objects.requireNonNull(value, "env");
+    if (this.env == newValue) return this;
+    return new BuildFileManifest(this, this.targets, this.includes, this.configs, newValue, this.globManifest);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuildFileManifest#getEnv() env} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for env
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final BuildFileManifest withEnv(Optional<? extends ImmutableMap<String, Optional<String>>> optional) {
+    @Nullable ImmutableMap<String, Optional<String>> value = optional.orElse(null);
+    if (this.env == value) return this;
+    return new BuildFileManifest(this, this.targets, this.includes, this.configs, value, this.globManifest);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuildFileManifest#getGlobManifest() globManifest}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileManifest withGlobManifest(GlobSpecWithResult... elements) {
+    ImmutableList<GlobSpecWithResult> newValue = ImmutableList.copyOf(elements);
+    return new BuildFileManifest(this, this.targets, this.includes, this.configs, this.env, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BuildFileManifest#getGlobManifest() globManifest}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of globManifest elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildFileManifest withGlobManifest(Iterable<? extends GlobSpecWithResult> elements) {
+    if (this.globManifest == elements) return this;
+    ImmutableList<GlobSpecWithResult> newValue = ImmutableList.copyOf(elements);
+    return new BuildFileManifest(this, this.targets, this.includes, this.configs, this.env, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildFileManifest} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildFileManifest
+        && equalTo((BuildFileManifest) another);
+  }
+
+  private boolean equalTo(BuildFileManifest another) {
+    return targets.equals(another.targets)
+        && includes.equals(another.includes)
+        && configs.equals(another.configs)
+        && Objects.equals(env, another.env)
+        && globManifest.equals(another.globManifest);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targets}, {@code includes}, {@code configs}, {@code env}, {@code globManifest}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targets.hashCode();
+    h += (h << 5) + includes.hashCode();
+    h += (h << 5) + configs.hashCode();
+    h += (h << 5) + Objects.hashCode(env);
+    h += (h << 5) + globManifest.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileManifest} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileManifest")
+        .omitNullValues()
+        .add("targets", targets)
+        .add("includes", includes)
+        .add("configs", configs)
+        .add("env", env)
+        .add("globManifest", globManifest)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "AbstractBuildFileManifest", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractBuildFileManifest {
+    @Nullable ImmutableMap<String, Map<String, Object>> targets = ImmutableMap.of();
+    @Nullable ImmutableSortedSet<String> includes;
+    @Nullable ImmutableMap<String, Object> configs = ImmutableMap.of();
+    @Nullable Optional<ImmutableMap<String, Optional<String>>> env = Optional.empty();
+    @Nullable ImmutableList<GlobSpecWithResult> globManifest = ImmutableList.of();
+    @JsonProperty("targets")
+    public void setTargets(ImmutableMap<String, Map<String, Object>> targets) {
+      this.targets = targets;
+    }
+    @JsonProperty("includes")
+    public void setIncludes(ImmutableSortedSet<String> includes) {
+      this.includes = includes;
+    }
+    @JsonProperty("configs")
+    public void setConfigs(ImmutableMap<String, Object> configs) {
+      this.configs = configs;
+    }
+    @JsonProperty("env")
+    public void setEnv(Optional<ImmutableMap<String, Optional<String>>> env) {
+      this.env = env;
+    }
+    @JsonProperty("globManifest")
+    public void setGlobManifest(ImmutableList<GlobSpecWithResult> globManifest) {
+      this.globManifest = globManifest;
+    }
+    @Override
+    public ImmutableMap<String, Map<String, Object>> getTargets() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSortedSet<String> getIncludes() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<String, Object> getConfigs() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<ImmutableMap<String, Optional<String>>> getEnv() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<GlobSpecWithResult> getGlobManifest() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static BuildFileManifest fromJson(Json json) {
+    BuildFileManifest instance = BuildFileManifest.of(json.targets, json.includes, json.configs, json.env, json.globManifest);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileManifest} instance.
+   * @param targets The value for the {@code targets} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param configs The value for the {@code configs} attribute
+   * @param env The value for the {@code env} attribute
+   * @param globManifest The value for the {@code globManifest} attribute
+   * @return An immutable BuildFileManifest instance
+   */
+  public static BuildFileManifest of(ImmutableMap<String, Map<String, Object>> targets, ImmutableSortedSet<String> includes, ImmutableMap<String, Object> configs, Optional<ImmutableMap<String, Optional<String>>> env, ImmutableList<GlobSpecWithResult> globManifest) {
+    return of(targets, includes, configs, env, (Iterable<? extends GlobSpecWithResult>) globManifest);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileManifest} instance.
+   * @param targets The value for the {@code targets} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param configs The value for the {@code configs} attribute
+   * @param env The value for the {@code env} attribute
+   * @param globManifest The value for the {@code globManifest} attribute
+   * @return An immutable BuildFileManifest instance
+   */
+  public static BuildFileManifest of(Map<String, ? extends Map<String, Object>> targets, ImmutableSortedSet<String> includes, Map<String, ? extends Object> configs, Optional<? extends ImmutableMap<String, Optional<String>>> env, Iterable<? extends GlobSpecWithResult> globManifest) {
+    return new BuildFileManifest(targets, includes, configs, env, globManifest);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildFileManifest} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildFileManifest instance
+   */
+  static BuildFileManifest copyOf(AbstractBuildFileManifest instance) {
+    if (instance instanceof BuildFileManifest) {
+      return (BuildFileManifest) instance;
+    }
+    return BuildFileManifest.of(instance.getTargets(), instance.getIncludes(), instance.getConfigs(), instance.getEnv(), instance.getGlobManifest());
+  }
+}
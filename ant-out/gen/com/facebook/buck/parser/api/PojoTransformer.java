@@ -0,0 +1,103 @@
+package com.facebook.buck.parser.api;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Container to hold transformation function for classes assignable to a provided class. The
+ * result of the transformation is supposed to be a POJO class accepted by {@link
+ * BuildFileManifest} protocol.
+ */
+@Generated(from = "BuildFileManifestPojoizer.AbstractPojoTransformer", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PojoTransformer
+    extends BuildFileManifestPojoizer.AbstractPojoTransformer {
+  private final Class<?> clazz;
+  private final Function<Object, Object> transformFunction;
+
+  private PojoTransformer(
+      Class<?> clazz,
+      Function<Object, Object> transformFunction) {
+    this.clazz = Objects.requireNonNull(clazz, "clazz");
+    this.transformFunction = Objects.requireNonNull(transformFunction, "transformFunction");
+  }
+
+  /**
+   * Return a type that transformer is able to transform from; the real object should be
+   * assignable to this class, so base classes and interfaces can be used too
+   */
+  @Override
+  public Class<?> getClazz() {
+    return clazz;
+  }
+
+  /**
+   *Function that transforms a parser object to POJO object 
+   */
+  @Override
+  public Function<Object, Object> getTransformFunction() {
+    return transformFunction;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PojoTransformer} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PojoTransformer
+        && equalTo((PojoTransformer) another);
+  }
+
+  private boolean equalTo(PojoTransformer another) {
+    return clazz.equals(another.clazz)
+        && transformFunction.equals(another.transformFunction);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code clazz}, {@code transformFunction}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + clazz.hashCode();
+    h += (h << 5) + transformFunction.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PojoTransformer} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PojoTransformer")
+        .omitNullValues()
+        .add("clazz", clazz)
+        .add("transformFunction", transformFunction)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PojoTransformer} instance.
+   * @param clazz The value for the {@code clazz} attribute
+   * @param transformFunction The value for the {@code transformFunction} attribute
+   * @return An immutable PojoTransformer instance
+   */
+  public static PojoTransformer of(Class<?> clazz, Function<Object, Object> transformFunction) {
+    return new PojoTransformer(clazz, transformFunction);
+  }
+}
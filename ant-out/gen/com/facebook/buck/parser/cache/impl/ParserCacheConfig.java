@@ -0,0 +1,188 @@
+package com.facebook.buck.parser.cache.impl;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Class that implements the {@link com.facebook.buck.parser.cache.ParserCache} configuration. 
+ */
+@Generated(from = "AbstractParserCacheConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ParserCacheConfig extends AbstractParserCacheConfig {
+  private final BuckConfig delegate;
+
+  private ParserCacheConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ParserCacheConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ParserCacheConfig
+        && equalTo((ParserCacheConfig) another);
+  }
+
+  private boolean equalTo(ParserCacheConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParserCacheConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParserCacheConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long OBTAIN_DIR_ENTRY_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient AbstractParserDirCacheEntry obtainDirEntry;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserCacheConfig#obtainDirEntry() obtainDirEntry} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code obtainDirEntry} attribute
+   */
+  @Override
+  public AbstractParserDirCacheEntry obtainDirEntry() {
+    if ((lazyInitBitmap & OBTAIN_DIR_ENTRY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & OBTAIN_DIR_ENTRY_LAZY_INIT_BIT) == 0) {
+          this.obtainDirEntry = Objects.requireNonNull(super.obtainDirEntry(), "obtainDirEntry");
+          lazyInitBitmap |= OBTAIN_DIR_ENTRY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return obtainDirEntry;
+  }
+
+  private static final long OBTAIN_REMOTE_ENTRY_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient AbstractParserRemoteCacheEntry obtainRemoteEntry;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserCacheConfig#obtainRemoteEntry() obtainRemoteEntry} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code obtainRemoteEntry} attribute
+   */
+  @Override
+  public AbstractParserRemoteCacheEntry obtainRemoteEntry() {
+    if ((lazyInitBitmap & OBTAIN_REMOTE_ENTRY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & OBTAIN_REMOTE_ENTRY_LAZY_INIT_BIT) == 0) {
+          this.obtainRemoteEntry = Objects.requireNonNull(super.obtainRemoteEntry(), "obtainRemoteEntry");
+          lazyInitBitmap |= OBTAIN_REMOTE_ENTRY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return obtainRemoteEntry;
+  }
+
+  private static final long DIR_CACHE_LOCATION_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<Path> dirCacheLocation;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserCacheConfig#getDirCacheLocation() dirCacheLocation} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code dirCacheLocation} attribute
+   */
+  @Override
+  public Optional<Path> getDirCacheLocation() {
+    if ((lazyInitBitmap & DIR_CACHE_LOCATION_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DIR_CACHE_LOCATION_LAZY_INIT_BIT) == 0) {
+          this.dirCacheLocation = Objects.requireNonNull(super.getDirCacheLocation(), "dirCacheLocation");
+          lazyInitBitmap |= DIR_CACHE_LOCATION_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return dirCacheLocation;
+  }
+
+  private static final long DIR_PARSER_CACHE_ENABLED_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean dirParserCacheEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserCacheConfig#isDirParserCacheEnabled() dirParserCacheEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code dirParserCacheEnabled} attribute
+   */
+  @Override
+  public boolean isDirParserCacheEnabled() {
+    if ((lazyInitBitmap & DIR_PARSER_CACHE_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DIR_PARSER_CACHE_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.dirParserCacheEnabled = super.isDirParserCacheEnabled();
+          lazyInitBitmap |= DIR_PARSER_CACHE_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return dirParserCacheEnabled;
+  }
+
+  /**
+   * Construct a new immutable {@code ParserCacheConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ParserCacheConfig instance
+   */
+  public static ParserCacheConfig of(BuckConfig delegate) {
+    return new ParserCacheConfig(delegate);
+  }
+}
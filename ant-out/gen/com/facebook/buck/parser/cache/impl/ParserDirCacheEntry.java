@@ -0,0 +1,104 @@
+package com.facebook.buck.parser.cache.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractParserDirCacheEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ParserDirCacheEntry.of()}.
+ */
+@Generated(from = "AbstractParserDirCacheEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ParserDirCacheEntry extends AbstractParserDirCacheEntry {
+  private final @Nullable Path dirCacheLocation;
+  private final ParserCacheAccessMode dirCacheMode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ParserDirCacheEntry(
+      Optional<? extends Path> dirCacheLocation,
+      ParserCacheAccessMode dirCacheMode) {
+    this.dirCacheLocation = dirCacheLocation.orElse(null);
+    this.dirCacheMode = Objects.requireNonNull(dirCacheMode, "dirCacheMode");
+  }
+
+  /**
+   * @return The value of the {@code dirCacheLocation} attribute
+   */
+  @Override
+  Optional<Path> getDirCacheLocation() {
+    return Optional.ofNullable(dirCacheLocation);
+  }
+
+  /**
+   * @return The value of the {@code dirCacheMode} attribute
+   */
+  @Override
+  ParserCacheAccessMode getDirCacheMode() {
+    return dirCacheMode;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ParserDirCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ParserDirCacheEntry
+        && equalTo((ParserDirCacheEntry) another);
+  }
+
+  private boolean equalTo(ParserDirCacheEntry another) {
+    return Objects.equals(dirCacheLocation, another.dirCacheLocation)
+        && dirCacheMode.equals(another.dirCacheMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dirCacheLocation}, {@code dirCacheMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(dirCacheLocation);
+    h += (h << 5) + dirCacheMode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParserDirCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParserDirCacheEntry")
+        .omitNullValues()
+        .add("dirCacheLocation", dirCacheLocation)
+        .add("dirCacheMode", dirCacheMode)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ParserDirCacheEntry} instance.
+   * @param dirCacheLocation The value for the {@code dirCacheLocation} attribute
+   * @param dirCacheMode The value for the {@code dirCacheMode} attribute
+   * @return An immutable ParserDirCacheEntry instance
+   */
+  public static ParserDirCacheEntry of(Optional<? extends Path> dirCacheLocation, ParserCacheAccessMode dirCacheMode) {
+    return new ParserDirCacheEntry(dirCacheLocation, dirCacheMode);
+  }
+}
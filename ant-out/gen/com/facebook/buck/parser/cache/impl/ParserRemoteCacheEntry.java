@@ -0,0 +1,86 @@
+package com.facebook.buck.parser.cache.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractParserRemoteCacheEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ParserRemoteCacheEntry.of()}.
+ */
+@Generated(from = "AbstractParserRemoteCacheEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ParserRemoteCacheEntry
+    extends AbstractParserRemoteCacheEntry {
+  private final ParserCacheAccessMode remoteCacheMode;
+
+  private ParserRemoteCacheEntry(ParserCacheAccessMode remoteCacheMode) {
+    this.remoteCacheMode = Objects.requireNonNull(remoteCacheMode, "remoteCacheMode");
+  }
+
+  /**
+   * @return The value of the {@code remoteCacheMode} attribute
+   */
+  @Override
+  ParserCacheAccessMode getRemoteCacheMode() {
+    return remoteCacheMode;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ParserRemoteCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ParserRemoteCacheEntry
+        && equalTo((ParserRemoteCacheEntry) another);
+  }
+
+  private boolean equalTo(ParserRemoteCacheEntry another) {
+    return remoteCacheMode.equals(another.remoteCacheMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code remoteCacheMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + remoteCacheMode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParserRemoteCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParserRemoteCacheEntry")
+        .omitNullValues()
+        .add("remoteCacheMode", remoteCacheMode)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ParserRemoteCacheEntry} instance.
+   * @param remoteCacheMode The value for the {@code remoteCacheMode} attribute
+   * @return An immutable ParserRemoteCacheEntry instance
+   */
+  public static ParserRemoteCacheEntry of(ParserCacheAccessMode remoteCacheMode) {
+    return new ParserRemoteCacheEntry(remoteCacheMode);
+  }
+}
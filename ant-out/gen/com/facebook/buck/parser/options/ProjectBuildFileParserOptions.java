@@ -0,0 +1,1229 @@
+package com.facebook.buck.parser.options;
+
+import com.facebook.buck.core.description.BaseDescription;
+import com.facebook.buck.io.filesystem.PathMatcher;
+import com.facebook.buck.io.watchman.Watchman;
+import com.facebook.buck.parser.implicit.ImplicitInclude;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractProjectBuildFileParserOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ProjectBuildFileParserOptions.builder()}.
+ */
+@Generated(from = "AbstractProjectBuildFileParserOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ProjectBuildFileParserOptions
+    extends AbstractProjectBuildFileParserOptions {
+  private final Path projectRoot;
+  private final ImmutableMap<String, Path> cellRoots;
+  private final String pythonInterpreter;
+  private final @Nullable String pythonModuleSearchPath;
+  private final boolean allowEmptyGlobs;
+  private final ImmutableSet<PathMatcher> ignorePaths;
+  private final String buildFileName;
+  private final ImmutableList<String> defaultIncludes;
+  private final ImmutableMap<String, ImplicitInclude> packageImplicitIncludes;
+  private final ImmutableSet<BaseDescription<?>> descriptions;
+  private final ImmutableMap<String, ImmutableMap<String, String>> rawConfig;
+  private final String cellName;
+  private final boolean useWatchmanGlob;
+  private final boolean watchmanGlobStatResults;
+  private final boolean watchmanUseGlobGenerator;
+  private final Watchman watchman;
+  private final boolean enableProfiling;
+  private final @Nullable Long watchmanQueryTimeoutMs;
+  private final ImmutableList<String> buildFileImportWhitelist;
+  private final boolean disableImplicitNativeRules;
+  private final boolean warnAboutDeprecatedSyntax;
+
+  private ProjectBuildFileParserOptions(ProjectBuildFileParserOptions.Builder builder) {
+    this.projectRoot = builder.projectRoot;
+    this.cellRoots = builder.cellRoots.build();
+    this.pythonInterpreter = builder.pythonInterpreter;
+    this.pythonModuleSearchPath = builder.pythonModuleSearchPath;
+    this.allowEmptyGlobs = builder.allowEmptyGlobs;
+    this.ignorePaths = builder.ignorePaths.build();
+    this.buildFileName = builder.buildFileName;
+    this.defaultIncludes = builder.defaultIncludes.build();
+    this.packageImplicitIncludes = builder.packageImplicitIncludes.build();
+    this.descriptions = builder.descriptions.build();
+    this.rawConfig = builder.rawConfig.build();
+    this.watchmanQueryTimeoutMs = builder.watchmanQueryTimeoutMs;
+    this.buildFileImportWhitelist = builder.buildFileImportWhitelist.build();
+    if (builder.cellName != null) {
+      initShim.setCellName(builder.cellName);
+    }
+    if (builder.useWatchmanGlobIsSet()) {
+      initShim.setUseWatchmanGlob(builder.useWatchmanGlob);
+    }
+    if (builder.watchmanGlobStatResultsIsSet()) {
+      initShim.setWatchmanGlobStatResults(builder.watchmanGlobStatResults);
+    }
+    if (builder.watchmanUseGlobGeneratorIsSet()) {
+      initShim.setWatchmanUseGlobGenerator(builder.watchmanUseGlobGenerator);
+    }
+    if (builder.watchman != null) {
+      initShim.setWatchman(builder.watchman);
+    }
+    if (builder.enableProfilingIsSet()) {
+      initShim.setEnableProfiling(builder.enableProfiling);
+    }
+    if (builder.disableImplicitNativeRulesIsSet()) {
+      initShim.setDisableImplicitNativeRules(builder.disableImplicitNativeRules);
+    }
+    if (builder.warnAboutDeprecatedSyntaxIsSet()) {
+      initShim.setWarnAboutDeprecatedSyntax(builder.warnAboutDeprecatedSyntax);
+    }
+    this.cellName = initShim.getCellName();
+    this.useWatchmanGlob = initShim.getUseWatchmanGlob();
+    this.watchmanGlobStatResults = initShim.getWatchmanGlobStatResults();
+    this.watchmanUseGlobGenerator = initShim.getWatchmanUseGlobGenerator();
+    this.watchman = initShim.getWatchman();
+    this.enableProfiling = initShim.getEnableProfiling();
+    this.disableImplicitNativeRules = initShim.getDisableImplicitNativeRules();
+    this.warnAboutDeprecatedSyntax = initShim.isWarnAboutDeprecatedSyntax();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractProjectBuildFileParserOptions", generator = "Immutables")
+  private final class InitShim {
+    private byte cellNameBuildStage = STAGE_UNINITIALIZED;
+    private String cellName;
+
+    String getCellName() {
+      if (cellNameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cellNameBuildStage == STAGE_UNINITIALIZED) {
+        cellNameBuildStage = STAGE_INITIALIZING;
+        this.cellName = Objects.requireNonNull(ProjectBuildFileParserOptions.super.getCellName(), "cellName");
+        cellNameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cellName;
+    }
+
+    void setCellName(String cellName) {
+      this.cellName = cellName;
+      cellNameBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte useWatchmanGlobBuildStage = STAGE_UNINITIALIZED;
+    private boolean useWatchmanGlob;
+
+    boolean getUseWatchmanGlob() {
+      if (useWatchmanGlobBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useWatchmanGlobBuildStage == STAGE_UNINITIALIZED) {
+        useWatchmanGlobBuildStage = STAGE_INITIALIZING;
+        this.useWatchmanGlob = ProjectBuildFileParserOptions.super.getUseWatchmanGlob();
+        useWatchmanGlobBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useWatchmanGlob;
+    }
+
+    void setUseWatchmanGlob(boolean useWatchmanGlob) {
+      this.useWatchmanGlob = useWatchmanGlob;
+      useWatchmanGlobBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte watchmanGlobStatResultsBuildStage = STAGE_UNINITIALIZED;
+    private boolean watchmanGlobStatResults;
+
+    boolean getWatchmanGlobStatResults() {
+      if (watchmanGlobStatResultsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (watchmanGlobStatResultsBuildStage == STAGE_UNINITIALIZED) {
+        watchmanGlobStatResultsBuildStage = STAGE_INITIALIZING;
+        this.watchmanGlobStatResults = ProjectBuildFileParserOptions.super.getWatchmanGlobStatResults();
+        watchmanGlobStatResultsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.watchmanGlobStatResults;
+    }
+
+    void setWatchmanGlobStatResults(boolean watchmanGlobStatResults) {
+      this.watchmanGlobStatResults = watchmanGlobStatResults;
+      watchmanGlobStatResultsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte watchmanUseGlobGeneratorBuildStage = STAGE_UNINITIALIZED;
+    private boolean watchmanUseGlobGenerator;
+
+    boolean getWatchmanUseGlobGenerator() {
+      if (watchmanUseGlobGeneratorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (watchmanUseGlobGeneratorBuildStage == STAGE_UNINITIALIZED) {
+        watchmanUseGlobGeneratorBuildStage = STAGE_INITIALIZING;
+        this.watchmanUseGlobGenerator = ProjectBuildFileParserOptions.super.getWatchmanUseGlobGenerator();
+        watchmanUseGlobGeneratorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.watchmanUseGlobGenerator;
+    }
+
+    void setWatchmanUseGlobGenerator(boolean watchmanUseGlobGenerator) {
+      this.watchmanUseGlobGenerator = watchmanUseGlobGenerator;
+      watchmanUseGlobGeneratorBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte watchmanBuildStage = STAGE_UNINITIALIZED;
+    private Watchman watchman;
+
+    Watchman getWatchman() {
+      if (watchmanBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (watchmanBuildStage == STAGE_UNINITIALIZED) {
+        watchmanBuildStage = STAGE_INITIALIZING;
+        this.watchman = Objects.requireNonNull(ProjectBuildFileParserOptions.super.getWatchman(), "watchman");
+        watchmanBuildStage = STAGE_INITIALIZED;
+      }
+      return this.watchman;
+    }
+
+    void setWatchman(Watchman watchman) {
+      this.watchman = watchman;
+      watchmanBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte enableProfilingBuildStage = STAGE_UNINITIALIZED;
+    private boolean enableProfiling;
+
+    boolean getEnableProfiling() {
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableProfilingBuildStage == STAGE_UNINITIALIZED) {
+        enableProfilingBuildStage = STAGE_INITIALIZING;
+        this.enableProfiling = ProjectBuildFileParserOptions.super.getEnableProfiling();
+        enableProfilingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableProfiling;
+    }
+
+    void setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      enableProfilingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte disableImplicitNativeRulesBuildStage = STAGE_UNINITIALIZED;
+    private boolean disableImplicitNativeRules;
+
+    boolean getDisableImplicitNativeRules() {
+      if (disableImplicitNativeRulesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (disableImplicitNativeRulesBuildStage == STAGE_UNINITIALIZED) {
+        disableImplicitNativeRulesBuildStage = STAGE_INITIALIZING;
+        this.disableImplicitNativeRules = ProjectBuildFileParserOptions.super.getDisableImplicitNativeRules();
+        disableImplicitNativeRulesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.disableImplicitNativeRules;
+    }
+
+    void setDisableImplicitNativeRules(boolean disableImplicitNativeRules) {
+      this.disableImplicitNativeRules = disableImplicitNativeRules;
+      disableImplicitNativeRulesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte warnAboutDeprecatedSyntaxBuildStage = STAGE_UNINITIALIZED;
+    private boolean warnAboutDeprecatedSyntax;
+
+    boolean isWarnAboutDeprecatedSyntax() {
+      if (warnAboutDeprecatedSyntaxBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (warnAboutDeprecatedSyntaxBuildStage == STAGE_UNINITIALIZED) {
+        warnAboutDeprecatedSyntaxBuildStage = STAGE_INITIALIZING;
+        this.warnAboutDeprecatedSyntax = ProjectBuildFileParserOptions.super.isWarnAboutDeprecatedSyntax();
+        warnAboutDeprecatedSyntaxBuildStage = STAGE_INITIALIZED;
+      }
+      return this.warnAboutDeprecatedSyntax;
+    }
+
+    void setWarnAboutDeprecatedSyntax(boolean warnAboutDeprecatedSyntax) {
+      this.warnAboutDeprecatedSyntax = warnAboutDeprecatedSyntax;
+      warnAboutDeprecatedSyntaxBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (cellNameBuildStage == STAGE_INITIALIZING) attributes.add("cellName");
+      if (useWatchmanGlobBuildStage == STAGE_INITIALIZING) attributes.add("useWatchmanGlob");
+      if (watchmanGlobStatResultsBuildStage == STAGE_INITIALIZING) attributes.add("watchmanGlobStatResults");
+      if (watchmanUseGlobGeneratorBuildStage == STAGE_INITIALIZING) attributes.add("watchmanUseGlobGenerator");
+      if (watchmanBuildStage == STAGE_INITIALIZING) attributes.add("watchman");
+      if (enableProfilingBuildStage == STAGE_INITIALIZING) attributes.add("enableProfiling");
+      if (disableImplicitNativeRulesBuildStage == STAGE_INITIALIZING) attributes.add("disableImplicitNativeRules");
+      if (warnAboutDeprecatedSyntaxBuildStage == STAGE_INITIALIZING) attributes.add("warnAboutDeprecatedSyntax");
+      return "Cannot build ProjectBuildFileParserOptions, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code projectRoot} attribute
+   */
+  @Override
+  public Path getProjectRoot() {
+    return projectRoot;
+  }
+
+  /**
+   * @return The value of the {@code cellRoots} attribute
+   */
+  @Override
+  public ImmutableMap<String, Path> getCellRoots() {
+    return cellRoots;
+  }
+
+  /**
+   * @return The value of the {@code pythonInterpreter} attribute
+   */
+  @Override
+  public String getPythonInterpreter() {
+    return pythonInterpreter;
+  }
+
+  /**
+   * @return The value of the {@code pythonModuleSearchPath} attribute
+   */
+  @Override
+  public Optional<String> getPythonModuleSearchPath() {
+    return Optional.ofNullable(pythonModuleSearchPath);
+  }
+
+  /**
+   * @return The value of the {@code allowEmptyGlobs} attribute
+   */
+  @Override
+  public boolean getAllowEmptyGlobs() {
+    return allowEmptyGlobs;
+  }
+
+  /**
+   * @return The value of the {@code ignorePaths} attribute
+   */
+  @Override
+  public ImmutableSet<PathMatcher> getIgnorePaths() {
+    return ignorePaths;
+  }
+
+  /**
+   * @return The value of the {@code buildFileName} attribute
+   */
+  @Override
+  public String getBuildFileName() {
+    return buildFileName;
+  }
+
+  /**
+   * @return The value of the {@code defaultIncludes} attribute
+   */
+  @Override
+  public ImmutableList<String> getDefaultIncludes() {
+    return defaultIncludes;
+  }
+
+  /**
+   * @return The value of the {@code packageImplicitIncludes} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImplicitInclude> getPackageImplicitIncludes() {
+    return packageImplicitIncludes;
+  }
+
+  /**
+   * @return The value of the {@code descriptions} attribute
+   */
+  @Override
+  public ImmutableSet<BaseDescription<?>> getDescriptions() {
+    return descriptions;
+  }
+
+  /**
+   * @return The value of the {@code rawConfig} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getRawConfig() {
+    return rawConfig;
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public String getCellName() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCellName()
+        : this.cellName;
+  }
+
+  /**
+   * @return The value of the {@code useWatchmanGlob} attribute
+   */
+  @Override
+  public boolean getUseWatchmanGlob() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getUseWatchmanGlob()
+        : this.useWatchmanGlob;
+  }
+
+  /**
+   * @return The value of the {@code watchmanGlobStatResults} attribute
+   */
+  @Override
+  public boolean getWatchmanGlobStatResults() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWatchmanGlobStatResults()
+        : this.watchmanGlobStatResults;
+  }
+
+  /**
+   * @return The value of the {@code watchmanUseGlobGenerator} attribute
+   */
+  @Override
+  public boolean getWatchmanUseGlobGenerator() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWatchmanUseGlobGenerator()
+        : this.watchmanUseGlobGenerator;
+  }
+
+  /**
+   * @return The value of the {@code watchman} attribute
+   */
+  @Override
+  public Watchman getWatchman() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWatchman()
+        : this.watchman;
+  }
+
+  /**
+   * @return The value of the {@code enableProfiling} attribute
+   */
+  @Override
+  public boolean getEnableProfiling() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getEnableProfiling()
+        : this.enableProfiling;
+  }
+
+  /**
+   * @return The value of the {@code watchmanQueryTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getWatchmanQueryTimeoutMs() {
+    return Optional.ofNullable(watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * @return The value of the {@code buildFileImportWhitelist} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildFileImportWhitelist() {
+    return buildFileImportWhitelist;
+  }
+
+  /**
+   * @return The value of the {@code disableImplicitNativeRules} attribute
+   */
+  @Override
+  public boolean getDisableImplicitNativeRules() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDisableImplicitNativeRules()
+        : this.disableImplicitNativeRules;
+  }
+
+  /**
+   * @return The value of the {@code warnAboutDeprecatedSyntax} attribute
+   */
+  @Override
+  public boolean isWarnAboutDeprecatedSyntax() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isWarnAboutDeprecatedSyntax()
+        : this.warnAboutDeprecatedSyntax;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProjectBuildFileParserOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProjectBuildFileParserOptions
+        && equalTo((ProjectBuildFileParserOptions) another);
+  }
+
+  private boolean equalTo(ProjectBuildFileParserOptions another) {
+    return projectRoot.equals(another.projectRoot)
+        && cellRoots.equals(another.cellRoots)
+        && pythonInterpreter.equals(another.pythonInterpreter)
+        && Objects.equals(pythonModuleSearchPath, another.pythonModuleSearchPath)
+        && allowEmptyGlobs == another.allowEmptyGlobs
+        && ignorePaths.equals(another.ignorePaths)
+        && buildFileName.equals(another.buildFileName)
+        && defaultIncludes.equals(another.defaultIncludes)
+        && packageImplicitIncludes.equals(another.packageImplicitIncludes)
+        && descriptions.equals(another.descriptions)
+        && rawConfig.equals(another.rawConfig)
+        && cellName.equals(another.cellName)
+        && useWatchmanGlob == another.useWatchmanGlob
+        && watchmanGlobStatResults == another.watchmanGlobStatResults
+        && watchmanUseGlobGenerator == another.watchmanUseGlobGenerator
+        && watchman.equals(another.watchman)
+        && enableProfiling == another.enableProfiling
+        && Objects.equals(watchmanQueryTimeoutMs, another.watchmanQueryTimeoutMs)
+        && buildFileImportWhitelist.equals(another.buildFileImportWhitelist)
+        && disableImplicitNativeRules == another.disableImplicitNativeRules
+        && warnAboutDeprecatedSyntax == another.warnAboutDeprecatedSyntax;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectRoot}, {@code cellRoots}, {@code pythonInterpreter}, {@code pythonModuleSearchPath}, {@code allowEmptyGlobs}, {@code ignorePaths}, {@code buildFileName}, {@code defaultIncludes}, {@code packageImplicitIncludes}, {@code descriptions}, {@code rawConfig}, {@code cellName}, {@code useWatchmanGlob}, {@code watchmanGlobStatResults}, {@code watchmanUseGlobGenerator}, {@code watchman}, {@code enableProfiling}, {@code watchmanQueryTimeoutMs}, {@code buildFileImportWhitelist}, {@code disableImplicitNativeRules}, {@code warnAboutDeprecatedSyntax}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + projectRoot.hashCode();
+    h += (h << 5) + cellRoots.hashCode();
+    h += (h << 5) + pythonInterpreter.hashCode();
+    h += (h << 5) + Objects.hashCode(pythonModuleSearchPath);
+    h += (h << 5) + Booleans.hashCode(allowEmptyGlobs);
+    h += (h << 5) + ignorePaths.hashCode();
+    h += (h << 5) + buildFileName.hashCode();
+    h += (h << 5) + defaultIncludes.hashCode();
+    h += (h << 5) + packageImplicitIncludes.hashCode();
+    h += (h << 5) + descriptions.hashCode();
+    h += (h << 5) + rawConfig.hashCode();
+    h += (h << 5) + cellName.hashCode();
+    h += (h << 5) + Booleans.hashCode(useWatchmanGlob);
+    h += (h << 5) + Booleans.hashCode(watchmanGlobStatResults);
+    h += (h << 5) + Booleans.hashCode(watchmanUseGlobGenerator);
+    h += (h << 5) + watchman.hashCode();
+    h += (h << 5) + Booleans.hashCode(enableProfiling);
+    h += (h << 5) + Objects.hashCode(watchmanQueryTimeoutMs);
+    h += (h << 5) + buildFileImportWhitelist.hashCode();
+    h += (h << 5) + Booleans.hashCode(disableImplicitNativeRules);
+    h += (h << 5) + Booleans.hashCode(warnAboutDeprecatedSyntax);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProjectBuildFileParserOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectBuildFileParserOptions")
+        .omitNullValues()
+        .add("projectRoot", projectRoot)
+        .add("cellRoots", cellRoots)
+        .add("pythonInterpreter", pythonInterpreter)
+        .add("pythonModuleSearchPath", pythonModuleSearchPath)
+        .add("allowEmptyGlobs", allowEmptyGlobs)
+        .add("ignorePaths", ignorePaths)
+        .add("buildFileName", buildFileName)
+        .add("defaultIncludes", defaultIncludes)
+        .add("packageImplicitIncludes", packageImplicitIncludes)
+        .add("descriptions", descriptions)
+        .add("rawConfig", rawConfig)
+        .add("cellName", cellName)
+        .add("useWatchmanGlob", useWatchmanGlob)
+        .add("watchmanGlobStatResults", watchmanGlobStatResults)
+        .add("watchmanUseGlobGenerator", watchmanUseGlobGenerator)
+        .add("watchman", watchman)
+        .add("enableProfiling", enableProfiling)
+        .add("watchmanQueryTimeoutMs", watchmanQueryTimeoutMs)
+        .add("buildFileImportWhitelist", buildFileImportWhitelist)
+        .add("disableImplicitNativeRules", disableImplicitNativeRules)
+        .add("warnAboutDeprecatedSyntax", warnAboutDeprecatedSyntax)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+   * @return A new ProjectBuildFileParserOptions builder
+   */
+  public static ProjectBuildFileParserOptions.Builder builder() {
+    return new ProjectBuildFileParserOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractProjectBuildFileParserOptions", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PROJECT_ROOT = 0x1L;
+    private static final long INIT_BIT_PYTHON_INTERPRETER = 0x2L;
+    private static final long INIT_BIT_ALLOW_EMPTY_GLOBS = 0x4L;
+    private static final long INIT_BIT_BUILD_FILE_NAME = 0x8L;
+    private static final long OPT_BIT_USE_WATCHMAN_GLOB = 0x1L;
+    private static final long OPT_BIT_WATCHMAN_GLOB_STAT_RESULTS = 0x2L;
+    private static final long OPT_BIT_WATCHMAN_USE_GLOB_GENERATOR = 0x4L;
+    private static final long OPT_BIT_ENABLE_PROFILING = 0x8L;
+    private static final long OPT_BIT_DISABLE_IMPLICIT_NATIVE_RULES = 0x10L;
+    private static final long OPT_BIT_WARN_ABOUT_DEPRECATED_SYNTAX = 0x20L;
+    private long initBits = 0xfL;
+    private long optBits;
+
+    private @Nullable Path projectRoot;
+    private ImmutableMap.Builder<String, Path> cellRoots = ImmutableMap.builder();
+    private @Nullable String pythonInterpreter;
+    private @Nullable String pythonModuleSearchPath;
+    private boolean allowEmptyGlobs;
+    private ImmutableSet.Builder<PathMatcher> ignorePaths = ImmutableSet.builder();
+    private @Nullable String buildFileName;
+    private ImmutableList.Builder<String> defaultIncludes = ImmutableList.builder();
+    private ImmutableMap.Builder<String, ImplicitInclude> packageImplicitIncludes = ImmutableMap.builder();
+    private ImmutableSet.Builder<BaseDescription<?>> descriptions = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, ImmutableMap<String, String>> rawConfig = ImmutableMap.builder();
+    private @Nullable String cellName;
+    private boolean useWatchmanGlob;
+    private boolean watchmanGlobStatResults;
+    private boolean watchmanUseGlobGenerator;
+    private @Nullable Watchman watchman;
+    private boolean enableProfiling;
+    private @Nullable Long watchmanQueryTimeoutMs;
+    private ImmutableList.Builder<String> buildFileImportWhitelist = ImmutableList.builder();
+    private boolean disableImplicitNativeRules;
+    private boolean warnAboutDeprecatedSyntax;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProjectBuildFileParserOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProjectBuildFileParserOptions instance) {
+      return from((AbstractProjectBuildFileParserOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProjectBuildFileParserOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractProjectBuildFileParserOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setProjectRoot(instance.getProjectRoot());
+      putAllCellRoots(instance.getCellRoots());
+      setPythonInterpreter(instance.getPythonInterpreter());
+      Optional<String> pythonModuleSearchPathOptional = instance.getPythonModuleSearchPath();
+      if (pythonModuleSearchPathOptional.isPresent()) {
+        setPythonModuleSearchPath(pythonModuleSearchPathOptional);
+      }
+      setAllowEmptyGlobs(instance.getAllowEmptyGlobs());
+      addAllIgnorePaths(instance.getIgnorePaths());
+      setBuildFileName(instance.getBuildFileName());
+      addAllDefaultIncludes(instance.getDefaultIncludes());
+      putAllPackageImplicitIncludes(instance.getPackageImplicitIncludes());
+      addAllDescriptions(instance.getDescriptions());
+      putAllRawConfig(instance.getRawConfig());
+      setCellName(instance.getCellName());
+      setUseWatchmanGlob(instance.getUseWatchmanGlob());
+      setWatchmanGlobStatResults(instance.getWatchmanGlobStatResults());
+      setWatchmanUseGlobGenerator(instance.getWatchmanUseGlobGenerator());
+      setWatchman(instance.getWatchman());
+      setEnableProfiling(instance.getEnableProfiling());
+      Optional<Long> watchmanQueryTimeoutMsOptional = instance.getWatchmanQueryTimeoutMs();
+      if (watchmanQueryTimeoutMsOptional.isPresent()) {
+        setWatchmanQueryTimeoutMs(watchmanQueryTimeoutMsOptional);
+      }
+      addAllBuildFileImportWhitelist(instance.getBuildFileImportWhitelist());
+      setDisableImplicitNativeRules(instance.getDisableImplicitNativeRules());
+      setWarnAboutDeprecatedSyntax(instance.isWarnAboutDeprecatedSyntax());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getProjectRoot() projectRoot} attribute.
+     * @param projectRoot The value for projectRoot 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProjectRoot(Path projectRoot) {
+      this.projectRoot = Objects.requireNonNull(projectRoot, "projectRoot");
+      initBits &= ~INIT_BIT_PROJECT_ROOT;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ProjectBuildFileParserOptions#getCellRoots() cellRoots} map.
+     * @param key The key in the cellRoots map
+     * @param value The associated value in the cellRoots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCellRoots(String key, Path value) {
+      this.cellRoots.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ProjectBuildFileParserOptions#getCellRoots() cellRoots} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCellRoots(Map.Entry<String, ? extends Path> entry) {
+      this.cellRoots.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ProjectBuildFileParserOptions#getCellRoots() cellRoots} map. Nulls are not permitted
+     * @param entries The entries that will be added to the cellRoots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCellRoots(Map<String, ? extends Path> entries) {
+      this.cellRoots = ImmutableMap.builder();
+      return putAllCellRoots(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ProjectBuildFileParserOptions#getCellRoots() cellRoots} map. Nulls are not permitted
+     * @param entries The entries that will be added to the cellRoots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllCellRoots(Map<String, ? extends Path> entries) {
+      this.cellRoots.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getPythonInterpreter() pythonInterpreter} attribute.
+     * @param pythonInterpreter The value for pythonInterpreter 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPythonInterpreter(String pythonInterpreter) {
+      this.pythonInterpreter = Objects.requireNonNull(pythonInterpreter, "pythonInterpreter");
+      initBits &= ~INIT_BIT_PYTHON_INTERPRETER;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProjectBuildFileParserOptions#getPythonModuleSearchPath() pythonModuleSearchPath} to pythonModuleSearchPath.
+     * @param pythonModuleSearchPath The value for pythonModuleSearchPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPythonModuleSearchPath(String pythonModuleSearchPath) {
+      this.pythonModuleSearchPath = Objects.requireNonNull(pythonModuleSearchPath, "pythonModuleSearchPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProjectBuildFileParserOptions#getPythonModuleSearchPath() pythonModuleSearchPath} to pythonModuleSearchPath.
+     * @param pythonModuleSearchPath The value for pythonModuleSearchPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPythonModuleSearchPath(Optional<String> pythonModuleSearchPath) {
+      this.pythonModuleSearchPath = pythonModuleSearchPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getAllowEmptyGlobs() allowEmptyGlobs} attribute.
+     * @param allowEmptyGlobs The value for allowEmptyGlobs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAllowEmptyGlobs(boolean allowEmptyGlobs) {
+      this.allowEmptyGlobs = allowEmptyGlobs;
+      initBits &= ~INIT_BIT_ALLOW_EMPTY_GLOBS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param element A ignorePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIgnorePaths(PathMatcher element) {
+      this.ignorePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param elements An array of ignorePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIgnorePaths(PathMatcher... elements) {
+      this.ignorePaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param elements An iterable of ignorePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIgnorePaths(Iterable<? extends PathMatcher> elements) {
+      this.ignorePaths = ImmutableSet.builder();
+      return addAllIgnorePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getIgnorePaths() ignorePaths} set.
+     * @param elements An iterable of ignorePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllIgnorePaths(Iterable<? extends PathMatcher> elements) {
+      this.ignorePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getBuildFileName() buildFileName} attribute.
+     * @param buildFileName The value for buildFileName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildFileName(String buildFileName) {
+      this.buildFileName = Objects.requireNonNull(buildFileName, "buildFileName");
+      initBits &= ~INIT_BIT_BUILD_FILE_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param element A defaultIncludes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDefaultIncludes(String element) {
+      this.defaultIncludes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements An array of defaultIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDefaultIncludes(String... elements) {
+      this.defaultIncludes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements An iterable of defaultIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultIncludes(Iterable<String> elements) {
+      this.defaultIncludes = ImmutableList.builder();
+      return addAllDefaultIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements An iterable of defaultIncludes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDefaultIncludes(Iterable<String> elements) {
+      this.defaultIncludes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ProjectBuildFileParserOptions#getPackageImplicitIncludes() packageImplicitIncludes} map.
+     * @param key The key in the packageImplicitIncludes map
+     * @param value The associated value in the packageImplicitIncludes map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPackageImplicitIncludes(String key, ImplicitInclude value) {
+      this.packageImplicitIncludes.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ProjectBuildFileParserOptions#getPackageImplicitIncludes() packageImplicitIncludes} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPackageImplicitIncludes(Map.Entry<String, ? extends ImplicitInclude> entry) {
+      this.packageImplicitIncludes.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ProjectBuildFileParserOptions#getPackageImplicitIncludes() packageImplicitIncludes} map. Nulls are not permitted
+     * @param entries The entries that will be added to the packageImplicitIncludes map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageImplicitIncludes(Map<String, ? extends ImplicitInclude> entries) {
+      this.packageImplicitIncludes = ImmutableMap.builder();
+      return putAllPackageImplicitIncludes(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ProjectBuildFileParserOptions#getPackageImplicitIncludes() packageImplicitIncludes} map. Nulls are not permitted
+     * @param entries The entries that will be added to the packageImplicitIncludes map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllPackageImplicitIncludes(Map<String, ? extends ImplicitInclude> entries) {
+      this.packageImplicitIncludes.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param element A descriptions element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDescriptions(BaseDescription<?> element) {
+      this.descriptions.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param elements An array of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addDescriptions(BaseDescription<?>... elements) {
+      this.descriptions.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param elements An iterable of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDescriptions(Iterable<? extends BaseDescription<?>> elements) {
+      this.descriptions = ImmutableSet.builder();
+      return addAllDescriptions(elements);
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getDescriptions() descriptions} set.
+     * @param elements An iterable of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDescriptions(Iterable<? extends BaseDescription<?>> elements) {
+      this.descriptions.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ProjectBuildFileParserOptions#getRawConfig() rawConfig} map.
+     * @param key The key in the rawConfig map
+     * @param value The associated value in the rawConfig map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRawConfig(String key, ImmutableMap<String, String> value) {
+      this.rawConfig.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRawConfig(Map.Entry<String, ? extends ImmutableMap<String, String>> entry) {
+      this.rawConfig.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param entries The entries that will be added to the rawConfig map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRawConfig(Map<String, ? extends ImmutableMap<String, String>> entries) {
+      this.rawConfig = ImmutableMap.builder();
+      return putAllRawConfig(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param entries The entries that will be added to the rawConfig map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllRawConfig(Map<String, ? extends ImmutableMap<String, String>> entries) {
+      this.rawConfig.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getCellName() cellName} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#getCellName() cellName}.</em>
+     * @param cellName The value for cellName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCellName(String cellName) {
+      this.cellName = Objects.requireNonNull(cellName, "cellName");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob}.</em>
+     * @param useWatchmanGlob The value for useWatchmanGlob 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUseWatchmanGlob(boolean useWatchmanGlob) {
+      this.useWatchmanGlob = useWatchmanGlob;
+      optBits |= OPT_BIT_USE_WATCHMAN_GLOB;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getWatchmanGlobStatResults() watchmanGlobStatResults} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#getWatchmanGlobStatResults() watchmanGlobStatResults}.</em>
+     * @param watchmanGlobStatResults The value for watchmanGlobStatResults 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWatchmanGlobStatResults(boolean watchmanGlobStatResults) {
+      this.watchmanGlobStatResults = watchmanGlobStatResults;
+      optBits |= OPT_BIT_WATCHMAN_GLOB_STAT_RESULTS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getWatchmanUseGlobGenerator() watchmanUseGlobGenerator} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#getWatchmanUseGlobGenerator() watchmanUseGlobGenerator}.</em>
+     * @param watchmanUseGlobGenerator The value for watchmanUseGlobGenerator 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWatchmanUseGlobGenerator(boolean watchmanUseGlobGenerator) {
+      this.watchmanUseGlobGenerator = watchmanUseGlobGenerator;
+      optBits |= OPT_BIT_WATCHMAN_USE_GLOB_GENERATOR;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getWatchman() watchman} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#getWatchman() watchman}.</em>
+     * @param watchman The value for watchman 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWatchman(Watchman watchman) {
+      this.watchman = Objects.requireNonNull(watchman, "watchman");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getEnableProfiling() enableProfiling} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#getEnableProfiling() enableProfiling}.</em>
+     * @param enableProfiling The value for enableProfiling 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnableProfiling(boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      optBits |= OPT_BIT_ENABLE_PROFILING;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} to watchmanQueryTimeoutMs.
+     * @param watchmanQueryTimeoutMs The value for watchmanQueryTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWatchmanQueryTimeoutMs(long watchmanQueryTimeoutMs) {
+      this.watchmanQueryTimeoutMs = watchmanQueryTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} to watchmanQueryTimeoutMs.
+     * @param watchmanQueryTimeoutMs The value for watchmanQueryTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWatchmanQueryTimeoutMs(Optional<Long> watchmanQueryTimeoutMs) {
+      this.watchmanQueryTimeoutMs = watchmanQueryTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param element A buildFileImportWhitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildFileImportWhitelist(String element) {
+      this.buildFileImportWhitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param elements An array of buildFileImportWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildFileImportWhitelist(String... elements) {
+      this.buildFileImportWhitelist.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param elements An iterable of buildFileImportWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildFileImportWhitelist(Iterable<String> elements) {
+      this.buildFileImportWhitelist = ImmutableList.builder();
+      return addAllBuildFileImportWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link ProjectBuildFileParserOptions#getBuildFileImportWhitelist() buildFileImportWhitelist} list.
+     * @param elements An iterable of buildFileImportWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllBuildFileImportWhitelist(Iterable<String> elements) {
+      this.buildFileImportWhitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#getDisableImplicitNativeRules() disableImplicitNativeRules} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#getDisableImplicitNativeRules() disableImplicitNativeRules}.</em>
+     * @param disableImplicitNativeRules The value for disableImplicitNativeRules 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDisableImplicitNativeRules(boolean disableImplicitNativeRules) {
+      this.disableImplicitNativeRules = disableImplicitNativeRules;
+      optBits |= OPT_BIT_DISABLE_IMPLICIT_NATIVE_RULES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProjectBuildFileParserOptions#isWarnAboutDeprecatedSyntax() warnAboutDeprecatedSyntax} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ProjectBuildFileParserOptions#isWarnAboutDeprecatedSyntax() warnAboutDeprecatedSyntax}.</em>
+     * @param warnAboutDeprecatedSyntax The value for warnAboutDeprecatedSyntax 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWarnAboutDeprecatedSyntax(boolean warnAboutDeprecatedSyntax) {
+      this.warnAboutDeprecatedSyntax = warnAboutDeprecatedSyntax;
+      optBits |= OPT_BIT_WARN_ABOUT_DEPRECATED_SYNTAX;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+     * @return An immutable instance of ProjectBuildFileParserOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProjectBuildFileParserOptions build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProjectBuildFileParserOptions(this);
+    }
+
+    private boolean useWatchmanGlobIsSet() {
+      return (optBits & OPT_BIT_USE_WATCHMAN_GLOB) != 0;
+    }
+
+    private boolean watchmanGlobStatResultsIsSet() {
+      return (optBits & OPT_BIT_WATCHMAN_GLOB_STAT_RESULTS) != 0;
+    }
+
+    private boolean watchmanUseGlobGeneratorIsSet() {
+      return (optBits & OPT_BIT_WATCHMAN_USE_GLOB_GENERATOR) != 0;
+    }
+
+    private boolean enableProfilingIsSet() {
+      return (optBits & OPT_BIT_ENABLE_PROFILING) != 0;
+    }
+
+    private boolean disableImplicitNativeRulesIsSet() {
+      return (optBits & OPT_BIT_DISABLE_IMPLICIT_NATIVE_RULES) != 0;
+    }
+
+    private boolean warnAboutDeprecatedSyntaxIsSet() {
+      return (optBits & OPT_BIT_WARN_ABOUT_DEPRECATED_SYNTAX) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PROJECT_ROOT) != 0) attributes.add("projectRoot");
+      if ((initBits & INIT_BIT_PYTHON_INTERPRETER) != 0) attributes.add("pythonInterpreter");
+      if ((initBits & INIT_BIT_ALLOW_EMPTY_GLOBS) != 0) attributes.add("allowEmptyGlobs");
+      if ((initBits & INIT_BIT_BUILD_FILE_NAME) != 0) attributes.add("buildFileName");
+      return "Cannot build ProjectBuildFileParserOptions, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.facebook.buck.parser.syntax;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SelectorList}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSelectorList.of()}.
+ */
+@Generated(from = "SelectorList", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableSelectorList extends SelectorList {
+  private final ImmutableList<Object> elements;
+  private final Class<?> type;
+
+  private ImmutableSelectorList(Iterable<? extends Object> elements, Class<?> type) {
+    this.elements = ImmutableList.copyOf(elements);
+    this.type = Objects.requireNonNull(type, "type");
+  }
+
+  /**
+   *Ordered list of elements in expression, can be native type or {@link AbstractSelectorValue} 
+   */
+  @JsonProperty("elements")
+  @Override
+  public ImmutableList<Object> getElements() {
+    return elements;
+  }
+
+  /**
+   *Type of the data in selector values 
+   */
+  @JsonProperty("type")
+  @Override
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSelectorList} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSelectorList
+        && equalTo((ImmutableSelectorList) another);
+  }
+
+  private boolean equalTo(ImmutableSelectorList another) {
+    return elements.equals(another.elements)
+        && type.equals(another.type);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code elements}, {@code type}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + elements.hashCode();
+    h += (h << 5) + type.hashCode();
+    return h;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "SelectorList", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends SelectorList {
+    @Nullable ImmutableList<Object> elements = ImmutableList.of();
+    @Nullable Class<?> type;
+    @JsonProperty("elements")
+    public void setElements(ImmutableList<Object> elements) {
+      this.elements = elements;
+    }
+    @JsonProperty("type")
+    public void setType(Class<?> type) {
+      this.type = type;
+    }
+    @Override
+    public ImmutableList<Object> getElements() { throw new UnsupportedOperationException(); }
+    @Override
+    public Class<?> getType() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableSelectorList fromJson(Json json) {
+    ImmutableSelectorList instance = ImmutableSelectorList.of(json.elements, json.type);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code SelectorList} instance.
+   * @param elements The value for the {@code elements} attribute
+   * @param type The value for the {@code type} attribute
+   * @return An immutable SelectorList instance
+   */
+  public static ImmutableSelectorList of(ImmutableList<Object> elements, Class<?> type) {
+    return of((Iterable<? extends Object>) elements, type);
+  }
+
+  /**
+   * Construct a new immutable {@code SelectorList} instance.
+   * @param elements The value for the {@code elements} attribute
+   * @param type The value for the {@code type} attribute
+   * @return An immutable SelectorList instance
+   */
+  public static ImmutableSelectorList of(Iterable<? extends Object> elements, Class<?> type) {
+    return new ImmutableSelectorList(elements, type);
+  }
+}
@@ -0,0 +1,133 @@
+package com.facebook.buck.parser.syntax;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SelectorValue}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSelectorValue.of()}.
+ */
+@Generated(from = "SelectorValue", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableSelectorValue extends SelectorValue {
+  private final ImmutableMap<String, Object> dictionary;
+  private final String noMatchError;
+
+  private ImmutableSelectorValue(
+      Map<String, ? extends Object> dictionary,
+      String noMatchError) {
+    this.dictionary = ImmutableMap.copyOf(dictionary);
+    this.noMatchError = Objects.requireNonNull(noMatchError, "noMatchError");
+  }
+
+  /**
+   *Return a map with select choices and appropriate values 
+   */
+  @JsonProperty("dictionary")
+  @Override
+  public ImmutableMap<String, Object> getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   *Provide an error message to show if select choices are not matched 
+   */
+  @JsonProperty("noMatchError")
+  @Override
+  public String getNoMatchError() {
+    return noMatchError;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSelectorValue} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSelectorValue
+        && equalTo((ImmutableSelectorValue) another);
+  }
+
+  private boolean equalTo(ImmutableSelectorValue another) {
+    return dictionary.equals(another.dictionary)
+        && noMatchError.equals(another.noMatchError);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dictionary}, {@code noMatchError}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + dictionary.hashCode();
+    h += (h << 5) + noMatchError.hashCode();
+    return h;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "SelectorValue", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends SelectorValue {
+    @Nullable ImmutableMap<String, Object> dictionary = ImmutableMap.of();
+    @Nullable String noMatchError;
+    @JsonProperty("dictionary")
+    public void setDictionary(ImmutableMap<String, Object> dictionary) {
+      this.dictionary = dictionary;
+    }
+    @JsonProperty("noMatchError")
+    public void setNoMatchError(String noMatchError) {
+      this.noMatchError = noMatchError;
+    }
+    @Override
+    public ImmutableMap<String, Object> getDictionary() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getNoMatchError() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableSelectorValue fromJson(Json json) {
+    ImmutableSelectorValue instance = ImmutableSelectorValue.of(json.dictionary, json.noMatchError);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code SelectorValue} instance.
+   * @param dictionary The value for the {@code dictionary} attribute
+   * @param noMatchError The value for the {@code noMatchError} attribute
+   * @return An immutable SelectorValue instance
+   */
+  public static ImmutableSelectorValue of(Map<String, ? extends Object> dictionary, String noMatchError) {
+    return new ImmutableSelectorValue(dictionary, noMatchError);
+  }
+}
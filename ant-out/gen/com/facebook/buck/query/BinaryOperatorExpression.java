@@ -0,0 +1,308 @@
+package com.facebook.buck.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * A binary algebraic set operation.
+ * <pre>
+ * expr ::= expr (INTERSECT expr)+
+ *        | expr ('^' expr)+
+ *        | expr (UNION expr)+
+ *        | expr ('+' expr)+
+ *        | expr (EXCEPT expr)+
+ *        | expr ('-' expr)+
+ * </pre>
+ */
+@Generated(from = "AbstractBinaryOperatorExpression", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BinaryOperatorExpression extends AbstractBinaryOperatorExpression {
+  private final AbstractBinaryOperatorExpression.Operator operator;
+  private final ImmutableList<QueryExpression> operands;
+  private transient final int hashCode;
+
+  private BinaryOperatorExpression(
+      AbstractBinaryOperatorExpression.Operator operator,
+      Iterable<? extends QueryExpression> operands) {
+    this.operator = Objects.requireNonNull(operator, "operator");
+    this.operands = ImmutableList.copyOf(operands);
+    this.hashCode = computeHashCode();
+  }
+
+  private BinaryOperatorExpression(
+      BinaryOperatorExpression original,
+      AbstractBinaryOperatorExpression.Operator operator,
+      ImmutableList<QueryExpression> operands) {
+    this.operator = operator;
+    this.operands = operands;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code operator} attribute
+   */
+  @Override
+  public AbstractBinaryOperatorExpression.Operator getOperator() {
+    return operator;
+  }
+
+  /**
+   * @return The value of the {@code operands} attribute
+   */
+  @Override
+  public ImmutableList<QueryExpression> getOperands() {
+    return operands;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BinaryOperatorExpression#getOperator() operator} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for operator
+   * @return A modified copy of the {@code this} object
+   */
+  public final BinaryOperatorExpression withOperator(AbstractBinaryOperatorExpression.Operator value) {
+    if (this.operator == value) return this;
+    AbstractBinaryOperatorExpression.Operator newValue = Objects.requireNonNull(value, "operator");
+    if (this.operator.equals(newValue)) return this;
+    return validate(new BinaryOperatorExpression(this, newValue, this.operands));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BinaryOperatorExpression#getOperands() operands}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BinaryOperatorExpression withOperands(QueryExpression... elements) {
+    ImmutableList<QueryExpression> newValue = ImmutableList.copyOf(elements);
+    return validate(new BinaryOperatorExpression(this, this.operator, newValue));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link BinaryOperatorExpression#getOperands() operands}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of operands elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BinaryOperatorExpression withOperands(Iterable<? extends QueryExpression> elements) {
+    if (this.operands == elements) return this;
+    ImmutableList<QueryExpression> newValue = ImmutableList.copyOf(elements);
+    return validate(new BinaryOperatorExpression(this, this.operator, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BinaryOperatorExpression} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BinaryOperatorExpression
+        && equalTo((BinaryOperatorExpression) another);
+  }
+
+  private boolean equalTo(BinaryOperatorExpression another) {
+    if (hashCode != another.hashCode) return false;
+    return operator.equals(another.operator)
+        && operands.equals(another.operands);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code operator}, {@code operands}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + operator.hashCode();
+    h += (h << 5) + operands.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BinaryOperatorExpression} instance.
+   * @param operator The value for the {@code operator} attribute
+   * @param operands The value for the {@code operands} attribute
+   * @return An immutable BinaryOperatorExpression instance
+   */
+  public static BinaryOperatorExpression of(AbstractBinaryOperatorExpression.Operator operator, ImmutableList<QueryExpression> operands) {
+    return of(operator, (Iterable<? extends QueryExpression>) operands);
+  }
+
+  /**
+   * Construct a new immutable {@code BinaryOperatorExpression} instance.
+   * @param operator The value for the {@code operator} attribute
+   * @param operands The value for the {@code operands} attribute
+   * @return An immutable BinaryOperatorExpression instance
+   */
+  public static BinaryOperatorExpression of(AbstractBinaryOperatorExpression.Operator operator, Iterable<? extends QueryExpression> operands) {
+    return validate(new BinaryOperatorExpression(operator, operands));
+  }
+
+
+  private static BinaryOperatorExpression validate(BinaryOperatorExpression instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBinaryOperatorExpression} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BinaryOperatorExpression instance
+   */
+  static BinaryOperatorExpression copyOf(AbstractBinaryOperatorExpression instance) {
+    if (instance instanceof BinaryOperatorExpression) {
+      return (BinaryOperatorExpression) instance;
+    }
+    return BinaryOperatorExpression.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BinaryOperatorExpression BinaryOperatorExpression}.
+   * @return A new BinaryOperatorExpression builder
+   */
+  public static BinaryOperatorExpression.Builder builder() {
+    return new BinaryOperatorExpression.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BinaryOperatorExpression BinaryOperatorExpression}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractBinaryOperatorExpression", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_OPERATOR = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractBinaryOperatorExpression.Operator operator;
+    private ImmutableList.Builder<QueryExpression> operands = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BinaryOperatorExpression} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BinaryOperatorExpression instance) {
+      return from((AbstractBinaryOperatorExpression) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBinaryOperatorExpression} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBinaryOperatorExpression instance) {
+      Objects.requireNonNull(instance, "instance");
+      setOperator(instance.getOperator());
+      addAllOperands(instance.getOperands());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BinaryOperatorExpression#getOperator() operator} attribute.
+     * @param operator The value for operator 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOperator(AbstractBinaryOperatorExpression.Operator operator) {
+      this.operator = Objects.requireNonNull(operator, "operator");
+      initBits &= ~INIT_BIT_OPERATOR;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BinaryOperatorExpression#getOperands() operands} list.
+     * @param element A operands element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addOperands(QueryExpression element) {
+      this.operands.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BinaryOperatorExpression#getOperands() operands} list.
+     * @param elements An array of operands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addOperands(QueryExpression... elements) {
+      this.operands.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BinaryOperatorExpression#getOperands() operands} list.
+     * @param elements An iterable of operands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOperands(Iterable<? extends QueryExpression> elements) {
+      this.operands = ImmutableList.builder();
+      return addAllOperands(elements);
+    }
+
+    /**
+     * Adds elements to {@link BinaryOperatorExpression#getOperands() operands} list.
+     * @param elements An iterable of operands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllOperands(Iterable<? extends QueryExpression> elements) {
+      this.operands.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BinaryOperatorExpression BinaryOperatorExpression}.
+     * @return An immutable instance of BinaryOperatorExpression
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BinaryOperatorExpression build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return BinaryOperatorExpression.validate(new BinaryOperatorExpression(null, operator, operands.build()));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_OPERATOR) != 0) attributes.add("operator");
+      return "Cannot build BinaryOperatorExpression, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,268 @@
+package com.facebook.buck.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *A query expression for user-defined query functions. 
+ */
+@Generated(from = "AbstractFunctionExpression", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class FunctionExpression extends AbstractFunctionExpression {
+  private final QueryEnvironment.QueryFunction function;
+  private final ImmutableList<QueryEnvironment.Argument> args;
+  private transient final int hashCode;
+
+  private FunctionExpression(
+      QueryEnvironment.QueryFunction function,
+      Iterable<? extends QueryEnvironment.Argument> args) {
+    this.function = Objects.requireNonNull(function, "function");
+    this.args = ImmutableList.copyOf(args);
+    this.hashCode = super.hashCode();
+  }
+
+  private FunctionExpression(
+      FunctionExpression original,
+      QueryEnvironment.QueryFunction function,
+      ImmutableList<QueryEnvironment.Argument> args) {
+    this.function = function;
+    this.args = args;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code function} attribute
+   */
+  @Override
+  public QueryEnvironment.QueryFunction getFunction() {
+    return function;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public ImmutableList<QueryEnvironment.Argument> getArgs() {
+    return args;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link FunctionExpression#getFunction() function} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for function
+   * @return A modified copy of the {@code this} object
+   */
+  public final FunctionExpression withFunction(QueryEnvironment.QueryFunction value) {
+    if (this.function == value) return this;
+    QueryEnvironment.QueryFunction newValue = Objects.requireNonNull(value, "function");
+    return new FunctionExpression(this, newValue, this.args);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FunctionExpression#getArgs() args}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FunctionExpression withArgs(QueryEnvironment.Argument... elements) {
+    ImmutableList<QueryEnvironment.Argument> newValue = ImmutableList.copyOf(elements);
+    return new FunctionExpression(this, this.function, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link FunctionExpression#getArgs() args}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of args elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FunctionExpression withArgs(Iterable<? extends QueryEnvironment.Argument> elements) {
+    if (this.args == elements) return this;
+    ImmutableList<QueryEnvironment.Argument> newValue = ImmutableList.copyOf(elements);
+    return new FunctionExpression(this, this.function, newValue);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code FunctionExpression} instance.
+   * @param function The value for the {@code function} attribute
+   * @param args The value for the {@code args} attribute
+   * @return An immutable FunctionExpression instance
+   */
+  public static FunctionExpression of(QueryEnvironment.QueryFunction function, ImmutableList<QueryEnvironment.Argument> args) {
+    return of(function, (Iterable<? extends QueryEnvironment.Argument>) args);
+  }
+
+  /**
+   * Construct a new immutable {@code FunctionExpression} instance.
+   * @param function The value for the {@code function} attribute
+   * @param args The value for the {@code args} attribute
+   * @return An immutable FunctionExpression instance
+   */
+  public static FunctionExpression of(QueryEnvironment.QueryFunction function, Iterable<? extends QueryEnvironment.Argument> args) {
+    return new FunctionExpression(function, args);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFunctionExpression} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FunctionExpression instance
+   */
+  static FunctionExpression copyOf(AbstractFunctionExpression instance) {
+    if (instance instanceof FunctionExpression) {
+      return (FunctionExpression) instance;
+    }
+    return FunctionExpression.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FunctionExpression FunctionExpression}.
+   * @return A new FunctionExpression builder
+   */
+  public static FunctionExpression.Builder builder() {
+    return new FunctionExpression.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FunctionExpression FunctionExpression}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractFunctionExpression", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FUNCTION = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable QueryEnvironment.QueryFunction function;
+    private ImmutableList.Builder<QueryEnvironment.Argument> args = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FunctionExpression} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FunctionExpression instance) {
+      return from((AbstractFunctionExpression) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractFunctionExpression} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractFunctionExpression instance) {
+      Objects.requireNonNull(instance, "instance");
+      setFunction(instance.getFunction());
+      addAllArgs(instance.getArgs());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FunctionExpression#getFunction() function} attribute.
+     * @param function The value for function 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFunction(QueryEnvironment.QueryFunction function) {
+      this.function = Objects.requireNonNull(function, "function");
+      initBits &= ~INIT_BIT_FUNCTION;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link FunctionExpression#getArgs() args} list.
+     * @param element A args element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArgs(QueryEnvironment.Argument element) {
+      this.args.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FunctionExpression#getArgs() args} list.
+     * @param elements An array of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArgs(QueryEnvironment.Argument... elements) {
+      this.args.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FunctionExpression#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArgs(Iterable<? extends QueryEnvironment.Argument> elements) {
+      this.args = ImmutableList.builder();
+      return addAllArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link FunctionExpression#getArgs() args} list.
+     * @param elements An iterable of args elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllArgs(Iterable<? extends QueryEnvironment.Argument> elements) {
+      this.args.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FunctionExpression FunctionExpression}.
+     * @return An immutable instance of FunctionExpression
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FunctionExpression build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FunctionExpression(null, function, args.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_FUNCTION) != 0) attributes.add("function");
+      return "Cannot build FunctionExpression, some of required attributes are not set " + attributes;
+    }
+  }
+}
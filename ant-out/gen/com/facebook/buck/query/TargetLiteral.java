@@ -0,0 +1,200 @@
+package com.facebook.buck.query;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * A literal set of targets. (The syntax of the string "pattern" determines which.)
+ * <pre>expr ::= WORD</pre>
+ */
+@Generated(from = "AbstractTargetLiteral", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class TargetLiteral extends AbstractTargetLiteral {
+  private final String pattern;
+  private transient final int hashCode;
+
+  private TargetLiteral(String pattern) {
+    this.pattern = Objects.requireNonNull(pattern, "pattern");
+    this.hashCode = computeHashCode();
+  }
+
+  private TargetLiteral(TargetLiteral original, String pattern) {
+    this.pattern = pattern;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code pattern} attribute
+   */
+  @Override
+  public String getPattern() {
+    return pattern;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TargetLiteral#getPattern() pattern} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pattern
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetLiteral withPattern(String value) {
+    String newValue = Objects.requireNonNull(value, "pattern");
+    if (this.pattern.equals(newValue)) return this;
+    return validate(new TargetLiteral(this, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TargetLiteral} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TargetLiteral
+        && equalTo((TargetLiteral) another);
+  }
+
+  private boolean equalTo(TargetLiteral another) {
+    if (hashCode != another.hashCode) return false;
+    return pattern.equals(another.pattern);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code pattern}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pattern.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code TargetLiteral} instance.
+   * @param pattern The value for the {@code pattern} attribute
+   * @return An immutable TargetLiteral instance
+   */
+  public static TargetLiteral of(String pattern) {
+    return validate(new TargetLiteral(pattern));
+  }
+
+
+  private static TargetLiteral validate(TargetLiteral instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTargetLiteral} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TargetLiteral instance
+   */
+  static TargetLiteral copyOf(AbstractTargetLiteral instance) {
+    if (instance instanceof TargetLiteral) {
+      return (TargetLiteral) instance;
+    }
+    return TargetLiteral.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link TargetLiteral TargetLiteral}.
+   * @return A new TargetLiteral builder
+   */
+  public static TargetLiteral.Builder builder() {
+    return new TargetLiteral.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TargetLiteral TargetLiteral}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractTargetLiteral", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATTERN = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String pattern;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TargetLiteral} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TargetLiteral instance) {
+      return from((AbstractTargetLiteral) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTargetLiteral} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractTargetLiteral instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPattern(instance.getPattern());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link TargetLiteral#getPattern() pattern} attribute.
+     * @param pattern The value for pattern 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPattern(String pattern) {
+      this.pattern = Objects.requireNonNull(pattern, "pattern");
+      initBits &= ~INIT_BIT_PATTERN;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link TargetLiteral TargetLiteral}.
+     * @return An immutable instance of TargetLiteral
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TargetLiteral build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return TargetLiteral.validate(new TargetLiteral(null, pattern));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PATTERN) != 0) attributes.add("pattern");
+      return "Cannot build TargetLiteral, some of required attributes are not set " + attributes;
+    }
+  }
+}
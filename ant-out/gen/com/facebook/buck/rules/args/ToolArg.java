@@ -0,0 +1,113 @@
+package com.facebook.buck.rules.args;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *An Arg that just wraps a Tool. 
+ */
+@Generated(from = "AbstractToolArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ToolArg implements AbstractToolArg {
+  private final Tool tool;
+
+  private ToolArg(Tool tool) {
+    this.tool = Objects.requireNonNull(tool, "tool");
+  }
+
+  private ToolArg(ToolArg original, Tool tool) {
+    this.tool = tool;
+  }
+
+  /**
+   * @return The value of the {@code tool} attribute
+   */
+  @Override
+  public Tool getTool() {
+    return tool;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ToolArg#getTool() tool} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for tool
+   * @return A modified copy of the {@code this} object
+   */
+  public final ToolArg withTool(Tool value) {
+    if (this.tool == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "tool");
+    return new ToolArg(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ToolArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ToolArg
+        && equalTo((ToolArg) another);
+  }
+
+  private boolean equalTo(ToolArg another) {
+    return tool.equals(another.tool);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code tool}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + tool.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ToolArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ToolArg")
+        .omitNullValues()
+        .add("tool", tool)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ToolArg} instance.
+   * @param tool The value for the {@code tool} attribute
+   * @return An immutable ToolArg instance
+   */
+  public static ToolArg of(Tool tool) {
+    return new ToolArg(tool);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractToolArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ToolArg instance
+   */
+  static ToolArg copyOf(AbstractToolArg instance) {
+    if (instance instanceof ToolArg) {
+      return (ToolArg) instance;
+    }
+    return ToolArg.of(instance.getTool());
+  }
+}
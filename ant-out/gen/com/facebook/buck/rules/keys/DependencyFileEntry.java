@@ -0,0 +1,274 @@
+package com.facebook.buck.rules.keys;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDependencyFileEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DependencyFileEntry.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DependencyFileEntry.of()}.
+ */
+@Generated(from = "AbstractDependencyFileEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DependencyFileEntry extends AbstractDependencyFileEntry {
+  private final Path pathToFile;
+  private final @Nullable Path pathWithinArchive;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private DependencyFileEntry(Path pathToFile, Optional<? extends Path> pathWithinArchive) {
+    this.pathToFile = Objects.requireNonNull(pathToFile, "pathToFile");
+    this.pathWithinArchive = pathWithinArchive.orElse(null);
+  }
+
+  private DependencyFileEntry(DependencyFileEntry.Builder builder) {
+    this.pathToFile = builder.pathToFile;
+    this.pathWithinArchive = builder.pathWithinArchive;
+  }
+
+  /**
+   * @return The value of the {@code pathToFile} attribute
+   */
+  @JsonProperty
+  @Override
+  public Path pathToFile() {
+    return pathToFile;
+  }
+
+  /**
+   * @return The value of the {@code pathWithinArchive} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Path> pathWithinArchive() {
+    return Optional.ofNullable(pathWithinArchive);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DependencyFileEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DependencyFileEntry
+        && equalTo((DependencyFileEntry) another);
+  }
+
+  private boolean equalTo(DependencyFileEntry another) {
+    return pathToFile.equals(another.pathToFile)
+        && Objects.equals(pathWithinArchive, another.pathWithinArchive);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToFile}, {@code pathWithinArchive}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathToFile.hashCode();
+    h += (h << 5) + Objects.hashCode(pathWithinArchive);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DependencyFileEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DependencyFileEntry")
+        .omitNullValues()
+        .add("pathToFile", pathToFile)
+        .add("pathWithinArchive", pathWithinArchive)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "AbstractDependencyFileEntry", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractDependencyFileEntry {
+    @Nullable Path pathToFile;
+    @Nullable Optional<Path> pathWithinArchive = Optional.empty();
+    @JsonProperty
+    public void setPathToFile(Path pathToFile) {
+      this.pathToFile = pathToFile;
+    }
+    @JsonProperty
+    public void setPathWithinArchive(Optional<Path> pathWithinArchive) {
+      this.pathWithinArchive = pathWithinArchive;
+    }
+    @Override
+    public Path pathToFile() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Path> pathWithinArchive() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static DependencyFileEntry fromJson(Json json) {
+    DependencyFileEntry.Builder builder = DependencyFileEntry.builder();
+    if (json.pathToFile != null) {
+      builder.setPathToFile(json.pathToFile);
+    }
+    if (json.pathWithinArchive != null) {
+      builder.setPathWithinArchive(json.pathWithinArchive);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code DependencyFileEntry} instance.
+   * @param pathToFile The value for the {@code pathToFile} attribute
+   * @param pathWithinArchive The value for the {@code pathWithinArchive} attribute
+   * @return An immutable DependencyFileEntry instance
+   */
+  public static DependencyFileEntry of(Path pathToFile, Optional<? extends Path> pathWithinArchive) {
+    return validate(new DependencyFileEntry(pathToFile, pathWithinArchive));
+  }
+
+
+  private static DependencyFileEntry validate(DependencyFileEntry instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link DependencyFileEntry DependencyFileEntry}.
+   * @return A new DependencyFileEntry builder
+   */
+  public static DependencyFileEntry.Builder builder() {
+    return new DependencyFileEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DependencyFileEntry DependencyFileEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractDependencyFileEntry", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH_TO_FILE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Path pathToFile;
+    private @Nullable Path pathWithinArchive;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DependencyFileEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DependencyFileEntry instance) {
+      return from((AbstractDependencyFileEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDependencyFileEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDependencyFileEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPathToFile(instance.pathToFile());
+      Optional<Path> pathWithinArchiveOptional = instance.pathWithinArchive();
+      if (pathWithinArchiveOptional.isPresent()) {
+        setPathWithinArchive(pathWithinArchiveOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DependencyFileEntry#pathToFile() pathToFile} attribute.
+     * @param pathToFile The value for pathToFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathToFile(Path pathToFile) {
+      this.pathToFile = Objects.requireNonNull(pathToFile, "pathToFile");
+      initBits &= ~INIT_BIT_PATH_TO_FILE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DependencyFileEntry#pathWithinArchive() pathWithinArchive} to pathWithinArchive.
+     * @param pathWithinArchive The value for pathWithinArchive
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathWithinArchive(Path pathWithinArchive) {
+      this.pathWithinArchive = Objects.requireNonNull(pathWithinArchive, "pathWithinArchive");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DependencyFileEntry#pathWithinArchive() pathWithinArchive} to pathWithinArchive.
+     * @param pathWithinArchive The value for pathWithinArchive
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathWithinArchive(Optional<? extends Path> pathWithinArchive) {
+      this.pathWithinArchive = pathWithinArchive.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DependencyFileEntry DependencyFileEntry}.
+     * @return An immutable instance of DependencyFileEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DependencyFileEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return DependencyFileEntry.validate(new DependencyFileEntry(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PATH_TO_FILE) != 0) attributes.add("pathToFile");
+      return "Cannot build DependencyFileEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *<code>$(cc)</code> macro type. 
+ */
+@Generated(from = "AbstractCcMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CcMacro implements AbstractCcMacro {
+
+  private CcMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code CcMacro} that have equal attribute values.
+   * As instances of the {@code CcMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 1559905361;
+  }
+
+  /**
+   * Prints the immutable value {@code CcMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CcMacro{}";
+  }
+
+  private static final CcMacro INSTANCE = new CcMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CcMacro}
+   * @return An immutable instance of CcMacro
+   */
+  public static CcMacro of() {
+    return INSTANCE;
+  }
+}
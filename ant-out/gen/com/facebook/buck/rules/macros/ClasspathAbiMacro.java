@@ -0,0 +1,88 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractClasspathAbiMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ClasspathAbiMacro.of()}.
+ */
+@Generated(from = "AbstractClasspathAbiMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ClasspathAbiMacro extends AbstractClasspathAbiMacro {
+  private final BuildTarget target;
+
+  private ClasspathAbiMacro(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  private ClasspathAbiMacro(ClasspathAbiMacro original, BuildTarget target) {
+    this.target = target;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ClasspathAbiMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClasspathAbiMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new ClasspathAbiMacro(this, newValue);
+  }
+
+  /**
+   * Prints the immutable value {@code ClasspathAbiMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ClasspathAbiMacro")
+        .omitNullValues()
+        .add("target", target)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ClasspathAbiMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable ClasspathAbiMacro instance
+   */
+  public static ClasspathAbiMacro of(BuildTarget target) {
+    return new ClasspathAbiMacro(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractClasspathAbiMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ClasspathAbiMacro instance
+   */
+  static ClasspathAbiMacro copyOf(AbstractClasspathAbiMacro instance) {
+    if (instance instanceof ClasspathAbiMacro) {
+      return (ClasspathAbiMacro) instance;
+    }
+    return ClasspathAbiMacro.of(instance.getTarget());
+  }
+}
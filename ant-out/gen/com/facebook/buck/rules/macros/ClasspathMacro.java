@@ -0,0 +1,88 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractClasspathMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ClasspathMacro.of()}.
+ */
+@Generated(from = "AbstractClasspathMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ClasspathMacro extends AbstractClasspathMacro {
+  private final BuildTarget target;
+
+  private ClasspathMacro(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  private ClasspathMacro(ClasspathMacro original, BuildTarget target) {
+    this.target = target;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ClasspathMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ClasspathMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new ClasspathMacro(this, newValue);
+  }
+
+  /**
+   * Prints the immutable value {@code ClasspathMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ClasspathMacro")
+        .omitNullValues()
+        .add("target", target)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ClasspathMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable ClasspathMacro instance
+   */
+  public static ClasspathMacro of(BuildTarget target) {
+    return new ClasspathMacro(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractClasspathMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ClasspathMacro instance
+   */
+  static ClasspathMacro copyOf(AbstractClasspathMacro instance) {
+    if (instance instanceof ClasspathMacro) {
+      return (ClasspathMacro) instance;
+    }
+    return ClasspathMacro.of(instance.getTarget());
+  }
+}
@@ -0,0 +1,60 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *<code>$(cxxflags)</code> macro type. 
+ */
+@Generated(from = "AbstractCxxFlagsMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CxxFlagsMacro implements AbstractCxxFlagsMacro {
+
+  private CxxFlagsMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code CxxFlagsMacro} that have equal attribute values.
+   * As instances of the {@code CxxFlagsMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 139889933;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxFlagsMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CxxFlagsMacro{}";
+  }
+
+  private static final CxxFlagsMacro INSTANCE = new CxxFlagsMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CxxFlagsMacro}
+   * @return An immutable instance of CxxFlagsMacro
+   */
+  public static CxxFlagsMacro of() {
+    return INSTANCE;
+  }
+}
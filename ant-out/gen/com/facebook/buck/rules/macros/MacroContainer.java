@@ -0,0 +1,253 @@
+package com.facebook.buck.rules.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Packages up a {@link Macro} along some configuration. 
+ */
+@Generated(from = "AbstractMacroContainer", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class MacroContainer extends AbstractMacroContainer {
+  private final Macro macro;
+  private final boolean outputToFile;
+
+  private MacroContainer(Macro macro, boolean outputToFile) {
+    this.macro = Objects.requireNonNull(macro, "macro");
+    this.outputToFile = outputToFile;
+  }
+
+  private MacroContainer(MacroContainer.Builder builder) {
+    this.macro = builder.macro;
+    this.outputToFile = builder.outputToFileIsSet()
+        ? builder.outputToFile
+        : super.isOutputToFile();
+  }
+
+  private MacroContainer(MacroContainer original, Macro macro, boolean outputToFile) {
+    this.macro = macro;
+    this.outputToFile = outputToFile;
+  }
+
+  /**
+   * @return The value of the {@code macro} attribute
+   */
+  @Override
+  public Macro getMacro() {
+    return macro;
+  }
+
+  /**
+   * @return The value of the {@code outputToFile} attribute
+   */
+  @Override
+  public boolean isOutputToFile() {
+    return outputToFile;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link MacroContainer#getMacro() macro} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for macro
+   * @return A modified copy of the {@code this} object
+   */
+  public final MacroContainer withMacro(Macro value) {
+    if (this.macro == value) return this;
+    Macro newValue = Objects.requireNonNull(value, "macro");
+    return new MacroContainer(this, newValue, this.outputToFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link MacroContainer#isOutputToFile() outputToFile} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for outputToFile
+   * @return A modified copy of the {@code this} object
+   */
+  public final MacroContainer withOutputToFile(boolean value) {
+    if (this.outputToFile == value) return this;
+    return new MacroContainer(this, this.macro, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MacroContainer} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MacroContainer
+        && equalTo((MacroContainer) another);
+  }
+
+  private boolean equalTo(MacroContainer another) {
+    return macro.equals(another.macro)
+        && outputToFile == another.outputToFile;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code macro}, {@code outputToFile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + macro.hashCode();
+    h += (h << 5) + Booleans.hashCode(outputToFile);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MacroContainer} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MacroContainer")
+        .omitNullValues()
+        .add("macro", macro)
+        .add("outputToFile", outputToFile)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MacroContainer} instance.
+   * @param macro The value for the {@code macro} attribute
+   * @param outputToFile The value for the {@code outputToFile} attribute
+   * @return An immutable MacroContainer instance
+   */
+  public static MacroContainer of(Macro macro, boolean outputToFile) {
+    return new MacroContainer(macro, outputToFile);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractMacroContainer} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MacroContainer instance
+   */
+  static MacroContainer copyOf(AbstractMacroContainer instance) {
+    if (instance instanceof MacroContainer) {
+      return (MacroContainer) instance;
+    }
+    return MacroContainer.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link MacroContainer MacroContainer}.
+   * @return A new MacroContainer builder
+   */
+  public static MacroContainer.Builder builder() {
+    return new MacroContainer.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MacroContainer MacroContainer}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractMacroContainer", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MACRO = 0x1L;
+    private static final long OPT_BIT_OUTPUT_TO_FILE = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable Macro macro;
+    private boolean outputToFile;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MacroContainer} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MacroContainer instance) {
+      return from((AbstractMacroContainer) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractMacroContainer} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractMacroContainer instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMacro(instance.getMacro());
+      setOutputToFile(instance.isOutputToFile());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link MacroContainer#getMacro() macro} attribute.
+     * @param macro The value for macro 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMacro(Macro macro) {
+      this.macro = Objects.requireNonNull(macro, "macro");
+      initBits &= ~INIT_BIT_MACRO;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link MacroContainer#isOutputToFile() outputToFile} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link MacroContainer#isOutputToFile() outputToFile}.</em>
+     * @param outputToFile The value for outputToFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputToFile(boolean outputToFile) {
+      this.outputToFile = outputToFile;
+      optBits |= OPT_BIT_OUTPUT_TO_FILE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link MacroContainer MacroContainer}.
+     * @return An immutable instance of MacroContainer
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MacroContainer build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new MacroContainer(this);
+    }
+
+    private boolean outputToFileIsSet() {
+      return (optBits & OPT_BIT_OUTPUT_TO_FILE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_MACRO) != 0) attributes.add("macro");
+      return "Cannot build MacroContainer, some of required attributes are not set " + attributes;
+    }
+  }
+}
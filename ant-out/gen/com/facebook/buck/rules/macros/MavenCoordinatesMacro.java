@@ -0,0 +1,88 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractMavenCoordinatesMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code MavenCoordinatesMacro.of()}.
+ */
+@Generated(from = "AbstractMavenCoordinatesMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class MavenCoordinatesMacro extends AbstractMavenCoordinatesMacro {
+  private final BuildTarget target;
+
+  private MavenCoordinatesMacro(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  private MavenCoordinatesMacro(MavenCoordinatesMacro original, BuildTarget target) {
+    this.target = target;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link MavenCoordinatesMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final MavenCoordinatesMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new MavenCoordinatesMacro(this, newValue);
+  }
+
+  /**
+   * Prints the immutable value {@code MavenCoordinatesMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MavenCoordinatesMacro")
+        .omitNullValues()
+        .add("target", target)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MavenCoordinatesMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable MavenCoordinatesMacro instance
+   */
+  public static MavenCoordinatesMacro of(BuildTarget target) {
+    return new MavenCoordinatesMacro(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractMavenCoordinatesMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MavenCoordinatesMacro instance
+   */
+  static MavenCoordinatesMacro copyOf(AbstractMavenCoordinatesMacro instance) {
+    if (instance instanceof MavenCoordinatesMacro) {
+      return (MavenCoordinatesMacro) instance;
+    }
+    return MavenCoordinatesMacro.of(instance.getTarget());
+  }
+}
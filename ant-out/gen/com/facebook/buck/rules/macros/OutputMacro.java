@@ -0,0 +1,113 @@
+package com.facebook.buck.rules.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Macro used to denote the path of an output of a rule. Used when constructing command lines for
+ * the rule, e.g. in {@code flags} fields of supporting rules.
+ */
+@Generated(from = "AbstractOutputMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class OutputMacro extends AbstractOutputMacro {
+  private final String outputName;
+
+  private OutputMacro(String outputName) {
+    this.outputName = Objects.requireNonNull(outputName, "outputName");
+  }
+
+  private OutputMacro(OutputMacro original, String outputName) {
+    this.outputName = outputName;
+  }
+
+  /**
+   * @return The value of the {@code outputName} attribute
+   */
+  @Override
+  public String getOutputName() {
+    return outputName;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link OutputMacro#getOutputName() outputName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for outputName
+   * @return A modified copy of the {@code this} object
+   */
+  public final OutputMacro withOutputName(String value) {
+    String newValue = Objects.requireNonNull(value, "outputName");
+    if (this.outputName.equals(newValue)) return this;
+    return new OutputMacro(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OutputMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OutputMacro
+        && equalTo((OutputMacro) another);
+  }
+
+  private boolean equalTo(OutputMacro another) {
+    return outputName.equals(another.outputName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OutputMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OutputMacro")
+        .omitNullValues()
+        .add("outputName", outputName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OutputMacro} instance.
+   * @param outputName The value for the {@code outputName} attribute
+   * @return An immutable OutputMacro instance
+   */
+  public static OutputMacro of(String outputName) {
+    return new OutputMacro(outputName);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractOutputMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OutputMacro instance
+   */
+  static OutputMacro copyOf(AbstractOutputMacro instance) {
+    if (instance instanceof OutputMacro) {
+      return (OutputMacro) instance;
+    }
+    return OutputMacro.of(instance.getOutputName());
+  }
+}
@@ -0,0 +1,60 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *<code>$(platform-name)</code> macro type. 
+ */
+@Generated(from = "AbstractPlatformNameMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PlatformNameMacro implements AbstractPlatformNameMacro {
+
+  private PlatformNameMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code PlatformNameMacro} that have equal attribute values.
+   * As instances of the {@code PlatformNameMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -967173549;
+  }
+
+  /**
+   * Prints the immutable value {@code PlatformNameMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "PlatformNameMacro{}";
+  }
+
+  private static final PlatformNameMacro INSTANCE = new PlatformNameMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code PlatformNameMacro}
+   * @return An immutable instance of PlatformNameMacro
+   */
+  public static PlatformNameMacro of() {
+    return INSTANCE;
+  }
+}
@@ -0,0 +1,114 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Class providing the type for macros used in `$(query_paths ...)` macro strings. The
+ * implementation is provided by the {@link QueryMacro} base class.
+ */
+@Generated(from = "AbstractQueryPathsMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class QueryPathsMacro extends AbstractQueryPathsMacro {
+  private final Query query;
+
+  private QueryPathsMacro(Query query) {
+    this.query = Objects.requireNonNull(query, "query");
+  }
+
+  private QueryPathsMacro(QueryPathsMacro original, Query query) {
+    this.query = query;
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public Query getQuery() {
+    return query;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link QueryPathsMacro#getQuery() query} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for query
+   * @return A modified copy of the {@code this} object
+   */
+  public final QueryPathsMacro withQuery(Query value) {
+    if (this.query == value) return this;
+    Query newValue = Objects.requireNonNull(value, "query");
+    return new QueryPathsMacro(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code QueryPathsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof QueryPathsMacro
+        && equalTo((QueryPathsMacro) another);
+  }
+
+  private boolean equalTo(QueryPathsMacro another) {
+    return query.equals(another.query);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code query}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + query.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code QueryPathsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("QueryPathsMacro")
+        .omitNullValues()
+        .add("query", query)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code QueryPathsMacro} instance.
+   * @param query The value for the {@code query} attribute
+   * @return An immutable QueryPathsMacro instance
+   */
+  public static QueryPathsMacro of(Query query) {
+    return new QueryPathsMacro(query);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractQueryPathsMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable QueryPathsMacro instance
+   */
+  static QueryPathsMacro copyOf(AbstractQueryPathsMacro instance) {
+    if (instance instanceof QueryPathsMacro) {
+      return (QueryPathsMacro) instance;
+    }
+    return QueryPathsMacro.of(instance.getQuery());
+  }
+}
@@ -0,0 +1,114 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Class providing the type for macros used in `$(query_targets ...)` macro strings. The
+ * implementation is provided by the {@link QueryMacro} base class.
+ */
+@Generated(from = "AbstractQueryTargetsMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class QueryTargetsMacro extends AbstractQueryTargetsMacro {
+  private final Query query;
+
+  private QueryTargetsMacro(Query query) {
+    this.query = Objects.requireNonNull(query, "query");
+  }
+
+  private QueryTargetsMacro(QueryTargetsMacro original, Query query) {
+    this.query = query;
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public Query getQuery() {
+    return query;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link QueryTargetsMacro#getQuery() query} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for query
+   * @return A modified copy of the {@code this} object
+   */
+  public final QueryTargetsMacro withQuery(Query value) {
+    if (this.query == value) return this;
+    Query newValue = Objects.requireNonNull(value, "query");
+    return new QueryTargetsMacro(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code QueryTargetsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof QueryTargetsMacro
+        && equalTo((QueryTargetsMacro) another);
+  }
+
+  private boolean equalTo(QueryTargetsMacro another) {
+    return query.equals(another.query);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code query}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + query.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code QueryTargetsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("QueryTargetsMacro")
+        .omitNullValues()
+        .add("query", query)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code QueryTargetsMacro} instance.
+   * @param query The value for the {@code query} attribute
+   * @return An immutable QueryTargetsMacro instance
+   */
+  public static QueryTargetsMacro of(Query query) {
+    return new QueryTargetsMacro(query);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractQueryTargetsMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable QueryTargetsMacro instance
+   */
+  static QueryTargetsMacro copyOf(AbstractQueryTargetsMacro instance) {
+    if (instance instanceof QueryTargetsMacro) {
+      return (QueryTargetsMacro) instance;
+    }
+    return QueryTargetsMacro.of(instance.getQuery());
+  }
+}
@@ -0,0 +1,426 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Converts a {@link StringWithMacros} into an {@link Arg}. Performs conversion eagerly, and meant
+ * as a replacement for the lazy {@link StringWithMacrosArg}.
+ */
+@Generated(from = "AbstractStringWithMacrosConverter", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class StringWithMacrosConverter
+    extends AbstractStringWithMacrosConverter {
+  private final BuildTarget buildTarget;
+  private final CellPathResolver cellPathResolver;
+  private final ImmutableList<AbstractMacroExpander<? extends Macro, ?>> expanders;
+  private final @Nullable Function<String, String> sanitizer;
+  private final HashMap<Macro, Object> precomputedWorkCache;
+  private transient final ImmutableMap<Class<? extends Macro>, AbstractMacroExpander<? extends Macro, ?>> classExpanders;
+
+  private StringWithMacrosConverter(
+      BuildTarget buildTarget,
+      CellPathResolver cellPathResolver,
+      Iterable<? extends AbstractMacroExpander<? extends Macro, ?>> expanders) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.expanders = ImmutableList.copyOf(expanders);
+    this.sanitizer = null;
+    this.precomputedWorkCache = initShim.getPrecomputedWorkCache();
+    this.classExpanders = initShim.getClassExpanders();
+    this.initShim = null;
+  }
+
+  private StringWithMacrosConverter(StringWithMacrosConverter.Builder builder) {
+    this.buildTarget = builder.buildTarget;
+    this.cellPathResolver = builder.cellPathResolver;
+    this.expanders = builder.expanders.build();
+    this.sanitizer = builder.sanitizer;
+    if (builder.precomputedWorkCache != null) {
+      initShim.setPrecomputedWorkCache(builder.precomputedWorkCache);
+    }
+    this.precomputedWorkCache = initShim.getPrecomputedWorkCache();
+    this.classExpanders = initShim.getClassExpanders();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractStringWithMacrosConverter", generator = "Immutables")
+  private final class InitShim {
+    private byte precomputedWorkCacheBuildStage = STAGE_UNINITIALIZED;
+    private HashMap<Macro, Object> precomputedWorkCache;
+
+    HashMap<Macro, Object> getPrecomputedWorkCache() {
+      if (precomputedWorkCacheBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (precomputedWorkCacheBuildStage == STAGE_UNINITIALIZED) {
+        precomputedWorkCacheBuildStage = STAGE_INITIALIZING;
+        this.precomputedWorkCache = Objects.requireNonNull(StringWithMacrosConverter.super.getPrecomputedWorkCache(), "precomputedWorkCache");
+        precomputedWorkCacheBuildStage = STAGE_INITIALIZED;
+      }
+      return this.precomputedWorkCache;
+    }
+
+    void setPrecomputedWorkCache(HashMap<Macro, Object> precomputedWorkCache) {
+      this.precomputedWorkCache = precomputedWorkCache;
+      precomputedWorkCacheBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte classExpandersBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableMap<Class<? extends Macro>, AbstractMacroExpander<? extends Macro, ?>> classExpanders;
+
+    ImmutableMap<Class<? extends Macro>, AbstractMacroExpander<? extends Macro, ?>> getClassExpanders() {
+      if (classExpandersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classExpandersBuildStage == STAGE_UNINITIALIZED) {
+        classExpandersBuildStage = STAGE_INITIALIZING;
+        this.classExpanders = Objects.requireNonNull(StringWithMacrosConverter.super.getClassExpanders(), "classExpanders");
+        classExpandersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classExpanders;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (precomputedWorkCacheBuildStage == STAGE_INITIALIZING) attributes.add("precomputedWorkCache");
+      if (classExpandersBuildStage == STAGE_INITIALIZING) attributes.add("classExpanders");
+      return "Cannot build StringWithMacrosConverter, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code expanders} attribute
+   */
+  @Override
+  public ImmutableList<AbstractMacroExpander<? extends Macro, ?>> getExpanders() {
+    return expanders;
+  }
+
+  /**
+   * @return The value of the {@code sanitizer} attribute
+   */
+  @Override
+  public Optional<Function<String, String>> getSanitizer() {
+    return Optional.ofNullable(sanitizer);
+  }
+
+  /**
+   * @return The value of the {@code precomputedWorkCache} attribute
+   */
+  @Override
+  public HashMap<Macro, Object> getPrecomputedWorkCache() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPrecomputedWorkCache()
+        : this.precomputedWorkCache;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code classExpanders} attribute
+   */
+  @Override
+  public ImmutableMap<Class<? extends Macro>, AbstractMacroExpander<? extends Macro, ?>> getClassExpanders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClassExpanders()
+        : this.classExpanders;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StringWithMacrosConverter} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StringWithMacrosConverter
+        && equalTo((StringWithMacrosConverter) another);
+  }
+
+  private boolean equalTo(StringWithMacrosConverter another) {
+    return buildTarget.equals(another.buildTarget)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && expanders.equals(another.expanders)
+        && Objects.equals(sanitizer, another.sanitizer)
+        && classExpanders.equals(another.classExpanders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code cellPathResolver}, {@code expanders}, {@code sanitizer}, {@code classExpanders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + expanders.hashCode();
+    h += (h << 5) + Objects.hashCode(sanitizer);
+    h += (h << 5) + classExpanders.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StringWithMacrosConverter} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StringWithMacrosConverter")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("cellPathResolver", cellPathResolver)
+        .add("expanders", expanders)
+        .add("sanitizer", sanitizer)
+        .add("classExpanders", classExpanders)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacrosConverter} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param expanders The value for the {@code expanders} attribute
+   * @return An immutable StringWithMacrosConverter instance
+   */
+  public static StringWithMacrosConverter of(BuildTarget buildTarget, CellPathResolver cellPathResolver, ImmutableList<AbstractMacroExpander<? extends Macro, ?>> expanders) {
+    return of(buildTarget, cellPathResolver, (Iterable<? extends AbstractMacroExpander<? extends Macro, ?>>) expanders);
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacrosConverter} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param expanders The value for the {@code expanders} attribute
+   * @return An immutable StringWithMacrosConverter instance
+   */
+  public static StringWithMacrosConverter of(BuildTarget buildTarget, CellPathResolver cellPathResolver, Iterable<? extends AbstractMacroExpander<? extends Macro, ?>> expanders) {
+    return new StringWithMacrosConverter(buildTarget, cellPathResolver, expanders);
+  }
+
+  /**
+   * Creates a builder for {@link StringWithMacrosConverter StringWithMacrosConverter}.
+   * @return A new StringWithMacrosConverter builder
+   */
+  public static StringWithMacrosConverter.Builder builder() {
+    return new StringWithMacrosConverter.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link StringWithMacrosConverter StringWithMacrosConverter}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractStringWithMacrosConverter", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_TARGET = 0x1L;
+    private static final long INIT_BIT_CELL_PATH_RESOLVER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget buildTarget;
+    private @Nullable CellPathResolver cellPathResolver;
+    private ImmutableList.Builder<AbstractMacroExpander<? extends Macro, ?>> expanders = ImmutableList.builder();
+    private @Nullable Function<String, String> sanitizer;
+    private @Nullable HashMap<Macro, Object> precomputedWorkCache;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StringWithMacrosConverter} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(StringWithMacrosConverter instance) {
+      return from((AbstractStringWithMacrosConverter) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractStringWithMacrosConverter} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractStringWithMacrosConverter instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildTarget(instance.getBuildTarget());
+      setCellPathResolver(instance.getCellPathResolver());
+      addAllExpanders(instance.getExpanders());
+      Optional<Function<String, String>> sanitizerOptional = instance.getSanitizer();
+      if (sanitizerOptional.isPresent()) {
+        setSanitizer(sanitizerOptional);
+      }
+      setPrecomputedWorkCache(instance.getPrecomputedWorkCache());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StringWithMacrosConverter#getBuildTarget() buildTarget} attribute.
+     * @param buildTarget The value for buildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      initBits &= ~INIT_BIT_BUILD_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StringWithMacrosConverter#getCellPathResolver() cellPathResolver} attribute.
+     * @param cellPathResolver The value for cellPathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCellPathResolver(CellPathResolver cellPathResolver) {
+      this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+      initBits &= ~INIT_BIT_CELL_PATH_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link StringWithMacrosConverter#getExpanders() expanders} list.
+     * @param element A expanders element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExpanders(AbstractMacroExpander<? extends Macro, ?> element) {
+      this.expanders.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link StringWithMacrosConverter#getExpanders() expanders} list.
+     * @param elements An array of expanders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addExpanders(AbstractMacroExpander<? extends Macro, ?>... elements) {
+      this.expanders.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link StringWithMacrosConverter#getExpanders() expanders} list.
+     * @param elements An iterable of expanders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExpanders(Iterable<? extends AbstractMacroExpander<? extends Macro, ?>> elements) {
+      this.expanders = ImmutableList.builder();
+      return addAllExpanders(elements);
+    }
+
+    /**
+     * Adds elements to {@link StringWithMacrosConverter#getExpanders() expanders} list.
+     * @param elements An iterable of expanders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExpanders(Iterable<? extends AbstractMacroExpander<? extends Macro, ?>> elements) {
+      this.expanders.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link StringWithMacrosConverter#getSanitizer() sanitizer} to sanitizer.
+     * @param sanitizer The value for sanitizer
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSanitizer(Function<String, String> sanitizer) {
+      this.sanitizer = Objects.requireNonNull(sanitizer, "sanitizer");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link StringWithMacrosConverter#getSanitizer() sanitizer} to sanitizer.
+     * @param sanitizer The value for sanitizer
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSanitizer(Optional<? extends Function<String, String>> sanitizer) {
+      this.sanitizer = sanitizer.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link StringWithMacrosConverter#getPrecomputedWorkCache() precomputedWorkCache} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link StringWithMacrosConverter#getPrecomputedWorkCache() precomputedWorkCache}.</em>
+     * @param precomputedWorkCache The value for precomputedWorkCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedWorkCache(HashMap<Macro, Object> precomputedWorkCache) {
+      this.precomputedWorkCache = Objects.requireNonNull(precomputedWorkCache, "precomputedWorkCache");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link StringWithMacrosConverter StringWithMacrosConverter}.
+     * @return An immutable instance of StringWithMacrosConverter
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StringWithMacrosConverter build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new StringWithMacrosConverter(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BUILD_TARGET) != 0) attributes.add("buildTarget");
+      if ((initBits & INIT_BIT_CELL_PATH_RESOLVER) != 0) attributes.add("cellPathResolver");
+      return "Cannot build StringWithMacrosConverter, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Type for the `$(worker ...)` macro. 
+ */
+@Generated(from = "AbstractWorkerMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class WorkerMacro extends AbstractWorkerMacro {
+  private final BuildTarget target;
+
+  private WorkerMacro(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  private WorkerMacro(WorkerMacro original, BuildTarget target) {
+    this.target = target;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new WorkerMacro(this, newValue);
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerMacro")
+        .omitNullValues()
+        .add("target", target)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable WorkerMacro instance
+   */
+  public static WorkerMacro of(BuildTarget target) {
+    return new WorkerMacro(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWorkerMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerMacro instance
+   */
+  static WorkerMacro copyOf(AbstractWorkerMacro instance) {
+    if (instance instanceof WorkerMacro) {
+      return (WorkerMacro) instance;
+    }
+    return WorkerMacro.of(instance.getTarget());
+  }
+}
@@ -0,0 +1,224 @@
+package com.facebook.buck.rules.modern.builders;
+
+import com.facebook.buck.remoteexecution.Protocol;
+import com.facebook.buck.remoteexecution.RemoteExecutionService;
+import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *This includes all the information needed to run a remote execution command. 
+ */
+@Generated(from = "AbstractRemoteExecutionActionInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class RemoteExecutionActionInfo
+    implements AbstractRemoteExecutionActionInfo {
+  private final Protocol.Digest actionDigest;
+  private final ImmutableMap<Protocol.Digest, UploadDataSupplier> requiredData;
+  private final Iterable<? extends Path> outputs;
+  private final @Nullable RemoteExecutionService.ExecutionResult cachedResult;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private RemoteExecutionActionInfo(
+      Protocol.Digest actionDigest,
+      Map<? extends Protocol.Digest, ? extends UploadDataSupplier> requiredData,
+      Iterable<? extends Path> outputs,
+      Optional<? extends RemoteExecutionService.ExecutionResult> cachedResult) {
+    this.actionDigest = Objects.requireNonNull(actionDigest, "actionDigest");
+    this.requiredData = ImmutableMap.copyOf(requiredData);
+    this.outputs = Objects.requireNonNull(outputs, "outputs");
+    this.cachedResult = cachedResult.orElse(null);
+  }
+
+  private RemoteExecutionActionInfo(
+      RemoteExecutionActionInfo original,
+      Protocol.Digest actionDigest,
+      ImmutableMap<Protocol.Digest, UploadDataSupplier> requiredData,
+      Iterable<? extends Path> outputs,
+      @Nullable RemoteExecutionService.ExecutionResult cachedResult) {
+    this.actionDigest = actionDigest;
+    this.requiredData = requiredData;
+    this.outputs = outputs;
+    this.cachedResult = cachedResult;
+  }
+
+  /**
+   * @return The value of the {@code actionDigest} attribute
+   */
+  @Override
+  public Protocol.Digest getActionDigest() {
+    return actionDigest;
+  }
+
+  /**
+   * @return The value of the {@code requiredData} attribute
+   */
+  @Override
+  public ImmutableMap<Protocol.Digest, UploadDataSupplier> getRequiredData() {
+    return requiredData;
+  }
+
+  /**
+   * @return The value of the {@code outputs} attribute
+   */
+  @Override
+  public Iterable<? extends Path> getOutputs() {
+    return outputs;
+  }
+
+  /**
+   *The result of a previous execution of the action, if the action cache had one. 
+   */
+  @Override
+  public Optional<RemoteExecutionService.ExecutionResult> getCachedResult() {
+    return Optional.ofNullable(cachedResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RemoteExecutionActionInfo#getActionDigest() actionDigest} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionDigest
+   * @return A modified copy of the {@code this} object
+   */
+  public final RemoteExecutionActionInfo withActionDigest(Protocol.Digest value) {
+    if (this.actionDigest == value) return this;
+    Protocol.Digest newValue = Objects.requireNonNull(value, "actionDigest");
+    return new RemoteExecutionActionInfo(this, newValue, this.requiredData, this.outputs, this.cachedResult);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link RemoteExecutionActionInfo#getRequiredData() requiredData} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the requiredData map
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteExecutionActionInfo withRequiredData(Map<? extends Protocol.Digest, ? extends UploadDataSupplier> entries) {
+    if (this.requiredData == entries) return this;
+    ImmutableMap<Protocol.Digest, UploadDataSupplier> newValue = ImmutableMap.copyOf(entries);
+    return new RemoteExecutionActionInfo(this, this.actionDigest, newValue, this.outputs, this.cachedResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link RemoteExecutionActionInfo#getOutputs() outputs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for outputs
+   * @return A modified copy of the {@code this} object
+   */
+  public final RemoteExecutionActionInfo withOutputs(Iterable<? extends Path> value) {
+    if (this.outputs == value) return this;
+    Iterable<? extends Path> newValue = Objects.requireNonNull(value, "outputs");
+    return new RemoteExecutionActionInfo(this, this.actionDigest, this.requiredData, newValue, this.cachedResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link RemoteExecutionActionInfo#getCachedResult() cachedResult} attribute.
+   * @param value The value for cachedResult
+   * @return A modified copy of {@code this} object
+   */
+  public final RemoteExecutionActionInfo withCachedResult(RemoteExecutionService.ExecutionResult value) {
+    @Nullable RemoteExecutionService.ExecutionResult newValue = Objects.requireNonNull(value, "cachedResult");
+    if (this.cachedResult == newValue) return this;
+    return new RemoteExecutionActionInfo(this, this.actionDigest, this.requiredData, this.outputs, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link RemoteExecutionActionInfo#getCachedResult() cachedResult} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cachedResult
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final RemoteExecutionActionInfo withCachedResult(Optional<? extends RemoteExecutionService.ExecutionResult> optional) {
+    @Nullable RemoteExecutionService.ExecutionResult value = optional.orElse(null);
+    if (this.cachedResult == value) return this;
+    return new RemoteExecutionActionInfo(this, this.actionDigest, this.requiredData, this.outputs, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RemoteExecutionActionInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RemoteExecutionActionInfo
+        && equalTo((RemoteExecutionActionInfo) another);
+  }
+
+  private boolean equalTo(RemoteExecutionActionInfo another) {
+    return actionDigest.equals(another.actionDigest)
+        && requiredData.equals(another.requiredData)
+        && outputs.equals(another.outputs)
+        && Objects.equals(cachedResult, another.cachedResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code actionDigest}, {@code requiredData}, {@code outputs}, {@code cachedResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + actionDigest.hashCode();
+    h += (h << 5) + requiredData.hashCode();
+    h += (h << 5) + outputs.hashCode();
+    h += (h << 5) + Objects.hashCode(cachedResult);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RemoteExecutionActionInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RemoteExecutionActionInfo")
+        .omitNullValues()
+        .add("actionDigest", actionDigest)
+        .add("requiredData", requiredData)
+        .add("outputs", outputs)
+        .add("cachedResult", cachedResult)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RemoteExecutionActionInfo} instance.
+   * @param actionDigest The value for the {@code actionDigest} attribute
+   * @param requiredData The value for the {@code requiredData} attribute
+   * @param outputs The value for the {@code outputs} attribute
+   * @param cachedResult The value for the {@code cachedResult} attribute
+   * @return An immutable RemoteExecutionActionInfo instance
+   */
+  public static RemoteExecutionActionInfo of(Protocol.Digest actionDigest, Map<? extends Protocol.Digest, ? extends UploadDataSupplier> requiredData, Iterable<? extends Path> outputs, Optional<? extends RemoteExecutionService.ExecutionResult> cachedResult) {
+    return new RemoteExecutionActionInfo(actionDigest, requiredData, outputs, cachedResult);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRemoteExecutionActionInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RemoteExecutionActionInfo instance
+   */
+  static RemoteExecutionActionInfo copyOf(AbstractRemoteExecutionActionInfo instance) {
+    if (instance instanceof RemoteExecutionActionInfo) {
+      return (RemoteExecutionActionInfo) instance;
+    }
+    return RemoteExecutionActionInfo.of(instance.getActionDigest(), instance.getRequiredData(), instance.getOutputs(), instance.getCachedResult());
+  }
+}
@@ -0,0 +1,303 @@
+package com.facebook.buck.rules.modern.tools;
+
+import com.facebook.buck.util.types.Pair;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *A node in the graph of found paths/errors for the IsolationChecker. 
+ */
+@Generated(from = "AbstractCachedErrors", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CachedErrors implements AbstractCachedErrors {
+  private final ImmutableList<Pair<String, Path>> paths;
+  private final ImmutableList<Pair<String, Throwable>> exceptions;
+  private final ImmutableList<Pair<String, CachedErrors>> references;
+
+  private CachedErrors(CachedErrors.Builder builder) {
+    this.paths = builder.paths.build();
+    this.exceptions = builder.exceptions.build();
+    this.references = builder.references.build();
+  }
+
+  /**
+   * @return The value of the {@code paths} attribute
+   */
+  @Override
+  public ImmutableList<Pair<String, Path>> getPaths() {
+    return paths;
+  }
+
+  /**
+   * @return The value of the {@code exceptions} attribute
+   */
+  @Override
+  public ImmutableList<Pair<String, Throwable>> getExceptions() {
+    return exceptions;
+  }
+
+  /**
+   * @return The value of the {@code references} attribute
+   */
+  @Override
+  public ImmutableList<Pair<String, CachedErrors>> getReferences() {
+    return references;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CachedErrors} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CachedErrors
+        && equalTo((CachedErrors) another);
+  }
+
+  private boolean equalTo(CachedErrors another) {
+    return paths.equals(another.paths)
+        && exceptions.equals(another.exceptions)
+        && references.equals(another.references);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code paths}, {@code exceptions}, {@code references}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + paths.hashCode();
+    h += (h << 5) + exceptions.hashCode();
+    h += (h << 5) + references.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CachedErrors} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachedErrors")
+        .omitNullValues()
+        .add("paths", paths)
+        .add("exceptions", exceptions)
+        .add("references", references)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CachedErrors CachedErrors}.
+   * @return A new CachedErrors builder
+   */
+  public static CachedErrors.Builder builder() {
+    return new CachedErrors.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CachedErrors CachedErrors}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractCachedErrors", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<Pair<String, Path>> paths = ImmutableList.builder();
+    private ImmutableList.Builder<Pair<String, Throwable>> exceptions = ImmutableList.builder();
+    private ImmutableList.Builder<Pair<String, CachedErrors>> references = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CachedErrors} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CachedErrors instance) {
+      return from((AbstractCachedErrors) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCachedErrors} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCachedErrors instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllPaths(instance.getPaths());
+      addAllExceptions(instance.getExceptions());
+      addAllReferences(instance.getReferences());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CachedErrors#getPaths() paths} list.
+     * @param element A paths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPaths(Pair<String, Path> element) {
+      this.paths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CachedErrors#getPaths() paths} list.
+     * @param elements An array of paths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addPaths(Pair<String, Path>... elements) {
+      this.paths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CachedErrors#getPaths() paths} list.
+     * @param elements An iterable of paths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPaths(Iterable<? extends Pair<String, Path>> elements) {
+      this.paths = ImmutableList.builder();
+      return addAllPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link CachedErrors#getPaths() paths} list.
+     * @param elements An iterable of paths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPaths(Iterable<? extends Pair<String, Path>> elements) {
+      this.paths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CachedErrors#getExceptions() exceptions} list.
+     * @param element A exceptions element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExceptions(Pair<String, Throwable> element) {
+      this.exceptions.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CachedErrors#getExceptions() exceptions} list.
+     * @param elements An array of exceptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addExceptions(Pair<String, Throwable>... elements) {
+      this.exceptions.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CachedErrors#getExceptions() exceptions} list.
+     * @param elements An iterable of exceptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExceptions(Iterable<? extends Pair<String, Throwable>> elements) {
+      this.exceptions = ImmutableList.builder();
+      return addAllExceptions(elements);
+    }
+
+    /**
+     * Adds elements to {@link CachedErrors#getExceptions() exceptions} list.
+     * @param elements An iterable of exceptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExceptions(Iterable<? extends Pair<String, Throwable>> elements) {
+      this.exceptions.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CachedErrors#getReferences() references} list.
+     * @param element A references element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addReferences(Pair<String, CachedErrors> element) {
+      this.references.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CachedErrors#getReferences() references} list.
+     * @param elements An array of references elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addReferences(Pair<String, CachedErrors>... elements) {
+      this.references.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CachedErrors#getReferences() references} list.
+     * @param elements An iterable of references elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReferences(Iterable<? extends Pair<String, CachedErrors>> elements) {
+      this.references = ImmutableList.builder();
+      return addAllReferences(elements);
+    }
+
+    /**
+     * Adds elements to {@link CachedErrors#getReferences() references} list.
+     * @param elements An iterable of references elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllReferences(Iterable<? extends Pair<String, CachedErrors>> elements) {
+      this.references.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CachedErrors CachedErrors}.
+     * @return An immutable instance of CachedErrors
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CachedErrors build() {
+      return new CachedErrors(this);
+    }
+  }
+}
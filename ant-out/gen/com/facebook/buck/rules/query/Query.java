@@ -0,0 +1,222 @@
+package com.facebook.buck.rules.query;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractQuery}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code Query.of()}.
+ */
+@Generated(from = "AbstractQuery", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class Query extends AbstractQuery {
+  private final String query;
+  private final @Nullable String baseName;
+  private final @Nullable ImmutableSortedSet<BuildTarget> resolvedQuery;
+
+  private Query(
+      String query,
+      Optional<String> baseName,
+      @Nullable Iterable<? extends BuildTarget> resolvedQuery) {
+    this.query = Objects.requireNonNull(query, "query");
+    this.baseName = baseName.orElse(null);
+    this.resolvedQuery = resolvedQuery == null ? null : ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        resolvedQuery);
+  }
+
+  private Query(
+      Query original,
+      String query,
+      @Nullable String baseName,
+      @Nullable ImmutableSortedSet<BuildTarget> resolvedQuery) {
+    this.query = query;
+    this.baseName = baseName;
+    this.resolvedQuery = resolvedQuery;
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * @return The value of the {@code baseName} attribute
+   */
+  @Override
+  public Optional<String> getBaseName() {
+    return Optional.ofNullable(baseName);
+  }
+
+  /**
+   * @return The value of the {@code resolvedQuery} attribute
+   */
+  @Override
+  public @Nullable ImmutableSortedSet<BuildTarget> getResolvedQuery() {
+    return resolvedQuery;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Query#getQuery() query} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for query
+   * @return A modified copy of the {@code this} object
+   */
+  public final Query withQuery(String value) {
+    String newValue = Objects.requireNonNull(value, "query");
+    if (this.query.equals(newValue)) return this;
+    return new Query(this, newValue, this.baseName, this.resolvedQuery);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link Query#getBaseName() baseName} attribute.
+   * @param value The value for baseName
+   * @return A modified copy of {@code this} object
+   */
+  public final Query withBaseName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "baseName");
+    if (Objects.equals(this.baseName, newValue)) return this;
+    return new Query(this, this.query, newValue, this.resolvedQuery);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link Query#getBaseName() baseName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for baseName
+   * @return A modified copy of {@code this} object
+   */
+  public final Query withBaseName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.baseName, value)) return this;
+    return new Query(this, this.query, value, this.resolvedQuery);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link Query#getResolvedQuery() resolvedQuery}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final Query withResolvedQuery(@Nullable BuildTarget... elements) {
+    if (elements == null) {
+      return new Query(this, this.query, this.baseName, null);
+    }
+    @Nullable ImmutableSortedSet<BuildTarget> newValue = Arrays.asList(elements) == null ? null : ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return new Query(this, this.query, this.baseName, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link Query#getResolvedQuery() resolvedQuery}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resolvedQuery elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final Query withResolvedQuery(@Nullable Iterable<? extends BuildTarget> elements) {
+    if (this.resolvedQuery == elements) return this;
+    @Nullable ImmutableSortedSet<BuildTarget> newValue = elements == null ? null : ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return new Query(this, this.query, this.baseName, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Query} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Query
+        && equalTo((Query) another);
+  }
+
+  private boolean equalTo(Query another) {
+    return query.equals(another.query)
+        && Objects.equals(baseName, another.baseName)
+        && Objects.equals(resolvedQuery, another.resolvedQuery);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code query}, {@code baseName}, {@code resolvedQuery}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + query.hashCode();
+    h += (h << 5) + Objects.hashCode(baseName);
+    h += (h << 5) + Objects.hashCode(resolvedQuery);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Query} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Query")
+        .omitNullValues()
+        .add("query", query)
+        .add("baseName", baseName)
+        .add("resolvedQuery", resolvedQuery)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Query} instance.
+   * @param query The value for the {@code query} attribute
+   * @param baseName The value for the {@code baseName} attribute
+   * @param resolvedQuery The value for the {@code resolvedQuery} attribute
+   * @return An immutable Query instance
+   */
+  public static Query of(String query, Optional<String> baseName, @Nullable ImmutableSortedSet<BuildTarget> resolvedQuery) {
+    return of(query, baseName, (Iterable<? extends BuildTarget>) resolvedQuery);
+  }
+
+  /**
+   * Construct a new immutable {@code Query} instance.
+   * @param query The value for the {@code query} attribute
+   * @param baseName The value for the {@code baseName} attribute
+   * @param resolvedQuery The value for the {@code resolvedQuery} attribute
+   * @return An immutable Query instance
+   */
+  public static Query of(String query, Optional<String> baseName, @Nullable Iterable<? extends BuildTarget> resolvedQuery) {
+    return new Query(query, baseName, resolvedQuery);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractQuery} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Query instance
+   */
+  static Query copyOf(AbstractQuery instance) {
+    if (instance instanceof Query) {
+      return (Query) instance;
+    }
+    return Query.of(instance.getQuery(), instance.getBaseName(), instance.getResolvedQuery());
+  }
+}
@@ -0,0 +1,64 @@
+package com.facebook.buck.rules.visibility;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VisibilityPatternParser.AbstractPublicVisibilityPattern}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code PublicVisibilityPattern.of()}.
+ */
+@Generated(from = "VisibilityPatternParser.AbstractPublicVisibilityPattern", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PublicVisibilityPattern
+    extends VisibilityPatternParser.AbstractPublicVisibilityPattern {
+
+  private PublicVisibilityPattern() {}
+
+  /**
+   * This instance is equal to all instances of {@code PublicVisibilityPattern} that have equal attribute values.
+   * As instances of the {@code PublicVisibilityPattern} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 1903485428;
+  }
+
+  /**
+   * Prints the immutable value {@code PublicVisibilityPattern}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "PublicVisibilityPattern{}";
+  }
+
+  private static final PublicVisibilityPattern INSTANCE = new PublicVisibilityPattern();
+
+  /**
+   * Returns the default immutable singleton value of {@code PublicVisibilityPattern}
+   * @return An immutable instance of PublicVisibilityPattern
+   */
+  public static PublicVisibilityPattern of() {
+    return INSTANCE;
+  }
+}
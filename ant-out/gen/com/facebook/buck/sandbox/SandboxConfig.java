@@ -0,0 +1,161 @@
+package com.facebook.buck.sandbox;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Config section responsible for sandbox features. 
+ */
+@Generated(from = "AbstractSandboxConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class SandboxConfig extends AbstractSandboxConfig {
+  private final BuckConfig delegate;
+
+  private SandboxConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SandboxConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SandboxConfig
+        && equalTo((SandboxConfig) another);
+  }
+
+  private boolean equalTo(SandboxConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SandboxConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SandboxConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long GENRULE_SANDBOX_ENABLED_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean genruleSandboxEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractSandboxConfig#isGenruleSandboxEnabled() genruleSandboxEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code genruleSandboxEnabled} attribute
+   */
+  @Override
+  public boolean isGenruleSandboxEnabled() {
+    if ((lazyInitBitmap & GENRULE_SANDBOX_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GENRULE_SANDBOX_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.genruleSandboxEnabled = super.isGenruleSandboxEnabled();
+          lazyInitBitmap |= GENRULE_SANDBOX_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return genruleSandboxEnabled;
+  }
+
+  private static final long DARWIN_SANDBOX_ENABLED_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean darwinSandboxEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractSandboxConfig#isDarwinSandboxEnabled() darwinSandboxEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code darwinSandboxEnabled} attribute
+   */
+  @Override
+  public boolean isDarwinSandboxEnabled() {
+    if ((lazyInitBitmap & DARWIN_SANDBOX_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DARWIN_SANDBOX_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.darwinSandboxEnabled = super.isDarwinSandboxEnabled();
+          lazyInitBitmap |= DARWIN_SANDBOX_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return darwinSandboxEnabled;
+  }
+
+  private static final long SANDBOX_ENABLED_FOR_CURRENT_PLATFORM_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean sandboxEnabledForCurrentPlatform;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractSandboxConfig#isSandboxEnabledForCurrentPlatform() sandboxEnabledForCurrentPlatform} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code sandboxEnabledForCurrentPlatform} attribute
+   */
+  @Override
+  public boolean isSandboxEnabledForCurrentPlatform() {
+    if ((lazyInitBitmap & SANDBOX_ENABLED_FOR_CURRENT_PLATFORM_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SANDBOX_ENABLED_FOR_CURRENT_PLATFORM_LAZY_INIT_BIT) == 0) {
+          this.sandboxEnabledForCurrentPlatform = super.isSandboxEnabledForCurrentPlatform();
+          lazyInitBitmap |= SANDBOX_ENABLED_FOR_CURRENT_PLATFORM_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sandboxEnabledForCurrentPlatform;
+  }
+
+  /**
+   * Construct a new immutable {@code SandboxConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable SandboxConfig instance
+   */
+  public static SandboxConfig of(BuckConfig delegate) {
+    return new SandboxConfig(delegate);
+  }
+}
@@ -0,0 +1,208 @@
+package com.facebook.buck.skylark.io;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Set of globs performed while executing the build spec and the results they produce. 
+ */
+@Generated(from = "AbstractGlobSpecWithResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class GlobSpecWithResult extends AbstractGlobSpecWithResult {
+  private final GlobSpec globSpec;
+  private final ImmutableSet<String> filePaths;
+
+  private GlobSpecWithResult(GlobSpec globSpec, Iterable<String> filePaths) {
+    this.globSpec = Objects.requireNonNull(globSpec, "globSpec");
+    this.filePaths = ImmutableSet.copyOf(filePaths);
+  }
+
+  private GlobSpecWithResult(
+      GlobSpecWithResult original,
+      GlobSpec globSpec,
+      ImmutableSet<String> filePaths) {
+    this.globSpec = globSpec;
+    this.filePaths = filePaths;
+  }
+
+  /**
+   *return the GlobSpec for this glob operation. 
+   */
+  @JsonProperty("globSpec")
+  @Override
+  public GlobSpec getGlobSpec() {
+    return globSpec;
+  }
+
+  /**
+   *return the file paths that the glob operation returned. 
+   */
+  @JsonProperty("filePaths")
+  @Override
+  public ImmutableSet<String> getFilePaths() {
+    return filePaths;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GlobSpecWithResult#getGlobSpec() globSpec} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for globSpec
+   * @return A modified copy of the {@code this} object
+   */
+  public final GlobSpecWithResult withGlobSpec(GlobSpec value) {
+    if (this.globSpec == value) return this;
+    GlobSpec newValue = Objects.requireNonNull(value, "globSpec");
+    return new GlobSpecWithResult(this, newValue, this.filePaths);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GlobSpecWithResult#getFilePaths() filePaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GlobSpecWithResult withFilePaths(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new GlobSpecWithResult(this, this.globSpec, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link GlobSpecWithResult#getFilePaths() filePaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of filePaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GlobSpecWithResult withFilePaths(Iterable<String> elements) {
+    if (this.filePaths == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new GlobSpecWithResult(this, this.globSpec, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GlobSpecWithResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GlobSpecWithResult
+        && equalTo((GlobSpecWithResult) another);
+  }
+
+  private boolean equalTo(GlobSpecWithResult another) {
+    return globSpec.equals(another.globSpec)
+        && filePaths.equals(another.filePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code globSpec}, {@code filePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + globSpec.hashCode();
+    h += (h << 5) + filePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GlobSpecWithResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GlobSpecWithResult")
+        .omitNullValues()
+        .add("globSpec", globSpec)
+        .add("filePaths", filePaths)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "AbstractGlobSpecWithResult", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractGlobSpecWithResult {
+    @Nullable GlobSpec globSpec;
+    @Nullable Set<String> filePaths = ImmutableSet.of();
+    @JsonProperty("globSpec")
+    public void setGlobSpec(GlobSpec globSpec) {
+      this.globSpec = globSpec;
+    }
+    @JsonProperty("filePaths")
+    public void setFilePaths(Set<String> filePaths) {
+      this.filePaths = filePaths;
+    }
+    @Override
+    public GlobSpec getGlobSpec() { throw new UnsupportedOperationException(); }
+    @Override
+    public Set<String> getFilePaths() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static GlobSpecWithResult fromJson(Json json) {
+    GlobSpecWithResult instance = GlobSpecWithResult.of(json.globSpec, json.filePaths);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code GlobSpecWithResult} instance.
+   * @param globSpec The value for the {@code globSpec} attribute
+   * @param filePaths The value for the {@code filePaths} attribute
+   * @return An immutable GlobSpecWithResult instance
+   */
+  public static GlobSpecWithResult of(GlobSpec globSpec, Set<String> filePaths) {
+    return of(globSpec, (Iterable<String>) filePaths);
+  }
+
+  /**
+   * Construct a new immutable {@code GlobSpecWithResult} instance.
+   * @param globSpec The value for the {@code globSpec} attribute
+   * @param filePaths The value for the {@code filePaths} attribute
+   * @return An immutable GlobSpecWithResult instance
+   */
+  public static GlobSpecWithResult of(GlobSpec globSpec, Iterable<String> filePaths) {
+    return new GlobSpecWithResult(globSpec, filePaths);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractGlobSpecWithResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GlobSpecWithResult instance
+   */
+  static GlobSpecWithResult copyOf(AbstractGlobSpecWithResult instance) {
+    if (instance instanceof GlobSpecWithResult) {
+      return (GlobSpecWithResult) instance;
+    }
+    return GlobSpecWithResult.of(instance.getGlobSpec(), instance.getFilePaths());
+  }
+}
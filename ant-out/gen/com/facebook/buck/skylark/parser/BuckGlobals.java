@@ -0,0 +1,361 @@
+package com.facebook.buck.skylark.parser;
+
+import com.facebook.buck.core.description.BaseDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import com.google.devtools.build.lib.syntax.BuiltinFunction;
+import com.google.devtools.build.lib.syntax.ClassObject;
+import com.google.devtools.build.lib.syntax.Environment;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Provides access to global Skylark interpreter frames.
+ * <p>It's recommended to use global frames for all globally accessible variables for improved
+ * performance and easier maintenance, since there is only one place to check for variable
+ * definitions.
+ */
+@Generated(from = "AbstractBuckGlobals", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuckGlobals extends AbstractBuckGlobals {
+  private final boolean disableImplicitNativeRules;
+  private final RuleFunctionFactory ruleFunctionFactory;
+  private final ImmutableSet<BaseDescription<?>> descriptions;
+
+  private BuckGlobals(BuckGlobals.Builder builder) {
+    this.disableImplicitNativeRules = builder.disableImplicitNativeRules;
+    this.ruleFunctionFactory = builder.ruleFunctionFactory;
+    this.descriptions = builder.descriptions.build();
+  }
+
+  /**
+   * @return Whether implicit native rules should not be available in the context of extension file.
+   */
+  @Override
+  public boolean getDisableImplicitNativeRules() {
+    return disableImplicitNativeRules;
+  }
+
+  /**
+   *@return A Skylark rule function factory. 
+   */
+  @Override
+  public RuleFunctionFactory getRuleFunctionFactory() {
+    return ruleFunctionFactory;
+  }
+
+  /**
+   *@return A set of rules supported by Buck. 
+   */
+  @Override
+  public ImmutableSet<BaseDescription<?>> getDescriptions() {
+    return descriptions;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuckGlobals} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuckGlobals
+        && equalTo((BuckGlobals) another);
+  }
+
+  private boolean equalTo(BuckGlobals another) {
+    return disableImplicitNativeRules == another.disableImplicitNativeRules
+        && ruleFunctionFactory.equals(another.ruleFunctionFactory)
+        && descriptions.equals(another.descriptions);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code disableImplicitNativeRules}, {@code ruleFunctionFactory}, {@code descriptions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(disableImplicitNativeRules);
+    h += (h << 5) + ruleFunctionFactory.hashCode();
+    h += (h << 5) + descriptions.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckGlobals} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckGlobals")
+        .omitNullValues()
+        .add("disableImplicitNativeRules", disableImplicitNativeRules)
+        .add("ruleFunctionFactory", ruleFunctionFactory)
+        .add("descriptions", descriptions)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Environment.GlobalFrame buckLoadContextGlobals;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getBuckLoadContextGlobals() buckLoadContextGlobals} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckLoadContextGlobals} attribute
+   */
+  @Override
+  public Environment.GlobalFrame getBuckLoadContextGlobals() {
+    if ((lazyInitBitmap & BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+          this.buckLoadContextGlobals = Objects.requireNonNull(super.getBuckLoadContextGlobals(), "buckLoadContextGlobals");
+          lazyInitBitmap |= BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckLoadContextGlobals;
+  }
+
+  private static final long BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient Environment.GlobalFrame buckBuildFileContextGlobals;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getBuckBuildFileContextGlobals() buckBuildFileContextGlobals} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckBuildFileContextGlobals} attribute
+   */
+  @Override
+  public Environment.GlobalFrame getBuckBuildFileContextGlobals() {
+    if ((lazyInitBitmap & BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+          this.buckBuildFileContextGlobals = Objects.requireNonNull(super.getBuckBuildFileContextGlobals(), "buckBuildFileContextGlobals");
+          lazyInitBitmap |= BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckBuildFileContextGlobals;
+  }
+
+  private static final long BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, BuiltinFunction> buckRuleFunctions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getBuckRuleFunctions() buckRuleFunctions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckRuleFunctions} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuiltinFunction> getBuckRuleFunctions() {
+    if ((lazyInitBitmap & BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT) == 0) {
+          this.buckRuleFunctions = Objects.requireNonNull(super.getBuckRuleFunctions(), "buckRuleFunctions");
+          lazyInitBitmap |= BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckRuleFunctions;
+  }
+
+  private static final long NATIVE_MODULE_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient ClassObject nativeModule;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getNativeModule() nativeModule} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code nativeModule} attribute
+   */
+  @Override
+  public ClassObject getNativeModule() {
+    if ((lazyInitBitmap & NATIVE_MODULE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NATIVE_MODULE_LAZY_INIT_BIT) == 0) {
+          this.nativeModule = Objects.requireNonNull(super.getNativeModule(), "nativeModule");
+          lazyInitBitmap |= NATIVE_MODULE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return nativeModule;
+  }
+
+  /**
+   * Creates a builder for {@link BuckGlobals BuckGlobals}.
+   * @return A new BuckGlobals builder
+   */
+  public static BuckGlobals.Builder builder() {
+    return new BuckGlobals.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuckGlobals BuckGlobals}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractBuckGlobals", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_DISABLE_IMPLICIT_NATIVE_RULES = 0x1L;
+    private static final long INIT_BIT_RULE_FUNCTION_FACTORY = 0x2L;
+    private long initBits = 0x3L;
+
+    private boolean disableImplicitNativeRules;
+    private @Nullable RuleFunctionFactory ruleFunctionFactory;
+    private ImmutableSet.Builder<BaseDescription<?>> descriptions = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuckGlobals} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuckGlobals instance) {
+      return from((AbstractBuckGlobals) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuckGlobals} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuckGlobals instance) {
+      Objects.requireNonNull(instance, "instance");
+      setDisableImplicitNativeRules(instance.getDisableImplicitNativeRules());
+      setRuleFunctionFactory(instance.getRuleFunctionFactory());
+      addAllDescriptions(instance.getDescriptions());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuckGlobals#getDisableImplicitNativeRules() disableImplicitNativeRules} attribute.
+     * @param disableImplicitNativeRules The value for disableImplicitNativeRules 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDisableImplicitNativeRules(boolean disableImplicitNativeRules) {
+      this.disableImplicitNativeRules = disableImplicitNativeRules;
+      initBits &= ~INIT_BIT_DISABLE_IMPLICIT_NATIVE_RULES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuckGlobals#getRuleFunctionFactory() ruleFunctionFactory} attribute.
+     * @param ruleFunctionFactory The value for ruleFunctionFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleFunctionFactory(RuleFunctionFactory ruleFunctionFactory) {
+      this.ruleFunctionFactory = Objects.requireNonNull(ruleFunctionFactory, "ruleFunctionFactory");
+      initBits &= ~INIT_BIT_RULE_FUNCTION_FACTORY;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BuckGlobals#getDescriptions() descriptions} set.
+     * @param element A descriptions element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDescriptions(BaseDescription<?> element) {
+      this.descriptions.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuckGlobals#getDescriptions() descriptions} set.
+     * @param elements An array of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addDescriptions(BaseDescription<?>... elements) {
+      this.descriptions.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuckGlobals#getDescriptions() descriptions} set.
+     * @param elements An iterable of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDescriptions(Iterable<? extends BaseDescription<?>> elements) {
+      this.descriptions = ImmutableSet.builder();
+      return addAllDescriptions(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuckGlobals#getDescriptions() descriptions} set.
+     * @param elements An iterable of descriptions elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDescriptions(Iterable<? extends BaseDescription<?>> elements) {
+      this.descriptions.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuckGlobals BuckGlobals}.
+     * @return An immutable instance of BuckGlobals
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuckGlobals build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuckGlobals(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_DISABLE_IMPLICIT_NATIVE_RULES) != 0) attributes.add("disableImplicitNativeRules");
+      if ((initBits & INIT_BIT_RULE_FUNCTION_FACTORY) != 0) attributes.add("ruleFunctionFactory");
+      return "Cannot build BuckGlobals, some of required attributes are not set " + attributes;
+    }
+  }
+}
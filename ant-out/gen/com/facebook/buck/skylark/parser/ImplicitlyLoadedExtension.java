@@ -0,0 +1,103 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * A value object for information about implicit loads. This allows us to both validate implicit
+ * import information, and return some additional information needed to setup build file
+ * environments in one swoop.
+ */
+@Generated(from = "SkylarkProjectBuildFileParser.AbstractImplicitlyLoadedExtension", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImplicitlyLoadedExtension
+    extends SkylarkProjectBuildFileParser.AbstractImplicitlyLoadedExtension {
+  private final @Nullable ExtensionData extensionData;
+  private final ImmutableMap<String, Object> loadedSymbols;
+
+  private ImplicitlyLoadedExtension(
+      @Nullable ExtensionData extensionData,
+      Map<String, ? extends Object> loadedSymbols) {
+    this.extensionData = extensionData;
+    this.loadedSymbols = ImmutableMap.copyOf(loadedSymbols);
+  }
+
+  /**
+   * @return The value of the {@code extensionData} attribute
+   */
+  @Override
+  public @Nullable ExtensionData getExtensionData() {
+    return extensionData;
+  }
+
+  /**
+   * @return The value of the {@code loadedSymbols} attribute
+   */
+  @Override
+  public ImmutableMap<String, Object> getLoadedSymbols() {
+    return loadedSymbols;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImplicitlyLoadedExtension} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImplicitlyLoadedExtension
+        && equalTo((ImplicitlyLoadedExtension) another);
+  }
+
+  private boolean equalTo(ImplicitlyLoadedExtension another) {
+    return Objects.equals(extensionData, another.extensionData)
+        && loadedSymbols.equals(another.loadedSymbols);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code extensionData}, {@code loadedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(extensionData);
+    h += (h << 5) + loadedSymbols.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ImplicitlyLoadedExtension} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ImplicitlyLoadedExtension")
+        .omitNullValues()
+        .add("extensionData", extensionData)
+        .add("loadedSymbols", loadedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ImplicitlyLoadedExtension} instance.
+   * @param extensionData The value for the {@code extensionData} attribute
+   * @param loadedSymbols The value for the {@code loadedSymbols} attribute
+   * @return An immutable ImplicitlyLoadedExtension instance
+   */
+  public static ImplicitlyLoadedExtension of(@Nullable ExtensionData extensionData, Map<String, ? extends Object> loadedSymbols) {
+    return new ImplicitlyLoadedExtension(extensionData, loadedSymbols);
+  }
+}
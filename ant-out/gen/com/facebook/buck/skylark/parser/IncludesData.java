@@ -0,0 +1,208 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.devtools.build.lib.vfs.Path;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Captures information related to all included extensions used in order to load the main build
+ * spec. The main purpose of extra information is to properly capture all dependent information to
+ * obtain the loaded files without full execution of the build spec.
+ */
+@Generated(from = "AbstractIncludesData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class IncludesData extends AbstractIncludesData {
+  private final Path path;
+  private final ImmutableList<IncludesData> dependencies;
+  private final ImmutableList<String> loadTransitiveClosure;
+
+  private IncludesData(
+      Path path,
+      Iterable<? extends IncludesData> dependencies,
+      Iterable<String> loadTransitiveClosure) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.dependencies = ImmutableList.copyOf(dependencies);
+    this.loadTransitiveClosure = ImmutableList.copyOf(loadTransitiveClosure);
+  }
+
+  private IncludesData(
+      IncludesData original,
+      Path path,
+      ImmutableList<IncludesData> dependencies,
+      ImmutableList<String> loadTransitiveClosure) {
+    this.path = path;
+    this.dependencies = dependencies;
+    this.loadTransitiveClosure = loadTransitiveClosure;
+  }
+
+  /**
+   *@return a path from which the extension was loaded from 
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   *@return a list of dependencies that were required to evaluate this extension 
+   */
+  @Override
+  public ImmutableList<IncludesData> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   *@return the list of files loaded in order to parse this extension. 
+   */
+  @Override
+  public ImmutableList<String> getLoadTransitiveClosure() {
+    return loadTransitiveClosure;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IncludesData#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final IncludesData withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new IncludesData(this, newValue, this.dependencies, this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link IncludesData#getDependencies() dependencies}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncludesData withDependencies(IncludesData... elements) {
+    ImmutableList<IncludesData> newValue = ImmutableList.copyOf(elements);
+    return new IncludesData(this, this.path, newValue, this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link IncludesData#getDependencies() dependencies}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of dependencies elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncludesData withDependencies(Iterable<? extends IncludesData> elements) {
+    if (this.dependencies == elements) return this;
+    ImmutableList<IncludesData> newValue = ImmutableList.copyOf(elements);
+    return new IncludesData(this, this.path, newValue, this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link IncludesData#getLoadTransitiveClosure() loadTransitiveClosure}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncludesData withLoadTransitiveClosure(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IncludesData(this, this.path, this.dependencies, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link IncludesData#getLoadTransitiveClosure() loadTransitiveClosure}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of loadTransitiveClosure elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IncludesData withLoadTransitiveClosure(Iterable<String> elements) {
+    if (this.loadTransitiveClosure == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IncludesData(this, this.path, this.dependencies, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IncludesData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IncludesData
+        && equalTo((IncludesData) another);
+  }
+
+  private boolean equalTo(IncludesData another) {
+    return path.equals(another.path)
+        && dependencies.equals(another.dependencies)
+        && loadTransitiveClosure.equals(another.loadTransitiveClosure);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code dependencies}, {@code loadTransitiveClosure}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + dependencies.hashCode();
+    h += (h << 5) + loadTransitiveClosure.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IncludesData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IncludesData")
+        .omitNullValues()
+        .add("path", path)
+        .add("dependencies", dependencies)
+        .add("loadTransitiveClosure", loadTransitiveClosure)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code IncludesData} instance.
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable IncludesData instance
+   */
+  public static IncludesData of(Path path, ImmutableList<IncludesData> dependencies, ImmutableList<String> loadTransitiveClosure) {
+    return of(path, (Iterable<? extends IncludesData>) dependencies, (Iterable<String>) loadTransitiveClosure);
+  }
+
+  /**
+   * Construct a new immutable {@code IncludesData} instance.
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable IncludesData instance
+   */
+  public static IncludesData of(Path path, Iterable<? extends IncludesData> dependencies, Iterable<String> loadTransitiveClosure) {
+    return new IncludesData(path, dependencies, loadTransitiveClosure);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIncludesData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IncludesData instance
+   */
+  static IncludesData copyOf(AbstractIncludesData instance) {
+    if (instance instanceof IncludesData) {
+      return (IncludesData) instance;
+    }
+    return IncludesData.of(instance.getPath(), instance.getDependencies(), instance.getLoadTransitiveClosure());
+  }
+}
@@ -0,0 +1,149 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.devtools.build.lib.cmdline.Label;
+import com.google.devtools.build.lib.syntax.SkylarkImport;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * A value object for information about load function import, since {@link SkylarkImport} does not
+ * provide enough context. For instance, the same {@link SkylarkImport} can represent different
+ * logical imports depending on which repository it is resolved in.
+ */
+@Generated(from = "SkylarkProjectBuildFileParser.AbstractLoadImport", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class LoadImport
+    extends SkylarkProjectBuildFileParser.AbstractLoadImport {
+  private final Label containingLabel;
+  private final SkylarkImport getImport;
+
+  private LoadImport(
+      Label containingLabel,
+      SkylarkImport getImport) {
+    this.containingLabel = Objects.requireNonNull(containingLabel, "containingLabel");
+    this.getImport = Objects.requireNonNull(getImport, "getImport");
+  }
+
+  private LoadImport(
+      LoadImport original,
+      Label containingLabel,
+      SkylarkImport getImport) {
+    this.containingLabel = containingLabel;
+    this.getImport = getImport;
+  }
+
+  /**
+   *Returns a label of the file containing this import. 
+   */
+  @Override
+  public Label getContainingLabel() {
+    return containingLabel;
+  }
+
+  /**
+   *Returns a Skylark import. 
+   */
+  @Override
+  public SkylarkImport getImport() {
+    return getImport;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link LoadImport#getContainingLabel() containingLabel} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for containingLabel
+   * @return A modified copy of the {@code this} object
+   */
+  public final LoadImport withContainingLabel(Label value) {
+    if (this.containingLabel == value) return this;
+    Label newValue = Objects.requireNonNull(value, "containingLabel");
+    return new LoadImport(this, newValue, this.getImport);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link LoadImport#getImport() import} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for getImport
+   * @return A modified copy of the {@code this} object
+   */
+  public final LoadImport withImport(SkylarkImport value) {
+    if (this.getImport == value) return this;
+    SkylarkImport newValue = Objects.requireNonNull(value, "getImport");
+    return new LoadImport(this, this.containingLabel, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LoadImport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LoadImport
+        && equalTo((LoadImport) another);
+  }
+
+  private boolean equalTo(LoadImport another) {
+    return containingLabel.equals(another.containingLabel)
+        && getImport.equals(another.getImport);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code containingLabel}, {@code getImport}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + containingLabel.hashCode();
+    h += (h << 5) + getImport.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LoadImport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadImport")
+        .omitNullValues()
+        .add("containingLabel", containingLabel)
+        .add("import", getImport)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LoadImport} instance.
+   * @param containingLabel The value for the {@code containingLabel} attribute
+   * @param getImport The value for the {@code getImport} attribute
+   * @return An immutable LoadImport instance
+   */
+  public static LoadImport of(Label containingLabel, SkylarkImport getImport) {
+    return new LoadImport(containingLabel, getImport);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link SkylarkProjectBuildFileParser.AbstractLoadImport} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LoadImport instance
+   */
+  static LoadImport copyOf(SkylarkProjectBuildFileParser.AbstractLoadImport instance) {
+    if (instance instanceof LoadImport) {
+      return (LoadImport) instance;
+    }
+    return LoadImport.of(instance.getContainingLabel(), instance.getImport());
+  }
+}
@@ -0,0 +1,244 @@
+package com.facebook.buck.skylark.parser;
+
+import com.facebook.buck.skylark.io.GlobSpecWithResult;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Parse result containing build rules defined in build file and supporting metadata. 
+ */
+@Generated(from = "AbstractParseResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ParseResult extends AbstractParseResult {
+  private final ImmutableMap<String, Map<String, Object>> rawRules;
+  private final ImmutableList<String> loadedPaths;
+  private final ImmutableMap<String, ImmutableMap<String, Optional<String>>> readConfigurationOptions;
+  private final ImmutableList<GlobSpecWithResult> globManifestWithResult;
+
+  private ParseResult(
+      Map<String, ? extends Map<String, Object>> rawRules,
+      Iterable<String> loadedPaths,
+      Map<String, ? extends ImmutableMap<String, Optional<String>>> readConfigurationOptions,
+      Iterable<? extends GlobSpecWithResult> globManifestWithResult) {
+    this.rawRules = ImmutableMap.copyOf(rawRules);
+    this.loadedPaths = ImmutableList.copyOf(loadedPaths);
+    this.readConfigurationOptions = ImmutableMap.copyOf(readConfigurationOptions);
+    this.globManifestWithResult = ImmutableList.copyOf(globManifestWithResult);
+  }
+
+  private ParseResult(
+      ParseResult original,
+      ImmutableMap<String, Map<String, Object>> rawRules,
+      ImmutableList<String> loadedPaths,
+      ImmutableMap<String, ImmutableMap<String, Optional<String>>> readConfigurationOptions,
+      ImmutableList<GlobSpecWithResult> globManifestWithResult) {
+    this.rawRules = rawRules;
+    this.loadedPaths = loadedPaths;
+    this.readConfigurationOptions = readConfigurationOptions;
+    this.globManifestWithResult = globManifestWithResult;
+  }
+
+  /**
+   * Returns rules organized in a map where a key is a rule name and the value is a map with keys
+   * representing rule parameters and values representing rule arguments.
+   * <p>For example {"name": "my_rule", ...}
+   */
+  @Override
+  public ImmutableMap<String, Map<String, Object>> getRawRules() {
+    return rawRules;
+  }
+
+  /**
+   * Returns a set of extension paths that were loaded explicitly or transitively when parsing
+   * current build file.
+   */
+  @Override
+  public ImmutableList<String> getLoadedPaths() {
+    return loadedPaths;
+  }
+
+  /**
+   * Returns all configuration options accessed during parsing of the build file.
+   * <p>The schema is section->key->value
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, Optional<String>>> getReadConfigurationOptions() {
+    return readConfigurationOptions;
+  }
+
+  /**
+   *@return A list of {@link GlobSpec} with the corresponding set of expanded paths. 
+   */
+  @Override
+  public ImmutableList<GlobSpecWithResult> getGlobManifestWithResult() {
+    return globManifestWithResult;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ParseResult#getRawRules() rawRules} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the rawRules map
+   * @return A modified copy of {@code this} object
+   */
+  public final ParseResult withRawRules(Map<String, ? extends Map<String, Object>> entries) {
+    if (this.rawRules == entries) return this;
+    ImmutableMap<String, Map<String, Object>> newValue = ImmutableMap.copyOf(entries);
+    return new ParseResult(this, newValue, this.loadedPaths, this.readConfigurationOptions, this.globManifestWithResult);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ParseResult#getLoadedPaths() loadedPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ParseResult withLoadedPaths(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ParseResult(this, this.rawRules, newValue, this.readConfigurationOptions, this.globManifestWithResult);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ParseResult#getLoadedPaths() loadedPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of loadedPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ParseResult withLoadedPaths(Iterable<String> elements) {
+    if (this.loadedPaths == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ParseResult(this, this.rawRules, newValue, this.readConfigurationOptions, this.globManifestWithResult);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ParseResult#getReadConfigurationOptions() readConfigurationOptions} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the readConfigurationOptions map
+   * @return A modified copy of {@code this} object
+   */
+  public final ParseResult withReadConfigurationOptions(Map<String, ? extends ImmutableMap<String, Optional<String>>> entries) {
+    if (this.readConfigurationOptions == entries) return this;
+    ImmutableMap<String, ImmutableMap<String, Optional<String>>> newValue = ImmutableMap.copyOf(entries);
+    return new ParseResult(this, this.rawRules, this.loadedPaths, newValue, this.globManifestWithResult);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ParseResult#getGlobManifestWithResult() globManifestWithResult}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ParseResult withGlobManifestWithResult(GlobSpecWithResult... elements) {
+    ImmutableList<GlobSpecWithResult> newValue = ImmutableList.copyOf(elements);
+    return new ParseResult(this, this.rawRules, this.loadedPaths, this.readConfigurationOptions, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ParseResult#getGlobManifestWithResult() globManifestWithResult}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of globManifestWithResult elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ParseResult withGlobManifestWithResult(Iterable<? extends GlobSpecWithResult> elements) {
+    if (this.globManifestWithResult == elements) return this;
+    ImmutableList<GlobSpecWithResult> newValue = ImmutableList.copyOf(elements);
+    return new ParseResult(this, this.rawRules, this.loadedPaths, this.readConfigurationOptions, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ParseResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ParseResult
+        && equalTo((ParseResult) another);
+  }
+
+  private boolean equalTo(ParseResult another) {
+    return rawRules.equals(another.rawRules)
+        && loadedPaths.equals(another.loadedPaths)
+        && readConfigurationOptions.equals(another.readConfigurationOptions)
+        && globManifestWithResult.equals(another.globManifestWithResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code rawRules}, {@code loadedPaths}, {@code readConfigurationOptions}, {@code globManifestWithResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + rawRules.hashCode();
+    h += (h << 5) + loadedPaths.hashCode();
+    h += (h << 5) + readConfigurationOptions.hashCode();
+    h += (h << 5) + globManifestWithResult.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParseResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParseResult")
+        .omitNullValues()
+        .add("rawRules", rawRules)
+        .add("loadedPaths", loadedPaths)
+        .add("readConfigurationOptions", readConfigurationOptions)
+        .add("globManifestWithResult", globManifestWithResult)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ParseResult} instance.
+   * @param rawRules The value for the {@code rawRules} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @param readConfigurationOptions The value for the {@code readConfigurationOptions} attribute
+   * @param globManifestWithResult The value for the {@code globManifestWithResult} attribute
+   * @return An immutable ParseResult instance
+   */
+  public static ParseResult of(ImmutableMap<String, Map<String, Object>> rawRules, ImmutableList<String> loadedPaths, ImmutableMap<String, ImmutableMap<String, Optional<String>>> readConfigurationOptions, ImmutableList<GlobSpecWithResult> globManifestWithResult) {
+    return of(rawRules, (Iterable<String>) loadedPaths, readConfigurationOptions, (Iterable<? extends GlobSpecWithResult>) globManifestWithResult);
+  }
+
+  /**
+   * Construct a new immutable {@code ParseResult} instance.
+   * @param rawRules The value for the {@code rawRules} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @param readConfigurationOptions The value for the {@code readConfigurationOptions} attribute
+   * @param globManifestWithResult The value for the {@code globManifestWithResult} attribute
+   * @return An immutable ParseResult instance
+   */
+  public static ParseResult of(Map<String, ? extends Map<String, Object>> rawRules, Iterable<String> loadedPaths, Map<String, ? extends ImmutableMap<String, Optional<String>>> readConfigurationOptions, Iterable<? extends GlobSpecWithResult> globManifestWithResult) {
+    return new ParseResult(rawRules, loadedPaths, readConfigurationOptions, globManifestWithResult);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractParseResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ParseResult instance
+   */
+  static ParseResult copyOf(AbstractParseResult instance) {
+    if (instance instanceof ParseResult) {
+      return (ParseResult) instance;
+    }
+    return ParseResult.of(instance.getRawRules(), instance.getLoadedPaths(), instance.getReadConfigurationOptions(), instance.getGlobManifestWithResult());
+  }
+}
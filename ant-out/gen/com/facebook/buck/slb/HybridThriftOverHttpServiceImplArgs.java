@@ -0,0 +1,332 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractHybridThriftOverHttpServiceImplArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HybridThriftOverHttpServiceImplArgs.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code HybridThriftOverHttpServiceImplArgs.of()}.
+ */
+@Generated(from = "AbstractHybridThriftOverHttpServiceImplArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class HybridThriftOverHttpServiceImplArgs
+    extends AbstractHybridThriftOverHttpServiceImplArgs {
+  private final HttpService service;
+  private final ListeningExecutorService executor;
+  private final ThriftProtocol thriftProtocol;
+  private final String hybridThriftPath;
+
+  private HybridThriftOverHttpServiceImplArgs(
+      HttpService service,
+      ListeningExecutorService executor) {
+    this.service = Objects.requireNonNull(service, "service");
+    this.executor = Objects.requireNonNull(executor, "executor");
+    this.thriftProtocol = initShim.getThriftProtocol();
+    this.hybridThriftPath = initShim.getHybridThriftPath();
+    this.initShim = null;
+  }
+
+  private HybridThriftOverHttpServiceImplArgs(HybridThriftOverHttpServiceImplArgs.Builder builder) {
+    this.service = builder.service;
+    this.executor = builder.executor;
+    if (builder.thriftProtocol != null) {
+      initShim.setThriftProtocol(builder.thriftProtocol);
+    }
+    if (builder.hybridThriftPath != null) {
+      initShim.setHybridThriftPath(builder.hybridThriftPath);
+    }
+    this.thriftProtocol = initShim.getThriftProtocol();
+    this.hybridThriftPath = initShim.getHybridThriftPath();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractHybridThriftOverHttpServiceImplArgs", generator = "Immutables")
+  private final class InitShim {
+    private byte thriftProtocolBuildStage = STAGE_UNINITIALIZED;
+    private ThriftProtocol thriftProtocol;
+
+    ThriftProtocol getThriftProtocol() {
+      if (thriftProtocolBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (thriftProtocolBuildStage == STAGE_UNINITIALIZED) {
+        thriftProtocolBuildStage = STAGE_INITIALIZING;
+        this.thriftProtocol = Objects.requireNonNull(HybridThriftOverHttpServiceImplArgs.super.getThriftProtocol(), "thriftProtocol");
+        thriftProtocolBuildStage = STAGE_INITIALIZED;
+      }
+      return this.thriftProtocol;
+    }
+
+    void setThriftProtocol(ThriftProtocol thriftProtocol) {
+      this.thriftProtocol = thriftProtocol;
+      thriftProtocolBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte hybridThriftPathBuildStage = STAGE_UNINITIALIZED;
+    private String hybridThriftPath;
+
+    String getHybridThriftPath() {
+      if (hybridThriftPathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (hybridThriftPathBuildStage == STAGE_UNINITIALIZED) {
+        hybridThriftPathBuildStage = STAGE_INITIALIZING;
+        this.hybridThriftPath = Objects.requireNonNull(HybridThriftOverHttpServiceImplArgs.super.getHybridThriftPath(), "hybridThriftPath");
+        hybridThriftPathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.hybridThriftPath;
+    }
+
+    void setHybridThriftPath(String hybridThriftPath) {
+      this.hybridThriftPath = hybridThriftPath;
+      hybridThriftPathBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (thriftProtocolBuildStage == STAGE_INITIALIZING) attributes.add("thriftProtocol");
+      if (hybridThriftPathBuildStage == STAGE_INITIALIZING) attributes.add("hybridThriftPath");
+      return "Cannot build HybridThriftOverHttpServiceImplArgs, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code service} attribute
+   */
+  @Override
+  public HttpService getService() {
+    return service;
+  }
+
+  /**
+   * @return The value of the {@code executor} attribute
+   */
+  @Override
+  public ListeningExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * @return The value of the {@code thriftProtocol} attribute
+   */
+  @Override
+  public ThriftProtocol getThriftProtocol() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getThriftProtocol()
+        : this.thriftProtocol;
+  }
+
+  /**
+   * @return The value of the {@code hybridThriftPath} attribute
+   */
+  @Override
+  public String getHybridThriftPath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHybridThriftPath()
+        : this.hybridThriftPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HybridThriftOverHttpServiceImplArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HybridThriftOverHttpServiceImplArgs
+        && equalTo((HybridThriftOverHttpServiceImplArgs) another);
+  }
+
+  private boolean equalTo(HybridThriftOverHttpServiceImplArgs another) {
+    return service.equals(another.service)
+        && executor.equals(another.executor)
+        && thriftProtocol.equals(another.thriftProtocol)
+        && hybridThriftPath.equals(another.hybridThriftPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code service}, {@code executor}, {@code thriftProtocol}, {@code hybridThriftPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + service.hashCode();
+    h += (h << 5) + executor.hashCode();
+    h += (h << 5) + thriftProtocol.hashCode();
+    h += (h << 5) + hybridThriftPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HybridThriftOverHttpServiceImplArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HybridThriftOverHttpServiceImplArgs")
+        .omitNullValues()
+        .add("service", service)
+        .add("executor", executor)
+        .add("thriftProtocol", thriftProtocol)
+        .add("hybridThriftPath", hybridThriftPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code HybridThriftOverHttpServiceImplArgs} instance.
+   * @param service The value for the {@code service} attribute
+   * @param executor The value for the {@code executor} attribute
+   * @return An immutable HybridThriftOverHttpServiceImplArgs instance
+   */
+  public static HybridThriftOverHttpServiceImplArgs of(HttpService service, ListeningExecutorService executor) {
+    return new HybridThriftOverHttpServiceImplArgs(service, executor);
+  }
+
+  /**
+   * Creates a builder for {@link HybridThriftOverHttpServiceImplArgs HybridThriftOverHttpServiceImplArgs}.
+   * @return A new HybridThriftOverHttpServiceImplArgs builder
+   */
+  public static HybridThriftOverHttpServiceImplArgs.Builder builder() {
+    return new HybridThriftOverHttpServiceImplArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HybridThriftOverHttpServiceImplArgs HybridThriftOverHttpServiceImplArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractHybridThriftOverHttpServiceImplArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SERVICE = 0x1L;
+    private static final long INIT_BIT_EXECUTOR = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable HttpService service;
+    private @Nullable ListeningExecutorService executor;
+    private @Nullable ThriftProtocol thriftProtocol;
+    private @Nullable String hybridThriftPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HybridThriftOverHttpServiceImplArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HybridThriftOverHttpServiceImplArgs instance) {
+      return from((AbstractHybridThriftOverHttpServiceImplArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHybridThriftOverHttpServiceImplArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractHybridThriftOverHttpServiceImplArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setService(instance.getService());
+      setExecutor(instance.getExecutor());
+      setThriftProtocol(instance.getThriftProtocol());
+      setHybridThriftPath(instance.getHybridThriftPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HybridThriftOverHttpServiceImplArgs#getService() service} attribute.
+     * @param service The value for service 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setService(HttpService service) {
+      this.service = Objects.requireNonNull(service, "service");
+      initBits &= ~INIT_BIT_SERVICE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HybridThriftOverHttpServiceImplArgs#getExecutor() executor} attribute.
+     * @param executor The value for executor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutor(ListeningExecutorService executor) {
+      this.executor = Objects.requireNonNull(executor, "executor");
+      initBits &= ~INIT_BIT_EXECUTOR;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HybridThriftOverHttpServiceImplArgs#getThriftProtocol() thriftProtocol} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HybridThriftOverHttpServiceImplArgs#getThriftProtocol() thriftProtocol}.</em>
+     * @param thriftProtocol The value for thriftProtocol 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setThriftProtocol(ThriftProtocol thriftProtocol) {
+      this.thriftProtocol = Objects.requireNonNull(thriftProtocol, "thriftProtocol");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HybridThriftOverHttpServiceImplArgs#getHybridThriftPath() hybridThriftPath} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link HybridThriftOverHttpServiceImplArgs#getHybridThriftPath() hybridThriftPath}.</em>
+     * @param hybridThriftPath The value for hybridThriftPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHybridThriftPath(String hybridThriftPath) {
+      this.hybridThriftPath = Objects.requireNonNull(hybridThriftPath, "hybridThriftPath");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HybridThriftOverHttpServiceImplArgs HybridThriftOverHttpServiceImplArgs}.
+     * @return An immutable instance of HybridThriftOverHttpServiceImplArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HybridThriftOverHttpServiceImplArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HybridThriftOverHttpServiceImplArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SERVICE) != 0) attributes.add("service");
+      if ((initBits & INIT_BIT_EXECUTOR) != 0) attributes.add("executor");
+      return "Cannot build HybridThriftOverHttpServiceImplArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,323 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code LoadBalancedServiceEventData.builder()}.
+ */
+@Generated(from = "LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class LoadBalancedServiceEventData
+    implements LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData {
+  private final URI server;
+  private final @Nullable Exception exception;
+  private final @Nullable Long requestSizeBytes;
+  private final @Nullable Long latencyMicros;
+  private final @Nullable Long responseSizeBytes;
+
+  private LoadBalancedServiceEventData(LoadBalancedServiceEventData.Builder builder) {
+    this.server = builder.server;
+    this.exception = builder.exception;
+    this.requestSizeBytes = builder.requestSizeBytes;
+    this.latencyMicros = builder.latencyMicros;
+    this.responseSizeBytes = builder.responseSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code server} attribute
+   */
+  @Override
+  public URI getServer() {
+    return server;
+  }
+
+  /**
+   * @return The value of the {@code exception} attribute
+   */
+  @Override
+  public Optional<Exception> getException() {
+    return Optional.ofNullable(exception);
+  }
+
+  /**
+   * @return The value of the {@code requestSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getRequestSizeBytes() {
+    return Optional.ofNullable(requestSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code latencyMicros} attribute
+   */
+  @Override
+  public Optional<Long> getLatencyMicros() {
+    return Optional.ofNullable(latencyMicros);
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getResponseSizeBytes() {
+    return Optional.ofNullable(responseSizeBytes);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LoadBalancedServiceEventData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LoadBalancedServiceEventData
+        && equalTo((LoadBalancedServiceEventData) another);
+  }
+
+  private boolean equalTo(LoadBalancedServiceEventData another) {
+    return server.equals(another.server)
+        && Objects.equals(exception, another.exception)
+        && Objects.equals(requestSizeBytes, another.requestSizeBytes)
+        && Objects.equals(latencyMicros, another.latencyMicros)
+        && Objects.equals(responseSizeBytes, another.responseSizeBytes);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code server}, {@code exception}, {@code requestSizeBytes}, {@code latencyMicros}, {@code responseSizeBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + server.hashCode();
+    h += (h << 5) + Objects.hashCode(exception);
+    h += (h << 5) + Objects.hashCode(requestSizeBytes);
+    h += (h << 5) + Objects.hashCode(latencyMicros);
+    h += (h << 5) + Objects.hashCode(responseSizeBytes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LoadBalancedServiceEventData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadBalancedServiceEventData")
+        .omitNullValues()
+        .add("server", server)
+        .add("exception", exception)
+        .add("requestSizeBytes", requestSizeBytes)
+        .add("latencyMicros", latencyMicros)
+        .add("responseSizeBytes", responseSizeBytes)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link LoadBalancedServiceEventData LoadBalancedServiceEventData}.
+   * @return A new LoadBalancedServiceEventData builder
+   */
+  public static LoadBalancedServiceEventData.Builder builder() {
+    return new LoadBalancedServiceEventData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LoadBalancedServiceEventData LoadBalancedServiceEventData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SERVER = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable URI server;
+    private @Nullable Exception exception;
+    private @Nullable Long requestSizeBytes;
+    private @Nullable Long latencyMicros;
+    private @Nullable Long responseSizeBytes;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LoadBalancedServiceEventData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LoadBalancedServiceEventData instance) {
+      return from((LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLoadBalancedServiceEventData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData instance) {
+      Objects.requireNonNull(instance, "instance");
+      setServer(instance.getServer());
+      Optional<Exception> exceptionOptional = instance.getException();
+      if (exceptionOptional.isPresent()) {
+        setException(exceptionOptional);
+      }
+      Optional<Long> requestSizeBytesOptional = instance.getRequestSizeBytes();
+      if (requestSizeBytesOptional.isPresent()) {
+        setRequestSizeBytes(requestSizeBytesOptional);
+      }
+      Optional<Long> latencyMicrosOptional = instance.getLatencyMicros();
+      if (latencyMicrosOptional.isPresent()) {
+        setLatencyMicros(latencyMicrosOptional);
+      }
+      Optional<Long> responseSizeBytesOptional = instance.getResponseSizeBytes();
+      if (responseSizeBytesOptional.isPresent()) {
+        setResponseSizeBytes(responseSizeBytesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link LoadBalancedServiceEventData#getServer() server} attribute.
+     * @param server The value for server 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServer(URI server) {
+      this.server = Objects.requireNonNull(server, "server");
+      initBits &= ~INIT_BIT_SERVER;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getException() exception} to exception.
+     * @param exception The value for exception
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setException(Exception exception) {
+      this.exception = Objects.requireNonNull(exception, "exception");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getException() exception} to exception.
+     * @param exception The value for exception
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setException(Optional<? extends Exception> exception) {
+      this.exception = exception.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestSizeBytes(long requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestSizeBytes(Optional<Long> requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getLatencyMicros() latencyMicros} to latencyMicros.
+     * @param latencyMicros The value for latencyMicros
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLatencyMicros(long latencyMicros) {
+      this.latencyMicros = latencyMicros;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getLatencyMicros() latencyMicros} to latencyMicros.
+     * @param latencyMicros The value for latencyMicros
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLatencyMicros(Optional<Long> latencyMicros) {
+      this.latencyMicros = latencyMicros.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancedServiceEventData#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(Optional<Long> responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link LoadBalancedServiceEventData LoadBalancedServiceEventData}.
+     * @return An immutable instance of LoadBalancedServiceEventData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LoadBalancedServiceEventData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new LoadBalancedServiceEventData(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SERVER) != 0) attributes.add("server");
+      return "Cannot build LoadBalancedServiceEventData, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,2429 @@
+package com.facebook.buck.step;
+
+import com.facebook.buck.android.exopackage.AndroidDevicesHelper;
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.core.rulekey.RuleKeyDiagnosticsMode;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.util.Ansi;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.Verbosity;
+import com.facebook.buck.util.concurrent.ConcurrencyLimit;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.devtools.build.lib.profiler.Profiler;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractExecutionContext}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExecutionContext.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ExecutionContext.of()}.
+ */
+@Generated(from = "AbstractExecutionContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ExecutionContext extends AbstractExecutionContext {
+  private final Console console;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final @Nullable TargetDevice targetDevice;
+  private final @Nullable AndroidDevicesHelper androidDevicesHelper;
+  private final @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final CellPathResolver cellPathResolver;
+  private final Path buildCellRootPath;
+  private final ProcessExecutor processExecutor;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final long defaultTestTimeoutMillis;
+  private final boolean codeCoverageEnabled;
+  private final boolean inclNoLocationClassesEnabled;
+  private final boolean shouldReportAbsolutePaths;
+  private final boolean debugEnabled;
+  private final RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+  private final ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+  private final ConcurrencyLimit concurrencyLimit;
+  private final ClassLoaderCache classLoaderCache;
+  private transient final Verbosity verbosity;
+  private transient final PrintStream stdErr;
+  private transient final PrintStream stdOut;
+  private transient final BuildId buildId;
+  private transient final Ansi ansi;
+  private final @Nullable Profiler profiler;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ExecutionContext(
+      Console console,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      Map<String, ? extends String> environment,
+      JavaPackageFinder javaPackageFinder,
+      Map<ExecutorPool, ? extends ListeningExecutorService> executors,
+      Optional<? extends TargetDevice> targetDevice,
+      Optional<? extends AndroidDevicesHelper> androidDevicesHelper,
+      Optional<? extends ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools,
+      CellPathResolver cellPathResolver,
+      Path buildCellRootPath,
+      ProcessExecutor processExecutor,
+      ProjectFilesystemFactory projectFilesystemFactory) {
+    this.console = Objects.requireNonNull(console, "console");
+    this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+    this.platform = Objects.requireNonNull(platform, "platform");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+    this.executors = Maps.immutableEnumMap(executors);
+    this.targetDevice = targetDevice.orElse(null);
+    this.androidDevicesHelper = androidDevicesHelper.orElse(null);
+    this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.buildCellRootPath = Objects.requireNonNull(buildCellRootPath, "buildCellRootPath");
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+    this.profiler = null;
+    this.defaultTestTimeoutMillis = initShim.getDefaultTestTimeoutMillis();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.inclNoLocationClassesEnabled = initShim.isInclNoLocationClassesEnabled();
+    this.shouldReportAbsolutePaths = initShim.shouldReportAbsolutePaths();
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.ruleKeyDiagnosticsMode = initShim.getRuleKeyDiagnosticsMode();
+    this.workerProcessPools = initShim.getWorkerProcessPools();
+    this.concurrencyLimit = initShim.getConcurrencyLimit();
+    this.classLoaderCache = initShim.getClassLoaderCache();
+    this.verbosity = initShim.getVerbosity();
+    this.stdErr = initShim.getStdErr();
+    this.stdOut = initShim.getStdOut();
+    this.buildId = initShim.getBuildId();
+    this.ansi = initShim.getAnsi();
+    this.initShim = null;
+  }
+
+  private ExecutionContext(ExecutionContext.Builder builder) {
+    this.console = builder.console;
+    this.buckEventBus = builder.buckEventBus;
+    this.platform = builder.platform;
+    this.environment = builder.environment.build();
+    this.javaPackageFinder = builder.javaPackageFinder;
+    this.executors = Maps.immutableEnumMap(builder.executors.build());
+    this.targetDevice = builder.targetDevice;
+    this.androidDevicesHelper = builder.androidDevicesHelper;
+    this.persistentWorkerPools = builder.persistentWorkerPools;
+    this.cellPathResolver = builder.cellPathResolver;
+    this.buildCellRootPath = builder.buildCellRootPath;
+    this.processExecutor = builder.processExecutor;
+    this.projectFilesystemFactory = builder.projectFilesystemFactory;
+    this.profiler = builder.profiler;
+    if (builder.defaultTestTimeoutMillisIsSet()) {
+      initShim.setDefaultTestTimeoutMillis(builder.defaultTestTimeoutMillis);
+    }
+    if (builder.codeCoverageEnabledIsSet()) {
+      initShim.setCodeCoverageEnabled(builder.codeCoverageEnabled);
+    }
+    if (builder.inclNoLocationClassesEnabledIsSet()) {
+      initShim.setInclNoLocationClassesEnabled(builder.inclNoLocationClassesEnabled);
+    }
+    if (builder.shouldReportAbsolutePathsIsSet()) {
+      initShim.setShouldReportAbsolutePaths(builder.shouldReportAbsolutePaths);
+    }
+    if (builder.debugEnabledIsSet()) {
+      initShim.setDebugEnabled(builder.debugEnabled);
+    }
+    if (builder.ruleKeyDiagnosticsMode != null) {
+      initShim.setRuleKeyDiagnosticsMode(builder.ruleKeyDiagnosticsMode);
+    }
+    if (builder.workerProcessPools != null) {
+      initShim.setWorkerProcessPools(builder.workerProcessPools);
+    }
+    if (builder.concurrencyLimit != null) {
+      initShim.setConcurrencyLimit(builder.concurrencyLimit);
+    }
+    if (builder.classLoaderCache != null) {
+      initShim.setClassLoaderCache(builder.classLoaderCache);
+    }
+    this.defaultTestTimeoutMillis = initShim.getDefaultTestTimeoutMillis();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.inclNoLocationClassesEnabled = initShim.isInclNoLocationClassesEnabled();
+    this.shouldReportAbsolutePaths = initShim.shouldReportAbsolutePaths();
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.ruleKeyDiagnosticsMode = initShim.getRuleKeyDiagnosticsMode();
+    this.workerProcessPools = initShim.getWorkerProcessPools();
+    this.concurrencyLimit = initShim.getConcurrencyLimit();
+    this.classLoaderCache = initShim.getClassLoaderCache();
+    this.verbosity = initShim.getVerbosity();
+    this.stdErr = initShim.getStdErr();
+    this.stdOut = initShim.getStdOut();
+    this.buildId = initShim.getBuildId();
+    this.ansi = initShim.getAnsi();
+    this.initShim = null;
+  }
+
+  private ExecutionContext(
+      Console console,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      ImmutableMap<String, String> environment,
+      JavaPackageFinder javaPackageFinder,
+      ImmutableMap<ExecutorPool, ListeningExecutorService> executors,
+      @Nullable TargetDevice targetDevice,
+      @Nullable AndroidDevicesHelper androidDevicesHelper,
+      @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools,
+      CellPathResolver cellPathResolver,
+      Path buildCellRootPath,
+      ProcessExecutor processExecutor,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      long defaultTestTimeoutMillis,
+      boolean codeCoverageEnabled,
+      boolean inclNoLocationClassesEnabled,
+      boolean shouldReportAbsolutePaths,
+      boolean debugEnabled,
+      RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode,
+      ConcurrentMap<String, WorkerProcessPool> workerProcessPools,
+      ConcurrencyLimit concurrencyLimit,
+      ClassLoaderCache classLoaderCache,
+      @Nullable Profiler profiler) {
+    this.console = console;
+    this.buckEventBus = buckEventBus;
+    this.platform = platform;
+    this.environment = environment;
+    this.javaPackageFinder = javaPackageFinder;
+    this.executors = executors;
+    this.targetDevice = targetDevice;
+    this.androidDevicesHelper = androidDevicesHelper;
+    this.persistentWorkerPools = persistentWorkerPools;
+    this.cellPathResolver = cellPathResolver;
+    this.buildCellRootPath = buildCellRootPath;
+    this.processExecutor = processExecutor;
+    this.projectFilesystemFactory = projectFilesystemFactory;
+    initShim.setDefaultTestTimeoutMillis(defaultTestTimeoutMillis);
+    initShim.setCodeCoverageEnabled(codeCoverageEnabled);
+    initShim.setInclNoLocationClassesEnabled(inclNoLocationClassesEnabled);
+    initShim.setShouldReportAbsolutePaths(shouldReportAbsolutePaths);
+    initShim.setDebugEnabled(debugEnabled);
+    initShim.setRuleKeyDiagnosticsMode(ruleKeyDiagnosticsMode);
+    initShim.setWorkerProcessPools(workerProcessPools);
+    initShim.setConcurrencyLimit(concurrencyLimit);
+    initShim.setClassLoaderCache(classLoaderCache);
+    this.profiler = profiler;
+    this.defaultTestTimeoutMillis = initShim.getDefaultTestTimeoutMillis();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.inclNoLocationClassesEnabled = initShim.isInclNoLocationClassesEnabled();
+    this.shouldReportAbsolutePaths = initShim.shouldReportAbsolutePaths();
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.ruleKeyDiagnosticsMode = initShim.getRuleKeyDiagnosticsMode();
+    this.workerProcessPools = initShim.getWorkerProcessPools();
+    this.concurrencyLimit = initShim.getConcurrencyLimit();
+    this.classLoaderCache = initShim.getClassLoaderCache();
+    this.verbosity = initShim.getVerbosity();
+    this.stdErr = initShim.getStdErr();
+    this.stdOut = initShim.getStdOut();
+    this.buildId = initShim.getBuildId();
+    this.ansi = initShim.getAnsi();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractExecutionContext", generator = "Immutables")
+  private final class InitShim {
+    private byte defaultTestTimeoutMillisBuildStage = STAGE_UNINITIALIZED;
+    private long defaultTestTimeoutMillis;
+
+    long getDefaultTestTimeoutMillis() {
+      if (defaultTestTimeoutMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (defaultTestTimeoutMillisBuildStage == STAGE_UNINITIALIZED) {
+        defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZING;
+        this.defaultTestTimeoutMillis = ExecutionContext.super.getDefaultTestTimeoutMillis();
+        defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.defaultTestTimeoutMillis;
+    }
+
+    void setDefaultTestTimeoutMillis(long defaultTestTimeoutMillis) {
+      this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+      defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte codeCoverageEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean codeCoverageEnabled;
+
+    boolean isCodeCoverageEnabled() {
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (codeCoverageEnabledBuildStage == STAGE_UNINITIALIZED) {
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZING;
+        this.codeCoverageEnabled = ExecutionContext.super.isCodeCoverageEnabled();
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.codeCoverageEnabled;
+    }
+
+    void setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte inclNoLocationClassesEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean inclNoLocationClassesEnabled;
+
+    boolean isInclNoLocationClassesEnabled() {
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_UNINITIALIZED) {
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZING;
+        this.inclNoLocationClassesEnabled = ExecutionContext.super.isInclNoLocationClassesEnabled();
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.inclNoLocationClassesEnabled;
+    }
+
+    void setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte shouldReportAbsolutePathsBuildStage = STAGE_UNINITIALIZED;
+    private boolean shouldReportAbsolutePaths;
+
+    boolean shouldReportAbsolutePaths() {
+      if (shouldReportAbsolutePathsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldReportAbsolutePathsBuildStage == STAGE_UNINITIALIZED) {
+        shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZING;
+        this.shouldReportAbsolutePaths = ExecutionContext.super.shouldReportAbsolutePaths();
+        shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldReportAbsolutePaths;
+    }
+
+    void setShouldReportAbsolutePaths(boolean shouldReportAbsolutePaths) {
+      this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+      shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte debugEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean debugEnabled;
+
+    boolean isDebugEnabled() {
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (debugEnabledBuildStage == STAGE_UNINITIALIZED) {
+        debugEnabledBuildStage = STAGE_INITIALIZING;
+        this.debugEnabled = ExecutionContext.super.isDebugEnabled();
+        debugEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.debugEnabled;
+    }
+
+    void setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      debugEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte ruleKeyDiagnosticsModeBuildStage = STAGE_UNINITIALIZED;
+    private RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+
+    RuleKeyDiagnosticsMode getRuleKeyDiagnosticsMode() {
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_UNINITIALIZED) {
+        ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZING;
+        this.ruleKeyDiagnosticsMode = Objects.requireNonNull(ExecutionContext.super.getRuleKeyDiagnosticsMode(), "ruleKeyDiagnosticsMode");
+        ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.ruleKeyDiagnosticsMode;
+    }
+
+    void setRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode) {
+      this.ruleKeyDiagnosticsMode = ruleKeyDiagnosticsMode;
+      ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte workerProcessPoolsBuildStage = STAGE_UNINITIALIZED;
+    private ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+
+    ConcurrentMap<String, WorkerProcessPool> getWorkerProcessPools() {
+      if (workerProcessPoolsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (workerProcessPoolsBuildStage == STAGE_UNINITIALIZED) {
+        workerProcessPoolsBuildStage = STAGE_INITIALIZING;
+        this.workerProcessPools = Objects.requireNonNull(ExecutionContext.super.getWorkerProcessPools(), "workerProcessPools");
+        workerProcessPoolsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.workerProcessPools;
+    }
+
+    void setWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> workerProcessPools) {
+      this.workerProcessPools = workerProcessPools;
+      workerProcessPoolsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte concurrencyLimitBuildStage = STAGE_UNINITIALIZED;
+    private ConcurrencyLimit concurrencyLimit;
+
+    ConcurrencyLimit getConcurrencyLimit() {
+      if (concurrencyLimitBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (concurrencyLimitBuildStage == STAGE_UNINITIALIZED) {
+        concurrencyLimitBuildStage = STAGE_INITIALIZING;
+        this.concurrencyLimit = Objects.requireNonNull(ExecutionContext.super.getConcurrencyLimit(), "concurrencyLimit");
+        concurrencyLimitBuildStage = STAGE_INITIALIZED;
+      }
+      return this.concurrencyLimit;
+    }
+
+    void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = concurrencyLimit;
+      concurrencyLimitBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte classLoaderCacheBuildStage = STAGE_UNINITIALIZED;
+    private ClassLoaderCache classLoaderCache;
+
+    ClassLoaderCache getClassLoaderCache() {
+      if (classLoaderCacheBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classLoaderCacheBuildStage == STAGE_UNINITIALIZED) {
+        classLoaderCacheBuildStage = STAGE_INITIALIZING;
+        this.classLoaderCache = Objects.requireNonNull(ExecutionContext.super.getClassLoaderCache(), "classLoaderCache");
+        classLoaderCacheBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classLoaderCache;
+    }
+
+    void setClassLoaderCache(ClassLoaderCache classLoaderCache) {
+      this.classLoaderCache = classLoaderCache;
+      classLoaderCacheBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte verbosityBuildStage = STAGE_UNINITIALIZED;
+    private Verbosity verbosity;
+
+    Verbosity getVerbosity() {
+      if (verbosityBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (verbosityBuildStage == STAGE_UNINITIALIZED) {
+        verbosityBuildStage = STAGE_INITIALIZING;
+        this.verbosity = Objects.requireNonNull(ExecutionContext.super.getVerbosity(), "verbosity");
+        verbosityBuildStage = STAGE_INITIALIZED;
+      }
+      return this.verbosity;
+    }
+
+    private byte stdErrBuildStage = STAGE_UNINITIALIZED;
+    private PrintStream stdErr;
+
+    PrintStream getStdErr() {
+      if (stdErrBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stdErrBuildStage == STAGE_UNINITIALIZED) {
+        stdErrBuildStage = STAGE_INITIALIZING;
+        this.stdErr = Objects.requireNonNull(ExecutionContext.super.getStdErr(), "stdErr");
+        stdErrBuildStage = STAGE_INITIALIZED;
+      }
+      return this.stdErr;
+    }
+
+    private byte stdOutBuildStage = STAGE_UNINITIALIZED;
+    private PrintStream stdOut;
+
+    PrintStream getStdOut() {
+      if (stdOutBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stdOutBuildStage == STAGE_UNINITIALIZED) {
+        stdOutBuildStage = STAGE_INITIALIZING;
+        this.stdOut = Objects.requireNonNull(ExecutionContext.super.getStdOut(), "stdOut");
+        stdOutBuildStage = STAGE_INITIALIZED;
+      }
+      return this.stdOut;
+    }
+
+    private byte buildIdBuildStage = STAGE_UNINITIALIZED;
+    private BuildId buildId;
+
+    BuildId getBuildId() {
+      if (buildIdBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildIdBuildStage == STAGE_UNINITIALIZED) {
+        buildIdBuildStage = STAGE_INITIALIZING;
+        this.buildId = Objects.requireNonNull(ExecutionContext.super.getBuildId(), "buildId");
+        buildIdBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildId;
+    }
+
+    private byte ansiBuildStage = STAGE_UNINITIALIZED;
+    private Ansi ansi;
+
+    Ansi getAnsi() {
+      if (ansiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (ansiBuildStage == STAGE_UNINITIALIZED) {
+        ansiBuildStage = STAGE_INITIALIZING;
+        this.ansi = Objects.requireNonNull(ExecutionContext.super.getAnsi(), "ansi");
+        ansiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.ansi;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (defaultTestTimeoutMillisBuildStage == STAGE_INITIALIZING) attributes.add("defaultTestTimeoutMillis");
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) attributes.add("codeCoverageEnabled");
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) attributes.add("inclNoLocationClassesEnabled");
+      if (shouldReportAbsolutePathsBuildStage == STAGE_INITIALIZING) attributes.add("shouldReportAbsolutePaths");
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) attributes.add("debugEnabled");
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_INITIALIZING) attributes.add("ruleKeyDiagnosticsMode");
+      if (workerProcessPoolsBuildStage == STAGE_INITIALIZING) attributes.add("workerProcessPools");
+      if (concurrencyLimitBuildStage == STAGE_INITIALIZING) attributes.add("concurrencyLimit");
+      if (classLoaderCacheBuildStage == STAGE_INITIALIZING) attributes.add("classLoaderCache");
+      if (verbosityBuildStage == STAGE_INITIALIZING) attributes.add("verbosity");
+      if (stdErrBuildStage == STAGE_INITIALIZING) attributes.add("stdErr");
+      if (stdOutBuildStage == STAGE_INITIALIZING) attributes.add("stdOut");
+      if (buildIdBuildStage == STAGE_INITIALIZING) attributes.add("buildId");
+      if (ansiBuildStage == STAGE_INITIALIZING) attributes.add("ansi");
+      return "Cannot build ExecutionContext, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code targetDevice} attribute
+   */
+  @Override
+  public Optional<TargetDevice> getTargetDevice() {
+    return Optional.ofNullable(targetDevice);
+  }
+
+  /**
+   * @return The value of the {@code androidDevicesHelper} attribute
+   */
+  @Override
+  public Optional<AndroidDevicesHelper> getAndroidDevicesHelper() {
+    return Optional.ofNullable(androidDevicesHelper);
+  }
+
+  /**
+   * Worker process pools that are persisted across buck invocations inside buck daemon. If buck is
+   * running without daemon, there will be no persisted pools.
+   */
+  @Override
+  public Optional<ConcurrentMap<String, WorkerProcessPool>> getPersistentWorkerPools() {
+    return Optional.ofNullable(persistentWorkerPools);
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   *See {@link com.facebook.buck.core.build.context.BuildContext#getBuildCellRootPath}. 
+   */
+  @Override
+  public Path getBuildCellRootPath() {
+    return buildCellRootPath;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code defaultTestTimeoutMillis} attribute
+   */
+  @Override
+  public long getDefaultTestTimeoutMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDefaultTestTimeoutMillis()
+        : this.defaultTestTimeoutMillis;
+  }
+
+  /**
+   * @return The value of the {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCodeCoverageEnabled()
+        : this.codeCoverageEnabled;
+  }
+
+  /**
+   * @return The value of the {@code inclNoLocationClassesEnabled} attribute
+   */
+  @Override
+  public boolean isInclNoLocationClassesEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isInclNoLocationClassesEnabled()
+        : this.inclNoLocationClassesEnabled;
+  }
+
+  /**
+   * @return The value of the {@code shouldReportAbsolutePaths} attribute
+   */
+  @Override
+  public boolean shouldReportAbsolutePaths() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldReportAbsolutePaths()
+        : this.shouldReportAbsolutePaths;
+  }
+
+  /**
+   * @return The value of the {@code debugEnabled} attribute
+   */
+  @Override
+  public boolean isDebugEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDebugEnabled()
+        : this.debugEnabled;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagnosticsMode} attribute
+   */
+  @Override
+  public RuleKeyDiagnosticsMode getRuleKeyDiagnosticsMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRuleKeyDiagnosticsMode()
+        : this.ruleKeyDiagnosticsMode;
+  }
+
+  /**
+   * Worker process pools that you can populate as needed. These will be destroyed as soon as buck
+   * invocation finishes, thus, these pools are not persisted across buck invocations.
+   */
+  @Override
+  public ConcurrentMap<String, WorkerProcessPool> getWorkerProcessPools() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWorkerProcessPools()
+        : this.workerProcessPools;
+  }
+
+  /**
+   * @return The value of the {@code concurrencyLimit} attribute
+   */
+  @Override
+  public ConcurrencyLimit getConcurrencyLimit() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConcurrencyLimit()
+        : this.concurrencyLimit;
+  }
+
+  /**
+   * @return The value of the {@code classLoaderCache} attribute
+   */
+  @Override
+  public ClassLoaderCache getClassLoaderCache() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClassLoaderCache()
+        : this.classLoaderCache;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code verbosity} attribute
+   */
+  @Override
+  public Verbosity getVerbosity() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVerbosity()
+        : this.verbosity;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code stdErr} attribute
+   */
+  @Override
+  public PrintStream getStdErr() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStdErr()
+        : this.stdErr;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code stdOut} attribute
+   */
+  @Override
+  public PrintStream getStdOut() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStdOut()
+        : this.stdOut;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildId()
+        : this.buildId;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code ansi} attribute
+   */
+  @Override
+  public Ansi getAnsi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAnsi()
+        : this.ansi;
+  }
+
+  /**
+   * @return The value of the {@code profiler} attribute
+   */
+  @Override
+  public Optional<Profiler> getProfiler() {
+    return Optional.ofNullable(profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getConsole() console} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for console
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withConsole(Console value) {
+    if (this.console == value) return this;
+    Console newValue = Objects.requireNonNull(value, "console");
+    return new ExecutionContext(
+        newValue,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Objects.requireNonNull(value, "buckEventBus");
+    return new ExecutionContext(
+        this.console,
+        newValue,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getPlatform() platform} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Objects.requireNonNull(value, "platform");
+    if (this.platform.equals(newValue)) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        newValue,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ExecutionContext#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        newValue,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Objects.requireNonNull(value, "javaPackageFinder");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        newValue,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ExecutionContext#getExecutors() executors} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the executors map
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+    if (this.executors == entries) return this;
+    ImmutableMap<ExecutorPool, ListeningExecutorService> newValue = Maps.immutableEnumMap(entries);
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        newValue,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ExecutionContext#getTargetDevice() targetDevice} attribute.
+   * @param value The value for targetDevice
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withTargetDevice(TargetDevice value) {
+    @Nullable TargetDevice newValue = Objects.requireNonNull(value, "targetDevice");
+    if (this.targetDevice == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        newValue,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ExecutionContext#getTargetDevice() targetDevice} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for targetDevice
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ExecutionContext withTargetDevice(Optional<? extends TargetDevice> optional) {
+    @Nullable TargetDevice value = optional.orElse(null);
+    if (this.targetDevice == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        value,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ExecutionContext#getAndroidDevicesHelper() androidDevicesHelper} attribute.
+   * @param value The value for androidDevicesHelper
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withAndroidDevicesHelper(AndroidDevicesHelper value) {
+    @Nullable AndroidDevicesHelper newValue = Objects.requireNonNull(value, "androidDevicesHelper");
+    if (this.androidDevicesHelper == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        newValue,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ExecutionContext#getAndroidDevicesHelper() androidDevicesHelper} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidDevicesHelper
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ExecutionContext withAndroidDevicesHelper(Optional<? extends AndroidDevicesHelper> optional) {
+    @Nullable AndroidDevicesHelper value = optional.orElse(null);
+    if (this.androidDevicesHelper == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        value,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ExecutionContext#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * @param value The value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> value) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> newValue = Objects.requireNonNull(value, "persistentWorkerPools");
+    if (this.persistentWorkerPools == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        newValue,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ExecutionContext#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ExecutionContext withPersistentWorkerPools(Optional<? extends ConcurrentMap<String, WorkerProcessPool>> optional) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> value = optional.orElse(null);
+    if (this.persistentWorkerPools == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        value,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getCellPathResolver() cellPathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withCellPathResolver(CellPathResolver value) {
+    if (this.cellPathResolver == value) return this;
+    CellPathResolver newValue = Objects.requireNonNull(value, "cellPathResolver");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        newValue,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getBuildCellRootPath() buildCellRootPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildCellRootPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withBuildCellRootPath(Path value) {
+    if (this.buildCellRootPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "buildCellRootPath");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        newValue,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getProcessExecutor() processExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for processExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withProcessExecutor(ProcessExecutor value) {
+    if (this.processExecutor == value) return this;
+    ProcessExecutor newValue = Objects.requireNonNull(value, "processExecutor");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        newValue,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystemFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withProjectFilesystemFactory(ProjectFilesystemFactory value) {
+    if (this.projectFilesystemFactory == value) return this;
+    ProjectFilesystemFactory newValue = Objects.requireNonNull(value, "projectFilesystemFactory");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        newValue,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for defaultTestTimeoutMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withDefaultTestTimeoutMillis(long value) {
+    if (this.defaultTestTimeoutMillis == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        value,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for codeCoverageEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withCodeCoverageEnabled(boolean value) {
+    if (this.codeCoverageEnabled == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        value,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inclNoLocationClassesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withInclNoLocationClassesEnabled(boolean value) {
+    if (this.inclNoLocationClassesEnabled == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        value,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldReportAbsolutePaths
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withShouldReportAbsolutePaths(boolean value) {
+    if (this.shouldReportAbsolutePaths == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        value,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#isDebugEnabled() debugEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for debugEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withDebugEnabled(boolean value) {
+    if (this.debugEnabled == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        value,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKeyDiagnosticsMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode value) {
+    if (this.ruleKeyDiagnosticsMode == value) return this;
+    RuleKeyDiagnosticsMode newValue = Objects.requireNonNull(value, "ruleKeyDiagnosticsMode");
+    if (this.ruleKeyDiagnosticsMode.equals(newValue)) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        newValue,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getWorkerProcessPools() workerProcessPools} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for workerProcessPools
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> value) {
+    if (this.workerProcessPools == value) return this;
+    ConcurrentMap<String, WorkerProcessPool> newValue = Objects.requireNonNull(value, "workerProcessPools");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        newValue,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getConcurrencyLimit() concurrencyLimit} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for concurrencyLimit
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withConcurrencyLimit(ConcurrencyLimit value) {
+    if (this.concurrencyLimit == value) return this;
+    ConcurrencyLimit newValue = Objects.requireNonNull(value, "concurrencyLimit");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        newValue,
+        this.classLoaderCache,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExecutionContext#getClassLoaderCache() classLoaderCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classLoaderCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withClassLoaderCache(ClassLoaderCache value) {
+    if (this.classLoaderCache == value) return this;
+    ClassLoaderCache newValue = Objects.requireNonNull(value, "classLoaderCache");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        newValue,
+        this.profiler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ExecutionContext#getProfiler() profiler} attribute.
+   * @param value The value for profiler
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withProfiler(Profiler value) {
+    @Nullable Profiler newValue = Objects.requireNonNull(value, "profiler");
+    if (this.profiler == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ExecutionContext#getProfiler() profiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for profiler
+   * @return A modified copy of {@code this} object
+   */
+  @SuppressWarnings("unchecked") // safe covariant cast
+  public final ExecutionContext withProfiler(Optional<? extends Profiler> optional) {
+    @Nullable Profiler value = optional.orElse(null);
+    if (this.profiler == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.androidDevicesHelper,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.buildCellRootPath,
+        this.processExecutor,
+        this.projectFilesystemFactory,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExecutionContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExecutionContext
+        && equalTo((ExecutionContext) another);
+  }
+
+  private boolean equalTo(ExecutionContext another) {
+    return console.equals(another.console)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && executors.equals(another.executors)
+        && Objects.equals(targetDevice, another.targetDevice)
+        && Objects.equals(androidDevicesHelper, another.androidDevicesHelper)
+        && Objects.equals(persistentWorkerPools, another.persistentWorkerPools)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && buildCellRootPath.equals(another.buildCellRootPath)
+        && processExecutor.equals(another.processExecutor)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && defaultTestTimeoutMillis == another.defaultTestTimeoutMillis
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && inclNoLocationClassesEnabled == another.inclNoLocationClassesEnabled
+        && shouldReportAbsolutePaths == another.shouldReportAbsolutePaths
+        && debugEnabled == another.debugEnabled
+        && ruleKeyDiagnosticsMode.equals(another.ruleKeyDiagnosticsMode)
+        && workerProcessPools.equals(another.workerProcessPools)
+        && concurrencyLimit.equals(another.concurrencyLimit)
+        && classLoaderCache.equals(another.classLoaderCache)
+        && verbosity.equals(another.verbosity)
+        && stdErr.equals(another.stdErr)
+        && stdOut.equals(another.stdOut)
+        && buildId.equals(another.buildId)
+        && ansi.equals(another.ansi)
+        && Objects.equals(profiler, another.profiler);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code buckEventBus}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code executors}, {@code targetDevice}, {@code androidDevicesHelper}, {@code persistentWorkerPools}, {@code cellPathResolver}, {@code buildCellRootPath}, {@code processExecutor}, {@code projectFilesystemFactory}, {@code defaultTestTimeoutMillis}, {@code codeCoverageEnabled}, {@code inclNoLocationClassesEnabled}, {@code shouldReportAbsolutePaths}, {@code debugEnabled}, {@code ruleKeyDiagnosticsMode}, {@code workerProcessPools}, {@code concurrencyLimit}, {@code classLoaderCache}, {@code verbosity}, {@code stdErr}, {@code stdOut}, {@code buildId}, {@code ansi}, {@code profiler}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + Objects.hashCode(targetDevice);
+    h += (h << 5) + Objects.hashCode(androidDevicesHelper);
+    h += (h << 5) + Objects.hashCode(persistentWorkerPools);
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + buildCellRootPath.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + Longs.hashCode(defaultTestTimeoutMillis);
+    h += (h << 5) + Booleans.hashCode(codeCoverageEnabled);
+    h += (h << 5) + Booleans.hashCode(inclNoLocationClassesEnabled);
+    h += (h << 5) + Booleans.hashCode(shouldReportAbsolutePaths);
+    h += (h << 5) + Booleans.hashCode(debugEnabled);
+    h += (h << 5) + ruleKeyDiagnosticsMode.hashCode();
+    h += (h << 5) + workerProcessPools.hashCode();
+    h += (h << 5) + concurrencyLimit.hashCode();
+    h += (h << 5) + classLoaderCache.hashCode();
+    h += (h << 5) + verbosity.hashCode();
+    h += (h << 5) + stdErr.hashCode();
+    h += (h << 5) + stdOut.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + ansi.hashCode();
+    h += (h << 5) + Objects.hashCode(profiler);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExecutionContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutionContext")
+        .omitNullValues()
+        .add("console", console)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("executors", executors)
+        .add("targetDevice", targetDevice)
+        .add("androidDevicesHelper", androidDevicesHelper)
+        .add("persistentWorkerPools", persistentWorkerPools)
+        .add("cellPathResolver", cellPathResolver)
+        .add("buildCellRootPath", buildCellRootPath)
+        .add("processExecutor", processExecutor)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("defaultTestTimeoutMillis", defaultTestTimeoutMillis)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("inclNoLocationClassesEnabled", inclNoLocationClassesEnabled)
+        .add("shouldReportAbsolutePaths", shouldReportAbsolutePaths)
+        .add("debugEnabled", debugEnabled)
+        .add("ruleKeyDiagnosticsMode", ruleKeyDiagnosticsMode)
+        .add("workerProcessPools", workerProcessPools)
+        .add("concurrencyLimit", concurrencyLimit)
+        .add("classLoaderCache", classLoaderCache)
+        .add("verbosity", verbosity)
+        .add("stdErr", stdErr)
+        .add("stdOut", stdOut)
+        .add("buildId", buildId)
+        .add("ansi", ansi)
+        .add("profiler", profiler)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExecutionContext} instance.
+   * @param console The value for the {@code console} attribute
+   * @param buckEventBus The value for the {@code buckEventBus} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param executors The value for the {@code executors} attribute
+   * @param targetDevice The value for the {@code targetDevice} attribute
+   * @param androidDevicesHelper The value for the {@code androidDevicesHelper} attribute
+   * @param persistentWorkerPools The value for the {@code persistentWorkerPools} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param buildCellRootPath The value for the {@code buildCellRootPath} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param projectFilesystemFactory The value for the {@code projectFilesystemFactory} attribute
+   * @return An immutable ExecutionContext instance
+   */
+  public static ExecutionContext of(Console console, BuckEventBus buckEventBus, Platform platform, Map<String, ? extends String> environment, JavaPackageFinder javaPackageFinder, Map<ExecutorPool, ? extends ListeningExecutorService> executors, Optional<? extends TargetDevice> targetDevice, Optional<? extends AndroidDevicesHelper> androidDevicesHelper, Optional<? extends ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools, CellPathResolver cellPathResolver, Path buildCellRootPath, ProcessExecutor processExecutor, ProjectFilesystemFactory projectFilesystemFactory) {
+    return new ExecutionContext(console, buckEventBus, platform, environment, javaPackageFinder, executors, targetDevice, androidDevicesHelper, persistentWorkerPools, cellPathResolver, buildCellRootPath, processExecutor, projectFilesystemFactory);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExecutionContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExecutionContext instance
+   */
+  static ExecutionContext copyOf(AbstractExecutionContext instance) {
+    if (instance instanceof ExecutionContext) {
+      return (ExecutionContext) instance;
+    }
+    return ExecutionContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExecutionContext ExecutionContext}.
+   * @return A new ExecutionContext builder
+   */
+  public static ExecutionContext.Builder builder() {
+    return new ExecutionContext.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExecutionContext ExecutionContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractExecutionContext", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CONSOLE = 0x1L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x2L;
+    private static final long INIT_BIT_PLATFORM = 0x4L;
+    private static final long INIT_BIT_JAVA_PACKAGE_FINDER = 0x8L;
+    private static final long INIT_BIT_CELL_PATH_RESOLVER = 0x10L;
+    private static final long INIT_BIT_BUILD_CELL_ROOT_PATH = 0x20L;
+    private static final long INIT_BIT_PROCESS_EXECUTOR = 0x40L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM_FACTORY = 0x80L;
+    private static final long OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS = 0x1L;
+    private static final long OPT_BIT_CODE_COVERAGE_ENABLED = 0x2L;
+    private static final long OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED = 0x4L;
+    private static final long OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS = 0x8L;
+    private static final long OPT_BIT_DEBUG_ENABLED = 0x10L;
+    private long initBits = 0xffL;
+    private long optBits;
+
+    private @Nullable Console console;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable Platform platform;
+    private ImmutableMap.Builder<String, String> environment = ImmutableMap.builder();
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable TargetDevice targetDevice;
+    private @Nullable AndroidDevicesHelper androidDevicesHelper;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+    private @Nullable CellPathResolver cellPathResolver;
+    private @Nullable Path buildCellRootPath;
+    private @Nullable ProcessExecutor processExecutor;
+    private @Nullable ProjectFilesystemFactory projectFilesystemFactory;
+    private long defaultTestTimeoutMillis;
+    private boolean codeCoverageEnabled;
+    private boolean inclNoLocationClassesEnabled;
+    private boolean shouldReportAbsolutePaths;
+    private boolean debugEnabled;
+    private @Nullable RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+    private @Nullable ConcurrencyLimit concurrencyLimit;
+    private @Nullable ClassLoaderCache classLoaderCache;
+    private @Nullable Profiler profiler;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExecutionContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExecutionContext instance) {
+      return from((AbstractExecutionContext) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExecutionContext} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractExecutionContext instance) {
+      Objects.requireNonNull(instance, "instance");
+      setConsole(instance.getConsole());
+      setBuckEventBus(instance.getBuckEventBus());
+      setPlatform(instance.getPlatform());
+      putAllEnvironment(instance.getEnvironment());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      putAllExecutors(instance.getExecutors());
+      Optional<TargetDevice> targetDeviceOptional = instance.getTargetDevice();
+      if (targetDeviceOptional.isPresent()) {
+        setTargetDevice(targetDeviceOptional);
+      }
+      Optional<AndroidDevicesHelper> androidDevicesHelperOptional = instance.getAndroidDevicesHelper();
+      if (androidDevicesHelperOptional.isPresent()) {
+        setAndroidDevicesHelper(androidDevicesHelperOptional);
+      }
+      Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPoolsOptional = instance.getPersistentWorkerPools();
+      if (persistentWorkerPoolsOptional.isPresent()) {
+        setPersistentWorkerPools(persistentWorkerPoolsOptional);
+      }
+      setCellPathResolver(instance.getCellPathResolver());
+      setBuildCellRootPath(instance.getBuildCellRootPath());
+      setProcessExecutor(instance.getProcessExecutor());
+      setProjectFilesystemFactory(instance.getProjectFilesystemFactory());
+      setDefaultTestTimeoutMillis(instance.getDefaultTestTimeoutMillis());
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setInclNoLocationClassesEnabled(instance.isInclNoLocationClassesEnabled());
+      setShouldReportAbsolutePaths(instance.shouldReportAbsolutePaths());
+      setDebugEnabled(instance.isDebugEnabled());
+      setRuleKeyDiagnosticsMode(instance.getRuleKeyDiagnosticsMode());
+      setWorkerProcessPools(instance.getWorkerProcessPools());
+      setConcurrencyLimit(instance.getConcurrencyLimit());
+      setClassLoaderCache(instance.getClassLoaderCache());
+      Optional<Profiler> profilerOptional = instance.getProfiler();
+      if (profilerOptional.isPresent()) {
+        setProfiler(profilerOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConsole(Console console) {
+      this.console = Objects.requireNonNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatform(Platform platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironment(Map<String, ? extends String> entries) {
+      this.environment = ImmutableMap.builder();
+      return putAllEnvironment(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllEnvironment(Map<String, ? extends String> entries) {
+      this.environment.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getJavaPackageFinder() javaPackageFinder} attribute.
+     * @param javaPackageFinder The value for javaPackageFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+      initBits &= ~INIT_BIT_JAVA_PACKAGE_FINDER;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getTargetDevice() targetDevice} to targetDevice.
+     * @param targetDevice The value for targetDevice
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetDevice(TargetDevice targetDevice) {
+      this.targetDevice = Objects.requireNonNull(targetDevice, "targetDevice");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getTargetDevice() targetDevice} to targetDevice.
+     * @param targetDevice The value for targetDevice
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetDevice(Optional<? extends TargetDevice> targetDevice) {
+      this.targetDevice = targetDevice.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getAndroidDevicesHelper() androidDevicesHelper} to androidDevicesHelper.
+     * @param androidDevicesHelper The value for androidDevicesHelper
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidDevicesHelper(AndroidDevicesHelper androidDevicesHelper) {
+      this.androidDevicesHelper = Objects.requireNonNull(androidDevicesHelper, "androidDevicesHelper");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getAndroidDevicesHelper() androidDevicesHelper} to androidDevicesHelper.
+     * @param androidDevicesHelper The value for androidDevicesHelper
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidDevicesHelper(Optional<? extends AndroidDevicesHelper> androidDevicesHelper) {
+      this.androidDevicesHelper = androidDevicesHelper.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools) {
+      this.persistentWorkerPools = Objects.requireNonNull(persistentWorkerPools, "persistentWorkerPools");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPersistentWorkerPools(Optional<? extends ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools) {
+      this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getCellPathResolver() cellPathResolver} attribute.
+     * @param cellPathResolver The value for cellPathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCellPathResolver(CellPathResolver cellPathResolver) {
+      this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+      initBits &= ~INIT_BIT_CELL_PATH_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getBuildCellRootPath() buildCellRootPath} attribute.
+     * @param buildCellRootPath The value for buildCellRootPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildCellRootPath(Path buildCellRootPath) {
+      this.buildCellRootPath = Objects.requireNonNull(buildCellRootPath, "buildCellRootPath");
+      initBits &= ~INIT_BIT_BUILD_CELL_ROOT_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getProcessExecutor() processExecutor} attribute.
+     * @param processExecutor The value for processExecutor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProcessExecutor(ProcessExecutor processExecutor) {
+      this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+      initBits &= ~INIT_BIT_PROCESS_EXECUTOR;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+     * @param projectFilesystemFactory The value for projectFilesystemFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProjectFilesystemFactory(ProjectFilesystemFactory projectFilesystemFactory) {
+      this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM_FACTORY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis}.</em>
+     * @param defaultTestTimeoutMillis The value for defaultTestTimeoutMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTestTimeoutMillis(long defaultTestTimeoutMillis) {
+      this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+      optBits |= OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled The value for codeCoverageEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      optBits |= OPT_BIT_CODE_COVERAGE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled}.</em>
+     * @param inclNoLocationClassesEnabled The value for inclNoLocationClassesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      optBits |= OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths}.</em>
+     * @param shouldReportAbsolutePaths The value for shouldReportAbsolutePaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldReportAbsolutePaths(boolean shouldReportAbsolutePaths) {
+      this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+      optBits |= OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#isDebugEnabled() debugEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#isDebugEnabled() debugEnabled}.</em>
+     * @param debugEnabled The value for debugEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      optBits |= OPT_BIT_DEBUG_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode}.</em>
+     * @param ruleKeyDiagnosticsMode The value for ruleKeyDiagnosticsMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode) {
+      this.ruleKeyDiagnosticsMode = Objects.requireNonNull(ruleKeyDiagnosticsMode, "ruleKeyDiagnosticsMode");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getWorkerProcessPools() workerProcessPools} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getWorkerProcessPools() workerProcessPools}.</em>
+     * @param workerProcessPools The value for workerProcessPools 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> workerProcessPools) {
+      this.workerProcessPools = Objects.requireNonNull(workerProcessPools, "workerProcessPools");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getConcurrencyLimit() concurrencyLimit} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getConcurrencyLimit() concurrencyLimit}.</em>
+     * @param concurrencyLimit The value for concurrencyLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = Objects.requireNonNull(concurrencyLimit, "concurrencyLimit");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getClassLoaderCache() classLoaderCache} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getClassLoaderCache() classLoaderCache}.</em>
+     * @param classLoaderCache The value for classLoaderCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClassLoaderCache(ClassLoaderCache classLoaderCache) {
+      this.classLoaderCache = Objects.requireNonNull(classLoaderCache, "classLoaderCache");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getProfiler() profiler} to profiler.
+     * @param profiler The value for profiler
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProfiler(Profiler profiler) {
+      this.profiler = Objects.requireNonNull(profiler, "profiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getProfiler() profiler} to profiler.
+     * @param profiler The value for profiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProfiler(Optional<? extends Profiler> profiler) {
+      this.profiler = profiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExecutionContext ExecutionContext}.
+     * @return An immutable instance of ExecutionContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExecutionContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExecutionContext(this);
+    }
+
+    private boolean defaultTestTimeoutMillisIsSet() {
+      return (optBits & OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS) != 0;
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (optBits & OPT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean inclNoLocationClassesEnabledIsSet() {
+      return (optBits & OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED) != 0;
+    }
+
+    private boolean shouldReportAbsolutePathsIsSet() {
+      return (optBits & OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS) != 0;
+    }
+
+    private boolean debugEnabledIsSet() {
+      return (optBits & OPT_BIT_DEBUG_ENABLED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_JAVA_PACKAGE_FINDER) != 0) attributes.add("javaPackageFinder");
+      if ((initBits & INIT_BIT_CELL_PATH_RESOLVER) != 0) attributes.add("cellPathResolver");
+      if ((initBits & INIT_BIT_BUILD_CELL_ROOT_PATH) != 0) attributes.add("buildCellRootPath");
+      if ((initBits & INIT_BIT_PROCESS_EXECUTOR) != 0) attributes.add("processExecutor");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM_FACTORY) != 0) attributes.add("projectFilesystemFactory");
+      return "Cannot build ExecutionContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.facebook.buck.step;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractStepExecutionResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code StepExecutionResult.of()}.
+ */
+@Generated(from = "AbstractStepExecutionResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class StepExecutionResult extends AbstractStepExecutionResult {
+  private final int exitCode;
+  private final @Nullable String stderr;
+  private transient final Boolean success;
+
+  private StepExecutionResult(int exitCode, Optional<String> stderr) {
+    this.exitCode = exitCode;
+    this.stderr = stderr.orElse(null);
+    this.success = Objects.requireNonNull(super.isSuccess(), "success");
+  }
+
+  private StepExecutionResult(StepExecutionResult original, int exitCode, @Nullable String stderr) {
+    this.exitCode = exitCode;
+    this.stderr = stderr;
+    this.success = Objects.requireNonNull(super.isSuccess(), "success");
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public int getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code stderr} attribute
+   */
+  @Override
+  public Optional<String> getStderr() {
+    return Optional.ofNullable(stderr);
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code success} attribute
+   */
+  @Override
+  public Boolean isSuccess() {
+    return success;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link StepExecutionResult#getExitCode() exitCode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exitCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final StepExecutionResult withExitCode(int value) {
+    if (this.exitCode == value) return this;
+    return new StepExecutionResult(this, value, this.stderr);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link StepExecutionResult#getStderr() stderr} attribute.
+   * @param value The value for stderr
+   * @return A modified copy of {@code this} object
+   */
+  public final StepExecutionResult withStderr(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "stderr");
+    if (Objects.equals(this.stderr, newValue)) return this;
+    return new StepExecutionResult(this, this.exitCode, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link StepExecutionResult#getStderr() stderr} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stderr
+   * @return A modified copy of {@code this} object
+   */
+  public final StepExecutionResult withStderr(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.stderr, value)) return this;
+    return new StepExecutionResult(this, this.exitCode, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StepExecutionResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StepExecutionResult
+        && equalTo((StepExecutionResult) another);
+  }
+
+  private boolean equalTo(StepExecutionResult another) {
+    return exitCode == another.exitCode
+        && Objects.equals(stderr, another.stderr)
+        && success.equals(another.success);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code stderr}, {@code success}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + exitCode;
+    h += (h << 5) + Objects.hashCode(stderr);
+    h += (h << 5) + success.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StepExecutionResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StepExecutionResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("stderr", stderr)
+        .add("success", success)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StepExecutionResult} instance.
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param stderr The value for the {@code stderr} attribute
+   * @return An immutable StepExecutionResult instance
+   */
+  public static StepExecutionResult of(int exitCode, Optional<String> stderr) {
+    return new StepExecutionResult(exitCode, stderr);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractStepExecutionResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable StepExecutionResult instance
+   */
+  static StepExecutionResult copyOf(AbstractStepExecutionResult instance) {
+    if (instance instanceof StepExecutionResult) {
+      return (StepExecutionResult) instance;
+    }
+    return StepExecutionResult.of(instance.getExitCode(), instance.getStderr());
+  }
+}
@@ -0,0 +1,140 @@
+package com.facebook.buck.support.bgtasks;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Task ID object for {@link ManagedBackgroundTask}. 
+ */
+@Generated(from = "ManagedBackgroundTask.AbstractTaskId", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class TaskId extends ManagedBackgroundTask.AbstractTaskId {
+  private final String name;
+  private final BuildId buildId;
+
+  private TaskId(String name, BuildId buildId) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+  }
+
+  private TaskId(TaskId original, String name, BuildId buildId) {
+    this.name = name;
+    this.buildId = buildId;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String name() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId buildId() {
+    return buildId;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TaskId#name() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final TaskId withName(String value) {
+    String newValue = Objects.requireNonNull(value, "name");
+    if (this.name.equals(newValue)) return this;
+    return new TaskId(this, newValue, this.buildId);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link TaskId#buildId() buildId} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildId
+   * @return A modified copy of the {@code this} object
+   */
+  public final TaskId withBuildId(BuildId value) {
+    if (this.buildId == value) return this;
+    BuildId newValue = Objects.requireNonNull(value, "buildId");
+    return new TaskId(this, this.name, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TaskId} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TaskId
+        && equalTo((TaskId) another);
+  }
+
+  private boolean equalTo(TaskId another) {
+    return name.equals(another.name)
+        && buildId.equals(another.buildId);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code buildId}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TaskId} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TaskId")
+        .omitNullValues()
+        .add("name", name)
+        .add("buildId", buildId)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TaskId} instance.
+   * @param name The value for the {@code name} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @return An immutable TaskId instance
+   */
+  public static TaskId of(String name, BuildId buildId) {
+    return new TaskId(name, buildId);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ManagedBackgroundTask.AbstractTaskId} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TaskId instance
+   */
+  static TaskId copyOf(ManagedBackgroundTask.AbstractTaskId instance) {
+    if (instance instanceof TaskId) {
+      return (TaskId) instance;
+    }
+    return TaskId.of(instance.name(), instance.buildId());
+  }
+}
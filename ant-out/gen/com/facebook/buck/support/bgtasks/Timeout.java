@@ -0,0 +1,141 @@
+package com.facebook.buck.support.bgtasks;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Timeout object for {@link BackgroundTask}. 
+ */
+@Generated(from = "BackgroundTask.AbstractTimeout", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class Timeout extends BackgroundTask.AbstractTimeout {
+  private final long timeout;
+  private final TimeUnit unit;
+
+  private Timeout(long timeout, TimeUnit unit) {
+    this.timeout = timeout;
+    this.unit = Objects.requireNonNull(unit, "unit");
+  }
+
+  private Timeout(Timeout original, long timeout, TimeUnit unit) {
+    this.timeout = timeout;
+    this.unit = unit;
+  }
+
+  /**
+   * @return The value of the {@code timeout} attribute
+   */
+  @Override
+  public long timeout() {
+    return timeout;
+  }
+
+  /**
+   * @return The value of the {@code unit} attribute
+   */
+  @Override
+  public TimeUnit unit() {
+    return unit;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Timeout#timeout() timeout} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for timeout
+   * @return A modified copy of the {@code this} object
+   */
+  public final Timeout withTimeout(long value) {
+    if (this.timeout == value) return this;
+    return new Timeout(this, value, this.unit);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Timeout#unit() unit} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for unit
+   * @return A modified copy of the {@code this} object
+   */
+  public final Timeout withUnit(TimeUnit value) {
+    if (this.unit == value) return this;
+    TimeUnit newValue = Objects.requireNonNull(value, "unit");
+    if (this.unit.equals(newValue)) return this;
+    return new Timeout(this, this.timeout, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Timeout} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Timeout
+        && equalTo((Timeout) another);
+  }
+
+  private boolean equalTo(Timeout another) {
+    return timeout == another.timeout
+        && unit.equals(another.unit);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code timeout}, {@code unit}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(timeout);
+    h += (h << 5) + unit.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Timeout} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Timeout")
+        .omitNullValues()
+        .add("timeout", timeout)
+        .add("unit", unit)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Timeout} instance.
+   * @param timeout The value for the {@code timeout} attribute
+   * @param unit The value for the {@code unit} attribute
+   * @return An immutable Timeout instance
+   */
+  public static Timeout of(long timeout, TimeUnit unit) {
+    return new Timeout(timeout, unit);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BackgroundTask.AbstractTimeout} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Timeout instance
+   */
+  static Timeout copyOf(BackgroundTask.AbstractTimeout instance) {
+    if (instance instanceof Timeout) {
+      return (Timeout) instance;
+    }
+    return Timeout.of(instance.timeout(), instance.unit());
+  }
+}
@@ -0,0 +1,165 @@
+package com.facebook.buck.support.cli.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ *Helps parse common command line argument formats 
+ */
+@Generated(from = "AbstractBuckCellArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuckCellArg extends AbstractBuckCellArg {
+  private final @Nullable String cellName;
+  private final String arg;
+  private transient final String basePath;
+
+  private BuckCellArg(Optional<String> cellName, String arg) {
+    this.cellName = cellName.orElse(null);
+    this.arg = Objects.requireNonNull(arg, "arg");
+    this.basePath = Objects.requireNonNull(super.getBasePath(), "basePath");
+  }
+
+  private BuckCellArg(BuckCellArg original, @Nullable String cellName, String arg) {
+    this.cellName = cellName;
+    this.arg = arg;
+    this.basePath = Objects.requireNonNull(super.getBasePath(), "basePath");
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public Optional<String> getCellName() {
+    return Optional.ofNullable(cellName);
+  }
+
+  /**
+   * @return The value of the {@code arg} attribute
+   */
+  @Override
+  public String getArg() {
+    return arg;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code basePath} attribute
+   */
+  @Override
+  public String getBasePath() {
+    return basePath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BuckCellArg#getCellName() cellName} attribute.
+   * @param value The value for cellName
+   * @return A modified copy of {@code this} object
+   */
+  public final BuckCellArg withCellName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "cellName");
+    if (Objects.equals(this.cellName, newValue)) return this;
+    return new BuckCellArg(this, newValue, this.arg);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BuckCellArg#getCellName() cellName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cellName
+   * @return A modified copy of {@code this} object
+   */
+  public final BuckCellArg withCellName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.cellName, value)) return this;
+    return new BuckCellArg(this, value, this.arg);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BuckCellArg#getArg() arg} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for arg
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuckCellArg withArg(String value) {
+    String newValue = Objects.requireNonNull(value, "arg");
+    if (this.arg.equals(newValue)) return this;
+    return new BuckCellArg(this, this.cellName, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuckCellArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuckCellArg
+        && equalTo((BuckCellArg) another);
+  }
+
+  private boolean equalTo(BuckCellArg another) {
+    return Objects.equals(cellName, another.cellName)
+        && arg.equals(another.arg)
+        && basePath.equals(another.basePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellName}, {@code arg}, {@code basePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(cellName);
+    h += (h << 5) + arg.hashCode();
+    h += (h << 5) + basePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckCellArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckCellArg")
+        .omitNullValues()
+        .add("cellName", cellName)
+        .add("arg", arg)
+        .add("basePath", basePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuckCellArg} instance.
+   * @param cellName The value for the {@code cellName} attribute
+   * @param arg The value for the {@code arg} attribute
+   * @return An immutable BuckCellArg instance
+   */
+  public static BuckCellArg of(Optional<String> cellName, String arg) {
+    return new BuckCellArg(cellName, arg);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuckCellArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuckCellArg instance
+   */
+  static BuckCellArg copyOf(AbstractBuckCellArg instance) {
+    if (instance instanceof BuckCellArg) {
+      return (BuckCellArg) instance;
+    }
+    return BuckCellArg.of(instance.getCellName(), instance.getArg());
+  }
+}
@@ -0,0 +1,387 @@
+package com.facebook.buck.swift.toolchain;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Interface describing a Swift toolchain and platform to build for. 
+ */
+@Generated(from = "AbstractSwiftPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class SwiftPlatform implements AbstractSwiftPlatform {
+  private final Tool swiftc;
+  private final @Nullable Tool swiftStdlibTool;
+  private final ImmutableSet<Path> swiftRuntimePaths;
+  private final ImmutableSet<Path> swiftStaticRuntimePaths;
+  private final ImmutableList<Path> swiftSharedLibraryRunPaths;
+
+  private SwiftPlatform(SwiftPlatform.Builder builder) {
+    this.swiftc = builder.swiftc;
+    this.swiftStdlibTool = builder.swiftStdlibTool;
+    this.swiftRuntimePaths = builder.swiftRuntimePaths.build();
+    this.swiftStaticRuntimePaths = builder.swiftStaticRuntimePaths.build();
+    this.swiftSharedLibraryRunPaths = builder.swiftSharedLibraryRunPaths.build();
+  }
+
+  /**
+   * @return The value of the {@code swiftc} attribute
+   */
+  @Override
+  public Tool getSwiftc() {
+    return swiftc;
+  }
+
+  /**
+   * @return The value of the {@code swiftStdlibTool} attribute
+   */
+  @Override
+  public Optional<Tool> getSwiftStdlibTool() {
+    return Optional.ofNullable(swiftStdlibTool);
+  }
+
+  /**
+   * @return A set of directories which contain the Swift runtime as dynamic libraries. On macOS,
+   *     the directory will contain libs like libswiftCore.dylib and others.
+   */
+  @Override
+  public ImmutableSet<Path> getSwiftRuntimePaths() {
+    return swiftRuntimePaths;
+  }
+
+  /**
+   * @return A set of directories which contain the Swift runtime as static libraries. On macOS, the
+   *     directory will contain libs like libswiftCore.a and others.
+   */
+  @Override
+  public ImmutableSet<Path> getSwiftStaticRuntimePaths() {
+    return swiftStaticRuntimePaths;
+  }
+
+  /**
+   * @return A set of search paths used by the dynamic linker loader to find of linked shared
+   *     libraries. Each of the paths is usually referred as an "rpath". For example, on iOS,
+   *     "@executable_path/Frameworks" is a common rpath.
+   */
+  @Override
+  public ImmutableList<Path> getSwiftSharedLibraryRunPaths() {
+    return swiftSharedLibraryRunPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SwiftPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SwiftPlatform
+        && equalTo((SwiftPlatform) another);
+  }
+
+  private boolean equalTo(SwiftPlatform another) {
+    return swiftc.equals(another.swiftc)
+        && Objects.equals(swiftStdlibTool, another.swiftStdlibTool)
+        && swiftRuntimePaths.equals(another.swiftRuntimePaths)
+        && swiftStaticRuntimePaths.equals(another.swiftStaticRuntimePaths)
+        && swiftSharedLibraryRunPaths.equals(another.swiftSharedLibraryRunPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code swiftc}, {@code swiftStdlibTool}, {@code swiftRuntimePaths}, {@code swiftStaticRuntimePaths}, {@code swiftSharedLibraryRunPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + swiftc.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftStdlibTool);
+    h += (h << 5) + swiftRuntimePaths.hashCode();
+    h += (h << 5) + swiftStaticRuntimePaths.hashCode();
+    h += (h << 5) + swiftSharedLibraryRunPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SwiftPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SwiftPlatform")
+        .omitNullValues()
+        .add("swiftc", swiftc)
+        .add("swiftStdlibTool", swiftStdlibTool)
+        .add("swiftRuntimePaths", swiftRuntimePaths)
+        .add("swiftStaticRuntimePaths", swiftStaticRuntimePaths)
+        .add("swiftSharedLibraryRunPaths", swiftSharedLibraryRunPaths)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link SwiftPlatform SwiftPlatform}.
+   * @return A new SwiftPlatform builder
+   */
+  public static SwiftPlatform.Builder builder() {
+    return new SwiftPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SwiftPlatform SwiftPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractSwiftPlatform", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SWIFTC = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Tool swiftc;
+    private @Nullable Tool swiftStdlibTool;
+    private ImmutableSet.Builder<Path> swiftRuntimePaths = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> swiftStaticRuntimePaths = ImmutableSet.builder();
+    private ImmutableList.Builder<Path> swiftSharedLibraryRunPaths = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SwiftPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SwiftPlatform instance) {
+      return from((AbstractSwiftPlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSwiftPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractSwiftPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSwiftc(instance.getSwiftc());
+      Optional<Tool> swiftStdlibToolOptional = instance.getSwiftStdlibTool();
+      if (swiftStdlibToolOptional.isPresent()) {
+        setSwiftStdlibTool(swiftStdlibToolOptional);
+      }
+      addAllSwiftRuntimePaths(instance.getSwiftRuntimePaths());
+      addAllSwiftStaticRuntimePaths(instance.getSwiftStaticRuntimePaths());
+      addAllSwiftSharedLibraryRunPaths(instance.getSwiftSharedLibraryRunPaths());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link SwiftPlatform#getSwiftc() swiftc} attribute.
+     * @param swiftc The value for swiftc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftc(Tool swiftc) {
+      this.swiftc = Objects.requireNonNull(swiftc, "swiftc");
+      initBits &= ~INIT_BIT_SWIFTC;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftPlatform#getSwiftStdlibTool() swiftStdlibTool} to swiftStdlibTool.
+     * @param swiftStdlibTool The value for swiftStdlibTool
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftStdlibTool(Tool swiftStdlibTool) {
+      this.swiftStdlibTool = Objects.requireNonNull(swiftStdlibTool, "swiftStdlibTool");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftPlatform#getSwiftStdlibTool() swiftStdlibTool} to swiftStdlibTool.
+     * @param swiftStdlibTool The value for swiftStdlibTool
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftStdlibTool(Optional<? extends Tool> swiftStdlibTool) {
+      this.swiftStdlibTool = swiftStdlibTool.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param element A swiftRuntimePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftRuntimePaths(Path element) {
+      this.swiftRuntimePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param elements An array of swiftRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftRuntimePaths(Path... elements) {
+      this.swiftRuntimePaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param elements An iterable of swiftRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftRuntimePaths(Iterable<? extends Path> elements) {
+      this.swiftRuntimePaths = ImmutableSet.builder();
+      return addAllSwiftRuntimePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param elements An iterable of swiftRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSwiftRuntimePaths(Iterable<? extends Path> elements) {
+      this.swiftRuntimePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param element A swiftStaticRuntimePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftStaticRuntimePaths(Path element) {
+      this.swiftStaticRuntimePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements An array of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftStaticRuntimePaths(Path... elements) {
+      this.swiftStaticRuntimePaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements An iterable of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftStaticRuntimePaths(Iterable<? extends Path> elements) {
+      this.swiftStaticRuntimePaths = ImmutableSet.builder();
+      return addAllSwiftStaticRuntimePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements An iterable of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSwiftStaticRuntimePaths(Iterable<? extends Path> elements) {
+      this.swiftStaticRuntimePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param element A swiftSharedLibraryRunPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftSharedLibraryRunPaths(Path element) {
+      this.swiftSharedLibraryRunPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param elements An array of swiftSharedLibraryRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftSharedLibraryRunPaths(Path... elements) {
+      this.swiftSharedLibraryRunPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param elements An iterable of swiftSharedLibraryRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftSharedLibraryRunPaths(Iterable<? extends Path> elements) {
+      this.swiftSharedLibraryRunPaths = ImmutableList.builder();
+      return addAllSwiftSharedLibraryRunPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftPlatform#getSwiftSharedLibraryRunPaths() swiftSharedLibraryRunPaths} list.
+     * @param elements An iterable of swiftSharedLibraryRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSwiftSharedLibraryRunPaths(Iterable<? extends Path> elements) {
+      this.swiftSharedLibraryRunPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SwiftPlatform SwiftPlatform}.
+     * @return An immutable instance of SwiftPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SwiftPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SwiftPlatform(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SWIFTC) != 0) attributes.add("swiftc");
+      return "Cannot build SwiftPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
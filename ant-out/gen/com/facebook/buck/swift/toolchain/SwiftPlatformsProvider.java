@@ -0,0 +1,87 @@
+package com.facebook.buck.swift.toolchain;
+
+import com.facebook.buck.core.model.FlavorDomain;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractSwiftPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code SwiftPlatformsProvider.of()}.
+ */
+@Generated(from = "AbstractSwiftPlatformsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class SwiftPlatformsProvider
+    implements AbstractSwiftPlatformsProvider {
+  private final FlavorDomain<SwiftPlatform> swiftCxxPlatforms;
+
+  private SwiftPlatformsProvider(FlavorDomain<SwiftPlatform> swiftCxxPlatforms) {
+    this.swiftCxxPlatforms = Objects.requireNonNull(swiftCxxPlatforms, "swiftCxxPlatforms");
+  }
+
+  /**
+   * @return The value of the {@code swiftCxxPlatforms} attribute
+   */
+  @Override
+  public FlavorDomain<SwiftPlatform> getSwiftCxxPlatforms() {
+    return swiftCxxPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SwiftPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SwiftPlatformsProvider
+        && equalTo((SwiftPlatformsProvider) another);
+  }
+
+  private boolean equalTo(SwiftPlatformsProvider another) {
+    return swiftCxxPlatforms.equals(another.swiftCxxPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code swiftCxxPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + swiftCxxPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SwiftPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SwiftPlatformsProvider")
+        .omitNullValues()
+        .add("swiftCxxPlatforms", swiftCxxPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SwiftPlatformsProvider} instance.
+   * @param swiftCxxPlatforms The value for the {@code swiftCxxPlatforms} attribute
+   * @return An immutable SwiftPlatformsProvider instance
+   */
+  public static SwiftPlatformsProvider of(FlavorDomain<SwiftPlatform> swiftCxxPlatforms) {
+    return new SwiftPlatformsProvider(swiftCxxPlatforms);
+  }
+}
@@ -0,0 +1,733 @@
+package com.facebook.buck.test;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *Represents the test results from multiple test cases. 
+ */
+@Generated(from = "AbstractTestResults", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class TestResults extends AbstractTestResults {
+  private final BuildTarget buildTarget;
+  private transient final boolean success;
+  private transient final boolean hasAssumptionViolations;
+  private transient final int failureCount;
+  private transient final ImmutableList<TestCaseSummary> failures;
+  private final ImmutableList<TestCaseSummary> testCases;
+  private final ImmutableSet<String> contacts;
+  private final ImmutableSet<String> labels;
+  private final ImmutableList<Path> testLogPaths;
+  private final boolean dependenciesPassTheirTests;
+  private final int sequenceNumber;
+  private final int totalNumberOfTests;
+
+  private TestResults(
+      BuildTarget buildTarget,
+      Iterable<? extends TestCaseSummary> testCases,
+      Iterable<String> contacts,
+      Iterable<String> labels) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.testCases = ImmutableList.copyOf(testCases);
+    this.contacts = ImmutableSet.copyOf(contacts);
+    this.labels = ImmutableSet.copyOf(labels);
+    this.testLogPaths = ImmutableList.of();
+    this.success = initShim.isSuccess();
+    this.hasAssumptionViolations = initShim.hasAssumptionViolations();
+    this.failureCount = initShim.getFailureCount();
+    this.failures = initShim.getFailures();
+    this.dependenciesPassTheirTests = initShim.getDependenciesPassTheirTests();
+    this.sequenceNumber = initShim.getSequenceNumber();
+    this.totalNumberOfTests = initShim.getTotalNumberOfTests();
+    this.initShim = null;
+  }
+
+  private TestResults(TestResults.Builder builder) {
+    this.buildTarget = builder.buildTarget;
+    this.testCases = builder.testCases.build();
+    this.contacts = builder.contacts.build();
+    this.labels = builder.labels.build();
+    this.testLogPaths = builder.testLogPaths.build();
+    if (builder.dependenciesPassTheirTestsIsSet()) {
+      initShim.setDependenciesPassTheirTests(builder.dependenciesPassTheirTests);
+    }
+    if (builder.sequenceNumberIsSet()) {
+      initShim.setSequenceNumber(builder.sequenceNumber);
+    }
+    if (builder.totalNumberOfTestsIsSet()) {
+      initShim.setTotalNumberOfTests(builder.totalNumberOfTests);
+    }
+    this.success = initShim.isSuccess();
+    this.hasAssumptionViolations = initShim.hasAssumptionViolations();
+    this.failureCount = initShim.getFailureCount();
+    this.failures = initShim.getFailures();
+    this.dependenciesPassTheirTests = initShim.getDependenciesPassTheirTests();
+    this.sequenceNumber = initShim.getSequenceNumber();
+    this.totalNumberOfTests = initShim.getTotalNumberOfTests();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractTestResults", generator = "Immutables")
+  private final class InitShim {
+    private byte successBuildStage = STAGE_UNINITIALIZED;
+    private boolean success;
+
+    boolean isSuccess() {
+      if (successBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (successBuildStage == STAGE_UNINITIALIZED) {
+        successBuildStage = STAGE_INITIALIZING;
+        this.success = TestResults.super.isSuccess();
+        successBuildStage = STAGE_INITIALIZED;
+      }
+      return this.success;
+    }
+
+    private byte hasAssumptionViolationsBuildStage = STAGE_UNINITIALIZED;
+    private boolean hasAssumptionViolations;
+
+    boolean hasAssumptionViolations() {
+      if (hasAssumptionViolationsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (hasAssumptionViolationsBuildStage == STAGE_UNINITIALIZED) {
+        hasAssumptionViolationsBuildStage = STAGE_INITIALIZING;
+        this.hasAssumptionViolations = TestResults.super.hasAssumptionViolations();
+        hasAssumptionViolationsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.hasAssumptionViolations;
+    }
+
+    private byte failureCountBuildStage = STAGE_UNINITIALIZED;
+    private int failureCount;
+
+    int getFailureCount() {
+      if (failureCountBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (failureCountBuildStage == STAGE_UNINITIALIZED) {
+        failureCountBuildStage = STAGE_INITIALIZING;
+        this.failureCount = TestResults.super.getFailureCount();
+        failureCountBuildStage = STAGE_INITIALIZED;
+      }
+      return this.failureCount;
+    }
+
+    private byte failuresBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableList<TestCaseSummary> failures;
+
+    ImmutableList<TestCaseSummary> getFailures() {
+      if (failuresBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (failuresBuildStage == STAGE_UNINITIALIZED) {
+        failuresBuildStage = STAGE_INITIALIZING;
+        this.failures = Objects.requireNonNull(TestResults.super.getFailures(), "failures");
+        failuresBuildStage = STAGE_INITIALIZED;
+      }
+      return this.failures;
+    }
+
+    private byte dependenciesPassTheirTestsBuildStage = STAGE_UNINITIALIZED;
+    private boolean dependenciesPassTheirTests;
+
+    boolean getDependenciesPassTheirTests() {
+      if (dependenciesPassTheirTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (dependenciesPassTheirTestsBuildStage == STAGE_UNINITIALIZED) {
+        dependenciesPassTheirTestsBuildStage = STAGE_INITIALIZING;
+        this.dependenciesPassTheirTests = TestResults.super.getDependenciesPassTheirTests();
+        dependenciesPassTheirTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.dependenciesPassTheirTests;
+    }
+
+    void setDependenciesPassTheirTests(boolean dependenciesPassTheirTests) {
+      this.dependenciesPassTheirTests = dependenciesPassTheirTests;
+      dependenciesPassTheirTestsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte sequenceNumberBuildStage = STAGE_UNINITIALIZED;
+    private int sequenceNumber;
+
+    int getSequenceNumber() {
+      if (sequenceNumberBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sequenceNumberBuildStage == STAGE_UNINITIALIZED) {
+        sequenceNumberBuildStage = STAGE_INITIALIZING;
+        this.sequenceNumber = TestResults.super.getSequenceNumber();
+        sequenceNumberBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sequenceNumber;
+    }
+
+    void setSequenceNumber(int sequenceNumber) {
+      this.sequenceNumber = sequenceNumber;
+      sequenceNumberBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte totalNumberOfTestsBuildStage = STAGE_UNINITIALIZED;
+    private int totalNumberOfTests;
+
+    int getTotalNumberOfTests() {
+      if (totalNumberOfTestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (totalNumberOfTestsBuildStage == STAGE_UNINITIALIZED) {
+        totalNumberOfTestsBuildStage = STAGE_INITIALIZING;
+        this.totalNumberOfTests = TestResults.super.getTotalNumberOfTests();
+        totalNumberOfTestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.totalNumberOfTests;
+    }
+
+    void setTotalNumberOfTests(int totalNumberOfTests) {
+      this.totalNumberOfTests = totalNumberOfTests;
+      totalNumberOfTestsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (successBuildStage == STAGE_INITIALIZING) attributes.add("success");
+      if (hasAssumptionViolationsBuildStage == STAGE_INITIALIZING) attributes.add("hasAssumptionViolations");
+      if (failureCountBuildStage == STAGE_INITIALIZING) attributes.add("failureCount");
+      if (failuresBuildStage == STAGE_INITIALIZING) attributes.add("failures");
+      if (dependenciesPassTheirTestsBuildStage == STAGE_INITIALIZING) attributes.add("dependenciesPassTheirTests");
+      if (sequenceNumberBuildStage == STAGE_INITIALIZING) attributes.add("sequenceNumber");
+      if (totalNumberOfTestsBuildStage == STAGE_INITIALIZING) attributes.add("totalNumberOfTests");
+      return "Cannot build TestResults, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code success} attribute
+   */
+  @Override
+  public boolean isSuccess() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSuccess()
+        : this.success;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code hasAssumptionViolations} attribute
+   */
+  @Override
+  public boolean hasAssumptionViolations() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.hasAssumptionViolations()
+        : this.hasAssumptionViolations;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code failureCount} attribute
+   */
+  @Override
+  public int getFailureCount() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFailureCount()
+        : this.failureCount;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code failures} attribute
+   */
+  @Override
+  public ImmutableList<TestCaseSummary> getFailures() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFailures()
+        : this.failures;
+  }
+
+  /**
+   * @return The value of the {@code testCases} attribute
+   */
+  @Override
+  public ImmutableList<TestCaseSummary> getTestCases() {
+    return testCases;
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code testLogPaths} attribute
+   */
+  @Override
+  public ImmutableList<Path> getTestLogPaths() {
+    return testLogPaths;
+  }
+
+  /**
+   * @return The value of the {@code dependenciesPassTheirTests} attribute
+   */
+  @Override
+  public boolean getDependenciesPassTheirTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDependenciesPassTheirTests()
+        : this.dependenciesPassTheirTests;
+  }
+
+  /**
+   * @return The value of the {@code sequenceNumber} attribute
+   */
+  @Override
+  public int getSequenceNumber() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSequenceNumber()
+        : this.sequenceNumber;
+  }
+
+  /**
+   * @return The value of the {@code totalNumberOfTests} attribute
+   */
+  @Override
+  public int getTotalNumberOfTests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTotalNumberOfTests()
+        : this.totalNumberOfTests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestResults} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestResults
+        && equalTo((TestResults) another);
+  }
+
+  private boolean equalTo(TestResults another) {
+    return buildTarget.equals(another.buildTarget)
+        && success == another.success
+        && hasAssumptionViolations == another.hasAssumptionViolations
+        && failureCount == another.failureCount
+        && failures.equals(another.failures)
+        && testCases.equals(another.testCases)
+        && contacts.equals(another.contacts)
+        && labels.equals(another.labels)
+        && testLogPaths.equals(another.testLogPaths)
+        && dependenciesPassTheirTests == another.dependenciesPassTheirTests
+        && sequenceNumber == another.sequenceNumber
+        && totalNumberOfTests == another.totalNumberOfTests;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code success}, {@code hasAssumptionViolations}, {@code failureCount}, {@code failures}, {@code testCases}, {@code contacts}, {@code labels}, {@code testLogPaths}, {@code dependenciesPassTheirTests}, {@code sequenceNumber}, {@code totalNumberOfTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + Booleans.hashCode(success);
+    h += (h << 5) + Booleans.hashCode(hasAssumptionViolations);
+    h += (h << 5) + failureCount;
+    h += (h << 5) + failures.hashCode();
+    h += (h << 5) + testCases.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + testLogPaths.hashCode();
+    h += (h << 5) + Booleans.hashCode(dependenciesPassTheirTests);
+    h += (h << 5) + sequenceNumber;
+    h += (h << 5) + totalNumberOfTests;
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code TestResults} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param testCases The value for the {@code testCases} attribute
+   * @param contacts The value for the {@code contacts} attribute
+   * @param labels The value for the {@code labels} attribute
+   * @return An immutable TestResults instance
+   */
+  public static TestResults of(BuildTarget buildTarget, ImmutableList<TestCaseSummary> testCases, ImmutableSet<String> contacts, ImmutableSet<String> labels) {
+    return of(buildTarget, (Iterable<? extends TestCaseSummary>) testCases, (Iterable<String>) contacts, (Iterable<String>) labels);
+  }
+
+  /**
+   * Construct a new immutable {@code TestResults} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param testCases The value for the {@code testCases} attribute
+   * @param contacts The value for the {@code contacts} attribute
+   * @param labels The value for the {@code labels} attribute
+   * @return An immutable TestResults instance
+   */
+  public static TestResults of(BuildTarget buildTarget, Iterable<? extends TestCaseSummary> testCases, Iterable<String> contacts, Iterable<String> labels) {
+    return new TestResults(buildTarget, testCases, contacts, labels);
+  }
+
+  /**
+   * Creates a builder for {@link TestResults TestResults}.
+   * @return A new TestResults builder
+   */
+  public static TestResults.Builder builder() {
+    return new TestResults.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TestResults TestResults}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractTestResults", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_TARGET = 0x1L;
+    private static final long OPT_BIT_DEPENDENCIES_PASS_THEIR_TESTS = 0x1L;
+    private static final long OPT_BIT_SEQUENCE_NUMBER = 0x2L;
+    private static final long OPT_BIT_TOTAL_NUMBER_OF_TESTS = 0x4L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable BuildTarget buildTarget;
+    private ImmutableList.Builder<TestCaseSummary> testCases = ImmutableList.builder();
+    private ImmutableSet.Builder<String> contacts = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> labels = ImmutableSet.builder();
+    private ImmutableList.Builder<Path> testLogPaths = ImmutableList.builder();
+    private boolean dependenciesPassTheirTests;
+    private int sequenceNumber;
+    private int totalNumberOfTests;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TestResults} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TestResults instance) {
+      return from((AbstractTestResults) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTestResults} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractTestResults instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildTarget(instance.getBuildTarget());
+      addAllTestCases(instance.getTestCases());
+      addAllContacts(instance.getContacts());
+      addAllLabels(instance.getLabels());
+      addAllTestLogPaths(instance.getTestLogPaths());
+      setDependenciesPassTheirTests(instance.getDependenciesPassTheirTests());
+      setSequenceNumber(instance.getSequenceNumber());
+      setTotalNumberOfTests(instance.getTotalNumberOfTests());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestResults#getBuildTarget() buildTarget} attribute.
+     * @param buildTarget The value for buildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      initBits &= ~INIT_BIT_BUILD_TARGET;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link TestResults#getTestCases() testCases} list.
+     * @param element A testCases element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTestCases(TestCaseSummary element) {
+      this.testCases.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getTestCases() testCases} list.
+     * @param elements An array of testCases elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTestCases(TestCaseSummary... elements) {
+      this.testCases.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TestResults#getTestCases() testCases} list.
+     * @param elements An iterable of testCases elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestCases(Iterable<? extends TestCaseSummary> elements) {
+      this.testCases = ImmutableList.builder();
+      return addAllTestCases(elements);
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getTestCases() testCases} list.
+     * @param elements An iterable of testCases elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTestCases(Iterable<? extends TestCaseSummary> elements) {
+      this.testCases.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link TestResults#getContacts() contacts} set.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getContacts() contacts} set.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String... elements) {
+      this.contacts.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TestResults#getContacts() contacts} set.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSet.builder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getContacts() contacts} set.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link TestResults#getLabels() labels} set.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getLabels() labels} set.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TestResults#getLabels() labels} set.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSet.builder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getLabels() labels} set.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link TestResults#getTestLogPaths() testLogPaths} list.
+     * @param element A testLogPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTestLogPaths(Path element) {
+      this.testLogPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements An array of testLogPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTestLogPaths(Path... elements) {
+      this.testLogPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link TestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements An iterable of testLogPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestLogPaths(Iterable<? extends Path> elements) {
+      this.testLogPaths = ImmutableList.builder();
+      return addAllTestLogPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link TestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements An iterable of testLogPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTestLogPaths(Iterable<? extends Path> elements) {
+      this.testLogPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests}.</em>
+     * @param dependenciesPassTheirTests The value for dependenciesPassTheirTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDependenciesPassTheirTests(boolean dependenciesPassTheirTests) {
+      this.dependenciesPassTheirTests = dependenciesPassTheirTests;
+      optBits |= OPT_BIT_DEPENDENCIES_PASS_THEIR_TESTS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestResults#getSequenceNumber() sequenceNumber} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestResults#getSequenceNumber() sequenceNumber}.</em>
+     * @param sequenceNumber The value for sequenceNumber 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSequenceNumber(int sequenceNumber) {
+      this.sequenceNumber = sequenceNumber;
+      optBits |= OPT_BIT_SEQUENCE_NUMBER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link TestResults#getTotalNumberOfTests() totalNumberOfTests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link TestResults#getTotalNumberOfTests() totalNumberOfTests}.</em>
+     * @param totalNumberOfTests The value for totalNumberOfTests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTotalNumberOfTests(int totalNumberOfTests) {
+      this.totalNumberOfTests = totalNumberOfTests;
+      optBits |= OPT_BIT_TOTAL_NUMBER_OF_TESTS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link TestResults TestResults}.
+     * @return An immutable instance of TestResults
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TestResults build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new TestResults(this);
+    }
+
+    private boolean dependenciesPassTheirTestsIsSet() {
+      return (optBits & OPT_BIT_DEPENDENCIES_PASS_THEIR_TESTS) != 0;
+    }
+
+    private boolean sequenceNumberIsSet() {
+      return (optBits & OPT_BIT_SEQUENCE_NUMBER) != 0;
+    }
+
+    private boolean totalNumberOfTestsIsSet() {
+      return (optBits & OPT_BIT_TOTAL_NUMBER_OF_TESTS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BUILD_TARGET) != 0) attributes.add("buildTarget");
+      return "Cannot build TestResults, some of required attributes are not set " + attributes;
+    }
+  }
+}
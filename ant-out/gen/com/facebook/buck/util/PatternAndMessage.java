@@ -0,0 +1,209 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * A class that holds a pattern and a message related to this pattern. Example usage: if the pattern
+ * matches, throw the message.
+ */
+@Generated(from = "AbstractPatternAndMessage", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PatternAndMessage extends AbstractPatternAndMessage {
+  private final Pattern pattern;
+  private final String message;
+
+  private PatternAndMessage(Pattern pattern, String message) {
+    this.pattern = Objects.requireNonNull(pattern, "pattern");
+    this.message = Objects.requireNonNull(message, "message");
+  }
+
+  private PatternAndMessage(PatternAndMessage.Builder builder) {
+    this.pattern = builder.pattern;
+    this.message = builder.message;
+  }
+
+  /**
+   * @return The value of the {@code pattern} attribute
+   */
+  @Override
+  public Pattern getPattern() {
+    return pattern;
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PatternAndMessage} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PatternAndMessage
+        && equalTo((PatternAndMessage) another);
+  }
+
+  private boolean equalTo(PatternAndMessage another) {
+    return pattern.equals(another.pattern)
+        && message.equals(another.message);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pattern}, {@code message}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pattern.hashCode();
+    h += (h << 5) + message.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PatternAndMessage} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PatternAndMessage")
+        .omitNullValues()
+        .add("pattern", pattern)
+        .add("message", message)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PatternAndMessage} instance.
+   * @param pattern The value for the {@code pattern} attribute
+   * @param message The value for the {@code message} attribute
+   * @return An immutable PatternAndMessage instance
+   */
+  public static PatternAndMessage of(Pattern pattern, String message) {
+    return validate(new PatternAndMessage(pattern, message));
+  }
+
+
+  private static PatternAndMessage validate(PatternAndMessage instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link PatternAndMessage PatternAndMessage}.
+   * @return A new PatternAndMessage builder
+   */
+  public static PatternAndMessage.Builder builder() {
+    return new PatternAndMessage.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PatternAndMessage PatternAndMessage}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractPatternAndMessage", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATTERN = 0x1L;
+    private static final long INIT_BIT_MESSAGE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Pattern pattern;
+    private @Nullable String message;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PatternAndMessage} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PatternAndMessage instance) {
+      return from((AbstractPatternAndMessage) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPatternAndMessage} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractPatternAndMessage instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPattern(instance.getPattern());
+      setMessage(instance.getMessage());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PatternAndMessage#getPattern() pattern} attribute.
+     * @param pattern The value for pattern 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPattern(Pattern pattern) {
+      this.pattern = Objects.requireNonNull(pattern, "pattern");
+      initBits &= ~INIT_BIT_PATTERN;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PatternAndMessage#getMessage() message} attribute.
+     * @param message The value for message 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMessage(String message) {
+      this.message = Objects.requireNonNull(message, "message");
+      initBits &= ~INIT_BIT_MESSAGE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PatternAndMessage PatternAndMessage}.
+     * @return An immutable instance of PatternAndMessage
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PatternAndMessage build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return PatternAndMessage.validate(new PatternAndMessage(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PATTERN) != 0) attributes.add("pattern");
+      if ((initBits & INIT_BIT_MESSAGE) != 0) attributes.add("message");
+      return "Cannot build PatternAndMessage, some of required attributes are not set " + attributes;
+    }
+  }
+}
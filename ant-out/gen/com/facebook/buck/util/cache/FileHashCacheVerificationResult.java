@@ -0,0 +1,243 @@
+package com.facebook.buck.util.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FileHashCache.AbstractFileHashCacheVerificationResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FileHashCacheVerificationResult.builder()}.
+ */
+@Generated(from = "FileHashCache.AbstractFileHashCacheVerificationResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class FileHashCacheVerificationResult
+    implements FileHashCache.AbstractFileHashCacheVerificationResult {
+  private final int cachesExamined;
+  private final int filesExamined;
+  private final ImmutableList<String> verificationErrors;
+
+  private FileHashCacheVerificationResult(FileHashCacheVerificationResult.Builder builder) {
+    this.cachesExamined = builder.cachesExamined;
+    this.filesExamined = builder.filesExamined;
+    this.verificationErrors = builder.verificationErrors.build();
+  }
+
+  /**
+   * @return The value of the {@code cachesExamined} attribute
+   */
+  @Override
+  public int getCachesExamined() {
+    return cachesExamined;
+  }
+
+  /**
+   * @return The value of the {@code filesExamined} attribute
+   */
+  @Override
+  public int getFilesExamined() {
+    return filesExamined;
+  }
+
+  /**
+   * @return The value of the {@code verificationErrors} attribute
+   */
+  @Override
+  public ImmutableList<String> getVerificationErrors() {
+    return verificationErrors;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FileHashCacheVerificationResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FileHashCacheVerificationResult
+        && equalTo((FileHashCacheVerificationResult) another);
+  }
+
+  private boolean equalTo(FileHashCacheVerificationResult another) {
+    return cachesExamined == another.cachesExamined
+        && filesExamined == another.filesExamined
+        && verificationErrors.equals(another.verificationErrors);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cachesExamined}, {@code filesExamined}, {@code verificationErrors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cachesExamined;
+    h += (h << 5) + filesExamined;
+    h += (h << 5) + verificationErrors.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileHashCacheVerificationResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileHashCacheVerificationResult")
+        .omitNullValues()
+        .add("cachesExamined", cachesExamined)
+        .add("filesExamined", filesExamined)
+        .add("verificationErrors", verificationErrors)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link FileHashCacheVerificationResult FileHashCacheVerificationResult}.
+   * @return A new FileHashCacheVerificationResult builder
+   */
+  public static FileHashCacheVerificationResult.Builder builder() {
+    return new FileHashCacheVerificationResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FileHashCacheVerificationResult FileHashCacheVerificationResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "FileHashCache.AbstractFileHashCacheVerificationResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHES_EXAMINED = 0x1L;
+    private static final long INIT_BIT_FILES_EXAMINED = 0x2L;
+    private long initBits = 0x3L;
+
+    private int cachesExamined;
+    private int filesExamined;
+    private ImmutableList.Builder<String> verificationErrors = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractFileHashCacheVerificationResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(FileHashCache.AbstractFileHashCacheVerificationResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCachesExamined(instance.getCachesExamined());
+      setFilesExamined(instance.getFilesExamined());
+      addAllVerificationErrors(instance.getVerificationErrors());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FileHashCache.AbstractFileHashCacheVerificationResult#getCachesExamined() cachesExamined} attribute.
+     * @param cachesExamined The value for cachesExamined 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCachesExamined(int cachesExamined) {
+      this.cachesExamined = cachesExamined;
+      initBits &= ~INIT_BIT_CACHES_EXAMINED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FileHashCache.AbstractFileHashCacheVerificationResult#getFilesExamined() filesExamined} attribute.
+     * @param filesExamined The value for filesExamined 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFilesExamined(int filesExamined) {
+      this.filesExamined = filesExamined;
+      initBits &= ~INIT_BIT_FILES_EXAMINED;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param element A verificationErrors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addVerificationErrors(String element) {
+      this.verificationErrors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param elements An array of verificationErrors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addVerificationErrors(String... elements) {
+      this.verificationErrors.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param elements An iterable of verificationErrors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVerificationErrors(Iterable<String> elements) {
+      this.verificationErrors = ImmutableList.builder();
+      return addAllVerificationErrors(elements);
+    }
+
+    /**
+     * Adds elements to {@link FileHashCache.AbstractFileHashCacheVerificationResult#getVerificationErrors() verificationErrors} list.
+     * @param elements An iterable of verificationErrors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllVerificationErrors(Iterable<String> elements) {
+      this.verificationErrors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FileHashCacheVerificationResult FileHashCacheVerificationResult}.
+     * @return An immutable instance of FileHashCacheVerificationResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FileHashCacheVerificationResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FileHashCacheVerificationResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CACHES_EXAMINED) != 0) attributes.add("cachesExamined");
+      if ((initBits & INIT_BIT_FILES_EXAMINED) != 0) attributes.add("filesExamined");
+      return "Cannot build FileHashCacheVerificationResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
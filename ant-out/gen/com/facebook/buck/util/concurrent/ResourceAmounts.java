@@ -0,0 +1,477 @@
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractResourceAmounts}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ResourceAmounts.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ResourceAmounts.of()}.
+ * Use the static factory method to get the default singleton instance:
+ * {@code ResourceAmounts.of()}.
+ */
+@Generated(from = "AbstractResourceAmounts", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ResourceAmounts extends AbstractResourceAmounts {
+  private final int cpu;
+  private final int memory;
+  private final int diskIO;
+  private final int networkIO;
+
+  private ResourceAmounts() {
+    this.cpu = initShim.getCpu();
+    this.memory = initShim.getMemory();
+    this.diskIO = initShim.getDiskIO();
+    this.networkIO = initShim.getNetworkIO();
+    this.initShim = null;
+  }
+
+  private ResourceAmounts(ResourceAmounts.Builder builder) {
+    if (builder.cpuIsSet()) {
+      initShim.setCpu(builder.cpu);
+    }
+    if (builder.memoryIsSet()) {
+      initShim.setMemory(builder.memory);
+    }
+    if (builder.diskIOIsSet()) {
+      initShim.setDiskIO(builder.diskIO);
+    }
+    if (builder.networkIOIsSet()) {
+      initShim.setNetworkIO(builder.networkIO);
+    }
+    this.cpu = initShim.getCpu();
+    this.memory = initShim.getMemory();
+    this.diskIO = initShim.getDiskIO();
+    this.networkIO = initShim.getNetworkIO();
+    this.initShim = null;
+  }
+
+  private ResourceAmounts(int cpu, int memory, int diskIO, int networkIO) {
+    this.cpu = cpu;
+    this.memory = memory;
+    this.diskIO = diskIO;
+    this.networkIO = networkIO;
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractResourceAmounts", generator = "Immutables")
+  private final class InitShim {
+    private byte cpuBuildStage = STAGE_UNINITIALIZED;
+    private int cpu;
+
+    int getCpu() {
+      if (cpuBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cpuBuildStage == STAGE_UNINITIALIZED) {
+        cpuBuildStage = STAGE_INITIALIZING;
+        this.cpu = ResourceAmounts.super.getCpu();
+        cpuBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cpu;
+    }
+
+    void setCpu(int cpu) {
+      this.cpu = cpu;
+      cpuBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte memoryBuildStage = STAGE_UNINITIALIZED;
+    private int memory;
+
+    int getMemory() {
+      if (memoryBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (memoryBuildStage == STAGE_UNINITIALIZED) {
+        memoryBuildStage = STAGE_INITIALIZING;
+        this.memory = ResourceAmounts.super.getMemory();
+        memoryBuildStage = STAGE_INITIALIZED;
+      }
+      return this.memory;
+    }
+
+    void setMemory(int memory) {
+      this.memory = memory;
+      memoryBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte diskIOBuildStage = STAGE_UNINITIALIZED;
+    private int diskIO;
+
+    int getDiskIO() {
+      if (diskIOBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (diskIOBuildStage == STAGE_UNINITIALIZED) {
+        diskIOBuildStage = STAGE_INITIALIZING;
+        this.diskIO = ResourceAmounts.super.getDiskIO();
+        diskIOBuildStage = STAGE_INITIALIZED;
+      }
+      return this.diskIO;
+    }
+
+    void setDiskIO(int diskIO) {
+      this.diskIO = diskIO;
+      diskIOBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte networkIOBuildStage = STAGE_UNINITIALIZED;
+    private int networkIO;
+
+    int getNetworkIO() {
+      if (networkIOBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (networkIOBuildStage == STAGE_UNINITIALIZED) {
+        networkIOBuildStage = STAGE_INITIALIZING;
+        this.networkIO = ResourceAmounts.super.getNetworkIO();
+        networkIOBuildStage = STAGE_INITIALIZED;
+      }
+      return this.networkIO;
+    }
+
+    void setNetworkIO(int networkIO) {
+      this.networkIO = networkIO;
+      networkIOBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (cpuBuildStage == STAGE_INITIALIZING) attributes.add("cpu");
+      if (memoryBuildStage == STAGE_INITIALIZING) attributes.add("memory");
+      if (diskIOBuildStage == STAGE_INITIALIZING) attributes.add("diskIO");
+      if (networkIOBuildStage == STAGE_INITIALIZING) attributes.add("networkIO");
+      return "Cannot build ResourceAmounts, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code cpu} attribute
+   */
+  @Override
+  public int getCpu() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCpu()
+        : this.cpu;
+  }
+
+  /**
+   * @return The value of the {@code memory} attribute
+   */
+  @Override
+  public int getMemory() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMemory()
+        : this.memory;
+  }
+
+  /**
+   * @return The value of the {@code diskIO} attribute
+   */
+  @Override
+  public int getDiskIO() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDiskIO()
+        : this.diskIO;
+  }
+
+  /**
+   * @return The value of the {@code networkIO} attribute
+   */
+  @Override
+  public int getNetworkIO() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNetworkIO()
+        : this.networkIO;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ResourceAmounts#getCpu() cpu} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cpu
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withCpu(int value) {
+    if (this.cpu == value) return this;
+    return validate(new ResourceAmounts(value, this.memory, this.diskIO, this.networkIO));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ResourceAmounts#getMemory() memory} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for memory
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withMemory(int value) {
+    if (this.memory == value) return this;
+    return validate(new ResourceAmounts(this.cpu, value, this.diskIO, this.networkIO));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ResourceAmounts#getDiskIO() diskIO} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for diskIO
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withDiskIO(int value) {
+    if (this.diskIO == value) return this;
+    return validate(new ResourceAmounts(this.cpu, this.memory, value, this.networkIO));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ResourceAmounts#getNetworkIO() networkIO} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for networkIO
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAmounts withNetworkIO(int value) {
+    if (this.networkIO == value) return this;
+    return validate(new ResourceAmounts(this.cpu, this.memory, this.diskIO, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourceAmounts} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourceAmounts
+        && equalTo((ResourceAmounts) another);
+  }
+
+  private boolean equalTo(ResourceAmounts another) {
+    return cpu == another.cpu
+        && memory == another.memory
+        && diskIO == another.diskIO
+        && networkIO == another.networkIO;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cpu}, {@code memory}, {@code diskIO}, {@code networkIO}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cpu;
+    h += (h << 5) + memory;
+    h += (h << 5) + diskIO;
+    h += (h << 5) + networkIO;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourceAmounts} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourceAmounts")
+        .omitNullValues()
+        .add("cpu", cpu)
+        .add("memory", memory)
+        .add("diskIO", diskIO)
+        .add("networkIO", networkIO)
+        .toString();
+  }
+
+  private static final ResourceAmounts INSTANCE = validate(new ResourceAmounts());
+
+  /**
+   * Returns the default immutable singleton value of {@code ResourceAmounts}
+   * @return An immutable instance of ResourceAmounts
+   */
+  public static ResourceAmounts of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code ResourceAmounts} instance.
+   * @param cpu The value for the {@code cpu} attribute
+   * @param memory The value for the {@code memory} attribute
+   * @param diskIO The value for the {@code diskIO} attribute
+   * @param networkIO The value for the {@code networkIO} attribute
+   * @return An immutable ResourceAmounts instance
+   */
+  public static ResourceAmounts of(int cpu, int memory, int diskIO, int networkIO) {
+    return validate(new ResourceAmounts(cpu, memory, diskIO, networkIO));
+  }
+
+
+  private static ResourceAmounts validate(ResourceAmounts instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractResourceAmounts} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ResourceAmounts instance
+   */
+  static ResourceAmounts copyOf(AbstractResourceAmounts instance) {
+    if (instance instanceof ResourceAmounts) {
+      return (ResourceAmounts) instance;
+    }
+    return ResourceAmounts.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ResourceAmounts ResourceAmounts}.
+   * @return A new ResourceAmounts builder
+   */
+  public static ResourceAmounts.Builder builder() {
+    return new ResourceAmounts.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ResourceAmounts ResourceAmounts}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractResourceAmounts", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_CPU = 0x1L;
+    private static final long OPT_BIT_MEMORY = 0x2L;
+    private static final long OPT_BIT_DISK_I_O = 0x4L;
+    private static final long OPT_BIT_NETWORK_I_O = 0x8L;
+    private long optBits;
+
+    private int cpu;
+    private int memory;
+    private int diskIO;
+    private int networkIO;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ResourceAmounts} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ResourceAmounts instance) {
+      return from((AbstractResourceAmounts) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractResourceAmounts} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractResourceAmounts instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCpu(instance.getCpu());
+      setMemory(instance.getMemory());
+      setDiskIO(instance.getDiskIO());
+      setNetworkIO(instance.getNetworkIO());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ResourceAmounts#getCpu() cpu} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ResourceAmounts#getCpu() cpu}.</em>
+     * @param cpu The value for cpu 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCpu(int cpu) {
+      this.cpu = cpu;
+      optBits |= OPT_BIT_CPU;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ResourceAmounts#getMemory() memory} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ResourceAmounts#getMemory() memory}.</em>
+     * @param memory The value for memory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMemory(int memory) {
+      this.memory = memory;
+      optBits |= OPT_BIT_MEMORY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ResourceAmounts#getDiskIO() diskIO} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ResourceAmounts#getDiskIO() diskIO}.</em>
+     * @param diskIO The value for diskIO 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDiskIO(int diskIO) {
+      this.diskIO = diskIO;
+      optBits |= OPT_BIT_DISK_I_O;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ResourceAmounts#getNetworkIO() networkIO} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ResourceAmounts#getNetworkIO() networkIO}.</em>
+     * @param networkIO The value for networkIO 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNetworkIO(int networkIO) {
+      this.networkIO = networkIO;
+      optBits |= OPT_BIT_NETWORK_I_O;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ResourceAmounts ResourceAmounts}.
+     * @return An immutable instance of ResourceAmounts
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ResourceAmounts build() {
+      return ResourceAmounts.validate(new ResourceAmounts(this));
+    }
+
+    private boolean cpuIsSet() {
+      return (optBits & OPT_BIT_CPU) != 0;
+    }
+
+    private boolean memoryIsSet() {
+      return (optBits & OPT_BIT_MEMORY) != 0;
+    }
+
+    private boolean diskIOIsSet() {
+      return (optBits & OPT_BIT_DISK_I_O) != 0;
+    }
+
+    private boolean networkIOIsSet() {
+      return (optBits & OPT_BIT_NETWORK_I_O) != 0;
+    }
+  }
+}
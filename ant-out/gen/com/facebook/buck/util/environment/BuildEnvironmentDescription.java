@@ -0,0 +1,627 @@
+package com.facebook.buck.util.environment;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractBuildEnvironmentDescription}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildEnvironmentDescription.builder()}.
+ */
+@Generated(from = "AbstractBuildEnvironmentDescription", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class BuildEnvironmentDescription
+    extends AbstractBuildEnvironmentDescription {
+  private final String user;
+  private final String hostname;
+  private final String os;
+  private final int availableCores;
+  private final long systemMemory;
+  private final @Nullable Boolean buckDirty;
+  private final String buckCommit;
+  private final String javaVersion;
+  private final ImmutableList<String> cacheModes;
+  private final ImmutableMap<String, String> extraData;
+  private final int jsonProtocolVersion;
+  private final String buildType;
+
+  private BuildEnvironmentDescription(BuildEnvironmentDescription.Builder builder) {
+    this.user = builder.user;
+    this.hostname = builder.hostname;
+    this.os = builder.os;
+    this.availableCores = builder.availableCores;
+    this.systemMemory = builder.systemMemory;
+    this.buckDirty = builder.buckDirty;
+    this.buckCommit = builder.buckCommit;
+    this.javaVersion = builder.javaVersion;
+    this.cacheModes = builder.cacheModes.build();
+    this.extraData = builder.extraData.build();
+    if (builder.jsonProtocolVersionIsSet()) {
+      initShim.setJsonProtocolVersion(builder.jsonProtocolVersion);
+    }
+    if (builder.buildType != null) {
+      initShim.setBuildType(builder.buildType);
+    }
+    this.jsonProtocolVersion = initShim.getJsonProtocolVersion();
+    this.buildType = initShim.getBuildType();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractBuildEnvironmentDescription", generator = "Immutables")
+  private final class InitShim {
+    private byte jsonProtocolVersionBuildStage = STAGE_UNINITIALIZED;
+    private int jsonProtocolVersion;
+
+    int getJsonProtocolVersion() {
+      if (jsonProtocolVersionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (jsonProtocolVersionBuildStage == STAGE_UNINITIALIZED) {
+        jsonProtocolVersionBuildStage = STAGE_INITIALIZING;
+        this.jsonProtocolVersion = BuildEnvironmentDescription.super.getJsonProtocolVersion();
+        jsonProtocolVersionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.jsonProtocolVersion;
+    }
+
+    void setJsonProtocolVersion(int jsonProtocolVersion) {
+      this.jsonProtocolVersion = jsonProtocolVersion;
+      jsonProtocolVersionBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte buildTypeBuildStage = STAGE_UNINITIALIZED;
+    private String buildType;
+
+    String getBuildType() {
+      if (buildTypeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTypeBuildStage == STAGE_UNINITIALIZED) {
+        buildTypeBuildStage = STAGE_INITIALIZING;
+        this.buildType = Objects.requireNonNull(BuildEnvironmentDescription.super.getBuildType(), "buildType");
+        buildTypeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildType;
+    }
+
+    void setBuildType(String buildType) {
+      this.buildType = buildType;
+      buildTypeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (jsonProtocolVersionBuildStage == STAGE_INITIALIZING) attributes.add("jsonProtocolVersion");
+      if (buildTypeBuildStage == STAGE_INITIALIZING) attributes.add("buildType");
+      return "Cannot build BuildEnvironmentDescription, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code user} attribute
+   */
+  @Override
+  public String getUser() {
+    return user;
+  }
+
+  /**
+   * @return The value of the {@code hostname} attribute
+   */
+  @Override
+  public String getHostname() {
+    return hostname;
+  }
+
+  /**
+   * @return The value of the {@code os} attribute
+   */
+  @Override
+  public String getOs() {
+    return os;
+  }
+
+  /**
+   * @return The value of the {@code availableCores} attribute
+   */
+  @Override
+  public int getAvailableCores() {
+    return availableCores;
+  }
+
+  /**
+   * @return The value of the {@code systemMemory} attribute
+   */
+  @Override
+  public long getSystemMemory() {
+    return systemMemory;
+  }
+
+  /**
+   * @return The value of the {@code buckDirty} attribute
+   */
+  @Override
+  public Optional<Boolean> getBuckDirty() {
+    return Optional.ofNullable(buckDirty);
+  }
+
+  /**
+   * @return The value of the {@code buckCommit} attribute
+   */
+  @Override
+  public String getBuckCommit() {
+    return buckCommit;
+  }
+
+  /**
+   * @return The value of the {@code javaVersion} attribute
+   */
+  @Override
+  public String getJavaVersion() {
+    return javaVersion;
+  }
+
+  /**
+   * @return The value of the {@code cacheModes} attribute
+   */
+  @Override
+  public ImmutableList<String> getCacheModes() {
+    return cacheModes;
+  }
+
+  /**
+   * @return The value of the {@code extraData} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getExtraData() {
+    return extraData;
+  }
+
+  /**
+   * @return The value of the {@code jsonProtocolVersion} attribute
+   */
+  @Override
+  public int getJsonProtocolVersion() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJsonProtocolVersion()
+        : this.jsonProtocolVersion;
+  }
+
+  /**
+   * @return The value of the {@code buildType} attribute
+   */
+  @Override
+  public String getBuildType() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildType()
+        : this.buildType;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildEnvironmentDescription} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildEnvironmentDescription
+        && equalTo((BuildEnvironmentDescription) another);
+  }
+
+  private boolean equalTo(BuildEnvironmentDescription another) {
+    return user.equals(another.user)
+        && hostname.equals(another.hostname)
+        && os.equals(another.os)
+        && availableCores == another.availableCores
+        && systemMemory == another.systemMemory
+        && Objects.equals(buckDirty, another.buckDirty)
+        && buckCommit.equals(another.buckCommit)
+        && javaVersion.equals(another.javaVersion)
+        && cacheModes.equals(another.cacheModes)
+        && extraData.equals(another.extraData)
+        && jsonProtocolVersion == another.jsonProtocolVersion
+        && buildType.equals(another.buildType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code user}, {@code hostname}, {@code os}, {@code availableCores}, {@code systemMemory}, {@code buckDirty}, {@code buckCommit}, {@code javaVersion}, {@code cacheModes}, {@code extraData}, {@code jsonProtocolVersion}, {@code buildType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + user.hashCode();
+    h += (h << 5) + hostname.hashCode();
+    h += (h << 5) + os.hashCode();
+    h += (h << 5) + availableCores;
+    h += (h << 5) + Longs.hashCode(systemMemory);
+    h += (h << 5) + Objects.hashCode(buckDirty);
+    h += (h << 5) + buckCommit.hashCode();
+    h += (h << 5) + javaVersion.hashCode();
+    h += (h << 5) + cacheModes.hashCode();
+    h += (h << 5) + extraData.hashCode();
+    h += (h << 5) + jsonProtocolVersion;
+    h += (h << 5) + buildType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildEnvironmentDescription} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEnvironmentDescription")
+        .omitNullValues()
+        .add("user", user)
+        .add("hostname", hostname)
+        .add("os", os)
+        .add("availableCores", availableCores)
+        .add("systemMemory", systemMemory)
+        .add("buckDirty", buckDirty)
+        .add("buckCommit", buckCommit)
+        .add("javaVersion", javaVersion)
+        .add("cacheModes", cacheModes)
+        .add("extraData", extraData)
+        .add("jsonProtocolVersion", jsonProtocolVersion)
+        .add("buildType", buildType)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link BuildEnvironmentDescription BuildEnvironmentDescription}.
+   * @return A new BuildEnvironmentDescription builder
+   */
+  public static BuildEnvironmentDescription.Builder builder() {
+    return new BuildEnvironmentDescription.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildEnvironmentDescription BuildEnvironmentDescription}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractBuildEnvironmentDescription", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_USER = 0x1L;
+    private static final long INIT_BIT_HOSTNAME = 0x2L;
+    private static final long INIT_BIT_OS = 0x4L;
+    private static final long INIT_BIT_AVAILABLE_CORES = 0x8L;
+    private static final long INIT_BIT_SYSTEM_MEMORY = 0x10L;
+    private static final long INIT_BIT_BUCK_COMMIT = 0x20L;
+    private static final long INIT_BIT_JAVA_VERSION = 0x40L;
+    private static final long OPT_BIT_JSON_PROTOCOL_VERSION = 0x1L;
+    private long initBits = 0x7fL;
+    private long optBits;
+
+    private @Nullable String user;
+    private @Nullable String hostname;
+    private @Nullable String os;
+    private int availableCores;
+    private long systemMemory;
+    private @Nullable Boolean buckDirty;
+    private @Nullable String buckCommit;
+    private @Nullable String javaVersion;
+    private ImmutableList.Builder<String> cacheModes = ImmutableList.builder();
+    private ImmutableMap.Builder<String, String> extraData = ImmutableMap.builder();
+    private int jsonProtocolVersion;
+    private @Nullable String buildType;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildEnvironmentDescription} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildEnvironmentDescription instance) {
+      return from((AbstractBuildEnvironmentDescription) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildEnvironmentDescription} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildEnvironmentDescription instance) {
+      Objects.requireNonNull(instance, "instance");
+      setUser(instance.getUser());
+      setHostname(instance.getHostname());
+      setOs(instance.getOs());
+      setAvailableCores(instance.getAvailableCores());
+      setSystemMemory(instance.getSystemMemory());
+      Optional<Boolean> buckDirtyOptional = instance.getBuckDirty();
+      if (buckDirtyOptional.isPresent()) {
+        setBuckDirty(buckDirtyOptional);
+      }
+      setBuckCommit(instance.getBuckCommit());
+      setJavaVersion(instance.getJavaVersion());
+      addAllCacheModes(instance.getCacheModes());
+      putAllExtraData(instance.getExtraData());
+      setJsonProtocolVersion(instance.getJsonProtocolVersion());
+      setBuildType(instance.getBuildType());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getUser() user} attribute.
+     * @param user The value for user 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUser(String user) {
+      this.user = Objects.requireNonNull(user, "user");
+      initBits &= ~INIT_BIT_USER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getHostname() hostname} attribute.
+     * @param hostname The value for hostname 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHostname(String hostname) {
+      this.hostname = Objects.requireNonNull(hostname, "hostname");
+      initBits &= ~INIT_BIT_HOSTNAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getOs() os} attribute.
+     * @param os The value for os 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOs(String os) {
+      this.os = Objects.requireNonNull(os, "os");
+      initBits &= ~INIT_BIT_OS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getAvailableCores() availableCores} attribute.
+     * @param availableCores The value for availableCores 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAvailableCores(int availableCores) {
+      this.availableCores = availableCores;
+      initBits &= ~INIT_BIT_AVAILABLE_CORES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getSystemMemory() systemMemory} attribute.
+     * @param systemMemory The value for systemMemory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSystemMemory(long systemMemory) {
+      this.systemMemory = systemMemory;
+      initBits &= ~INIT_BIT_SYSTEM_MEMORY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildEnvironmentDescription#getBuckDirty() buckDirty} to buckDirty.
+     * @param buckDirty The value for buckDirty
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckDirty(boolean buckDirty) {
+      this.buckDirty = buckDirty;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildEnvironmentDescription#getBuckDirty() buckDirty} to buckDirty.
+     * @param buckDirty The value for buckDirty
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckDirty(Optional<Boolean> buckDirty) {
+      this.buckDirty = buckDirty.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getBuckCommit() buckCommit} attribute.
+     * @param buckCommit The value for buckCommit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckCommit(String buckCommit) {
+      this.buckCommit = Objects.requireNonNull(buckCommit, "buckCommit");
+      initBits &= ~INIT_BIT_BUCK_COMMIT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getJavaVersion() javaVersion} attribute.
+     * @param javaVersion The value for javaVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaVersion(String javaVersion) {
+      this.javaVersion = Objects.requireNonNull(javaVersion, "javaVersion");
+      initBits &= ~INIT_BIT_JAVA_VERSION;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link BuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param element A cacheModes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCacheModes(String element) {
+      this.cacheModes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link BuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param elements An array of cacheModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCacheModes(String... elements) {
+      this.cacheModes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link BuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param elements An iterable of cacheModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheModes(Iterable<String> elements) {
+      this.cacheModes = ImmutableList.builder();
+      return addAllCacheModes(elements);
+    }
+
+    /**
+     * Adds elements to {@link BuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param elements An iterable of cacheModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCacheModes(Iterable<String> elements) {
+      this.cacheModes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuildEnvironmentDescription#getExtraData() extraData} map.
+     * @param key The key in the extraData map
+     * @param value The associated value in the extraData map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExtraData(String key, String value) {
+      this.extraData.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link BuildEnvironmentDescription#getExtraData() extraData} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExtraData(Map.Entry<String, ? extends String> entry) {
+      this.extraData.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link BuildEnvironmentDescription#getExtraData() extraData} map. Nulls are not permitted
+     * @param entries The entries that will be added to the extraData map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraData(Map<String, ? extends String> entries) {
+      this.extraData = ImmutableMap.builder();
+      return putAllExtraData(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link BuildEnvironmentDescription#getExtraData() extraData} map. Nulls are not permitted
+     * @param entries The entries that will be added to the extraData map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExtraData(Map<String, ? extends String> entries) {
+      this.extraData.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getJsonProtocolVersion() jsonProtocolVersion} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuildEnvironmentDescription#getJsonProtocolVersion() jsonProtocolVersion}.</em>
+     * @param jsonProtocolVersion The value for jsonProtocolVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJsonProtocolVersion(int jsonProtocolVersion) {
+      this.jsonProtocolVersion = jsonProtocolVersion;
+      optBits |= OPT_BIT_JSON_PROTOCOL_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEnvironmentDescription#getBuildType() buildType} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BuildEnvironmentDescription#getBuildType() buildType}.</em>
+     * @param buildType The value for buildType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildType(String buildType) {
+      this.buildType = Objects.requireNonNull(buildType, "buildType");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildEnvironmentDescription BuildEnvironmentDescription}.
+     * @return An immutable instance of BuildEnvironmentDescription
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildEnvironmentDescription build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildEnvironmentDescription(this);
+    }
+
+    private boolean jsonProtocolVersionIsSet() {
+      return (optBits & OPT_BIT_JSON_PROTOCOL_VERSION) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_USER) != 0) attributes.add("user");
+      if ((initBits & INIT_BIT_HOSTNAME) != 0) attributes.add("hostname");
+      if ((initBits & INIT_BIT_OS) != 0) attributes.add("os");
+      if ((initBits & INIT_BIT_AVAILABLE_CORES) != 0) attributes.add("availableCores");
+      if ((initBits & INIT_BIT_SYSTEM_MEMORY) != 0) attributes.add("systemMemory");
+      if ((initBits & INIT_BIT_BUCK_COMMIT) != 0) attributes.add("buckCommit");
+      if ((initBits & INIT_BIT_JAVA_VERSION) != 0) attributes.add("javaVersion");
+      return "Cannot build BuildEnvironmentDescription, some of required attributes are not set " + attributes;
+    }
+  }
+}
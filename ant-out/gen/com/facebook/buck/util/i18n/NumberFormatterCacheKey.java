@@ -0,0 +1,144 @@
+package com.facebook.buck.util.i18n;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Locale;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractNumberFormatterCacheKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code NumberFormatterCacheKey.of()}.
+ */
+@Generated(from = "AbstractNumberFormatterCacheKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class NumberFormatterCacheKey
+    implements AbstractNumberFormatterCacheKey {
+  private final long threadId;
+  private final Locale locale;
+
+  private NumberFormatterCacheKey(long threadId, Locale locale) {
+    this.threadId = threadId;
+    this.locale = Objects.requireNonNull(locale, "locale");
+  }
+
+  private NumberFormatterCacheKey(NumberFormatterCacheKey original, long threadId, Locale locale) {
+    this.threadId = threadId;
+    this.locale = locale;
+  }
+
+  /**
+   * @return The value of the {@code threadId} attribute
+   */
+  @Override
+  public long getThreadId() {
+    return threadId;
+  }
+
+  /**
+   * @return The value of the {@code locale} attribute
+   */
+  @Override
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link NumberFormatterCacheKey#getThreadId() threadId} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for threadId
+   * @return A modified copy of the {@code this} object
+   */
+  public final NumberFormatterCacheKey withThreadId(long value) {
+    if (this.threadId == value) return this;
+    return new NumberFormatterCacheKey(this, value, this.locale);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link NumberFormatterCacheKey#getLocale() locale} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for locale
+   * @return A modified copy of the {@code this} object
+   */
+  public final NumberFormatterCacheKey withLocale(Locale value) {
+    if (this.locale == value) return this;
+    Locale newValue = Objects.requireNonNull(value, "locale");
+    return new NumberFormatterCacheKey(this, this.threadId, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NumberFormatterCacheKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NumberFormatterCacheKey
+        && equalTo((NumberFormatterCacheKey) another);
+  }
+
+  private boolean equalTo(NumberFormatterCacheKey another) {
+    return threadId == another.threadId
+        && locale.equals(another.locale);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code threadId}, {@code locale}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(threadId);
+    h += (h << 5) + locale.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NumberFormatterCacheKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NumberFormatterCacheKey")
+        .omitNullValues()
+        .add("threadId", threadId)
+        .add("locale", locale)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NumberFormatterCacheKey} instance.
+   * @param threadId The value for the {@code threadId} attribute
+   * @param locale The value for the {@code locale} attribute
+   * @return An immutable NumberFormatterCacheKey instance
+   */
+  public static NumberFormatterCacheKey of(long threadId, Locale locale) {
+    return new NumberFormatterCacheKey(threadId, locale);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNumberFormatterCacheKey} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NumberFormatterCacheKey instance
+   */
+  static NumberFormatterCacheKey copyOf(AbstractNumberFormatterCacheKey instance) {
+    if (instance instanceof NumberFormatterCacheKey) {
+      return (NumberFormatterCacheKey) instance;
+    }
+    return NumberFormatterCacheKey.of(instance.getThreadId(), instance.getLocale());
+  }
+}
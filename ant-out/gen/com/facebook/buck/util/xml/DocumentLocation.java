@@ -0,0 +1,142 @@
+package com.facebook.buck.util.xml;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractDocumentLocation}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DocumentLocation.of()}.
+ */
+@Generated(from = "AbstractDocumentLocation", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class DocumentLocation extends AbstractDocumentLocation {
+  private final Integer lineNumber;
+  private final Integer columnNumber;
+
+  private DocumentLocation(Integer lineNumber, Integer columnNumber) {
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.columnNumber = Objects.requireNonNull(columnNumber, "columnNumber");
+  }
+
+  private DocumentLocation(DocumentLocation original, Integer lineNumber, Integer columnNumber) {
+    this.lineNumber = lineNumber;
+    this.columnNumber = columnNumber;
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Integer getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code columnNumber} attribute
+   */
+  @Override
+  public Integer getColumnNumber() {
+    return columnNumber;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DocumentLocation#getLineNumber() lineNumber} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lineNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final DocumentLocation withLineNumber(Integer value) {
+    Integer newValue = Objects.requireNonNull(value, "lineNumber");
+    if (this.lineNumber.equals(newValue)) return this;
+    return new DocumentLocation(this, newValue, this.columnNumber);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DocumentLocation#getColumnNumber() columnNumber} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for columnNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final DocumentLocation withColumnNumber(Integer value) {
+    Integer newValue = Objects.requireNonNull(value, "columnNumber");
+    if (this.columnNumber.equals(newValue)) return this;
+    return new DocumentLocation(this, this.lineNumber, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DocumentLocation} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DocumentLocation
+        && equalTo((DocumentLocation) another);
+  }
+
+  private boolean equalTo(DocumentLocation another) {
+    return lineNumber.equals(another.lineNumber)
+        && columnNumber.equals(another.columnNumber);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code lineNumber}, {@code columnNumber}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + columnNumber.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DocumentLocation} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DocumentLocation")
+        .omitNullValues()
+        .add("lineNumber", lineNumber)
+        .add("columnNumber", columnNumber)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DocumentLocation} instance.
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param columnNumber The value for the {@code columnNumber} attribute
+   * @return An immutable DocumentLocation instance
+   */
+  public static DocumentLocation of(Integer lineNumber, Integer columnNumber) {
+    return new DocumentLocation(lineNumber, columnNumber);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDocumentLocation} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DocumentLocation instance
+   */
+  static DocumentLocation copyOf(AbstractDocumentLocation instance) {
+    if (instance instanceof DocumentLocation) {
+      return (DocumentLocation) instance;
+    }
+    return DocumentLocation.of(instance.getLineNumber(), instance.getColumnNumber());
+  }
+}
@@ -0,0 +1,147 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Tuple to store the previously cached versioned target graph along with all inputs that affect
+ * how it's generated (for invalidation detection).
+ */
+@Generated(from = "VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CachedVersionedTargetGraph
+    implements VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph {
+  private final VersionedTargetGraphInputs inputs;
+  private final TargetGraphAndBuildTargets targetGraphAndBuildTargets;
+
+  private CachedVersionedTargetGraph(
+      VersionedTargetGraphInputs inputs,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets) {
+    this.inputs = Objects.requireNonNull(inputs, "inputs");
+    this.targetGraphAndBuildTargets = Objects.requireNonNull(targetGraphAndBuildTargets, "targetGraphAndBuildTargets");
+  }
+
+  private CachedVersionedTargetGraph(
+      CachedVersionedTargetGraph original,
+      VersionedTargetGraphInputs inputs,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets) {
+    this.inputs = inputs;
+    this.targetGraphAndBuildTargets = targetGraphAndBuildTargets;
+  }
+
+  /**
+   *@return any inputs which, when changed, may produce a different versioned target graph. 
+   */
+  @Override
+  public VersionedTargetGraphInputs getInputs() {
+    return inputs;
+  }
+
+  /**
+   *@return a versioned target graph. 
+   */
+  @Override
+  public TargetGraphAndBuildTargets getTargetGraphAndBuildTargets() {
+    return targetGraphAndBuildTargets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CachedVersionedTargetGraph#getInputs() inputs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inputs
+   * @return A modified copy of the {@code this} object
+   */
+  public final CachedVersionedTargetGraph withInputs(VersionedTargetGraphInputs value) {
+    if (this.inputs == value) return this;
+    VersionedTargetGraphInputs newValue = Objects.requireNonNull(value, "inputs");
+    return new CachedVersionedTargetGraph(this, newValue, this.targetGraphAndBuildTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CachedVersionedTargetGraph#getTargetGraphAndBuildTargets() targetGraphAndBuildTargets} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraphAndBuildTargets
+   * @return A modified copy of the {@code this} object
+   */
+  public final CachedVersionedTargetGraph withTargetGraphAndBuildTargets(TargetGraphAndBuildTargets value) {
+    if (this.targetGraphAndBuildTargets == value) return this;
+    TargetGraphAndBuildTargets newValue = Objects.requireNonNull(value, "targetGraphAndBuildTargets");
+    return new CachedVersionedTargetGraph(this, this.inputs, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CachedVersionedTargetGraph} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CachedVersionedTargetGraph
+        && equalTo((CachedVersionedTargetGraph) another);
+  }
+
+  private boolean equalTo(CachedVersionedTargetGraph another) {
+    return inputs.equals(another.inputs)
+        && targetGraphAndBuildTargets.equals(another.targetGraphAndBuildTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code inputs}, {@code targetGraphAndBuildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + targetGraphAndBuildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CachedVersionedTargetGraph} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachedVersionedTargetGraph")
+        .omitNullValues()
+        .add("inputs", inputs)
+        .add("targetGraphAndBuildTargets", targetGraphAndBuildTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CachedVersionedTargetGraph} instance.
+   * @param inputs The value for the {@code inputs} attribute
+   * @param targetGraphAndBuildTargets The value for the {@code targetGraphAndBuildTargets} attribute
+   * @return An immutable CachedVersionedTargetGraph instance
+   */
+  public static CachedVersionedTargetGraph of(VersionedTargetGraphInputs inputs, TargetGraphAndBuildTargets targetGraphAndBuildTargets) {
+    return new CachedVersionedTargetGraph(inputs, targetGraphAndBuildTargets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CachedVersionedTargetGraph instance
+   */
+  static CachedVersionedTargetGraph copyOf(VersionedTargetGraphCache.AbstractCachedVersionedTargetGraph instance) {
+    if (instance instanceof CachedVersionedTargetGraph) {
+      return (CachedVersionedTargetGraph) instance;
+    }
+    return CachedVersionedTargetGraph.of(instance.getInputs(), instance.getTargetGraphAndBuildTargets());
+  }
+}
@@ -0,0 +1,115 @@
+package com.facebook.buck.versions;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractExactConstraint}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ExactConstraint.of()}.
+ */
+@Generated(from = "AbstractExactConstraint", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ExactConstraint extends AbstractExactConstraint {
+  private final Version version;
+
+  private ExactConstraint(Version version) {
+    this.version = Objects.requireNonNull(version, "version");
+  }
+
+  private ExactConstraint(ExactConstraint original, Version version) {
+    this.version = version;
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public Version getVersion() {
+    return version;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ExactConstraint#getVersion() version} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for version
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExactConstraint withVersion(Version value) {
+    if (this.version == value) return this;
+    Version newValue = Objects.requireNonNull(value, "version");
+    return new ExactConstraint(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExactConstraint} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExactConstraint
+        && equalTo((ExactConstraint) another);
+  }
+
+  private boolean equalTo(ExactConstraint another) {
+    return version.equals(another.version);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code version}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + version.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExactConstraint} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExactConstraint")
+        .omitNullValues()
+        .add("version", version)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExactConstraint} instance.
+   * @param version The value for the {@code version} attribute
+   * @return An immutable ExactConstraint instance
+   */
+  public static ExactConstraint of(Version version) {
+    return new ExactConstraint(version);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExactConstraint} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExactConstraint instance
+   */
+  static ExactConstraint copyOf(AbstractExactConstraint instance) {
+    if (instance instanceof ExactConstraint) {
+      return (ExactConstraint) instance;
+    }
+    return ExactConstraint.of(instance.getVersion());
+  }
+}
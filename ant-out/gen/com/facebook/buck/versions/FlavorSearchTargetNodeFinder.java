@@ -0,0 +1,213 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * A lookup table of {@link TargetNode}s which matches {@link BuildTarget} lookups to nodes indexed
+ * by a base target which contains a subset of the input targets flavors. It is expected that every
+ * lookup should match at most one base target.
+ */
+@Generated(from = "AbstractFlavorSearchTargetNodeFinder", generator = "Immutables")
+@SuppressWarnings({"rawtypes", "all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class FlavorSearchTargetNodeFinder
+    extends AbstractFlavorSearchTargetNodeFinder {
+  private final ImmutableMap<BuildTarget, TargetNode> baseTargetIndex;
+  private transient final ImmutableMap<BuildTarget, TargetNode> buildTargetIndex;
+  private transient final ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> baseTargetFlavorMap;
+
+  private FlavorSearchTargetNodeFinder(
+      Map<? extends BuildTarget, ? extends TargetNode> baseTargetIndex) {
+    this.baseTargetIndex = ImmutableMap.copyOf(baseTargetIndex);
+    this.buildTargetIndex = initShim.getBuildTargetIndex();
+    this.baseTargetFlavorMap = initShim.getBaseTargetFlavorMap();
+    this.initShim = null;
+  }
+
+  private FlavorSearchTargetNodeFinder(
+      FlavorSearchTargetNodeFinder original,
+      ImmutableMap<BuildTarget, TargetNode> baseTargetIndex) {
+    this.baseTargetIndex = baseTargetIndex;
+    this.buildTargetIndex = initShim.getBuildTargetIndex();
+    this.baseTargetFlavorMap = initShim.getBaseTargetFlavorMap();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AbstractFlavorSearchTargetNodeFinder", generator = "Immutables")
+  private final class InitShim {
+    private byte buildTargetIndexBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableMap<BuildTarget, TargetNode> buildTargetIndex;
+
+    ImmutableMap<BuildTarget, TargetNode> getBuildTargetIndex() {
+      if (buildTargetIndexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTargetIndexBuildStage == STAGE_UNINITIALIZED) {
+        buildTargetIndexBuildStage = STAGE_INITIALIZING;
+        this.buildTargetIndex = Objects.requireNonNull(FlavorSearchTargetNodeFinder.super.getBuildTargetIndex(), "buildTargetIndex");
+        buildTargetIndexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildTargetIndex;
+    }
+
+    private byte baseTargetFlavorMapBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> baseTargetFlavorMap;
+
+    ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> getBaseTargetFlavorMap() {
+      if (baseTargetFlavorMapBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (baseTargetFlavorMapBuildStage == STAGE_UNINITIALIZED) {
+        baseTargetFlavorMapBuildStage = STAGE_INITIALIZING;
+        this.baseTargetFlavorMap = Objects.requireNonNull(FlavorSearchTargetNodeFinder.super.getBaseTargetFlavorMap(), "baseTargetFlavorMap");
+        baseTargetFlavorMapBuildStage = STAGE_INITIALIZED;
+      }
+      return this.baseTargetFlavorMap;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (buildTargetIndexBuildStage == STAGE_INITIALIZING) attributes.add("buildTargetIndex");
+      if (baseTargetFlavorMapBuildStage == STAGE_INITIALIZING) attributes.add("baseTargetFlavorMap");
+      return "Cannot build FlavorSearchTargetNodeFinder, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   *@return a map of nodes indexed by their "base" target. 
+   */
+  @Override
+  public ImmutableMap<BuildTarget, TargetNode> getBaseTargetIndex() {
+    return baseTargetIndex;
+  }
+
+  /**
+   * @return an index from the original node target to node. Used as an optimization to avoid a more
+   *     expensive flavor-subset-based lookup if we can find the node by the exact name.
+   */
+  @Override
+  public ImmutableMap<BuildTarget, TargetNode> getBuildTargetIndex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildTargetIndex()
+        : this.buildTargetIndex;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code baseTargetFlavorMap} attribute
+   */
+  @Override
+  public ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> getBaseTargetFlavorMap() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBaseTargetFlavorMap()
+        : this.baseTargetFlavorMap;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link FlavorSearchTargetNodeFinder#getBaseTargetIndex() baseTargetIndex} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the baseTargetIndex map
+   * @return A modified copy of {@code this} object
+   */
+  public final FlavorSearchTargetNodeFinder withBaseTargetIndex(Map<? extends BuildTarget, ? extends TargetNode> entries) {
+    if (this.baseTargetIndex == entries) return this;
+    ImmutableMap<BuildTarget, TargetNode> newValue = ImmutableMap.copyOf(entries);
+    return validate(new FlavorSearchTargetNodeFinder(this, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FlavorSearchTargetNodeFinder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FlavorSearchTargetNodeFinder
+        && equalTo((FlavorSearchTargetNodeFinder) another);
+  }
+
+  private boolean equalTo(FlavorSearchTargetNodeFinder another) {
+    return baseTargetIndex.equals(another.baseTargetIndex)
+        && buildTargetIndex.equals(another.buildTargetIndex)
+        && baseTargetFlavorMap.equals(another.baseTargetFlavorMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code baseTargetIndex}, {@code buildTargetIndex}, {@code baseTargetFlavorMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + baseTargetIndex.hashCode();
+    h += (h << 5) + buildTargetIndex.hashCode();
+    h += (h << 5) + baseTargetFlavorMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FlavorSearchTargetNodeFinder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FlavorSearchTargetNodeFinder")
+        .omitNullValues()
+        .add("baseTargetIndex", baseTargetIndex)
+        .add("buildTargetIndex", buildTargetIndex)
+        .add("baseTargetFlavorMap", baseTargetFlavorMap)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FlavorSearchTargetNodeFinder} instance.
+   * @param baseTargetIndex The value for the {@code baseTargetIndex} attribute
+   * @return An immutable FlavorSearchTargetNodeFinder instance
+   */
+  public static FlavorSearchTargetNodeFinder of(Map<? extends BuildTarget, ? extends TargetNode> baseTargetIndex) {
+    return validate(new FlavorSearchTargetNodeFinder(baseTargetIndex));
+  }
+
+
+  private static FlavorSearchTargetNodeFinder validate(FlavorSearchTargetNodeFinder instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFlavorSearchTargetNodeFinder} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FlavorSearchTargetNodeFinder instance
+   */
+  static FlavorSearchTargetNodeFinder copyOf(AbstractFlavorSearchTargetNodeFinder instance) {
+    if (instance instanceof FlavorSearchTargetNodeFinder) {
+      return (FlavorSearchTargetNodeFinder) instance;
+    }
+    return FlavorSearchTargetNodeFinder.of(instance.getBaseTargetIndex());
+  }
+}
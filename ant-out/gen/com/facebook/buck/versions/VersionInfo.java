@@ -0,0 +1,122 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractVersionInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code VersionInfo.of()}.
+ */
+@Generated(from = "AbstractVersionInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class VersionInfo extends AbstractVersionInfo {
+  private final ImmutableMap<BuildTarget, ImmutableSet<Version>> versionDomain;
+
+  private VersionInfo(
+      Map<? extends BuildTarget, ? extends ImmutableSet<Version>> versionDomain) {
+    this.versionDomain = ImmutableMap.copyOf(versionDomain);
+  }
+
+  private VersionInfo(
+      VersionInfo original,
+      ImmutableMap<BuildTarget, ImmutableSet<Version>> versionDomain) {
+    this.versionDomain = versionDomain;
+  }
+
+  /**
+   * @return The value of the {@code versionDomain} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, ImmutableSet<Version>> getVersionDomain() {
+    return versionDomain;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link VersionInfo#getVersionDomain() versionDomain} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the versionDomain map
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionInfo withVersionDomain(Map<? extends BuildTarget, ? extends ImmutableSet<Version>> entries) {
+    if (this.versionDomain == entries) return this;
+    ImmutableMap<BuildTarget, ImmutableSet<Version>> newValue = ImmutableMap.copyOf(entries);
+    return new VersionInfo(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionInfo
+        && equalTo((VersionInfo) another);
+  }
+
+  private boolean equalTo(VersionInfo another) {
+    return versionDomain.equals(another.versionDomain);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versionDomain}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + versionDomain.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionInfo")
+        .omitNullValues()
+        .add("versionDomain", versionDomain)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionInfo} instance.
+   * @param versionDomain The value for the {@code versionDomain} attribute
+   * @return An immutable VersionInfo instance
+   */
+  public static VersionInfo of(Map<? extends BuildTarget, ? extends ImmutableSet<Version>> versionDomain) {
+    return new VersionInfo(versionDomain);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractVersionInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable VersionInfo instance
+   */
+  static VersionInfo copyOf(AbstractVersionInfo instance) {
+    if (instance instanceof VersionInfo) {
+      return (VersionInfo) instance;
+    }
+    return VersionInfo.of(instance.getVersionDomain());
+  }
+}
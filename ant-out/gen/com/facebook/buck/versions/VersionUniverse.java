@@ -0,0 +1,198 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractVersionUniverse}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code VersionUniverse.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code VersionUniverse.of()}.
+ */
+@Generated(from = "AbstractVersionUniverse", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class VersionUniverse extends AbstractVersionUniverse {
+  private final ImmutableMap<BuildTarget, Version> versions;
+
+  private VersionUniverse(Map<? extends BuildTarget, ? extends Version> versions) {
+    this.versions = ImmutableMap.copyOf(versions);
+  }
+
+  private VersionUniverse(VersionUniverse.Builder builder) {
+    this.versions = builder.versions.build();
+  }
+
+  /**
+   * @return The value of the {@code versions} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, Version> getVersions() {
+    return versions;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionUniverse} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionUniverse
+        && equalTo((VersionUniverse) another);
+  }
+
+  private boolean equalTo(VersionUniverse another) {
+    return versions.equals(another.versions);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + versions.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionUniverse} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionUniverse")
+        .omitNullValues()
+        .add("versions", versions)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionUniverse} instance.
+   * @param versions The value for the {@code versions} attribute
+   * @return An immutable VersionUniverse instance
+   */
+  public static VersionUniverse of(Map<? extends BuildTarget, ? extends Version> versions) {
+    return new VersionUniverse(versions);
+  }
+
+  /**
+   * Creates a builder for {@link VersionUniverse VersionUniverse}.
+   * @return A new VersionUniverse builder
+   */
+  public static VersionUniverse.Builder builder() {
+    return new VersionUniverse.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link VersionUniverse VersionUniverse}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractVersionUniverse", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<BuildTarget, Version> versions = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code VersionUniverse} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(VersionUniverse instance) {
+      return from((AbstractVersionUniverse) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractVersionUniverse} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractVersionUniverse instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllVersions(instance.getVersions());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link VersionUniverse#getVersions() versions} map.
+     * @param key The key in the versions map
+     * @param value The associated value in the versions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putVersions(BuildTarget key, Version value) {
+      this.versions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link VersionUniverse#getVersions() versions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putVersions(Map.Entry<? extends BuildTarget, ? extends Version> entry) {
+      this.versions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link VersionUniverse#getVersions() versions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the versions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersions(Map<? extends BuildTarget, ? extends Version> entries) {
+      this.versions = ImmutableMap.builder();
+      return putAllVersions(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link VersionUniverse#getVersions() versions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the versions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllVersions(Map<? extends BuildTarget, ? extends Version> entries) {
+      this.versions.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link VersionUniverse VersionUniverse}.
+     * @return An immutable instance of VersionUniverse
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public VersionUniverse build() {
+      return new VersionUniverse(this);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.facebook.buck.versions;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractVersionedAliasDescription}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code VersionedAliasDescription.of()}.
+ */
+@Generated(from = "AbstractVersionedAliasDescription", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class VersionedAliasDescription
+    extends AbstractVersionedAliasDescription {
+
+  private VersionedAliasDescription() {}
+
+  /**
+   * This instance is equal to all instances of {@code VersionedAliasDescription} that have equal attribute values.
+   * As instances of the {@code VersionedAliasDescription} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 1106040069;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedAliasDescription}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "VersionedAliasDescription{}";
+  }
+
+  private static final VersionedAliasDescription INSTANCE = new VersionedAliasDescription();
+
+  /**
+   * Returns the default immutable singleton value of {@code VersionedAliasDescription}
+   * @return An immutable instance of VersionedAliasDescription
+   */
+  public static VersionedAliasDescription of() {
+    return INSTANCE;
+  }
+}
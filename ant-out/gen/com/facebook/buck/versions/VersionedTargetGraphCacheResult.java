@@ -0,0 +1,150 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code VersionedTargetGraphCacheResult.of()}.
+ */
+@Generated(from = "VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class VersionedTargetGraphCacheResult
+    implements VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult {
+  private final VersionedTargetGraphCache.ResultType type;
+  private final TargetGraphAndBuildTargets targetGraphAndBuildTargets;
+
+  private VersionedTargetGraphCacheResult(
+      VersionedTargetGraphCache.ResultType type,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.targetGraphAndBuildTargets = Objects.requireNonNull(targetGraphAndBuildTargets, "targetGraphAndBuildTargets");
+  }
+
+  private VersionedTargetGraphCacheResult(
+      VersionedTargetGraphCacheResult original,
+      VersionedTargetGraphCache.ResultType type,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets) {
+    this.type = type;
+    this.targetGraphAndBuildTargets = targetGraphAndBuildTargets;
+  }
+
+  /**
+   *@return the type of result. 
+   */
+  @Override
+  public VersionedTargetGraphCache.ResultType getType() {
+    return type;
+  }
+
+  /**
+   *@return a versioned target graph. 
+   */
+  @Override
+  public TargetGraphAndBuildTargets getTargetGraphAndBuildTargets() {
+    return targetGraphAndBuildTargets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCacheResult#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTargetGraphCacheResult withType(VersionedTargetGraphCache.ResultType value) {
+    if (this.type == value) return this;
+    VersionedTargetGraphCache.ResultType newValue = Objects.requireNonNull(value, "type");
+    if (this.type.equals(newValue)) return this;
+    return new VersionedTargetGraphCacheResult(this, newValue, this.targetGraphAndBuildTargets);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCacheResult#getTargetGraphAndBuildTargets() targetGraphAndBuildTargets} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraphAndBuildTargets
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTargetGraphCacheResult withTargetGraphAndBuildTargets(TargetGraphAndBuildTargets value) {
+    if (this.targetGraphAndBuildTargets == value) return this;
+    TargetGraphAndBuildTargets newValue = Objects.requireNonNull(value, "targetGraphAndBuildTargets");
+    return new VersionedTargetGraphCacheResult(this, this.type, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionedTargetGraphCacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionedTargetGraphCacheResult
+        && equalTo((VersionedTargetGraphCacheResult) another);
+  }
+
+  private boolean equalTo(VersionedTargetGraphCacheResult another) {
+    return type.equals(another.type)
+        && targetGraphAndBuildTargets.equals(another.targetGraphAndBuildTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code targetGraphAndBuildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + targetGraphAndBuildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedTargetGraphCacheResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedTargetGraphCacheResult")
+        .omitNullValues()
+        .add("type", type)
+        .add("targetGraphAndBuildTargets", targetGraphAndBuildTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTargetGraphCacheResult} instance.
+   * @param type The value for the {@code type} attribute
+   * @param targetGraphAndBuildTargets The value for the {@code targetGraphAndBuildTargets} attribute
+   * @return An immutable VersionedTargetGraphCacheResult instance
+   */
+  public static VersionedTargetGraphCacheResult of(VersionedTargetGraphCache.ResultType type, TargetGraphAndBuildTargets targetGraphAndBuildTargets) {
+    return new VersionedTargetGraphCacheResult(type, targetGraphAndBuildTargets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable VersionedTargetGraphCacheResult instance
+   */
+  static VersionedTargetGraphCacheResult copyOf(VersionedTargetGraphCache.AbstractVersionedTargetGraphCacheResult instance) {
+    if (instance instanceof VersionedTargetGraphCacheResult) {
+      return (VersionedTargetGraphCacheResult) instance;
+    }
+    return VersionedTargetGraphCacheResult.of(instance.getType(), instance.getTargetGraphAndBuildTargets());
+  }
+}
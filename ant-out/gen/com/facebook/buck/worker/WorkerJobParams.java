@@ -0,0 +1,146 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractWorkerJobParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WorkerJobParams.of()}.
+ */
+@Generated(from = "AbstractWorkerJobParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class WorkerJobParams implements AbstractWorkerJobParams {
+  private final String jobArgs;
+  private final WorkerProcessParams workerProcessParams;
+
+  private WorkerJobParams(String jobArgs, WorkerProcessParams workerProcessParams) {
+    this.jobArgs = Objects.requireNonNull(jobArgs, "jobArgs");
+    this.workerProcessParams = Objects.requireNonNull(workerProcessParams, "workerProcessParams");
+  }
+
+  private WorkerJobParams(
+      WorkerJobParams original,
+      String jobArgs,
+      WorkerProcessParams workerProcessParams) {
+    this.jobArgs = jobArgs;
+    this.workerProcessParams = workerProcessParams;
+  }
+
+  /**
+   * The arguments of the actual job once tool has started and ready to accept jobs. For example,
+   * "--hash-file /path/to/file".
+   */
+  @Override
+  public String getJobArgs() {
+    return jobArgs;
+  }
+
+  /**
+   * @return The value of the {@code workerProcessParams} attribute
+   */
+  @Override
+  public WorkerProcessParams getWorkerProcessParams() {
+    return workerProcessParams;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerJobParams#getJobArgs() jobArgs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for jobArgs
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerJobParams withJobArgs(String value) {
+    String newValue = Objects.requireNonNull(value, "jobArgs");
+    if (this.jobArgs.equals(newValue)) return this;
+    return new WorkerJobParams(this, newValue, this.workerProcessParams);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerJobParams#getWorkerProcessParams() workerProcessParams} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for workerProcessParams
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerJobParams withWorkerProcessParams(WorkerProcessParams value) {
+    if (this.workerProcessParams == value) return this;
+    WorkerProcessParams newValue = Objects.requireNonNull(value, "workerProcessParams");
+    return new WorkerJobParams(this, this.jobArgs, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerJobParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerJobParams
+        && equalTo((WorkerJobParams) another);
+  }
+
+  private boolean equalTo(WorkerJobParams another) {
+    return jobArgs.equals(another.jobArgs)
+        && workerProcessParams.equals(another.workerProcessParams);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code jobArgs}, {@code workerProcessParams}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + jobArgs.hashCode();
+    h += (h << 5) + workerProcessParams.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerJobParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerJobParams")
+        .omitNullValues()
+        .add("jobArgs", jobArgs)
+        .add("workerProcessParams", workerProcessParams)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerJobParams} instance.
+   * @param jobArgs The value for the {@code jobArgs} attribute
+   * @param workerProcessParams The value for the {@code workerProcessParams} attribute
+   * @return An immutable WorkerJobParams instance
+   */
+  public static WorkerJobParams of(String jobArgs, WorkerProcessParams workerProcessParams) {
+    return new WorkerJobParams(jobArgs, workerProcessParams);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWorkerJobParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerJobParams instance
+   */
+  static WorkerJobParams copyOf(AbstractWorkerJobParams instance) {
+    if (instance instanceof WorkerJobParams) {
+      return (WorkerJobParams) instance;
+    }
+    return WorkerJobParams.of(instance.getJobArgs(), instance.getWorkerProcessParams());
+  }
+}
@@ -0,0 +1,198 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractWorkerJobResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WorkerJobResult.of()}.
+ */
+@Generated(from = "AbstractWorkerJobResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class WorkerJobResult implements AbstractWorkerJobResult {
+  private final int exitCode;
+  private final @Nullable String stdout;
+  private final @Nullable String stderr;
+
+  private WorkerJobResult(
+      int exitCode,
+      Optional<String> stdout,
+      Optional<String> stderr) {
+    this.exitCode = exitCode;
+    this.stdout = stdout.orElse(null);
+    this.stderr = stderr.orElse(null);
+  }
+
+  private WorkerJobResult(
+      WorkerJobResult original,
+      int exitCode,
+      @Nullable String stdout,
+      @Nullable String stderr) {
+    this.exitCode = exitCode;
+    this.stdout = stdout;
+    this.stderr = stderr;
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public int getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code stdout} attribute
+   */
+  @Override
+  public Optional<String> getStdout() {
+    return Optional.ofNullable(stdout);
+  }
+
+  /**
+   * @return The value of the {@code stderr} attribute
+   */
+  @Override
+  public Optional<String> getStderr() {
+    return Optional.ofNullable(stderr);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerJobResult#getExitCode() exitCode} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for exitCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerJobResult withExitCode(int value) {
+    if (this.exitCode == value) return this;
+    return new WorkerJobResult(this, value, this.stdout, this.stderr);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link WorkerJobResult#getStdout() stdout} attribute.
+   * @param value The value for stdout
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerJobResult withStdout(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "stdout");
+    if (Objects.equals(this.stdout, newValue)) return this;
+    return new WorkerJobResult(this, this.exitCode, newValue, this.stderr);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link WorkerJobResult#getStdout() stdout} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stdout
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerJobResult withStdout(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.stdout, value)) return this;
+    return new WorkerJobResult(this, this.exitCode, value, this.stderr);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link WorkerJobResult#getStderr() stderr} attribute.
+   * @param value The value for stderr
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerJobResult withStderr(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "stderr");
+    if (Objects.equals(this.stderr, newValue)) return this;
+    return new WorkerJobResult(this, this.exitCode, this.stdout, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link WorkerJobResult#getStderr() stderr} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for stderr
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerJobResult withStderr(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.stderr, value)) return this;
+    return new WorkerJobResult(this, this.exitCode, this.stdout, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerJobResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerJobResult
+        && equalTo((WorkerJobResult) another);
+  }
+
+  private boolean equalTo(WorkerJobResult another) {
+    return exitCode == another.exitCode
+        && Objects.equals(stdout, another.stdout)
+        && Objects.equals(stderr, another.stderr);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code stdout}, {@code stderr}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + exitCode;
+    h += (h << 5) + Objects.hashCode(stdout);
+    h += (h << 5) + Objects.hashCode(stderr);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerJobResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerJobResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("stdout", stdout)
+        .add("stderr", stderr)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerJobResult} instance.
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param stdout The value for the {@code stdout} attribute
+   * @param stderr The value for the {@code stderr} attribute
+   * @return An immutable WorkerJobResult instance
+   */
+  public static WorkerJobResult of(int exitCode, Optional<String> stdout, Optional<String> stderr) {
+    return new WorkerJobResult(exitCode, stdout, stderr);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWorkerJobResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerJobResult instance
+   */
+  static WorkerJobResult copyOf(AbstractWorkerJobResult instance) {
+    if (instance instanceof WorkerJobResult) {
+      return (WorkerJobResult) instance;
+    }
+    return WorkerJobResult.of(instance.getExitCode(), instance.getStdout(), instance.getStderr());
+  }
+}
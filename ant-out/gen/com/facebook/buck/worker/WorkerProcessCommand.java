@@ -0,0 +1,177 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractWorkerProcessCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WorkerProcessCommand.of()}.
+ */
+@Generated(from = "AbstractWorkerProcessCommand", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class WorkerProcessCommand extends AbstractWorkerProcessCommand {
+  private final Path argsPath;
+  private final Path stdOutPath;
+  private final Path stdErrPath;
+
+  private WorkerProcessCommand(Path argsPath, Path stdOutPath, Path stdErrPath) {
+    this.argsPath = Objects.requireNonNull(argsPath, "argsPath");
+    this.stdOutPath = Objects.requireNonNull(stdOutPath, "stdOutPath");
+    this.stdErrPath = Objects.requireNonNull(stdErrPath, "stdErrPath");
+  }
+
+  private WorkerProcessCommand(
+      WorkerProcessCommand original,
+      Path argsPath,
+      Path stdOutPath,
+      Path stdErrPath) {
+    this.argsPath = argsPath;
+    this.stdOutPath = stdOutPath;
+    this.stdErrPath = stdErrPath;
+  }
+
+  /**
+   * Path to file which contains the arguments of the command. This content should be considered as
+   * an input for the command.
+   */
+  @Override
+  public Path getArgsPath() {
+    return argsPath;
+  }
+
+  /**
+   * Path to file where stdout can be written out. Remote process should output everything into this
+   * file instead of printing out into its own stdout.
+   */
+  @Override
+  public Path getStdOutPath() {
+    return stdOutPath;
+  }
+
+  /**
+   * Path to file where stderr can be written out. Remote process should output everything into this
+   * file instead of printing out into its own stderr.
+   */
+  @Override
+  public Path getStdErrPath() {
+    return stdErrPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerProcessCommand#getArgsPath() argsPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for argsPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessCommand withArgsPath(Path value) {
+    if (this.argsPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "argsPath");
+    return new WorkerProcessCommand(this, newValue, this.stdOutPath, this.stdErrPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerProcessCommand#getStdOutPath() stdOutPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stdOutPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessCommand withStdOutPath(Path value) {
+    if (this.stdOutPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "stdOutPath");
+    return new WorkerProcessCommand(this, this.argsPath, newValue, this.stdErrPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerProcessCommand#getStdErrPath() stdErrPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stdErrPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessCommand withStdErrPath(Path value) {
+    if (this.stdErrPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "stdErrPath");
+    return new WorkerProcessCommand(this, this.argsPath, this.stdOutPath, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerProcessCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerProcessCommand
+        && equalTo((WorkerProcessCommand) another);
+  }
+
+  private boolean equalTo(WorkerProcessCommand another) {
+    return argsPath.equals(another.argsPath)
+        && stdOutPath.equals(another.stdOutPath)
+        && stdErrPath.equals(another.stdErrPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code argsPath}, {@code stdOutPath}, {@code stdErrPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + argsPath.hashCode();
+    h += (h << 5) + stdOutPath.hashCode();
+    h += (h << 5) + stdErrPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerProcessCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerProcessCommand")
+        .omitNullValues()
+        .add("argsPath", argsPath)
+        .add("stdOutPath", stdOutPath)
+        .add("stdErrPath", stdErrPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessCommand} instance.
+   * @param argsPath The value for the {@code argsPath} attribute
+   * @param stdOutPath The value for the {@code stdOutPath} attribute
+   * @param stdErrPath The value for the {@code stdErrPath} attribute
+   * @return An immutable WorkerProcessCommand instance
+   */
+  public static WorkerProcessCommand of(Path argsPath, Path stdOutPath, Path stdErrPath) {
+    return new WorkerProcessCommand(argsPath, stdOutPath, stdErrPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWorkerProcessCommand} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerProcessCommand instance
+   */
+  static WorkerProcessCommand copyOf(AbstractWorkerProcessCommand instance) {
+    if (instance instanceof WorkerProcessCommand) {
+      return (WorkerProcessCommand) instance;
+    }
+    return WorkerProcessCommand.of(instance.getArgsPath(), instance.getStdOutPath(), instance.getStdErrPath());
+  }
+}
@@ -0,0 +1,149 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractWorkerProcessIdentity}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WorkerProcessIdentity.of()}.
+ */
+@Generated(from = "AbstractWorkerProcessIdentity", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class WorkerProcessIdentity implements AbstractWorkerProcessIdentity {
+  private final String persistentWorkerKey;
+  private final HashCode workerHash;
+
+  private WorkerProcessIdentity(String persistentWorkerKey, HashCode workerHash) {
+    this.persistentWorkerKey = Objects.requireNonNull(persistentWorkerKey, "persistentWorkerKey");
+    this.workerHash = Objects.requireNonNull(workerHash, "workerHash");
+  }
+
+  private WorkerProcessIdentity(
+      WorkerProcessIdentity original,
+      String persistentWorkerKey,
+      HashCode workerHash) {
+    this.persistentWorkerKey = persistentWorkerKey;
+    this.workerHash = workerHash;
+  }
+
+  /**
+   * If the current invocation allows to have persisted worker pools (buck is running as daemon), it
+   * will be used to obtain the instance of the persisted worker process pool.
+   */
+  @Override
+  public String getPersistentWorkerKey() {
+    return persistentWorkerKey;
+  }
+
+  /**
+   * Hash to identify the specific worker pool and kind of a mechanism for invalidating existing
+   * pools. If this value for the given persistent worker key changes, old pool will be destroyed
+   * and the new pool will be recreated.
+   */
+  @Override
+  public HashCode getWorkerHash() {
+    return workerHash;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerProcessIdentity#getPersistentWorkerKey() persistentWorkerKey} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for persistentWorkerKey
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessIdentity withPersistentWorkerKey(String value) {
+    String newValue = Objects.requireNonNull(value, "persistentWorkerKey");
+    if (this.persistentWorkerKey.equals(newValue)) return this;
+    return new WorkerProcessIdentity(this, newValue, this.workerHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link WorkerProcessIdentity#getWorkerHash() workerHash} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for workerHash
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessIdentity withWorkerHash(HashCode value) {
+    if (this.workerHash == value) return this;
+    HashCode newValue = Objects.requireNonNull(value, "workerHash");
+    return new WorkerProcessIdentity(this, this.persistentWorkerKey, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerProcessIdentity} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerProcessIdentity
+        && equalTo((WorkerProcessIdentity) another);
+  }
+
+  private boolean equalTo(WorkerProcessIdentity another) {
+    return persistentWorkerKey.equals(another.persistentWorkerKey)
+        && workerHash.equals(another.workerHash);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code persistentWorkerKey}, {@code workerHash}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + persistentWorkerKey.hashCode();
+    h += (h << 5) + workerHash.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerProcessIdentity} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerProcessIdentity")
+        .omitNullValues()
+        .add("persistentWorkerKey", persistentWorkerKey)
+        .add("workerHash", workerHash)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessIdentity} instance.
+   * @param persistentWorkerKey The value for the {@code persistentWorkerKey} attribute
+   * @param workerHash The value for the {@code workerHash} attribute
+   * @return An immutable WorkerProcessIdentity instance
+   */
+  public static WorkerProcessIdentity of(String persistentWorkerKey, HashCode workerHash) {
+    return new WorkerProcessIdentity(persistentWorkerKey, workerHash);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWorkerProcessIdentity} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerProcessIdentity instance
+   */
+  static WorkerProcessIdentity copyOf(AbstractWorkerProcessIdentity instance) {
+    if (instance instanceof WorkerProcessIdentity) {
+      return (WorkerProcessIdentity) instance;
+    }
+    return WorkerProcessIdentity.of(instance.getPersistentWorkerKey(), instance.getWorkerHash());
+  }
+}
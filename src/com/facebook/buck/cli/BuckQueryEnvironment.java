@@ -36,6 +36,7 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.parser.BuildFileDependentCache;
 import com.facebook.buck.parser.Parser;
 import com.facebook.buck.parser.ParserMessages;
 import com.facebook.buck.parser.PerBuildState;
@@ -80,6 +81,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * The environment of a Buck query that can evaluate queries to produce a result.
@@ -105,6 +108,13 @@ public class BuckQueryEnvironment implements QueryEnvironment {
   // traverses the graph in parallel.
   private MutableDirectedGraph<TargetNode<?>> graph = MutableDirectedGraph.createConcurrent();
   private Map<BuildTarget, TargetNode<?>> targetsToNodes = new ConcurrentHashMap<>();
+  // Index of the graph for parallel traversals, dropped whenever new nodes are added to the graph.
+  @Nullable private TargetGraphQueryIndex graphIndex;
+
+  // Results of queries evaluated by previous commands, keyed by a prefix and the query expression.
+  @Nullable private BuildFileDependentCache<String, ImmutableSet<QueryTarget>> resultCache;
+  private String resultCacheKeyPrefix = "";
+  private long resultCacheGeneration;
 
   @VisibleForTesting
   protected BuckQueryEnvironment(
@@ -209,8 +219,71 @@ public class BuckQueryEnvironment implements QueryEnvironment {
       throws QueryException, InterruptedException {
     Set<String> targetLiterals = new HashSet<>();
     expr.collectTargetPatterns(targetLiterals);
+    if (resultCache == null || !isResultCacheable(expr, targetLiterals)) {
+      preloadTargetPatterns(targetLiterals);
+      return new NoopQueryEvaluator().eval(expr, this);
+    }
+
+    String key = resultCacheKeyPrefix + expr;
+    Optional<ImmutableSet<QueryTarget>> cachedResult = resultCache.get(key);
+    if (cachedResult.isPresent()) {
+      return cachedResult.get();
+    }
     preloadTargetPatterns(targetLiterals);
-    return new NoopQueryEvaluator().eval(expr, this);
+    ImmutableSet<QueryTarget> result = new NoopQueryEvaluator().eval(expr, this);
+    resultCache.put(key, result, getBuildFileDependencies(result), resultCacheGeneration);
+    return result;
+  }
+
+  /**
+   * Makes {@link #evaluateQuery} reuse results of queries evaluated by previous environments.
+   *
+   * <p>A cached result is returned without loading any target nodes, so this must only be enabled
+   * if the caller does not access the nodes or the graph of this environment.
+   *
+   * @param keyPrefix distinguishes results of the same query under different settings, e.g. target
+   *     platforms, that are not reflected in the query expression.
+   */
+  public void setResultCache(
+      BuildFileDependentCache<String, ImmutableSet<QueryTarget>> resultCache, String keyPrefix) {
+    this.resultCache = resultCache;
+    this.resultCacheKeyPrefix = keyPrefix;
+    // Any invalidation after the environment has been created can make its results stale.
+    this.resultCacheGeneration = resultCache.getGeneration();
+  }
+
+  /**
+   * Results of {@code owner()} depend on files other than build files, and patterns that are not
+   * build target patterns (i.e. files and aliases) on the file system and configuration, so none
+   * of them can be invalidated based on build files alone.
+   */
+  private static boolean isResultCacheable(QueryExpression expr, Set<String> targetLiterals) {
+    Set<String> functionNames = new HashSet<>();
+    expr.collectFunctionNames(functionNames);
+    return !functionNames.contains("owner")
+        && targetLiterals
+            .stream()
+            .allMatch(pattern -> pattern.contains("//") || pattern.startsWith(":"));
+  }
+
+  /**
+   * @return the paths of all build files this environment has loaded nodes from, or resolved
+   *     patterns with, along with the directories it has searched for build files.
+   */
+  private ImmutableSet<Path> getBuildFileDependencies(ImmutableSet<QueryTarget> result) {
+    Set<BuildTarget> targets = new HashSet<>(targetsToNodes.keySet());
+    targets.addAll(buildTargetToQueryTarget.keySet());
+    for (QueryTarget target : result) {
+      if (target instanceof QueryBuildTarget) {
+        targets.add(((QueryBuildTarget) target).getBuildTarget());
+      }
+    }
+    ImmutableSet.Builder<Path> dependencies = ImmutableSet.builder();
+    dependencies.addAll(targetPatternEvaluator.getResolvedBuildFileSpecPaths());
+    for (BuildTarget target : targets) {
+      dependencies.add(rootCell.getCell(target).getAbsolutePathToBuildFileUnsafe(target));
+    }
+    return dependencies.build();
   }
 
   public ImmutableSet<QueryTarget> evaluateQuery(String query)
@@ -277,11 +350,57 @@ public class BuckQueryEnvironment implements QueryEnvironment {
     Set<QueryTarget> result = new LinkedHashSet<>();
     for (QueryTarget target : targets) {
       TargetNode<?> node = getNode(target);
-      result.addAll(getTargetsFromTargetNodes(graph.getIncomingNodesFor(node)));
+      // The daemon indexes the reverse deps of every node it has cached, which covers the nodes
+      // loaded into the graph, so only those in the graph are part of the query universe.
+      result.addAll(
+          getTargetsFromBuildTargets(
+              parser
+                  .getPermState()
+                  .lookupReverseDeps(node.getBuildTarget())
+                  .stream()
+                  .filter(
+                      reverseDep -> {
+                        TargetNode<?> reverseDepNode = targetsToNodes.get(reverseDep);
+                        return reverseDepNode != null && graph.getNodes().contains(reverseDepNode);
+                      })
+                  .collect(Collectors.toList())));
     }
     return result;
   }
 
+  @Override
+  public ImmutableSet<QueryTarget> getTransitiveFwdDeps(Set<QueryTarget> targets, int maxDepth)
+      throws QueryException {
+    TargetGraphQueryIndex index = getGraphIndex();
+    Optional<int[]> roots = index.getIds(targets);
+    if (!roots.isPresent()) {
+      return QueryEnvironment.super.getTransitiveFwdDeps(targets, maxDepth);
+    }
+    return index.getTransitiveFwdDeps(roots.get(), maxDepth);
+  }
+
+  @Override
+  public ImmutableSet<QueryTarget> getTransitiveReverseDeps(
+      Set<QueryTarget> universe, Set<QueryTarget> targets, int maxDepth) throws QueryException {
+    TargetGraphQueryIndex index = getGraphIndex();
+    Optional<int[]> universeRoots = index.getIds(universe);
+    if (!universeRoots.isPresent()) {
+      return QueryEnvironment.super.getTransitiveReverseDeps(universe, targets, maxDepth);
+    }
+    // Targets that are not part of the graph can't be in the transitive closure of the universe.
+    return index.getTransitiveReverseDeps(
+        index.getIdsOfIndexedTargets(targets),
+        maxDepth,
+        index.getTransitiveClosure(universeRoots.get()));
+  }
+
+  private TargetGraphQueryIndex getGraphIndex() {
+    if (graphIndex == null) {
+      graphIndex = TargetGraphQueryIndex.of(graph, this::getOrCreateQueryBuildTarget);
+    }
+    return graphIndex;
+  }
+
   @Override
   public Set<QueryTarget> getInputs(QueryTarget target) throws QueryException {
     TargetNode<?> node = getNode(target);
@@ -334,6 +453,9 @@ public class BuckQueryEnvironment implements QueryEnvironment {
             .map(target -> ((QueryBuildTarget) target).getBuildTarget())
             .filter(buildTarget -> !targetsToNodes.containsKey(buildTarget))
             .collect(ImmutableSet.toImmutableSet());
+    if (!newBuildTargets.isEmpty()) {
+      graphIndex = null;
+    }
 
     // TODO(mkosiba): This looks more and more like the Parser.buildTargetGraph method. Unify the
     // two.
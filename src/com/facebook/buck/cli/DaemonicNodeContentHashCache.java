@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.model.targetgraph.impl.TargetGraphHashing;
+import com.facebook.buck.parser.BuildFileDependentCache;
+import com.facebook.buck.parser.DaemonicParserState;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Keeps the content hashes of target nodes in the daemon, where they are dropped as soon as the
+ * parser is notified of a change to the build file or any input of their node.
+ *
+ * <p>Content hashes are keyed by the build target and the hash of the raw rule of the node, so a
+ * hash is never reused for a node that has been redefined. Since they include the hashes of input
+ * files, they must only be used with the daemon's file hash cache.
+ */
+class DaemonicNodeContentHashCache implements TargetGraphHashing.NodeContentHashCache {
+
+  private static final long MAXIMUM_SIZE = 100_000;
+
+  private final BuildFileDependentCache<Pair<BuildTarget, HashCode>, HashCode> cache;
+  private final Cell rootCell;
+  private final long generation;
+
+  DaemonicNodeContentHashCache(DaemonicParserState parserState, Cell rootCell) {
+    this.cache =
+        parserState.getOrCreateBuildFileDependentCache(
+            DaemonicNodeContentHashCache.class, MAXIMUM_SIZE);
+    this.rootCell = rootCell;
+    // Files may change while nodes are being hashed, so only hashes of nodes that are unaffected
+    // by changes since this point can be kept.
+    this.generation = cache.getGeneration();
+  }
+
+  @Override
+  public Optional<HashCode> get(TargetNode<?> node) {
+    return cache.get(getKey(node));
+  }
+
+  @Override
+  public void put(TargetNode<?> node, HashCode contentHash) {
+    BuildTarget target = node.getBuildTarget();
+    ImmutableSet.Builder<Path> dependencies = ImmutableSet.builder();
+    dependencies.add(rootCell.getCell(target).getAbsolutePathToBuildFileUnsafe(target));
+    for (Path input : node.getInputs()) {
+      dependencies.add(node.getFilesystem().resolve(input));
+    }
+    cache.put(getKey(node), contentHash, dependencies.build(), generation);
+  }
+
+  private static Pair<BuildTarget, HashCode> getKey(TargetNode<?> node) {
+    return new Pair<>(node.getBuildTarget(), node.getRawInputsHashCode());
+  }
+}
@@ -78,6 +78,7 @@ import com.facebook.buck.event.listener.LogUploaderListener;
 import com.facebook.buck.event.listener.LoggingBuildListener;
 import com.facebook.buck.event.listener.MachineReadableLoggerListener;
 import com.facebook.buck.event.listener.ParserProfilerLoggerListener;
+import com.facebook.buck.event.listener.PerfTimesEventListener;
 import com.facebook.buck.event.listener.ProgressEstimator;
 import com.facebook.buck.event.listener.PublicAnnouncementManager;
 import com.facebook.buck.event.listener.RuleKeyDiagnosticsListener;
@@ -1145,7 +1146,8 @@ public final class Main {
                   clock,
                   counterRegistry,
                   commandEventListeners,
-                  managerScope);
+                  managerScope,
+                  executionEnvironment);
           buildEventBus.register(consoleListener);
 
           if (buckConfig.isBuckConfigLocalWarningEnabled() && !console.getVerbosity().isSilent()) {
@@ -1896,7 +1898,8 @@ public final class Main {
       Clock clock,
       CounterRegistry counterRegistry,
       Iterable<BuckEventListener> commandSpecificEventListeners,
-      TaskManagerScope managerScope) {
+      TaskManagerScope managerScope,
+      ExecutionEnvironment executionEnvironment) {
     ImmutableList.Builder<BuckEventListener> eventListenersBuilder =
         ImmutableList.<BuckEventListener>builder().add(new LoggingBuildListener());
 
@@ -1971,6 +1974,7 @@ public final class Main {
       }
     }
 
+    eventListenersBuilder.add(new PerfTimesEventListener(buckEventBus, executionEnvironment));
     eventListenersBuilder.add(new ParserProfilerLoggerListener(invocationInfo, projectFilesystem));
 
 
@@ -18,6 +18,7 @@ package com.facebook.buck.cli;
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.model.BuildFileTree;
+import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -171,16 +172,49 @@ final class OwnersReport {
         Path basePath,
         Path cellRelativePath) {
       Path buckFile = cell.getFilesystem().resolve(basePath).resolve(cell.getBuildFileName());
+      // Answer from the nodes indexed by earlier parses when possible and only parse the build
+      // file when they are not cached.
       ImmutableList<TargetNode<?>> targetNodes =
           map.computeIfAbsent(
               buckFile,
-              basePath1 -> {
-                try {
-                  return parser.getAllTargetNodes(parserState, cell, basePath1);
-                } catch (BuildFileParseException e) {
-                  throw new HumanReadableException(e);
-                }
-              });
+              basePath1 ->
+                  parser
+                      .getPermState()
+                      .lookupTargetNodes(cell, basePath1)
+                      .orElseGet(
+                          () -> {
+                            try {
+                              return parser.getAllTargetNodes(parserState, cell, basePath1);
+                            } catch (BuildFileParseException e) {
+                              throw new HumanReadableException(e);
+                            }
+                          }));
+      Optional<ImmutableSet<BuildTarget>> indexedOwners =
+          parser
+              .getPermState()
+              .lookupInputOwners(
+                  cell,
+                  cellRelativePath,
+                  targetNodes
+                      .stream()
+                      .map(TargetNode::getBuildTarget)
+                      .collect(ImmutableSet.toImmutableSet()));
+      if (indexedOwners.isPresent() && !targetNodes.isEmpty()) {
+        // Only owners contribute to the report beyond the checks for the file itself, which are
+        // the same for any node, so the remaining nodes don't have to be checked.
+        List<TargetNode<?>> nodesToCheck =
+            targetNodes
+                .stream()
+                .filter(targetNode -> indexedOwners.get().contains(targetNode.getBuildTarget()))
+                .collect(Collectors.toList());
+        if (nodesToCheck.isEmpty()) {
+          nodesToCheck = ImmutableList.of(targetNodes.get(0));
+        }
+        return nodesToCheck
+            .stream()
+            .map(targetNode -> generateOwnersReport(cell, targetNode, cellRelativePath.toString()))
+            .reduce(OwnersReport.emptyReport(), OwnersReport::updatedWith);
+      }
       return targetNodes
           .stream()
           .map(targetNode -> generateOwnersReport(cell, targetNode, cellRelativePath.toString()))
@@ -35,8 +35,10 @@ import com.facebook.buck.rules.coercer.DefaultConstructorArgMarshaller;
 import com.facebook.buck.util.CommandLineException;
 import com.facebook.buck.util.ExitCode;
 import com.facebook.buck.util.PatternsMatcher;
+import com.facebook.buck.util.function.ThrowingConsumer;
 import com.facebook.buck.util.json.ObjectMappers;
 import com.facebook.infer.annotation.SuppressFieldNotInitialized;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Suppliers;
@@ -49,7 +51,6 @@ import com.google.common.collect.TreeMultimap;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -208,6 +209,19 @@ public class QueryCommand extends AbstractCommand {
               executor,
               getEnableParserProfiling(),
               getExcludeIncompatibleTargets());
+      // Results are only printed as targets unless nodes or the graph of the environment are
+      // needed, in which case a cached result would not have loaded them.
+      if (!shouldOutputAttributes()
+          && !shouldGenerateDotOutput()
+          && getOutputFormat() != OutputFormat.MINRANK
+          && getOutputFormat() != OutputFormat.MAXRANK) {
+        env.setResultCache(
+            params
+                .getParser()
+                .getPermState()
+                .getOrCreateBuildFileDependentCache(QueryCommand.class),
+            String.format("%s %s ", getExcludeIncompatibleTargets(), getTargetPlatforms()));
+      }
       return formatAndRunQuery(params, env);
     } catch (QueryException e) {
       throw new HumanReadableException(e);
@@ -392,9 +406,7 @@ public class QueryCommand extends AbstractCommand {
 
     PrintStream stdOut = params.getConsole().getStdOut();
     if (shouldOutputAttributes()) {
-      ImmutableSortedMap<String, ImmutableSortedMap<String, Object>> attributesWithRanks =
-          extendAttributesWithRankMetadata(params, env, outputFormat, ranks.entrySet());
-      printAttributesAsJson(attributesWithRanks, stdOut);
+      printRankOutputWithAttributesAsJson(params, env, outputFormat, ranks.entrySet());
     } else {
       printRankOutputAsPlainText(ranks, stdOut);
     }
@@ -417,47 +429,48 @@ public class QueryCommand extends AbstractCommand {
   }
 
   /**
-   * Returns {@code attributes} with included min/max rank metadata into keyed by the result of
-   * {@link #toPresentationForm(TargetNode)}
+   * Prints {@code attributes} with included min/max rank metadata keyed by the result of {@link
+   * #toPresentationForm(TargetNode)}, ordered by rank.
    *
    * @param rankEntries A set of pairs that map {@link TargetNode}s to their rank value (min or max)
    *     depending on {@code outputFormat}.
    */
-  private ImmutableSortedMap<String, ImmutableSortedMap<String, Object>>
-      extendAttributesWithRankMetadata(
-          CommandRunnerParams params,
-          BuckQueryEnvironment env,
-          OutputFormat outputFormat,
-          Set<Entry<TargetNode<?>, Integer>> rankEntries) {
+  private void printRankOutputWithAttributesAsJson(
+      CommandRunnerParams params,
+      BuckQueryEnvironment env,
+      OutputFormat outputFormat,
+      Set<Entry<TargetNode<?>, Integer>> rankEntries) {
     PatternsMatcher patternsMatcher = new PatternsMatcher(outputAttributes());
-    // since some nodes differ in their flavors but ultimately have the same attributes, immutable
-    // resulting map is created only after duplicates are merged by using regular HashMap
+    // since some nodes differ in their flavors but ultimately have the same attributes, only one
+    // node is kept per presentation form
     Map<String, Integer> rankIndex =
         rankEntries
             .stream()
             .collect(
                 Collectors.toMap(entry -> toPresentationForm(entry.getKey()), Entry::getValue));
-    return ImmutableSortedMap.copyOf(
-        rankEntries
-            .stream()
-            .collect(
-                Collectors.toMap(
-                    entry -> toPresentationForm(entry.getKey()),
-                    entry -> {
-                      String label = toPresentationForm(entry.getKey());
-                      // NOTE: for resiliency in case attributes cannot be resolved a map with only
-                      // minrank is returned, which means clients should be prepared to deal with
-                      // potentially missing fields. Consider not returning a node in such case,
-                      // since most likely an attempt to use that node would fail anyways.
-                      SortedMap<String, Object> attributes =
-                          getAttributes(params, env, patternsMatcher, entry.getKey())
-                              .orElseGet(TreeMap::new);
-                      return ImmutableSortedMap.<String, Object>naturalOrder()
-                          .putAll(attributes)
-                          .put(outputFormat.name().toLowerCase(), rankIndex.get(label))
-                          .build();
-                    })),
-        Comparator.<String>comparingInt(rankIndex::get).thenComparing(Comparator.naturalOrder()));
+    SortedMap<String, TargetNode<?>> nodesByLabel =
+        new TreeMap<>(
+            Comparator.<String>comparingInt(rankIndex::get)
+                .thenComparing(Comparator.naturalOrder()));
+    for (Entry<TargetNode<?>, Integer> entry : rankEntries) {
+      nodesByLabel.put(toPresentationForm(entry.getKey()), entry.getKey());
+    }
+    printJsonObject(
+        params.getConsole().getStdOut(),
+        generator -> {
+          for (Map.Entry<String, TargetNode<?>> entry : nodesByLabel.entrySet()) {
+            // NOTE: for resiliency in case attributes cannot be resolved a map with only minrank
+            // is returned, which means clients should be prepared to deal with potentially missing
+            // fields. Consider not returning a node in such case, since most likely an attempt to
+            // use that node would fail anyways.
+            SortedMap<String, Object> attributes =
+                getAttributes(params, env, patternsMatcher, entry.getValue())
+                    .orElseGet(TreeMap::new);
+            attributes.put(outputFormat.name().toLowerCase(), rankIndex.get(entry.getKey()));
+            generator.writeFieldName(entry.getKey());
+            ObjectMappers.WRITER.writeValue(generator, attributes);
+          }
+        });
   }
 
   private Map<TargetNode<?>, Integer> computeRanks(
@@ -505,57 +518,65 @@ public class QueryCommand extends AbstractCommand {
       Set<QueryTarget> queryResult,
       ImmutableSet<String> attributes)
       throws QueryException {
-    ImmutableSortedMap<String, SortedMap<String, Object>> result =
-        collectAttributes(params, env, queryResult, attributes);
-    printAttributesAsJson(result, params.getConsole().getStdOut());
+    PatternsMatcher patternsMatcher = new PatternsMatcher(attributes);
+    SortedMap<String, TargetNode<?>> nodesByLabel = getNodesByPresentationForm(env, queryResult);
+    printJsonObject(
+        params.getConsole().getStdOut(),
+        generator -> {
+          for (Map.Entry<String, TargetNode<?>> entry : nodesByLabel.entrySet()) {
+            TargetNode<?> node = entry.getValue();
+            Optional<SortedMap<String, Object>> nodeAttributes;
+            try {
+              nodeAttributes = getAttributes(params, env, patternsMatcher, node);
+            } catch (BuildFileParseException e) {
+              params
+                  .getConsole()
+                  .printErrorText(
+                      "unable to find rule for target "
+                          + node.getBuildTarget().getFullyQualifiedName());
+              continue;
+            }
+            if (nodeAttributes.isPresent()) {
+              generator.writeFieldName(entry.getKey());
+              ObjectMappers.WRITER.writeValue(generator, nodeAttributes.get());
+            }
+          }
+        });
   }
 
-  private static <T extends SortedMap<String, Object>> void printAttributesAsJson(
-      ImmutableSortedMap<String, T> result, PrintStream outputStream) {
-    StringWriter stringWriter = new StringWriter();
-    try {
-      ObjectMappers.WRITER.withDefaultPrettyPrinter().writeValue(stringWriter, result);
+  /**
+   * Prints a JSON object whose fields are written by {@code fieldsWriter}. The attributes of all
+   * targets can take much more memory than the targets themselves, so writers look them up and
+   * write them one target at a time instead of collecting them first.
+   */
+  private static void printJsonObject(
+      PrintStream stdOut, ThrowingConsumer<JsonGenerator, IOException> fieldsWriter) {
+    try (JsonGenerator generator = ObjectMappers.createGenerator(stdOut)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartObject();
+      fieldsWriter.accept(generator);
+      generator.writeEndObject();
     } catch (IOException e) {
-      // Shouldn't be possible while writing to a StringWriter...
-      throw new RuntimeException(e);
+      throw new HumanReadableException(e, "Failed to write attributes: %s", e.getMessage());
     }
-    String output = stringWriter.getBuffer().toString();
-    outputStream.println(output);
+    stdOut.println();
   }
 
-  private static ImmutableSortedMap<String, SortedMap<String, Object>> collectAttributes(
-      CommandRunnerParams params,
-      BuckQueryEnvironment env,
-      Set<QueryTarget> queryResult,
-      ImmutableSet<String> attrs)
-      throws QueryException {
-    PatternsMatcher patternsMatcher = new PatternsMatcher(attrs);
-    // use HashMap instead of ImmutableSortedMap.Builder to allow duplicates
+  private static SortedMap<String, TargetNode<?>> getNodesByPresentationForm(
+      BuckQueryEnvironment env, Set<QueryTarget> queryResult) throws QueryException {
     // TODO(buckteam): figure out if duplicates should actually be allowed. It seems like the only
     // reason why duplicates may occur is because TargetNode's unflavored name is used as a key,
     // which may or may not be a good idea
-    Map<String, SortedMap<String, Object>> attributesMap = new HashMap<>();
+    SortedMap<String, TargetNode<?>> nodes = new TreeMap<>();
     for (QueryTarget target : queryResult) {
       if (!(target instanceof QueryBuildTarget)) {
         continue;
       }
       TargetNode<?> node = env.getNode(target);
-      try {
-        Optional<SortedMap<String, Object>> attributes =
-            getAttributes(params, env, patternsMatcher, node);
-        if (!attributes.isPresent()) {
-          continue;
-        }
-
-        attributesMap.put(toPresentationForm(node), attributes.get());
-      } catch (BuildFileParseException e) {
-        params
-            .getConsole()
-            .printErrorText(
-                "unable to find rule for target " + node.getBuildTarget().getFullyQualifiedName());
-      }
+      nodes.put(toPresentationForm(node), node);
     }
-    return ImmutableSortedMap.copyOf(attributesMap);
+    return nodes;
   }
 
   private static Optional<SortedMap<String, Object>> getAttributes(
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.graph.MutableDirectedGraph;
+import com.facebook.buck.query.QueryBuildTarget;
+import com.facebook.buck.query.QueryTarget;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import javax.annotation.Nullable;
+
+/**
+ * Snapshot of the target graph of a {@link BuckQueryEnvironment} that assigns dense ids to nodes,
+ * so that traversals can use arrays and bitsets instead of hashing {@link QueryTarget}s and
+ * traverse each level of a breadth first search in parallel.
+ *
+ * <p>Ids are assigned in the natural order of the {@link QueryTarget}s, so sorting the ids of a
+ * node's dependencies also sorts them the way {@link BuckQueryEnvironment} returns them. This lets
+ * traversals produce their results in the same order as serial traversals that visit dependencies
+ * in that order.
+ */
+class TargetGraphQueryIndex {
+
+  /** Frontiers smaller than this are not worth splitting between threads. */
+  private static final int PARALLEL_THRESHOLD = 256;
+
+  private final Map<BuildTarget, Integer> ids;
+  private final QueryTarget[] targets;
+  private final int[][] fwdDeps;
+  private final int[][] reverseDeps;
+
+  private TargetGraphQueryIndex(
+      Map<BuildTarget, Integer> ids,
+      QueryTarget[] targets,
+      int[][] fwdDeps,
+      int[][] reverseDeps) {
+    this.ids = ids;
+    this.targets = targets;
+    this.fwdDeps = fwdDeps;
+    this.reverseDeps = reverseDeps;
+  }
+
+  /**
+   * @param graph the graph to index, which must not be modified while the index is created
+   * @param queryTargetFactory returns the {@link QueryTarget} of a node's build target
+   */
+  static TargetGraphQueryIndex of(
+      MutableDirectedGraph<TargetNode<?>> graph,
+      Function<BuildTarget, QueryTarget> queryTargetFactory) {
+    List<TargetNode<?>> nodes = new ArrayList<>(graph.getNodes());
+    QueryTarget[] targets = new QueryTarget[nodes.size()];
+    Map<TargetNode<?>, QueryTarget> nodeTargets = new HashMap<>();
+    for (TargetNode<?> node : nodes) {
+      nodeTargets.put(node, queryTargetFactory.apply(node.getBuildTarget()));
+    }
+    nodes.sort(Comparator.comparing(nodeTargets::get));
+
+    Map<TargetNode<?>, Integer> nodeIds = new HashMap<>();
+    Map<BuildTarget, Integer> ids = new HashMap<>();
+    for (int id = 0; id < nodes.size(); id++) {
+      TargetNode<?> node = nodes.get(id);
+      targets[id] = nodeTargets.get(node);
+      nodeIds.put(node, id);
+      ids.put(node.getBuildTarget(), id);
+    }
+
+    int[][] fwdDeps = new int[nodes.size()][];
+    parallelRange(nodes.size())
+        .forEach(
+            id -> {
+              int[] deps = new int[0];
+              int size = 0;
+              for (TargetNode<?> dep : graph.getOutgoingNodesFor(nodes.get(id))) {
+                if (size == deps.length) {
+                  deps = Arrays.copyOf(deps, Math.max(4, size * 2));
+                }
+                deps[size++] = nodeIds.get(dep);
+              }
+              deps = Arrays.copyOf(deps, size);
+              Arrays.sort(deps);
+              fwdDeps[id] = deps;
+            });
+
+    // Visiting sources in increasing order of their ids keeps the reverse dependencies sorted.
+    int[] reverseDepCounts = new int[nodes.size()];
+    for (int[] deps : fwdDeps) {
+      for (int dep : deps) {
+        reverseDepCounts[dep]++;
+      }
+    }
+    int[][] reverseDeps = new int[nodes.size()][];
+    for (int id = 0; id < nodes.size(); id++) {
+      reverseDeps[id] = new int[reverseDepCounts[id]];
+      reverseDepCounts[id] = 0;
+    }
+    for (int id = 0; id < nodes.size(); id++) {
+      for (int dep : fwdDeps[id]) {
+        reverseDeps[dep][reverseDepCounts[dep]++] = id;
+      }
+    }
+
+    return new TargetGraphQueryIndex(ids, targets, fwdDeps, reverseDeps);
+  }
+
+  /**
+   * @return the ids of {@code queryTargets} in iteration order, or an empty optional if any of them
+   *     is not part of the indexed graph.
+   */
+  Optional<int[]> getIds(Iterable<QueryTarget> queryTargets) {
+    int[] result = getIdsOfIndexedTargets(queryTargets);
+    return result.length == Iterables.size(queryTargets) ? Optional.of(result) : Optional.empty();
+  }
+
+  /** @return the ids of those of {@code queryTargets} that are part of the indexed graph. */
+  int[] getIdsOfIndexedTargets(Iterable<QueryTarget> queryTargets) {
+    IntStream.Builder result = IntStream.builder();
+    for (QueryTarget target : queryTargets) {
+      if (target instanceof QueryBuildTarget) {
+        @Nullable Integer id = ids.get(((QueryBuildTarget) target).getBuildTarget());
+        if (id != null) {
+          result.add(id);
+        }
+      }
+    }
+    return result.build().toArray();
+  }
+
+  /**
+   * @return a bitset of the ids of all nodes that are reachable from {@code roots}, including the
+   *     roots themselves.
+   */
+  AtomicLongArray getTransitiveClosure(int[] roots) {
+    AtomicLongArray visited = newBitSet();
+    int[] frontier = Arrays.stream(roots).filter(id -> testAndSet(visited, id)).toArray();
+    while (frontier.length > 0) {
+      int[] current = frontier;
+      frontier =
+          parallelRange(current.length)
+              .flatMap(
+                  index ->
+                      Arrays.stream(fwdDeps[current[index]])
+                          .filter(dep -> testAndSet(visited, dep)))
+              .toArray();
+    }
+    return visited;
+  }
+
+  /** @see #breadthFirstSearch(int[], int[][], int, AtomicLongArray) */
+  ImmutableSet<QueryTarget> getTransitiveFwdDeps(int[] roots, int maxDepth) {
+    return breadthFirstSearch(roots, fwdDeps, maxDepth, null);
+  }
+
+  /** @see #breadthFirstSearch(int[], int[][], int, AtomicLongArray) */
+  ImmutableSet<QueryTarget> getTransitiveReverseDeps(
+      int[] roots, int maxDepth, AtomicLongArray universe) {
+    return breadthFirstSearch(roots, reverseDeps, maxDepth, universe);
+  }
+
+  /**
+   * Breadth first search that visits the nodes of each level in parallel.
+   *
+   * <p>The result is ordered as if the levels were visited serially: each level lists the
+   * previously unvisited dependencies of the previous level's nodes in order of first appearance.
+   * Nodes claim the minimum position (index in the previous level, index in its dependencies) at
+   * which they appear, and only the position that holds the claim adds a node to the next level.
+   *
+   * @param roots the first level of the search
+   * @param edges dependencies of each node to follow
+   * @param maxDepth the maximum number of levels to visit after the first one
+   * @param universe if present, a bitset of the only nodes that may be visited
+   */
+  private ImmutableSet<QueryTarget> breadthFirstSearch(
+      int[] roots, int[][] edges, int maxDepth, @Nullable AtomicLongArray universe) {
+    AtomicLongArray visited = newBitSet();
+    ImmutableSet.Builder<QueryTarget> result = ImmutableSet.builder();
+    int[] frontier =
+        Arrays.stream(roots)
+            .filter(id -> (universe == null || isSet(universe, id)) && testAndSet(visited, id))
+            .toArray();
+    Arrays.stream(frontier).forEach(id -> result.add(targets[id]));
+
+    AtomicLongArray claims = new AtomicLongArray(targets.length);
+    for (int depth = 0; depth < maxDepth && frontier.length > 0; depth++) {
+      int[] current = frontier;
+      parallelRange(current.length)
+          .forEach(
+              index -> {
+                int[] deps = edges[current[index]];
+                for (int depIndex = 0; depIndex < deps.length; depIndex++) {
+                  int dep = deps[depIndex];
+                  if (!isSet(visited, dep) && (universe == null || isSet(universe, dep))) {
+                    long position = getPosition(index, depIndex);
+                    long claim = claims.get(dep);
+                    while ((claim == 0 || position < claim)
+                        && !claims.compareAndSet(dep, claim, position)) {
+                      claim = claims.get(dep);
+                    }
+                  }
+                }
+              });
+      frontier =
+          parallelRange(current.length)
+              .flatMap(
+                  index -> {
+                    int[] deps = edges[current[index]];
+                    return IntStream.range(0, deps.length)
+                        .filter(
+                            depIndex -> claims.get(deps[depIndex]) == getPosition(index, depIndex))
+                        .map(depIndex -> deps[depIndex]);
+                  })
+              .toArray();
+      for (int id : frontier) {
+        testAndSet(visited, id);
+        result.add(targets[id]);
+      }
+    }
+    return result.build();
+  }
+
+  /** Positions are stored off by one, so that 0 means that a node is unclaimed. */
+  private static long getPosition(int index, int depIndex) {
+    return ((long) index << 32 | depIndex) + 1;
+  }
+
+  private AtomicLongArray newBitSet() {
+    return new AtomicLongArray((targets.length + 63) / 64);
+  }
+
+  private static boolean isSet(AtomicLongArray bitSet, int id) {
+    return (bitSet.get(id >>> 6) & (1L << id)) != 0;
+  }
+
+  /** @return whether the bit was newly set. */
+  private static boolean testAndSet(AtomicLongArray bitSet, int id) {
+    long mask = 1L << id;
+    while (true) {
+      long word = bitSet.get(id >>> 6);
+      if ((word & mask) != 0) {
+        return false;
+      }
+      if (bitSet.compareAndSet(id >>> 6, word, word | mask)) {
+        return true;
+      }
+    }
+  }
+
+  private static IntStream parallelRange(int size) {
+    IntStream range = IntStream.range(0, size);
+    return size >= PARALLEL_THRESHOLD ? range.parallel() : range;
+  }
+}
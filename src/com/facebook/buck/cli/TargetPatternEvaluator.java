@@ -22,6 +22,7 @@ import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.sourcepath.PathSourcePath;
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.parser.BuildFileSpec;
 import com.facebook.buck.parser.BuildTargetPatternTargetNodeParser;
 import com.facebook.buck.parser.Parser;
 import com.facebook.buck.parser.ParserConfig;
@@ -43,8 +44,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class TargetPatternEvaluator {
   private static final Logger LOG = Logger.get(TargetPatternEvaluator.class);
@@ -59,6 +62,9 @@ public class TargetPatternEvaluator {
 
   private Map<String, ImmutableSet<QueryTarget>> resolvedTargets = new HashMap<>();
 
+  // Absolute paths of the build files and directories that were searched to resolve patterns.
+  private final Set<Path> resolvedBuildFileSpecPaths = new HashSet<>();
+
   public TargetPatternEvaluator(
       Cell rootCell,
       BuckConfig buckConfig,
@@ -126,6 +132,14 @@ public class TargetPatternEvaluator {
     return resolved.build();
   }
 
+  /**
+   * @return absolute paths of the build files searched to resolve target patterns so far, and of
+   *     the directories searched for build files to resolve recursive target patterns.
+   */
+  ImmutableSet<Path> getResolvedBuildFileSpecPaths() {
+    return ImmutableSet.copyOf(resolvedBuildFileSpecPaths);
+  }
+
   ImmutableSet<QueryTarget> resolveFilePattern(String pattern) throws IOException {
     ImmutableSet<Path> filePaths =
         PathArguments.getCanonicalFilesUnderProjectRoot(projectRoot, ImmutableList.of(pattern))
@@ -148,6 +162,14 @@ public class TargetPatternEvaluator {
     for (String pattern : patterns) {
       specs.addAll(targetNodeSpecParser.parse(rootCell.getCellPathResolver(), pattern));
     }
+    for (TargetNodeSpec spec : specs) {
+      BuildFileSpec buildFileSpec = spec.getBuildFileSpec();
+      Path basePath = buildFileSpec.getCellPath().resolve(buildFileSpec.getBasePath());
+      resolvedBuildFileSpecPaths.add(
+          buildFileSpec.isRecursive()
+              ? basePath
+              : basePath.resolve(rootCell.getCell(buildFileSpec.getCellPath()).getBuildFileName()));
+    }
     ImmutableList<ImmutableSet<BuildTarget>> buildTargets =
         parser.resolveTargetSpecs(
             rootCell,
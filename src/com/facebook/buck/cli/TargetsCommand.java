@@ -146,6 +146,13 @@ public class TargetsCommand extends AbstractCommand {
   @Option(name = "--json", usage = "Print JSON representation of each target")
   private boolean json;
 
+  @Option(
+      name = "--json-lines",
+      usage =
+          "Print JSON representation of each target on a separate line instead of as elements of "
+              + "a single list, so that the output can be consumed while it is written")
+  private boolean jsonLines;
+
   @Option(
       name = "--dot",
       usage =
@@ -275,7 +282,7 @@ public class TargetsCommand extends AbstractCommand {
    * consistent with the query command.
    */
   public boolean shouldUseJsonFormat() {
-    return json || !outputAttributes.get().isEmpty();
+    return json || jsonLines || !outputAttributes.get().isEmpty();
   }
 
   /**
@@ -830,7 +837,9 @@ public class TargetsCommand extends AbstractCommand {
     PatternsMatcher attributesPatternsMatcher = new PatternsMatcher(outputAttributes);
 
     // Print the JSON representation of the build node for the specified target(s).
-    params.getConsole().getStdOut().println("[");
+    if (!jsonLines) {
+      params.getConsole().getStdOut().println("[");
+    }
 
     Iterator<TargetNode<?>> targetNodeIterator = targetNodes.iterator();
 
@@ -902,8 +911,7 @@ public class TargetsCommand extends AbstractCommand {
         // Print the build rule information as JSON.
         StringWriter stringWriter = new StringWriter();
         try {
-          ObjectMappers.WRITER
-              .withDefaultPrettyPrinter()
+          (jsonLines ? ObjectMappers.WRITER : ObjectMappers.WRITER.withDefaultPrettyPrinter())
               .writeValue(
                   stringWriter,
                   attributesPatternsMatcher.filterMatchingMapKeys(targetNodeAttributes));
@@ -912,14 +920,16 @@ public class TargetsCommand extends AbstractCommand {
           throw new RuntimeException(e);
         }
         params.getConsole().getStdOut().print(stringWriter.getBuffer().toString());
-        if (targetNodeIterator.hasNext()) {
+        if (!jsonLines && targetNodeIterator.hasNext()) {
           params.getConsole().getStdOut().print(',');
         }
         params.getConsole().getStdOut().println();
       }
     }
 
-    params.getConsole().getStdOut().println("]");
+    if (!jsonLines) {
+      params.getConsole().getStdOut().println("]");
+    }
   }
 
   @VisibleForTesting
@@ -1217,15 +1227,25 @@ public class TargetsCommand extends AbstractCommand {
 
     FileHashLoader fileHashLoader = createOrGetFileHashLoader(params);
 
-    // Hash each target's rule description and contents of any files.
-    ImmutableMap<BuildTarget, HashCode> buildTargetHashes =
-        new TargetGraphHashing(
+    // Hash each target's rule description and contents of any files. Only content hashes computed
+    // with the daemon's file hash cache can be kept for later commands.
+    TargetGraphHashing targetGraphHashing =
+        targetHashFileMode == TargetHashFileMode.PATHS_AND_CONTENTS
+            ? new TargetGraphHashing(
+                params.getBuckEventBus(),
+                targetGraphWithTests,
+                fileHashLoader,
+                targetGraphAndNodesWithTests.getSecond(),
+                executor,
+                new DaemonicNodeContentHashCache(
+                    params.getParser().getPermState(), params.getCell()))
+            : new TargetGraphHashing(
                 params.getBuckEventBus(),
                 targetGraphWithTests,
                 fileHashLoader,
                 targetGraphAndNodesWithTests.getSecond(),
-                executor)
-            .hashTargetGraph();
+                executor);
+    ImmutableMap<BuildTarget, HashCode> buildTargetHashes = targetGraphHashing.hashTargetGraph();
 
     ImmutableMap<BuildTarget, HashCode> finalHashes =
         rehashWithTestsIfNeeded(
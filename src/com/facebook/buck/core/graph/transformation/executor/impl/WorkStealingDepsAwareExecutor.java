@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.graph.transformation.executor.impl;
+
+import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
+import com.facebook.buck.util.function.ThrowingSupplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DepsAwareExecutor} that never parks or spins a thread on pending dependencies.
+ *
+ * <p>Each submitted task first discovers its dependencies and schedules them, then registers a
+ * continuation on each of them. The thread completing the last dependency forks the task, so no
+ * thread is occupied by a task that is waiting. Work is forked onto the deque of the current worker
+ * of the backing {@link ForkJoinPool}, which keeps dependency chains local to a worker while idle
+ * workers steal from others. Continuations only fork work instead of running it, so the stack
+ * depth stays bounded regardless of the depth of the graph.
+ *
+ * <p>Since no thread is held by pending tasks, a pool with a parallelism equal to the number of
+ * cores is sufficient to saturate them, and the pool threads are free to run other work whenever
+ * this executor is idle.
+ */
+public class WorkStealingDepsAwareExecutor<T>
+    implements DepsAwareExecutor<T, WorkStealingDepsAwareTask<T>> {
+
+  private final ForkJoinPool pool;
+  private volatile boolean isShutdown = false;
+
+  private WorkStealingDepsAwareExecutor(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /** Creates a {@link WorkStealingDepsAwareExecutor} running its tasks in the given pool. */
+  public static <U> WorkStealingDepsAwareExecutor<U> from(ForkJoinPool pool) {
+    return new WorkStealingDepsAwareExecutor<>(pool);
+  }
+
+  @Override
+  public void shutdownNow() {
+    isShutdown = true;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return isShutdown;
+  }
+
+  @Override
+  public WorkStealingDepsAwareTask<T> createTask(
+      Callable<T> callable, Supplier<ImmutableSet<WorkStealingDepsAwareTask<T>>> depsSupplier) {
+    return WorkStealingDepsAwareTask.of(callable, depsSupplier);
+  }
+
+  @Override
+  public WorkStealingDepsAwareTask<T> createTask(
+      Callable<T> callable,
+      ThrowingSupplier<ImmutableSet<WorkStealingDepsAwareTask<T>>, Exception> depsSupplier) {
+    return WorkStealingDepsAwareTask.ofThrowing(callable, depsSupplier);
+  }
+
+  @Override
+  public WorkStealingDepsAwareTask<T> createTask(Callable<T> callable) {
+    return WorkStealingDepsAwareTask.of(callable);
+  }
+
+  @Override
+  public Future<T> submit(WorkStealingDepsAwareTask<T> task) {
+    if (isShutdown) {
+      throw new RejectedExecutionException("Executor has already been shutdown");
+    }
+    schedule(task);
+    return task.getResultFuture();
+  }
+
+  @Override
+  public ImmutableList<Future<T>> submitAll(Collection<WorkStealingDepsAwareTask<T>> tasks) {
+    ImmutableList.Builder<Future<T>> futures = ImmutableList.builderWithExpectedSize(tasks.size());
+    for (WorkStealingDepsAwareTask<T> task : tasks) {
+      futures.add(submit(task));
+    }
+    return futures.build();
+  }
+
+  private void schedule(WorkStealingDepsAwareTask<?> task) {
+    if (task.markScheduled()) {
+      fork(() -> discoverDeps(task));
+    }
+  }
+
+  private <U> void discoverDeps(WorkStealingDepsAwareTask<U> task) {
+    if (isShutdown) {
+      return;
+    }
+
+    ImmutableSet<WorkStealingDepsAwareTask<U>> deps;
+    try {
+      deps = task.getDependencies();
+    } catch (Throwable e) {
+      task.getFuture().completeExceptionally(e);
+      return;
+    }
+
+    // One extra pending completion keeps the task from running before all continuations are
+    // registered.
+    task.setPendingDeps(deps.size() + 1);
+    for (WorkStealingDepsAwareTask<U> dep : deps) {
+      schedule(dep);
+      dep.getFuture().whenComplete((ignored, throwable) -> onDepCompleted(task, throwable));
+    }
+    onDepCompleted(task, null);
+  }
+
+  private void onDepCompleted(WorkStealingDepsAwareTask<?> task, @Nullable Throwable throwable) {
+    if (throwable != null) {
+      task.getFuture()
+          .completeExceptionally(
+              throwable instanceof CompletionException && throwable.getCause() != null
+                  ? throwable.getCause()
+                  : throwable);
+    }
+    if (task.completePendingDep() && !task.getFuture().isDone()) {
+      fork(() -> run(task));
+    }
+  }
+
+  private void run(WorkStealingDepsAwareTask<?> task) {
+    if (isShutdown) {
+      return;
+    }
+    task.call();
+  }
+
+  private void fork(Runnable work) {
+    ForkJoinTask<?> task = ForkJoinTask.adapt(work);
+    if (ForkJoinTask.getPool() == pool) {
+      task.fork();
+    } else {
+      pool.execute(task);
+    }
+  }
+}
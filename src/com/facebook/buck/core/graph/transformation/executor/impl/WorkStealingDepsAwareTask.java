@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.graph.transformation.executor.impl;
+
+import com.facebook.buck.core.graph.transformation.executor.DepsAwareTask;
+import com.facebook.buck.util.function.ThrowingSupplier;
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Task to be ran in {@link WorkStealingDepsAwareExecutor}.
+ *
+ * <p>Instead of being re-queued until its dependencies are done, this task counts its pending
+ * dependencies and is scheduled by whichever thread completes the last of them.
+ */
+class WorkStealingDepsAwareTask<T> extends DepsAwareTask<T, WorkStealingDepsAwareTask<T>> {
+
+  private final AtomicBoolean scheduled = new AtomicBoolean(false);
+  private final AtomicInteger pendingDeps = new AtomicInteger();
+
+  private WorkStealingDepsAwareTask(
+      Callable<T> callable,
+      ThrowingSupplier<ImmutableSet<WorkStealingDepsAwareTask<T>>, Exception> depsSupplier) {
+    super(callable, depsSupplier);
+  }
+
+  /** @return a new Task to be ran without any dependencies */
+  static <U> WorkStealingDepsAwareTask<U> of(Callable<U> callable) {
+    return of(callable, () -> ImmutableSet.of());
+  }
+
+  /** @return a new Task to be ran */
+  static <U> WorkStealingDepsAwareTask<U> of(
+      Callable<U> callable, Supplier<ImmutableSet<WorkStealingDepsAwareTask<U>>> depsSupplier) {
+    return ofThrowing(callable, ThrowingSupplier.fromSupplier(depsSupplier));
+  }
+
+  /**
+   * constructs a task from a callable with the specified dependencies, where dependency discovery
+   * could throw
+   */
+  static <U> WorkStealingDepsAwareTask<U> ofThrowing(
+      Callable<U> callable,
+      ThrowingSupplier<ImmutableSet<WorkStealingDepsAwareTask<U>>, Exception> depsSupplier) {
+    return new WorkStealingDepsAwareTask<>(callable, depsSupplier);
+  }
+
+  ImmutableSet<WorkStealingDepsAwareTask<T>> getDependencies() throws Exception {
+    return getDepsSupplier().get();
+  }
+
+  /** @return true iff this call is the first one, and the caller is responsible for scheduling */
+  boolean markScheduled() {
+    return scheduled.compareAndSet(false, true);
+  }
+
+  /**
+   * Sets the number of completions to wait for before this task can run. It has to be set before
+   * any of them can be reported.
+   */
+  void setPendingDeps(int count) {
+    pendingDeps.set(count);
+  }
+
+  /** @return true iff this was the last pending completion, so the task is ready to run */
+  boolean completePendingDep() {
+    return pendingDeps.decrementAndGet() == 0;
+  }
+
+  void call() {
+    try {
+      result.complete(getCallable().call());
+    } catch (Throwable e) {
+      // Errors have to complete the future as well, or the tasks depending on it never run.
+      result.completeExceptionally(e);
+    }
+  }
+
+  CompletableFuture<T> getFuture() {
+    return result;
+  }
+}
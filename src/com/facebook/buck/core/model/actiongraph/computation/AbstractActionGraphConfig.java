@@ -45,6 +45,17 @@ public abstract class AbstractActionGraphConfig implements ConfigView<BuckConfig
             "cache", "incremental_action_graph_experiment", IncrementalActionGraphMode.class);
   }
 
+  /**
+   * @return the maximum number of build rules kept from previous action graphs for incremental
+   *     action graph generation.
+   */
+  @Value.Derived
+  public long getMaxPooledBuildRules() {
+    return getDelegate()
+        .getLong("cache", "incremental_action_graph_max_pooled_rules")
+        .orElse(IncrementalActionGraphGenerator.DEFAULT_MAX_POOLED_RULES);
+  }
+
   /** Whether to parallelize action graph creation. */
   @Value.Derived
   public ActionGraphParallelizationMode getActionGraphParallelizationMode() {
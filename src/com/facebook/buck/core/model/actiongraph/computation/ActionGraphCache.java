@@ -30,8 +30,17 @@ public class ActionGraphCache {
   private final IncrementalActionGraphGenerator incrementalActionGraphGenerator;
 
   public ActionGraphCache(int maxEntries) {
+    this(maxEntries, IncrementalActionGraphGenerator.DEFAULT_MAX_POOLED_RULES);
+  }
+
+  /**
+   * @param maxEntries the maximum number of action graphs to keep.
+   * @param maxPooledRules the maximum number of build rules kept for incremental action graph
+   *     generation.
+   */
+  public ActionGraphCache(int maxEntries, long maxPooledRules) {
     previousActionGraphs = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
-    incrementalActionGraphGenerator = new IncrementalActionGraphGenerator();
+    incrementalActionGraphGenerator = new IncrementalActionGraphGenerator(maxPooledRules);
   }
 
   public void invalidateCache() {
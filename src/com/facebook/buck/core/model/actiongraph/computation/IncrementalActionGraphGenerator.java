@@ -31,45 +31,89 @@ import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.ActionGraphEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import javax.annotation.Nullable;
 
 /**
- * Provides a way to incrementally construct a new {@link ActionGraphBuilder} from a previous one.
+ * Provides a way to incrementally construct a new {@link ActionGraphBuilder} from previous ones.
  *
- * <p>This works by grabbing all the build rules from the previous {@link ActionGraphBuilder} with
- * unflavored targets that were not invalidated when doing a target graph walk to check for changes.
+ * <p>This works by keeping a pool of the build rules created for previous action graphs, grouped
+ * by their unflavored targets, and grabbing all the pooled rules with unflavored targets that were
+ * not invalidated when doing a target graph walk to check for changes. Since the pool is not tied
+ * to a single previous graph, alternating between builds of different parts of the target graph
+ * does not discard the rules of the part that is not currently being built.
+ *
+ * <p>The pool is bounded by the number of rules it holds, which is used as an estimate of its
+ * retained size. Least recently used rules are evicted first, but rules of the last action graph
+ * are always kept. Whenever pooled rules are evicted or replaced, all pooled rules that depend on
+ * them are evicted as well, since they reference the rules being dropped.
  */
 public class IncrementalActionGraphGenerator {
   private static final Logger LOG = Logger.get(IncrementalActionGraphGenerator.class);
 
+  /** The default maximum number of build rules kept for reuse by later action graphs. */
+  public static final long DEFAULT_MAX_POOLED_RULES = 250_000;
+
+  private final long maxPooledRules;
+
+  /** Pooled rules by their unflavored target, in least recently used order. */
+  private final LinkedHashMap<UnflavoredBuildTarget, PooledRules> rulePool =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  /** Unflavored targets of pooled rules that depend on a given unflavored target. */
+  private final Map<UnflavoredBuildTarget, Set<UnflavoredBuildTarget>> pooledDependents =
+      new HashMap<>();
+
+  private long pooledRuleCount = 0;
+
   @Nullable private ActionGraphBuilder lastActionGraphBuilder;
   @Nullable private TargetGraph lastTargetGraph;
+  private Set<UnflavoredBuildTarget> lastReusedUnflavoredTargets = ImmutableSet.of();
+
+  public IncrementalActionGraphGenerator() {
+    this(DEFAULT_MAX_POOLED_RULES);
+  }
+
+  public IncrementalActionGraphGenerator(long maxPooledRules) {
+    this.maxPooledRules = maxPooledRules;
+  }
 
   /**
-   * Populates the given {@link ActionGraphBuilder} with the rules from the previously used {@link
-   * ActionGraphBuilder} that are deemed usable after checking for invalidations with a target graph
-   * walk.
+   * Populates the given {@link ActionGraphBuilder} with the rules from previously used {@link
+   * ActionGraphBuilder}s that are deemed usable after checking for invalidations with a target
+   * graph walk.
    */
   public void populateActionGraphBuilderWithCachedRules(
       BuckEventBus eventBus, TargetGraph targetGraph, ActionGraphBuilder graphBuilder) {
-    int reusedRuleCount = 0;
     if (lastActionGraphBuilder != null) {
-      Objects.requireNonNull(lastTargetGraph);
+      addLastActionGraphRulesToPool();
+    }
 
+    long availableRuleCount = pooledRuleCount;
+    int reusedRuleCount = 0;
+    Set<UnflavoredBuildTarget> reusedUnflavoredTargets = new HashSet<>();
+    if (!rulePool.isEmpty()) {
       // We first walk the new target graph to find new nodes. A new node will invalidate all nodes
       // with the same unflavored target.
       Set<UnflavoredBuildTarget> unflavoredTargetsForNewNodes =
           findUnflavoredTargetsForNewNodes(targetGraph);
 
-      // We figure out which build rules we can reuse from the last action graph by performing an
-      // invalidation walk over the new target graph.
+      // We figure out which pooled build rules we can reuse by performing an invalidation walk
+      // over the new target graph.
       Set<UnflavoredBuildTarget> invalidUnflavoredTargets = new HashSet<>();
       Set<UnflavoredBuildTarget> allUnflavoredTargetsInNewGraph = new HashSet<>();
       invalidateChangedTargets(
@@ -78,12 +122,17 @@ public class IncrementalActionGraphGenerator {
           invalidUnflavoredTargets,
           unflavoredTargetsForNewNodes);
 
-      // Now we can load in all build rules whose unflavored targets weren't invalidated for
+      // Now we can load in all pooled build rules whose unflavored targets weren't invalidated for
       // incremental action graph generation.
       reusedRuleCount =
           addValidRulesToActionGraphBuilder(
-              graphBuilder, allUnflavoredTargetsInNewGraph, invalidUnflavoredTargets);
+              graphBuilder,
+              allUnflavoredTargetsInNewGraph,
+              invalidUnflavoredTargets,
+              reusedUnflavoredTargets);
+    }
 
+    if (lastActionGraphBuilder != null) {
       // Invalidate the previous {@see ActionGraphBuilder}, which we no longer need, to make sure
       // nobody unexpectedly accesses it after this point.
       lastActionGraphBuilder.invalidate();
@@ -91,7 +140,118 @@ public class IncrementalActionGraphGenerator {
 
     lastTargetGraph = targetGraph;
     lastActionGraphBuilder = graphBuilder;
-    eventBus.post(new ActionGraphEvent.IncrementalLoad(reusedRuleCount));
+    lastReusedUnflavoredTargets = reusedUnflavoredTargets;
+    eventBus.post(new ActionGraphEvent.IncrementalLoad(reusedRuleCount, availableRuleCount));
+  }
+
+  /**
+   * Moves the rules of the last action graph into the pool, replacing the pooled rules of all
+   * unflavored targets that had to be recreated for it.
+   */
+  private void addLastActionGraphRulesToPool() {
+    Objects.requireNonNull(lastTargetGraph);
+
+    Map<UnflavoredBuildTarget, Map<BuildTarget, TargetNode<?>>> nodesByUnflavoredTarget =
+        new HashMap<>();
+    for (TargetNode<?> node : lastTargetGraph.getNodes()) {
+      nodesByUnflavoredTarget
+          .computeIfAbsent(
+              node.getBuildTarget().getUnflavoredBuildTarget(), target -> new HashMap<>())
+          .put(node.getBuildTarget(), node);
+    }
+    Map<UnflavoredBuildTarget, List<BuildRule>> rulesByUnflavoredTarget = new HashMap<>();
+    for (BuildRule buildRule : lastActionGraphBuilder.getBuildRules()) {
+      UnflavoredBuildTarget unflavoredTarget =
+          buildRule.getBuildTarget().getUnflavoredBuildTarget();
+      // Rules without a node in the graph can never be validated by a target graph walk.
+      if (nodesByUnflavoredTarget.containsKey(unflavoredTarget)) {
+        rulesByUnflavoredTarget
+            .computeIfAbsent(unflavoredTarget, target -> new ArrayList<>())
+            .add(buildRule);
+      }
+    }
+
+    // Drop everything that was created anew, along with all pooled rules that were created on top
+    // of the dropped rules, before adding the new rules so that none of them gets dropped.
+    for (UnflavoredBuildTarget unflavoredTarget : nodesByUnflavoredTarget.keySet()) {
+      if (!lastReusedUnflavoredTargets.contains(unflavoredTarget)) {
+        evictFromPool(unflavoredTarget);
+      }
+    }
+    for (Map.Entry<UnflavoredBuildTarget, List<BuildRule>> entry :
+        rulesByUnflavoredTarget.entrySet()) {
+      Map<BuildTarget, TargetNode<?>> nodes = nodesByUnflavoredTarget.get(entry.getKey());
+      ImmutableSet.Builder<UnflavoredBuildTarget> deps = ImmutableSet.builder();
+      for (TargetNode<?> node : nodes.values()) {
+        for (TargetNode<?> dep : lastTargetGraph.getOutgoingNodesFor(node)) {
+          deps.add(dep.getBuildTarget().getUnflavoredBuildTarget());
+        }
+      }
+      addToPool(
+          entry.getKey(),
+          new PooledRules(
+              ImmutableMap.copyOf(nodes), deps.build(), ImmutableList.copyOf(entry.getValue())));
+    }
+
+    // Rules of the last action graph were added last, so they are the last to be evicted.
+    Iterator<Map.Entry<UnflavoredBuildTarget, PooledRules>> leastRecentlyUsed =
+        rulePool.entrySet().iterator();
+    while (pooledRuleCount > maxPooledRules && leastRecentlyUsed.hasNext()) {
+      UnflavoredBuildTarget unflavoredTarget = leastRecentlyUsed.next().getKey();
+      if (rulesByUnflavoredTarget.containsKey(unflavoredTarget)) {
+        break;
+      }
+      evictFromPool(unflavoredTarget);
+      leastRecentlyUsed = rulePool.entrySet().iterator();
+    }
+    LOG.debug("pooled %d build rules for %d targets", pooledRuleCount, rulePool.size());
+  }
+
+  private void addToPool(UnflavoredBuildTarget unflavoredTarget, PooledRules pooledRules) {
+    removeFromPool(unflavoredTarget);
+    rulePool.put(unflavoredTarget, pooledRules);
+    pooledRuleCount += pooledRules.getRules().size();
+    for (UnflavoredBuildTarget dep : pooledRules.getDeps()) {
+      pooledDependents.computeIfAbsent(dep, target -> new HashSet<>()).add(unflavoredTarget);
+    }
+  }
+
+  @Nullable
+  private PooledRules removeFromPool(UnflavoredBuildTarget unflavoredTarget) {
+    PooledRules removed = rulePool.remove(unflavoredTarget);
+    if (removed != null) {
+      pooledRuleCount -= removed.getRules().size();
+      for (UnflavoredBuildTarget dep : removed.getDeps()) {
+        Set<UnflavoredBuildTarget> dependents = pooledDependents.get(dep);
+        if (dependents != null) {
+          dependents.remove(unflavoredTarget);
+          if (dependents.isEmpty()) {
+            pooledDependents.remove(dep);
+          }
+        }
+      }
+    }
+    return removed;
+  }
+
+  /** Evicts the rules of the given unflavored target and of all pooled rules depending on them. */
+  private void evictFromPool(UnflavoredBuildTarget unflavoredTarget) {
+    // Dependents are followed even if the target itself is not pooled, since they may have been
+    // created from a different version of its node.
+    Set<UnflavoredBuildTarget> visited = new HashSet<>();
+    Queue<UnflavoredBuildTarget> toEvict = new ArrayDeque<>();
+    toEvict.add(unflavoredTarget);
+    while (!toEvict.isEmpty()) {
+      UnflavoredBuildTarget target = toEvict.remove();
+      if (!visited.add(target)) {
+        continue;
+      }
+      removeFromPool(target);
+      Set<UnflavoredBuildTarget> dependents = pooledDependents.get(target);
+      if (dependents != null) {
+        toEvict.addAll(dependents);
+      }
+    }
   }
 
   private Set<UnflavoredBuildTarget> findUnflavoredTargetsForNewNodes(TargetGraph targetGraph) {
@@ -114,7 +274,7 @@ public class IncrementalActionGraphGenerator {
     }
     explored.add(node.getBuildTarget());
 
-    if (!lastTargetGraph.getExactOptional(node.getBuildTarget()).isPresent()) {
+    if (!getPooledNode(node.getBuildTarget()).isPresent()) {
       unflavoredTargetsForNewNodes.add(node.getBuildTarget().getUnflavoredBuildTarget());
     }
 
@@ -126,16 +286,20 @@ public class IncrementalActionGraphGenerator {
   private int addValidRulesToActionGraphBuilder(
       ActionGraphBuilder graphBuilder,
       Set<UnflavoredBuildTarget> allUnflavoredTargetsInNewGraph,
-      Set<UnflavoredBuildTarget> invalidUnflavoredTargets) {
+      Set<UnflavoredBuildTarget> invalidUnflavoredTargets,
+      Set<UnflavoredBuildTarget> reusedUnflavoredTargets) {
     SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(graphBuilder);
     SourcePathResolver pathResolver = DefaultSourcePathResolver.from(ruleFinder);
-    int totalRuleCount = 0;
     int reusedRuleCount = 0;
-    for (BuildRule buildRule : lastActionGraphBuilder.getBuildRules()) {
-      UnflavoredBuildTarget unflavoredTarget =
-          buildRule.getBuildTarget().getUnflavoredBuildTarget();
-      if (!invalidUnflavoredTargets.contains(unflavoredTarget)
-          && allUnflavoredTargetsInNewGraph.contains(unflavoredTarget)) {
+    for (UnflavoredBuildTarget unflavoredTarget : allUnflavoredTargetsInNewGraph) {
+      if (invalidUnflavoredTargets.contains(unflavoredTarget)) {
+        continue;
+      }
+      PooledRules pooledRules = rulePool.get(unflavoredTarget);
+      if (pooledRules == null) {
+        continue;
+      }
+      for (BuildRule buildRule : pooledRules.getRules()) {
         graphBuilder.addToIndex(buildRule);
 
         // Update build rule resolvers for all reused rules. Build rules may use build rule
@@ -145,10 +309,10 @@ public class IncrementalActionGraphGenerator {
 
         reusedRuleCount++;
       }
-      totalRuleCount++;
+      reusedUnflavoredTargets.add(unflavoredTarget);
     }
 
-    LOG.debug("reused %d of %d build rules", reusedRuleCount, totalRuleCount);
+    LOG.debug("reused %d of %d pooled build rules", reusedRuleCount, pooledRuleCount);
     return reusedRuleCount;
   }
 
@@ -230,27 +394,22 @@ public class IncrementalActionGraphGenerator {
       return true;
     }
 
-    if (lastTargetGraph != null) {
-      Optional<TargetNode<?>> previousTargetNode =
-          lastTargetGraph.getExactOptional(targetNode.getBuildTarget());
-      if (previousTargetNode.isPresent()) {
-        Preconditions.checkState(
-            lastActionGraphBuilder.getRuleOptional(targetNode.getBuildTarget()).isPresent());
-        // If the target node has changed, then invalidate parent chains, as ancestors might
-        // generate their subgraphs differently given the change.
-        if (!targetNode.equals(previousTargetNode.get())) {
-          if (LOG.isVerboseEnabled()) {
-            LOG.verbose(
-                "target %s caused invalidation due to target node change",
-                targetNode.getBuildTarget().toString());
-          }
-          return true;
+    Optional<TargetNode<?>> previousTargetNode = getPooledNode(targetNode.getBuildTarget());
+    if (previousTargetNode.isPresent()) {
+      // If the target node has changed, then invalidate parent chains, as ancestors might
+      // generate their subgraphs differently given the change.
+      if (!targetNode.equals(previousTargetNode.get())) {
+        if (LOG.isVerboseEnabled()) {
+          LOG.verbose(
+              "target %s caused invalidation due to target node change",
+              targetNode.getBuildTarget().toString());
         }
-      } else {
-        Preconditions.checkState(
-            unflavoredTargetsForNewNodes.contains(
-                targetNode.getBuildTarget().getUnflavoredBuildTarget()));
+        return true;
       }
+    } else {
+      Preconditions.checkState(
+          unflavoredTargetsForNewNodes.contains(
+              targetNode.getBuildTarget().getUnflavoredBuildTarget()));
     }
 
     // Incremental caching is only supported for {@link Description}s known to
@@ -269,4 +428,41 @@ public class IncrementalActionGraphGenerator {
     }
     return false;
   }
+
+  /** @return the node that the pooled rules for the given target were created from, if any. */
+  private Optional<TargetNode<?>> getPooledNode(BuildTarget buildTarget) {
+    PooledRules pooledRules = rulePool.get(buildTarget.getUnflavoredBuildTarget());
+    if (pooledRules == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(pooledRules.getNodes().get(buildTarget));
+  }
+
+  /** Build rules sharing an unflavored target, along with the nodes they were created from. */
+  private static class PooledRules {
+    private final ImmutableMap<BuildTarget, TargetNode<?>> nodes;
+    private final ImmutableSet<UnflavoredBuildTarget> deps;
+    private final ImmutableList<BuildRule> rules;
+
+    PooledRules(
+        ImmutableMap<BuildTarget, TargetNode<?>> nodes,
+        ImmutableSet<UnflavoredBuildTarget> deps,
+        ImmutableList<BuildRule> rules) {
+      this.nodes = nodes;
+      this.deps = deps;
+      this.rules = rules;
+    }
+
+    ImmutableMap<BuildTarget, TargetNode<?>> getNodes() {
+      return nodes;
+    }
+
+    ImmutableSet<UnflavoredBuildTarget> getDeps() {
+      return deps;
+    }
+
+    ImmutableList<BuildRule> getRules() {
+      return rules;
+    }
+  }
 }
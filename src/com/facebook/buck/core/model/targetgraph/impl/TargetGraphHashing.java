@@ -39,11 +39,14 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -53,6 +56,10 @@ import java.util.stream.Collectors;
  * <p>A build target's hash code is guaranteed to change if the build target or any of its
  * dependencies change, including the contents of all input files to the target and its
  * dependencies.
+ *
+ * <p>A node's hash combines the hash of its own contents, i.e. its build target, rule and input
+ * files, with the hashes of its dependencies. The former can be memoized by a {@link
+ * NodeContentHashCache} so that it only has to be recomputed for nodes that have changed.
  */
 public class TargetGraphHashing {
 
@@ -63,6 +70,7 @@ public class TargetGraphHashing {
   private final FileHashLoader fileHashLoader;
   private final Iterable<TargetNode<?>> roots;
   private final ListeningExecutorService executor;
+  private final NodeContentHashCache nodeContentHashCache;
 
   public TargetGraphHashing(
       BuckEventBus eventBus,
@@ -70,11 +78,50 @@ public class TargetGraphHashing {
       FileHashLoader fileHashLoader,
       Iterable<TargetNode<?>> roots,
       ListeningExecutorService executor) {
+    this(
+        eventBus,
+        targetGraph,
+        fileHashLoader,
+        roots,
+        executor,
+        new NodeContentHashCache() {
+          @Override
+          public Optional<HashCode> get(TargetNode<?> node) {
+            return Optional.empty();
+          }
+
+          @Override
+          public void put(TargetNode<?> node, HashCode contentHash) {}
+        });
+  }
+
+  /**
+   * @param nodeContentHashCache memoizes content hashes, which must have been computed with a
+   *     {@link FileHashLoader} that is equivalent to {@code fileHashLoader}.
+   */
+  public TargetGraphHashing(
+      BuckEventBus eventBus,
+      TargetGraph targetGraph,
+      FileHashLoader fileHashLoader,
+      Iterable<TargetNode<?>> roots,
+      ListeningExecutorService executor,
+      NodeContentHashCache nodeContentHashCache) {
     this.eventBus = eventBus;
     this.targetGraph = targetGraph;
     this.fileHashLoader = fileHashLoader;
     this.roots = roots;
     this.executor = executor;
+    this.nodeContentHashCache = nodeContentHashCache;
+  }
+
+  /**
+   * Memoizes the hashes of the contents of nodes, i.e. of everything but their dependencies. A hash
+   * has to be dropped once the node's build file or any of its input files change.
+   */
+  public interface NodeContentHashCache {
+    Optional<HashCode> get(TargetNode<?> node);
+
+    void put(TargetNode<?> node, HashCode contentHash);
   }
 
   /**
@@ -93,7 +140,7 @@ public class TargetGraphHashing {
 
   private class Runner {
 
-    private final Map<BuildTarget, ListenableFuture<HashCode>> futures =
+    private final ConcurrentMap<BuildTarget, ListenableFuture<HashCode>> futures =
         new ConcurrentHashMap<>(targetGraph.getSize());
 
     /**
@@ -103,6 +150,17 @@ public class TargetGraphHashing {
      */
     private Hasher startNode(TargetNode<?> node) {
       Hasher hasher = Hashing.sha1().newHasher();
+      Optional<HashCode> contentHash = nodeContentHashCache.get(node);
+      if (!contentHash.isPresent()) {
+        contentHash = Optional.of(hashNodeContents(node));
+        nodeContentHashCache.put(node, contentHash.get());
+      }
+      hasher.putBytes(contentHash.get().asBytes());
+      return hasher;
+    }
+
+    private HashCode hashNodeContents(TargetNode<?> node) {
+      Hasher hasher = Hashing.sha1().newHasher();
 
       // Hash the node's build target and rules.
       LOG.verbose("Hashing node %s", node);
@@ -122,7 +180,7 @@ public class TargetGraphHashing {
         }
       }
 
-      return hasher;
+      return hasher.hash();
     }
 
     /**
@@ -167,21 +225,24 @@ public class TargetGraphHashing {
       // extra parallelism.  The hashers should be relatively small, but it's possible that in
       // some situations, this tradeoff isn't ideal, in which case we could switch to only
       // *starting* to hash a node after it's dependencies have completed.
-      ListenableFuture<HashCode> future = futures.get(node.getBuildTarget());
-      if (future == null) {
-        future =
-            Futures.transformAsync(
-                // Start hashing a node.
-                executor.submit(() -> this.startNode(node)),
-                // Wait for all dependencies to finish hashing.
-                hasher ->
-                    Futures.transform(
-                        getDepPairsFuture(node),
-                        depPairs -> finishNode(node.getBuildTarget(), hasher, depPairs),
-                        MoreExecutors.directExecutor()),
-                executor);
-        futures.put(node.getBuildTarget(), future);
+      // Claim the node before scheduling its hashing, so that a node reached concurrently through
+      // several of its dependents is only hashed once.
+      SettableFuture<HashCode> future = SettableFuture.create();
+      ListenableFuture<HashCode> existing = futures.putIfAbsent(node.getBuildTarget(), future);
+      if (existing != null) {
+        return existing;
       }
+      future.setFuture(
+          Futures.transformAsync(
+              // Start hashing a node.
+              executor.submit(() -> this.startNode(node)),
+              // Wait for all dependencies to finish hashing.
+              hasher ->
+                  Futures.transform(
+                      getDepPairsFuture(node),
+                      depPairs -> finishNode(node.getBuildTarget(), hasher, depPairs),
+                      MoreExecutors.directExecutor()),
+              executor));
       return future;
     }
 
@@ -182,6 +182,10 @@ public class DistBuildConfig {
   private static final String ENABLE_RELEASING_MINIONS_EARLY = "enable_releasing_minions_early";
   private static final boolean DEFAULT_ENABLE_RELEASING_MINIONS_EARLY = true;
 
+  private static final String ENABLE_CACHE_OPTIMIZED_WORK_ALLOCATION =
+      "enable_cache_optimized_work_allocation";
+  private static final boolean DEFAULT_ENABLE_CACHE_OPTIMIZED_WORK_ALLOCATION = false;
+
   /**
    * While the experiments.stampede_beta_test flag is set to true, this flag can be used to
    * configure whether we want auto-stampede conversion for all builds, no builds, or some builds.
@@ -648,4 +652,16 @@ public class DistBuildConfig {
     return buckConfig.getBooleanValue(
         STAMPEDE_SECTION, ENABLE_RELEASING_MINIONS_EARLY, DEFAULT_ENABLE_RELEASING_MINIONS_EARLY);
   }
+
+  /**
+   * @return whether the coordinator should keep chains of dependent targets on the minion that
+   *     built their dependencies, prioritize long dependency chains and hold back work from minions
+   *     with slow heartbeats.
+   */
+  public boolean isCacheOptimizedWorkAllocationEnabled() {
+    return buckConfig.getBooleanValue(
+        STAMPEDE_SECTION,
+        ENABLE_CACHE_OPTIMIZED_WORK_ALLOCATION,
+        DEFAULT_ENABLE_CACHE_OPTIMIZED_WORK_ALLOCATION);
+  }
 }
@@ -25,6 +25,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -127,6 +128,13 @@ public class RemoteExecutionBuildTargetsQueue implements BuildTargetsQueue {
     return newWorkload;
   }
 
+  /** Targets are handed out in the order they were enqueued, so {@code preferredOrder} is unused. */
+  @Override
+  public List<WorkUnit> dequeueZeroDependencyNodes(
+      List<String> finishedNodes, int maxUnitsOfWork, Comparator<String> preferredOrder) {
+    return dequeueZeroDependencyNodes(finishedNodes, maxUnitsOfWork);
+  }
+
   @Override
   public boolean haveMostBuildRulesFinished() {
     return false;
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.distributed.build_slave;
+
+import com.facebook.buck.distributed.build_slave.DistBuildTrace.MinionThread;
+import com.facebook.buck.distributed.build_slave.DistBuildTrace.MinionTrace;
+import com.facebook.buck.distributed.build_slave.DistBuildTrace.RuleTrace;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Predicts how long a target takes to build and how large its outputs are. Used by the {@link
+ * MinionWorkloadAllocator} to start long dependency chains first and to weigh how much data a
+ * minion would have to fetch from the cache to build a target.
+ *
+ * <p>Targets without a recorded value are assumed to cost as much as the median recorded target,
+ * so that new targets are neither favoured nor starved.
+ */
+public class BuildTargetCostEstimator {
+  private final ImmutableMap<String, Long> durationsMillis;
+  private final ImmutableMap<String, Long> outputSizesBytes;
+  private final long defaultDurationMillis;
+  private final long defaultOutputSizeBytes;
+
+  private BuildTargetCostEstimator(
+      ImmutableMap<String, Long> durationsMillis, ImmutableMap<String, Long> outputSizesBytes) {
+    this.durationsMillis = durationsMillis;
+    this.outputSizesBytes = outputSizesBytes;
+    this.defaultDurationMillis = median(durationsMillis);
+    this.defaultOutputSizeBytes = median(outputSizesBytes);
+  }
+
+  /** @return an estimator that treats all targets as equally expensive. */
+  public static BuildTargetCostEstimator uniform() {
+    return of(ImmutableMap.of(), ImmutableMap.of());
+  }
+
+  /** @return an estimator using the given historical durations and output sizes. */
+  public static BuildTargetCostEstimator of(
+      Map<String, Long> durationsMillis, Map<String, Long> outputSizesBytes) {
+    return new BuildTargetCostEstimator(
+        ImmutableMap.copyOf(durationsMillis), ImmutableMap.copyOf(outputSizesBytes));
+  }
+
+  /** @return an estimator using the rule durations recorded in a previous distributed build. */
+  public static BuildTargetCostEstimator fromTrace(
+      DistBuildTrace trace, Map<String, Long> outputSizesBytes) {
+    Map<String, Long> durationsMillis = new HashMap<>();
+    for (MinionTrace minion : trace.minions) {
+      for (MinionThread thread : minion.threads) {
+        for (RuleTrace rule : thread.ruleTraces) {
+          durationsMillis.merge(
+              rule.ruleName, rule.finishEpochMillis - rule.startEpochMillis, Math::max);
+        }
+      }
+    }
+    return of(durationsMillis, outputSizesBytes);
+  }
+
+  public long getPredictedDurationMillis(String target) {
+    return durationsMillis.getOrDefault(target, defaultDurationMillis);
+  }
+
+  public long getPredictedOutputSizeBytes(String target) {
+    return outputSizesBytes.getOrDefault(target, defaultOutputSizeBytes);
+  }
+
+  private static long median(ImmutableMap<String, Long> values) {
+    if (values.isEmpty()) {
+      return 1;
+    }
+    return values.values().stream().sorted().skip(values.size() / 2).findFirst().get();
+  }
+}
@@ -18,6 +18,7 @@ package com.facebook.buck.distributed.build_slave;
 
 import com.facebook.buck.distributed.thrift.CoordinatorBuildProgress;
 import com.facebook.buck.distributed.thrift.WorkUnit;
+import java.util.Comparator;
 import java.util.List;
 
 /** Defines a build targets queue to be used in distributed builds. */
@@ -26,6 +27,14 @@ public interface BuildTargetsQueue {
 
   List<WorkUnit> dequeueZeroDependencyNodes(List<String> finishedNodes, int maxUnitsOfWork);
 
+  /**
+   * Same as {@link #dequeueZeroDependencyNodes(List, int)}, but starts work units at the ready
+   * nodes that come first in {@code preferredOrder}. Queues that cannot choose between ready nodes
+   * ignore the order.
+   */
+  List<WorkUnit> dequeueZeroDependencyNodes(
+      List<String> finishedNodes, int maxUnitsOfWork, Comparator<String> preferredOrder);
+
   boolean haveMostBuildRulesFinished();
 
   CoordinatorBuildProgress getBuildProgress();
@@ -60,6 +60,7 @@ public class CoordinatorModeRunner extends AbstractDistBuildModeRunner {
   private final MinionCountProvider minionCountProvider;
   private final Optional<String> coordinatorMinionId;
   private final boolean releasingMinionsEarlyEnabled;
+  private final boolean cacheOptimizedWorkAllocationEnabled;
 
   /** Constructor. */
   public CoordinatorModeRunner(
@@ -75,7 +76,8 @@ public class CoordinatorModeRunner extends AbstractDistBuildModeRunner {
       MinionHealthTracker minionHealthTracker,
       MinionCountProvider minionCountProvider,
       Optional<String> coordinatorMinionId,
-      boolean releasingMinionsEarlyEnabled) {
+      boolean releasingMinionsEarlyEnabled,
+      boolean cacheOptimizedWorkAllocationEnabled) {
     this.stampedeId = stampedeId;
     this.clientBuildId = clientBuildId;
     this.traceUploadUri = traceUploadUri;
@@ -90,6 +92,7 @@ public class CoordinatorModeRunner extends AbstractDistBuildModeRunner {
     this.minionCountProvider = minionCountProvider;
     this.coordinatorMinionId = coordinatorMinionId;
     this.releasingMinionsEarlyEnabled = releasingMinionsEarlyEnabled;
+    this.cacheOptimizedWorkAllocationEnabled = cacheOptimizedWorkAllocationEnabled;
   }
 
   public CoordinatorModeRunner(
@@ -104,7 +107,8 @@ public class CoordinatorModeRunner extends AbstractDistBuildModeRunner {
       MinionHealthTracker minionHealthTracker,
       MinionCountProvider minionCountProvider,
       Optional<String> coordinatorMinionId,
-      boolean releasingMinionsEarlyEnabled) {
+      boolean releasingMinionsEarlyEnabled,
+      boolean cacheOptimizedWorkAllocationEnabled) {
     this(
         OptionalInt.empty(),
         queue,
@@ -118,7 +122,8 @@ public class CoordinatorModeRunner extends AbstractDistBuildModeRunner {
         minionHealthTracker,
         minionCountProvider,
         coordinatorMinionId,
-        releasingMinionsEarlyEnabled);
+        releasingMinionsEarlyEnabled,
+        cacheOptimizedWorkAllocationEnabled);
   }
 
   @Override
@@ -187,7 +192,8 @@ public class CoordinatorModeRunner extends AbstractDistBuildModeRunner {
                   distBuildService,
                   minionCountProvider,
                   coordinatorMinionId,
-                  releasingMinionsEarlyEnabled));
+                  releasingMinionsEarlyEnabled,
+                  cacheOptimizedWorkAllocationEnabled));
       this.server.start();
       this.closer.register(
           service.addCallback("ReportCoordinatorAlive", createHeartbeatCallback()));
@@ -24,6 +24,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /** Tracks the health of Minions to make sure they don't silently die and the build hangs. */
@@ -80,6 +81,7 @@ public class MinionHealthTracker {
     boolean firstRun = lastDeadMinionCheckMillis == -1;
 
     List<MinionTrackingInfo> deadMinionIds = Lists.newArrayList();
+    Optional<List<String>> slowMinionIds = Optional.empty();
     boolean hasAliveMinions = false;
     long currentMillis = clock.currentTimeMillis();
     long timeSinceLastDeadMinionCheck = currentMillis - lastDeadMinionCheckMillis;
@@ -104,7 +106,10 @@ public class MinionHealthTracker {
     if (firstRun
         || !deadMinionCheckWasSlow
         || consecutiveSlowDeadMinionChecks >= maxConsecutiveSlowDeadMinionChecks) {
-      hasAliveMinions = checkMinionHealthInner(deadMinionIds, hasAliveMinions, currentMillis);
+      List<String> lateMinionIds = Lists.newArrayList();
+      hasAliveMinions =
+          checkMinionHealthInner(deadMinionIds, lateMinionIds, hasAliveMinions, currentMillis);
+      slowMinionIds = Optional.of(lateMinionIds);
     }
 
     if (!firstRun) {
@@ -114,11 +119,14 @@ public class MinionHealthTracker {
 
     lastDeadMinionCheckMillis = currentMillis;
 
-    return new MinionHealthStatus(deadMinionIds, hasAliveMinions);
+    return new MinionHealthStatus(deadMinionIds, slowMinionIds, hasAliveMinions);
   }
 
   private boolean checkMinionHealthInner(
-      List<MinionTrackingInfo> deadMinionIds, boolean hasAliveMinions, long currentMillis) {
+      List<MinionTrackingInfo> deadMinionIds,
+      List<String> slowMinionIds,
+      boolean hasAliveMinions,
+      long currentMillis) {
     for (MinionTrackingInfo minion : minions.values()) {
       if (untrackedMinions.contains(minion.getMinionId())) {
         continue;
@@ -145,6 +153,9 @@ public class MinionHealthTracker {
                 slowHeartbeatWarningThresholdMillis,
                 lastHeartbeatMillis,
                 currentMillis));
+        if (timeSinceLastHeartbeatMillis <= maxMinionSilenceMillis) {
+          slowMinionIds.add(minion.getMinionId());
+        }
       }
     }
     return hasAliveMinions;
@@ -160,10 +171,15 @@ public class MinionHealthTracker {
   /** Contains details about status of all minions that have taken part in the build */
   public static class MinionHealthStatus {
     private final List<MinionTrackingInfo> deadMinions;
+    private final Optional<List<String>> slowMinions;
     private final boolean hasAliveMinions;
 
-    public MinionHealthStatus(List<MinionTrackingInfo> deadMinions, boolean hasAliveMinions) {
+    public MinionHealthStatus(
+        List<MinionTrackingInfo> deadMinions,
+        Optional<List<String>> slowMinions,
+        boolean hasAliveMinions) {
       this.deadMinions = deadMinions;
+      this.slowMinions = slowMinions;
       this.hasAliveMinions = hasAliveMinions;
     }
 
@@ -171,6 +187,14 @@ public class MinionHealthTracker {
       return deadMinions;
     }
 
+    /**
+     * @return ids of minions that are alive, but have been late to send their last heartbeat, or
+     *     empty if the health check was skipped this time.
+     */
+    public Optional<List<String>> getSlowMinions() {
+      return slowMinions;
+    }
+
     public boolean hasAliveMinions() {
       return hasAliveMinions;
     }
@@ -17,12 +17,16 @@
 package com.facebook.buck.distributed.build_slave;
 
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.distributed.build_slave.DistributableBuildGraph.DistributableNode;
 import com.facebook.buck.distributed.thrift.CoordinatorBuildProgress;
 import com.facebook.buck.distributed.thrift.MinionType;
 import com.facebook.buck.distributed.thrift.WorkUnit;
 import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -37,9 +41,16 @@ import java.util.stream.Collectors;
 /**
  * Allocates and keeps track of what BuildTargetPaths are allocated to which Minions. This class is
  * thread safe.
+ *
+ * <p>If a {@link BuildTargetCostEstimator} is given, allocation is cache-optimized: a minion
+ * preferably starts work at targets whose dependencies it built itself, as their outputs do not
+ * have to be fetched from the cache, and then at targets with the longest predicted chain of
+ * dependents. Minions that are late with their heartbeats only get one work unit at a time, so
+ * that the remaining work goes to healthy minions.
  */
 public class MinionWorkloadAllocator {
   private static final Logger LOG = Logger.get(MinionWorkloadAllocator.class);
+  private static final int MAX_WORK_UNITS_FOR_SLOW_MINION = 1;
 
   private final BuildTargetsQueue queue;
   private final Set<String> nodesAssignedToMinions = new HashSet<>();
@@ -63,6 +74,11 @@ public class MinionWorkloadAllocator {
 
   private final DistBuildTraceTracker chromeTraceTracker;
 
+  private final Optional<BuildTargetCostEstimator> costEstimator;
+  private final Map<String, String> minionsByBuiltTarget = new HashMap<>();
+  private final Map<String, Long> predictedChainMillisByTarget = new HashMap<>();
+  private final Set<String> slowMinions = new HashSet<>();
+
   /**
    * Result of updating allocation - indicates if minion should be now released (capacity no longer
    * needed) and contains a list of new work units for the minion to process.
@@ -86,10 +102,25 @@ public class MinionWorkloadAllocator {
       DistBuildTraceTracker chromeTraceTracker,
       Optional<String> coordinatorMinionId,
       boolean releasingMinionsEarlyEnabled) {
+    this(
+        queue,
+        chromeTraceTracker,
+        coordinatorMinionId,
+        releasingMinionsEarlyEnabled,
+        Optional.empty());
+  }
+
+  public MinionWorkloadAllocator(
+      BuildTargetsQueue queue,
+      DistBuildTraceTracker chromeTraceTracker,
+      Optional<String> coordinatorMinionId,
+      boolean releasingMinionsEarlyEnabled,
+      Optional<BuildTargetCostEstimator> costEstimator) {
     this.queue = queue;
     this.chromeTraceTracker = chromeTraceTracker;
     this.coordinatorMinionId = coordinatorMinionId;
     this.releasingMinionsEarlyEnabled = releasingMinionsEarlyEnabled;
+    this.costEstimator = costEstimator;
   }
 
   public synchronized boolean isBuildFinished() {
@@ -149,6 +180,17 @@ public class MinionWorkloadAllocator {
     Set<WorkUnit> workUnitsAllocatedToMinion =
         Objects.requireNonNull(workUnitsAssignedToMinions.get(minionId));
     deallocateFinishedNodes(workUnitsAllocatedToMinion, finishedNodes);
+    if (costEstimator.isPresent()) {
+      for (String finishedNode : finishedNodes) {
+        minionsByBuiltTarget.put(finishedNode, minionId);
+      }
+      if (slowMinions.contains(minionId)) {
+        maxWorkUnitsToFetch =
+            Math.min(
+                maxWorkUnitsToFetch,
+                Math.max(0, MAX_WORK_UNITS_FOR_SLOW_MINION - workUnitsAllocatedToMinion.size()));
+      }
+    }
 
     // First try and re-allocate work units from any minions that have failed recently
     List<WorkUnit> newWorkUnitsForMinion =
@@ -157,7 +199,12 @@ public class MinionWorkloadAllocator {
     // For any remaining capacity on this minion, fetch new work units, if they exist.
     maxWorkUnitsToFetch -= newWorkUnitsForMinion.size();
     newWorkUnitsForMinion.addAll(
-        queue.dequeueZeroDependencyNodes(finishedNodes, maxWorkUnitsToFetch));
+        costEstimator.isPresent()
+            ? queue.dequeueZeroDependencyNodes(
+                finishedNodes,
+                maxWorkUnitsToFetch,
+                getPreferredOrder(minionId, costEstimator.get()))
+            : queue.dequeueZeroDependencyNodes(finishedNodes, maxWorkUnitsToFetch));
 
     List<String> newNodesForMinion =
         allocateNewNodes(workUnitsAllocatedToMinion, newWorkUnitsForMinion);
@@ -192,6 +239,18 @@ public class MinionWorkloadAllocator {
     return result;
   }
 
+  /**
+   * Records which minions are currently slow to respond. Only used if allocation is
+   * cache-optimized.
+   */
+  public synchronized void updateSlowMinions(Collection<String> minionIds) {
+    if (!slowMinions.equals(new HashSet<>(minionIds))) {
+      LOG.info(String.format("Minions [%s] are slow to respond.", minionIds));
+    }
+    slowMinions.clear();
+    slowMinions.addAll(minionIds);
+  }
+
   /** @return True if minion has been marked as failed previously */
   public synchronized boolean hasMinionFailed(String minionId) {
     return failedMinions.contains(minionId);
@@ -252,6 +311,11 @@ public class MinionWorkloadAllocator {
       return reallocatedWorkUnits;
     }
 
+    // Nor should it go to a minion that might be the next one to fail.
+    if (costEstimator.isPresent() && slowMinions.contains(minionId)) {
+      return reallocatedWorkUnits;
+    }
+
     while (workUnitsFromFailedMinions.size() > 0 && reallocatedWorkUnits.size() < maxWorkUnits) {
       WorkUnit workUnitToReAssign = workUnitsFromFailedMinions.remove();
       Preconditions.checkArgument(workUnitToReAssign.getBuildTargets().size() > 0);
@@ -267,6 +331,73 @@ public class MinionWorkloadAllocator {
     return reallocatedWorkUnits;
   }
 
+  /**
+   * Orders targets by how much of their dependencies' outputs the minion already has, compared to
+   * what it would have to fetch from other minions via the cache, then by the predicted time until
+   * all their transitive dependents are built.
+   */
+  private Comparator<String> getPreferredOrder(
+      String minionId, BuildTargetCostEstimator estimator) {
+    DistributableBuildGraph graph = queue.getDistributableBuildGraph();
+    Map<String, Long> localityBytesByTarget = new HashMap<>();
+    Comparator<String> byLocality =
+        Comparator.comparingLong(
+            target ->
+                -localityBytesByTarget.computeIfAbsent(
+                    target, key -> getLocalityBytes(graph.getNode(key), minionId, estimator)));
+    Comparator<String> byPredictedChain =
+        Comparator.comparingLong(target -> -getPredictedChainMillis(graph, target, estimator));
+    return byLocality.thenComparing(byPredictedChain).thenComparing(Comparator.naturalOrder());
+  }
+
+  private long getLocalityBytes(
+      DistributableNode node, String minionId, BuildTargetCostEstimator estimator) {
+    long localityBytes = 0;
+    for (String dependency : node.allDependencies) {
+      String builtBy = minionsByBuiltTarget.get(dependency);
+      if (builtBy == null) {
+        continue; // Pruned from the graph or not built by a minion on its own.
+      }
+      long outputSizeBytes = estimator.getPredictedOutputSizeBytes(dependency);
+      localityBytes += builtBy.equals(minionId) ? outputSizeBytes : -outputSizeBytes;
+    }
+    return localityBytes;
+  }
+
+  private long getPredictedChainMillis(
+      DistributableBuildGraph graph, String target, BuildTargetCostEstimator estimator) {
+    // Chains of dependents can be as long as the graph is deep, so walk them with an explicit
+    // stack, computing a target only once all of its dependents are known.
+    Deque<String> targetsToVisit = new ArrayDeque<>();
+    targetsToVisit.push(target);
+    while (!targetsToVisit.isEmpty()) {
+      String current = targetsToVisit.peek();
+      if (predictedChainMillisByTarget.containsKey(current)) {
+        targetsToVisit.pop();
+        continue;
+      }
+
+      long longestDependentChainMillis = 0;
+      boolean allDependentsVisited = true;
+      for (String dependent : graph.getNode(current).dependentTargets) {
+        Long dependentChainMillis = predictedChainMillisByTarget.get(dependent);
+        if (dependentChainMillis == null) {
+          targetsToVisit.push(dependent);
+          allDependentsVisited = false;
+        } else {
+          longestDependentChainMillis = Math.max(longestDependentChainMillis, dependentChainMillis);
+        }
+      }
+
+      if (allDependentsVisited) {
+        targetsToVisit.pop();
+        predictedChainMillisByTarget.put(
+            current, estimator.getPredictedDurationMillis(current) + longestDependentChainMillis);
+      }
+    }
+    return predictedChainMillisByTarget.get(target);
+  }
+
   private List<String> allocateNewNodes(
       Set<WorkUnit> workUnitsForMinion, List<WorkUnit> newWorkUnitsForMinion) {
     List<String> nodesForMinion = new ArrayList<>();
@@ -162,7 +162,8 @@ public class MultiSlaveBuildModeRunnerFactory {
         minionHealthTracker,
         listenerAndMinionCountProvider,
         coordinatorMinionId,
-        distBuildConfig.isReleasingMinionsEarlyEnabled());
+        distBuildConfig.isReleasingMinionsEarlyEnabled(),
+        distBuildConfig.isCacheOptimizedWorkAllocationEnabled());
   }
 
   /**
@@ -25,10 +25,13 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -112,6 +115,17 @@ public class ReverseDepBuildTargetsQueue implements BuildTargetsQueue {
   /** Returns nodes that have all their dependencies satisfied. */
   @Override
   public List<WorkUnit> dequeueZeroDependencyNodes(List<String> finishedNodes, int maxUnitsOfWork) {
+    return dequeueZeroDependencyNodes(finishedNodes, maxUnitsOfWork, Optional.empty());
+  }
+
+  @Override
+  public List<WorkUnit> dequeueZeroDependencyNodes(
+      List<String> finishedNodes, int maxUnitsOfWork, Comparator<String> preferredOrder) {
+    return dequeueZeroDependencyNodes(finishedNodes, maxUnitsOfWork, Optional.of(preferredOrder));
+  }
+
+  private List<WorkUnit> dequeueZeroDependencyNodes(
+      List<String> finishedNodes, int maxUnitsOfWork, Optional<Comparator<String>> preferredOrder) {
     Preconditions.checkArgument(maxUnitsOfWork >= 0);
 
     LOG.info(
@@ -126,8 +140,17 @@ public class ReverseDepBuildTargetsQueue implements BuildTargetsQueue {
     }
 
     List<WorkUnit> newUnitsOfWork = new ArrayList<>();
-    createWorkUnitsStartingAtNodes(
-        new HashSet<>(zeroDependencyTargets), newUnitsOfWork, maxUnitsOfWork);
+    // Sort only after processing the finished nodes, so that the nodes they made ready are ordered
+    // along with the rest.
+    Collection<String> startNodes =
+        preferredOrder.isPresent()
+            ? zeroDependencyTargets
+                .stream()
+                .distinct()
+                .sorted(preferredOrder.get())
+                .collect(Collectors.toList())
+            : new HashSet<>(zeroDependencyTargets);
+    createWorkUnitsStartingAtNodes(startNodes, newUnitsOfWork, maxUnitsOfWork);
 
     if (newUnitsOfWork.size() > 0) {
       LOG.info(String.format("Returning [%s] work units", newUnitsOfWork.size()));
@@ -220,7 +243,7 @@ public class ReverseDepBuildTargetsQueue implements BuildTargetsQueue {
   }
 
   private void createWorkUnitsStartingAtNodes(
-      Set<String> nodes, List<WorkUnit> newUnitsOfWork, int maxUnitsOfWork) {
+      Collection<String> nodes, List<WorkUnit> newUnitsOfWork, int maxUnitsOfWork) {
     for (String node : nodes) {
       if (newUnitsOfWork.size() >= maxUnitsOfWork) {
         return;
@@ -131,6 +131,7 @@ public class ThriftCoordinatorServer implements Closeable {
   private final MinionCountProvider minionCountProvider;
   private final Optional<String> coordinatorMinionId;
   private final boolean releasingMinionsEarlyEnabled;
+  private final boolean cacheOptimizedWorkAllocationEnabled;
   private final Set<String> deadMinions;
 
   private volatile OptionalInt port;
@@ -151,7 +152,8 @@ public class ThriftCoordinatorServer implements Closeable {
       DistBuildService distBuildService,
       MinionCountProvider minionCountProvider,
       Optional<String> coordinatorMinionId,
-      boolean releasingMinionsEarlyEnabled) {
+      boolean releasingMinionsEarlyEnabled,
+      boolean cacheOptimizedWorkAllocationEnabled) {
     this.eventListener = eventListener;
     this.stampedeId = stampedeId;
     this.coordinatorBuildRuleEventsPublisher = coordinatorBuildRuleEventsPublisher;
@@ -160,6 +162,7 @@ public class ThriftCoordinatorServer implements Closeable {
     this.minionCountProvider = minionCountProvider;
     this.coordinatorMinionId = coordinatorMinionId;
     this.releasingMinionsEarlyEnabled = releasingMinionsEarlyEnabled;
+    this.cacheOptimizedWorkAllocationEnabled = cacheOptimizedWorkAllocationEnabled;
     this.lock = new Object();
     this.exitCodeFuture = new CompletableFuture<>();
     this.chromeTraceTracker = new DistBuildTraceTracker(stampedeId);
@@ -200,6 +203,7 @@ public class ThriftCoordinatorServer implements Closeable {
     MinionHealthStatus minionHealthStatus = minionHealthTracker.checkMinionHealth();
 
     if (allocator != null) {
+      minionHealthStatus.getSlowMinions().ifPresent(allocator::updateSlowMinions);
       for (MinionTrackingInfo deadMinion : minionHealthStatus.getDeadMinions()) {
         if (deadMinions.contains(deadMinion.getMinionId())) {
           continue;
@@ -339,7 +343,13 @@ public class ThriftCoordinatorServer implements Closeable {
       chromeTraceTracker.setBuildGraph(queue.getDistributableBuildGraph());
       allocator =
           new MinionWorkloadAllocator(
-              queue, chromeTraceTracker, coordinatorMinionId, releasingMinionsEarlyEnabled);
+              queue,
+              chromeTraceTracker,
+              coordinatorMinionId,
+              releasingMinionsEarlyEnabled,
+              cacheOptimizedWorkAllocationEnabled
+                  ? Optional.of(BuildTargetCostEstimator.uniform())
+                  : Optional.empty());
       this.handler =
           new ActiveCoordinatorService(
               allocator, exitCodeFuture, coordinatorBuildRuleEventsPublisher, minionHealthTracker);
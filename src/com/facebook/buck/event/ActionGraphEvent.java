@@ -93,10 +93,12 @@ public abstract class ActionGraphEvent extends AbstractBuckEvent
   /** Event for incremental action graph construction. * */
   public static class IncrementalLoad extends ActionGraphEvent {
     public int reusedNodeCount;
+    public long pooledNodeCount;
 
-    public IncrementalLoad(int reusedNodeCount) {
+    public IncrementalLoad(int reusedNodeCount, long pooledNodeCount) {
       super(EventKey.unique());
       this.reusedNodeCount = reusedNodeCount;
+      this.pooledNodeCount = pooledNodeCount;
     }
 
     @Override
@@ -107,6 +109,16 @@ public abstract class ActionGraphEvent extends AbstractBuckEvent
     public int getReusedNodeCount() {
       return reusedNodeCount;
     }
+
+    /** @return the number of nodes that were available for reuse from previous action graphs. */
+    public long getPooledNodeCount() {
+      return pooledNodeCount;
+    }
+
+    /** @return the fraction of the available nodes that were reused. */
+    public double getReuseRatio() {
+      return pooledNodeCount == 0 ? 0 : (double) reusedNodeCount / pooledNodeCount;
+    }
   }
 
   public static class Cache extends ActionGraphEvent implements BuckEvent {
@@ -20,14 +20,21 @@ import com.facebook.buck.event.BuckEventListener;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.log.InvocationInfo;
 import com.facebook.buck.parser.events.ParseBuckProfilerReportEvent;
+import com.facebook.buck.parser.events.ParserCacheStatsEvent;
 import com.google.common.eventbus.Subscribe;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ParserProfilerLoggerListener implements BuckEventListener {
 
   private final InvocationInfo info;
   private final ProjectFilesystem filesystem;
+  private final AtomicLong parserCacheHitCount = new AtomicLong();
+  private final AtomicLong parserCacheMissCount = new AtomicLong();
+  private final AtomicLong parserCacheLookupTimeNanos = new AtomicLong();
+  private final AtomicLong parserCacheStoreTimeNanos = new AtomicLong();
 
   public ParserProfilerLoggerListener(InvocationInfo info, ProjectFilesystem filesystem) {
     this.info = info;
@@ -41,4 +48,33 @@ public class ParserProfilerLoggerListener implements BuckEventListener {
     filesystem.createParentDirs(tracePath);
     filesystem.writeContentsToPath(event.getReport(), tracePath);
   }
+
+  @Subscribe
+  public void parserCacheStatsReported(ParserCacheStatsEvent event) {
+    parserCacheHitCount.addAndGet(event.getHitCount());
+    parserCacheMissCount.addAndGet(event.getMissCount());
+    parserCacheLookupTimeNanos.addAndGet(event.getLookupTimeNanos());
+    parserCacheStoreTimeNanos.addAndGet(event.getStoreTimeNanos());
+  }
+
+  /** Writes the parser cache statistics aggregated across all parsers used by the command. */
+  @Override
+  public void close() throws IOException {
+    long hitCount = parserCacheHitCount.get();
+    long missCount = parserCacheMissCount.get();
+    if (hitCount + missCount == 0) {
+      return;
+    }
+    Path statsPath = info.getLogDirectoryPath().resolve("parser-cache-stats.log");
+    filesystem.createParentDirs(statsPath);
+    filesystem.writeContentsToPath(
+        String.format(
+            "hits: %d%nmisses: %d%nhit rate: %.2f%%%nlookup time: %d ms%nstore time: %d ms%n",
+            hitCount,
+            missCount,
+            100.0 * hitCount / (hitCount + missCount),
+            TimeUnit.NANOSECONDS.toMillis(parserCacheLookupTimeNanos.get()),
+            TimeUnit.NANOSECONDS.toMillis(parserCacheStoreTimeNanos.get())),
+        statsPath);
+  }
 }
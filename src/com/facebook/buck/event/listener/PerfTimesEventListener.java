@@ -25,6 +25,7 @@ import com.facebook.buck.event.ActionGraphEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.BuckEventListener;
 import com.facebook.buck.event.BuckInitializationDurationEvent;
+import com.facebook.buck.event.DaemonEvent;
 import com.facebook.buck.event.EventKey;
 import com.facebook.buck.event.InstallEvent;
 import com.facebook.buck.log.PerfTimesStats;
@@ -45,6 +46,8 @@ public class PerfTimesEventListener implements BuckEventListener {
 
   private final AtomicLong buildPhasesLastEvent = new AtomicLong();
   private final AtomicLong accumulatedParseTime = new AtomicLong();
+  private final AtomicLong initializationFinishedTimestamp = new AtomicLong();
+  private final AtomicBoolean firstBuildRuleEvent = new AtomicBoolean(false);
   private final AtomicBoolean firstCacheFetchEvent = new AtomicBoolean(false);
   private final AtomicBoolean firstLocalBuildEvent = new AtomicBoolean(false);
 
@@ -73,10 +76,18 @@ public class PerfTimesEventListener implements BuckEventListener {
   @Subscribe
   public synchronized void initializationFinished(BuckInitializationDurationEvent event) {
     buildPhasesLastEvent.set(event.getTimestamp());
+    initializationFinishedTimestamp.set(event.getTimestamp());
     perfTimesStatsBuilder.setInitTimeMs(event.getDuration());
     eventBus.post(PerfTimesEvent.update(perfTimesStatsBuilder.build()));
   }
 
+  @Subscribe
+  public synchronized void newDaemonInstance(
+      @SuppressWarnings("unused") DaemonEvent.NewDaemonInstance event) {
+    perfTimesStatsBuilder.setNewDaemonInstance(true);
+    eventBus.post(PerfTimesEvent.update(perfTimesStatsBuilder.build()));
+  }
+
   @Subscribe
   public synchronized void parseStarted(ParseEvent.Started started) {
     perfTimesStatsBuilder.setProcessingTimeMs(getTimeDifferenceSinceLastEventToEvent(started));
@@ -132,6 +143,19 @@ public class PerfTimesEventListener implements BuckEventListener {
     }
   }
 
+  @Subscribe
+  public synchronized void buildRuleStarted(BuildRuleEvent.Started event) {
+    // Rule key calculation is part of what happens before the first action.
+    if (event instanceof BuildRuleEvent.StartedRuleKeyCalc) {
+      return;
+    }
+    if (firstBuildRuleEvent.compareAndSet(false, true)) {
+      perfTimesStatsBuilder.setTimeToFirstActionMs(
+          event.getTimestamp() - initializationFinishedTimestamp.get());
+      eventBus.post(PerfTimesEvent.update(perfTimesStatsBuilder.build()));
+    }
+  }
+
   @Subscribe
   public synchronized void buildRuleWillBuildLocally(BuildRuleEvent.WillBuildLocally event) {
     if (firstLocalBuildEvent.compareAndSet(false, true)) {
@@ -100,6 +100,24 @@ abstract class AbstractPerfTimesStats {
     return 0L;
   }
 
+  /**
+   * @return time from the end of initialization to the start of the first build rule, in
+   *     milliseconds. Together with {@link #getNewDaemonInstance()} this measures how long a cold
+   *     daemon takes to get to the first action.
+   */
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Value.Default
+  public Long getTimeToFirstActionMs() {
+    return 0L;
+  }
+
+  /** @return whether the command was run by a newly started daemon. */
+  @JsonView(JsonViews.MachineReadableLog.class)
+  @Value.Default
+  public Boolean getNewDaemonInstance() {
+    return false;
+  }
+
   /** @return time it takes to install to a device, in milliseconds. */
   @JsonView(JsonViews.MachineReadableLog.class)
   @Value.Default
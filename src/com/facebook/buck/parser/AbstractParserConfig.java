@@ -298,4 +298,13 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
   public boolean getEnableConfigurableAttributes() {
     return getDelegate().getBooleanValue("parser", "enable_configurable_attributes", false);
   }
+
+  /**
+   * @return whether all parser processes of a cell should be started as soon as the first build
+   *     file of that cell is parsed, instead of one by one as parse requests queue up.
+   */
+  @Value.Lazy
+  public boolean getWarmUpParsers() {
+    return getDelegate().getBooleanValue("parser", "warm_up_parsers", false);
+  }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Daemon-wide cache of values computed from parsed build files, e.g. query results, that is
+ * invalidated by {@link DaemonicParserState} whenever it invalidates any of those build files.
+ *
+ * <p>Every value depends on a set of absolute paths. A path of a build file makes the value depend
+ * on that build file (and everything it includes), while a path of a directory makes the value
+ * depend on all build files below that directory, including ones that are added later. Since all
+ * watched changes are reported, values may also depend on paths of other files, e.g. rule inputs.
+ *
+ * <p>Since a build file can be invalidated while a value is being computed from it, callers obtain
+ * a generation before starting the computation and pass it to {@link #put}, which discards the
+ * value if any of its dependencies were invalidated in the meantime. To bound the memory used for
+ * this, only a limited number of invalidated paths are recorded. Once there are more, the records
+ * are dropped and all values computed before are discarded, as after {@link #invalidateAll}.
+ */
+@ThreadSafe
+public class BuildFileDependentCache<Key, Value> {
+
+  private static final Logger LOG = Logger.get(BuildFileDependentCache.class);
+
+  private static final int DEFAULT_MAXIMUM_RECORDED_INVALIDATIONS = 10_000;
+
+  private final Cache<Key, Entry<Value>> entries;
+
+  /** Keys of the entries that have to be dropped once a path, or any path below it, changes. */
+  private final ConcurrentMap<Path, Set<Key>> dependents = new ConcurrentHashMap<>();
+
+  /** The generation at which a path, or any path below it, was last invalidated. */
+  private final ConcurrentMap<Path, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+  /** Values computed before this generation are stale, their invalidations are not recorded. */
+  private final AtomicLong oldestRecordedGeneration = new AtomicLong();
+
+  private final AtomicLong generation = new AtomicLong();
+  private final int maximumRecordedInvalidations;
+
+  BuildFileDependentCache(long maximumSize) {
+    this(maximumSize, DEFAULT_MAXIMUM_RECORDED_INVALIDATIONS);
+  }
+
+  @VisibleForTesting
+  BuildFileDependentCache(long maximumSize, int maximumRecordedInvalidations) {
+    this.maximumRecordedInvalidations = maximumRecordedInvalidations;
+    this.entries =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .<Key, Entry<Value>>removalListener(
+                notification -> {
+                  // A replacing entry has registered itself already, so keep the registrations.
+                  if (notification.getCause() != RemovalCause.REPLACED
+                      && notification.getValue() != null) {
+                    for (Path path : notification.getValue().dependencies) {
+                      @Nullable Set<Key> keys = dependents.get(path);
+                      if (keys != null) {
+                        keys.remove(notification.getKey());
+                      }
+                    }
+                  }
+                })
+            .build();
+  }
+
+  /** @return the generation to pass to {@link #put} for a value that is about to be computed. */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  public Optional<Value> get(Key key) {
+    @Nullable Entry<Value> entry = entries.getIfPresent(key);
+    return entry == null ? Optional.empty() : Optional.of(entry.value);
+  }
+
+  /**
+   * Stores a value unless any of its dependencies were invalidated since {@code generation}.
+   *
+   * @param dependencies absolute paths of the build files and directories the value depends on
+   * @param generation the result of {@link #getGeneration()} before the value was computed
+   */
+  public void put(Key key, Value value, ImmutableSet<Path> dependencies, long generation) {
+    if (isStale(dependencies, generation)) {
+      return;
+    }
+    for (Path path : dependencies) {
+      dependents.computeIfAbsent(path, p -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+    Entry<Value> entry = new Entry<>(value, dependencies);
+    entries.put(key, entry);
+    // An invalidation that happened concurrently might have missed the new entry, but it has
+    // recorded its generation before dropping entries, so check again. Removing the entry also
+    // drops its registrations.
+    if (isStale(dependencies, generation)) {
+      entries.asMap().remove(key, entry);
+    }
+  }
+
+  private boolean isStale(ImmutableSet<Path> dependencies, long generation) {
+    if (oldestRecordedGeneration.get() > generation) {
+      return true;
+    }
+    for (Path path : dependencies) {
+      if (invalidatedAt.getOrDefault(path, 0L) > generation) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Drops all entries that depend on {@code path} or on any of its ancestor directories. */
+  void invalidatePath(Path path) {
+    long invalidationGeneration = generation.incrementAndGet();
+    for (Path current = path; current != null; current = current.getParent()) {
+      invalidatedAt.put(current, invalidationGeneration);
+      @Nullable Set<Key> keys = dependents.remove(current);
+      if (keys != null) {
+        LOG.verbose("Invalidating %d entries depending on %s", keys.size(), current);
+        entries.invalidateAll(keys);
+      }
+    }
+    if (invalidatedAt.size() > maximumRecordedInvalidations) {
+      LOG.debug("Dropping %d recorded invalidations", invalidatedAt.size());
+      dropRecordedInvalidations();
+    }
+  }
+
+  /** Drops all entries. */
+  void invalidateAll() {
+    dropRecordedInvalidations();
+    entries.invalidateAll();
+    dependents.clear();
+  }
+
+  /**
+   * Forgets the invalidations so far, and with them which values computed before are still valid.
+   */
+  private void dropRecordedInvalidations() {
+    long droppedAt = generation.incrementAndGet();
+    oldestRecordedGeneration.accumulateAndGet(droppedAt, Math::max);
+    // Only remove records of earlier generations, concurrent invalidations still need theirs.
+    invalidatedAt.values().removeIf(at -> at < droppedAt);
+  }
+
+  @VisibleForTesting
+  int getRecordedInvalidationCount() {
+    return invalidatedAt.size();
+  }
+
+  private static class Entry<Value> {
+    private final Value value;
+    private final ImmutableSet<Path> dependencies;
+
+    private Entry(Value value, ImmutableSet<Path> dependencies) {
+      this.value = value;
+      this.dependencies = dependencies;
+    }
+  }
+}
@@ -19,6 +19,8 @@ package com.facebook.buck.parser;
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.facebook.buck.core.model.impl.ImmutableBuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.parser.api.BuildFileManifest;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
@@ -26,12 +28,14 @@ import com.facebook.buck.util.concurrent.AutoCloseableLock;
 import com.facebook.buck.util.concurrent.AutoCloseableReadWriteUpdateLock;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -40,6 +44,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 
 class DaemonicCellState {
@@ -73,6 +79,14 @@ class DaemonicCellState {
             target);
         if (updatedNode.equals(targetNode)) {
           targetsCornucopia.put(target.getUnflavoredBuildTarget(), target);
+          if (updatedNode instanceof TargetNode) {
+            for (Path input : ((TargetNode<?>) updatedNode).getInputs()) {
+              inputOwners.put(input, target);
+            }
+            for (BuildTarget dep : ((TargetNode<?>) updatedNode).getParseDeps()) {
+              reverseDeps.put(dep, target);
+            }
+          }
         }
         return updatedNode;
       }
@@ -92,6 +106,14 @@ class DaemonicCellState {
   @GuardedBy("rawAndComputedNodesLock")
   private final Map<Path, ImmutableMap<String, Optional<String>>> buildFileEnv;
 
+  /** Reverse index of the inputs of all cached {@link TargetNode}s, keyed by cell-relative path. */
+  @GuardedBy("rawAndComputedNodesLock")
+  private final SetMultimap<Path, BuildTarget> inputOwners;
+
+  /** Reverse index of the parse deps of all cached {@link TargetNode}s. */
+  @GuardedBy("rawAndComputedNodesLock")
+  private final SetMultimap<BuildTarget, BuildTarget> reverseDeps;
+
   @GuardedBy("rawAndComputedNodesLock")
   private final ConcurrentMapCache<Path, BuildFileManifest> allRawNodes;
   // Tracks all targets in `allRawNodes`.  Used to verify that every target in `allComputedNodes`
@@ -105,14 +127,24 @@ class DaemonicCellState {
   private final AutoCloseableReadWriteUpdateLock rawAndComputedNodesLock;
   private final int parsingThreads;
 
+  /** Notified of every path that is invalidated, including dependents of invalidated paths. */
+  private final Consumer<Path> pathInvalidationListener;
+
   DaemonicCellState(Cell cell, int parsingThreads) {
+    this(cell, parsingThreads, path -> {});
+  }
+
+  DaemonicCellState(Cell cell, int parsingThreads, Consumer<Path> pathInvalidationListener) {
     this.cell = new AtomicReference<>(cell);
+    this.pathInvalidationListener = pathInvalidationListener;
     this.parsingThreads = parsingThreads;
     this.cellRoot = cell.getRoot();
     this.cellCanonicalName = cell.getCanonicalName();
     this.buildFileDependents = HashMultimap.create();
     this.targetsCornucopia = HashMultimap.create();
     this.buildFileEnv = new HashMap<>();
+    this.inputOwners = HashMultimap.create();
+    this.reverseDeps = HashMultimap.create();
     this.allRawNodes = new ConcurrentMapCache<>(parsingThreads);
     this.allRawNodeTargets = new HashSet<>();
     this.typedNodeCaches = Maps.newConcurrentMap();
@@ -181,6 +213,7 @@ class DaemonicCellState {
 
   int invalidatePath(Path path) {
     try (AutoCloseableLock writeLock = rawAndComputedNodesLock.writeLock()) {
+      pathInvalidationListener.accept(path);
       int invalidatedRawNodes = 0;
       BuildFileManifest buildFileManifest = allRawNodes.getIfPresent(path);
       if (buildFileManifest != null) {
@@ -192,6 +225,7 @@ class DaemonicCellState {
               UnflavoredBuildTargetFactory.createFromRawNode(
                   cellRoot, cellCanonicalName, rawNode, path);
           LOG.debug("Invalidating target for path %s: %s", path, target);
+          removeFromIndexes(targetsCornucopia.get(target));
           for (Cache<?> cache : typedNodeCaches.values()) {
             cache.allComputedNodes.invalidateAll(targetsCornucopia.get(target));
           }
@@ -217,6 +251,104 @@ class DaemonicCellState {
     }
   }
 
+  @GuardedBy("rawAndComputedNodesLock")
+  private void removeFromIndexes(Set<BuildTarget> targets) {
+    @Nullable Cache<?> targetNodeCache = typedNodeCaches.get(TargetNode.class);
+    if (targetNodeCache == null) {
+      return;
+    }
+    for (BuildTarget target : targets) {
+      Object node = targetNodeCache.allComputedNodes.getIfPresent(target);
+      if (node instanceof TargetNode) {
+        for (Path input : ((TargetNode<?>) node).getInputs()) {
+          inputOwners.remove(input, target);
+        }
+        for (BuildTarget dep : ((TargetNode<?>) node).getParseDeps()) {
+          reverseDeps.remove(dep, target);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the cached {@link TargetNode}s of all targets defined in {@code buildFile}, so that
+   * lookups in the indexes don't require parsing the build file again.
+   *
+   * @return the nodes, or an empty optional if the build file or the node of one of its targets is
+   *     not cached, or if the environment the build file was parsed with has changed since.
+   */
+  Optional<ImmutableList<TargetNode<?>>> lookupTargetNodes(Cell cell, Path buildFile) {
+    try (AutoCloseableLock readLock = rawAndComputedNodesLock.readLock()) {
+      @Nullable Cache<?> targetNodeCache = typedNodeCaches.get(TargetNode.class);
+      @Nullable BuildFileManifest manifest = allRawNodes.getIfPresent(buildFile);
+      @Nullable ImmutableMap<String, Optional<String>> usedEnv = buildFileEnv.get(buildFile);
+      if (targetNodeCache == null || manifest == null || usedEnv == null) {
+        return Optional.empty();
+      }
+      for (Map.Entry<String, Optional<String>> ent : usedEnv.entrySet()) {
+        Optional<String> value =
+            Optional.ofNullable(cell.getBuckConfig().getEnvironment().get(ent.getKey()));
+        if (!value.equals(ent.getValue())) {
+          return Optional.empty();
+        }
+      }
+      ImmutableList.Builder<TargetNode<?>> nodes = ImmutableList.builder();
+      for (Map<String, Object> rawNode : manifest.getTargets().values()) {
+        BuildTarget target =
+            ImmutableBuildTarget.of(
+                UnflavoredBuildTargetFactory.createFromRawNode(
+                    cellRoot, cellCanonicalName, rawNode, buildFile));
+        Object node = targetNodeCache.allComputedNodes.getIfPresent(target);
+        if (!(node instanceof TargetNode)) {
+          return Optional.empty();
+        }
+        nodes.add((TargetNode<?>) node);
+      }
+      return Optional.of(nodes.build());
+    }
+  }
+
+  /**
+   * Looks up the cached {@link TargetNode}s of this cell that have {@code target} as a parse dep.
+   */
+  ImmutableSet<BuildTarget> lookupReverseDeps(BuildTarget target) {
+    try (AutoCloseableLock readLock = rawAndComputedNodesLock.readLock()) {
+      return ImmutableSet.copyOf(reverseDeps.get(target));
+    }
+  }
+
+  /**
+   * Looks up the owners of a file among {@code candidates} using the inputs of the cached {@link
+   * TargetNode}s, which avoids checking the inputs of every candidate.
+   *
+   * @param input cell-relative path of the file
+   * @return the candidates that have {@code input}, or any directory containing it, as an input,
+   *     or an empty optional if the nodes of some candidates are not cached.
+   */
+  Optional<ImmutableSet<BuildTarget>> lookupInputOwners(
+      Path input, Collection<BuildTarget> candidates) {
+    try (AutoCloseableLock readLock = rawAndComputedNodesLock.readLock()) {
+      @Nullable Cache<?> targetNodeCache = typedNodeCaches.get(TargetNode.class);
+      if (targetNodeCache == null) {
+        return Optional.empty();
+      }
+      for (BuildTarget candidate : candidates) {
+        if (targetNodeCache.allComputedNodes.getIfPresent(candidate) == null) {
+          return Optional.empty();
+        }
+      }
+      ImmutableSet.Builder<BuildTarget> owners = ImmutableSet.builder();
+      for (Path current = input; current != null; current = current.getParent()) {
+        for (BuildTarget owner : inputOwners.get(current)) {
+          if (candidates.contains(owner)) {
+            owners.add(owner);
+          }
+        }
+      }
+      return Optional.of(owners.build());
+    }
+  }
+
   Optional<MapDifference<String, String>> invalidateIfEnvHasChanged(Cell cell, Path buildFile) {
     // Invalidate if env vars have changed.
     ImmutableMap<String, Optional<String>> usedEnv;
@@ -22,6 +22,7 @@ import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.model.BuildFileTree;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.impl.FilesystemBackedBuildFileTree;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.counters.Counter;
 import com.facebook.buck.counters.IntegerCounter;
@@ -33,6 +34,8 @@ import com.facebook.buck.io.watchman.WatchmanPathEvent;
 import com.facebook.buck.parser.api.BuildFileManifest;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
+import com.facebook.buck.skylark.io.impl.GlobCache;
+import com.facebook.buck.skylark.parser.LoadedExtensionCache;
 import com.facebook.buck.util.concurrent.AutoCloseableLock;
 import com.facebook.buck.util.concurrent.AutoCloseableReadWriteLock;
 import com.google.common.base.Preconditions;
@@ -94,6 +97,8 @@ public class DaemonicParserState {
 
   static final float DEFAULT_LOAD_FACTOR = 0.75f;
 
+  private static final long DEFAULT_BUILD_FILE_DEPENDENT_CACHE_SIZE = 1000;
+
   /** Stateless view of caches on object that conforms to {@link PipelineNodeCache.Cache}. */
   private class DaemonicCacheView<T> implements PipelineNodeCache.Cache<BuildTarget, T> {
 
@@ -257,6 +262,16 @@ public class DaemonicParserState {
 
   private final LoadingCache<Cell, BuildFileTree> buildFileTrees;
 
+  /** Glob expansion results of Skylark build files, shared by all parsers and cells. */
+  private final GlobCache globCache;
+
+  /** Evaluated Skylark extensions, shared by all parsers. */
+  private final LoadedExtensionCache loadedExtensionCache;
+
+  /** Caches of values computed from build files, e.g. query results, keyed by their owner. */
+  private final ConcurrentMap<Class<?>, BuildFileDependentCache<?, ?>> buildFileDependentCaches =
+      new ConcurrentHashMap<>();
+
   /**
    * The default includes used by the previous run of the parser in each cell (the key is the cell's
    * root path). If this value changes, then we need to invalidate all the caches.
@@ -306,6 +321,8 @@ public class DaemonicParserState {
         new ConcurrentHashMap<>(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, parsingThreads);
 
     this.rawNodeCache = new DaemonicRawCacheView();
+    this.globCache = new GlobCache();
+    this.loadedExtensionCache = new LoadedExtensionCache();
 
     this.cachedStateLock = new AutoCloseableReadWriteLock();
     this.cellStateLock = new AutoCloseableReadWriteLock();
@@ -334,6 +351,97 @@ public class DaemonicParserState {
     return rawNodeCache;
   }
 
+  public GlobCache getGlobCache() {
+    return globCache;
+  }
+
+  public LoadedExtensionCache getLoadedExtensionCache() {
+    return loadedExtensionCache;
+  }
+
+  /**
+   * Retrieve the cache of values computed from build files that is owned by {@code cacheType}.
+   *
+   * <p>As with {@link #getOrCreateNodeCache(Class)}, care should be taken to ensure that the same
+   * class object is always used with the same key and value types.
+   */
+  public <K, V> BuildFileDependentCache<K, V> getOrCreateBuildFileDependentCache(
+      Class<?> cacheType) {
+    return getOrCreateBuildFileDependentCache(cacheType, DEFAULT_BUILD_FILE_DEPENDENT_CACHE_SIZE);
+  }
+
+  /**
+   * Same as {@link #getOrCreateBuildFileDependentCache(Class)}, but bounds a newly created cache to
+   * {@code maximumSize} entries.
+   */
+  @SuppressWarnings("unchecked")
+  public <K, V> BuildFileDependentCache<K, V> getOrCreateBuildFileDependentCache(
+      Class<?> cacheType, long maximumSize) {
+    return (BuildFileDependentCache<K, V>)
+        buildFileDependentCaches.computeIfAbsent(
+            cacheType, type -> new BuildFileDependentCache<>(maximumSize));
+  }
+
+  private void invalidateBuildFileDependentCaches(Path path) {
+    for (BuildFileDependentCache<?, ?> cache : buildFileDependentCaches.values()) {
+      cache.invalidatePath(path);
+    }
+  }
+
+  private void invalidateAllBuildFileDependentCaches() {
+    for (BuildFileDependentCache<?, ?> cache : buildFileDependentCaches.values()) {
+      cache.invalidateAll();
+    }
+  }
+
+  /**
+   * Looks up which of {@code candidates}, all of which have to belong to {@code cell}, own a file
+   * using the inputs of the target nodes cached by this state.
+   *
+   * @param cellRelativePath path of the file relative to the root of {@code cell}
+   * @return the owning candidates, or an empty optional if the nodes of some candidates are not
+   *     cached.
+   */
+  public Optional<ImmutableSet<BuildTarget>> lookupInputOwners(
+      Cell cell, Path cellRelativePath, Set<BuildTarget> candidates) {
+    DaemonicCellState state = getCellState(cell);
+    if (state == null) {
+      return Optional.empty();
+    }
+    return state.lookupInputOwners(cellRelativePath, candidates);
+  }
+
+  /**
+   * Returns the cached {@link TargetNode}s of all targets defined in {@code buildFile} without
+   * parsing it, or an empty optional if they are not all cached or the cached ones are stale.
+   */
+  public Optional<ImmutableList<TargetNode<?>>> lookupTargetNodes(Cell cell, Path buildFile) {
+    try (AutoCloseableLock readLock = cachedStateLock.readLock()) {
+      Iterable<String> expected = cachedIncludes.get(cell.getRoot());
+      if (expected == null
+          || !Iterables.elementsEqual(
+              cell.getBuckConfig().getView(ParserConfig.class).getDefaultIncludes(), expected)) {
+        return Optional.empty();
+      }
+    }
+    DaemonicCellState state = getCellState(cell);
+    if (state == null) {
+      return Optional.empty();
+    }
+    return state.lookupTargetNodes(cell, buildFile);
+  }
+
+  /** Looks up the cached {@link TargetNode}s of every cell that have {@code target} as a dep. */
+  public ImmutableSet<BuildTarget> lookupReverseDeps(BuildTarget target) {
+    ImmutableSet.Builder<BuildTarget> reverseDeps = ImmutableSet.builder();
+    try (AutoCloseableLock readLock = cellStateLock.readLock()) {
+      for (DaemonicCellState state : cellPathToDaemonicState.values()) {
+        reverseDeps.addAll(state.lookupReverseDeps(target));
+      }
+    }
+    return reverseDeps.build();
+  }
+
   @Nullable
   private DaemonicCellState getCellState(Cell cell) {
     try (AutoCloseableLock readLock = cellStateLock.readLock()) {
@@ -345,7 +453,8 @@ public class DaemonicParserState {
     try (AutoCloseableLock writeLock = cellStateLock.writeLock()) {
       DaemonicCellState state = cellPathToDaemonicState.get(cell.getRoot());
       if (state == null) {
-        state = new DaemonicCellState(cell, parsingThreads);
+        state =
+            new DaemonicCellState(cell, parsingThreads, this::invalidateBuildFileDependentCaches);
         cellPathToDaemonicState.put(cell.getRoot(), state);
       }
       return state;
@@ -372,6 +481,14 @@ public class DaemonicParserState {
     Path path = event.getPath();
     Path fullPath = event.getCellPath().resolve(event.getPath());
 
+    // Only additions and removals can change the results of globs.
+    if (isPathCreateOrDeleteEvent(event)) {
+      globCache.invalidatePath(fullPath);
+    }
+    loadedExtensionCache.invalidatePath(fullPath);
+    // Build files that depend on the changed one are reported by the cell states.
+    invalidateBuildFileDependentCaches(fullPath);
+
     try (AutoCloseableLock readLock = cellStateLock.readLock()) {
       for (DaemonicCellState state : cellPathToDaemonicState.values()) {
         try {
@@ -566,6 +683,7 @@ public class DaemonicParserState {
     try (AutoCloseableLock writeLock = cellStateLock.writeLock()) {
       boolean invalidated = cellPathToDaemonicState.containsKey(cell.getRoot());
       cellPathToDaemonicState.remove(cell.getRoot());
+      invalidateAllBuildFileDependentCaches();
       if (invalidated) {
         LOG.debug("Cell cache data invalidated.");
       } else {
@@ -582,6 +700,9 @@ public class DaemonicParserState {
       boolean invalidated = !cellPathToDaemonicState.isEmpty();
       cellPathToDaemonicState.clear();
       buildFileTrees.invalidateAll();
+      globCache.invalidateAll();
+      loadedExtensionCache.invalidateAll();
+      invalidateAllBuildFileDependentCaches();
       if (invalidated) {
         LOG.debug("Cache data invalidated.");
       } else {
@@ -41,11 +41,13 @@ import com.facebook.buck.parser.decorators.EventReportingProjectBuildFileParser;
 import com.facebook.buck.parser.options.ProjectBuildFileParserOptions;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.skylark.io.GlobberFactory;
+import com.facebook.buck.skylark.io.impl.GlobCache;
 import com.facebook.buck.skylark.io.impl.HybridGlobberFactory;
 import com.facebook.buck.skylark.io.impl.NativeGlobber;
 import com.facebook.buck.skylark.io.impl.SyncCookieState;
 import com.facebook.buck.skylark.parser.BuckGlobals;
 import com.facebook.buck.skylark.parser.ConsoleEventHandler;
+import com.facebook.buck.skylark.parser.LoadedExtensionCache;
 import com.facebook.buck.skylark.parser.RuleFunctionFactory;
 import com.facebook.buck.skylark.parser.SkylarkProjectBuildFileParser;
 import com.facebook.buck.util.Console;
@@ -72,6 +74,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
   private final ThrowingCloseableMemoizedSupplier<ManifestService, IOException>
       manifestServiceSupplier;
   private final FileHashCache fileHashCache;
+  private final Optional<GlobCache> globCache;
+  private final Optional<LoadedExtensionCache> loadedExtensionCache;
 
   public DefaultProjectBuildFileParserFactory(
       TypeCoercerFactory typeCoercerFactory,
@@ -81,7 +85,9 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       boolean enableProfiling,
       Optional<AtomicLong> processedBytes,
       ThrowingCloseableMemoizedSupplier<ManifestService, IOException> manifestServiceSupplier,
-      FileHashCache fileHashCache) {
+      FileHashCache fileHashCache,
+      Optional<GlobCache> globCache,
+      Optional<LoadedExtensionCache> loadedExtensionCache) {
     this.typeCoercerFactory = typeCoercerFactory;
     this.console = console;
     this.pythonInterpreterProvider = pythonInterpreterProvider;
@@ -90,6 +96,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
     this.processedBytes = processedBytes;
     this.manifestServiceSupplier = manifestServiceSupplier;
     this.fileHashCache = fileHashCache;
+    this.globCache = globCache;
+    this.loadedExtensionCache = loadedExtensionCache;
   }
 
   public DefaultProjectBuildFileParserFactory(
@@ -99,7 +107,9 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       Optional<AtomicLong> processedBytes,
       KnownRuleTypesProvider knownRuleTypesProvider,
       ThrowingCloseableMemoizedSupplier<ManifestService, IOException> manifestServiceSupplier,
-      FileHashCache fileHashCache) {
+      FileHashCache fileHashCache,
+      Optional<GlobCache> globCache,
+      Optional<LoadedExtensionCache> loadedExtensionCache) {
     this(
         typeCoercerFactory,
         Console.createNullConsole(),
@@ -108,7 +118,9 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
         enableProfiling,
         processedBytes,
         manifestServiceSupplier,
-        fileHashCache);
+        fileHashCache,
+        globCache,
+        loadedExtensionCache);
   }
 
   public DefaultProjectBuildFileParserFactory(
@@ -126,7 +138,9 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
         false,
         Optional.empty(),
         manifestServiceSupplier,
-        fileHashCache);
+        fileHashCache,
+        Optional.empty(),
+        Optional.empty());
   }
 
   /**
@@ -187,12 +201,18 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
   private ProjectBuildFileParser addCachingDecoratorIfEnabled(
       BuckConfig buckConfig,
       SkylarkProjectBuildFileParser skylarkParser,
-      ProjectFilesystem filesystem) {
+      ProjectFilesystem filesystem,
+      BuckEventBus eventBus) {
     AbstractParserCacheConfig parserCacheConfig = buckConfig.getView(ParserCacheConfig.class);
     if (parserCacheConfig.isParserCacheEnabled()) {
       ParserCache parserCache = ParserCache.of(buckConfig, filesystem, manifestServiceSupplier);
       return CachingProjectBuildFileParserDecorator.of(
-          parserCache, skylarkParser, buckConfig.getConfig(), filesystem, fileHashCache);
+          parserCache,
+          skylarkParser,
+          buckConfig.getConfig(),
+          filesystem,
+          fileHashCache,
+          eventBus);
     }
 
     return skylarkParser;
@@ -224,7 +244,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                           eventBus,
                           buildFileParserOptions,
                           parserConfig.getSkylarkGlobHandler()),
-                      cell.getFilesystem())),
+                      cell.getFilesystem(),
+                      eventBus)),
               defaultBuildFileSyntax);
     } else {
       switch (defaultBuildFileSyntax) {
@@ -238,7 +259,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                       eventBus,
                       buildFileParserOptions,
                       parserConfig.getSkylarkGlobHandler()),
-                  cell.getFilesystem());
+                  cell.getFilesystem(),
+                  eventBus);
           break;
         case PYTHON_DSL:
           parser =
@@ -273,7 +295,7 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
         processedBytes);
   }
 
-  private static SkylarkProjectBuildFileParser newSkylarkParser(
+  private SkylarkProjectBuildFileParser newSkylarkParser(
       Cell cell,
       TypeCoercerFactory typeCoercerFactory,
       BuckEventBus eventBus,
@@ -318,7 +340,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
               SkylarkFilesystem.using(cell.getFilesystem()),
               buckGlobals,
               eventHandler,
-              globberFactory);
+              globberFactory,
+              loadedExtensionCache);
 
       // All built-ins should have already been discovered. Freezing improves performance by
       // avoiding synchronization during query operations. This operation is idempotent, so it's
@@ -333,17 +356,21 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
     }
   }
 
-  private static GlobberFactory getSkylarkGlobberFactory(
+  private GlobberFactory getSkylarkGlobberFactory(
       ProjectBuildFileParserOptions buildFileParserOptions, SkylarkGlobHandler skylarkGlobHandler)
       throws IOException {
+    if (skylarkGlobHandler == SkylarkGlobHandler.JAVA
+        || buildFileParserOptions.getWatchman() == WatchmanFactory.NULL_WATCHMAN) {
+      return NativeGlobber::create;
+    }
     SyncCookieState syncCookieState = new SyncCookieState();
-    return skylarkGlobHandler == SkylarkGlobHandler.JAVA
-            || buildFileParserOptions.getWatchman() == WatchmanFactory.NULL_WATCHMAN
-        ? NativeGlobber::create
-        : HybridGlobberFactory.using(
+    GlobberFactory globberFactory =
+        HybridGlobberFactory.using(
             buildFileParserOptions.getWatchman().createClient(),
             syncCookieState,
             buildFileParserOptions.getProjectRoot(),
             buildFileParserOptions.getWatchman().getProjectWatches());
+    // Cached results are only safe to reuse if Watchman tells us about added and removed files.
+    return globCache.isPresent() ? globCache.get().decorate(globberFactory) : globberFactory;
   }
 }
@@ -69,6 +69,13 @@ public class HybridProjectBuildFileParser implements ProjectBuildFileParser {
     }
   }
 
+  @Override
+  public void warmUp() throws InterruptedException, IOException {
+    for (ProjectBuildFileParser parser : parsers.values()) {
+      parser.warmUp();
+    }
+  }
+
   @Override
   public ImmutableSortedSet<String> getIncludedFiles(Path buildFile)
       throws BuildFileParseException, InterruptedException, IOException {
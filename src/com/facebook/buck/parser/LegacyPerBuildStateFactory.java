@@ -87,7 +87,9 @@ class LegacyPerBuildStateFactory extends PerBuildStateFactory {
             parseProcessedBytes,
             knownRuleTypesProvider,
             manifestServiceSupplier,
-            fileHashCache);
+            fileHashCache,
+            Optional.of(daemonicParserState.getGlobCache()),
+            Optional.of(daemonicParserState.getLoadedExtensionCache()));
     ProjectBuildFileParserPool projectBuildFileParserPool =
         new ProjectBuildFileParserPool(
             numParsingThreads, // Max parsers to create per cell.
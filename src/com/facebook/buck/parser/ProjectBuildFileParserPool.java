@@ -41,6 +41,10 @@ import javax.annotation.concurrent.GuardedBy;
  * <p>Parser instances are lazily created up till a fixed maximum. If more than max parser are
  * requested the associated 'requests' are queued up. As soon as a parser is returned it will be
  * used to satisfy the first pending request, otherwise it is "parked".
+ *
+ * <p>If {@code parser.warm_up_parsers} is enabled for a cell, the remaining parsers of that cell
+ * are created and warmed up in the background as soon as its first build file is requested, so
+ * that interpreter startup does not delay the parse requests discovered later.
  */
 class ProjectBuildFileParserPool implements AutoCloseable {
   private static final Logger LOG = Logger.get(ProjectBuildFileParserPool.class);
@@ -88,7 +92,7 @@ class ProjectBuildFileParserPool implements AutoCloseable {
     Preconditions.checkState(!closing.get());
 
     if (shouldUsePoolForCell(cell)) {
-      return getResourcePoolForCell(buckEventBus, cell, watchman)
+      return getResourcePoolForCell(buckEventBus, cell, watchman, executorService)
           .scheduleOperationWithResource(
               parser -> parser.getBuildFileManifest(buildFile), executorService);
     }
@@ -97,19 +101,30 @@ class ProjectBuildFileParserPool implements AutoCloseable {
   }
 
   private synchronized ResourcePool<ProjectBuildFileParser> getResourcePoolForCell(
-      BuckEventBus buckEventBus, Cell cell, Watchman watchman) {
-    return parserResourcePools.computeIfAbsent(
-        cell,
-        c ->
-            new ResourcePool<>(
-                maxParsersPerCell,
-                // If the Python process garbles the output stream then the bser codec doesn't
-                // always
-                // recover and subsequent attempts at invoking the parser will fail.
-                ResourcePool.ResourceUsageErrorPolicy.RETIRE,
-                () ->
-                    projectBuildFileParserFactory.createBuildFileParser(
-                        buckEventBus, c, watchman)));
+      BuckEventBus buckEventBus,
+      Cell cell,
+      Watchman watchman,
+      ListeningExecutorService executorService) {
+    ResourcePool<ProjectBuildFileParser> resourcePool = parserResourcePools.get(cell);
+    if (resourcePool == null) {
+      resourcePool =
+          new ResourcePool<>(
+              maxParsersPerCell,
+              // If the Python process garbles the output stream then the bser codec doesn't always
+              // recover and subsequent attempts at invoking the parser will fail.
+              ResourcePool.ResourceUsageErrorPolicy.RETIRE,
+              () ->
+                  projectBuildFileParserFactory.createBuildFileParser(
+                      buckEventBus, cell, watchman));
+      parserResourcePools.put(cell, resourcePool);
+      if (cell.getBuckConfig().getView(ParserConfig.class).getWarmUpParsers()) {
+        // Leave one parser to the request that triggered the pool creation, so that it does not
+        // have to wait for any warm-up to finish.
+        resourcePool.prepareResources(
+            maxParsersPerCell - 1, ProjectBuildFileParser::warmUp, executorService);
+      }
+    }
+    return resourcePool;
   }
 
   private synchronized ProjectBuildFileParser getParserForCell(
@@ -744,6 +744,12 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
     }
   }
 
+  /** Starts buck.py ahead of the first parse request. */
+  @Override
+  public void warmUp() throws IOException {
+    initIfNeeded();
+  }
+
   @Override
   public ImmutableSortedSet<String> getIncludedFiles(Path buildFile)
       throws BuildFileParseException, InterruptedException {
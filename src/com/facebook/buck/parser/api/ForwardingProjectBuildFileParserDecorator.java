@@ -49,6 +49,11 @@ public class ForwardingProjectBuildFileParserDecorator implements ProjectBuildFi
     delegate.reportProfile();
   }
 
+  @Override
+  public void warmUp() throws InterruptedException, IOException {
+    delegate.warmUp();
+  }
+
   @Override
   public ImmutableSortedSet<String> getIncludedFiles(Path buildFile)
       throws BuildFileParseException, InterruptedException, IOException {
@@ -38,6 +38,12 @@ public interface ProjectBuildFileParser extends AutoCloseable {
   /** Reports profile information captured while parsing build files. */
   void reportProfile() throws IOException;
 
+  /**
+   * Eagerly performs the initialization that would otherwise be done on the first parse, so that
+   * an idle parser can be made ready while other build files are being parsed.
+   */
+  default void warmUp() throws InterruptedException, IOException {}
+
   /**
    * Collects the loaded build file and extensions when parsing the {@code buildFile} build spec.
    *
@@ -61,4 +61,10 @@ public interface ParserCacheStorage {
    */
   void deleteCacheEntries(HashCode weakFingerprint, HashCode strongFingerprint)
       throws IOException, InterruptedException;
+
+  /**
+   * Waits, for a bounded time, for stores that are still in progress. Called when the parser that
+   * uses this storage is closed.
+   */
+  void close() throws InterruptedException;
 }
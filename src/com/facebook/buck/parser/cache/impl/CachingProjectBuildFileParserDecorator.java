@@ -17,6 +17,7 @@
 package com.facebook.buck.parser.cache.impl;
 
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.parser.api.BuildFileManifest;
 import com.facebook.buck.parser.api.ForwardingProjectBuildFileParserDecorator;
@@ -43,18 +44,21 @@ public class CachingProjectBuildFileParserDecorator
   private final Config config;
   private final ProjectFilesystem filesystem;
   private final FileHashCache fileHashCache;
+  private final BuckEventBus eventBus;
 
   private CachingProjectBuildFileParserDecorator(
       ParserCache parserCache,
       ProjectBuildFileParser delegate,
       Config config,
       ProjectFilesystem filesystem,
-      FileHashCache fileHashCache) {
+      FileHashCache fileHashCache,
+      BuckEventBus eventBus) {
     super(delegate);
     this.parserCache = parserCache;
     this.config = config;
     this.filesystem = filesystem;
     this.fileHashCache = fileHashCache;
+    this.eventBus = eventBus;
   }
 
   /**
@@ -63,6 +67,7 @@ public class CachingProjectBuildFileParserDecorator
    * @param parserCache the {@link ParserCache} implementation.
    * @param delegate a delegate parser that would be invoked to parse the file if the result of this
    *     parse is not cached.
+   * @param eventBus the event bus used to report cache statistics when the parser is closed.
    * @return a new instance of a caching parser.
    */
   public static CachingProjectBuildFileParserDecorator of(
@@ -70,9 +75,24 @@ public class CachingProjectBuildFileParserDecorator
       ProjectBuildFileParser delegate,
       Config config,
       ProjectFilesystem filesystem,
-      FileHashCache fileHashCache) {
+      FileHashCache fileHashCache,
+      BuckEventBus eventBus) {
     return new CachingProjectBuildFileParserDecorator(
-        parserCache, delegate, config, filesystem, fileHashCache);
+        parserCache, delegate, config, filesystem, fileHashCache, eventBus);
+  }
+
+  /**
+   * Waits for pending cache stores and reports the cache statistics of this parser, whether or not
+   * profiling is enabled.
+   */
+  @Override
+  public void close() throws BuildFileParseException, InterruptedException, IOException {
+    try {
+      parserCache.close();
+    } finally {
+      eventBus.post(parserCache.createStatsEvent());
+      super.close();
+    }
   }
 
   // calculate the globs state is proper for using the returned manifest from storage.
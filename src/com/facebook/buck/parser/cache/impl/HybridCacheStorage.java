@@ -209,4 +209,13 @@ public class HybridCacheStorage implements ParserCacheStorage {
       throw firstException;
     }
   }
+
+  @Override
+  public void close() throws InterruptedException {
+    try {
+      localCacheStorage.close();
+    } finally {
+      remoteCacheStorage.close();
+    }
+  }
 }
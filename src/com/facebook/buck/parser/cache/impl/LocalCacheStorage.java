@@ -189,6 +189,11 @@ public class LocalCacheStorage implements ParserCacheStorage {
             : weakFingerprintCachePath);
   }
 
+  @Override
+  public void close() {
+    // Stores are synchronous, so nothing is pending.
+  }
+
   private byte[] deserializeBuildFileManifest(
       HashCode strongFingerprint, Path weakFingerprintCachePath) throws IOException {
     byte[] deserializedBuildFileManifest;
@@ -23,17 +23,25 @@ import com.facebook.buck.parser.api.BuildFileManifest;
 import com.facebook.buck.parser.api.ProjectBuildFileParser;
 import com.facebook.buck.parser.cache.ParserCacheStorage;
 import com.facebook.buck.parser.cache.json.BuildFileManifestSerializer;
+import com.facebook.buck.parser.events.ParserCacheStatsEvent;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.util.ThrowingCloseableMemoizedSupplier;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
 import com.google.common.hash.HashCode;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /** This class implements the caching behavior for parsing build specs. */
 public class ParserCache {
   private final ParserCacheStorage parserCacheStorage;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong lookupTimeNanos = new AtomicLong();
+  private final AtomicLong storeTimeNanos = new AtomicLong();
 
   private ParserCache(ParserCacheStorage parserCacheStorage) {
     this.parserCacheStorage = parserCacheStorage;
@@ -73,9 +81,14 @@ public class ParserCache {
       HashCode weakFingerprint,
       HashCode strongFingerprint)
       throws InterruptedException, IOException {
-    byte[] serializedManifest = BuildFileManifestSerializer.serialize(buildFileManifest);
-    parserCacheStorage.storeBuildFileManifest(
-        weakFingerprint, strongFingerprint, serializedManifest);
+    Stopwatch timer = Stopwatch.createStarted();
+    try {
+      byte[] serializedManifest = BuildFileManifestSerializer.serialize(buildFileManifest);
+      parserCacheStorage.storeBuildFileManifest(
+          weakFingerprint, strongFingerprint, serializedManifest);
+    } finally {
+      storeTimeNanos.addAndGet(timer.elapsed(TimeUnit.NANOSECONDS));
+    }
   }
 
   /**
@@ -94,16 +107,36 @@ public class ParserCache {
       HashCode strongFingerprint)
       throws IOException, InterruptedException, BuildFileParseException {
 
-    // Try to retrieve a cached build file manifest
-    Optional<BuildFileManifest> cachedManifest =
-        parserCacheStorage.getBuildFileManifest(weakFingerprint, strongFingerprint);
-    if (cachedManifest.isPresent()
-        && parser.globResultsMatchCurrentState(buildFile, cachedManifest.get().getGlobManifest())) {
-      // There is a match only if the glob state on disk is the same as the recorded globs and
-      // results.
-      return cachedManifest;
+    Stopwatch timer = Stopwatch.createStarted();
+    boolean hit = false;
+    try {
+      // Try to retrieve a cached build file manifest
+      Optional<BuildFileManifest> cachedManifest =
+          parserCacheStorage.getBuildFileManifest(weakFingerprint, strongFingerprint);
+      if (cachedManifest.isPresent()
+          && parser.globResultsMatchCurrentState(
+              buildFile, cachedManifest.get().getGlobManifest())) {
+        // There is a match only if the glob state on disk is the same as the recorded globs and
+        // results.
+        hit = true;
+        return cachedManifest;
+      }
+
+      return Optional.empty();
+    } finally {
+      lookupTimeNanos.addAndGet(timer.elapsed(TimeUnit.NANOSECONDS));
+      (hit ? hitCount : missCount).incrementAndGet();
     }
+  }
+
+  /** Waits, for a bounded time, for stores to the storage that are still in progress. */
+  public void close() throws InterruptedException {
+    parserCacheStorage.close();
+  }
 
-    return Optional.empty();
+  /** @return statistics about the lookups and stores performed by this cache so far. */
+  public ParserCacheStatsEvent createStatsEvent() {
+    return ParserCacheStatsEvent.stats(
+        hitCount.get(), missCount.get(), lookupTimeNanos.get(), storeTimeNanos.get());
   }
 }
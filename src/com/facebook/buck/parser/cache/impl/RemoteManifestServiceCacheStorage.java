@@ -25,22 +25,31 @@ import com.facebook.buck.parser.cache.json.BuildFileManifestSerializer;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
 
 /** A remote, thrift backed implementation for the {@link ParserCacheStorage} interface. */
 public class RemoteManifestServiceCacheStorage implements ParserCacheStorage {
   private static final Logger LOG = Logger.get(RemoteManifestServiceCacheStorage.class);
   private static final long TIMEOUT = 1000;
+  private static final long CLOSE_TIMEOUT_MS = 5000;
 
   private final ParserCacheAccessMode cacheAccessMode;
   private final ManifestService manifestService;
+  private final Set<ListenableFuture<Void>> pendingStores = Sets.newConcurrentHashSet();
 
   private RemoteManifestServiceCacheStorage(
       ManifestService manifestService, AbstractParserCacheConfig parserConfig) {
@@ -70,44 +79,58 @@ public class RemoteManifestServiceCacheStorage implements ParserCacheStorage {
     return new RemoteManifestServiceCacheStorage(manifestService, parserConfig);
   }
 
+  /**
+   * Schedules the upload of a {@link BuildFileManifest} without waiting for it to complete, so
+   * that populating the remote cache does not slow down parsing.
+   *
+   * <p>The strong fingerprint entry is uploaded before it is referenced from the weak fingerprint
+   * entry, so readers never observe a weak fingerprint entry pointing to a missing manifest
+   * because of a partially completed store. Stores that are still in progress are waited for in
+   * {@link #close()}.
+   */
   @Override
   public void storeBuildFileManifest(
-      HashCode weakFingerprint, HashCode strongFingerprint, byte[] serializedBuildFileManifest)
-      throws IOException, InterruptedException {
-    Stopwatch timer = Stopwatch.createStarted();
-    try {
-      if (!isWriteAllowed()) {
-        return;
-      }
+      HashCode weakFingerprint, HashCode strongFingerprint, byte[] serializedBuildFileManifest) {
+    if (!isWriteAllowed()) {
+      return;
+    }
 
-      Manifest weakFingerprintManifest = new Manifest();
-      weakFingerprintManifest.setKey(weakFingerprint.toString());
-      weakFingerprintManifest.addToValues(
-          ByteBuffer.wrap(strongFingerprint.toString().getBytes(StandardCharsets.UTF_8)));
+    Stopwatch timer = Stopwatch.createStarted();
 
-      try {
-        manifestService
-            .appendToManifest(weakFingerprintManifest)
-            .get(TIMEOUT, TimeUnit.MILLISECONDS);
-      } catch (TimeoutException | ExecutionException e) {
-        rethrow(e);
-      }
+    Manifest strongFingerprintManifest = new Manifest();
+    strongFingerprintManifest.setKey(strongFingerprint.toString());
+    strongFingerprintManifest.setValues(
+        ImmutableList.of(ByteBuffer.wrap(serializedBuildFileManifest)));
+
+    Manifest weakFingerprintManifest = new Manifest();
+    weakFingerprintManifest.setKey(weakFingerprint.toString());
+    weakFingerprintManifest.addToValues(
+        ByteBuffer.wrap(strongFingerprint.toString().getBytes(StandardCharsets.UTF_8)));
+
+    ListenableFuture<Void> storeFuture =
+        Futures.transformAsync(
+            manifestService.setManifest(strongFingerprintManifest),
+            ignored -> manifestService.appendToManifest(weakFingerprintManifest),
+            MoreExecutors.directExecutor());
+    pendingStores.add(storeFuture);
+    storeFuture.addListener(
+        () -> pendingStores.remove(storeFuture), MoreExecutors.directExecutor());
+    Futures.addCallback(
+        storeFuture,
+        new FutureCallback<Void>() {
+          @Override
+          public void onSuccess(@Nullable Void result) {
+            LOG.debug(
+                "Time to store BuildFileManifest in remote cache: %d ns.",
+                timer.elapsed(TimeUnit.NANOSECONDS));
+          }
 
-      Manifest strongFingerprintManifest = new Manifest();
-      strongFingerprintManifest.setKey(strongFingerprint.toString());
-      strongFingerprintManifest.setValues(
-          ImmutableList.of(ByteBuffer.wrap(serializedBuildFileManifest)));
-      try {
-        manifestService.setManifest(strongFingerprintManifest).get(TIMEOUT, TimeUnit.MILLISECONDS);
-      } catch (TimeoutException | ExecutionException e) {
-        rethrow(e);
-      }
-    } finally {
-      timer.stop();
-      LOG.debug(
-          "Time to complete RemoteManifestServiceCacheStorage.storeBuildFileManifest method: %d.",
-          timer.elapsed(TimeUnit.NANOSECONDS));
-    }
+          @Override
+          public void onFailure(Throwable t) {
+            LOG.warn(t, "Failed to store BuildFileManifest in remote cache.");
+          }
+        },
+        MoreExecutors.directExecutor());
   }
 
   @Override
@@ -163,6 +186,25 @@ public class RemoteManifestServiceCacheStorage implements ParserCacheStorage {
     }
   }
 
+  /**
+   * Waits up to {@link #CLOSE_TIMEOUT_MS} for the stores that are still in progress, so that the
+   * manifests parsed by this command reach the remote cache. Stores that take longer are abandoned.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    ImmutableList<ListenableFuture<Void>> stores = ImmutableList.copyOf(pendingStores);
+    if (stores.isEmpty()) {
+      return;
+    }
+    try {
+      Futures.successfulAsList(stores).get(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      LOG.warn(
+          "Abandoning %d BuildFileManifest stores to the remote cache after %d ms.",
+          pendingStores.size(), CLOSE_TIMEOUT_MS);
+    }
+  }
+
   /** Rethrows exception gotten from future as IOException */
   private void rethrow(Exception e) throws IOException {
     Throwable cause = e.getCause();
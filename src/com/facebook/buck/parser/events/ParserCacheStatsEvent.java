@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser.events;
+
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.EventKey;
+
+/** Reports how effective the parser cache was for the build files parsed by a single parser. */
+public class ParserCacheStatsEvent extends AbstractBuckEvent {
+  private final long hitCount;
+  private final long missCount;
+  private final long lookupTimeNanos;
+  private final long storeTimeNanos;
+
+  protected ParserCacheStatsEvent(
+      EventKey eventKey,
+      long hitCount,
+      long missCount,
+      long lookupTimeNanos,
+      long storeTimeNanos) {
+    super(eventKey);
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.lookupTimeNanos = lookupTimeNanos;
+    this.storeTimeNanos = storeTimeNanos;
+  }
+
+  @Override
+  public String getValueString() {
+    return String.format(
+        "hits: %d, misses: %d, lookup time: %d ns, store time: %d ns",
+        hitCount, missCount, lookupTimeNanos, storeTimeNanos);
+  }
+
+  @Override
+  public String getEventName() {
+    return "ParserCacheStatsEvent";
+  }
+
+  /** @return the number of build file manifests that were served from the cache. */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** @return the number of build files that had to be parsed because of a cache miss. */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /** @return the total time spent looking up build file manifests in the cache. */
+  public long getLookupTimeNanos() {
+    return lookupTimeNanos;
+  }
+
+  /** @return the total time spent scheduling the storage of parsed manifests. */
+  public long getStoreTimeNanos() {
+    return storeTimeNanos;
+  }
+
+  public static ParserCacheStatsEvent stats(
+      long hitCount, long missCount, long lookupTimeNanos, long storeTimeNanos) {
+    return new ParserCacheStatsEvent(
+        EventKey.unique(), hitCount, missCount, lookupTimeNanos, storeTimeNanos);
+  }
+}
@@ -113,6 +113,9 @@ public class DepsFunction implements QueryFunction {
     Optional<QueryExpression> deps =
         args.size() > 2 ? Optional.of(args.get(2).getExpression()) : Optional.empty();
     env.buildTransitiveClosure(argumentSet, depthBound);
+    if (!deps.isPresent()) {
+      return env.getTransitiveFwdDeps(argumentSet, depthBound);
+    }
 
     // LinkedHashSet preserves the order of insertion when iterating over the values.
     // The order by which we traverse the result is meaningful because the dependencies are
@@ -123,18 +126,16 @@ public class DepsFunction implements QueryFunction {
     // Iterating depthBound+1 times because the first one processes the given argument set.
     for (int i = 0; i < depthBound; i++) {
       Collection<QueryTarget> next = new ArrayList<>();
-      Consumer<? super QueryTarget> consumer =
+      forEachDep(
+          env,
+          deps.get(),
+          current,
           queryTarget -> {
             boolean added = result.add(queryTarget);
             if (added) {
               next.add(queryTarget);
             }
-          };
-      if (deps.isPresent()) {
-        forEachDep(env, deps.get(), current, consumer);
-      } else {
-        env.forEachFwdDep(current, consumer);
-      }
+          });
       if (next.isEmpty()) {
         break;
       }
@@ -32,6 +32,10 @@ package com.facebook.buck.query;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -217,6 +221,71 @@ public interface QueryEnvironment {
   /** Returns the direct reverse dependencies of the specified targets. */
   Set<QueryTarget> getReverseDeps(Iterable<QueryTarget> targets) throws QueryException;
 
+  /**
+   * Returns the specified targets followed by all targets that are reachable from them within
+   * {@code maxDepth} steps along forward dependencies, in breadth first order.
+   *
+   * <p>The transitive closure of the targets has to be built before calling this method.
+   */
+  default ImmutableSet<QueryTarget> getTransitiveFwdDeps(Set<QueryTarget> targets, int maxDepth)
+      throws QueryException {
+    // LinkedHashSet preserves the order of insertion when iterating over the values.
+    // The order by which we traverse the result is meaningful because the dependencies are
+    // traversed level-by-level.
+    Set<QueryTarget> result = new LinkedHashSet<>(targets);
+    Collection<QueryTarget> current = targets;
+    for (int i = 0; i < maxDepth; i++) {
+      Collection<QueryTarget> next = new ArrayList<>();
+      forEachFwdDep(
+          current,
+          queryTarget -> {
+            if (result.add(queryTarget)) {
+              next.add(queryTarget);
+            }
+          });
+      if (next.isEmpty()) {
+        break;
+      }
+      current = next;
+    }
+    return ImmutableSet.copyOf(result);
+  }
+
+  /**
+   * Returns the specified targets followed by all targets from which they can be reached within
+   * {@code maxDepth} steps along forward dependencies, in breadth first order. Only targets in the
+   * transitive closure of {@code universe} are considered.
+   *
+   * <p>The transitive closure of the universe has to be built before calling this method.
+   */
+  default ImmutableSet<QueryTarget> getTransitiveReverseDeps(
+      Set<QueryTarget> universe, Set<QueryTarget> targets, int maxDepth) throws QueryException {
+    Predicate<QueryTarget> inUniversePredicate = getTransitiveClosure(universe)::contains;
+
+    // LinkedHashSet preserves the order of insertion when iterating over the values.
+    // The order by which we traverse the result is meaningful because the dependencies are
+    // traversed level-by-level.
+    Set<QueryTarget> visited = new LinkedHashSet<>();
+    Collection<QueryTarget> current = targets;
+
+    // Iterating maxDepth+1 times because the first one processes the given targets.
+    for (int i = 0; i <= maxDepth; i++) {
+      // Restrict the search to nodes in the transitive closure of the universe set.
+      Iterable<QueryTarget> currentInUniverse =
+          Iterables.filter(current, inUniversePredicate::test);
+
+      // Filter nodes visited before.
+      Collection<QueryTarget> next =
+          getReverseDeps(Iterables.filter(currentInUniverse, target -> !visited.contains(target)));
+      Iterables.addAll(visited, currentInUniverse);
+      if (next.isEmpty()) {
+        break;
+      }
+      current = next;
+    }
+    return ImmutableSet.copyOf(visited);
+  }
+
   Set<QueryTarget> getInputs(QueryTarget target) throws QueryException;
 
   /**
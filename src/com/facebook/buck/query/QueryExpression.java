@@ -80,6 +80,20 @@ public abstract class QueryExpression {
     traverse(new TargetPatternCollector(literals));
   }
 
+  /**
+   * Collects the names of all functions that are applied anywhere within this query expression and
+   * adds them to the given collection, which must be mutable.
+   */
+  public void collectFunctionNames(Collection<String> names) {
+    traverse(
+        exp -> {
+          if (exp instanceof FunctionExpression) {
+            names.add(((FunctionExpression) exp).getFunction().getName());
+          }
+          return VisitResult.CONTINUE;
+        });
+  }
+
   /** Accepts and applies the given visitor. */
   public abstract void traverse(Visitor visitor);
 
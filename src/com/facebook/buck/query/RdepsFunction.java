@@ -33,12 +33,8 @@ package com.facebook.buck.query;
 import com.facebook.buck.query.QueryEnvironment.Argument;
 import com.facebook.buck.query.QueryEnvironment.ArgumentType;
 import com.facebook.buck.query.QueryEnvironment.QueryFunction;
-import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
-import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -83,31 +79,8 @@ public class RdepsFunction implements QueryFunction {
       throws QueryException {
     Set<QueryTarget> universeSet = evaluator.eval(args.get(0).getExpression(), env);
     env.buildTransitiveClosure(universeSet, Integer.MAX_VALUE);
-    Predicate<QueryTarget> inUniversePredicate = env.getTransitiveClosure(universeSet)::contains;
-
-    // LinkedHashSet preserves the order of insertion when iterating over the values.
-    // The order by which we traverse the result is meaningful because the dependencies are
-    // traversed level-by-level.
-    Set<QueryTarget> visited = new LinkedHashSet<>();
     Set<QueryTarget> argumentSet = evaluator.eval(args.get(1).getExpression(), env);
-    Collection<QueryTarget> current = argumentSet;
-    Predicate<QueryTarget> notVisited = target -> !visited.contains(target);
-
     int depthBound = args.size() > 2 ? args.get(2).getInteger() : Integer.MAX_VALUE;
-    // Iterating depthBound+1 times because the first one processes the given argument set.
-    for (int i = 0; i <= depthBound; i++) {
-      // Restrict the search to nodes in the transitive closure of the universe set.
-      Iterable<QueryTarget> currentInUniverse = Iterables.filter(current, inUniversePredicate);
-
-      // Filter nodes visited before.
-      Collection<QueryTarget> next =
-          env.getReverseDeps(Iterables.filter(currentInUniverse, notVisited));
-      Iterables.addAll(visited, currentInUniverse);
-      if (next.isEmpty()) {
-        break;
-      }
-      current = next;
-    }
-    return ImmutableSet.copyOf(visited);
+    return env.getTransitiveReverseDeps(universeSet, argumentSet, depthBound);
   }
 }
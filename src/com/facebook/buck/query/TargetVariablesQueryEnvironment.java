@@ -52,6 +52,18 @@ public class TargetVariablesQueryEnvironment implements QueryEnvironment {
     return delegate.getReverseDeps(targets);
   }
 
+  @Override
+  public ImmutableSet<QueryTarget> getTransitiveFwdDeps(Set<QueryTarget> targets, int maxDepth)
+      throws QueryException {
+    return delegate.getTransitiveFwdDeps(targets, maxDepth);
+  }
+
+  @Override
+  public ImmutableSet<QueryTarget> getTransitiveReverseDeps(
+      Set<QueryTarget> universe, Set<QueryTarget> targets, int maxDepth) throws QueryException {
+    return delegate.getTransitiveReverseDeps(universe, targets, maxDepth);
+  }
+
   @Override
   public Set<QueryTarget> getInputs(QueryTarget target) throws QueryException {
     return delegate.getInputs(target);
@@ -17,13 +17,38 @@
 package com.facebook.buck.remoteexecution;
 
 import com.facebook.buck.remoteexecution.Protocol.Digest;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.stream.Collectors;
 
 /** Interface used by OutputsMaterializer to fetch outputs from the CAS. */
 public interface AsyncBlobFetcher {
   ListenableFuture<ByteBuffer> fetch(Protocol.Digest digest);
 
   ListenableFuture<Void> fetchToStream(Digest digest, OutputStream outputStream);
+
+  /**
+   * Fetches several blobs at once. Implementations may pack them into fewer requests than fetching
+   * them one by one, so this is meant for small blobs.
+   */
+  default ListenableFuture<ImmutableMap<Digest, ByteBuffer>> batchFetch(
+      ImmutableSet<Digest> digests) {
+    ImmutableList<Digest> digestList = digests.asList();
+    return Futures.transform(
+        Futures.allAsList(digestList.stream().map(this::fetch).collect(Collectors.toList())),
+        data -> {
+          ImmutableMap.Builder<Digest, ByteBuffer> builder = ImmutableMap.builder();
+          for (int i = 0; i < digestList.size(); i++) {
+            builder.put(digestList.get(i), data.get(i));
+          }
+          return builder.build();
+        },
+        MoreExecutors.directExecutor());
+  }
 }
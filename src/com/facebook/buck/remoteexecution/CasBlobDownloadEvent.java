@@ -21,6 +21,7 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.EventKey;
 import com.facebook.buck.event.WorkAdvanceEvent;
 import com.facebook.buck.util.Scope;
+import java.util.concurrent.TimeUnit;
 
 /** Started/Finished event pairs for CAS blob downloads . */
 public abstract class CasBlobDownloadEvent extends AbstractBuckEvent implements WorkAdvanceEvent {
@@ -78,6 +79,21 @@ public abstract class CasBlobDownloadEvent extends AbstractBuckEvent implements
       return startedEvent;
     }
 
+    /** @return the time between the Started and Finished events, once both have been posted. */
+    public long getElapsedNanos() {
+      return getNanoTime() - startedEvent.getNanoTime();
+    }
+
+    /** @return the average transfer rate of the blobs, once both events have been posted. */
+    public long getBytesPerSecond() {
+      long elapsedNanos = getElapsedNanos();
+      if (elapsedNanos <= 0) {
+        return 0;
+      }
+      double seconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+      return (long) (startedEvent.getSizeBytes() / seconds);
+    }
+
     @Override
     protected String getValueString() {
       return getStartedEvent().getValueString();
@@ -22,6 +22,7 @@ import com.facebook.buck.event.EventKey;
 import com.facebook.buck.event.WorkAdvanceEvent;
 import com.facebook.buck.util.Scope;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.TimeUnit;
 
 /** Started/Finished event pairs for CAS blob uploads . */
 public abstract class CasBlobUploadEvent extends AbstractBuckEvent implements WorkAdvanceEvent {
@@ -76,6 +77,21 @@ public abstract class CasBlobUploadEvent extends AbstractBuckEvent implements Wo
       return startedEvent;
     }
 
+    /** @return the time between the Started and Finished events, once both have been posted. */
+    public long getElapsedNanos() {
+      return getNanoTime() - startedEvent.getNanoTime();
+    }
+
+    /** @return the average transfer rate of the blobs, once both events have been posted. */
+    public long getBytesPerSecond() {
+      long elapsedNanos = getElapsedNanos();
+      if (elapsedNanos <= 0) {
+        return 0;
+      }
+      double seconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+      return (long) (startedEvent.getSizeBytes() / seconds);
+    }
+
     @Override
     protected String getValueString() {
       return getStartedEvent().getValueString();
@@ -31,8 +31,34 @@ public interface ContentAddressedStorage {
   ListenableFuture<Void> addMissing(ImmutableMap<Digest, UploadDataSupplier> data)
       throws IOException;
 
+  /**
+   * Forgets that the blobs are contained, so that the next {@link #addMissing} asks the storage
+   * about them again and uploads them if they are missing.
+   */
+  void forget(Iterable<Digest> digests);
+
   /** Materializes the outputFiles and outputDirectories into root. */
-  ListenableFuture<Void> materializeOutputs(
+  default ListenableFuture<Void> materializeOutputs(
       List<OutputDirectory> outputDirectories, List<OutputFile> outputFiles, Path root)
+      throws IOException {
+    return materializeOutputs(
+        outputDirectories, outputFiles, root, (path, digest, isExecutable) -> {});
+  }
+
+  /**
+   * Materializes the outputFiles and outputDirectories into root. Files that already exist with the
+   * expected content are kept instead of being fetched again. Every file of the outputs is reported
+   * to the listener once it is in place.
+   */
+  ListenableFuture<Void> materializeOutputs(
+      List<OutputDirectory> outputDirectories,
+      List<OutputFile> outputFiles,
+      Path root,
+      MaterializedFileListener listener)
       throws IOException;
+
+  /** Receives the digests of materialized output files. */
+  interface MaterializedFileListener {
+    void onFileMaterialized(Path path, Digest digest, boolean isExecutable);
+  }
 }
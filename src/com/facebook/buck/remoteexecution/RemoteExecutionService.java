@@ -39,6 +39,16 @@ public interface RemoteExecutionService {
     Optional<String> getStderr();
   }
 
+  /**
+   * Signals that the service could not execute an action because some of its inputs are not in the
+   * CAS, even though they were uploaded or reported as present before.
+   */
+  class MissingInputsException extends RuntimeException {
+    public MissingInputsException(String message) {
+      super(message);
+    }
+  }
+
   /**
    * This should run the command with the provided environment and inputs.
    *
@@ -46,4 +56,12 @@ public interface RemoteExecutionService {
    */
   ListenableFuture<ExecutionResult> execute(Digest actionDigest)
       throws IOException, InterruptedException;
+
+  /**
+   * Looks up the result of a previous successful execution of the action without executing it.
+   *
+   * <p>This is only an optimization, so implementations should resolve to an empty result rather
+   * than fail if the lookup is not supported or goes wrong.
+   */
+  ListenableFuture<Optional<ExecutionResult>> getCachedResult(Digest actionDigest);
 }
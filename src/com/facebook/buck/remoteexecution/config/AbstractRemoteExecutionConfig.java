@@ -39,6 +39,7 @@ abstract class AbstractRemoteExecutionConfig implements ConfigView<BuckConfig> {
 
   public static final int DEFAULT_REMOTE_PORT = 19030;
   public static final int DEFAULT_CAS_PORT = 19031;
+  public static final String DEFAULT_INSTANCE_NAME = "buck";
 
   public static final int DEFAULT_REMOTE_STRATEGY_THREADS = 12;
   public static final int DEFAULT_REMOTE_CONCURRENT_ACTION_COMPUTATIONS = 4;
@@ -73,6 +74,38 @@ abstract class AbstractRemoteExecutionConfig implements ConfigView<BuckConfig> {
    */
   public static final String CONCURRENT_PENDING_UPLOADS_KEY = "concurrent_pending_uploads";
 
+  /**
+   * Whether local outputs whose content matches the outputs of a remote action are kept. Otherwise,
+   * all outputs are deleted and downloaded again, even if they did not change.
+   */
+  public static final String REUSE_UNCHANGED_OUTPUTS_KEY = "reuse_unchanged_outputs";
+
+  /**
+   * Whether the action cache is queried for each action concurrently with the upload of its inputs.
+   * On a hit, the outputs are materialized right away without waiting for the upload or executing
+   * the action.
+   */
+  public static final String LOOK_UP_CACHED_RESULTS_KEY = "look_up_cached_results";
+
+  /**
+   * How long blobs that the CAS confirmed to contain are assumed to still be there, which allows
+   * later commands to skip asking the CAS about them. This must be well below the time the CAS
+   * keeps unreferenced blobs around. If not set, no blob index is kept.
+   */
+  public static final String CAS_BLOB_INDEX_TTL_SECONDS_KEY = "cas_blob_index_ttl_seconds";
+
+  /**
+   * Number of actions that are run concurrently when remote execution is emulated locally (i.e.
+   * with the debug_grpc_in_process type). Defaults to the number of available processors.
+   */
+  public static final String LOCAL_WORKER_COUNT_KEY = "local_worker_count";
+
+  /**
+   * Whether actions of ModernBuildRules that are executed locally (i.e. with the
+   * debug_grpc_in_process type) run on persistent worker JVMs instead of starting a new JVM each.
+   */
+  public static final String LOCAL_PERSISTENT_WORKERS_KEY = "local_persistent_workers";
+
   public String getRemoteHost() {
     return getValueWithFallback("remote_host").orElse("localhost");
   }
@@ -89,6 +122,11 @@ abstract class AbstractRemoteExecutionConfig implements ConfigView<BuckConfig> {
     return getValueWithFallback("cas_port").map(Integer::parseInt).orElse(DEFAULT_CAS_PORT);
   }
 
+  /** The instance of the remote execution service and CAS that is used. */
+  public String getInstanceName() {
+    return getDelegate().getValue(SECTION, "instance_name").orElse(DEFAULT_INSTANCE_NAME);
+  }
+
   public boolean getInsecure() {
     return getDelegate().getBooleanValue(SECTION, "insecure", true);
   }
@@ -120,6 +158,19 @@ abstract class AbstractRemoteExecutionConfig implements ConfigView<BuckConfig> {
     return getFileOption("ca");
   }
 
+  public Optional<Long> getCasBlobIndexTtlSeconds() {
+    return getDelegate().getLong(SECTION, CAS_BLOB_INDEX_TTL_SECONDS_KEY).filter(ttl -> ttl > 0);
+  }
+
+  public int getLocalWorkerCount() {
+    int count = getDelegate().getInteger(SECTION, LOCAL_WORKER_COUNT_KEY).orElse(0);
+    return count > 0 ? count : Runtime.getRuntime().availableProcessors();
+  }
+
+  public boolean shouldUseLocalPersistentWorkers() {
+    return getDelegate().getBooleanValue(SECTION, LOCAL_PERSISTENT_WORKERS_KEY, false);
+  }
+
   @Value.Derived
   public RemoteExecutionStrategyConfig getStrategyConfig() {
     int workerThreads =
@@ -147,6 +198,12 @@ abstract class AbstractRemoteExecutionConfig implements ConfigView<BuckConfig> {
             .getInteger(SECTION, CONCURRENT_RESULT_HANDLING_KEY)
             .orElse(DEFAULT_REMOTE_CONCURRENT_RESULT_HANDLING);
 
+    boolean reuseUnchangedOutputs =
+        getDelegate().getBooleanValue(SECTION, REUSE_UNCHANGED_OUTPUTS_KEY, false);
+
+    boolean lookUpCachedResults =
+        getDelegate().getBooleanValue(SECTION, LOOK_UP_CACHED_RESULTS_KEY, false);
+
     // Some of these values are also limited by other ones (e.g. synchronous work is limited by the
     // number of threads). We detect some of these cases and log an error to the user to help them
     // understand the behavior.
@@ -208,6 +265,16 @@ abstract class AbstractRemoteExecutionConfig implements ConfigView<BuckConfig> {
       public int getMaxConcurrentResultHandling() {
         return concurrentResultHandling;
       }
+
+      @Override
+      public boolean shouldReuseUnchangedOutputs() {
+        return reuseUnchangedOutputs;
+      }
+
+      @Override
+      public boolean shouldLookUpCachedResults() {
+        return lookUpCachedResults;
+      }
     };
   }
 
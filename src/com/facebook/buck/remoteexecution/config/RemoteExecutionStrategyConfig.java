@@ -26,4 +26,16 @@ public interface RemoteExecutionStrategyConfig {
   int getMaxConcurrentResultHandling();
 
   int getMaxConcurrentPendingUploads();
+
+  /**
+   * Whether outputs that already exist locally with the content produced by the remote action are
+   * kept instead of being deleted and downloaded again.
+   */
+  boolean shouldReuseUnchangedOutputs();
+
+  /**
+   * Whether the remote action cache is asked for the result of an action while its inputs are
+   * uploaded, so that cached actions neither wait for the upload nor go through execution.
+   */
+  boolean shouldLookUpCachedResults();
 }
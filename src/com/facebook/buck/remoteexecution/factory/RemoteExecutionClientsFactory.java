@@ -18,24 +18,51 @@ package com.facebook.buck.remoteexecution.factory;
 
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.log.TraceInfoProvider;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
 import com.facebook.buck.remoteexecution.config.RemoteExecutionConfig;
 import com.facebook.buck.remoteexecution.config.RemoteExecutionType;
 import com.facebook.buck.remoteexecution.grpc.GrpcExecutionFactory;
 import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
+import com.facebook.buck.remoteexecution.util.CasBlobIndex;
 import com.facebook.buck.remoteexecution.util.OutOfProcessIsolatedExecutionClients;
+import com.facebook.buck.remoteexecution.util.PersistentWorkerRunner;
+import com.facebook.buck.util.function.ThrowingSupplier;
+import com.facebook.buck.util.timing.DefaultClock;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Factory for creating all manner of different remote execution clients (grpc, in-process, etc).
  */
 public class RemoteExecutionClientsFactory {
   private final RemoteExecutionConfig remoteExecutionConfig;
+  private final Path cacheDir;
+  private final Optional<ThrowingSupplier<PersistentWorkerRunner, IOException>>
+      persistentWorkersFactory;
 
-  public RemoteExecutionClientsFactory(RemoteExecutionConfig remoteExecutionConfig) {
+  /**
+   * @param cacheDir absolute path of the directory in which state that is shared by commands (e.g.
+   *     the CAS blob index) is kept.
+   */
+  public RemoteExecutionClientsFactory(RemoteExecutionConfig remoteExecutionConfig, Path cacheDir) {
+    this(remoteExecutionConfig, cacheDir, Optional.empty());
+  }
+
+  /**
+   * @param persistentWorkersFactory creates the persistent workers for actions that are executed
+   *     locally, if they are enabled.
+   */
+  public RemoteExecutionClientsFactory(
+      RemoteExecutionConfig remoteExecutionConfig,
+      Path cacheDir,
+      Optional<ThrowingSupplier<PersistentWorkerRunner, IOException>> persistentWorkersFactory) {
     this.remoteExecutionConfig = remoteExecutionConfig;
+    this.cacheDir = cacheDir;
+    this.persistentWorkersFactory = persistentWorkersFactory;
   }
 
   /** Creates the RemoteExecutionClients based on the held configs. */
@@ -54,6 +81,7 @@ public class RemoteExecutionClientsFactory {
             remoteExecutionConfig.getRemotePort(),
             remoteExecutionConfig.getCasHost(),
             remoteExecutionConfig.getCasPort(),
+            remoteExecutionConfig.getInstanceName(),
             remoteExecutionConfig.getInsecure(),
             remoteExecutionConfig.getCasInsecure(),
             remoteExecutionConfig.getRemoteHostSNIName(),
@@ -62,12 +90,41 @@ public class RemoteExecutionClientsFactory {
             remoteExecutionConfig.getKeyFile(),
             remoteExecutionConfig.getCAsFile(),
             traceInfoProvider,
-            eventBus);
+            eventBus,
+            createCasBlobIndex());
       case DEBUG_GRPC_IN_PROCESS:
-        return OutOfProcessIsolatedExecutionClients.create(new GrpcProtocol(), eventBus);
+        Optional<PersistentWorkerRunner> persistentWorkers = Optional.empty();
+        if (remoteExecutionConfig.shouldUseLocalPersistentWorkers()
+            && persistentWorkersFactory.isPresent()) {
+          persistentWorkers = Optional.of(persistentWorkersFactory.get().get());
+        }
+        return OutOfProcessIsolatedExecutionClients.create(
+            new GrpcProtocol(),
+            eventBus,
+            remoteExecutionConfig.getLocalWorkerCount(),
+            persistentWorkers);
       case DEBUG_GRPC_LOCAL:
         return GrpcExecutionFactory.createInProcess(eventBus);
     }
     throw new IllegalStateException(String.format("Something went wrong (%s).", type));
   }
+
+  private Optional<CasBlobIndex> createCasBlobIndex() {
+    return remoteExecutionConfig
+        .getCasBlobIndexTtlSeconds()
+        .map(
+            ttlSeconds ->
+                CasBlobIndex.load(
+                    cacheDir
+                        .resolve("cas_blob_index")
+                        .resolve(
+                            MostFiles.sanitize(
+                                String.format(
+                                    "%s_%d_%s",
+                                    remoteExecutionConfig.getCasHost(),
+                                    remoteExecutionConfig.getCasPort(),
+                                    remoteExecutionConfig.getInstanceName()))),
+                    TimeUnit.SECONDS.toMillis(ttlSeconds),
+                    new DefaultClock()));
+  }
 }
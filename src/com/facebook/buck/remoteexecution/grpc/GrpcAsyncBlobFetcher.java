@@ -16,61 +16,212 @@
 
 package com.facebook.buck.remoteexecution.grpc;
 
+import build.bazel.remote.execution.v2.BatchReadBlobsRequest;
+import build.bazel.remote.execution.v2.BatchReadBlobsResponse;
+import build.bazel.remote.execution.v2.ContentAddressableStorageGrpc.ContentAddressableStorageFutureStub;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.remoteexecution.AsyncBlobFetcher;
 import com.facebook.buck.remoteexecution.CasBlobDownloadEvent;
 import com.facebook.buck.remoteexecution.Protocol;
+import com.facebook.buck.remoteexecution.Protocol.Digest;
+import com.facebook.buck.remoteexecution.grpc.GrpcProtocol.GrpcDigest;
 import com.facebook.buck.util.Scope;
 import com.google.bytestream.ByteStreamGrpc.ByteStreamStub;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.protobuf.ByteString;
+import io.grpc.StatusRuntimeException;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
-/** GRPC implementation of the AsyncBlobFetcher. */
+/**
+ * GRPC implementation of the AsyncBlobFetcher.
+ *
+ * <p>Small blobs are fetched in batches of up to {@link #BATCH_READ_SIZE_LIMIT} bytes with
+ * BatchReadBlobs. Large blobs are read with ByteStream, in parallel chunks when they are read into
+ * memory, and resuming from the last received offset when a stream breaks.
+ */
 public class GrpcAsyncBlobFetcher implements AsyncBlobFetcher {
+  // Responses have to stay below the default 4MB gRPC message size limit, including the digest and
+  // status of every blob, so batches leave headroom for them.
+  private static final int BATCH_READ_SIZE_LIMIT = 4 * 1024 * 1024 - 256 * 1024;
+  private static final int BATCH_READ_BLOB_OVERHEAD = 256;
+  private static final int PARALLEL_READ_CHUNK_SIZE = 4 * 1024 * 1024;
+  private static final int MAX_READ_RESUMES = 3;
 
   private final String instanceName;
+  private final ContentAddressableStorageFutureStub storageStub;
   private final ByteStreamStub byteStreamStub;
   private final BuckEventBus buckEventBus;
 
   public GrpcAsyncBlobFetcher(
-      String instanceName, ByteStreamStub byteStreamStub, BuckEventBus buckEventBus) {
+      String instanceName,
+      ContentAddressableStorageFutureStub storageStub,
+      ByteStreamStub byteStreamStub,
+      BuckEventBus buckEventBus) {
     this.instanceName = instanceName;
+    this.storageStub = storageStub;
     this.byteStreamStub = byteStreamStub;
     this.buckEventBus = buckEventBus;
   }
 
   @Override
   public ListenableFuture<ByteBuffer> fetch(Protocol.Digest digest) {
-    try (Scope unused = CasBlobDownloadEvent.sendEvent(buckEventBus, 1, digest.getSize())) {
-      /** Payload received on a fetch request. */
-      class Data {
-        ByteString data = ByteString.EMPTY;
+    Scope scope = CasBlobDownloadEvent.sendEvent(buckEventBus, 1, digest.getSize());
+    ListenableFuture<ByteBuffer> result;
+    if (digest.getSize() <= PARALLEL_READ_CHUNK_SIZE) {
+      result = readChunk(digest, 0, 0);
+    } else {
+      List<ListenableFuture<ByteBuffer>> chunks = new ArrayList<>();
+      for (long offset = 0; offset < digest.getSize(); offset += PARALLEL_READ_CHUNK_SIZE) {
+        long limit = Math.min(PARALLEL_READ_CHUNK_SIZE, digest.getSize() - offset);
+        chunks.add(readChunk(digest, offset, limit));
+      }
+      result =
+          Futures.transform(
+              Futures.allAsList(chunks),
+              data -> {
+                ByteBuffer buffer = ByteBuffer.allocate(digest.getSize());
+                data.forEach(buffer::put);
+                buffer.flip();
+                return buffer.asReadOnlyBuffer();
+              },
+              MoreExecutors.directExecutor());
+    }
+    result.addListener(scope::close, MoreExecutors.directExecutor());
+    return result;
+  }
 
-        public ByteBuffer get() {
-          return data.asReadOnlyByteBuffer();
-        }
+  private ListenableFuture<ByteBuffer> readChunk(Protocol.Digest digest, long offset, long limit) {
+    /** Payload received on a fetch request. */
+    class Data {
+      ByteString data = ByteString.EMPTY;
 
-        public void concat(ByteString bytes) {
-          data = data.concat(bytes);
-        }
+      public ByteBuffer get() {
+        return data.asReadOnlyByteBuffer();
       }
 
-      Data data = new Data();
-      return Futures.transform(
-          GrpcRemoteExecutionClients.readByteStream(
-              instanceName, digest, byteStreamStub, data::concat),
-          ignored -> data.get(),
-          MoreExecutors.directExecutor());
+      public void concat(ByteString bytes) {
+        data = data.concat(bytes);
+      }
     }
+
+    Data data = new Data();
+    return Futures.transform(
+        GrpcRemoteExecutionClients.readByteStream(
+            instanceName, digest, byteStreamStub, offset, limit, data::concat),
+        ignored -> data.get(),
+        MoreExecutors.directExecutor());
   }
 
   @Override
   public ListenableFuture<Void> fetchToStream(Protocol.Digest digest, OutputStream outputStream) {
-    return GrpcRemoteExecutionClients.readByteStream(
-        instanceName, digest, byteStreamStub, data -> data.writeTo(outputStream));
+    Scope scope = CasBlobDownloadEvent.sendEvent(buckEventBus, 1, digest.getSize());
+    ListenableFuture<Void> result = readToStream(digest, outputStream, new AtomicLong(), 0);
+    result.addListener(scope::close, MoreExecutors.directExecutor());
+    return result;
+  }
+
+  /** Reads everything after {@code received} bytes, resuming there if the stream breaks. */
+  private ListenableFuture<Void> readToStream(
+      Protocol.Digest digest, OutputStream outputStream, AtomicLong received, int resumes) {
+    long offset = received.get();
+    return Futures.catchingAsync(
+        GrpcRemoteExecutionClients.readByteStream(
+            instanceName,
+            digest,
+            byteStreamStub,
+            offset,
+            0,
+            data -> {
+              data.writeTo(outputStream);
+              received.addAndGet(data.size());
+            }),
+        StatusRuntimeException.class,
+        e -> {
+          if (resumes >= MAX_READ_RESUMES || received.get() == offset) {
+            throw e;
+          }
+          return readToStream(digest, outputStream, received, resumes + 1);
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  @Override
+  public ListenableFuture<ImmutableMap<Digest, ByteBuffer>> batchFetch(
+      ImmutableSet<Digest> digests) {
+    List<ListenableFuture<ImmutableMap<Digest, ByteBuffer>>> batches = new ArrayList<>();
+    ImmutableList.Builder<Digest> batch = ImmutableList.builder();
+    long batchSize = 0;
+    for (Digest digest : digests) {
+      if (digest.getSize() > BATCH_READ_SIZE_LIMIT) {
+        batches.add(
+            Futures.transform(
+                fetch(digest),
+                data -> ImmutableMap.of(digest, data),
+                MoreExecutors.directExecutor()));
+        continue;
+      }
+      long entrySize = digest.getSize() + BATCH_READ_BLOB_OVERHEAD;
+      if (batchSize + entrySize > BATCH_READ_SIZE_LIMIT) {
+        batches.add(batchRead(batch.build()));
+        batch = ImmutableList.builder();
+        batchSize = 0;
+      }
+      batch.add(digest);
+      batchSize += entrySize;
+    }
+    ImmutableList<Digest> lastBatch = batch.build();
+    if (!lastBatch.isEmpty()) {
+      batches.add(batchRead(lastBatch));
+    }
+    return Futures.transform(
+        Futures.allAsList(batches),
+        results -> {
+          ImmutableMap.Builder<Digest, ByteBuffer> builder = ImmutableMap.builder();
+          results.forEach(builder::putAll);
+          return builder.build();
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private ListenableFuture<ImmutableMap<Digest, ByteBuffer>> batchRead(
+      ImmutableList<Digest> digests) {
+    Scope scope =
+        CasBlobDownloadEvent.sendEvent(
+            buckEventBus, digests.size(), digests.stream().mapToLong(Digest::getSize).sum());
+    BatchReadBlobsRequest.Builder requestBuilder =
+        BatchReadBlobsRequest.newBuilder().setInstanceName(instanceName);
+    digests.forEach(digest -> requestBuilder.addDigests(GrpcProtocol.get(digest)));
+    ListenableFuture<ImmutableMap<Digest, ByteBuffer>> result =
+        Futures.transform(
+            storageStub.batchReadBlobs(requestBuilder.build()),
+            response -> {
+              ImmutableMap.Builder<Digest, ByteBuffer> builder = ImmutableMap.builder();
+              for (BatchReadBlobsResponse.Response blob : response.getResponsesList()) {
+                if (blob.getStatus().getCode() != 0) {
+                  throw new UncheckedExecutionException(
+                      new IOException(
+                          String.format(
+                              "Failed fetching blob %s: %s",
+                              blob.getDigest().getHash(), blob.getStatus().getMessage())));
+                }
+                builder.put(
+                    new GrpcDigest(blob.getDigest()), blob.getData().asReadOnlyByteBuffer());
+              }
+              return builder.build();
+            },
+            MoreExecutors.directExecutor());
+    result.addListener(scope::close, MoreExecutors.directExecutor());
+    return result;
   }
 }
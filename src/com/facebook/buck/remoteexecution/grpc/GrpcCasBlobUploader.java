@@ -29,25 +29,53 @@ import com.facebook.buck.remoteexecution.grpc.GrpcProtocol.GrpcDigest;
 import com.facebook.buck.util.MoreThrowables;
 import com.facebook.buck.util.Scope;
 import com.facebook.buck.util.exceptions.BuckUncheckedExecutionException;
+import com.google.bytestream.ByteStreamGrpc.ByteStreamStub;
+import com.google.bytestream.ByteStreamProto.QueryWriteStatusRequest;
+import com.google.bytestream.ByteStreamProto.QueryWriteStatusResponse;
+import com.google.bytestream.ByteStreamProto.WriteRequest;
+import com.google.bytestream.ByteStreamProto.WriteResponse;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.protobuf.ByteString;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
-/** GRPC implementation of the CasBlobUploader. */
+/**
+ * GRPC implementation of the CasBlobUploader.
+ *
+ * <p>Blobs larger than the batch size limit are written with ByteStream in chunks. If a write
+ * breaks, it is resumed from the size the server reports as committed, or restarted if the server
+ * can't report it.
+ */
 public class GrpcCasBlobUploader implements CasBlobUploader {
+  private static final int BYTESTREAM_WRITE_CHUNK_SIZE = 1024 * 1024;
+  private static final int MAX_WRITE_RESUMES = 3;
 
+  private final String instanceName;
   private final ContentAddressableStorageFutureStub storageStub;
+  private final ByteStreamStub byteStreamStub;
+  private final int batchSizeLimit;
   private final BuckEventBus buckEventBus;
 
   public GrpcCasBlobUploader(
-      ContentAddressableStorageFutureStub storageStub, BuckEventBus buckEventBus) {
+      String instanceName,
+      ContentAddressableStorageFutureStub storageStub,
+      ByteStreamStub byteStreamStub,
+      int batchSizeLimit,
+      BuckEventBus buckEventBus) {
+    this.instanceName = instanceName;
     this.storageStub = storageStub;
+    this.byteStreamStub = byteStreamStub;
+    this.batchSizeLimit = batchSizeLimit;
     this.buckEventBus = buckEventBus;
   }
 
@@ -75,6 +103,24 @@ public class GrpcCasBlobUploader implements CasBlobUploader {
   @Override
   public ImmutableList<UploadResult> batchUpdateBlobs(ImmutableList<UploadData> blobs)
       throws IOException {
+    ImmutableList.Builder<UploadData> smallBlobs = ImmutableList.builder();
+    ImmutableList.Builder<UploadResult> resultBuilder = ImmutableList.builder();
+    for (UploadData blob : blobs) {
+      if (blob.digest.getSize() > batchSizeLimit) {
+        resultBuilder.add(writeByteStream(blob));
+      } else {
+        smallBlobs.add(blob);
+      }
+    }
+    ImmutableList<UploadData> batch = smallBlobs.build();
+    if (!batch.isEmpty()) {
+      resultBuilder.addAll(batchUpdate(batch));
+    }
+    return resultBuilder.build();
+  }
+
+  private ImmutableList<UploadResult> batchUpdate(ImmutableList<UploadData> blobs)
+      throws IOException {
     long totalBlobSizeBytes = blobs.stream().mapToLong(blob -> blob.digest.getSize()).sum();
     try (Scope unused =
         CasBlobUploadEvent.sendEvent(buckEventBus, blobs.size(), totalBlobSizeBytes)) {
@@ -106,4 +152,115 @@ public class GrpcCasBlobUploader implements CasBlobUploader {
           blobs.stream().map(b -> b.data.describe()).collect(Collectors.joining(">, <")));
     }
   }
+
+  private UploadResult writeByteStream(UploadData blob) throws IOException {
+    String resourceName =
+        GrpcRemoteExecutionClients.getWriteResourceName(instanceName, blob.digest);
+    try (Scope unused = CasBlobUploadEvent.sendEvent(buckEventBus, 1, blob.digest.getSize())) {
+      long committedSize = 0;
+      for (int resumes = 0; ; resumes++) {
+        try {
+          write(resourceName, blob, committedSize).get();
+          return new UploadResult(blob.digest, 0, null);
+        } catch (ExecutionException e) {
+          if (resumes >= MAX_WRITE_RESUMES) {
+            Status status = Status.fromThrowable(e.getCause());
+            return new UploadResult(
+                blob.digest, status.getCode().value(), String.valueOf(status.getDescription()));
+          }
+          QueryWriteStatusResponse writeStatus;
+          try {
+            writeStatus = queryWriteStatus(resourceName).get();
+          } catch (ExecutionException queryException) {
+            // Without the committed size, the blob is written again from the start as a new upload.
+            resourceName =
+                GrpcRemoteExecutionClients.getWriteResourceName(instanceName, blob.digest);
+            committedSize = 0;
+            continue;
+          }
+          if (writeStatus.getComplete()) {
+            return new UploadResult(blob.digest, 0, null);
+          }
+          committedSize = writeStatus.getCommittedSize();
+        }
+      }
+    } catch (InterruptedException e) {
+      throw new BuckUncheckedExecutionException(
+          e, "When writing blob: <%s>.", blob.data.describe());
+    }
+  }
+
+  /** Streams the data of {@code blob} after {@code offset} to the CAS. */
+  private ListenableFuture<Void> write(String resourceName, UploadData blob, long offset)
+      throws IOException {
+    SettableFuture<Void> future = SettableFuture.create();
+    StreamObserver<WriteRequest> requestObserver =
+        byteStreamStub.write(
+            new StreamObserver<WriteResponse>() {
+              @Override
+              public void onNext(WriteResponse value) {}
+
+              @Override
+              public void onError(Throwable t) {
+                future.setException(t);
+              }
+
+              @Override
+              public void onCompleted() {
+                future.set(null);
+              }
+            });
+    try (InputStream dataStream = blob.data.get()) {
+      ByteStreams.skipFully(dataStream, offset);
+      byte[] buffer = new byte[BYTESTREAM_WRITE_CHUNK_SIZE];
+      long position = offset;
+      while (!future.isDone()) {
+        int read = ByteStreams.read(dataStream, buffer, 0, buffer.length);
+        if (read == 0) {
+          throw new IOException(
+              String.format(
+                  "Data of %s is shorter than its size %d.",
+                  blob.data.describe(), blob.digest.getSize()));
+        }
+        boolean finished = position + read >= blob.digest.getSize();
+        requestObserver.onNext(
+            WriteRequest.newBuilder()
+                .setResourceName(resourceName)
+                .setWriteOffset(position)
+                .setData(ByteString.copyFrom(buffer, 0, read))
+                .setFinishWrite(finished)
+                .build());
+        position += read;
+        if (finished) {
+          break;
+        }
+      }
+      requestObserver.onCompleted();
+    } catch (IOException | RuntimeException e) {
+      requestObserver.onError(e);
+      throw e;
+    }
+    return future;
+  }
+
+  private ListenableFuture<QueryWriteStatusResponse> queryWriteStatus(String resourceName) {
+    SettableFuture<QueryWriteStatusResponse> future = SettableFuture.create();
+    byteStreamStub.queryWriteStatus(
+        QueryWriteStatusRequest.newBuilder().setResourceName(resourceName).build(),
+        new StreamObserver<QueryWriteStatusResponse>() {
+          @Override
+          public void onNext(QueryWriteStatusResponse value) {
+            future.set(value);
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            future.setException(t);
+          }
+
+          @Override
+          public void onCompleted() {}
+        });
+    return future;
+  }
 }
@@ -24,6 +24,7 @@ import com.facebook.buck.remoteexecution.Protocol.Digest;
 import com.facebook.buck.remoteexecution.Protocol.OutputDirectory;
 import com.facebook.buck.remoteexecution.Protocol.OutputFile;
 import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.util.CasBlobIndex;
 import com.facebook.buck.remoteexecution.util.MultiThreadedBlobUploader;
 import com.facebook.buck.remoteexecution.util.OutputsMaterializer;
 import com.facebook.buck.util.concurrent.MostExecutors;
@@ -33,9 +34,13 @@ import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 /** Implementation of CAS using GRPC. */
 public class GrpcContentAddressableStorage implements ContentAddressedStorage {
+  private static final int MISSING_CHECK_LIMIT = 1000;
+  private static final int UPLOAD_SIZE_LIMIT = 10 * 1024 * 1024;
+
   private final MultiThreadedBlobUploader uploader;
   private final OutputsMaterializer outputsMaterializer;
 
@@ -44,17 +49,21 @@ public class GrpcContentAddressableStorage implements ContentAddressedStorage {
       ByteStreamStub byteStreamStub,
       String instanceName,
       Protocol protocol,
-      BuckEventBus buckEventBus) {
+      BuckEventBus buckEventBus,
+      Optional<CasBlobIndex> blobIndex) {
     this.uploader =
         new MultiThreadedBlobUploader(
-            1000,
-            10 * 1024 * 1024,
+            MISSING_CHECK_LIMIT,
+            UPLOAD_SIZE_LIMIT,
             MostExecutors.newMultiThreadExecutor("blob-uploader", 4),
-            new GrpcCasBlobUploader(storageStub, buckEventBus));
+            new GrpcCasBlobUploader(
+                instanceName, storageStub, byteStreamStub, UPLOAD_SIZE_LIMIT, buckEventBus),
+            blobIndex);
 
     this.outputsMaterializer =
         new OutputsMaterializer(
-            new GrpcAsyncBlobFetcher(instanceName, byteStreamStub, buckEventBus), protocol);
+            new GrpcAsyncBlobFetcher(instanceName, storageStub, byteStreamStub, buckEventBus),
+            protocol);
   }
 
   @Override
@@ -62,10 +71,18 @@ public class GrpcContentAddressableStorage implements ContentAddressedStorage {
     return uploader.addMissing(data);
   }
 
+  @Override
+  public void forget(Iterable<Digest> digests) {
+    uploader.forget(digests);
+  }
+
   @Override
   public ListenableFuture<Void> materializeOutputs(
-      List<OutputDirectory> outputDirectories, List<OutputFile> outputFiles, Path root)
+      List<OutputDirectory> outputDirectories,
+      List<OutputFile> outputFiles,
+      Path root,
+      MaterializedFileListener listener)
       throws IOException {
-    return outputsMaterializer.materialize(outputDirectories, outputFiles, root);
+    return outputsMaterializer.materialize(outputDirectories, outputFiles, root, listener);
   }
 }
@@ -19,6 +19,7 @@ package com.facebook.buck.remoteexecution.grpc;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.log.TraceInfoProvider;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
+import com.facebook.buck.remoteexecution.util.CasBlobIndex;
 import com.facebook.buck.remoteexecution.util.LocalContentAddressedStorage;
 import com.facebook.buck.util.NamedTemporaryDirectory;
 import com.google.common.io.Closer;
@@ -82,6 +83,7 @@ public class GrpcExecutionFactory {
       int executionEnginePort,
       String casHost,
       int casPort,
+      String instanceName,
       boolean insecure,
       boolean casInsecure,
       Optional<String> executionEngineHostSNIName,
@@ -90,7 +92,8 @@ public class GrpcExecutionFactory {
       Optional<Path> keyPath,
       Optional<Path> caPath,
       Optional<TraceInfoProvider> traceInfoProvider,
-      BuckEventBus buckEventBus)
+      BuckEventBus buckEventBus,
+      Optional<CasBlobIndex> blobIndex)
       throws SSLException {
 
     ManagedChannel executionEngineChannel;
@@ -115,7 +118,12 @@ public class GrpcExecutionFactory {
     }
 
     return new GrpcRemoteExecutionClients(
-        "buck", executionEngineChannel, casChannel, traceInfoProvider, buckEventBus);
+        instanceName,
+        executionEngineChannel,
+        casChannel,
+        traceInfoProvider,
+        buckEventBus,
+        blobIndex);
   }
 
   private static ManagedChannel createInsecureChannel(String host, int port) {
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.remoteexecution.grpc;
 
+import build.bazel.remote.execution.v2.ActionCacheGrpc;
 import build.bazel.remote.execution.v2.ContentAddressableStorageGrpc;
 import build.bazel.remote.execution.v2.ContentAddressableStorageGrpc.ContentAddressableStorageFutureStub;
 import build.bazel.remote.execution.v2.Digest;
@@ -28,6 +29,7 @@ import com.facebook.buck.remoteexecution.ContentAddressedStorage;
 import com.facebook.buck.remoteexecution.Protocol;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
 import com.facebook.buck.remoteexecution.RemoteExecutionService;
+import com.facebook.buck.remoteexecution.util.CasBlobIndex;
 import com.facebook.buck.util.function.ThrowingConsumer;
 import com.google.bytestream.ByteStreamGrpc;
 import com.google.bytestream.ByteStreamGrpc.ByteStreamStub;
@@ -42,6 +44,7 @@ import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.immutables.value.Value;
 
@@ -52,6 +55,7 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
   private final GrpcRemoteExecutionService executionService;
   private final ManagedChannel executionEngineChannel;
   private final ManagedChannel casChannel;
+  private final Optional<CasBlobIndex> blobIndex;
 
   /** A parsed read resource path. */
   @Value.Immutable
@@ -68,8 +72,25 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
       ManagedChannel casChannel,
       Optional<TraceInfoProvider> traceInfoProvider,
       BuckEventBus buckEventBus) {
+    this(
+        instanceName,
+        executionEngineChannel,
+        casChannel,
+        traceInfoProvider,
+        buckEventBus,
+        Optional.empty());
+  }
+
+  public GrpcRemoteExecutionClients(
+      String instanceName,
+      ManagedChannel executionEngineChannel,
+      ManagedChannel casChannel,
+      Optional<TraceInfoProvider> traceInfoProvider,
+      BuckEventBus buckEventBus,
+      Optional<CasBlobIndex> blobIndex) {
     this.executionEngineChannel = executionEngineChannel;
     this.casChannel = casChannel;
+    this.blobIndex = blobIndex;
 
     ByteStreamStub byteStreamStub = ByteStreamGrpc.newStub(casChannel);
     this.storage =
@@ -78,7 +99,8 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
             byteStreamStub,
             instanceName,
             PROTOCOL,
-            buckEventBus);
+            buckEventBus,
+            blobIndex);
     ExecutionStub executionStub = ExecutionGrpc.newStub(executionEngineChannel);
     if (traceInfoProvider.isPresent()) {
       Metadata headers = new Metadata();
@@ -89,23 +111,52 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
     }
     this.executionService =
         new GrpcRemoteExecutionService(
-            executionStub, byteStreamStub, instanceName, traceInfoProvider);
+            executionStub,
+            ActionCacheGrpc.newFutureStub(executionEngineChannel),
+            byteStreamStub,
+            instanceName,
+            traceInfoProvider);
   }
 
   private static String getReadResourceName(String instanceName, Protocol.Digest digest) {
     return String.format("%s/blobs/%s/%d", instanceName, digest.getHash(), digest.getSize());
   }
 
+  /** Returns a resource name for a new ByteStream write of the blob with {@code digest}. */
+  static String getWriteResourceName(String instanceName, Protocol.Digest digest) {
+    return String.format(
+        "%s/uploads/%s/blobs/%s/%d",
+        instanceName, UUID.randomUUID(), digest.getHash(), digest.getSize());
+  }
+
   /** Reads a ByteStream onto the arg consumer. */
   public static ListenableFuture<Void> readByteStream(
       String instanceName,
       Protocol.Digest digest,
       ByteStreamStub byteStreamStub,
       ThrowingConsumer<ByteString, IOException> dataConsumer) {
+    return readByteStream(instanceName, digest, byteStreamStub, 0, 0, dataConsumer);
+  }
+
+  /**
+   * Reads {@code limit} bytes of a blob starting at {@code offset}, or everything after {@code
+   * offset} if {@code limit} is 0.
+   */
+  public static ListenableFuture<Void> readByteStream(
+      String instanceName,
+      Protocol.Digest digest,
+      ByteStreamStub byteStreamStub,
+      long offset,
+      long limit,
+      ThrowingConsumer<ByteString, IOException> dataConsumer) {
     String name = getReadResourceName(instanceName, digest);
     SettableFuture<Void> future = SettableFuture.create();
     byteStreamStub.read(
-        ReadRequest.newBuilder().setResourceName(name).setReadLimit(0).setReadOffset(0).build(),
+        ReadRequest.newBuilder()
+            .setResourceName(name)
+            .setReadLimit(limit)
+            .setReadOffset(offset)
+            .build(),
         new StreamObserver<ReadResponse>() {
           @Override
           public void onNext(ReadResponse value) {
@@ -148,6 +199,9 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
   public void close() throws IOException {
     closeChannel(casChannel);
     closeChannel(executionEngineChannel);
+    if (blobIndex.isPresent()) {
+      blobIndex.get().save();
+    }
   }
 
   private static void closeChannel(ManagedChannel channel) {
@@ -164,8 +218,9 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
       ByteStreamStub byteStreamStub,
       String instanceName,
       Protocol protocol,
-      BuckEventBus buckEventBus) {
+      BuckEventBus buckEventBus,
+      Optional<CasBlobIndex> blobIndex) {
     return new GrpcContentAddressableStorage(
-        storageStub, byteStreamStub, instanceName, protocol, buckEventBus);
+        storageStub, byteStreamStub, instanceName, protocol, buckEventBus, blobIndex);
   }
 }
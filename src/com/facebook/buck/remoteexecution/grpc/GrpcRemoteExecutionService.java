@@ -16,10 +16,12 @@
 
 package com.facebook.buck.remoteexecution.grpc;
 
+import build.bazel.remote.execution.v2.ActionCacheGrpc.ActionCacheFutureStub;
 import build.bazel.remote.execution.v2.ActionResult;
 import build.bazel.remote.execution.v2.ExecuteRequest;
 import build.bazel.remote.execution.v2.ExecuteResponse;
 import build.bazel.remote.execution.v2.ExecutionGrpc.ExecutionStub;
+import build.bazel.remote.execution.v2.GetActionResultRequest;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.log.TraceInfoProvider;
 import com.facebook.buck.remoteexecution.Protocol;
@@ -34,12 +36,14 @@ import com.facebook.buck.util.exceptions.BuckUncheckedExecutionException;
 import com.google.bytestream.ByteStreamGrpc.ByteStreamStub;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.longrunning.Operation;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import io.grpc.Metadata;
 import io.grpc.Metadata.Key;
+import io.grpc.Status;
 import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
@@ -59,16 +63,19 @@ public class GrpcRemoteExecutionService implements RemoteExecutionService {
   private static final Key<? super String> EDGE_ID_KEY =
       Metadata.Key.of("edge-id", Metadata.ASCII_STRING_MARSHALLER);
   private final ExecutionStub executionStub;
+  private final ActionCacheFutureStub actionCacheStub;
   private final ByteStreamStub byteStreamStub;
   private final String instanceName;
   private final Optional<TraceInfoProvider> traceInfoProvider;
 
   public GrpcRemoteExecutionService(
       ExecutionStub executionStub,
+      ActionCacheFutureStub actionCacheStub,
       ByteStreamStub byteStreamStub,
       String instanceName,
       Optional<TraceInfoProvider> traceInfoProvider) {
     this.executionStub = executionStub;
+    this.actionCacheStub = actionCacheStub;
     this.byteStreamStub = byteStreamStub;
     this.instanceName = instanceName;
     this.traceInfoProvider = traceInfoProvider;
@@ -112,7 +119,11 @@ public class GrpcRemoteExecutionService implements RemoteExecutionService {
 
               @Override
               public void onError(Throwable t) {
-                future.setException(t);
+                if (Status.fromThrowable(t).getCode() == Status.Code.FAILED_PRECONDITION) {
+                  future.setException(new MissingInputsException(t.getMessage()));
+                } else {
+                  future.setException(t);
+                }
               }
 
               @Override
@@ -135,14 +146,50 @@ public class GrpcRemoteExecutionService implements RemoteExecutionService {
           }
 
           try {
-            return getExecutionResult(
-                operation.getResponse().unpack(ExecuteResponse.class).getResult());
+            ExecuteResponse response = operation.getResponse().unpack(ExecuteResponse.class);
+            // The service reports inputs that are missing from the CAS as a failed precondition.
+            if (response.getStatus().getCode() == Status.Code.FAILED_PRECONDITION.value()) {
+              throw new MissingInputsException(
+                  "Execution failed: " + response.getStatus().getMessage());
+            }
+            return getExecutionResult(response.getResult());
           } catch (InvalidProtocolBufferException e) {
             throw new BuckUncheckedExecutionException(e);
           }
         });
   }
 
+  @Override
+  public ListenableFuture<Optional<ExecutionResult>> getCachedResult(
+      Protocol.Digest actionDigest) {
+    ListenableFuture<ActionResult> actionResult =
+        actionCacheStub.getActionResult(
+            GetActionResultRequest.newBuilder()
+                .setInstanceName(instanceName)
+                .setActionDigest(GrpcProtocol.get(actionDigest))
+                .build());
+    ListenableFuture<Optional<ExecutionResult>> cachedResult =
+        Futures.transform(
+            actionResult,
+            result -> Optional.of(getExecutionResult(result)),
+            MoreExecutors.directExecutor());
+    // NOT_FOUND is the regular cache miss, anything else (e.g. a server without an action cache)
+    // is treated as a miss too, since the action is then just executed as usual.
+    return Futures.catching(
+        cachedResult,
+        Exception.class,
+        e -> {
+          if (Status.fromThrowable(e).getCode() != Status.Code.NOT_FOUND) {
+            LOG.debug(
+                e,
+                "Action cache lookup failed for %s.",
+                RemoteExecutionActionEvent.actionDigestToString(actionDigest));
+          }
+          return Optional.empty();
+        },
+        MoreExecutors.directExecutor());
+  }
+
   private ExecutionResult getExecutionResult(ActionResult actionResult) {
     if (actionResult.getExitCode() != 0) {
       LOG.debug(
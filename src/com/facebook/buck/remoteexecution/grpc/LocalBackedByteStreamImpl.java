@@ -17,6 +17,8 @@
 package com.facebook.buck.remoteexecution.grpc;
 
 import build.bazel.remote.execution.v2.Digest;
+import com.facebook.buck.remoteexecution.CasBlobUploader.UploadData;
+import com.facebook.buck.remoteexecution.CasBlobUploader.UploadResult;
 import com.facebook.buck.remoteexecution.grpc.GrpcProtocol.GrpcDigest;
 import com.facebook.buck.remoteexecution.util.LocalContentAddressedStorage;
 import com.google.bytestream.ByteStreamGrpc.ByteStreamImplBase;
@@ -27,11 +29,20 @@ import com.google.bytestream.ByteStreamProto.ReadResponse;
 import com.google.bytestream.ByteStreamProto.WriteRequest;
 import com.google.bytestream.ByteStreamProto.WriteResponse;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.io.ByteStreams;
 import com.google.protobuf.ByteString;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 
 /** A simple ByteStream impl backed by a {@link LocalContentAddressedStorage}. */
 class LocalBackedByteStreamImpl extends ByteStreamImplBase {
@@ -42,17 +53,31 @@ class LocalBackedByteStreamImpl extends ByteStreamImplBase {
   public static final Pattern RESOURCE_NAME_PATTERN =
       Pattern.compile("([^/]*)/blobs/([^/]*)/([0-9]*)");
 
+  /**
+   * Matches upload patterns as specified by the remote execution api:
+   * {instance_name}/uploads/{uuid}/blobs/{hash}/{size}
+   */
+  public static final Pattern UPLOAD_RESOURCE_NAME_PATTERN =
+      Pattern.compile("([^/]*)/uploads/[^/]*/blobs/([^/]*)/([0-9]*)");
+
   private static final int BYTESTREAM_READ_CHUNK_SIZE = 1 * 1024 * 1024;
 
   private final LocalContentAddressedStorage storage;
 
+  /** Data of writes that have not finished yet, keyed by their resource name. */
+  private final ConcurrentMap<String, ByteString> pendingWrites = new ConcurrentHashMap<>();
+
   LocalBackedByteStreamImpl(LocalContentAddressedStorage storage) {
     this.storage = storage;
   }
 
   public static ParsedReadResource parseResourceName(String resource) {
-    Matcher matcher = RESOURCE_NAME_PATTERN.matcher(resource);
-    Preconditions.checkState(matcher.matches());
+    return parseResourceName(RESOURCE_NAME_PATTERN, resource);
+  }
+
+  private static ParsedReadResource parseResourceName(Pattern pattern, String resource) {
+    Matcher matcher = pattern.matcher(resource);
+    Preconditions.checkState(matcher.matches(), "Invalid resource name %s.", resource);
     return ParsedReadResource.of(
         matcher.group(1),
         Digest.newBuilder()
@@ -67,11 +92,14 @@ class LocalBackedByteStreamImpl extends ByteStreamImplBase {
       ParsedReadResource parsedResource = parseResourceName(request.getResourceName());
       byte[] buffer = new byte[BYTESTREAM_READ_CHUNK_SIZE];
       try (InputStream data = storage.getData(new GrpcDigest(parsedResource.getDigest()))) {
-        while (true) {
-          int read = data.read(buffer);
+        ByteStreams.skipFully(data, request.getReadOffset());
+        long remaining = request.getReadLimit() > 0 ? request.getReadLimit() : Long.MAX_VALUE;
+        while (remaining > 0) {
+          int read = data.read(buffer, 0, (int) Math.min(buffer.length, remaining));
           if (read == -1) {
             break;
           }
+          remaining -= read;
           responseObserver.onNext(
               ReadResponse.newBuilder().setData(ByteString.copyFrom(buffer, 0, read)).build());
         }
@@ -85,14 +113,95 @@ class LocalBackedByteStreamImpl extends ByteStreamImplBase {
 
   @Override
   public StreamObserver<WriteRequest> write(StreamObserver<WriteResponse> responseObserver) {
-    // Unimplemented, Buck client doesn't use this.
-    return super.write(responseObserver);
+    return new StreamObserver<WriteRequest>() {
+      @Nullable private String resourceName;
+      private boolean finished = false;
+
+      @Override
+      public void onNext(WriteRequest request) {
+        if (finished) {
+          return;
+        }
+        try {
+          if (resourceName == null) {
+            resourceName = request.getResourceName();
+          }
+          String name = Objects.requireNonNull(resourceName);
+          ByteString data = pendingWrites.getOrDefault(name, ByteString.EMPTY);
+          if (request.getWriteOffset() != data.size()) {
+            throw Status.INVALID_ARGUMENT
+                .withDescription(
+                    String.format(
+                        "Write at offset %d, but %d bytes were committed.",
+                        request.getWriteOffset(), data.size()))
+                .asRuntimeException();
+          }
+          data = data.concat(request.getData());
+          pendingWrites.put(name, data);
+          if (request.getFinishWrite()) {
+            finished = true;
+            commit(name, data);
+            responseObserver.onNext(
+                WriteResponse.newBuilder().setCommittedSize(data.size()).build());
+            responseObserver.onCompleted();
+          }
+        } catch (Exception e) {
+          finished = true;
+          responseObserver.onError(e);
+        }
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        // Committed data is kept so that the client can resume the write.
+      }
+
+      @Override
+      public void onCompleted() {
+        if (!finished) {
+          responseObserver.onError(
+              Status.INVALID_ARGUMENT
+                  .withDescription("Write was completed without finishing.")
+                  .asRuntimeException());
+        }
+      }
+    };
+  }
+
+  private void commit(String resourceName, ByteString data) throws IOException {
+    pendingWrites.remove(resourceName);
+    GrpcDigest digest =
+        new GrpcDigest(
+            parseResourceName(UPLOAD_RESOURCE_NAME_PATTERN, resourceName).getDigest());
+    if (!GrpcRemoteExecutionClients.PROTOCOL.computeDigest(data.toByteArray()).equals(digest)) {
+      throw Status.INVALID_ARGUMENT
+          .withDescription(String.format("Data doesn't match digest of %s.", resourceName))
+          .asRuntimeException();
+    }
+    UploadResult result =
+        Iterables.getOnlyElement(
+            storage.batchUpdateBlobs(ImmutableList.of(new UploadData(digest, data::newInput))));
+    if (result.status != 0) {
+      throw new IOException(result.message);
+    }
   }
 
   @Override
   public void queryWriteStatus(
       QueryWriteStatusRequest request, StreamObserver<QueryWriteStatusResponse> responseObserver) {
-    // Unimplemented, Buck client doesn't use this.
-    super.queryWriteStatus(request, responseObserver);
+    String resourceName = request.getResourceName();
+    @Nullable ByteString data = pendingWrites.get(resourceName);
+    QueryWriteStatusResponse.Builder response = QueryWriteStatusResponse.newBuilder();
+    if (data != null) {
+      response.setCommittedSize(data.size()).setComplete(false);
+    } else {
+      GrpcDigest digest =
+          new GrpcDigest(
+              parseResourceName(UPLOAD_RESOURCE_NAME_PATTERN, resourceName).getDigest());
+      boolean complete = storage.findMissing(ImmutableList.of(digest)).count() == 0;
+      response.setCommittedSize(complete ? digest.getSize() : 0).setComplete(complete);
+    }
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
   }
 }
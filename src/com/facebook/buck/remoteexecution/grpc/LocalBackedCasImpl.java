@@ -16,6 +16,8 @@
 
 package com.facebook.buck.remoteexecution.grpc;
 
+import build.bazel.remote.execution.v2.BatchReadBlobsRequest;
+import build.bazel.remote.execution.v2.BatchReadBlobsResponse;
 import build.bazel.remote.execution.v2.BatchUpdateBlobsRequest;
 import build.bazel.remote.execution.v2.BatchUpdateBlobsResponse;
 import build.bazel.remote.execution.v2.BatchUpdateBlobsResponse.Response;
@@ -31,11 +33,13 @@ import com.facebook.buck.remoteexecution.Protocol.Directory;
 import com.facebook.buck.remoteexecution.grpc.GrpcProtocol.GrpcDigest;
 import com.facebook.buck.remoteexecution.util.LocalContentAddressedStorage;
 import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ByteString;
 import com.google.rpc.Status.Builder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -108,6 +112,29 @@ class LocalBackedCasImpl extends ContentAddressableStorageImplBase {
     }
   }
 
+  @Override
+  public void batchReadBlobs(
+      BatchReadBlobsRequest request, StreamObserver<BatchReadBlobsResponse> responseObserver) {
+    BatchReadBlobsResponse.Builder responseBuilder = BatchReadBlobsResponse.newBuilder();
+    for (build.bazel.remote.execution.v2.Digest digest : request.getDigestsList()) {
+      BatchReadBlobsResponse.Response.Builder blobResponse =
+          BatchReadBlobsResponse.Response.newBuilder().setDigest(digest);
+      try (InputStream dataStream = storage.getData(new GrpcDigest(digest))) {
+        blobResponse
+            .setData(ByteString.readFrom(dataStream))
+            .setStatus(com.google.rpc.Status.newBuilder().setCode(Status.Code.OK.value()));
+      } catch (Exception e) {
+        blobResponse.setStatus(
+            com.google.rpc.Status.newBuilder()
+                .setCode(Status.Code.NOT_FOUND.value())
+                .setMessage(String.valueOf(e.getMessage())));
+      }
+      responseBuilder.addResponses(blobResponse);
+    }
+    responseObserver.onNext(responseBuilder.build());
+    responseObserver.onCompleted();
+  }
+
   @Override
   public void getTree(GetTreeRequest request, StreamObserver<GetTreeResponse> responseObserver) {
     try {
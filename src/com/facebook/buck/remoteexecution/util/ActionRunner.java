@@ -51,6 +51,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -61,10 +62,23 @@ import java.util.stream.Stream;
 public class ActionRunner {
   private final Protocol protocol;
   private final BuckEventBus eventBus;
+  private final Optional<PersistentWorkerRunner> persistentWorkers;
 
   public ActionRunner(Protocol protocol, BuckEventBus eventBus) {
+    this(protocol, eventBus, Optional.empty());
+  }
+
+  /**
+   * @param persistentWorkers runner for the commands that can be run on persistent workers rather
+   *     than in a new process.
+   */
+  public ActionRunner(
+      Protocol protocol,
+      BuckEventBus eventBus,
+      Optional<PersistentWorkerRunner> persistentWorkers) {
     this.protocol = protocol;
     this.eventBus = eventBus;
+    this.persistentWorkers = persistentWorkers;
   }
 
   /** Results of an action. */
@@ -113,7 +127,14 @@ public class ActionRunner {
 
     Result result;
     try (Scope ignored = LeafEvents.scope(eventBus, "subprocess")) {
-      result = new DefaultProcessExecutor(console).launchAndExecute(paramsBuilder.build());
+      Optional<Result> workerResult =
+          persistentWorkers.isPresent()
+              ? persistentWorkers.get().run(command, environment, buildDir)
+              : Optional.empty();
+      result =
+          workerResult.isPresent()
+              ? workerResult.get()
+              : new DefaultProcessExecutor(console).launchAndExecute(paramsBuilder.build());
     }
 
     ImmutableList.Builder<OutputFile> outputFiles;
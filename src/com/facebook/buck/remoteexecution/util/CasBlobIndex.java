@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+import com.google.common.io.MoreFiles;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Index of the blobs that are known to be contained in a CAS, which is persisted to a file so that
+ * it is shared by all commands that talk to the same CAS, even across daemon restarts.
+ *
+ * <p>A blob is only assumed to be contained for {@code ttlMillis} after the CAS last confirmed it,
+ * as the CAS is free to evict blobs that are not referenced for a while. The ttl should therefore
+ * be well below the retention guarantees of the CAS.
+ */
+@ThreadSafe
+public class CasBlobIndex {
+  private static final Logger LOG = Logger.get(CasBlobIndex.class);
+
+  private final Path indexFile;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  /** Times at which the CAS confirmed that it contains a blob, keyed by the hash of the blob. */
+  private final ConcurrentMap<String, Long> confirmedAt;
+
+  private CasBlobIndex(
+      Path indexFile, long ttlMillis, Clock clock, ConcurrentMap<String, Long> confirmedAt) {
+    this.indexFile = indexFile;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+    this.confirmedAt = confirmedAt;
+  }
+
+  /**
+   * Loads the index stored at {@code indexFile}, dropping all expired entries. A missing or
+   * unreadable index file results in an empty index.
+   */
+  public static CasBlobIndex load(Path indexFile, long ttlMillis, Clock clock) {
+    ConcurrentMap<String, Long> confirmedAt = new ConcurrentHashMap<>();
+    long oldestValid = clock.currentTimeMillis() - ttlMillis;
+    try (BufferedReader reader = Files.newBufferedReader(indexFile, Charsets.UTF_8)) {
+      Splitter splitter = Splitter.on(' ');
+      String line;
+      while ((line = reader.readLine()) != null) {
+        List<String> parts = splitter.splitToList(line);
+        if (parts.size() != 2) {
+          continue;
+        }
+        long time = Long.parseLong(parts.get(1));
+        if (time > oldestValid) {
+          confirmedAt.merge(parts.get(0), time, Math::max);
+        }
+      }
+    } catch (NoSuchFileException e) {
+      // Nothing has been recorded yet.
+    } catch (IOException | NumberFormatException e) {
+      LOG.warn(e, "Failed to load CAS blob index from %s, starting with an empty one.", indexFile);
+      confirmedAt.clear();
+    }
+    return new CasBlobIndex(indexFile, ttlMillis, clock, confirmedAt);
+  }
+
+  /** @return whether the CAS confirmed that it contains the blob within the ttl. */
+  public boolean contains(String hash) {
+    @Nullable Long time = confirmedAt.get(hash);
+    return time != null && time > clock.currentTimeMillis() - ttlMillis;
+  }
+
+  /** Records that the CAS just confirmed that it contains the blob. */
+  public void add(String hash) {
+    confirmedAt.put(hash, clock.currentTimeMillis());
+  }
+
+  /** Forgets the blob, e.g. because the CAS turned out to be missing it after all. */
+  public void remove(String hash) {
+    confirmedAt.remove(hash);
+  }
+
+  /** Atomically replaces the index file with all entries that have not expired yet. */
+  public void save() throws IOException {
+    long oldestValid = clock.currentTimeMillis() - ttlMillis;
+    MoreFiles.createParentDirectories(indexFile);
+    Path tempFile =
+        indexFile.resolveSibling("." + indexFile.getFileName() + ".tmp." + UUID.randomUUID());
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(tempFile, Charsets.UTF_8)) {
+        for (Map.Entry<String, Long> entry : confirmedAt.entrySet()) {
+          if (entry.getValue() > oldestValid) {
+            writer.write(entry.getKey());
+            writer.write(' ');
+            writer.write(Long.toString(entry.getValue()));
+            writer.newLine();
+          }
+        }
+      }
+      Files.move(
+          tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+}
@@ -192,14 +192,22 @@ public class LocalContentAddressedStorage implements ContentAddressedStorage {
     return uploader.addMissing(data);
   }
 
+  @Override
+  public void forget(Iterable<Digest> digests) {
+    uploader.forget(digests);
+  }
+
   /**
    * Materializes the outputs into the build root. All required data must be present (or inlined).
    */
   @Override
   public ListenableFuture<Void> materializeOutputs(
-      List<OutputDirectory> outputDirectories, List<OutputFile> outputFiles, Path root)
+      List<OutputDirectory> outputDirectories,
+      List<OutputFile> outputFiles,
+      Path root,
+      MaterializedFileListener listener)
       throws IOException {
-    return outputsMaterializer.materialize(outputDirectories, outputFiles, root);
+    return outputsMaterializer.materialize(outputDirectories, outputFiles, root, listener);
   }
 
   public Protocol.Action materializeAction(Protocol.Digest actionDigest) throws IOException {
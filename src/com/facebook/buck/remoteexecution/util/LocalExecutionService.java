@@ -0,0 +1,265 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.LeafEvents;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.remoteexecution.Protocol;
+import com.facebook.buck.remoteexecution.Protocol.Action;
+import com.facebook.buck.remoteexecution.Protocol.Command;
+import com.facebook.buck.remoteexecution.Protocol.Digest;
+import com.facebook.buck.remoteexecution.Protocol.OutputDirectory;
+import com.facebook.buck.remoteexecution.Protocol.OutputFile;
+import com.facebook.buck.remoteexecution.RemoteExecutionService;
+import com.facebook.buck.util.Scope;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link RemoteExecutionService} that runs actions on a pool of local workers, so that remote
+ * execution configs can be exercised and tuned on a single machine.
+ *
+ * <p>Each action runs in its own sandbox directory into which its inputs are hardlinked from a
+ * {@link LocalContentAddressedStorage}. Results of successful actions are kept in an action cache
+ * and concurrent requests for the same action share a single execution.
+ */
+public class LocalExecutionService implements RemoteExecutionService, Closeable {
+  private static final Logger LOG = Logger.get(LocalExecutionService.class);
+
+  private final LocalContentAddressedStorage storage;
+  private final Protocol protocol;
+  private final BuckEventBus eventBus;
+  private final Path workDir;
+  private final ListeningExecutorService workers;
+  private final Optional<PersistentWorkerRunner> persistentWorkers;
+
+  /** Results of pending and successful executions keyed by the hash of their action digest. */
+  private final ConcurrentMap<String, ListenableFuture<ExecutionResult>> actionCache =
+      new ConcurrentHashMap<>();
+
+  private final AtomicLong sandboxCount = new AtomicLong();
+  private final AtomicLong queuedCount = new AtomicLong();
+  private final AtomicLong executedCount = new AtomicLong();
+  private final AtomicLong cacheHitCount = new AtomicLong();
+  private final AtomicLong queueTimeNanos = new AtomicLong();
+  private final AtomicLong executionTimeNanos = new AtomicLong();
+
+  public LocalExecutionService(
+      LocalContentAddressedStorage storage,
+      Protocol protocol,
+      BuckEventBus eventBus,
+      Path workDir,
+      int workerCount) {
+    this(storage, protocol, eventBus, workDir, workerCount, Optional.empty());
+  }
+
+  /**
+   * @param persistentWorkers runner for the commands that can be run on persistent workers rather
+   *     than in a new process. It is closed along with this service.
+   */
+  public LocalExecutionService(
+      LocalContentAddressedStorage storage,
+      Protocol protocol,
+      BuckEventBus eventBus,
+      Path workDir,
+      int workerCount,
+      Optional<PersistentWorkerRunner> persistentWorkers) {
+    Preconditions.checkArgument(workerCount > 0, "Worker count must be positive.");
+    this.storage = storage;
+    this.protocol = protocol;
+    this.eventBus = eventBus;
+    this.workDir = workDir;
+    this.persistentWorkers = persistentWorkers;
+    this.workers =
+        MoreExecutors.listeningDecorator(
+            MostExecutors.newMultiThreadExecutor("local-re-worker", workerCount));
+  }
+
+  @Override
+  public ListenableFuture<ExecutionResult> execute(Digest actionDigest) {
+    String key = actionDigest.getHash();
+    SettableFuture<ExecutionResult> result = SettableFuture.create();
+    @Nullable ListenableFuture<ExecutionResult> cached = actionCache.putIfAbsent(key, result);
+    if (cached != null) {
+      cacheHitCount.incrementAndGet();
+      return Futures.nonCancellationPropagating(cached);
+    }
+
+    long queuedNanos = System.nanoTime();
+    result.setFuture(
+        workers.submit(
+            () -> {
+              queueTimeNanos.addAndGet(System.nanoTime() - queuedNanos);
+              long startNanos = System.nanoTime();
+              try {
+                return runAction(actionDigest);
+              } finally {
+                executionTimeNanos.addAndGet(System.nanoTime() - startNanos);
+                executedCount.incrementAndGet();
+              }
+            }));
+    queuedCount.incrementAndGet();
+    // Failures are not cached, so that retrying a failed action actually runs it again.
+    result.addListener(
+        () -> {
+          if (!isSuccessful(result)) {
+            actionCache.remove(key, result);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return Futures.nonCancellationPropagating(result);
+  }
+
+  @Override
+  public ListenableFuture<Optional<ExecutionResult>> getCachedResult(Digest actionDigest) {
+    // Only a finished execution counts as cached, a pending one is joined by execute() instead.
+    @Nullable ListenableFuture<ExecutionResult> cached = actionCache.get(actionDigest.getHash());
+    if (cached == null || !cached.isDone() || !isSuccessful(cached)) {
+      return Futures.immediateFuture(Optional.empty());
+    }
+    cacheHitCount.incrementAndGet();
+    return Futures.immediateFuture(Optional.of(Futures.getUnchecked(cached)));
+  }
+
+  private static boolean isSuccessful(ListenableFuture<ExecutionResult> result) {
+    try {
+      return !result.isCancelled() && Futures.getDone(result).getExitCode() == 0;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private ExecutionResult runAction(Digest actionDigest) throws IOException, InterruptedException {
+    Action action = storage.materializeAction(actionDigest);
+    // The input root alone does not identify a sandbox, since the same inputs may be shared by
+    // actions that run concurrently.
+    Path buildDir =
+        workDir.resolve(
+            String.format(
+                "%s-%d", action.getInputRootDigest().getHash(), sandboxCount.incrementAndGet()));
+    try (Closeable ignored = () -> MostFiles.deleteRecursively(buildDir)) {
+      Command command;
+      try (Scope ignored2 = LeafEvents.scope(eventBus, "materializing_inputs")) {
+        command =
+            storage
+                .materializeInputs(
+                    buildDir, action.getInputRootDigest(), Optional.of(action.getCommandDigest()))
+                .get();
+      }
+
+      ActionRunner.ActionResult actionResult =
+          new ActionRunner(protocol, eventBus, persistentWorkers)
+              .runAction(
+                  command.getCommand(),
+                  command.getEnvironment(),
+                  command
+                      .getOutputDirectories()
+                      .stream()
+                      .map(Paths::get)
+                      .collect(ImmutableSet.toImmutableSet()),
+                  buildDir);
+      try (Scope ignored2 = LeafEvents.scope(eventBus, "uploading_results")) {
+        Futures.getUnchecked(storage.addMissing(actionResult.requiredData));
+      }
+      return new ExecutionResult() {
+        @Override
+        public ImmutableList<OutputDirectory> getOutputDirectories() {
+          return actionResult.outputDirectories;
+        }
+
+        @Override
+        public ImmutableList<OutputFile> getOutputFiles() {
+          return actionResult.outputFiles;
+        }
+
+        @Override
+        public int getExitCode() {
+          return actionResult.exitCode;
+        }
+
+        @Override
+        public Optional<String> getStderr() {
+          return Optional.of(actionResult.stderr);
+        }
+      };
+    }
+  }
+
+  /** @return the number of actions that were queued for execution. */
+  public long getQueuedCount() {
+    return queuedCount.get();
+  }
+
+  /** @return the number of actions that finished executing, successfully or not. */
+  public long getExecutedCount() {
+    return executedCount.get();
+  }
+
+  /** @return the number of requests served by a pending or cached execution of the same action. */
+  public long getCacheHitCount() {
+    return cacheHitCount.get();
+  }
+
+  /** @return the total time actions spent waiting for a free worker. */
+  public long getQueueTimeNanos() {
+    return queueTimeNanos.get();
+  }
+
+  /** @return the total time workers spent executing actions. */
+  public long getExecutionTimeNanos() {
+    return executionTimeNanos.get();
+  }
+
+  @Override
+  public void close() {
+    workers.shutdownNow();
+    if (persistentWorkers.isPresent()) {
+      try {
+        persistentWorkers.get().close();
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to shut down persistent workers.");
+      }
+    }
+    LOG.info(
+        "Local execution: %d queued, %d executed, %d action cache hits, "
+            + "%d ms total queue time, %d ms total execution time.",
+        getQueuedCount(),
+        getExecutedCount(),
+        getCacheHitCount(),
+        TimeUnit.NANOSECONDS.toMillis(getQueueTimeNanos()),
+        TimeUnit.NANOSECONDS.toMillis(getExecutionTimeNanos()));
+  }
+}
@@ -40,6 +40,7 @@ import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * MerkleTreeNodeCache is used to create and merge merkle trees for action inputs. The nodes are
@@ -113,6 +114,16 @@ public class MerkleTreeNodeCache {
     rootNode.forAllNodes(n -> dataConsumer.accept(getData(n)));
   }
 
+  /**
+   * Iterate over the encoded data for the tree rooted at the provided node, skipping all subtrees
+   * whose root doesn't match {@code filter}. This is useful for collecting only the data that isn't
+   * already known to be available, e.g. for subtrees shared by many trees.
+   */
+  public void forAllData(
+      MerkleTreeNode rootNode, Predicate<MerkleTreeNode> filter, Consumer<NodeData> dataConsumer) {
+    rootNode.forAllNodes(filter, n -> dataConsumer.accept(getData(n)));
+  }
+
   /** Gets the {@link Protocol} encoded data for the provided tree. */
   public NodeData getData(MerkleTreeNode node) {
     Reference<MerkleTreeNode> nodeRef = new Reference<>(node);
@@ -168,9 +179,21 @@ public class MerkleTreeNodeCache {
 
     /** Iterate over the nodes in the tree rooted at this node. */
     public void forAllNodes(Consumer<MerkleTreeNode> nodeConsumer) {
+      forAllNodes(node -> true, nodeConsumer);
+    }
+
+    /**
+     * Iterate over the nodes in the tree rooted at this node, skipping all subtrees whose root
+     * doesn't match {@code filter}.
+     */
+    public void forAllNodes(
+        Predicate<MerkleTreeNode> filter, Consumer<MerkleTreeNode> nodeConsumer) {
+      if (!filter.test(this)) {
+        return;
+      }
       nodeConsumer.accept(this);
       for (Entry<String, MerkleTreeNode> child : children.entrySet()) {
-        child.getValue().forAllNodes(nodeConsumer);
+        child.getValue().forAllNodes(filter, nodeConsumer);
       }
     }
 
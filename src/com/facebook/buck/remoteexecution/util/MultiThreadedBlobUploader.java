@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -51,20 +52,35 @@ import java.util.stream.Collectors;
  * does/doesn't contain. Any that are missing will be added to a queue to be uploaded. Work threads
  * will then pull those off and upload them. When the upload is finished, the future for that digest
  * will be fulfilled.
+ *
+ * <p>If a {@link CasBlobIndex} is provided, blobs that it knows to be contained in the CAS skip the
+ * "missing check" entirely. Only blobs that the CAS reported as present or accepted in an upload
+ * are recorded in it, and {@link #forget(Iterable)} drops blobs that the CAS turned out to miss.
  */
 public class MultiThreadedBlobUploader {
   private final int missingCheckLimit;
   private final int uploadSizeLimit;
+  private final Optional<CasBlobIndex> blobIndex;
 
   public MultiThreadedBlobUploader(
       int missingCheckLimit,
       int uploadSizeLimit,
       ExecutorService uploadService,
       CasBlobUploader delegate) {
+    this(missingCheckLimit, uploadSizeLimit, uploadService, delegate, Optional.empty());
+  }
+
+  public MultiThreadedBlobUploader(
+      int missingCheckLimit,
+      int uploadSizeLimit,
+      ExecutorService uploadService,
+      CasBlobUploader delegate,
+      Optional<CasBlobIndex> blobIndex) {
     this.missingCheckLimit = missingCheckLimit;
     this.uploadSizeLimit = uploadSizeLimit;
     this.uploadService = uploadService;
     this.asyncBlobUploader = delegate;
+    this.blobIndex = blobIndex;
   }
 
   private final ConcurrentHashMap<String, ListenableFuture<Void>> pendingUploads =
@@ -93,13 +109,18 @@ public class MultiThreadedBlobUploader {
 
   /** Uploads missing items to the CAS. */
   public ListenableFuture<Void> addMissing(ImmutableMap<Digest, UploadDataSupplier> data) {
-    data = ImmutableMap.copyOf(Maps.filterKeys(data, k -> !containedHashes.contains(k.getHash())));
+    data = ImmutableMap.copyOf(Maps.filterKeys(data, k -> !isContained(k.getHash())));
     if (data.isEmpty()) {
       return Futures.immediateFuture(null);
     }
     return enqueue(data);
   }
 
+  private boolean isContained(String hash) {
+    return containedHashes.contains(hash)
+        || (blobIndex.isPresent() && blobIndex.get().contains(hash));
+  }
+
   private ListenableFuture<Void> enqueue(ImmutableMap<Digest, UploadDataSupplier> data) {
     ImmutableList.Builder<ListenableFuture<Void>> futures = ImmutableList.builder();
     for (Entry<Digest, UploadDataSupplier> entry : data.entrySet()) {
@@ -108,7 +129,7 @@ public class MultiThreadedBlobUploader {
           pendingUploads.computeIfAbsent(
               digest.getHash(),
               hash -> {
-                if (containedHashes.contains(hash)) {
+                if (isContained(hash)) {
                   return Futures.immediateFuture(null);
                 }
                 SettableFuture<Void> future = SettableFuture.create();
@@ -129,6 +150,22 @@ public class MultiThreadedBlobUploader {
     return Futures.whenAllSucceed(futures.build()).call(() -> null);
   }
 
+  /**
+   * Forgets that the CAS contains the given blobs, so that the next upload of them asks the CAS
+   * again. This is used when execution reports inputs as missing that were assumed to be contained.
+   */
+  public void forget(Iterable<Digest> digests) {
+    for (Digest digest : digests) {
+      containedHashes.remove(digest.getHash());
+      blobIndex.ifPresent(index -> index.remove(digest.getHash()));
+    }
+  }
+
+  private void markContained(PendingUpload upload) {
+    blobIndex.ifPresent(index -> index.add(upload.getHash()));
+    upload.future.set(null);
+  }
+
   private void processMissing() {
     ImmutableList.Builder<PendingUpload> dataBuilder = ImmutableList.builder();
     int count = 0;
@@ -157,7 +194,7 @@ public class MultiThreadedBlobUploader {
         if (missing.contains(entry.getHash())) {
           waitingUploads.add(entry);
         } else {
-          entry.future.set(null);
+          markContained(entry);
         }
       }
     } catch (Throwable e) {
@@ -168,12 +205,18 @@ public class MultiThreadedBlobUploader {
   private void processUploads() {
     processMissing();
     ImmutableMap.Builder<String, PendingUpload> dataBuilder = ImmutableMap.builder();
-    int size = 0;
+    long size = 0;
     while (size < uploadSizeLimit && !waitingUploads.isEmpty()) {
       PendingUpload data = waitingUploads.poll();
       if (data == null) {
         break;
       }
+      // Blobs that would push the batch over the limit are left for the next batch, so that a
+      // large blob is uploaded on its own rather than with everything polled before it.
+      if (size > 0 && size + data.uploadData.digest.getSize() > uploadSizeLimit) {
+        waitingUploads.add(data);
+        break;
+      }
       dataBuilder.put(data.getHash(), data);
       size += data.uploadData.digest.getSize();
     }
@@ -196,7 +239,7 @@ public class MultiThreadedBlobUploader {
               PendingUpload pendingUpload =
                   Objects.requireNonNull(data.get(result.digest.getHash()));
               if (result.status == 0) {
-                pendingUpload.future.set(null);
+                markContained(pendingUpload);
               } else {
                 pendingUpload.future.setException(
                     new IOException(
@@ -17,26 +17,12 @@
 package com.facebook.buck.remoteexecution.util;
 
 import com.facebook.buck.event.BuckEventBus;
-import com.facebook.buck.event.LeafEvents;
-import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.remoteexecution.ContentAddressedStorage;
 import com.facebook.buck.remoteexecution.Protocol;
-import com.facebook.buck.remoteexecution.Protocol.Action;
-import com.facebook.buck.remoteexecution.Protocol.Command;
-import com.facebook.buck.remoteexecution.Protocol.OutputDirectory;
-import com.facebook.buck.remoteexecution.Protocol.OutputFile;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
 import com.facebook.buck.remoteexecution.RemoteExecutionService;
-import com.facebook.buck.remoteexecution.RemoteExecutionService.ExecutionResult;
 import com.facebook.buck.util.NamedTemporaryDirectory;
-import com.facebook.buck.util.Scope;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.Futures;
-import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Optional;
 
 /** IsolatedExecution implementation that will run buildrules in a subprocess. */
@@ -44,78 +30,44 @@ public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClie
   private final Protocol protocol;
   private final NamedTemporaryDirectory workDir;
   private final LocalContentAddressedStorage storage;
-  private final RemoteExecutionService executionService;
+  private final LocalExecutionService executionService;
 
   /**
    * Returns a RemoteExecution implementation that uses a local CAS and a separate local temporary
-   * directory for execution.
+   * directory for execution, in which up to {@code workerCount} actions run concurrently.
    */
   public static OutOfProcessIsolatedExecutionClients create(
-      Protocol protocol, BuckEventBus eventBus) throws IOException {
-    return new OutOfProcessIsolatedExecutionClients(protocol, eventBus);
+      Protocol protocol, BuckEventBus eventBus, int workerCount) throws IOException {
+    return create(protocol, eventBus, workerCount, Optional.empty());
   }
 
-  private OutOfProcessIsolatedExecutionClients(final Protocol protocol, BuckEventBus eventBus)
+  /**
+   * Like {@link #create(Protocol, BuckEventBus, int)}, but runs the commands that {@code
+   * persistentWorkers} supports on its workers.
+   */
+  public static OutOfProcessIsolatedExecutionClients create(
+      Protocol protocol,
+      BuckEventBus eventBus,
+      int workerCount,
+      Optional<PersistentWorkerRunner> persistentWorkers)
+      throws IOException {
+    return new OutOfProcessIsolatedExecutionClients(
+        protocol, eventBus, workerCount, persistentWorkers);
+  }
+
+  private OutOfProcessIsolatedExecutionClients(
+      final Protocol protocol,
+      BuckEventBus eventBus,
+      int workerCount,
+      Optional<PersistentWorkerRunner> persistentWorkers)
       throws IOException {
     this.workDir = new NamedTemporaryDirectory("__work__");
     this.storage =
         new LocalContentAddressedStorage(workDir.getPath().resolve("__cache__"), protocol);
     this.protocol = protocol;
     this.executionService =
-        (actionDigest) -> {
-          Action action = storage.materializeAction(actionDigest);
-
-          Path buildDir = workDir.getPath().resolve(action.getInputRootDigest().getHash());
-          try (Closeable ignored = () -> MostFiles.deleteRecursively(buildDir)) {
-            Command command;
-            try (Scope ignored2 = LeafEvents.scope(eventBus, "materializing_inputs")) {
-              command =
-                  storage
-                      .materializeInputs(
-                          buildDir,
-                          action.getInputRootDigest(),
-                          Optional.of(action.getCommandDigest()))
-                      .get();
-            }
-
-            ActionRunner.ActionResult actionResult =
-                new ActionRunner(protocol, eventBus)
-                    .runAction(
-                        command.getCommand(),
-                        command.getEnvironment(),
-                        command
-                            .getOutputDirectories()
-                            .stream()
-                            .map(Paths::get)
-                            .collect(ImmutableSet.toImmutableSet()),
-                        buildDir);
-            try (Scope ignored2 = LeafEvents.scope(eventBus, "uploading_results")) {
-              Futures.getUnchecked(storage.addMissing(actionResult.requiredData));
-            }
-            return Futures.immediateFuture(
-                new ExecutionResult() {
-                  @Override
-                  public ImmutableList<OutputDirectory> getOutputDirectories() {
-                    return actionResult.outputDirectories;
-                  }
-
-                  @Override
-                  public ImmutableList<OutputFile> getOutputFiles() {
-                    return actionResult.outputFiles;
-                  }
-
-                  @Override
-                  public int getExitCode() {
-                    return actionResult.exitCode;
-                  }
-
-                  @Override
-                  public Optional<String> getStderr() {
-                    return Optional.of(actionResult.stderr);
-                  }
-                });
-          }
-        };
+        new LocalExecutionService(
+            storage, protocol, eventBus, workDir.getPath(), workerCount, persistentWorkers);
   }
 
   @Override
@@ -135,6 +87,7 @@ public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClie
 
   @Override
   public void close() throws IOException {
+    executionService.close();
     workDir.close();
   }
 }
@@ -16,12 +16,15 @@
 
 package com.facebook.buck.remoteexecution.util;
 
+import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.remoteexecution.AsyncBlobFetcher;
+import com.facebook.buck.remoteexecution.ContentAddressedStorage.MaterializedFileListener;
 import com.facebook.buck.remoteexecution.Protocol;
 import com.facebook.buck.remoteexecution.Protocol.Directory;
 import com.facebook.buck.remoteexecution.Protocol.OutputDirectory;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.MoreFiles;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -30,18 +33,47 @@ import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-/** Used for materialzing outputs from the CAS. */
+/**
+ * Used for materialzing outputs from the CAS.
+ *
+ * <p>Files that already exist with the expected content are kept and are not fetched again, and
+ * entries of existing output directories that are not part of the outputs are removed. Files that
+ * still have the size and modification time they had when this materializer last wrote or checked
+ * them are trusted without hashing them again. Small files are fetched together with {@link
+ * AsyncBlobFetcher#batchFetch}.
+ *
+ * <p>All outputs are written to disk before the returned future completes. Deferring the download
+ * of outputs until something reads them ("build without the bytes") is not supported: the build
+ * engine reads outputs after every rule to compute their sizes, hashes and input-based rule keys.
+ */
 public class OutputsMaterializer {
+  /** Files up to this size are fetched in batches instead of being streamed one by one. */
+  private static final int BATCH_FETCH_FILE_SIZE_LIMIT = 64 * 1024;
+
   private final AsyncBlobFetcher fetcher;
   private final Protocol protocol;
+  private final ConcurrentMap<Path, MaterializedFile> materializedFiles =
+      new ConcurrentHashMap<>();
 
   public OutputsMaterializer(AsyncBlobFetcher fetcher, Protocol protocol) {
     this.fetcher = fetcher;
@@ -53,19 +85,27 @@ public class OutputsMaterializer {
     return path;
   }
 
-  /** Materialize the outputs of an action into a directory. */
+  /**
+   * Materialize the outputs of an action into a directory, reporting every file to {@code
+   * listener} once it is in place.
+   */
   public ListenableFuture<Void> materialize(
       Collection<OutputDirectory> outputDirectories,
       Collection<Protocol.OutputFile> outputFiles,
-      Path root)
+      Path root,
+      MaterializedFileListener listener)
       throws IOException {
     ImmutableList.Builder<ListenableFuture<Void>> pending = ImmutableList.builder();
 
+    List<SmallFile> smallFiles = new ArrayList<>();
     for (Protocol.OutputFile file : outputFiles) {
       Path path = root.resolve(file.getPath());
       ensureParent(path);
-      pending.add(fetchAndMaterialize(file.getDigest(), file.getIsExecutable(), path));
+      pending.add(
+          fetchAndMaterialize(
+              file.getDigest(), file.getIsExecutable(), path, listener, smallFiles::add));
     }
+    pending.add(fetchAndMaterializeSmallFiles(smallFiles, listener));
 
     for (Protocol.OutputDirectory directory : outputDirectories) {
       Path dirRoot = root.resolve(directory.getPath());
@@ -82,7 +122,16 @@ public class OutputsMaterializer {
                 }
                 ImmutableList.Builder<ListenableFuture<Void>> pendingFilesBuilder =
                     ImmutableList.builder();
-                materializeDirectory(childMap, tree.getRoot(), dirRoot, pendingFilesBuilder::add);
+                List<SmallFile> smallDirectoryFiles = new ArrayList<>();
+                materializeDirectory(
+                    childMap,
+                    tree.getRoot(),
+                    dirRoot,
+                    listener,
+                    pendingFilesBuilder::add,
+                    smallDirectoryFiles::add);
+                pendingFilesBuilder.add(
+                    fetchAndMaterializeSmallFiles(smallDirectoryFiles, listener));
                 return Futures.whenAllSucceed(pendingFilesBuilder.build()).call(() -> null);
               }));
     }
@@ -94,9 +143,16 @@ public class OutputsMaterializer {
       Map<Protocol.Digest, Protocol.Directory> childMap,
       Protocol.Directory directory,
       Path root,
-      Consumer<ListenableFuture<Void>> pendingWorkConsumer)
+      MaterializedFileListener listener,
+      Consumer<ListenableFuture<Void>> pendingWorkConsumer,
+      Consumer<SmallFile> smallFileConsumer)
       throws IOException {
-    Files.createDirectories(root);
+    if (Files.isDirectory(root, LinkOption.NOFOLLOW_LINKS)) {
+      removeStaleEntries(directory, root);
+    } else {
+      MostFiles.deleteRecursivelyIfExists(root);
+      Files.createDirectories(root);
+    }
     for (Protocol.DirectoryNode childNode : directory.getDirectoriesList()) {
 
       materializeDirectory(
@@ -105,18 +161,57 @@ public class OutputsMaterializer {
               childMap.get(childNode.getDigest()),
               String.format("Data for dir [%s] not found in merkle-tree.", root)),
           root.resolve(childNode.getName()),
-          pendingWorkConsumer);
+          listener,
+          pendingWorkConsumer,
+          smallFileConsumer);
     }
 
     for (Protocol.FileNode file : directory.getFilesList()) {
       pendingWorkConsumer.accept(
           fetchAndMaterialize(
-              file.getDigest(), file.getIsExecutable(), root.resolve(file.getName())));
+              file.getDigest(),
+              file.getIsExecutable(),
+              root.resolve(file.getName()),
+              listener,
+              smallFileConsumer));
+    }
+  }
+
+  /** Deletes everything in an existing directory that is not part of {@code directory}. */
+  private void removeStaleEntries(Protocol.Directory directory, Path root) throws IOException {
+    ImmutableSet.Builder<String> namesBuilder = ImmutableSet.builder();
+    directory.getDirectoriesList().forEach(node -> namesBuilder.add(node.getName()));
+    directory.getFilesList().forEach(node -> namesBuilder.add(node.getName()));
+    ImmutableSet<String> names = namesBuilder.build();
+    try (Stream<Path> entries = Files.list(root)) {
+      for (Path entry : (Iterable<Path>) entries::iterator) {
+        if (!names.contains(entry.getFileName().toString())) {
+          MostFiles.deleteRecursivelyIfExists(entry);
+        }
+      }
     }
   }
 
+  /**
+   * Fetches a file that is not up to date. Small files are passed to {@code smallFileConsumer}
+   * instead, to be fetched in a batch with {@link #fetchAndMaterializeSmallFiles}.
+   */
   private ListenableFuture<Void> fetchAndMaterialize(
-      Protocol.Digest digest, boolean isExecutable, Path path) throws IOException {
+      Protocol.Digest digest,
+      boolean isExecutable,
+      Path path,
+      MaterializedFileListener listener,
+      Consumer<SmallFile> smallFileConsumer)
+      throws IOException {
+    if (isUpToDate(digest, isExecutable, path)) {
+      onFileMaterialized(path, digest, isExecutable, listener);
+      return Futures.immediateFuture(null);
+    }
+    MostFiles.deleteRecursivelyIfExists(path);
+    if (digest.getSize() <= BATCH_FETCH_FILE_SIZE_LIMIT) {
+      smallFileConsumer.accept(new SmallFile(digest, isExecutable, path));
+      return Futures.immediateFuture(null);
+    }
     OutputStream fileStream = new BufferedOutputStream(new FileOutputStream(path.toFile()));
     return Futures.transform(
         fetcher.fetchToStream(digest, fileStream),
@@ -126,6 +221,7 @@ public class OutputsMaterializer {
             if (isExecutable) {
               setExecutable(true, path);
             }
+            onFileMaterialized(path, digest, isExecutable, listener);
             return null;
           } catch (IOException e) {
             throw new UncheckedExecutionException(e);
@@ -133,6 +229,94 @@ public class OutputsMaterializer {
         });
   }
 
+  private ListenableFuture<Void> fetchAndMaterializeSmallFiles(
+      List<SmallFile> smallFiles, MaterializedFileListener listener) {
+    if (smallFiles.isEmpty()) {
+      return Futures.immediateFuture(null);
+    }
+    return Futures.transform(
+        fetcher.batchFetch(
+            smallFiles.stream().map(file -> file.digest).collect(ImmutableSet.toImmutableSet())),
+        data -> {
+          try {
+            for (SmallFile file : smallFiles) {
+              ByteBuffer buffer = Objects.requireNonNull(data.get(file.digest)).duplicate();
+              try (FileChannel channel =
+                  FileChannel.open(
+                      file.path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                  channel.write(buffer);
+                }
+              }
+              setExecutable(file.isExecutable, file.path);
+              onFileMaterialized(file.path, file.digest, file.isExecutable, listener);
+            }
+            return null;
+          } catch (IOException e) {
+            throw new UncheckedExecutionException(e);
+          }
+        });
+  }
+
+  /** A file that is fetched as part of a batch. */
+  private static class SmallFile {
+    final Protocol.Digest digest;
+    final boolean isExecutable;
+    final Path path;
+
+    SmallFile(Protocol.Digest digest, boolean isExecutable, Path path) {
+      this.digest = digest;
+      this.isExecutable = isExecutable;
+      this.path = path;
+    }
+  }
+
+  /** The state of a file when it was last materialized. */
+  private static class MaterializedFile {
+    final String hash;
+    final FileTime lastModifiedTime;
+
+    MaterializedFile(String hash, FileTime lastModifiedTime) {
+      this.hash = hash;
+      this.lastModifiedTime = lastModifiedTime;
+    }
+  }
+
+  private void onFileMaterialized(
+      Path path, Protocol.Digest digest, boolean isExecutable, MaterializedFileListener listener)
+      throws IOException {
+    materializedFiles.put(
+        path,
+        new MaterializedFile(
+            digest.getHash(), Files.getLastModifiedTime(path, LinkOption.NOFOLLOW_LINKS)));
+    listener.onFileMaterialized(path, digest, isExecutable);
+  }
+
+  private boolean isUpToDate(Protocol.Digest digest, boolean isExecutable, Path path)
+      throws IOException {
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+    if (!attributes.isRegularFile()
+        || attributes.size() != digest.getSize()
+        || Files.isExecutable(path) != isExecutable) {
+      return false;
+    }
+    MaterializedFile previous = materializedFiles.get(path);
+    if (previous != null
+        && previous.hash.equals(digest.getHash())
+        && previous.lastModifiedTime.equals(attributes.lastModifiedTime())) {
+      return true;
+    }
+    return MoreFiles.asByteSource(path)
+        .hash(protocol.getHashFunction())
+        .toString()
+        .equals(digest.getHash());
+  }
+
   private void setExecutable(boolean isExecutable, Path path) {
     if (isExecutable) {
       Preconditions.checkState(path.toFile().setExecutable(true));
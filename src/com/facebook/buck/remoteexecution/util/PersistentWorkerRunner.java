@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import com.facebook.buck.util.ProcessExecutor;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Runs the commands of some actions on persistent workers instead of launching a new process for
+ * each of them, which saves the startup cost of commands that are expensive to start.
+ */
+public interface PersistentWorkerRunner extends Closeable {
+  /**
+   * Runs {@code command} of an action whose inputs have been materialized in {@code buildDir}.
+   *
+   * @return the result of the command, or empty if it can't be run by a persistent worker, in which
+   *     case it is run as a new process.
+   */
+  Optional<ProcessExecutor.Result> run(
+      ImmutableList<String> command, ImmutableMap<String, String> environment, Path buildDir)
+      throws IOException, InterruptedException;
+}
@@ -46,8 +46,11 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -113,6 +116,7 @@ public class Deserializer {
   private class Creator implements ValueCreator<IOException> {
     private final DataInputStream stream;
     private final DataProvider provider;
+    private final List<String> stringTable = new ArrayList<>();
 
     private Creator(DataProvider provider, DataInputStream stream) {
       this.stream = stream;
@@ -165,7 +169,7 @@ public class Deserializer {
 
     @Override
     public <T> ImmutableList<T> createList(ValueTypeInfo<T> innerType) throws IOException {
-      int size = stream.readInt();
+      int size = VarInts.readSize(stream);
       ImmutableList.Builder<T> builder = ImmutableList.builderWithExpectedSize(size);
       for (int i = 0; i < size; i++) {
         builder.add(innerType.createNotNull(this));
@@ -175,7 +179,7 @@ public class Deserializer {
 
     @Override
     public <T> ImmutableSet<T> createSet(ValueTypeInfo<T> innerType) throws IOException {
-      int size = stream.readInt();
+      int size = VarInts.readSize(stream);
       ImmutableSet.Builder<T> builder = ImmutableSet.builderWithExpectedSize(size);
       for (int i = 0; i < size; i++) {
         builder.add(innerType.createNotNull(this));
@@ -186,7 +190,7 @@ public class Deserializer {
     @Override
     public <T> ImmutableSortedSet<T> createSortedSet(ValueTypeInfo<T> innerType)
         throws IOException {
-      int size = stream.readInt();
+      int size = VarInts.readSize(stream);
       @SuppressWarnings("unchecked")
       ImmutableSortedSet.Builder<T> builder =
           (ImmutableSortedSet.Builder<T>) ImmutableSortedSet.naturalOrder();
@@ -216,7 +220,7 @@ public class Deserializer {
     @Override
     public OutputPath createOutputPath() throws IOException {
       boolean isPublic = stream.readBoolean();
-      String path = stream.readUTF();
+      String path = readString();
       return isPublic ? new PublicOutputPath(Paths.get(path)) : new OutputPath(path);
     }
 
@@ -224,11 +228,11 @@ public class Deserializer {
     public SourcePath createSourcePath() throws IOException {
       if (stream.readBoolean()) {
         BuildTarget target = readValue(new TypeToken<BuildTarget>() {});
-        Path path = Paths.get(stream.readUTF());
+        Path path = Paths.get(readString());
         return ExplicitBuildTargetSourcePath.of(target, path);
       } else {
         Optional<String> cellName = readValue(new TypeToken<Optional<String>>() {});
-        Path path = Paths.get(stream.readUTF());
+        Path path = Paths.get(readString());
         return PathSourcePath.of(cellMap.apply(cellName), path);
       }
     }
@@ -237,16 +241,16 @@ public class Deserializer {
     public Path createPath() throws IOException {
       if (stream.readBoolean()) {
         Optional<String> cellName = readValue(new TypeToken<Optional<String>>() {});
-        Path relativePath = Paths.get(stream.readUTF());
+        Path relativePath = Paths.get(readString());
         return cellMap.apply(cellName).resolve(relativePath);
       } else {
-        return Paths.get(stream.readUTF());
+        return Paths.get(readString());
       }
     }
 
     @Override
     public String createString() throws IOException {
-      return stream.readUTF();
+      return readString();
     }
 
     @Override
@@ -271,12 +275,12 @@ public class Deserializer {
 
     @Override
     public Integer createInteger() throws IOException {
-      return stream.readInt();
+      return Math.toIntExact(VarInts.readSigned(stream));
     }
 
     @Override
     public Long createLong() throws IOException {
-      return stream.readLong();
+      return VarInts.readSigned(stream);
     }
 
     @Override
@@ -290,18 +294,30 @@ public class Deserializer {
     }
 
     private byte[] readBytes() throws IOException {
-      int size = stream.readInt();
+      int size = VarInts.readSize(stream);
       byte[] data = new byte[size];
       ByteStreams.readFully(stream, data);
       return data;
     }
 
+    /** See Serializer.Visitor#writeString. */
+    private String readString() throws IOException {
+      int index = VarInts.readSize(stream);
+      if (index > 0) {
+        Preconditions.checkState(index <= stringTable.size(), "Invalid string index %s.", index);
+        return stringTable.get(index - 1);
+      }
+      String value = new String(readBytes(), StandardCharsets.UTF_8);
+      stringTable.add(value);
+      return value;
+    }
+
     private <T> T readValue(TypeToken<T> typeToken) throws IOException {
       return ValueTypeInfoFactory.forTypeToken(typeToken).createNotNull(this);
     }
 
     public <T extends AddsToRuleKey> T create(Class<T> requestedClass) throws IOException {
-      String className = stream.readUTF();
+      String className = readString();
       Class<?> instanceClass;
       try {
         instanceClass = classFinder.find(className);
@@ -386,7 +402,7 @@ public class Deserializer {
     @Override
     public <K, V> ImmutableMap<K, V> createMap(ValueTypeInfo<K> keyType, ValueTypeInfo<V> valueType)
         throws IOException {
-      int size = stream.readInt();
+      int size = VarInts.readSize(stream);
       ImmutableMap.Builder<K, V> builder = ImmutableMap.builderWithExpectedSize(size);
       for (int i = 0; i < size; i++) {
         builder.put(keyType.createNotNull(this), valueType.createNotNull(this));
@@ -397,7 +413,7 @@ public class Deserializer {
     @Override
     public <K, V> ImmutableSortedMap<K, V> createSortedMap(
         ValueTypeInfo<K> keyType, ValueTypeInfo<V> valueType) throws IOException {
-      int size = stream.readInt();
+      int size = VarInts.readSize(stream);
       @SuppressWarnings("unchecked")
       ImmutableSortedMap.Builder<K, V> builder =
           (ImmutableSortedMap.Builder<K, V>) ImmutableSortedMap.naturalOrder();
@@ -49,7 +49,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -67,6 +69,10 @@ import javax.annotation.Nullable;
  * effectively a merkle tree. This allows us to share the serialized representation of shared
  * objects (for c++ particularly, there are many shared references to the PreprocessorDelegate and
  * other such fields).
+ *
+ * <p>Sizes and integral values are written as variable-length integers, and each distinct string
+ * is written only once per serialized object and referenced by its index afterwards. Class names,
+ * cell names and path prefixes tend to repeat many times within a single Buildable.
  */
 public class Serializer {
   private static final int MAX_INLINE_LENGTH = 100;
@@ -153,6 +159,7 @@ public class Serializer {
     ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
     DataOutputStream stream = new DataOutputStream(byteStream);
     Stream.Builder<HashCode> children = Stream.builder();
+    Map<String, Integer> stringTable = new HashMap<>();
 
     public Visitor(Class<? extends AddsToRuleKey> clazz) throws IOException {
       writeString(clazz.getName());
@@ -161,7 +168,7 @@ public class Serializer {
     @Override
     public <T> void visitList(ImmutableList<T> value, ValueTypeInfo<T> innerType)
         throws IOException {
-      stream.writeInt(value.size());
+      VarInts.writeSize(stream, value.size());
       for (T e : value) {
         innerType.visit(e, this);
       }
@@ -169,7 +176,7 @@ public class Serializer {
 
     @Override
     public <T> void visitSet(ImmutableSet<T> value, ValueTypeInfo<T> innerType) throws IOException {
-      stream.writeInt(value.size());
+      VarInts.writeSize(stream, value.size());
       for (T e : value) {
         innerType.visit(e, this);
       }
@@ -196,10 +203,19 @@ public class Serializer {
       writeString(value.getPath().toString());
     }
 
+    /**
+     * Strings are written as an index into the table of strings written so far, shifted by one.
+     * Zero marks a string that is not in the table yet and is followed by its UTF-8 bytes.
+     */
     private void writeString(String value) throws IOException {
-      // TODO(cjhopman): This doesn't correctly handle large strings.
-      Preconditions.checkState(value.length() < 10000);
-      stream.writeUTF(value);
+      Integer index = stringTable.get(value);
+      if (index != null) {
+        VarInts.writeSize(stream, index + 1);
+        return;
+      }
+      stringTable.put(value, stringTable.size());
+      VarInts.writeSize(stream, 0);
+      writeBytes(value.getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
@@ -305,7 +321,7 @@ public class Serializer {
         writeString(cellPath.relativize(path).toString());
       } else {
         stream.writeBoolean(false);
-        stream.writeUTF(path.toString());
+        writeString(path.toString());
       }
     }
 
@@ -336,12 +352,12 @@ public class Serializer {
 
     @Override
     public void visitInteger(Integer value) throws IOException {
-      stream.writeInt(value);
+      VarInts.writeSigned(stream, value);
     }
 
     @Override
     public void visitLong(Long value) throws IOException {
-      stream.writeLong(value);
+      VarInts.writeSigned(stream, value);
     }
 
     @Override
@@ -355,7 +371,7 @@ public class Serializer {
     }
 
     private void writeBytes(byte[] bytes) throws IOException {
-      this.stream.writeInt(bytes.length);
+      VarInts.writeSize(stream, bytes.length);
       this.stream.write(bytes);
     }
 
@@ -363,7 +379,7 @@ public class Serializer {
     public <K, V> void visitMap(
         ImmutableMap<K, V> value, ValueTypeInfo<K> keyType, ValueTypeInfo<V> valueType)
         throws IOException {
-      this.stream.writeInt(value.size());
+      VarInts.writeSize(stream, value.size());
       RichStream.from(value.entrySet())
           .forEachThrowing(
               entry -> {
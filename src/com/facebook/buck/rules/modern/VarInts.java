@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.modern;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Variable-length encoding of integral values used by the {@link Serializer}. Small non-negative
+ * values, which make up the vast majority of sizes and indices, take a single byte. Signed values
+ * are zigzag-encoded so that small negative values are just as compact.
+ */
+class VarInts {
+  private VarInts() {}
+
+  static void writeUnsigned(DataOutput output, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    output.writeByte((int) value);
+  }
+
+  static long readUnsigned(DataInput input) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = input.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable-length integer.");
+  }
+
+  static void writeSigned(DataOutput output, long value) throws IOException {
+    writeUnsigned(output, (value << 1) ^ (value >> 63));
+  }
+
+  static long readSigned(DataInput input) throws IOException {
+    long value = readUnsigned(input);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static void writeSize(DataOutput output, int size) throws IOException {
+    writeUnsigned(output, size);
+  }
+
+  static int readSize(DataInput input) throws IOException {
+    long size = readUnsigned(input);
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("Serialized size out of range: " + size);
+    }
+    return (int) size;
+  }
+}
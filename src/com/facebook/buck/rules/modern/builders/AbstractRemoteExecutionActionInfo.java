@@ -18,9 +18,11 @@ package com.facebook.buck.rules.modern.builders;
 
 import com.facebook.buck.core.util.immutables.BuckStyleTuple;
 import com.facebook.buck.remoteexecution.Protocol.Digest;
+import com.facebook.buck.remoteexecution.RemoteExecutionService.ExecutionResult;
 import com.facebook.buck.remoteexecution.UploadDataSupplier;
 import com.google.common.collect.ImmutableMap;
 import java.nio.file.Path;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 /** This includes all the information needed to run a remote execution command. */
@@ -32,4 +34,7 @@ interface AbstractRemoteExecutionActionInfo {
   ImmutableMap<Digest, UploadDataSupplier> getRequiredData();
 
   Iterable<? extends Path> getOutputs();
+
+  /** The result of a previous execution of the action, if the action cache had one. */
+  Optional<ExecutionResult> getCachedResult();
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps track of how long rules of each type take when built locally and when built with the
+ * delegate of {@link HybridLocalStrategy}, and uses that history to predict where a rule finishes
+ * sooner.
+ *
+ * <p>Delegate durations are measured from the moment a rule is handed to the delegate until its
+ * result is available, so they include the queueing, upload, execution and download times of a
+ * remote delegate.
+ */
+class HybridLocalCostModel {
+  /** Weight of the most recent sample in the moving average of a rule type's duration. */
+  private static final double SAMPLE_WEIGHT = 0.3;
+
+  private final ConcurrentMap<String, RuleTypeStats> stats = new ConcurrentHashMap<>();
+
+  void recordLocal(String ruleType, long durationNanos) {
+    getStats(ruleType).local.record(durationNanos);
+  }
+
+  void recordDelegate(String ruleType, long durationNanos) {
+    getStats(ruleType).delegate.record(durationNanos);
+  }
+
+  void recordPreferredLocal(String ruleType) {
+    getStats(ruleType).preferredLocalCount.incrementAndGet();
+  }
+
+  void recordStolen(String ruleType) {
+    getStats(ruleType).stolenCount.incrementAndGet();
+  }
+
+  /**
+   * @return whether rules of {@code ruleType} are predicted to finish sooner locally. Without
+   *     history for both local and delegate builds, this is always false.
+   */
+  boolean prefersLocal(String ruleType) {
+    @Nullable RuleTypeStats ruleTypeStats = stats.get(ruleType);
+    if (ruleTypeStats == null) {
+      return false;
+    }
+    Optional<Long> local = ruleTypeStats.local.getAverageNanos();
+    Optional<Long> delegate = ruleTypeStats.delegate.getAverageNanos();
+    return local.isPresent() && delegate.isPresent() && local.get() < delegate.get();
+  }
+
+  /** @return a human readable summary of the decisions and durations for each rule type. */
+  String getReport() {
+    StringBuilder builder = new StringBuilder();
+    for (Map.Entry<String, RuleTypeStats> entry : new TreeMap<>(stats).entrySet()) {
+      RuleTypeStats ruleTypeStats = entry.getValue();
+      builder.append(
+          String.format(
+              "%n  %s: local %d (avg %s ms), delegate %d (avg %s ms), kept local %d, stolen %d",
+              entry.getKey(),
+              ruleTypeStats.local.count.get(),
+              formatMillis(ruleTypeStats.local.getAverageNanos()),
+              ruleTypeStats.delegate.count.get(),
+              formatMillis(ruleTypeStats.delegate.getAverageNanos()),
+              ruleTypeStats.preferredLocalCount.get(),
+              ruleTypeStats.stolenCount.get()));
+    }
+    return builder.toString();
+  }
+
+  private static String formatMillis(Optional<Long> nanos) {
+    return nanos.map(value -> String.valueOf(TimeUnit.NANOSECONDS.toMillis(value))).orElse("-");
+  }
+
+  private RuleTypeStats getStats(String ruleType) {
+    return stats.computeIfAbsent(ruleType, ignored -> new RuleTypeStats());
+  }
+
+  private static class RuleTypeStats {
+    final DurationStats local = new DurationStats();
+    final DurationStats delegate = new DurationStats();
+    final AtomicLong preferredLocalCount = new AtomicLong();
+    final AtomicLong stolenCount = new AtomicLong();
+  }
+
+  private static class DurationStats {
+    final AtomicLong count = new AtomicLong();
+    private double averageNanos;
+
+    synchronized void record(long durationNanos) {
+      averageNanos =
+          count.getAndIncrement() == 0
+              ? durationNanos
+              : SAMPLE_WEIGHT * durationNanos + (1 - SAMPLE_WEIGHT) * averageNanos;
+    }
+
+    synchronized Optional<Long> getAverageNanos() {
+      return count.get() == 0 ? Optional.empty() : Optional.of((long) averageNanos);
+    }
+  }
+}
@@ -26,9 +26,11 @@ import com.facebook.buck.util.Scope;
 import com.facebook.buck.util.concurrent.JobLimiter;
 import com.facebook.buck.util.concurrent.MoreFutures;
 import com.facebook.buck.util.exceptions.BuckUncheckedExecutionException;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.io.IOException;
 import java.util.Objects;
@@ -36,6 +38,8 @@ import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
 
 /**
@@ -45,6 +49,11 @@ import javax.annotation.Nullable;
  * <p>It has a configurable limit for the number of active jobs to allow locally, and for the number
  * to allow to the delegate. It prefers to send them locally if the limit there hasn't been reached.
  * If both are at the limit, the jobs will be queued until space becomes available.
+ *
+ * <p>When adaptive scheduling is enabled, the strategy keeps track of how long each rule type takes
+ * locally and with the delegate. A free delegate slot then passes over jobs that are predicted to
+ * finish sooner locally and reserves them for the next free local slot, as long as no more jobs are
+ * reserved than there are local slots.
  */
 public class HybridLocalStrategy implements BuildRuleStrategy {
   private static final Logger LOG = Logger.get(HybridLocalStrategy.class);
@@ -52,6 +61,13 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
   private final BuildRuleStrategy delegate;
 
   private final ConcurrentLinkedQueue<Job> pendingQueue;
+  private final ConcurrentLinkedQueue<Job> localPreferredQueue;
+  // Every job schedules one local slot, which is only enough if a slot never misses a job while it
+  // is moved to the localPreferredQueue, so the move and the polls of the local slots are atomic.
+  private final Object queueLock = new Object();
+  private final AtomicInteger localPreferredCount = new AtomicInteger();
+  private final int numLocalJobs;
+  private final Optional<HybridLocalCostModel> costModel;
 
   private final JobLimiter localLimiter;
   private final JobLimiter delegateLimiter;
@@ -88,10 +104,31 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
   }
 
   public HybridLocalStrategy(int numLocalJobs, int numDelegateJobs, BuildRuleStrategy delegate) {
+    this(numLocalJobs, numDelegateJobs, delegate, false);
+  }
+
+  public HybridLocalStrategy(
+      int numLocalJobs, int numDelegateJobs, BuildRuleStrategy delegate, boolean adaptive) {
+    this(
+        numLocalJobs,
+        numDelegateJobs,
+        delegate,
+        adaptive ? Optional.of(new HybridLocalCostModel()) : Optional.empty());
+  }
+
+  @VisibleForTesting
+  HybridLocalStrategy(
+      int numLocalJobs,
+      int numDelegateJobs,
+      BuildRuleStrategy delegate,
+      Optional<HybridLocalCostModel> costModel) {
     this.delegate = delegate;
+    this.numLocalJobs = numLocalJobs;
     this.localLimiter = new JobLimiter(numLocalJobs);
     this.delegateLimiter = new JobLimiter(numDelegateJobs);
     this.pendingQueue = new ConcurrentLinkedQueue<>();
+    this.localPreferredQueue = new ConcurrentLinkedQueue<>();
+    this.costModel = costModel;
   }
 
   // The stage is used to track the current stage of a Job. It's just used to defensively catch some
@@ -137,6 +174,8 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
         ListenableFuture<Optional<BuildResult>> localFuture =
             Futures.submitAsync(
                 strategyContext::runWithDefaultBehavior, strategyContext.getExecutorService());
+        costModel.ifPresent(
+            model -> recordDurationOnSuccess(localFuture, model::recordLocal, System.nanoTime()));
         future.setFuture(localFuture);
         return localFuture;
       }
@@ -148,11 +187,14 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
           return future;
         }
         advanceStage(JobStage.DELEGATE_SCHEDULED);
+        long startNanos = System.nanoTime();
         delegateResult =
             delegate.build(rule, new DelegatingContextWithNoOpRuleScope(strategyContext));
         tracker.register(this);
         ListenableFuture<Optional<BuildResult>> buildResult =
             Objects.requireNonNull(delegateResult).getBuildResult();
+        costModel.ifPresent(
+            model -> recordDurationOnSuccess(buildResult, model::recordDelegate, startNanos));
         Futures.addCallback(buildResult, MoreFutures.finallyCallback(this::handleDelegateResult));
         return buildResult;
       }
@@ -171,6 +213,25 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
       }
     }
 
+    /** Records the duration of successful builds only, since failures are usually much faster. */
+    private void recordDurationOnSuccess(
+        ListenableFuture<Optional<BuildResult>> result,
+        BiConsumer<String, Long> recorder,
+        long startNanos) {
+      result.addListener(
+          () -> {
+            try {
+              Optional<BuildResult> buildResult = Futures.getDone(result);
+              if (buildResult.isPresent() && buildResult.get().isSuccess()) {
+                recorder.accept(rule.getType(), System.nanoTime() - startNanos);
+              }
+            } catch (Exception e) {
+              // Failed and cancelled builds are not recorded.
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+
     public void cancel(Throwable reason) {
       synchronized (this) {
         if (stage == JobStage.FINISHED) {
@@ -246,12 +307,21 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
   private ListenableFuture<?> scheduleLocal() {
     Job job = null;
     try {
-      job = pendingQueue.poll();
+      synchronized (queueLock) {
+        job = localPreferredQueue.poll();
+        if (job != null) {
+          localPreferredCount.decrementAndGet();
+        } else {
+          job = pendingQueue.poll();
+        }
+      }
       if (job == null) {
         job = tracker.stealFromDelegate();
         if (job == null) {
           return Futures.immediateFuture(null);
         }
+        String ruleType = job.rule.getType();
+        costModel.ifPresent(model -> model.recordStolen(ruleType));
       }
       return job.scheduleLocally();
     } catch (Exception e) {
@@ -266,9 +336,18 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
   }
 
   private ListenableFuture<?> scheduleDelegated() {
-    Job job = pendingQueue.poll();
-    if (job == null) {
-      return Futures.immediateFuture(null);
+    Job job;
+    synchronized (queueLock) {
+      while (true) {
+        job = pendingQueue.poll();
+        if (job == null) {
+          return Futures.immediateFuture(null);
+        }
+        if (!shouldReserveForLocal(job)) {
+          break;
+        }
+        localPreferredQueue.add(job);
+      }
     }
 
     try {
@@ -282,6 +361,22 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
     }
   }
 
+  /**
+   * Reserves a job for the local limiter if it is predicted to finish sooner locally. Limiting the
+   * number of reserved jobs to the number of local slots bounds how long a reserved job waits.
+   */
+  private boolean shouldReserveForLocal(Job job) {
+    if (!costModel.isPresent() || !costModel.get().prefersLocal(job.rule.getType())) {
+      return false;
+    }
+    if (localPreferredCount.incrementAndGet() > numLocalJobs) {
+      localPreferredCount.decrementAndGet();
+      return false;
+    }
+    costModel.get().recordPreferredLocal(job.rule.getType());
+    return true;
+  }
+
   @Override
   public boolean canBuild(BuildRule instance) {
     return delegate.canBuild(instance);
@@ -289,6 +384,8 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
 
   @Override
   public void close() throws IOException {
+    costModel.ifPresent(
+        model -> LOG.info("hybrid_local decisions per rule type:%s", model.getReport()));
     delegate.close();
   }
 
@@ -101,15 +101,22 @@ public abstract class IsolatedBuildableBuilder {
   private final BuckEventBus eventBus;
   private final Function<Optional<String>, ToolchainProvider> toolchainProviderFunction;
 
-  @SuppressWarnings("PMD.EmptyCatchBlock")
   IsolatedBuildableBuilder(Path workRoot, Path projectRoot) throws IOException {
+    this(workRoot, projectRoot, BuckPluginManagerFactory.createPluginManager());
+  }
+
+  /**
+   * @param pluginManager the plugin manager to load Buck's modules with, which can be shared by
+   *     builders that run in the same process.
+   */
+  @SuppressWarnings("PMD.EmptyCatchBlock")
+  IsolatedBuildableBuilder(Path workRoot, Path projectRoot, PluginManager pluginManager)
+      throws IOException {
     Path canonicalWorkRoot = workRoot.toRealPath().normalize();
     Path canonicalProjectRoot = canonicalWorkRoot.resolve(projectRoot).normalize();
 
     this.dataRoot = workRoot.resolve("__data__");
 
-    PluginManager pluginManager = BuckPluginManagerFactory.createPluginManager();
-
     this.classFinder =
         (name) -> {
           try {
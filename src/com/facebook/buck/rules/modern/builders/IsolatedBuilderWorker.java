@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.core.plugin.impl.BuckPluginManagerFactory;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.DefaultBuckEventBus;
+import com.facebook.buck.step.StepFailedException;
+import com.facebook.buck.util.Ansi;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.Verbosity;
+import com.facebook.buck.util.timing.DefaultClock;
+import com.facebook.buck.worker.WorkerProcessCommand;
+import com.facebook.buck.worker.WorkerProcessProtocol;
+import com.facebook.buck.worker.WorkerProcessProtocolZero;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.pf4j.PluginManager;
+
+/**
+ * A persistent worker that builds rules in isolation like {@link OutOfProcessIsolatedBuilder}, but
+ * keeps running to build any number of them. This saves the JVM startup and classloading that
+ * {@link OutOfProcessIsolatedBuilder} pays for each rule.
+ *
+ * <p>The worker talks to Buck over stdin/stdout with the {@link WorkerProcessProtocolZero}
+ * protocol. The args file of each job holds the three arguments of {@link
+ * OutOfProcessIsolatedBuilder}, one per line. Since all jobs share the working directory of the
+ * worker, the project root must resolve against the build root and not against the working
+ * directory.
+ */
+public class IsolatedBuilderWorker {
+  private static final Logger LOG = Logger.get(IsolatedBuilderWorker.class);
+
+  private static final String TYPE_RESULT = "result";
+
+  /** Entry point of the worker process. */
+  public static void main(String[] args) throws IOException {
+    // The protocol owns stdout, so anything else that is printed goes to stderr instead.
+    PrintStream protocolOut = System.out;
+    System.setOut(System.err);
+
+    PluginManager pluginManager = BuckPluginManagerFactory.createPluginManager();
+    BuckEventBus eventBus = new DefaultBuckEventBus(new DefaultClock(), new BuildId("worker"));
+    WorkerProcessProtocol.CommandReceiver receiver =
+        new WorkerProcessProtocolZero.CommandReceiver(protocolOut, System.in);
+    int messageId = 0;
+    receiver.handshake(messageId++);
+    while (!receiver.shouldClose()) {
+      WorkerProcessCommand command = receiver.receiveCommand(messageId);
+      receiver.sendResponse(messageId, TYPE_RESULT, build(command, pluginManager, eventBus));
+      messageId++;
+    }
+    receiver.close();
+    eventBus.close();
+    System.exit(0);
+  }
+
+  @VisibleForTesting
+  static int build(
+      WorkerProcessCommand command, PluginManager pluginManager, BuckEventBus eventBus)
+      throws IOException {
+    List<String> args = Files.readAllLines(command.getArgsPath());
+    try (PrintStream stdout = new PrintStream(Files.newOutputStream(command.getStdOutPath()));
+        PrintStream stderr = new PrintStream(Files.newOutputStream(command.getStdErrPath()))) {
+      try {
+        Preconditions.checkState(
+            args.size() == 3, "Expected three arguments, got %s: <%s>", args.size(), args);
+        Path buildDir = Paths.get(args.get(0));
+        Path projectRoot = Paths.get(args.get(1));
+        new IsolatedBuildableBuilder(buildDir, projectRoot, pluginManager) {
+          @Override
+          protected Console createConsole() {
+            return new Console(Verbosity.STANDARD_INFORMATION, stdout, stderr, Ansi.withoutTty());
+          }
+
+          @Override
+          protected BuckEventBus createEventBus(Console console) {
+            return eventBus;
+          }
+        }.build(HashCode.fromString(args.get(2)));
+        return 0;
+      } catch (IOException | StepFailedException | RuntimeException e) {
+        LOG.info(e, "Failed to build the rule with arguments %s.", args);
+        e.printStackTrace(stderr);
+        return 1;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        e.printStackTrace(stderr);
+        return 1;
+      }
+    }
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.DefaultProjectFilesystemFactory;
+import com.facebook.buck.remoteexecution.util.PersistentWorkerRunner;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.DefaultProcessExecutor;
+import com.facebook.buck.util.NamedTemporaryDirectory;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.ProcessExecutorParams;
+import com.facebook.buck.util.env.BuckClasspath;
+import com.facebook.buck.util.environment.EnvVariablesProvider;
+import com.facebook.buck.worker.WorkerJobResult;
+import com.facebook.buck.worker.WorkerProcess;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.facebook.buck.worker.WorkerProcessPool.BorrowedWorkerProcess;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+/**
+ * Runs the actions created by {@link ModernBuildRuleRemoteExecutionHelper} on a pool of {@link
+ * IsolatedBuilderWorker} processes, instead of starting a new JVM through trampoline.sh for each
+ * of them.
+ *
+ * <p>The workers run with the classpath of this Buck process. That classpath is also what the
+ * actions ship, so this is only valid for actions that are executed on this machine. Actions whose
+ * environment would differ in a worker, e.g. because a plugin directory changed, still run through
+ * trampoline.sh.
+ */
+class IsolatedBuilderWorkerPool implements PersistentWorkerRunner {
+  private static final Logger LOG = Logger.get(IsolatedBuilderWorkerPool.class);
+
+  private static final String BOOTSTRAPPER_CLASS =
+      "com.facebook.buck.cli.bootstrapper.ClassLoaderBootstrapper";
+
+  /** Variables holding a classpath in the environment of actions. */
+  private static final ImmutableSet<String> PATH_LIST_VARIABLES =
+      ImmutableSet.of(BuckClasspath.BOOTSTRAP_ENV_VAR_NAME, BuckClasspath.ENV_VAR_NAME);
+
+  /** Variables holding a path in the environment of actions. */
+  private static final ImmutableSet<String> PATH_VARIABLES =
+      ImmutableSet.of("BUCK_PLUGIN_ROOT", "BUCK_PLUGIN_RESOURCES");
+
+  private final NamedTemporaryDirectory workDir;
+  private final WorkerProcessPool pool;
+  private final ImmutableMap<String, String> workerEnvironment;
+
+  IsolatedBuilderWorkerPool(int workerCount) throws IOException {
+    this.workDir = new NamedTemporaryDirectory("__isolated_workers__");
+    this.workerEnvironment = getWorkerEnvironment();
+    ProjectFilesystem filesystem =
+        new DefaultProjectFilesystemFactory().createProjectFilesystem(workDir.getPath());
+    ImmutableList<String> command = getWorkerCommand();
+    ProcessExecutorParams processParams =
+        ProcessExecutorParams.builder()
+            .setCommand(command)
+            .setEnvironment(workerEnvironment)
+            .setDirectory(workDir.getPath())
+            .build();
+    ProcessExecutor executor = new DefaultProcessExecutor(Console.createNullConsole());
+    AtomicInteger workerNumber = new AtomicInteger();
+    this.pool =
+        new WorkerProcessPool(
+            workerCount,
+            Hashing.sha1().hashString(Joiner.on(' ').join(command), StandardCharsets.UTF_8),
+            () -> {
+              Path tmpDir =
+                  workDir.getPath().resolve(Integer.toString(workerNumber.incrementAndGet()));
+              Files.createDirectories(tmpDir);
+              WorkerProcess process =
+                  new WorkerProcess(executor, processParams, filesystem, tmpDir);
+              process.ensureLaunchAndHandshake();
+              return process;
+            });
+  }
+
+  private static ImmutableList<String> getWorkerCommand() throws IOException {
+    ImmutableList.Builder<String> command = ImmutableList.builder();
+    // Unlike the JVMs started by trampoline.sh, workers live long enough to benefit from C2, so
+    // compilation isn't limited to C1.
+    command.add(
+        Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+        "-cp",
+        Joiner.on(File.pathSeparator).join(BuckClasspath.getBootstrapClasspath()),
+        "-Xverify:none",
+        "-XX:+TieredCompilation");
+    @Nullable String pluginRoot = System.getProperty("pf4j.pluginsDir");
+    if (pluginRoot != null) {
+      command.add("-Dpf4j.pluginsDir=" + pluginRoot);
+    }
+    @Nullable String pluginResources = System.getProperty("buck.module.resources");
+    if (pluginResources != null) {
+      command.add("-Dbuck.module.resources=" + pluginResources);
+    }
+    return command.add(BOOTSTRAPPER_CLASS, IsolatedBuilderWorker.class.getName()).build();
+  }
+
+  /**
+   * Returns the environment of the workers, including the variables that trampoline.sh turns into
+   * arguments of the JVM, so that it can be compared with the environment of actions.
+   */
+  private static ImmutableMap<String, String> getWorkerEnvironment() throws IOException {
+    Map<String, String> environment = new HashMap<>(EnvVariablesProvider.getSystemEnv());
+    environment.put(
+        BuckClasspath.BOOTSTRAP_ENV_VAR_NAME,
+        Joiner.on(File.pathSeparator).join(BuckClasspath.getBootstrapClasspath()));
+    environment.put(
+        BuckClasspath.ENV_VAR_NAME,
+        Joiner.on(File.pathSeparator).join(BuckClasspath.getClasspath()));
+    environment.put("BUCK_PLUGIN_ROOT", System.getProperty("pf4j.pluginsDir", ""));
+    environment.put("BUCK_PLUGIN_RESOURCES", System.getProperty("buck.module.resources", ""));
+    environment.put("BUCK_DISTCC", "0");
+    return ImmutableMap.copyOf(environment);
+  }
+
+  @Override
+  public Optional<ProcessExecutor.Result> run(
+      ImmutableList<String> command, ImmutableMap<String, String> environment, Path buildDir)
+      throws IOException, InterruptedException {
+    Optional<String> jobArgs = getJobArgs(command, buildDir);
+    if (!jobArgs.isPresent()) {
+      return Optional.empty();
+    }
+    if (!hasWorkerEnvironment(workerEnvironment, environment)) {
+      LOG.debug(
+          "Running %s with trampoline.sh, its environment differs from the workers'.", command);
+      return Optional.empty();
+    }
+    try (BorrowedWorkerProcess worker = pool.borrowWorkerProcess()) {
+      WorkerJobResult result = worker.submitAndWaitForJob(jobArgs.get());
+      return Optional.of(
+          new ProcessExecutor.Result(
+              result.getExitCode(),
+              result.getStdout().orElse(""),
+              result.getStderr().orElse("")));
+    }
+  }
+
+  /**
+   * Returns the arguments of the job for an action that runs trampoline.sh. These are the arguments
+   * that trampoline.sh passes to OutOfProcessIsolatedBuilder, one per line so that paths may
+   * contain spaces.
+   */
+  @VisibleForTesting
+  static Optional<String> getJobArgs(ImmutableList<String> command, Path buildDir) {
+    if (command.size() != 3
+        || !command.get(0).equals("./" + ModernBuildRuleRemoteExecutionHelper.TRAMPOLINE_PATH)) {
+      return Optional.empty();
+    }
+    return Optional.of(Joiner.on('\n').join(buildDir, command.get(1), command.get(2)));
+  }
+
+  /**
+   * Checks that an action runs with the same environment in a worker as with trampoline.sh. Paths
+   * under the build root are relative in the environment of actions, so they only have to match the
+   * end of the corresponding paths of the workers.
+   */
+  @VisibleForTesting
+  static boolean hasWorkerEnvironment(
+      ImmutableMap<String, String> workerEnvironment,
+      ImmutableMap<String, String> actionEnvironment) {
+    for (Map.Entry<String, String> entry : actionEnvironment.entrySet()) {
+      @Nullable String workerValue = workerEnvironment.get(entry.getKey());
+      if (workerValue == null) {
+        return false;
+      }
+      boolean matches;
+      if (PATH_LIST_VARIABLES.contains(entry.getKey())) {
+        matches = pathListsMatch(workerValue, entry.getValue());
+      } else if (PATH_VARIABLES.contains(entry.getKey())) {
+        matches = pathsMatch(workerValue, entry.getValue());
+      } else {
+        matches = workerValue.equals(entry.getValue());
+      }
+      if (!matches) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean pathListsMatch(String workerPaths, String actionPaths) {
+    List<String> workerList = Splitter.on(File.pathSeparator).splitToList(workerPaths);
+    List<String> actionList = Splitter.on(File.pathSeparator).splitToList(actionPaths);
+    if (workerList.size() != actionList.size()) {
+      return false;
+    }
+    for (int i = 0; i < workerList.size(); i++) {
+      if (!pathsMatch(workerList.get(i), actionList.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean pathsMatch(String workerPath, String actionPath) {
+    if (workerPath.isEmpty() || actionPath.isEmpty()) {
+      return workerPath.equals(actionPath);
+    }
+    Path path = Paths.get(actionPath);
+    return path.isAbsolute()
+        ? Paths.get(workerPath).equals(path)
+        : Paths.get(workerPath).endsWith(path);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      pool.close();
+    } finally {
+      workDir.close();
+    }
+  }
+}
@@ -53,7 +53,14 @@ public class ModernBuildRuleBuilderFactory {
       Optional<TraceInfoProvider> traceInfoProvider) {
     try {
       RemoteExecutionClientsFactory remoteExecutionFactory =
-          new RemoteExecutionClientsFactory(remoteExecutionConfig);
+          new RemoteExecutionClientsFactory(
+              remoteExecutionConfig,
+              rootCell
+                  .getFilesystem()
+                  .resolve(rootCell.getFilesystem().getBuckPaths().getCacheDir()),
+              Optional.of(
+                  () ->
+                      new IsolatedBuilderWorkerPool(remoteExecutionConfig.getLocalWorkerCount())));
       switch (config.getBuildStrategy()) {
         case NONE:
           return Optional.empty();
@@ -116,7 +123,10 @@ public class ModernBuildRuleBuilderFactory {
             .orElseThrow(
                 () -> new HumanReadableException("Delegate config configured incorrectly."));
     return new HybridLocalStrategy(
-        hybridLocalConfig.getLocalJobs(), hybridLocalConfig.getDelegateJobs(), delegate);
+        hybridLocalConfig.getLocalJobs(),
+        hybridLocalConfig.getDelegateJobs(),
+        delegate,
+        hybridLocalConfig.isAdaptive());
   }
 
   /** The passthrough strategy just forwards to executorRunner.runWithDefaultExecutor. */
@@ -55,6 +55,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Ordering;
+import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import java.io.ByteArrayInputStream;
@@ -65,7 +66,9 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -74,6 +77,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -136,6 +140,7 @@ public class ModernBuildRuleRemoteExecutionHelper {
   private final ThrowingSupplier<ImmutableList<RequiredFile>, IOException> configFiles;
 
   private final ThrowingSupplier<MerkleTreeNode, IOException> sharedFilesNode;
+  private final ThrowingSupplier<SharedFilesData, IOException> sharedFilesData;
 
   private final MerkleTreeNodeCache nodeCache;
 
@@ -151,6 +156,14 @@ public class ModernBuildRuleRemoteExecutionHelper {
   private final Map<HashCode, Node> nodeMap;
   private final HashFunction hasher;
 
+  /**
+   * File nodes of the outputs that were materialized from the CAS, keyed by their absolute path.
+   * Actions that consume these outputs reference the digests directly, instead of hashing the
+   * downloaded files again. Every rule is built at most once per build, so the recorded digests
+   * stay valid for the lifetime of this helper.
+   */
+  private final Map<Path, FileNode> materializedOutputs = new ConcurrentHashMap<>();
+
   private final Protocol protocol;
 
   public ModernBuildRuleRemoteExecutionHelper(
@@ -290,6 +303,26 @@ public class ModernBuildRuleRemoteExecutionHelper {
               return nodeCache.createNode(sharedRequiredFiles, ImmutableMap.of());
             },
             IOException.class);
+
+    this.sharedFilesData =
+        MoreSuppliers.memoize(
+            () -> {
+              MerkleTreeNode node = sharedFilesNode.get();
+              ImmutableSet.Builder<MerkleTreeNode> nodesBuilder = ImmutableSet.builder();
+              node.forAllNodes(nodesBuilder::add);
+              Map<Digest, UploadDataSupplier> requiredDataBuilder = new HashMap<>();
+              addSharedFilesData(requiredDataBuilder);
+              addDirectoriesData(node, requiredDataBuilder, ignored -> true);
+              return new SharedFilesData(
+                  nodesBuilder.build(), ImmutableMap.copyOf(requiredDataBuilder));
+            },
+            IOException.class);
+  }
+
+  /** Records the digest of an output file that has been materialized at {@code path}. */
+  void recordMaterializedOutput(Path path, Digest digest, boolean isExecutable) {
+    materializedOutputs.put(
+        path, protocol.newFileNode(digest, path.getFileName().toString(), isExecutable));
   }
 
   boolean supportsRemoteExecution(ModernBuildRule<?> rule) {
@@ -318,9 +351,19 @@ public class ModernBuildRuleRemoteExecutionHelper {
     }
   }
 
+  /**
+   * Gets the data of the files shared by all actions (classpaths, plugin files, configuration,
+   * etc). It is computed only once and is not part of the required data of any single action, so
+   * it has to be uploaded before executing actions.
+   */
+  ImmutableMap<Digest, UploadDataSupplier> getSharedRequiredData() throws IOException {
+    return sharedFilesData.get().requiredData;
+  }
+
   /**
    * Gets all the information needed to run the rule via Remote Execution (inputs merkle tree,
-   * action and digest, outputs).
+   * action and digest, outputs). The required data doesn't include the data of the shared files,
+   * see {@link #getSharedRequiredData()}.
    */
   RemoteExecutionActionInfo prepareRemoteExecution(ModernBuildRule<?> rule) throws IOException {
     Set<Path> outputs;
@@ -340,14 +383,11 @@ public class ModernBuildRuleRemoteExecutionHelper {
     Map<Digest, UploadDataSupplier> requiredDataBuilder = new HashMap<>();
 
     try (Scope ignored2 = LeafEvents.scope(eventBus, "constructing_inputs_tree")) {
-      addSharedFilesData(requiredDataBuilder);
-
       allNodes.add(getSerializationTreeAndInputs(hash, requiredDataBuilder));
 
-      MerkleTreeNode inputsMerkleTree = resolveInputs(inputsMapBuilder.getInputs(rule));
-
-      allNodes.add(inputsMerkleTree);
-      addFileInputs(inputsMerkleTree, requiredDataBuilder);
+      Data inputs = inputsMapBuilder.getInputs(rule);
+      allNodes.add(resolveInputs(inputs).node);
+      addFileInputs(inputs, requiredDataBuilder);
 
       outputs = new HashSet<>();
       rule.recordOutputs(
@@ -365,12 +405,10 @@ public class ModernBuildRuleRemoteExecutionHelper {
 
       MerkleTreeNode mergedMerkleTree = nodeCache.mergeNodes(allNodes);
 
-      nodeCache.forAllData(
-          mergedMerkleTree,
-          childData ->
-              requiredDataBuilder.put(
-                  childData.getDigest(),
-                  () -> new ByteArrayInputStream(protocol.toByteArray(childData.getDirectory()))));
+      // Subtrees that are unchanged from the shared files tree are covered by the shared data.
+      ImmutableSet<MerkleTreeNode> sharedNodes = sharedFilesData.get().nodes;
+      addDirectoriesData(
+          mergedMerkleTree, requiredDataBuilder, node -> !sharedNodes.contains(node));
 
       Digest inputsRootDigest = nodeCache.getData(mergedMerkleTree).getDigest();
 
@@ -384,32 +422,56 @@ public class ModernBuildRuleRemoteExecutionHelper {
       requiredDataBuilder.put(actionDigest, () -> new ByteArrayInputStream(actionData));
 
       return RemoteExecutionActionInfo.of(
-          actionDigest, ImmutableMap.copyOf(requiredDataBuilder), outputs);
+          actionDigest, ImmutableMap.copyOf(requiredDataBuilder), outputs, Optional.empty());
     }
   }
 
-  private void addFileInputs(
-      MerkleTreeNode inputsMerkleTree, Map<Digest, UploadDataSupplier> requiredDataBuilder) {
-    inputsMerkleTree.forAllFiles(
-        cellPathPrefix,
-        (path, fileNode) ->
+  private void addDirectoriesData(
+      MerkleTreeNode root,
+      Map<Digest, UploadDataSupplier> requiredDataBuilder,
+      Predicate<MerkleTreeNode> filter) {
+    nodeCache.forAllData(
+        root,
+        filter,
+        childData ->
             requiredDataBuilder.put(
-                fileNode.getDigest(),
-                new UploadDataSupplier() {
-                  @Override
-                  public InputStream get() throws IOException {
-                    return new FileInputStream(path.toFile());
-                  }
-
-                  @Override
-                  public String describe() {
-                    try {
-                      return String.format("File (path:%s size:%s)", path, Files.size(path));
-                    } catch (IOException e) {
-                      return String.format("failed to describe (%s)", e.getMessage());
-                    }
-                  }
-                }));
+                childData.getDigest(),
+                () -> new ByteArrayInputStream(protocol.toByteArray(childData.getDirectory()))));
+  }
+
+  /**
+   * Adds the file data of all of the inputs. The data of each {@link Data} node is computed when
+   * its merkle tree is resolved, so this only has to visit the (shared) graph of input nodes.
+   */
+  private void addFileInputs(Data inputs, Map<Digest, UploadDataSupplier> requiredDataBuilder) {
+    Set<Data> visited = Sets.newIdentityHashSet();
+    Deque<Data> queue = new ArrayDeque<>();
+    queue.add(inputs);
+    while (!queue.isEmpty()) {
+      Data data = queue.remove();
+      if (visited.add(data)) {
+        requiredDataBuilder.putAll(resolveInputs(data).fileData);
+        queue.addAll(data.getChildren());
+      }
+    }
+  }
+
+  private static UploadDataSupplier fileDataSupplier(Path path) {
+    return new UploadDataSupplier() {
+      @Override
+      public InputStream get() throws IOException {
+        return new FileInputStream(path.toFile());
+      }
+
+      @Override
+      public String describe() {
+        try {
+          return String.format("File (path:%s size:%s)", path, Files.size(path));
+        } catch (IOException e) {
+          return String.format("failed to describe (%s)", e.getMessage());
+        }
+      }
+    };
   }
 
   private void addSharedFilesData(Map<Digest, UploadDataSupplier> requiredDataBuilder)
@@ -429,10 +491,21 @@ public class ModernBuildRuleRemoteExecutionHelper {
     requiredDataBuilder.put(trampoline.get().fileNode.getDigest(), trampoline.get().dataSupplier);
   }
 
-  private ConcurrentHashMap<Data, MerkleTreeNode> resolvedInputsCache = new ConcurrentHashMap<>();
+  /** The resolved merkle tree of a {@link Data} node along with the data of its own files. */
+  private static class ResolvedInputs {
+    private final MerkleTreeNode node;
+    private final ImmutableMap<Digest, UploadDataSupplier> fileData;
 
-  private MerkleTreeNode resolveInputs(Data inputs) {
-    MerkleTreeNode cached = resolvedInputsCache.get(inputs);
+    ResolvedInputs(MerkleTreeNode node, ImmutableMap<Digest, UploadDataSupplier> fileData) {
+      this.node = node;
+      this.fileData = fileData;
+    }
+  }
+
+  private ConcurrentHashMap<Data, ResolvedInputs> resolvedInputsCache = new ConcurrentHashMap<>();
+
+  private ResolvedInputs resolveInputs(Data inputs) {
+    ResolvedInputs cached = resolvedInputsCache.get(inputs);
     if (cached != null) {
       return cached;
     }
@@ -446,19 +519,24 @@ public class ModernBuildRuleRemoteExecutionHelper {
           try {
             HashMap<Path, FileNode> files = new HashMap<>();
             HashMap<Path, SymlinkNode> symlinks = new HashMap<>();
+            HashMap<Digest, UploadDataSupplier> fileData = new HashMap<>();
 
             FileInputsAdder inputsAdder =
                 new FileInputsAdder(
                     new FileInputsAdder.AbstractDelegate() {
                       @Override
                       public void addFile(Path path) throws IOException {
-                        files.put(
-                            cellPathPrefix.relativize(path),
-                            protocol.newFileNode(
-                                protocol.newDigest(
-                                    fileHasher.apply(path).toString(), (int) Files.size(path)),
-                                path.getFileName().toString(),
-                                Files.isExecutable(path)));
+                        FileNode fileNode = materializedOutputs.get(path);
+                        if (fileNode == null) {
+                          fileNode =
+                              protocol.newFileNode(
+                                  protocol.newDigest(
+                                      fileHasher.apply(path).toString(), (int) Files.size(path)),
+                                  path.getFileName().toString(),
+                                  Files.isExecutable(path));
+                        }
+                        files.put(cellPathPrefix.relativize(path), fileNode);
+                        fileData.put(fileNode.getDigest(), fileDataSupplier(path));
                       }
 
                       @Override
@@ -477,8 +555,8 @@ public class ModernBuildRuleRemoteExecutionHelper {
             List<MerkleTreeNode> nodes = new ArrayList<>();
             nodes.add(nodeCache.createNode(files, symlinks));
 
-            inputs.getChildren().forEach(child -> nodes.add(resolveInputs(child)));
-            return nodeCache.mergeNodes(nodes);
+            inputs.getChildren().forEach(child -> nodes.add(resolveInputs(child).node));
+            return new ResolvedInputs(nodeCache.mergeNodes(nodes), ImmutableMap.copyOf(fileData));
           } catch (IOException e) {
             throw new BuckUncheckedExecutionException(e);
           }
@@ -562,6 +640,18 @@ public class ModernBuildRuleRemoteExecutionHelper {
     }
   }
 
+  /** The merkle tree of the files shared by all actions along with all of their data. */
+  private static class SharedFilesData {
+    private final ImmutableSet<MerkleTreeNode> nodes;
+    private final ImmutableMap<Digest, UploadDataSupplier> requiredData;
+
+    SharedFilesData(
+        ImmutableSet<MerkleTreeNode> nodes, ImmutableMap<Digest, UploadDataSupplier> requiredData) {
+      this.nodes = nodes;
+      this.requiredData = requiredData;
+    }
+  }
+
   private MerkleTreeNode getSerializationTreeAndInputs(
       HashCode hash, Map<Digest, UploadDataSupplier> requiredDataBuilder) {
     Map<Path, FileNode> fileNodes = new HashMap<>();
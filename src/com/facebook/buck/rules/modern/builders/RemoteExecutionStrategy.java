@@ -30,11 +30,15 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.remoteexecution.ContentAddressedStorage;
 import com.facebook.buck.remoteexecution.Protocol.Digest;
+import com.facebook.buck.remoteexecution.Protocol.OutputDirectory;
+import com.facebook.buck.remoteexecution.Protocol.OutputFile;
 import com.facebook.buck.remoteexecution.RemoteExecutionActionEvent;
 import com.facebook.buck.remoteexecution.RemoteExecutionActionEvent.State;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
 import com.facebook.buck.remoteexecution.RemoteExecutionService.ExecutionResult;
+import com.facebook.buck.remoteexecution.RemoteExecutionService.MissingInputsException;
 import com.facebook.buck.remoteexecution.UploadDataSupplier;
 import com.facebook.buck.remoteexecution.config.RemoteExecutionStrategyConfig;
 import com.facebook.buck.rules.modern.ModernBuildRule;
@@ -46,22 +50,27 @@ import com.facebook.buck.util.Scope;
 import com.facebook.buck.util.concurrent.JobLimiter;
 import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.function.ThrowingFunction;
+import com.facebook.buck.util.function.ThrowingSupplier;
 import com.facebook.buck.util.types.Either;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
 
 /**
  * A {@link BuildRuleStrategy} that uses a Remote Execution service for executing BuildRules. It
@@ -78,6 +87,8 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
   private final RemoteExecutionClients executionClients;
   private final ModernBuildRuleRemoteExecutionHelper mbrHelper;
   private final Path cellPathPrefix;
+  private final boolean reuseUnchangedOutputs;
+  private final boolean lookUpCachedResults;
 
   private final ListeningExecutorService service;
 
@@ -86,6 +97,12 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
   private final JobLimiter executionLimiter;
   private final JobLimiter handleResultLimiter;
 
+  /**
+   * Upload of the data shared by all actions, which is started by the first action. It is cleared
+   * if the upload fails.
+   */
+  @Nullable private ListenableFuture<Void> sharedDataUpload;
+
   RemoteExecutionStrategy(
       BuckEventBus eventBus,
       RemoteExecutionStrategyConfig strategyConfig,
@@ -102,6 +119,8 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
     this.pendingUploadsLimiter = new JobLimiter(strategyConfig.getMaxConcurrentPendingUploads());
     this.executionLimiter = new JobLimiter(strategyConfig.getMaxConcurrentExecutions());
     this.handleResultLimiter = new JobLimiter(strategyConfig.getMaxConcurrentResultHandling());
+    this.reuseUnchangedOutputs = strategyConfig.shouldReuseUnchangedOutputs();
+    this.lookUpCachedResults = strategyConfig.shouldLookUpCachedResults();
     this.eventBus = eventBus;
 
     ImmutableSet<Optional<String>> cellNames =
@@ -168,30 +187,36 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
 
     RemoteExecutionActionEvent.sendScheduledEvent(eventBus, rule.getBuildTarget());
 
-    ListenableFuture<RemoteExecutionActionInfo> actionInfoFuture =
-        pendingUploadsLimiter.schedule(
-            service, () -> computeActionAndUpload(rule, strategyContext));
-
     // guard should only be set once. The left value indicates that it has been cancelled and holds
     // the reason, a right value indicates that it has passed the point of no return and can no
-    // longer be cancelled.
+    // longer be cancelled. A retried action has already passed that point.
     AtomicReference<Either<Throwable, Object>> guard = new AtomicReference<>();
-
+    Callable<Throwable> tryStart =
+        () -> {
+          guard.compareAndSet(null, Either.ofRight(new Object()));
+          Either<Throwable, Object> state = Objects.requireNonNull(guard.get());
+          return state.isLeft() ? state.getLeft() : null;
+        };
+
+    // Outputs of a cached result that can't be materialized have likely been evicted from the CAS
+    // along with the inputs, so the action is executed with all inputs checked again.
+    ListenableFuture<Optional<BuildResult>> cachedOrExecutedResult =
+        Futures.catchingAsync(
+            buildAction(rule, strategyContext, tryStart, false),
+            CachedResultUnavailableException.class,
+            e -> {
+              LOG.info(e, "Cached outputs of %s are unavailable, executing it.", buildTarget);
+              return buildAction(rule, strategyContext, tryStart, true);
+            },
+            service);
     ListenableFuture<Optional<BuildResult>> buildResult =
-        Futures.transformAsync(
-            actionInfoFuture,
-            actionInfo ->
-                handleActionInfo(
-                    rule,
-                    strategyContext,
-                    buildTarget,
-                    actionInfo,
-                    () -> {
-                      if (guard.compareAndSet(null, Either.ofRight(new Object()))) {
-                        return null;
-                      }
-                      return Objects.requireNonNull(guard.get()).getLeft();
-                    }),
+        Futures.catchingAsync(
+            cachedOrExecutedResult,
+            MissingInputsException.class,
+            e -> {
+              LOG.info(e, "Inputs of %s were missing from the CAS, retrying.", buildTarget);
+              return buildAction(rule, strategyContext, tryStart, true);
+            },
             service);
 
     return new StrategyBuildResult() {
@@ -214,35 +239,121 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
     };
   }
 
+  /**
+   * Computes, uploads and executes the action of the rule. With {@code recheckInputs}, the action
+   * cache is skipped and the CAS is asked again about all inputs, even those that are assumed to be
+   * contained. This is how an action whose inputs turned out to be missing is retried.
+   */
+  private ListenableFuture<Optional<BuildResult>> buildAction(
+      BuildRule rule,
+      BuildStrategyContext strategyContext,
+      Callable<Throwable> tryStart,
+      boolean recheckInputs) {
+    ListenableFuture<RemoteExecutionActionInfo> actionInfoFuture =
+        pendingUploadsLimiter.schedule(
+            service, () -> computeActionAndUpload(rule, strategyContext, recheckInputs));
+    return Futures.transformAsync(
+        actionInfoFuture,
+        actionInfo ->
+            handleActionInfo(rule, strategyContext, rule.getBuildTarget(), actionInfo, tryStart),
+        service);
+  }
+
   private ListenableFuture<RemoteExecutionActionInfo> computeActionAndUpload(
-      BuildRule rule, BuildStrategyContext strategyContext) {
+      BuildRule rule, BuildStrategyContext strategyContext, boolean recheckInputs) {
     ListenableFuture<RemoteExecutionActionInfo> actionInfoFuture =
         computeActionLimiter.schedule(
             service,
             () -> Futures.immediateFuture(getRemoteExecutionActionInfo(rule, strategyContext)));
     return Futures.transformAsync(
-        actionInfoFuture, actionInfo -> uploadInputs(rule.getBuildTarget(), actionInfo));
+        actionInfoFuture,
+        actionInfo -> uploadInputs(rule.getBuildTarget(), actionInfo, recheckInputs));
   }
 
   private ListenableFuture<RemoteExecutionActionInfo> uploadInputs(
-      BuildTarget buildTarget, RemoteExecutionActionInfo actionInfo) throws IOException {
+      BuildTarget buildTarget, RemoteExecutionActionInfo actionInfo, boolean recheckInputs)
+      throws IOException {
     Objects.requireNonNull(actionInfo);
     Digest actionDigest = actionInfo.getActionDigest();
     ImmutableMap<Digest, UploadDataSupplier> requiredData = actionInfo.getRequiredData();
+    ContentAddressedStorage storage = executionClients.getContentAddressedStorage();
+    // The lookup is started first, so that its round trip overlaps with the upload.
+    ListenableFuture<Optional<ExecutionResult>> cachedResultFuture =
+        lookUpCachedResults && !recheckInputs
+            ? executionClients.getRemoteExecutionService().getCachedResult(actionDigest)
+            : Futures.immediateFuture(Optional.empty());
     Scope uploadingInputsScope =
         RemoteExecutionActionEvent.sendEvent(
             eventBus, State.UPLOADING_INPUTS, buildTarget, Optional.of(actionDigest));
+    ListenableFuture<Void> sharedDataUploadFuture;
+    if (recheckInputs) {
+      ImmutableMap<Digest, UploadDataSupplier> sharedData = mbrHelper.getSharedRequiredData();
+      storage.forget(sharedData.keySet());
+      storage.forget(requiredData.keySet());
+      sharedDataUploadFuture = storage.addMissing(sharedData);
+    } else {
+      sharedDataUploadFuture = getSharedDataUpload();
+    }
     ListenableFuture<Void> inputsUploadedFuture =
-        executionClients.getContentAddressedStorage().addMissing(requiredData);
-    return Futures.transform(
-        inputsUploadedFuture,
-        ignored -> {
-          uploadingInputsScope.close();
-          // The actionInfo may be very large, so explicitly clear out the unneeded parts.
-          // actionInfo.getRequiredData() in particular may be very, very large and is unneeded once
-          // uploading has completed.
-          return actionInfo.withRequiredData(ImmutableMap.of());
-        });
+        Futures.whenAllSucceed(sharedDataUploadFuture, storage.addMissing(requiredData))
+            .call(() -> null, MoreExecutors.directExecutor());
+    // The actionInfo may be very large, so explicitly clear out the unneeded parts.
+    // actionInfo.getRequiredData() in particular may be very, very large and is unneeded once
+    // uploading has completed.
+    RemoteExecutionActionInfo uploadedActionInfo = actionInfo.withRequiredData(ImmutableMap.of());
+    return Futures.transformAsync(
+        cachedResultFuture,
+        cachedResult -> {
+          if (cachedResult.isPresent() && cachedResult.get().getExitCode() == 0) {
+            // A cached action doesn't need its inputs, so it doesn't wait for the upload. The
+            // upload is not cancelled, since other actions may share its blobs.
+            LOG.debug("Using cached result for %s.", buildTarget);
+            uploadingInputsScope.close();
+            return Futures.immediateFuture(uploadedActionInfo.withCachedResult(cachedResult));
+          }
+          return Futures.transform(
+              inputsUploadedFuture,
+              ignored -> {
+                uploadingInputsScope.close();
+                return uploadedActionInfo;
+              },
+              MoreExecutors.directExecutor());
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private synchronized ListenableFuture<Void> getSharedDataUpload() {
+    if (sharedDataUpload != null) {
+      return sharedDataUpload;
+    }
+    ListenableFuture<Void> upload;
+    try {
+      upload =
+          executionClients.getContentAddressedStorage().addMissing(mbrHelper.getSharedRequiredData());
+    } catch (IOException e) {
+      return Futures.immediateFailedFuture(e);
+    }
+    sharedDataUpload = upload;
+    // Only a successful upload is shared. After a failure the next action retries it.
+    Futures.addCallback(
+        upload,
+        new FutureCallback<Void>() {
+          @Override
+          public void onSuccess(@Nullable Void result) {}
+
+          @Override
+          public void onFailure(Throwable t) {
+            forgetSharedDataUpload(upload);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return upload;
+  }
+
+  private synchronized void forgetSharedDataUpload(ListenableFuture<Void> failedUpload) {
+    if (sharedDataUpload == failedUpload) {
+      sharedDataUpload = null;
+    }
   }
 
   private ListenableFuture<Optional<BuildResult>> handleActionInfo(
@@ -258,6 +369,7 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
     // very, very large.
     Digest actionDigest = actionInfo.getActionDigest();
     Iterable<? extends Path> actionOutputs = actionInfo.getOutputs();
+    Optional<ExecutionResult> cachedResult = actionInfo.getCachedResult();
     ImmutableMap<Digest, UploadDataSupplier> requiredData = actionInfo.getRequiredData();
     Scope uploadingInputsScope =
         RemoteExecutionActionEvent.sendEvent(
@@ -276,7 +388,8 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
               buildTarget,
               tryStart,
               actionDigest,
-              actionOutputs);
+              actionOutputs,
+              cachedResult);
         },
         service);
   }
@@ -301,49 +414,69 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
       BuildTarget buildTarget,
       Callable<Throwable> tryStart,
       Digest actionDigest,
-      Iterable<? extends Path> actionOutputs) {
+      Iterable<? extends Path> actionOutputs,
+      Optional<ExecutionResult> cachedResult) {
     AtomicReference<Throwable> cancelled = new AtomicReference<>(null);
-    ListenableFuture<ExecutionResult> executionResult =
-        executionLimiter.schedule(
-            service,
-            () -> {
-              cancelled.set(tryStart.call());
-              boolean isCancelled = cancelled.get() != null;
-              if (isCancelled) {
-                RemoteExecutionActionEvent.sendTerminalEvent(
-                    eventBus, State.ACTION_CANCELLED, buildTarget, Optional.of(actionDigest));
-                return Futures.immediateFuture(null);
-              }
-              Scope executingScope =
-                  RemoteExecutionActionEvent.sendEvent(
-                      eventBus, State.EXECUTING, buildTarget, Optional.of(actionDigest));
-              return Futures.transform(
-                  executionClients.getRemoteExecutionService().execute(actionDigest),
-                  result -> {
-                    executingScope.close();
-                    return result;
-                  });
-            });
-
-    return Futures.transformAsync(
-        executionResult,
-        result -> {
-          if (cancelled.get() != null) {
-            return Futures.immediateFuture(
-                Optional.of(strategyContext.createCancelledResult(cancelled.get())));
+    ThrowingSupplier<ListenableFuture<ExecutionResult>, Exception> startExecution =
+        () -> {
+          cancelled.set(tryStart.call());
+          boolean isCancelled = cancelled.get() != null;
+          if (isCancelled) {
+            RemoteExecutionActionEvent.sendTerminalEvent(
+                eventBus, State.ACTION_CANCELLED, buildTarget, Optional.of(actionDigest));
+            return Futures.immediateFuture(null);
           }
-          return handleResultLimiter.schedule(
-              service,
-              () ->
-                  handleExecutionResult(
-                      filesystem,
-                      strategyContext,
-                      buildTarget,
-                      result,
-                      actionDigest,
-                      actionOutputs));
-        },
-        service);
+          if (cachedResult.isPresent()) {
+            return Futures.immediateFuture(cachedResult.get());
+          }
+          Scope executingScope =
+              RemoteExecutionActionEvent.sendEvent(
+                  eventBus, State.EXECUTING, buildTarget, Optional.of(actionDigest));
+          ListenableFuture<ExecutionResult> execution =
+              executionClients.getRemoteExecutionService().execute(actionDigest);
+          // The scope is closed on failure too, since a failed execution may be retried.
+          execution.addListener(executingScope::close, MoreExecutors.directExecutor());
+          return execution;
+        };
+    // Cached results don't occupy the remote executors, so they don't wait for an execution slot.
+    ListenableFuture<ExecutionResult> executionResult;
+    try {
+      executionResult =
+          cachedResult.isPresent()
+              ? startExecution.get()
+              : executionLimiter.schedule(service, startExecution);
+    } catch (Exception e) {
+      executionResult = Futures.immediateFailedFuture(e);
+    }
+
+    ListenableFuture<Optional<BuildResult>> buildResult =
+        Futures.transformAsync(
+            executionResult,
+            result -> {
+              if (cancelled.get() != null) {
+                return Futures.immediateFuture(
+                    Optional.of(strategyContext.createCancelledResult(cancelled.get())));
+              }
+              return handleResultLimiter.schedule(
+                  service,
+                  () ->
+                      handleExecutionResult(
+                          filesystem,
+                          strategyContext,
+                          buildTarget,
+                          result,
+                          actionDigest,
+                          actionOutputs));
+            },
+            service);
+    if (!cachedResult.isPresent()) {
+      return buildResult;
+    }
+    return Futures.catchingAsync(
+        buildResult,
+        Exception.class,
+        e -> Futures.immediateFailedFuture(new CachedResultUnavailableException(e)),
+        MoreExecutors.directExecutor());
   }
 
   private ListenableFuture<Optional<BuildResult>> handleExecutionResult(
@@ -380,8 +513,14 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
     try (Scope ignored1 =
         RemoteExecutionActionEvent.sendEvent(
             eventBus, State.DELETING_STALE_OUTPUTS, buildTarget, Optional.of(actionDigest))) {
+      // When reusing unchanged outputs, the outputs produced by the action are kept and brought up
+      // to date by the materialization, which only fetches the files whose content changed.
+      ImmutableSet<Path> reusableOutputs =
+          reuseUnchangedOutputs ? getProducedOutputs(result) : ImmutableSet.of();
       for (Path path : actionOutputs) {
-        MostFiles.deleteRecursivelyIfExists(cellPathPrefix.resolve(path));
+        if (!reusableOutputs.contains(path)) {
+          MostFiles.deleteRecursivelyIfExists(cellPathPrefix.resolve(path));
+        }
       }
     }
 
@@ -389,7 +528,10 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
         executionClients
             .getContentAddressedStorage()
             .materializeOutputs(
-                result.getOutputDirectories(), result.getOutputFiles(), cellPathPrefix);
+                result.getOutputDirectories(),
+                result.getOutputFiles(),
+                cellPathPrefix,
+                mbrHelper::recordMaterializedOutput);
 
     return Futures.transform(
         materializationFuture,
@@ -406,4 +548,19 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
         },
         MoreExecutors.directExecutor());
   }
+
+  /** Signals that the result of a cached action couldn't be used, e.g. to execute it instead. */
+  private static class CachedResultUnavailableException extends RuntimeException {
+    CachedResultUnavailableException(Throwable cause) {
+      super(cause);
+    }
+  }
+
+  private static ImmutableSet<Path> getProducedOutputs(ExecutionResult result) {
+    return Stream.concat(
+            result.getOutputDirectories().stream().map(OutputDirectory::getPath),
+            result.getOutputFiles().stream().map(OutputFile::getPath))
+        .map(Paths::get)
+        .collect(ImmutableSet.toImmutableSet());
+  }
 }
@@ -21,12 +21,14 @@ public class HybridLocalBuildStrategyConfig {
   private final int localJobs;
   private final int delegateJobs;
   private final ModernBuildRuleStrategyConfig delegate;
+  private final boolean adaptive;
 
   public HybridLocalBuildStrategyConfig(
-      int localJobs, int delegateJobs, ModernBuildRuleStrategyConfig delegate) {
+      int localJobs, int delegateJobs, ModernBuildRuleStrategyConfig delegate, boolean adaptive) {
     this.localJobs = localJobs;
     this.delegateJobs = delegateJobs;
     this.delegate = delegate;
+    this.adaptive = adaptive;
   }
 
   public ModernBuildRuleStrategyConfig getDelegateConfig() {
@@ -40,4 +42,12 @@ public class HybridLocalBuildStrategyConfig {
   public int getDelegateJobs() {
     return delegateJobs;
   }
+
+  /**
+   * Whether jobs are kept local when the build history shows that rules of their type finish
+   * sooner locally than with the delegate.
+   */
+  public boolean isAdaptive() {
+    return adaptive;
+  }
 }
@@ -45,7 +45,8 @@ public class ModernBuildRuleStrategyConfigFromSection implements ModernBuildRule
     String delegateFlavor =
         delegate.getValue(section, "delegate").orElseThrow(requires("delegate"));
     ModernBuildRuleStrategyConfig delegate = getFlavoredStrategyConfig(delegateFlavor);
-    return new HybridLocalBuildStrategyConfig(localJobs, remoteJobs, delegate);
+    boolean adaptive = this.delegate.getBooleanValue(section, "adaptive", false);
+    return new HybridLocalBuildStrategyConfig(localJobs, remoteJobs, delegate, adaptive);
   }
 
   private Supplier<HumanReadableException> requires(String key) {
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.skylark.io.impl;
+
+import com.facebook.buck.skylark.io.GlobSpec;
+import com.facebook.buck.skylark.io.Globber;
+import com.facebook.buck.skylark.io.GlobberFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Daemon-wide cache of glob expansion results that is shared by all parser instances and cells.
+ *
+ * <p>Results are keyed by the absolute path of the package that issued a glob and by its {@link
+ * GlobSpec}. Since glob results only depend on the presence of files and not on their content,
+ * entries only have to be invalidated when a path is added or removed. Any such event invalidates
+ * the results of all packages that are ancestors of the changed path, since only they can have
+ * patterns matching it.
+ *
+ * <p>Invalidation is race-free with respect to concurrent expansion: a result computed for a
+ * package whose entries were dropped in the meantime is stored in a detached map and is never
+ * observed.
+ */
+@ThreadSafe
+public class GlobCache {
+
+  private final ConcurrentMap<Path, ConcurrentMap<GlobSpec, ImmutableSet<String>>> cache =
+      new ConcurrentHashMap<>();
+
+  /**
+   * @return {@link GlobberFactory} that consults this cache before delegating glob expansion to
+   *     globbers created by {@code delegate}.
+   */
+  public GlobberFactory decorate(GlobberFactory delegate) {
+    return basePath ->
+        new CachedGlobber(Paths.get(basePath.getPathString()), delegate.create(basePath));
+  }
+
+  /**
+   * Drops cached results of all packages that may contain {@code path}.
+   *
+   * @param path An absolute path of a file or directory that has been added or removed.
+   */
+  public void invalidatePath(Path path) {
+    for (Path current = path; current != null; current = current.getParent()) {
+      cache.remove(current);
+    }
+  }
+
+  /** Drops all cached results. */
+  public void invalidateAll() {
+    cache.clear();
+  }
+
+  /** {@link Globber} that stores its expansion results in the enclosing {@link GlobCache}. */
+  private class CachedGlobber implements Globber {
+    private final Path packagePath;
+    private final Globber delegate;
+
+    private CachedGlobber(Path packagePath, Globber delegate) {
+      this.packagePath = packagePath;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Set<String> run(
+        Collection<String> include, Collection<String> exclude, boolean excludeDirectories)
+        throws IOException, InterruptedException {
+      GlobSpec key =
+          GlobSpec.builder()
+              .setInclude(ImmutableList.copyOf(include))
+              .setExclude(ImmutableList.copyOf(exclude))
+              .setExcludeDirectories(excludeDirectories)
+              .build();
+      // Grab the package map before expanding, so that an invalidation that happens during the
+      // expansion detaches the map and prevents a potentially stale result from being published.
+      ConcurrentMap<GlobSpec, ImmutableSet<String>> packageCache =
+          cache.computeIfAbsent(packagePath, path -> new ConcurrentHashMap<>());
+      @Nullable ImmutableSet<String> expandedPaths = packageCache.get(key);
+      if (expandedPaths != null) {
+        return expandedPaths;
+      }
+      expandedPaths = ImmutableSet.copyOf(delegate.run(include, exclude, excludeDirectories));
+      packageCache.putIfAbsent(key, expandedPaths);
+      return expandedPaths;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.skylark.parser;
+
+import com.facebook.buck.util.types.Pair;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Daemon-wide cache of evaluated Skylark extensions that is shared by all Skylark parser instances.
+ *
+ * <p>Evaluated extensions are frozen and do not capture any state of the build file that loaded
+ * them, so a common macro library only has to be parsed and evaluated once and can then serve
+ * every build file of the cell, including build files parsed by later commands.
+ *
+ * <p>An entry stays valid until any of the files in its load transitive closure changes, which is
+ * reported via {@link #invalidatePath(Path)}.
+ */
+@ThreadSafe
+public class LoadedExtensionCache {
+
+  /**
+   * Extensions keyed by the root of the cell that loads them and the path of the extension file, so
+   * that an extension loaded from several packages is only evaluated once.
+   */
+  private final ConcurrentMap<Pair<Path, String>, ExtensionData> extensions =
+      new ConcurrentHashMap<>();
+
+  /** Keys of the extensions that have to be dropped once a file with a given path changes. */
+  private final ConcurrentMap<String, Set<Pair<Path, String>>> dependents =
+      new ConcurrentHashMap<>();
+
+  Optional<ExtensionData> get(
+      Path cellRoot, com.google.devtools.build.lib.vfs.Path extensionPath) {
+    return Optional.ofNullable(extensions.get(new Pair<>(cellRoot, extensionPath.toString())));
+  }
+
+  void put(Path cellRoot, ExtensionData extensionData) {
+    Pair<Path, String> key = new Pair<>(cellRoot, extensionData.getPath().toString());
+    for (String loadedPath : extensionData.getLoadTransitiveClosure()) {
+      dependents.computeIfAbsent(loadedPath, path -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+    extensions.put(key, extensionData);
+    // A concurrent invalidation of any loaded file might have missed the new entry, in which case
+    // it has also dropped its registration, so make sure a stale extension is not published.
+    for (String loadedPath : extensionData.getLoadTransitiveClosure()) {
+      @Nullable Set<Pair<Path, String>> keys = dependents.get(loadedPath);
+      if (keys == null || !keys.contains(key)) {
+        extensions.remove(key, extensionData);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Drops all extensions that loaded a file at {@code path}.
+   *
+   * @param path An absolute path of a file that has been changed, added or removed.
+   */
+  public void invalidatePath(Path path) {
+    @Nullable Set<Pair<Path, String>> keys = dependents.remove(path.toString());
+    if (keys == null) {
+      return;
+    }
+    for (Pair<Path, String> key : keys) {
+      extensions.remove(key);
+    }
+  }
+
+  /** Drops all cached extensions. */
+  public void invalidateAll() {
+    extensions.clear();
+    dependents.clear();
+  }
+}
@@ -98,6 +98,7 @@ public class SkylarkProjectBuildFileParser implements ProjectBuildFileParser {
   private final LoadingCache<LoadImport, ExtensionData> extensionDataCache;
   private final LoadingCache<LoadImport, IncludesData> includesDataCache;
   private final PackageImplicitIncludesFinder packageImplicitIncludeFinder;
+  private final Optional<LoadedExtensionCache> loadedExtensionCache;
 
   private SkylarkProjectBuildFileParser(
       ProjectBuildFileParserOptions options,
@@ -105,13 +106,15 @@ public class SkylarkProjectBuildFileParser implements ProjectBuildFileParser {
       FileSystem fileSystem,
       BuckGlobals buckGlobals,
       EventHandler eventHandler,
-      GlobberFactory globberFactory) {
+      GlobberFactory globberFactory,
+      Optional<LoadedExtensionCache> loadedExtensionCache) {
     this.options = options;
     this.buckEventBus = buckEventBus;
     this.fileSystem = fileSystem;
     this.eventHandler = eventHandler;
     this.buckGlobals = buckGlobals;
     this.globberFactory = globberFactory;
+    this.loadedExtensionCache = loadedExtensionCache;
 
     this.extensionDataCache =
         CacheBuilder.newBuilder()
@@ -119,7 +122,7 @@ public class SkylarkProjectBuildFileParser implements ProjectBuildFileParser {
                 new CacheLoader<LoadImport, ExtensionData>() {
                   @Override
                   public ExtensionData load(@Nonnull LoadImport loadImport) throws Exception {
-                    return loadExtension(loadImport);
+                    return loadSharedExtension(loadImport);
                   }
                 });
     this.includesDataCache =
@@ -145,8 +148,36 @@ public class SkylarkProjectBuildFileParser implements ProjectBuildFileParser {
       BuckGlobals buckGlobals,
       EventHandler eventHandler,
       GlobberFactory globberFactory) {
+    return using(
+        options,
+        buckEventBus,
+        fileSystem,
+        buckGlobals,
+        eventHandler,
+        globberFactory,
+        Optional.empty());
+  }
+
+  /**
+   * Create an instance of Skylark project build file parser that reuses extensions evaluated by
+   * other parsers sharing the same {@code loadedExtensionCache}.
+   */
+  public static SkylarkProjectBuildFileParser using(
+      ProjectBuildFileParserOptions options,
+      BuckEventBus buckEventBus,
+      FileSystem fileSystem,
+      BuckGlobals buckGlobals,
+      EventHandler eventHandler,
+      GlobberFactory globberFactory,
+      Optional<LoadedExtensionCache> loadedExtensionCache) {
     return new SkylarkProjectBuildFileParser(
-        options, buckEventBus, fileSystem, buckGlobals, eventHandler, globberFactory);
+        options,
+        buckEventBus,
+        fileSystem,
+        buckGlobals,
+        eventHandler,
+        globberFactory,
+        loadedExtensionCache);
   }
 
   @Override
@@ -237,8 +268,15 @@ public class SkylarkProjectBuildFileParser implements ProjectBuildFileParser {
     }
 
     // Only export requested symbols, and ensure that all requsted symbols are present.
-    ExtensionData data =
-        loadExtension(LoadImport.of(containingLabel, implicitInclude.get().getLoadPath()));
+    ExtensionData data;
+    try {
+      data =
+          extensionDataCache.getUnchecked(
+              LoadImport.of(containingLabel, implicitInclude.get().getLoadPath()));
+    } catch (UncheckedExecutionException e) {
+      propagateRootCause(e);
+      throw e;
+    }
     ImmutableMap<String, Object> symbols = data.getExtension().getBindings();
     ImmutableMap<String, String> expectedSymbols = implicitInclude.get().getSymbols();
     Builder<String, Object> loaded = ImmutableMap.builderWithExpectedSize(expectedSymbols.size());
@@ -548,6 +586,40 @@ public class SkylarkProjectBuildFileParser implements ProjectBuildFileParser {
     return builder.build();
   }
 
+  /**
+   * Returns an extension evaluated by any parser sharing {@link #loadedExtensionCache} or loads it
+   * and makes it available to them.
+   */
+  private ExtensionData loadSharedExtension(LoadImport loadImport)
+      throws IOException, BuildFileParseException, InterruptedException {
+    if (!loadedExtensionCache.isPresent()) {
+      return loadExtension(loadImport);
+    }
+    Path cellRoot = options.getProjectRoot();
+    Optional<ExtensionData> cachedExtension =
+        loadedExtensionCache
+            .get()
+            .get(cellRoot, getImportPath(loadImport.getLabel(), loadImport.getImport()));
+    if (cachedExtension.isPresent()) {
+      // The same file may be imported with a different label, e.g. a relative one, and the
+      // import string is what the importing environment looks the extension up by.
+      String importString = loadImport.getImport().getImportString();
+      ExtensionData extensionData = cachedExtension.get();
+      if (extensionData.getImportString().equals(importString)) {
+        return extensionData;
+      }
+      return ExtensionData.of(
+          extensionData.getExtension(),
+          extensionData.getPath(),
+          extensionData.getDependencies(),
+          importString,
+          extensionData.getLoadTransitiveClosure());
+    }
+    ExtensionData extensionData = loadExtension(loadImport);
+    loadedExtensionCache.get().put(cellRoot, extensionData);
+    return extensionData;
+  }
+
   /**
    * Creates an extension from a {@code path}.
    *
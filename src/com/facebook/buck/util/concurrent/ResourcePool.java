@@ -17,6 +17,7 @@
 package com.facebook.buck.util.concurrent;
 
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.function.ThrowingConsumer;
 import com.facebook.buck.util.types.Either;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.AsyncFunction;
@@ -161,6 +162,49 @@ public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
     return Futures.nonCancellationPropagating(futureWork);
   }
 
+  /**
+   * Creates up to {@code count} additional resources, as far as the maximum number of resources
+   * allows, and runs {@code prepareResource} on each of them before they become available to
+   * scheduled operations. This allows expensive initialization of resources to overlap with the
+   * work done by resources that already exist.
+   *
+   * <p>If {@code prepareResource} fails, the resource is assumed to be defective and is retired.
+   */
+  public synchronized void prepareResources(
+      int count,
+      ThrowingConsumer<R, Exception> prepareResource,
+      ListeningExecutorService executorService) {
+    Preconditions.checkState(!closing.get());
+
+    for (int i = 0; i < count; i++) {
+      Optional<R> resource = createIfAllowed();
+      if (!resource.isPresent()) {
+        return;
+      }
+      ListenableFuture<?> preparation =
+          executorService.submit(
+              () -> {
+                boolean resourceIsDefunct = false;
+                try {
+                  prepareResource.accept(resource.get());
+                } catch (Exception e) {
+                  LOG.info(e, "Error preparing a resource.");
+                  resourceIsDefunct = true;
+                } finally {
+                  returnResource(resource.get(), resourceIsDefunct);
+                }
+              });
+      pendingWork.add(preparation);
+      preparation.addListener(
+          () -> {
+            synchronized (ResourcePool.this) {
+              pendingWork.remove(preparation);
+            }
+          },
+          executorService);
+    }
+  }
+
   private synchronized ListenableFuture<Void> initialSchedule() {
     // If we'll (potentially) be allowed to create a resource or there are some parked then we'll
     // take the chance and attempt to run immediately.
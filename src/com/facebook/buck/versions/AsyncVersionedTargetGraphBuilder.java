@@ -21,7 +21,7 @@ import com.facebook.buck.core.graph.transformation.GraphTransformationEngine;
 import com.facebook.buck.core.graph.transformation.GraphTransformer;
 import com.facebook.buck.core.graph.transformation.TransformationEnvironment;
 import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
-import com.facebook.buck.core.graph.transformation.executor.impl.DefaultDepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.executor.impl.WorkStealingDepsAwareExecutor;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.targetgraph.TargetGraph;
 import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
@@ -97,7 +97,7 @@ public class AsyncVersionedTargetGraphBuilder extends AbstractVersionedTargetGra
             new TargetNodeToVersionInfoTransformer(
                 unversionedTargetGraphAndBuildTargets.getTargetGraph()),
             2 * unversionedTargetGraphAndBuildTargets.getTargetGraph().getSize(),
-            DefaultDepsAwareExecutor.from(versionInfoExecutor));
+            WorkStealingDepsAwareExecutor.from(versionInfoExecutor));
   }
 
   @Override
@@ -64,6 +64,7 @@ public class ParallelVersionedTargetGraphBuilder extends AbstractVersionedTarget
 
   private final ForkJoinPool pool;
   private final VersionSelector versionSelector;
+  private final Optional<TranslatedTargetNodeCache> translatedTargetNodeCache;
 
   /** The resolved version graph being built. */
   private final VersionedTargetGraph.Builder targetGraphBuilder = VersionedTargetGraph.builder();
@@ -85,7 +86,8 @@ public class ParallelVersionedTargetGraphBuilder extends AbstractVersionedTarget
       VersionSelector versionSelector,
       TargetGraphAndBuildTargets unversionedTargetGraphAndBuildTargets,
       TypeCoercerFactory typeCoercerFactory,
-      long timeoutSeconds) {
+      long timeoutSeconds,
+      Optional<TranslatedTargetNodeCache> translatedTargetNodeCache) {
 
     super(
         typeCoercerFactory,
@@ -94,6 +96,7 @@ public class ParallelVersionedTargetGraphBuilder extends AbstractVersionedTarget
         TimeUnit.SECONDS);
     this.pool = pool;
     this.versionSelector = versionSelector;
+    this.translatedTargetNodeCache = translatedTargetNodeCache;
 
     this.index =
         new ConcurrentHashMap<>(
@@ -222,13 +225,36 @@ public class ParallelVersionedTargetGraphBuilder extends AbstractVersionedTarget
       TypeCoercerFactory typeCoercerFactory,
       long timeoutSeconds)
       throws VersionException, TimeoutException, InterruptedException {
+    return transform(
+        versionSelector,
+        unversionedTargetGraphAndBuildTargets,
+        pool,
+        typeCoercerFactory,
+        timeoutSeconds,
+        Optional.empty());
+  }
+
+  /**
+   * @param translatedTargetNodeCache translations retained from a previous transformation, which is
+   *     used to avoid re-translating nodes unaffected by changes and is populated with the nodes
+   *     translated by this transformation.
+   */
+  static TargetGraphAndBuildTargets transform(
+      VersionSelector versionSelector,
+      TargetGraphAndBuildTargets unversionedTargetGraphAndBuildTargets,
+      ForkJoinPool pool,
+      TypeCoercerFactory typeCoercerFactory,
+      long timeoutSeconds,
+      Optional<TranslatedTargetNodeCache> translatedTargetNodeCache)
+      throws VersionException, TimeoutException, InterruptedException {
     return unversionedTargetGraphAndBuildTargets.withTargetGraph(
         new ParallelVersionedTargetGraphBuilder(
                 pool,
                 versionSelector,
                 unversionedTargetGraphAndBuildTargets,
                 typeCoercerFactory,
-                timeoutSeconds)
+                timeoutSeconds,
+                translatedTargetNodeCache)
             .build());
   }
 
@@ -341,9 +367,17 @@ public class ParallelVersionedTargetGraphBuilder extends AbstractVersionedTarget
       }
 
       // Create the new target node, with the new target and deps.
-      TargetNode<?> newNode =
-          ((Optional<TargetNode<?>>) (Optional<?>) targetTranslator.translateNode(node))
-              .orElse(node);
+      TargetNode<?> newNode;
+      if (translatedTargetNodeCache.isPresent()) {
+        newNode =
+            translatedTargetNodeCache
+                .get()
+                .translateNode(getRoot(), node, targetTranslator, typeCoercerFactory);
+      } else {
+        newNode =
+            ((Optional<TargetNode<?>>) (Optional<?>) targetTranslator.translateNode(node))
+                .orElse(node);
+      }
 
       LOG.verbose(
           "%s: new node declared deps %s, extra deps %s, arg %s",
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the nodes translated while building a versioned target graph, so that the next versioned
+ * target graph only has to translate the nodes affected by changes to the un-versioned graph.
+ *
+ * <p>A node translated for a version root depends on the transitive closure of that root, which
+ * determines the selected versions, and on the transitive closures of all targets looked up while
+ * translating its attributes (e.g. tests, which are not dependencies). An entry is therefore only
+ * kept if neither its root nor any of those targets have a changed node in their transitive
+ * closure.
+ */
+class TranslatedTargetNodeCache {
+
+  private static final Logger LOG = Logger.get(TranslatedTargetNodeCache.class);
+
+  private final TargetGraph unversionedTargetGraph;
+  private final ImmutableMap<String, VersionUniverse> versionUniverses;
+
+  /** Translations keyed by the root they were translated for and the un-versioned node target. */
+  private final ConcurrentMap<Pair<BuildTarget, BuildTarget>, Translation> translations;
+
+  private TranslatedTargetNodeCache(
+      TargetGraph unversionedTargetGraph,
+      ImmutableMap<String, VersionUniverse> versionUniverses,
+      ConcurrentMap<Pair<BuildTarget, BuildTarget>, Translation> translations) {
+    this.unversionedTargetGraph = unversionedTargetGraph;
+    this.versionUniverses = versionUniverses;
+    this.translations = translations;
+  }
+
+  static TranslatedTargetNodeCache of(
+      TargetGraph unversionedTargetGraph, ImmutableMap<String, VersionUniverse> versionUniverses) {
+    return new TranslatedTargetNodeCache(
+        unversionedTargetGraph, versionUniverses, new ConcurrentHashMap<>());
+  }
+
+  /**
+   * @return a cache for versioning {@code newTargetGraph} that retains all translations which are
+   *     not affected by the differences between {@code newTargetGraph} and the graph this cache was
+   *     populated from.
+   */
+  TranslatedTargetNodeCache update(
+      TargetGraph newTargetGraph, ImmutableMap<String, VersionUniverse> newVersionUniverses) {
+    if (!versionUniverses.equals(newVersionUniverses)) {
+      return of(newTargetGraph, newVersionUniverses);
+    }
+
+    Set<BuildTarget> invalidated = getInvalidatedTargets(unversionedTargetGraph, newTargetGraph);
+    ConcurrentMap<Pair<BuildTarget, BuildTarget>, Translation> retained =
+        new ConcurrentHashMap<>();
+    translations.forEach(
+        (key, translation) -> {
+          if (!isInvalidated(invalidated, key.getFirst())
+              && !isInvalidated(invalidated, key.getSecond())
+              && translation
+                  .getLookedUpTargets()
+                  .stream()
+                  .noneMatch(target -> isInvalidated(invalidated, target))) {
+            retained.put(key, translation);
+          }
+        });
+    LOG.debug(
+        "Retained %d of %d translated nodes (%d invalidated targets)",
+        retained.size(), translations.size(), invalidated.size());
+    return new TranslatedTargetNodeCache(newTargetGraph, newVersionUniverses, retained);
+  }
+
+  /** Flavored targets resolve to their un-flavored node, so check for both. */
+  private static boolean isInvalidated(Set<BuildTarget> invalidated, BuildTarget target) {
+    return invalidated.contains(target) || invalidated.contains(target.withoutFlavors());
+  }
+
+  /**
+   * @return the targets of all nodes that were added, removed or changed, along with everything
+   *     that transitively depends on them in {@code newTargetGraph}.
+   */
+  private static Set<BuildTarget> getInvalidatedTargets(
+      TargetGraph oldTargetGraph, TargetGraph newTargetGraph) {
+    Set<BuildTarget> invalidated = new HashSet<>();
+    Queue<TargetNode<?>> queue = new ArrayDeque<>();
+    for (TargetNode<?> node : newTargetGraph.getNodes()) {
+      Optional<TargetNode<?>> oldNode = oldTargetGraph.getExactOptional(node.getBuildTarget());
+      if (!oldNode.isPresent() || !oldNode.get().equals(node)) {
+        invalidated.add(node.getBuildTarget());
+        queue.add(node);
+      }
+    }
+    for (TargetNode<?> oldNode : oldTargetGraph.getNodes()) {
+      if (!newTargetGraph.getExactOptional(oldNode.getBuildTarget()).isPresent()) {
+        invalidated.add(oldNode.getBuildTarget());
+      }
+    }
+    while (!queue.isEmpty()) {
+      for (TargetNode<?> dependent : newTargetGraph.getIncomingNodesFor(queue.remove())) {
+        if (invalidated.add(dependent.getBuildTarget())) {
+          queue.add(dependent);
+        }
+      }
+    }
+    return invalidated;
+  }
+
+  /**
+   * @return the translation of {@code node} for the sub-graph of {@code root}, either retained from
+   *     a previous versioned target graph or computed using {@code translator}.
+   */
+  @SuppressWarnings("unchecked")
+  TargetNode<?> translateNode(
+      TargetNode<?> root,
+      TargetNode<?> node,
+      TargetNodeTranslator translator,
+      TypeCoercerFactory typeCoercerFactory) {
+    Pair<BuildTarget, BuildTarget> key = new Pair<>(root.getBuildTarget(), node.getBuildTarget());
+    @Nullable Translation translation = translations.get(key);
+    if (translation != null && translation.getOriginalNode().equals(node)) {
+      return translation.getTranslatedNode();
+    }
+
+    RecordingTargetNodeTranslator recordingTranslator =
+        new RecordingTargetNodeTranslator(typeCoercerFactory, translator);
+    TargetNode<?> translatedNode =
+        ((Optional<TargetNode<?>>) (Optional<?>) recordingTranslator.translateNode(node))
+            .orElse(node);
+    translations.put(
+        key,
+        new Translation(node, translatedNode, ImmutableSet.copyOf(recordingTranslator.lookedUp)));
+    return translatedNode;
+  }
+
+  /** A translated node along with everything its translation depends on. */
+  private static class Translation {
+    private final TargetNode<?> originalNode;
+    private final TargetNode<?> translatedNode;
+    private final ImmutableSet<BuildTarget> lookedUpTargets;
+
+    Translation(
+        TargetNode<?> originalNode,
+        TargetNode<?> translatedNode,
+        ImmutableSet<BuildTarget> lookedUpTargets) {
+      this.originalNode = originalNode;
+      this.translatedNode = translatedNode;
+      this.lookedUpTargets = lookedUpTargets;
+    }
+
+    TargetNode<?> getOriginalNode() {
+      return originalNode;
+    }
+
+    TargetNode<?> getTranslatedNode() {
+      return translatedNode;
+    }
+
+    ImmutableSet<BuildTarget> getLookedUpTargets() {
+      return lookedUpTargets;
+    }
+  }
+
+  /** Records all targets whose translation was requested while translating a single node. */
+  private static class RecordingTargetNodeTranslator extends TargetNodeTranslator {
+    private final TargetNodeTranslator delegate;
+    private final Set<BuildTarget> lookedUp = new HashSet<>();
+
+    RecordingTargetNodeTranslator(
+        TypeCoercerFactory typeCoercerFactory, TargetNodeTranslator delegate) {
+      super(typeCoercerFactory, ImmutableList.of(new QueryTargetTranslator()));
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<BuildTarget> translateBuildTarget(BuildTarget target) {
+      lookedUp.add(target);
+      return delegate.translateBuildTarget(target);
+    }
+
+    @Override
+    public Optional<ImmutableMap<BuildTarget, Version>> getSelectedVersions(BuildTarget target) {
+      return delegate.getSelectedVersions(target);
+    }
+  }
+}
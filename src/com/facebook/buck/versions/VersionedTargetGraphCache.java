@@ -17,7 +17,7 @@
 package com.facebook.buck.versions;
 
 import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
-import com.facebook.buck.core.graph.transformation.executor.impl.DefaultDepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.executor.impl.WorkStealingDepsAwareExecutor;
 import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
 import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.core.util.immutables.BuckStyleTuple;
@@ -33,6 +33,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeoutException;
 import javax.annotation.Nullable;
@@ -47,6 +48,13 @@ public class VersionedTargetGraphCache {
 
   @Nullable private CachedVersionedTargetGraph cachedVersionedTargetGraph = null;
 
+  /**
+   * Node translations of the last versioned target graph built in {@link
+   * VersionTargetGraphMode#DISABLED} mode, which are reused for nodes unaffected by changes to the
+   * un-versioned target graph.
+   */
+  @Nullable private TranslatedTargetNodeCache translatedTargetNodeCache = null;
+
   /** @return a new versioned target graph. */
   private TargetGraphAndBuildTargets createdVersionedTargetGraph(
       TargetGraphAndBuildTargets targetGraphAndBuildTargets,
@@ -72,7 +80,7 @@ public class VersionedTargetGraphCache {
 
     switch (versionTargetGraphMode) {
       case ENABLED:
-        DepsAwareExecutor<TargetNode<?>, ?> executor = DefaultDepsAwareExecutor.from(pool);
+        DepsAwareExecutor<TargetNode<?>, ?> executor = WorkStealingDepsAwareExecutor.from(pool);
         TargetGraphAndBuildTargets versionedTargetGraph =
             AsyncVersionedTargetGraphBuilder.transform(
                 new VersionUniverseVersionSelector(
@@ -84,13 +92,20 @@ public class VersionedTargetGraphCache {
         executor.shutdownNow();
         return versionedTargetGraph;
       case DISABLED:
+        translatedTargetNodeCache =
+            translatedTargetNodeCache == null
+                ? TranslatedTargetNodeCache.of(
+                    targetGraphAndBuildTargets.getTargetGraph(), versionUniverses)
+                : translatedTargetNodeCache.update(
+                    targetGraphAndBuildTargets.getTargetGraph(), versionUniverses);
         return ParallelVersionedTargetGraphBuilder.transform(
             new VersionUniverseVersionSelector(
                 targetGraphAndBuildTargets.getTargetGraph(), versionUniverses),
             targetGraphAndBuildTargets,
             pool,
             typeCoercerFactory,
-            timeoutSeconds);
+            timeoutSeconds,
+            Optional.of(translatedTargetNodeCache));
       case EXPERIMENT:
       default:
         throw new AssertionError(
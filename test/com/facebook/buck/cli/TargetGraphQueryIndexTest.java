@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cli;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.targetgraph.FakeTargetNodeBuilder;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.graph.MutableDirectedGraph;
+import com.facebook.buck.query.QueryBuildTarget;
+import com.facebook.buck.query.QueryTarget;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TargetGraphQueryIndexTest {
+
+  private MutableDirectedGraph<TargetNode<?>> graph;
+  private Map<String, TargetNode<?>> nodes;
+
+  @Before
+  public void setUp() {
+    graph = new MutableDirectedGraph<>();
+    nodes = new HashMap<>();
+  }
+
+  private TargetNode<?> node(String name) {
+    return nodes.computeIfAbsent(
+        name,
+        n -> {
+          TargetNode<?> node =
+              FakeTargetNodeBuilder.newBuilder(BuildTargetFactory.newInstance("//:" + n)).build();
+          graph.addNode(node);
+          return node;
+        });
+  }
+
+  private void edge(String from, String to) {
+    graph.addEdge(node(from), node(to));
+  }
+
+  private static QueryTarget target(String name) {
+    return QueryBuildTarget.of(BuildTargetFactory.newInstance("//:" + name));
+  }
+
+  private static ImmutableList<QueryTarget> targets(String... names) {
+    return ImmutableList.copyOf(names)
+        .stream()
+        .map(TargetGraphQueryIndexTest::target)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private static TargetGraphQueryIndex index(MutableDirectedGraph<TargetNode<?>> graph) {
+    return TargetGraphQueryIndex.of(graph, QueryBuildTarget::of);
+  }
+
+  @Test
+  public void fwdDepsAreVisitedLevelByLevelInTargetOrder() {
+    edge("a", "c");
+    edge("a", "b");
+    edge("b", "e");
+    edge("c", "d");
+    edge("c", "e");
+    edge("d", "f");
+    TargetGraphQueryIndex index = index(graph);
+    int[] roots = index.getIds(targets("a")).get();
+
+    assertEquals(
+        targets("a", "b", "c", "e", "d", "f"),
+        index.getTransitiveFwdDeps(roots, Integer.MAX_VALUE).asList());
+    assertEquals(targets("a", "b", "c"), index.getTransitiveFwdDeps(roots, 1).asList());
+    assertEquals(targets("a"), index.getTransitiveFwdDeps(roots, 0).asList());
+  }
+
+  @Test
+  public void reverseDepsAreRestrictedToUniverse() {
+    edge("a", "b");
+    edge("b", "d");
+    edge("c", "d");
+    edge("x", "d");
+    TargetGraphQueryIndex index = index(graph);
+    int[] universe = index.getIds(targets("a", "c")).get();
+
+    assertEquals(
+        targets("d", "b", "c", "a"),
+        index
+            .getTransitiveReverseDeps(
+                index.getIds(targets("d")).get(),
+                Integer.MAX_VALUE,
+                index.getTransitiveClosure(universe))
+            .asList());
+    assertEquals(
+        ImmutableList.of(),
+        index
+            .getTransitiveReverseDeps(
+                index.getIds(targets("x")).get(),
+                Integer.MAX_VALUE,
+                index.getTransitiveClosure(universe))
+            .asList());
+  }
+
+  @Test
+  public void targetsOutsideOfGraphHaveNoIds() {
+    node("a");
+    TargetGraphQueryIndex index = index(graph);
+
+    assertEquals(false, index.getIds(targets("a", "b")).isPresent());
+    assertEquals(1, index.getIdsOfIndexedTargets(targets("a", "b")).length);
+  }
+
+  @Test
+  public void largeGraphTraversalMatchesSerialTraversal() {
+    Random random = new Random(42);
+    int size = 5000;
+    for (int i = 0; i < size; i++) {
+      node(Integer.toString(i));
+    }
+    for (int i = 1; i < size; i++) {
+      for (int j = 0; j < 3; j++) {
+        edge(Integer.toString(random.nextInt(i)), Integer.toString(i));
+      }
+    }
+    TargetGraphQueryIndex index = index(graph);
+    ImmutableList<QueryTarget> roots = targets("0", "1", "2");
+
+    assertEquals(
+        serialBreadthFirstSearch(roots, true),
+        index.getTransitiveFwdDeps(index.getIds(roots).get(), Integer.MAX_VALUE).asList());
+
+    ImmutableList<QueryTarget> leaves = targets("4999", "4998");
+    ImmutableList<QueryTarget> all =
+        graph
+            .getNodes()
+            .stream()
+            .map(node -> QueryBuildTarget.of(node.getBuildTarget()))
+            .collect(ImmutableList.toImmutableList());
+    assertEquals(
+        serialBreadthFirstSearch(leaves, false),
+        index
+            .getTransitiveReverseDeps(
+                index.getIds(leaves).get(),
+                Integer.MAX_VALUE,
+                index.getTransitiveClosure(index.getIds(all).get()))
+            .asList());
+  }
+
+  /** Visits dependencies the way {@link BuckQueryEnvironment} returns them, sorted per node. */
+  private List<QueryTarget> serialBreadthFirstSearch(
+      ImmutableList<QueryTarget> roots, boolean forward) {
+    Map<BuildTarget, TargetNode<?>> targetsToNodes = new HashMap<>();
+    graph.getNodes().forEach(node -> targetsToNodes.put(node.getBuildTarget(), node));
+    Set<QueryTarget> result = new LinkedHashSet<>(roots);
+    Collection<QueryTarget> current = roots;
+    while (!current.isEmpty()) {
+      Collection<QueryTarget> next = new ArrayList<>();
+      for (QueryTarget target : current) {
+        TargetNode<?> node = targetsToNodes.get(((QueryBuildTarget) target).getBuildTarget());
+        Iterable<TargetNode<?>> deps =
+            forward ? graph.getOutgoingNodesFor(node) : graph.getIncomingNodesFor(node);
+        for (QueryTarget dep :
+            StreamSupport.stream(deps.spliterator(), false)
+                .map(depNode -> QueryBuildTarget.of(depNode.getBuildTarget()))
+                .collect(ImmutableSortedSet.toImmutableSortedSet(Comparator.naturalOrder()))) {
+          if (result.add(dep)) {
+            next.add(dep);
+          }
+        }
+      }
+      current = next;
+    }
+    return ImmutableList.copyOf(result);
+  }
+}
@@ -67,6 +67,7 @@ import com.facebook.buck.util.json.ObjectMappers;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -78,6 +79,7 @@ import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 import java.util.SortedMap;
 import java.util.SortedSet;
@@ -164,6 +166,29 @@ public class TargetsCommandTest {
     assertEquals("Nothing should be printed to stderr.", "", console.getTextWrittenToStdErr());
   }
 
+  @Test
+  public void testJsonLinesOutputForBuildTarget() throws Exception {
+    CmdLineParserFactory.create(targetsCommand).parseArgument("--json-lines");
+    SortedSet<TargetNode<?>> nodes = buildTargetNodes(filesystem, "//:test-library");
+
+    targetsCommand.printJsonForTargets(
+        params, executor, nodes, ImmutableMap.of(), ImmutableSet.of());
+    List<String> lines =
+        Splitter.on(System.lineSeparator())
+            .omitEmptyStrings()
+            .splitToList(console.getTextWrittenToStdOut());
+    assertEquals("Each target should be printed on a single line.", 1, lines.size());
+    JsonNode observed = ObjectMappers.READER.readTree(ObjectMappers.createParser(lines.get(0)));
+
+    String expectedJson = workspace.getFileContents("TargetsCommandTestBuckJson1.js");
+    JsonNode expected =
+        ObjectMappers.READER.readTree(
+            ObjectMappers.createParser(expectedJson).enable(Feature.ALLOW_COMMENTS));
+
+    assertEquals(
+        "Output from targets command should match expected JSON.", expected.get(0), observed);
+  }
+
   @Test
   public void testJsonOutputWithDirectDependencies() throws IOException {
     // Run Buck targets command on a case where the deps and direct_dependencies differ
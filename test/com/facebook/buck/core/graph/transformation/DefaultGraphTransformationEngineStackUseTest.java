@@ -18,7 +18,9 @@ package com.facebook.buck.core.graph.transformation;
 
 import static org.junit.Assert.assertEquals;
 
+import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
 import com.facebook.buck.core.graph.transformation.executor.impl.DefaultDepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.executor.impl.WorkStealingDepsAwareExecutor;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.MutableGraph;
 import java.util.concurrent.ForkJoinPool;
@@ -28,6 +30,15 @@ public class DefaultGraphTransformationEngineStackUseTest {
 
   @Test
   public void largeGraphShouldNotStackOverflow() {
+    assertLargeGraphDoesNotStackOverflow(DefaultDepsAwareExecutor.from(new ForkJoinPool(1)));
+  }
+
+  @Test
+  public void largeGraphShouldNotStackOverflowWithWorkStealingExecutor() {
+    assertLargeGraphDoesNotStackOverflow(WorkStealingDepsAwareExecutor.from(new ForkJoinPool(1)));
+  }
+
+  private void assertLargeGraphDoesNotStackOverflow(DepsAwareExecutor<? super Long, ?> executor) {
     MutableGraph<Long> graph = GraphBuilder.directed().build();
     // We set -Xss500k for the JVM for this test, so our stack is very small.
     for (long i = 1L; i <= 6000L; i++) {
@@ -41,10 +52,7 @@ public class DefaultGraphTransformationEngineStackUseTest {
     assertEquals(
         (Long) 18003000L, // arithmetic series from 1 to 6000
         // https://www.wolframalpha.com/input/?i=sum+from+1+to+6000
-        new DefaultGraphTransformationEngine<>(
-                transformer,
-                graph.nodes().size(),
-                DefaultDepsAwareExecutor.from(new ForkJoinPool(1)))
+        new DefaultGraphTransformationEngine<>(transformer, graph.nodes().size(), executor)
             .computeUnchecked(1L));
   }
 }
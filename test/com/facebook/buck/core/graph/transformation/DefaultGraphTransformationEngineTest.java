@@ -21,11 +21,14 @@ import static org.junit.Assert.assertEquals;
 import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
 import com.facebook.buck.core.graph.transformation.executor.DepsAwareTask;
 import com.facebook.buck.core.graph.transformation.executor.impl.DefaultDepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.executor.impl.WorkStealingDepsAwareExecutor;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.MutableGraph;
 import com.google.common.util.concurrent.Futures;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +36,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Assert;
@@ -41,10 +45,25 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.Timeout;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 /** Test and demonstration of {@link DefaultGraphTransformationEngine} */
+@RunWith(Parameterized.class)
 public class DefaultGraphTransformationEngineTest {
 
+  @Parameterized.Parameters
+  public static Collection<Object[]> data() {
+    return Arrays.asList(
+        new Object[][] {
+          {(Function<ForkJoinPool, DepsAwareExecutor<?, ?>>) DefaultDepsAwareExecutor::from},
+          {(Function<ForkJoinPool, DepsAwareExecutor<?, ?>>) WorkStealingDepsAwareExecutor::from},
+        });
+  }
+
+  @Parameterized.Parameter(value = 0)
+  public Function<ForkJoinPool, DepsAwareExecutor<?, ?>> executorFactory;
+
   @Rule public Timeout timeout = Timeout.seconds(10000);
   @Rule public ExpectedException expectedException = ExpectedException.none();
 
@@ -54,7 +73,7 @@ public class DefaultGraphTransformationEngineTest {
 
   @Before
   public void setUp() {
-    executor = DefaultDepsAwareExecutor.from(new ForkJoinPool(4));
+    executor = executorFactory.apply(new ForkJoinPool(4));
 
     graph = GraphBuilder.directed().build();
 
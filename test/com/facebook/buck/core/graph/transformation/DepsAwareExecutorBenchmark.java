@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.graph.transformation;
+
+import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.executor.impl.DefaultDepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.executor.impl.WorkStealingDepsAwareExecutor;
+import com.google.common.graph.GraphBuilder;
+import com.google.common.graph.MutableGraph;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the throughput of {@link DepsAwareExecutor} implementations running a {@link
+ * DefaultGraphTransformationEngine} over wide and deep synthetic graphs, using a pool with as many
+ * threads as there are cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class DepsAwareExecutorBenchmark {
+
+  /** The number of nodes in each of the synthetic graphs. */
+  private static final long NUM_NODES = 10000L;
+
+  @Param({"default", "work_stealing"})
+  public String executorType;
+
+  /**
+   * The shape of the graph: "wide" is a root with all other nodes as direct children, "deep" is a
+   * single chain of nodes.
+   */
+  @Param({"wide", "deep"})
+  public String graphShape;
+
+  private MutableGraph<Long> graph;
+  private ForkJoinPool pool;
+  private DepsAwareExecutor<? super Long, ?> executor;
+
+  @Setup(Level.Trial)
+  public void setUpGraph() {
+    graph = GraphBuilder.directed().build();
+    graph.addNode(0L);
+    for (long i = 1L; i < NUM_NODES; i++) {
+      graph.addNode(i);
+      graph.putEdge(graphShape.equals("wide") ? 0L : i - 1, i);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpExecutor() {
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    executor =
+        executorType.equals("default")
+            ? DefaultDepsAwareExecutor.from(pool)
+            : WorkStealingDepsAwareExecutor.from(pool);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownExecutor() {
+    executor.shutdownNow();
+    pool.shutdownNow();
+  }
+
+  @Benchmark
+  public void computeRoot(Blackhole blackhole) {
+    blackhole.consume(
+        new DefaultGraphTransformationEngine<>(
+                new ChildrenAdder(graph), graph.nodes().size(), executor)
+            .computeUnchecked(0L));
+  }
+}
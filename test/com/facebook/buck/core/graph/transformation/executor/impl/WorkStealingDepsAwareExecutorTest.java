@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.graph.transformation.executor.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WorkStealingDepsAwareExecutorTest {
+
+  private ForkJoinPool pool = new ForkJoinPool(2);
+  private WorkStealingDepsAwareExecutor<Object> executor;
+  public @Rule ExpectedException expectedException = ExpectedException.none();
+
+  @Before
+  public void setUp() {
+    executor = WorkStealingDepsAwareExecutor.from(pool);
+  }
+
+  @After
+  public void cleanUp() {
+    executor.shutdownNow();
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void submittedTaskRuns() throws InterruptedException, ExecutionException {
+    AtomicBoolean taskRan = new AtomicBoolean(false);
+    executor
+        .submit(
+            WorkStealingDepsAwareTask.of(
+                () -> {
+                  taskRan.set(true);
+                  return null;
+                }))
+        .get();
+
+    assertTrue(taskRan.get());
+  }
+
+  @Test
+  public void submitMultipleTaskAllRuns() throws InterruptedException, ExecutionException {
+    final int numTask = 5;
+
+    LongAdder adder = new LongAdder();
+    List<WorkStealingDepsAwareTask<Object>> tasks = new ArrayList<>();
+    for (int i = 0; i < numTask; i++) {
+      tasks.add(
+          WorkStealingDepsAwareTask.of(
+              () -> {
+                adder.increment();
+                return null;
+              }));
+    }
+    List<Future<Object>> futures = executor.submitAll(tasks);
+
+    for (Future<Object> future : futures) {
+      future.get();
+    }
+
+    assertEquals(numTask, adder.intValue());
+  }
+
+  @Test
+  public void depsCompleteBeforeTaskAndSharedDepRunsOnce()
+      throws InterruptedException, ExecutionException {
+    LongAdder sharedDepRuns = new LongAdder();
+    WorkStealingDepsAwareTask<Object> sharedDep =
+        WorkStealingDepsAwareTask.of(
+            () -> {
+              sharedDepRuns.increment();
+              return null;
+            });
+    WorkStealingDepsAwareTask<Object> dep1 =
+        WorkStealingDepsAwareTask.of(() -> null, () -> ImmutableSet.of(sharedDep));
+    WorkStealingDepsAwareTask<Object> dep2 =
+        WorkStealingDepsAwareTask.of(() -> null, () -> ImmutableSet.of(sharedDep));
+    WorkStealingDepsAwareTask<Object> task =
+        WorkStealingDepsAwareTask.of(
+            () -> {
+              assertTrue(dep1.getResultFuture().isDone());
+              assertTrue(dep2.getResultFuture().isDone());
+              return null;
+            },
+            () -> ImmutableSet.of(dep1, dep2));
+
+    executor.submit(task).get();
+
+    assertEquals(1, sharedDepRuns.intValue());
+  }
+
+  @Test
+  public void waitingTasksDoNotOccupyThreads()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    // With two threads, more waiting tasks than threads would starve a blocking executor.
+    Semaphore release = new Semaphore(0);
+    WorkStealingDepsAwareTask<Object> blocker =
+        WorkStealingDepsAwareTask.of(
+            () -> {
+              release.acquire();
+              return null;
+            });
+    List<WorkStealingDepsAwareTask<Object>> waiting = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      waiting.add(WorkStealingDepsAwareTask.of(() -> null, () -> ImmutableSet.of(blocker)));
+    }
+    List<Future<Object>> waitingFutures = executor.submitAll(waiting);
+
+    AtomicBoolean independentRan = new AtomicBoolean(false);
+    executor
+        .submit(
+            WorkStealingDepsAwareTask.of(
+                () -> {
+                  independentRan.set(true);
+                  return null;
+                }))
+        .get(5, TimeUnit.SECONDS);
+    assertTrue(independentRan.get());
+
+    release.release();
+    for (Future<Object> future : waitingFutures) {
+      future.get();
+    }
+  }
+
+  @Test
+  public void exceptionInDepIsPropagated() throws InterruptedException {
+    Exception exception = new Exception("failed");
+    WorkStealingDepsAwareTask<Object> dep =
+        WorkStealingDepsAwareTask.of(
+            () -> {
+              throw exception;
+            });
+    AtomicBoolean taskRan = new AtomicBoolean(false);
+    WorkStealingDepsAwareTask<Object> task =
+        WorkStealingDepsAwareTask.of(
+            () -> {
+              taskRan.set(true);
+              return null;
+            },
+            () -> ImmutableSet.of(dep));
+
+    try {
+      executor.submit(task).get();
+    } catch (ExecutionException e) {
+      assertSame(exception, e.getCause());
+    }
+    assertFalse(taskRan.get());
+  }
+
+  @Test
+  public void errorsCompleteTheTasks()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    Error error = new AssertionError("failed");
+    WorkStealingDepsAwareTask<Object> dep =
+        WorkStealingDepsAwareTask.of(
+            () -> {
+              throw error;
+            });
+    WorkStealingDepsAwareTask<Object> task =
+        WorkStealingDepsAwareTask.of(() -> null, () -> ImmutableSet.of(dep));
+    WorkStealingDepsAwareTask<Object> taskWithFailingDeps =
+        WorkStealingDepsAwareTask.of(
+            () -> null,
+            () -> {
+              throw error;
+            });
+
+    for (Future<Object> future : executor.submitAll(ImmutableList.of(task, taskWithFailingDeps))) {
+      try {
+        future.get(1, TimeUnit.SECONDS);
+        fail("Expected the task to fail.");
+      } catch (ExecutionException e) {
+        assertSame(error, e.getCause());
+      }
+    }
+  }
+
+  @Test
+  public void submitRejectsAfterShutdown() {
+    expectedException.expect(RejectedExecutionException.class);
+
+    executor.shutdownNow();
+    assertTrue(executor.isShutdown());
+    executor.submit(WorkStealingDepsAwareTask.of(() -> null));
+  }
+}
@@ -608,6 +608,73 @@ public class IncrementalActionGraphGeneratorTest {
     event = trackedEvents.take();
     assertTrue(event instanceof ActionGraphEvent.IncrementalLoad);
     assertEquals(1, ((ActionGraphEvent.IncrementalLoad) event).getReusedNodeCount());
+    assertEquals(1, ((ActionGraphEvent.IncrementalLoad) event).getPooledNodeCount());
+    assertEquals(1.0, ((ActionGraphEvent.IncrementalLoad) event).getReuseRatio(), 0);
+  }
+
+  @Test
+  public void rulesOfPreviousGraphsReusedWhenAlternatingGraphs() {
+    TargetNode<?> libNode = createTargetNode("lib");
+    TargetNode<?> appNode = createTargetNode("app", libNode);
+    TargetNode<?> testNode = createTargetNode("test", libNode);
+
+    setUpTargetGraphAndResolver(appNode, libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule appRule = graphBuilder.requireRule(appNode.getBuildTarget());
+
+    setUpTargetGraphAndResolver(testNode, libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule testRule = graphBuilder.requireRule(testNode.getBuildTarget());
+    assertFalse(graphBuilder.getRuleOptional(appNode.getBuildTarget()).isPresent());
+
+    setUpTargetGraphAndResolver(appNode, libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    assertSame(appRule, graphBuilder.requireRule(appNode.getBuildTarget()));
+    assertSame(graphBuilder, ((FakeBuildRule) appRule).getRuleResolver());
+
+    setUpTargetGraphAndResolver(testNode, libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    assertSame(testRule, graphBuilder.requireRule(testNode.getBuildTarget()));
+  }
+
+  @Test
+  public void pooledRulesInvalidatedByChangeInGraphNotContainingThem() {
+    TargetNode<?> libNode = createTargetNode("lib");
+    TargetNode<?> appNode = createTargetNode("app", libNode);
+    setUpTargetGraphAndResolver(appNode, libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule appRule = graphBuilder.requireRule(appNode.getBuildTarget());
+
+    TargetNode<?> newLibNode = createTargetNode("lib", "new_label");
+    TargetNode<?> testNode = createTargetNode("test", newLibNode);
+    setUpTargetGraphAndResolver(testNode, newLibNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    graphBuilder.requireRule(testNode.getBuildTarget());
+
+    TargetNode<?> newAppNode = createTargetNode("app", newLibNode);
+    setUpTargetGraphAndResolver(newAppNode, newLibNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    assertNotSame(appRule, graphBuilder.requireRule(newAppNode.getBuildTarget()));
+  }
+
+  @Test
+  public void leastRecentlyUsedRulesEvictedWhenPoolIsFull() {
+    generator = new IncrementalActionGraphGenerator(1);
+    TargetNode<?> node1 = createTargetNode("node1");
+    TargetNode<?> node2 = createTargetNode("node2");
+
+    setUpTargetGraphAndResolver(node1);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule rule1 = graphBuilder.requireRule(node1.getBuildTarget());
+
+    setUpTargetGraphAndResolver(node2);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule rule2 = graphBuilder.requireRule(node2.getBuildTarget());
+
+    setUpTargetGraphAndResolver(node1, node2);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    assertNotSame(rule1, graphBuilder.requireRule(node1.getBuildTarget()));
+    assertSame(rule2, graphBuilder.requireRule(node2.getBuildTarget()));
   }
 
   private FakeTargetNodeBuilder createTargetNodeBuilder(String name) {
@@ -45,6 +45,8 @@ import com.google.common.util.concurrent.MoreExecutors;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.Test;
 
 public class TargetGraphHashingTest {
@@ -241,6 +243,69 @@ public class TargetGraphHashingTest {
     assertThat(resultA.get(depTarget), not(equalTo(resultB.get(depTarget))));
   }
 
+  @Test
+  public void memoizedContentHashesAreReusedAndIncludeDependencies() throws InterruptedException {
+    FakeProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    BuckEventBus eventBus = new DefaultBuckEventBus(new IncrementingFakeClock(), new BuildId());
+
+    TargetNode<?> dep =
+        createJavaLibraryTargetNodeWithSrcs(
+            BuildTargetFactory.newInstance("//dep:lib"),
+            HashCode.fromLong(1),
+            ImmutableSet.of(Paths.get("dep/DepLib.java")));
+    TargetNode<?> node =
+        createJavaLibraryTargetNodeWithSrcs(
+            BuildTargetFactory.newInstance("//foo:lib"),
+            HashCode.fromLong(2),
+            ImmutableSet.of(Paths.get("foo/FooLib.java")),
+            dep);
+    TargetGraph targetGraph = TargetGraphFactory.newInstance(node, dep);
+    MapNodeContentHashCache contentHashCache = new MapNodeContentHashCache();
+
+    Map<BuildTarget, HashCode> result =
+        new TargetGraphHashing(
+                eventBus,
+                targetGraph,
+                new FakeFileHashCache(
+                    ImmutableMap.of(
+                        projectFilesystem.resolve("foo/FooLib.java"),
+                        HashCode.fromString("abcdef"),
+                        projectFilesystem.resolve("dep/DepLib.java"),
+                        HashCode.fromString("123456"))),
+                ImmutableList.of(node),
+                MoreExecutors.newDirectExecutorService(),
+                contentHashCache)
+            .hashTargetGraph();
+    assertThat(contentHashCache.hashes, aMapWithSize(2));
+
+    // Changed files are not hashed again as long as the memoized content hashes are kept.
+    Map<BuildTarget, HashCode> memoizedResult =
+        new TargetGraphHashing(
+                eventBus,
+                targetGraph,
+                new FakeFileHashCache(ImmutableMap.of()),
+                ImmutableList.of(node),
+                MoreExecutors.newDirectExecutorService(),
+                contentHashCache)
+            .hashTargetGraph();
+    assertThat(memoizedResult, equalTo(result));
+
+    // A changed content hash of a dependency changes the hash of its dependents.
+    contentHashCache.hashes.put(dep.getBuildTarget(), HashCode.fromString("654321"));
+    Map<BuildTarget, HashCode> changedResult =
+        new TargetGraphHashing(
+                eventBus,
+                targetGraph,
+                new FakeFileHashCache(ImmutableMap.of()),
+                ImmutableList.of(node),
+                MoreExecutors.newDirectExecutorService(),
+                contentHashCache)
+            .hashTargetGraph();
+    assertThat(
+        changedResult.get(node.getBuildTarget()),
+        not(equalTo(result.get(node.getBuildTarget()))));
+  }
+
   @Test(expected = Throwable.class)
   public void hashingSourceThrowsError() throws Exception {
     BuckEventBus eventBus = new DefaultBuckEventBus(new IncrementingFakeClock(), new BuildId());
@@ -274,4 +339,19 @@ public class TargetGraphHashingTest {
     }
     return targetNodeBuilder.build();
   }
+
+  private static class MapNodeContentHashCache
+      implements TargetGraphHashing.NodeContentHashCache {
+    private final Map<BuildTarget, HashCode> hashes = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<HashCode> get(TargetNode<?> node) {
+      return Optional.ofNullable(hashes.get(node.getBuildTarget()));
+    }
+
+    @Override
+    public void put(TargetNode<?> node, HashCode contentHash) {
+      hashes.put(node.getBuildTarget(), contentHash);
+    }
+  }
 }
@@ -86,7 +86,8 @@ public class CoordinatorAndMinionModeRunnerIntegrationTest {
             EasyMock.createNiceMock(MinionHealthTracker.class),
             EasyMock.createNiceMock(MinionCountProvider.class),
             Optional.of(DistBuildUtil.generateMinionId(BUILD_SLAVE_RUN_ID)),
-            true /* releasingMinionsEarlyEnabled */);
+            true /* releasingMinionsEarlyEnabled */,
+            false /* cacheOptimizedWorkAllocationEnabled */);
     FakeBuildExecutorImpl localBuilder = new FakeBuildExecutorImpl();
     MinionModeRunner minion =
         new MinionModeRunner(
@@ -18,7 +18,9 @@ package com.facebook.buck.distributed.build_slave;
 
 import com.facebook.buck.distributed.thrift.HealthCheckStats;
 import com.facebook.buck.util.timing.Clock;
+import com.google.common.collect.ImmutableList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.junit.Assert;
 import org.junit.Before;
@@ -113,6 +115,22 @@ public class MinionHealthTrackerTest {
     Assert.assertTrue(deadMinions.contains(MINION_TWO));
   }
 
+  @Test
+  public void testLateButAliveMinionsAreReportedAsSlow() {
+    tracker.reportMinionAlive(MINION_ONE, MINION_ONE);
+    tracker.reportMinionAlive(MINION_TWO, MINION_TWO);
+    // Minion two's last heartbeat will be later than the warning threshold, but not dead yet.
+    clock.setCurrentMillis(MAX_SILENCE_MILLIS - SLOW_HEARTBEAT_WARNING_THRESHOlD_MILLIS);
+    tracker.reportMinionAlive(MINION_TWO, MINION_TWO);
+    clock.setCurrentMillis(MAX_SILENCE_MILLIS + 1);
+    tracker.reportMinionAlive(MINION_THREE, MINION_THREE);
+
+    MinionHealthTracker.MinionHealthStatus status = tracker.checkMinionHealth();
+    Assert.assertEquals(1, status.getDeadMinions().size());
+    Assert.assertEquals(MINION_ONE, status.getDeadMinions().get(0).getMinionId());
+    Assert.assertEquals(Optional.of(ImmutableList.of(MINION_TWO)), status.getSlowMinions());
+  }
+
   @Test
   public void testDeadMinionsCheckWithNoDeadMinions() {
     tracker.reportMinionAlive(MINION_ONE, MINION_ONE);
@@ -129,7 +147,9 @@ public class MinionHealthTrackerTest {
     tracker.reportMinionAlive(MINION_ONE, MINION_ONE);
 
     clock.setCurrentMillis(clock.currentTimeMillis() + MAX_SILENCE_MILLIS);
-    Assert.assertEquals(0, tracker.checkMinionHealth().getDeadMinions().size());
+    MinionHealthTracker.MinionHealthStatus status = tracker.checkMinionHealth();
+    Assert.assertEquals(0, status.getDeadMinions().size());
+    Assert.assertFalse(status.getSlowMinions().isPresent());
   }
 
   @Test
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.distributed.build_slave;
+
+import static com.facebook.buck.distributed.thrift.MinionType.STANDARD_SPEC;
+
+import com.facebook.buck.distributed.build_slave.DistributableBuildGraph.DistributableNode;
+import com.facebook.buck.distributed.thrift.StampedeId;
+import com.facebook.buck.distributed.thrift.WorkUnit;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares allocation policies of the {@link MinionWorkloadAllocator} by replaying build graphs
+ * with known rule durations and output sizes against it.
+ */
+public class MinionWorkloadAllocationSimulatorTest {
+  private static final StampedeId STAMPEDE_ID = new StampedeId().setId("SIMULATION");
+
+  @Test
+  public void cacheOptimizedAllocationFetchesLessFromOtherMinions() {
+    ImmutableMap<String, ImmutableSet<String>> graph = createLayeredGraph(new Random(42));
+    BuildTargetCostEstimator costs = createCosts(graph.keySet(), new Random(7));
+
+    Simulation.Result baseline = new Simulation(graph, costs, 4, 2, Optional.empty()).run();
+    Simulation.Result optimized = new Simulation(graph, costs, 4, 2, Optional.of(costs)).run();
+
+    Assert.assertEquals(graph.size(), baseline.builtTargets);
+    Assert.assertEquals(graph.size(), optimized.builtTargets);
+    Assert.assertTrue(
+        String.format("baseline: %s, optimized: %s", baseline, optimized),
+        optimized.fetchedBytes < baseline.fetchedBytes);
+  }
+
+  @Test
+  public void singleMinionNeverFetchesAnything() {
+    ImmutableMap<String, ImmutableSet<String>> graph = createLayeredGraph(new Random(1));
+    BuildTargetCostEstimator costs = BuildTargetCostEstimator.uniform();
+
+    Simulation.Result result = new Simulation(graph, costs, 1, 4, Optional.of(costs)).run();
+
+    Assert.assertEquals(graph.size(), result.builtTargets);
+    Assert.assertEquals(0, result.fetchedBytes);
+  }
+
+  /**
+   * Creates a graph of layers in which each target depends on a few nearby targets of the layer
+   * below, similar to how libraries mostly depend on libraries of the same project.
+   */
+  private static ImmutableMap<String, ImmutableSet<String>> createLayeredGraph(Random random) {
+    ImmutableMap.Builder<String, ImmutableSet<String>> graph = ImmutableMap.builder();
+    List<String> previousLayer = new ArrayList<>();
+    for (int layer = 0; layer < 6; layer++) {
+      List<String> currentLayer = new ArrayList<>();
+      for (int i = 0; i < 12; i++) {
+        String target = String.format("//layer%d:target%d", layer, i);
+        ImmutableSet.Builder<String> dependencies = ImmutableSet.builder();
+        for (int dep = 0; dep < 3 && !previousLayer.isEmpty(); dep++) {
+          int index = i + random.nextInt(5) - 2;
+          dependencies.add(previousLayer.get(Math.floorMod(index, previousLayer.size())));
+        }
+        graph.put(target, dependencies.build());
+        currentLayer.add(target);
+      }
+      previousLayer = currentLayer;
+    }
+    return graph.build();
+  }
+
+  private static BuildTargetCostEstimator createCosts(Set<String> targets, Random random) {
+    Map<String, Long> durations = new HashMap<>();
+    Map<String, Long> sizes = new HashMap<>();
+    for (String target : targets) {
+      durations.put(target, 10L + random.nextInt(100));
+      sizes.put(target, 1000L + random.nextInt(100000));
+    }
+    return BuildTargetCostEstimator.of(durations, sizes);
+  }
+
+  /**
+   * Discrete event simulation of minions that build the work units they get from the allocator,
+   * fetching the outputs of dependencies built on other minions. Build times are taken from
+   * {@code actualCosts}, which can be created from a recorded {@link DistBuildTrace} with {@link
+   * BuildTargetCostEstimator#fromTrace}.
+   */
+  private static class Simulation {
+    private final ImmutableMap<String, ImmutableSet<String>> dependenciesByTarget;
+    private final BuildTargetCostEstimator actualCosts;
+    private final int slotsPerMinion;
+    private final MinionWorkloadAllocator allocator;
+    private final List<String> minions = new ArrayList<>();
+    private final Map<String, Integer> freeSlots = new HashMap<>();
+    private final Map<String, Set<String>> outputsOnMinion = new HashMap<>();
+    private final PriorityQueue<Event> events =
+        new PriorityQueue<>(
+            Comparator.<Event>comparingLong(event -> event.timeMillis)
+                .thenComparingLong(event -> event.sequenceNumber));
+    private long sequenceNumber = 0;
+    private long fetchedBytes = 0;
+    private int builtTargets = 0;
+
+    Simulation(
+        ImmutableMap<String, ImmutableSet<String>> dependenciesByTarget,
+        BuildTargetCostEstimator actualCosts,
+        int minionCount,
+        int slotsPerMinion,
+        Optional<BuildTargetCostEstimator> policyCosts) {
+      this.dependenciesByTarget = dependenciesByTarget;
+      this.actualCosts = actualCosts;
+      this.slotsPerMinion = slotsPerMinion;
+      this.allocator =
+          new MinionWorkloadAllocator(
+              new ReverseDepBuildTargetsQueue(createBuildGraph(dependenciesByTarget), 100),
+              new DistBuildTraceTracker(STAMPEDE_ID),
+              Optional.empty(),
+              false,
+              policyCosts);
+      for (int i = 0; i < minionCount; i++) {
+        String minion = "minion" + i;
+        minions.add(minion);
+        freeSlots.put(minion, slotsPerMinion);
+        outputsOnMinion.put(minion, new HashSet<>());
+      }
+    }
+
+    Result run() {
+      long nowMillis = 0;
+      pollIdleMinions(nowMillis);
+      while (!events.isEmpty()) {
+        Event event = events.remove();
+        nowMillis = event.timeMillis;
+        builtTargets++;
+        if (event.lastInWorkUnit) {
+          freeSlots.merge(event.minion, 1, Integer::sum);
+        }
+        assign(
+            event.minion,
+            nowMillis,
+            allocator.updateMinionWorkloadAllocation(
+                    event.minion,
+                    STANDARD_SPEC,
+                    ImmutableList.of(event.target),
+                    freeSlots.get(event.minion))
+                .newWorkUnitsForMinion);
+        pollIdleMinions(nowMillis);
+      }
+      Assert.assertTrue(allocator.isBuildFinished());
+      return new Result(nowMillis, fetchedBytes, builtTargets);
+    }
+
+    private void pollIdleMinions(long nowMillis) {
+      for (String minion : minions) {
+        if (freeSlots.get(minion) > 0) {
+          assign(
+              minion,
+              nowMillis,
+              allocator.updateMinionWorkloadAllocation(
+                      minion, STANDARD_SPEC, ImmutableList.of(), freeSlots.get(minion))
+                  .newWorkUnitsForMinion);
+        }
+      }
+    }
+
+    private void assign(String minion, long nowMillis, List<WorkUnit> workUnits) {
+      Set<String> localOutputs = outputsOnMinion.get(minion);
+      for (WorkUnit workUnit : workUnits) {
+        freeSlots.merge(minion, -1, Integer::sum);
+        long timeMillis = nowMillis;
+        List<String> targets = workUnit.getBuildTargets();
+        for (int i = 0; i < targets.size(); i++) {
+          String target = targets.get(i);
+          for (String dependency : dependenciesByTarget.get(target)) {
+            if (localOutputs.add(dependency)) {
+              fetchedBytes += actualCosts.getPredictedOutputSizeBytes(dependency);
+            }
+          }
+          localOutputs.add(target);
+          timeMillis += actualCosts.getPredictedDurationMillis(target);
+          events.add(
+              new Event(timeMillis, sequenceNumber++, minion, target, i == targets.size() - 1));
+        }
+      }
+      Assert.assertTrue(freeSlots.get(minion) >= 0 && freeSlots.get(minion) <= slotsPerMinion);
+    }
+
+    private static DistributableBuildGraph createBuildGraph(
+        ImmutableMap<String, ImmutableSet<String>> dependenciesByTarget) {
+      Map<String, ImmutableSet.Builder<String>> dependents = new HashMap<>();
+      dependenciesByTarget.forEach(
+          (target, dependencies) -> {
+            for (String dependency : dependencies) {
+              dependents.computeIfAbsent(dependency, key -> ImmutableSet.builder()).add(target);
+            }
+          });
+
+      ImmutableMap.Builder<String, DistributableNode> allNodes = ImmutableMap.builder();
+      ImmutableSet.Builder<DistributableNode> leafNodes = ImmutableSet.builder();
+      dependenciesByTarget.forEach(
+          (target, dependencies) -> {
+            DistributableNode node =
+                new DistributableNode(
+                    target,
+                    dependents.getOrDefault(target, ImmutableSet.builder()).build(),
+                    dependencies,
+                    false);
+            allNodes.put(target, node);
+            if (dependencies.isEmpty()) {
+              leafNodes.add(node);
+            }
+          });
+      return new DistributableBuildGraph(allNodes.build(), leafNodes.build());
+    }
+
+    private static class Event {
+      final long timeMillis;
+      final long sequenceNumber;
+      final String minion;
+      final String target;
+      final boolean lastInWorkUnit;
+
+      Event(
+          long timeMillis,
+          long sequenceNumber,
+          String minion,
+          String target,
+          boolean lastInWorkUnit) {
+        this.timeMillis = timeMillis;
+        this.sequenceNumber = sequenceNumber;
+        this.minion = minion;
+        this.target = target;
+        this.lastInWorkUnit = lastInWorkUnit;
+      }
+    }
+
+    /** Outcome of a simulated build. */
+    static class Result {
+      final long buildTimeMillis;
+      final long fetchedBytes;
+      final int builtTargets;
+
+      Result(long buildTimeMillis, long fetchedBytes, int builtTargets) {
+        this.buildTimeMillis = buildTimeMillis;
+        this.fetchedBytes = fetchedBytes;
+        this.builtTargets = builtTargets;
+      }
+
+      @Override
+      public String toString() {
+        return String.format(
+            "build time [%d] ms, fetched [%d] bytes, built [%d] targets",
+            buildTimeMillis, fetchedBytes, builtTargets);
+      }
+    }
+  }
+}
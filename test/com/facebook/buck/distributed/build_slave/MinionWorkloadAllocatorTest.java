@@ -27,6 +27,7 @@ import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.BuildTargetFactory;
 import com.facebook.buck.core.rules.BuildRuleResolver;
 import com.facebook.buck.distributed.NoopArtifactCacheByBuildRule;
+import com.facebook.buck.distributed.build_slave.DistributableBuildGraph.DistributableNode;
 import com.facebook.buck.distributed.build_slave.MinionWorkloadAllocator.WorkloadAllocationResult;
 import com.facebook.buck.distributed.testutil.CustomActionGraphBuilderFactory;
 import com.facebook.buck.distributed.thrift.MinionType;
@@ -34,10 +35,13 @@ import com.facebook.buck.distributed.thrift.StampedeId;
 import com.facebook.buck.distributed.thrift.WorkUnit;
 import com.facebook.buck.event.listener.NoOpCoordinatorBuildRuleEventsPublisher;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.easymock.EasyMock;
@@ -383,6 +387,129 @@ public class MinionWorkloadAllocatorTest {
     verify(queue);
   }
 
+  @Test
+  public void testCacheOptimizedAllocationKeepsDependentsOnSameMinion() {
+    // //:a_top depends on //:e and //:f, //:b_top depends on //:c and //:d.
+    MinionWorkloadAllocator allocator =
+        createCacheOptimizedAllocator(
+            ImmutableMap.<String, ImmutableSet<String>>builder()
+                .put("//:a_top", ImmutableSet.of("//:e", "//:f"))
+                .put("//:b_top", ImmutableSet.of("//:c", "//:d"))
+                .put("//:c", ImmutableSet.of())
+                .put("//:d", ImmutableSet.of())
+                .put("//:e", ImmutableSet.of())
+                .put("//:f", ImmutableSet.of())
+                .build(),
+            BuildTargetCostEstimator.uniform());
+
+    Assert.assertEquals(
+        ImmutableList.of("//:c", "//:d"), allocate(allocator, MINION_ONE, ImmutableList.of(), 2));
+    Assert.assertEquals(
+        ImmutableList.of("//:e", "//:f"), allocate(allocator, MINION_TWO, ImmutableList.of(), 2));
+
+    // Minion two has no capacity left when //:a_top becomes ready, so minion one is asked first.
+    Assert.assertEquals(
+        ImmutableList.of(), allocate(allocator, MINION_TWO, ImmutableList.of("//:e", "//:f"), 0));
+    Assert.assertEquals(
+        ImmutableList.of("//:b_top"),
+        allocate(allocator, MINION_ONE, ImmutableList.of("//:c", "//:d"), 1));
+    Assert.assertEquals(
+        ImmutableList.of("//:a_top"), allocate(allocator, MINION_TWO, ImmutableList.of(), 1));
+  }
+
+  @Test
+  public void testCacheOptimizedAllocationStartsLongestChainsFirst() {
+    ImmutableMap<String, ImmutableSet<String>> graph =
+        ImmutableMap.<String, ImmutableSet<String>>of(
+            "//:a", ImmutableSet.of(),
+            "//:b", ImmutableSet.of(),
+            "//:top", ImmutableSet.of("//:b", "//:x"),
+            "//:x", ImmutableSet.of());
+
+    // //:b and //:x are followed by //:top, so they are on the longest chains.
+    Assert.assertEquals(
+        ImmutableList.of("//:b"),
+        allocate(
+            createCacheOptimizedAllocator(graph, BuildTargetCostEstimator.uniform()),
+            MINION_ONE,
+            ImmutableList.of(),
+            1));
+
+    // Unless //:a is known to take much longer.
+    Assert.assertEquals(
+        ImmutableList.of("//:a"),
+        allocate(
+            createCacheOptimizedAllocator(
+                graph,
+                BuildTargetCostEstimator.of(
+                    ImmutableMap.of("//:a", 100L, "//:b", 10L, "//:top", 10L, "//:x", 10L),
+                    ImmutableMap.of())),
+            MINION_ONE,
+            ImmutableList.of(),
+            1));
+  }
+
+  @Test
+  public void testCacheOptimizedAllocationHoldsBackWorkFromSlowMinions() {
+    MinionWorkloadAllocator allocator =
+        createCacheOptimizedAllocator(
+            ImmutableMap.<String, ImmutableSet<String>>of(
+                "//:a", ImmutableSet.of(),
+                "//:b", ImmutableSet.of(),
+                "//:c", ImmutableSet.of(),
+                "//:d", ImmutableSet.of()),
+            BuildTargetCostEstimator.uniform());
+    allocator.updateSlowMinions(ImmutableList.of(MINION_ONE));
+
+    Assert.assertEquals(1, allocate(allocator, MINION_ONE, ImmutableList.of(), 10).size());
+    Assert.assertEquals(0, allocate(allocator, MINION_ONE, ImmutableList.of(), 10).size());
+    Assert.assertEquals(3, allocate(allocator, MINION_TWO, ImmutableList.of(), 10).size());
+  }
+
+  private MinionWorkloadAllocator createCacheOptimizedAllocator(
+      ImmutableMap<String, ImmutableSet<String>> dependenciesByTarget,
+      BuildTargetCostEstimator costEstimator) {
+    ImmutableMap.Builder<String, DistributableNode> allNodes = ImmutableMap.builder();
+    ImmutableSet.Builder<DistributableNode> leafNodes = ImmutableSet.builder();
+    dependenciesByTarget.forEach(
+        (target, dependencies) -> {
+          DistributableNode node =
+              new DistributableNode(
+                  target,
+                  dependenciesByTarget
+                      .entrySet()
+                      .stream()
+                      .filter(entry -> entry.getValue().contains(target))
+                      .map(Map.Entry::getKey)
+                      .collect(ImmutableSet.toImmutableSet()),
+                  dependencies,
+                  false);
+          allNodes.put(target, node);
+          if (dependencies.isEmpty()) {
+            leafNodes.add(node);
+          }
+        });
+    return new MinionWorkloadAllocator(
+        new ReverseDepBuildTargetsQueue(
+            new DistributableBuildGraph(allNodes.build(), leafNodes.build()),
+            MOST_BUILD_RULES_FINISHED_PERCENTAGE),
+        tracker,
+        Optional.empty(),
+        false,
+        Optional.of(costEstimator));
+  }
+
+  private static List<String> allocate(
+      MinionWorkloadAllocator allocator,
+      String minionId,
+      ImmutableList<String> finishedNodes,
+      int maxWorkUnitsToFetch) {
+    return getAllTargets(
+        allocator.updateMinionWorkloadAllocation(
+                minionId, STANDARD_SPEC, finishedNodes, maxWorkUnitsToFetch)
+            .newWorkUnitsForMinion);
+  }
+
   private static void allocateWorkAndCheckRelease(
       MinionWorkloadAllocator allocator,
       String minionId,
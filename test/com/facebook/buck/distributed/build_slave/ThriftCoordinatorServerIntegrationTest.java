@@ -185,7 +185,8 @@ public class ThriftCoordinatorServerIntegrationTest {
         EasyMock.createNiceMock(DistBuildService.class),
         EasyMock.createNiceMock(MinionCountProvider.class),
         Optional.of(MINION_ID),
-        true /* releasingMinionsEarlyEnabled */);
+        true /* releasingMinionsEarlyEnabled */,
+        false /* cacheOptimizedWorkAllocationEnabled */);
   }
 
   @Test
@@ -230,7 +231,8 @@ public class ThriftCoordinatorServerIntegrationTest {
                 EasyMock.createNiceMock(DistBuildService.class),
                 EasyMock.createNiceMock(MinionCountProvider.class),
                 Optional.of(MINION_ID),
-                true /* releasingMinionsEarlyEnabled */);
+                true /* releasingMinionsEarlyEnabled */,
+                false /* cacheOptimizedWorkAllocationEnabled */);
         ThriftCoordinatorClient client =
             new ThriftCoordinatorClient("localhost", STAMPEDE_ID, CONNECTION_TIMEOUT_MILLIS)) {
       server.start();
@@ -278,7 +280,8 @@ public class ThriftCoordinatorServerIntegrationTest {
                 distBuildService,
                 EasyMock.createNiceMock(MinionCountProvider.class),
                 Optional.empty(),
-                true /* releasingMinionsEarlyEnabled */);
+                true /* releasingMinionsEarlyEnabled */,
+                false /* cacheOptimizedWorkAllocationEnabled */);
         ThriftCoordinatorClient client =
             new ThriftCoordinatorClient("localhost", STAMPEDE_ID, CONNECTION_TIMEOUT_MILLIS)) {
       server.start();
@@ -320,7 +323,8 @@ public class ThriftCoordinatorServerIntegrationTest {
                 distBuildService,
                 EasyMock.createNiceMock(MinionCountProvider.class),
                 Optional.empty(),
-                true /* releasingMinionsEarlyEnabled */);
+                true /* releasingMinionsEarlyEnabled */,
+                false /* cacheOptimizedWorkAllocationEnabled */);
         ThriftCoordinatorClient client =
             new ThriftCoordinatorClient("localhost", STAMPEDE_ID, CONNECTION_TIMEOUT_MILLIS)) {
       server.start();
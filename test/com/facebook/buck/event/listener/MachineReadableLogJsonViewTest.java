@@ -190,6 +190,8 @@ public class MachineReadableLogJsonViewTest {
             + "\"totalRulekeyTimeMs\":42,"
             + "\"fetchTimeMs\":0,"
             + "\"buildTimeMs\":23,"
+            + "\"timeToFirstActionMs\":0,"
+            + "\"newDaemonInstance\":false,"
             + "\"installTimeMs\":42}}",
         message);
   }
@@ -32,6 +32,7 @@ import com.facebook.buck.event.ActionGraphEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.event.BuckInitializationDurationEvent;
+import com.facebook.buck.event.DaemonEvent;
 import com.facebook.buck.event.InstallEvent;
 import com.facebook.buck.event.listener.PerfTimesEventListener.PerfTimesEvent;
 import com.facebook.buck.log.PerfTimesStats;
@@ -109,6 +110,7 @@ public class PertTimesEventListenerTest {
     fakeClock.setCurrentTimeMillis(500);
     BuckInitializationDurationEvent buckInit = new BuckInitializationDurationEvent(500);
     eventBus.post(buckInit);
+    eventBus.post(DaemonEvent.newDaemonInstance());
 
     fakeClock.setCurrentTimeMillis(1000);
     ParseEvent.Started parseStarted = ParseEvent.started(ImmutableList.of(buildTarget));
@@ -148,6 +150,9 @@ public class PertTimesEventListenerTest {
         BuildRuleEvent.ruleKeyCalculationFinished(ruleKeyCalcStarted2, ruleKeyFactory2);
     eventBus.post(ruleKeyCalcFinished2);
 
+    fakeClock.setCurrentTimeMillis(3500);
+    eventBus.post(BuildRuleEvent.started(buildRule, durationTracker));
+
     fakeClock.setCurrentTimeMillis(4000);
     HttpArtifactCacheEvent.Started fetchStarted =
         HttpArtifactCacheEvent.newFetchStartedEvent(buildRule.getBuildTarget(), ruleKey);
@@ -181,5 +186,7 @@ public class PertTimesEventListenerTest {
     assertEquals(new Long(500L), perfTimesStats.getFetchTimeMs());
     assertEquals(new Long(3500L), perfTimesStats.getBuildTimeMs());
     assertEquals(new Long(1000L), perfTimesStats.getInstallTimeMs());
+    assertEquals(new Long(3000L), perfTimesStats.getTimeToFirstActionMs());
+    assertEquals(true, perfTimesStats.getNewDaemonInstance());
   }
 }
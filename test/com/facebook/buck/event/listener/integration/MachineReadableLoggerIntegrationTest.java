@@ -17,6 +17,7 @@
 package com.facebook.buck.event.listener.integration;
 
 import static com.facebook.buck.log.MachineReadableLogConfig.PREFIX_CACHE_STATS;
+import static com.facebook.buck.log.MachineReadableLogConfig.PREFIX_PERFTIMES;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -62,5 +63,8 @@ public class MachineReadableLoggerIntegrationTest {
     assertTrue("log contains ExitCode.", data.contains("ExitCode"));
     assertTrue("log contains " + PREFIX_CACHE_STATS, data.contains(PREFIX_CACHE_STATS));
     assertTrue("log contains successTypeName.", data.contains("successTypeName"));
+    assertTrue("log contains " + PREFIX_PERFTIMES, data.contains(PREFIX_PERFTIMES));
+    assertTrue("log contains timeToFirstActionMs.", data.contains("timeToFirstActionMs"));
+    assertTrue("log contains newDaemonInstance.", data.contains("newDaemonInstance"));
   }
 }
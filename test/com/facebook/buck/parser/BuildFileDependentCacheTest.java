@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BuildFileDependentCacheTest {
+
+  private static final Path ROOT = Paths.get("/repo").toAbsolutePath();
+
+  private BuildFileDependentCache<String, String> cache;
+
+  @Before
+  public void setUp() {
+    cache = new BuildFileDependentCache<>(1000);
+  }
+
+  @Test
+  public void valueIsReusedUntilBuildFileIsInvalidated() {
+    Path buildFile = ROOT.resolve("foo/BUCK");
+    cache.put("key", "value", ImmutableSet.of(buildFile), cache.getGeneration());
+    assertEquals(Optional.of("value"), cache.get("key"));
+
+    cache.invalidatePath(ROOT.resolve("bar/BUCK"));
+    assertEquals(Optional.of("value"), cache.get("key"));
+
+    cache.invalidatePath(buildFile);
+    assertEquals(Optional.empty(), cache.get("key"));
+  }
+
+  @Test
+  public void directoryDependencyIsInvalidatedByBuildFilesBelowIt() {
+    cache.put("key", "value", ImmutableSet.of(ROOT.resolve("foo")), cache.getGeneration());
+
+    cache.invalidatePath(ROOT.resolve("foo/bar/baz/BUCK"));
+    assertEquals(Optional.empty(), cache.get("key"));
+  }
+
+  @Test
+  public void valueComputedBeforeInvalidationIsNotStored() {
+    Path buildFile = ROOT.resolve("foo/BUCK");
+    long generation = cache.getGeneration();
+    cache.invalidatePath(buildFile);
+
+    cache.put("key", "stale", ImmutableSet.of(buildFile), generation);
+    assertFalse(cache.get("key").isPresent());
+
+    cache.put("key", "fresh", ImmutableSet.of(buildFile), cache.getGeneration());
+    assertEquals(Optional.of("fresh"), cache.get("key"));
+  }
+
+  @Test
+  public void invalidateAllDropsEverythingAndRejectsOlderValues() {
+    long generation = cache.getGeneration();
+    cache.put("key", "value", ImmutableSet.of(ROOT.resolve("foo/BUCK")), generation);
+
+    cache.invalidateAll();
+    assertFalse(cache.get("key").isPresent());
+
+    cache.put("other", "value", ImmutableSet.of(ROOT.resolve("bar/BUCK")), generation);
+    assertFalse(cache.get("other").isPresent());
+  }
+
+  @Test
+  public void recordedInvalidationsAreBounded() {
+    cache = new BuildFileDependentCache<>(1000, 10);
+    Path buildFile = ROOT.resolve("foo/BUCK");
+    long generation = cache.getGeneration();
+    cache.put("key", "value", ImmutableSet.of(buildFile), generation);
+
+    for (int i = 0; i < 100; i++) {
+      cache.invalidatePath(ROOT.resolve("dir" + i + "/BUCK"));
+    }
+    assertTrue(cache.getRecordedInvalidationCount() <= 10);
+    assertEquals(Optional.of("value"), cache.get("key"));
+
+    // The invalidations that are no longer recorded might have affected older values.
+    cache.put("other", "value", ImmutableSet.of(buildFile), generation);
+    assertFalse(cache.get("other").isPresent());
+
+    cache.put("other", "value", ImmutableSet.of(buildFile), cache.getGeneration());
+    assertEquals(Optional.of("value"), cache.get("other"));
+  }
+}
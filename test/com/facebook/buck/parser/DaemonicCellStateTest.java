@@ -25,18 +25,21 @@ import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.config.FakeBuckConfig;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.facebook.buck.parser.DaemonicCellState.Cache;
 import com.facebook.buck.parser.api.BuildFileManifestFactory;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import org.easymock.EasyMock;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -128,4 +131,107 @@ public class DaemonicCellStateTest {
         Optional.empty(),
         cache.lookupComputedNode(target));
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testInputOwnersAreIndexedUntilInvalidation() throws BuildTargetException {
+    Cache<TargetNode<?>> cache =
+        state.getOrCreateCache((Class<TargetNode<?>>) (Class<?>) TargetNode.class);
+    BuildTarget owner = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//foo:owner");
+    BuildTarget other = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//foo:other");
+    ImmutableSet<BuildTarget> candidates = ImmutableSet.of(owner, other);
+    Path input = filesystem.getPath("foo/res/values/strings.xml");
+
+    state.putRawNodesIfNotPresentAndStripMetaEntries(
+        filesystem.resolve("foo/BUCK"),
+        BuildFileManifestFactory.create(
+            ImmutableMap.of(
+                "owner",
+                ImmutableMap.of("name", "owner", "buck.base_path", "foo"),
+                "other",
+                ImmutableMap.of("name", "other", "buck.base_path", "foo"))),
+        ImmutableSet.of(),
+        ImmutableMap.of());
+    cache.putComputedNodeIfNotPresent(owner, createTargetNode(filesystem.getPath("foo/res")));
+    assertEquals(
+        "Nodes of all candidates have to be cached",
+        Optional.empty(),
+        state.lookupInputOwners(input, candidates));
+
+    cache.putComputedNodeIfNotPresent(other, createTargetNode(filesystem.getPath("foo/A.java")));
+    assertEquals(Optional.of(ImmutableSet.of(owner)), state.lookupInputOwners(input, candidates));
+    assertEquals(
+        Optional.of(ImmutableSet.of()),
+        state.lookupInputOwners(filesystem.getPath("foo/B.java"), candidates));
+
+    state.invalidatePath(filesystem.resolve("foo/BUCK"));
+    assertEquals(Optional.empty(), state.lookupInputOwners(input, candidates));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testCachedTargetNodesAreLookedUpWithoutParsing() throws BuildTargetException {
+    Cache<TargetNode<?>> cache =
+        state.getOrCreateCache((Class<TargetNode<?>>) (Class<?>) TargetNode.class);
+    BuildTarget first = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//foo:first");
+    BuildTarget second = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//foo:second");
+    Path buildFile = filesystem.resolve("foo/BUCK");
+
+    assertEquals(Optional.empty(), state.lookupTargetNodes(rootCell, buildFile));
+    state.putRawNodesIfNotPresentAndStripMetaEntries(
+        buildFile,
+        BuildFileManifestFactory.create(
+            ImmutableMap.of(
+                "first",
+                ImmutableMap.of("name", "first", "buck.base_path", "foo"),
+                "second",
+                ImmutableMap.of("name", "second", "buck.base_path", "foo"))),
+        ImmutableSet.of(),
+        ImmutableMap.of());
+    TargetNode<?> firstNode = createTargetNode(filesystem.getPath("foo/A.java"));
+    cache.putComputedNodeIfNotPresent(first, firstNode);
+    assertEquals(
+        "Nodes of all targets have to be cached",
+        Optional.empty(),
+        state.lookupTargetNodes(rootCell, buildFile));
+
+    TargetNode<?> secondNode = createTargetNode(filesystem.getPath("foo/B.java"));
+    cache.putComputedNodeIfNotPresent(second, secondNode);
+    assertEquals(
+        Optional.of(ImmutableList.of(firstNode, secondNode)),
+        state.lookupTargetNodes(rootCell, buildFile));
+
+    state.invalidatePath(buildFile);
+    assertEquals(Optional.empty(), state.lookupTargetNodes(rootCell, buildFile));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testReverseDepsAreIndexedUntilInvalidation() throws BuildTargetException {
+    Cache<TargetNode<?>> cache =
+        state.getOrCreateCache((Class<TargetNode<?>>) (Class<?>) TargetNode.class);
+    BuildTarget dep = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//bar:dep");
+    BuildTarget user = BuildTargetFactory.newInstance(filesystem.getRootPath(), "//foo:user");
+
+    populateDummyRawNode(state, user);
+    cache.putComputedNodeIfNotPresent(
+        user, createTargetNode(filesystem.getPath("foo/A.java"), ImmutableSet.of(dep)));
+    assertEquals(ImmutableSet.of(user), state.lookupReverseDeps(dep));
+    assertEquals(ImmutableSet.of(), state.lookupReverseDeps(user));
+
+    state.invalidatePath(filesystem.resolve("foo/BUCK"));
+    assertEquals(ImmutableSet.of(), state.lookupReverseDeps(dep));
+  }
+
+  private static TargetNode<?> createTargetNode(Path input) {
+    return createTargetNode(input, ImmutableSet.of());
+  }
+
+  private static TargetNode<?> createTargetNode(Path input, ImmutableSet<BuildTarget> parseDeps) {
+    TargetNode<?> node = EasyMock.createNiceMock(TargetNode.class);
+    EasyMock.expect(node.getInputs()).andStubReturn(ImmutableSet.of(input));
+    EasyMock.expect(node.getParseDeps()).andStubReturn(parseDeps);
+    EasyMock.replay(node);
+    return node;
+  }
 }
@@ -21,6 +21,7 @@ import static org.junit.Assert.fail;
 
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.cell.TestCellBuilder;
+import com.facebook.buck.core.config.FakeBuckConfig;
 import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.io.watchman.WatchmanFactory;
 import com.facebook.buck.parser.api.BuildFileManifest;
@@ -127,6 +128,54 @@ public class ProjectBuildFileParserPoolTest {
         /* expectedCreateCount */ 1);
   }
 
+  @Test
+  public void warmsUpRemainingParsersWhenEnabled() throws Exception {
+    int parsersCount = 3;
+    Cell cell =
+        new TestCellBuilder()
+            .setBuckConfig(
+                FakeBuckConfig.builder().setSections("[parser]", "warm_up_parsers = true").build())
+            .build();
+    AtomicInteger createCount = new AtomicInteger(0);
+    CountDownLatch warmUpLatch = new CountDownLatch(parsersCount - 1);
+    ListeningExecutorService executorService =
+        MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(parsersCount));
+
+    try (ProjectBuildFileParserPool parserPool =
+        createParserPool(
+            parsersCount,
+            (eventBus, input, watchman) -> {
+              createCount.incrementAndGet();
+              ProjectBuildFileParser parser = EasyMock.createNiceMock(ProjectBuildFileParser.class);
+              try {
+                EasyMock.expect(parser.getBuildFileManifest(EasyMock.anyObject(Path.class)))
+                    .andReturn(EMPTY_BUILD_FILE_MANIFEST)
+                    .anyTimes();
+                parser.warmUp();
+                EasyMock.expectLastCall()
+                    .andAnswer(
+                        () -> {
+                          warmUpLatch.countDown();
+                          return null;
+                        })
+                    .anyTimes();
+              } catch (Exception e) {
+                Throwables.throwIfUnchecked(e);
+                throw new RuntimeException(e);
+              }
+              EasyMock.replay(parser);
+              return parser;
+            })) {
+
+      Futures.allAsList(scheduleWork(cell, parserPool, executorService, 1)).get();
+      assertThat(warmUpLatch.await(5, TimeUnit.SECONDS), Matchers.is(true));
+      // Every warmed up parser is a separate instance, the request may reuse any of them.
+      assertThat(createCount.get(), Matchers.greaterThanOrEqualTo(parsersCount - 1));
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
   @Test
   public void closesCreatedParsers() throws Exception {
     int parsersCount = 4;
@@ -20,11 +20,14 @@ import static org.junit.Assert.assertEquals;
 
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.config.FakeBuckConfig;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.facebook.buck.manifestservice.ManifestService;
 import com.facebook.buck.parser.api.BuildFileManifest;
 import com.facebook.buck.parser.api.ProjectBuildFileParser;
+import com.facebook.buck.parser.events.ParserCacheStatsEvent;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.skylark.io.GlobSpecWithResult;
 import com.facebook.buck.testutil.FakeFileHashCache;
@@ -32,8 +35,11 @@ import com.facebook.buck.util.ThrowingCloseableMemoizedSupplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.eventbus.Subscribe;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.junit.Before;
 import org.junit.Rule;
@@ -116,7 +122,8 @@ public class CachingProjectBuildFileParserDecoratorTest {
             fakeParser,
             buckConfig.getConfig(),
             filesystem,
-            new FakeFileHashCache(ImmutableMap.of()));
+            new FakeFileHashCache(ImmutableMap.of()),
+            BuckEventBusForTests.newInstance());
 
     BuildFileManifest cachingParserManifest =
         cachingParser.getBuildFileManifest(filesystem.resolve("BUCK"));
@@ -133,7 +140,8 @@ public class CachingProjectBuildFileParserDecoratorTest {
         fakeParser,
         emptyBuckConfig.getConfig(),
         filesystem,
-        new FakeFileHashCache(ImmutableMap.of()));
+        new FakeFileHashCache(ImmutableMap.of()),
+        BuckEventBusForTests.newInstance());
   }
 
   @Test
@@ -146,7 +154,8 @@ public class CachingProjectBuildFileParserDecoratorTest {
             fakeParser,
             buckConfig.getConfig(),
             filesystem,
-            new FakeFileHashCache(ImmutableMap.of()));
+            new FakeFileHashCache(ImmutableMap.of()),
+            BuckEventBusForTests.newInstance());
 
     BuildFileManifest cachingParserManifest =
         cachingParser.getBuildFileManifest(filesystem.resolve("BUCK"));
@@ -164,11 +173,41 @@ public class CachingProjectBuildFileParserDecoratorTest {
             fakeParser,
             buckConfig.getConfig(),
             filesystem,
-            new FakeFileHashCache(ImmutableMap.of()));
+            new FakeFileHashCache(ImmutableMap.of()),
+            BuckEventBusForTests.newInstance());
 
     BuildFileManifest cachingParserManifest =
         cachingParser.getBuildFileManifest(filesystem.resolve("BUCK"));
 
     assertEquals(fakeParserManifest, cachingParserManifest);
   }
+
+  @Test
+  public void cacheStatsAreReportedOnClose() throws IOException, InterruptedException {
+    BuckConfig buckConfig = getConfig(filesystem, "readwrite");
+    BuckEventBus eventBus = BuckEventBusForTests.newInstance();
+    List<ParserCacheStatsEvent> events = new ArrayList<>();
+    eventBus.register(
+        new Object() {
+          @Subscribe
+          public void onStats(ParserCacheStatsEvent event) {
+            events.add(event);
+          }
+        });
+    ProjectBuildFileParser cachingParser =
+        CachingProjectBuildFileParserDecorator.of(
+            ParserCache.of(buckConfig, filesystem, getManifestSupplier()),
+            fakeParser,
+            buckConfig.getConfig(),
+            filesystem,
+            new FakeFileHashCache(ImmutableMap.of()),
+            eventBus);
+
+    cachingParser.getBuildFileManifest(filesystem.resolve("BUCK"));
+    cachingParser.close();
+
+    assertEquals(1, events.size());
+    assertEquals(0, events.get(0).getHitCount());
+    assertEquals(1, events.get(0).getMissCount());
+  }
 }
@@ -51,6 +51,7 @@ import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -343,4 +344,48 @@ public class RemoteManifestServiceCacheStorageTest {
             Hashing.sha256().newHasher().putString("Bar", StandardCharsets.UTF_8).hash());
     assertFalse(buildFileManifest.isPresent());
   }
+
+  @Test
+  public void closeWaitsForPendingStores() throws Exception {
+    BuckConfig buckConfig = getConfig("readwrite");
+    SettableFuture<Void> manifestServiceReady = SettableFuture.create();
+    FakeManifestService manifestService =
+        new FakeManifestService() {
+          @Override
+          public ListenableFuture<Void> setManifest(Manifest manifest) {
+            return Futures.transformAsync(
+                manifestServiceReady,
+                ignored -> super.setManifest(manifest),
+                MoreExecutors.directExecutor());
+          }
+        };
+    ParserCacheStorage remoteCache =
+        RemoteManifestServiceCacheStorage.of(
+            manifestService, buckConfig.getView(ParserCacheConfig.class));
+    HashCode weakFingerprint =
+        Hashing.sha256().newHasher().putString("Foo", StandardCharsets.UTF_8).hash();
+    HashCode strongFingerprint =
+        Hashing.sha256().newHasher().putString("Bar", StandardCharsets.UTF_8).hash();
+
+    remoteCache.storeBuildFileManifest(weakFingerprint, strongFingerprint, new byte[2]);
+    assertEquals(
+        0, manifestService.fetchManifest(weakFingerprint.toString()).get().getValuesSize());
+
+    Thread manifestServiceThread =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              manifestServiceReady.set(null);
+            });
+    manifestServiceThread.start();
+    remoteCache.close();
+    manifestServiceThread.join();
+
+    assertEquals(
+        1, manifestService.fetchManifest(weakFingerprint.toString()).get().getValuesSize());
+  }
 }
@@ -28,6 +28,7 @@ import com.facebook.buck.remoteexecution.grpc.GrpcRemoteExecutionClients;
 import com.facebook.buck.remoteexecution.util.OutOfProcessIsolatedExecutionClients;
 import com.facebook.buck.util.timing.FakeClock;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Optional;
 import org.junit.Test;
 
@@ -100,7 +101,8 @@ public class RemoteExecutionClientsFactoryTest {
   }
 
   private RemoteExecutionClients createClients(BuckConfig config) throws IOException {
-    return new RemoteExecutionClientsFactory(config.getView(RemoteExecutionConfig.class))
+    return new RemoteExecutionClientsFactory(
+            config.getView(RemoteExecutionConfig.class), Paths.get("buck-out/cache"))
         .create(new DefaultBuckEventBus(FakeClock.doNotCare(), new BuildId("")), Optional.empty());
   }
 }
@@ -16,39 +16,60 @@
 
 package com.facebook.buck.remoteexecution.grpc;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import build.bazel.remote.execution.v2.ActionCacheGrpc.ActionCacheImplBase;
 import build.bazel.remote.execution.v2.ActionResult;
+import build.bazel.remote.execution.v2.ContentAddressableStorageGrpc;
 import build.bazel.remote.execution.v2.ExecuteRequest;
 import build.bazel.remote.execution.v2.ExecuteResponse;
 import build.bazel.remote.execution.v2.ExecutionGrpc.ExecutionImplBase;
+import build.bazel.remote.execution.v2.GetActionResultRequest;
 import com.facebook.buck.core.model.BuildId;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.DefaultBuckEventBus;
+import com.facebook.buck.remoteexecution.CasBlobUploader.UploadData;
+import com.facebook.buck.remoteexecution.CasBlobUploader.UploadResult;
 import com.facebook.buck.remoteexecution.Protocol;
 import com.facebook.buck.remoteexecution.Protocol.Digest;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
 import com.facebook.buck.remoteexecution.RemoteExecutionService.ExecutionResult;
+import com.facebook.buck.remoteexecution.RemoteExecutionService.MissingInputsException;
 import com.facebook.buck.remoteexecution.UploadDataSupplier;
 import com.facebook.buck.remoteexecution.util.LocalContentAddressedStorage;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.util.timing.DefaultClock;
+import com.google.bytestream.ByteStreamGrpc;
+import com.google.bytestream.ByteStreamProto.QueryWriteStatusRequest;
+import com.google.bytestream.ByteStreamProto.QueryWriteStatusResponse;
+import com.google.bytestream.ByteStreamProto.ReadRequest;
+import com.google.bytestream.ByteStreamProto.ReadResponse;
+import com.google.bytestream.ByteStreamProto.WriteRequest;
+import com.google.bytestream.ByteStreamProto.WriteResponse;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.collect.Iterables;
 import com.google.longrunning.Operation;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import io.grpc.BindableService;
 import io.grpc.ManagedChannel;
 import io.grpc.Server;
+import io.grpc.Status;
 import io.grpc.Status.Code;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -58,6 +79,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.After;
@@ -71,6 +93,7 @@ public class GrpcRemoteExecutionClientsTest {
   private Server server;
 
   private RemoteExecutionClients clients;
+  private ManagedChannel channel;
 
   private List<BindableService> services;
 
@@ -90,7 +113,7 @@ public class GrpcRemoteExecutionClientsTest {
     }
 
     server = serverBuilder.build().start();
-    ManagedChannel channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
 
     clients = new GrpcRemoteExecutionClients("buck", channel, channel, Optional.empty(), eventBus);
   }
@@ -145,6 +168,132 @@ public class GrpcRemoteExecutionClientsTest {
     assertEquals(stderr, executionResult.getStderr().get());
   }
 
+  @Test
+  public void testExecuteReportsMissingInputs() throws Exception {
+    services.add(
+        new ExecutionImplBase() {
+          @Override
+          public void execute(ExecuteRequest request, StreamObserver<Operation> responseObserver) {
+            responseObserver.onNext(
+                Operation.newBuilder()
+                    .setDone(true)
+                    .setResponse(
+                        Any.pack(
+                            ExecuteResponse.newBuilder()
+                                .setStatus(
+                                    com.google.rpc.Status.newBuilder()
+                                        .setCode(Code.FAILED_PRECONDITION.value())
+                                        .setMessage("missing blobs"))
+                                .build()))
+                    .build());
+            responseObserver.onCompleted();
+          }
+        });
+
+    setupServer();
+
+    try {
+      clients
+          .getRemoteExecutionService()
+          .execute(clients.getProtocol().computeDigest("".getBytes(Charsets.UTF_8)))
+          .get();
+      fail("Execution should have failed.");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof MissingInputsException);
+    }
+  }
+
+  @Test
+  public void testGetCachedResult() throws Exception {
+    Protocol protocol = new GrpcProtocol();
+    Digest cachedDigest = protocol.computeDigest("cached".getBytes(Charsets.UTF_8));
+    Digest missingDigest = protocol.computeDigest("missing".getBytes(Charsets.UTF_8));
+    String stderr = "stderr";
+
+    services.add(
+        new ActionCacheImplBase() {
+          @Override
+          public void getActionResult(
+              GetActionResultRequest request, StreamObserver<ActionResult> responseObserver) {
+            if (request.getActionDigest().getHash().equals(cachedDigest.getHash())) {
+              responseObserver.onNext(
+                  ActionResult.newBuilder()
+                      .setExitCode(0)
+                      .setStderrRaw(ByteString.copyFromUtf8(stderr))
+                      .build());
+              responseObserver.onCompleted();
+            } else {
+              responseObserver.onError(Status.NOT_FOUND.asException());
+            }
+          }
+        });
+
+    setupServer();
+
+    ExecutionResult cachedResult =
+        clients.getRemoteExecutionService().getCachedResult(cachedDigest).get().get();
+    assertEquals(0, cachedResult.getExitCode());
+    assertEquals(stderr, cachedResult.getStderr().get());
+    assertFalse(
+        clients.getRemoteExecutionService().getCachedResult(missingDigest).get().isPresent());
+  }
+
+  @Test
+  public void testMaterializingCachedResultWithEvictedOutputsFails() throws Exception {
+    Protocol protocol = new GrpcProtocol();
+    Digest actionDigest = protocol.computeDigest("action".getBytes(Charsets.UTF_8));
+    Digest evictedDigest = protocol.computeDigest("evicted".getBytes(Charsets.UTF_8));
+    LocalContentAddressedStorage storage =
+        new LocalContentAddressedStorage(temporaryPaths.newFolder("cache"), new GrpcProtocol());
+    services.add(new LocalBackedCasImpl(storage));
+    services.add(new LocalBackedByteStreamImpl(storage));
+    services.add(
+        new ActionCacheImplBase() {
+          @Override
+          public void getActionResult(
+              GetActionResultRequest request, StreamObserver<ActionResult> responseObserver) {
+            responseObserver.onNext(
+                ActionResult.newBuilder()
+                    .setExitCode(0)
+                    .addOutputFiles(
+                        GrpcProtocol.get(
+                            protocol.newOutputFile(Paths.get("out"), evictedDigest, false)))
+                    .build());
+            responseObserver.onCompleted();
+          }
+        });
+
+    setupServer();
+
+    // The strategy relies on this failure to execute the action instead of using its result.
+    ExecutionResult cachedResult =
+        clients.getRemoteExecutionService().getCachedResult(actionDigest).get().get();
+    try {
+      clients
+          .getContentAddressedStorage()
+          .materializeOutputs(
+              cachedResult.getOutputDirectories(),
+              cachedResult.getOutputFiles(),
+              temporaryPaths.newFolder("work"))
+          .get();
+      fail("Materializing evicted outputs should have failed.");
+    } catch (ExecutionException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testGetCachedResultWithoutActionCache() throws Exception {
+    setupServer();
+
+    assertFalse(
+        clients
+            .getRemoteExecutionService()
+            .getCachedResult(clients.getProtocol().computeDigest("".getBytes(Charsets.UTF_8)))
+            .get()
+            .isPresent());
+  }
+
   @Test
   public void testStorage() throws Exception {
     Protocol protocol = new GrpcProtocol();
@@ -194,6 +343,228 @@ public class GrpcRemoteExecutionClientsTest {
     assertEquals(ImmutableMap.of(out1, data1, out2, data2), getDirectoryContents(workDir));
   }
 
+  @Test
+  public void testLargeBlobsAreStreamedInChunks() throws Exception {
+    Protocol protocol = new GrpcProtocol();
+    Path workDir = temporaryPaths.newFolder("work");
+    LocalContentAddressedStorage storage =
+        new LocalContentAddressedStorage(temporaryPaths.newFolder("cache"), new GrpcProtocol());
+    services.add(new LocalBackedCasImpl(storage));
+    services.add(new LocalBackedByteStreamImpl(storage));
+
+    setupServer();
+
+    // Larger than both the upload batch limit and the parallel read chunk size.
+    byte[] data = new byte[11 * 1024 * 1024];
+    new Random(0).nextBytes(data);
+    Digest digest = protocol.computeDigest(data);
+    clients
+        .getContentAddressedStorage()
+        .addMissing(ImmutableMap.of(digest, () -> new ByteArrayInputStream(data)))
+        .get();
+    assertEquals(0, storage.findMissing(ImmutableList.of(digest)).count());
+
+    GrpcAsyncBlobFetcher fetcher =
+        new GrpcAsyncBlobFetcher(
+            "buck",
+            ContentAddressableStorageGrpc.newFutureStub(channel),
+            ByteStreamGrpc.newStub(channel),
+            eventBus);
+    ByteBuffer fetched = fetcher.fetch(digest).get();
+    byte[] fetchedData = new byte[fetched.remaining()];
+    fetched.get(fetchedData);
+    assertArrayEquals(data, fetchedData);
+
+    Path out = Paths.get("out");
+    clients
+        .getContentAddressedStorage()
+        .materializeOutputs(
+            ImmutableList.of(),
+            ImmutableList.of(protocol.newOutputFile(out, digest, false)),
+            workDir)
+        .get();
+    assertArrayEquals(data, Files.readAllBytes(workDir.resolve(out)));
+  }
+
+  @Test
+  public void testBrokenWriteIsResumed() throws Exception {
+    LocalContentAddressedStorage storage =
+        new LocalContentAddressedStorage(temporaryPaths.newFolder("cache"), new GrpcProtocol());
+    List<Long> writeOffsets = new ArrayList<>();
+    services.add(new FlakyByteStreamImpl(storage, writeOffsets, new ArrayList<>(), true));
+
+    setupServer();
+
+    byte[] data = new byte[3 * 1024 * 1024 + 17];
+    new Random(0).nextBytes(data);
+    Digest digest = new GrpcProtocol().computeDigest(data);
+    UploadResult result = uploadWithByteStream(digest, data);
+
+    assertEquals(0, result.status);
+    assertEquals(0, storage.findMissing(ImmutableList.of(digest)).count());
+    // The first write breaks after its first chunk, and the second continues after it.
+    assertEquals(ImmutableList.of(0L, 1024L * 1024L), writeOffsets);
+  }
+
+  @Test
+  public void testBrokenWriteIsRestartedWhenStatusIsUnavailable() throws Exception {
+    LocalContentAddressedStorage storage =
+        new LocalContentAddressedStorage(temporaryPaths.newFolder("cache"), new GrpcProtocol());
+    List<Long> writeOffsets = new ArrayList<>();
+    services.add(new FlakyByteStreamImpl(storage, writeOffsets, new ArrayList<>(), false));
+
+    setupServer();
+
+    byte[] data = new byte[3 * 1024 * 1024 + 17];
+    new Random(0).nextBytes(data);
+    Digest digest = new GrpcProtocol().computeDigest(data);
+    UploadResult result = uploadWithByteStream(digest, data);
+
+    assertEquals(0, result.status);
+    assertEquals(0, storage.findMissing(ImmutableList.of(digest)).count());
+    assertEquals(ImmutableList.of(0L, 0L), writeOffsets);
+  }
+
+  @Test
+  public void testBrokenReadIsResumed() throws Exception {
+    LocalContentAddressedStorage storage =
+        new LocalContentAddressedStorage(temporaryPaths.newFolder("cache"), new GrpcProtocol());
+    List<Long> readOffsets = new ArrayList<>();
+    services.add(new FlakyByteStreamImpl(storage, new ArrayList<>(), readOffsets, true));
+
+    setupServer();
+
+    byte[] data = new byte[3 * 1024 * 1024 + 17];
+    new Random(0).nextBytes(data);
+    Digest digest = new GrpcProtocol().computeDigest(data);
+    storage.addMissing(ImmutableMap.of(digest, () -> new ByteArrayInputStream(data))).get();
+
+    GrpcAsyncBlobFetcher fetcher =
+        new GrpcAsyncBlobFetcher(
+            "buck",
+            ContentAddressableStorageGrpc.newFutureStub(channel),
+            ByteStreamGrpc.newStub(channel),
+            eventBus);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    fetcher.fetchToStream(digest, outputStream).get();
+
+    assertArrayEquals(data, outputStream.toByteArray());
+    // The first read breaks after its first chunk, and the second continues after it.
+    assertEquals(ImmutableList.of(0L, 1024L * 1024L), readOffsets);
+  }
+
+  private UploadResult uploadWithByteStream(Digest digest, byte[] data) throws IOException {
+    GrpcCasBlobUploader uploader =
+        new GrpcCasBlobUploader(
+            "buck",
+            ContentAddressableStorageGrpc.newFutureStub(channel),
+            ByteStreamGrpc.newStub(channel),
+            1024,
+            eventBus);
+    return Iterables.getOnlyElement(
+        uploader.batchUpdateBlobs(
+            ImmutableList.of(new UploadData(digest, () -> new ByteArrayInputStream(data)))));
+  }
+
+  /**
+   * ByteStream service that breaks the first write and the first read after their first chunk, and
+   * that optionally doesn't support querying the status of writes.
+   */
+  private static class FlakyByteStreamImpl extends LocalBackedByteStreamImpl {
+    private final List<Long> writeOffsets;
+    private final List<Long> readOffsets;
+    private final boolean supportsQueryWriteStatus;
+
+    FlakyByteStreamImpl(
+        LocalContentAddressedStorage storage,
+        List<Long> writeOffsets,
+        List<Long> readOffsets,
+        boolean supportsQueryWriteStatus) {
+      super(storage);
+      this.writeOffsets = writeOffsets;
+      this.readOffsets = readOffsets;
+      this.supportsQueryWriteStatus = supportsQueryWriteStatus;
+    }
+
+    @Override
+    public StreamObserver<WriteRequest> write(StreamObserver<WriteResponse> responseObserver) {
+      StreamObserver<WriteRequest> delegate = super.write(responseObserver);
+      boolean breakWrite = writeOffsets.isEmpty();
+      return new StreamObserver<WriteRequest>() {
+        private boolean first = true;
+        private boolean broken = false;
+
+        @Override
+        public void onNext(WriteRequest request) {
+          if (broken) {
+            return;
+          }
+          if (first) {
+            first = false;
+            writeOffsets.add(request.getWriteOffset());
+          }
+          delegate.onNext(request);
+          if (breakWrite) {
+            broken = true;
+            responseObserver.onError(Status.UNAVAILABLE.asException());
+          }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+          delegate.onError(t);
+        }
+
+        @Override
+        public void onCompleted() {
+          if (!broken) {
+            delegate.onCompleted();
+          }
+        }
+      };
+    }
+
+    @Override
+    public void queryWriteStatus(
+        QueryWriteStatusRequest request,
+        StreamObserver<QueryWriteStatusResponse> responseObserver) {
+      if (supportsQueryWriteStatus) {
+        super.queryWriteStatus(request, responseObserver);
+      } else {
+        responseObserver.onError(Status.UNIMPLEMENTED.asException());
+      }
+    }
+
+    @Override
+    public void read(ReadRequest request, StreamObserver<ReadResponse> responseObserver) {
+      readOffsets.add(request.getReadOffset());
+      if (readOffsets.size() > 1) {
+        super.read(request, responseObserver);
+        return;
+      }
+      super.read(
+          request,
+          new StreamObserver<ReadResponse>() {
+            private boolean broken = false;
+
+            @Override
+            public void onNext(ReadResponse value) {
+              if (!broken) {
+                broken = true;
+                responseObserver.onNext(value);
+                responseObserver.onError(Status.UNAVAILABLE.asException());
+              }
+            }
+
+            @Override
+            public void onError(Throwable t) {}
+
+            @Override
+            public void onCompleted() {}
+          });
+    }
+  }
+
   private ImmutableMap<Path, String> getDirectoryContents(Path workDir) throws IOException {
     Builder<Path, String> contentsBuilder = ImmutableMap.builder();
     try (Stream<Path> stream = Files.list(workDir)) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.timing.SettableFakeClock;
+import com.google.common.base.Charsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CasBlobIndexTest {
+  private static final long TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private SettableFakeClock clock;
+  private Path indexFile;
+
+  @Before
+  public void setUp() {
+    clock = new SettableFakeClock(TimeUnit.DAYS.toMillis(1), 0);
+    indexFile = tmp.getRoot().resolve("cache").resolve("index");
+  }
+
+  @Test
+  public void missingIndexFileResultsInEmptyIndex() {
+    CasBlobIndex index = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    assertFalse(index.contains("abc"));
+  }
+
+  @Test
+  public void savedEntriesAreLoadedAgain() throws Exception {
+    CasBlobIndex index = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    index.add("abc");
+    index.save();
+
+    CasBlobIndex loaded = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    assertTrue(loaded.contains("abc"));
+    assertFalse(loaded.contains("def"));
+  }
+
+  @Test
+  public void entriesExpireAfterTtl() throws Exception {
+    CasBlobIndex index = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    index.add("abc");
+    index.save();
+
+    clock.setCurrentTimeMillis(clock.currentTimeMillis() + TTL_MILLIS / 2);
+    index.add("def");
+    assertTrue(index.contains("abc"));
+
+    clock.setCurrentTimeMillis(clock.currentTimeMillis() + TTL_MILLIS / 2);
+    assertFalse(index.contains("abc"));
+    assertTrue(index.contains("def"));
+
+    index.save();
+    CasBlobIndex loaded = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    assertFalse(loaded.contains("abc"));
+    assertTrue(loaded.contains("def"));
+  }
+
+  @Test
+  public void removedEntriesAreNotSaved() throws Exception {
+    CasBlobIndex index = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    index.add("abc");
+    index.add("def");
+    index.remove("abc");
+    assertFalse(index.contains("abc"));
+    index.save();
+
+    CasBlobIndex loaded = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    assertFalse(loaded.contains("abc"));
+    assertTrue(loaded.contains("def"));
+  }
+
+  @Test
+  public void corruptIndexFileResultsInEmptyIndex() throws Exception {
+    Files.createDirectories(indexFile.getParent());
+    Files.write(indexFile, "abc not-a-time\n".getBytes(Charsets.UTF_8));
+    CasBlobIndex index = CasBlobIndex.load(indexFile, TTL_MILLIS, clock);
+    assertFalse(index.contains("abc"));
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.remoteexecution.Protocol;
+import com.facebook.buck.remoteexecution.Protocol.Digest;
+import com.facebook.buck.remoteexecution.Protocol.OutputFile;
+import com.facebook.buck.remoteexecution.RemoteExecutionService.ExecutionResult;
+import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Iterables;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LocalExecutionServiceTest {
+  @Rule public TemporaryFolder tmp = new TemporaryFolder();
+
+  private final Protocol protocol = new GrpcProtocol();
+  private LocalContentAddressedStorage storage;
+  private LocalExecutionService service;
+
+  @Before
+  public void setUp() throws Exception {
+    Assume.assumeFalse(Platform.detect() == Platform.WINDOWS);
+    storage = new LocalContentAddressedStorage(tmp.newFolder("cache").toPath(), protocol);
+    service =
+        new LocalExecutionService(
+            storage,
+            protocol,
+            BuckEventBusForTests.newInstance(),
+            tmp.newFolder("work").toPath(),
+            2);
+  }
+
+  @After
+  public void tearDown() {
+    if (service != null) {
+      service.close();
+    }
+  }
+
+  @Test
+  public void successfulActionsAreRunOnce() throws Exception {
+    Digest actionDigest = uploadAction("echo hello > out.txt", Paths.get("out.txt"));
+
+    ExecutionResult result = service.execute(actionDigest).get();
+    assertEquals(0, result.getExitCode());
+    OutputFile outputFile = Iterables.getOnlyElement(result.getOutputFiles());
+    assertEquals(
+        protocol.computeDigest("hello\n".getBytes()).getHash(),
+        outputFile.getDigest().getHash());
+    assertEquals(0, storage.findMissing(ImmutableList.of(outputFile.getDigest())).count());
+
+    assertEquals(0, service.execute(actionDigest).get().getExitCode());
+    assertEquals(1, service.getExecutedCount());
+    assertEquals(1, service.getCacheHitCount());
+  }
+
+  @Test
+  public void failedActionsAreRunAgain() throws Exception {
+    Digest actionDigest = uploadAction("exit 1", Paths.get("out.txt"));
+
+    assertEquals(1, service.execute(actionDigest).get().getExitCode());
+    assertEquals(1, service.execute(actionDigest).get().getExitCode());
+    assertEquals(2, service.getExecutedCount());
+    assertEquals(0, service.getCacheHitCount());
+  }
+
+  @Test
+  public void onlySuccessfulResultsAreCached() throws Exception {
+    Digest successfulDigest = uploadAction("echo hello > out.txt", Paths.get("out.txt"));
+    Digest failedDigest = uploadAction("exit 1", Paths.get("out.txt"));
+    assertFalse(service.getCachedResult(successfulDigest).get().isPresent());
+
+    service.execute(successfulDigest).get();
+    service.execute(failedDigest).get();
+
+    assertEquals(0, service.getCachedResult(successfulDigest).get().get().getExitCode());
+    assertFalse(service.getCachedResult(failedDigest).get().isPresent());
+    assertEquals(1, service.getCacheHitCount());
+  }
+
+  @Test
+  public void supportedCommandsRunOnPersistentWorkers() throws Exception {
+    List<ImmutableList<String>> workerCommands = new ArrayList<>();
+    service.close();
+    service =
+        new LocalExecutionService(
+            storage,
+            protocol,
+            BuckEventBusForTests.newInstance(),
+            tmp.newFolder("worker_work").toPath(),
+            2,
+            Optional.of(
+                new PersistentWorkerRunner() {
+                  @Override
+                  public Optional<ProcessExecutor.Result> run(
+                      ImmutableList<String> command,
+                      ImmutableMap<String, String> environment,
+                      Path buildDir)
+                      throws IOException {
+                    if (!command.get(2).contains("worker")) {
+                      return Optional.empty();
+                    }
+                    workerCommands.add(command);
+                    Files.write(buildDir.resolve("out.txt"), "from worker".getBytes());
+                    return Optional.of(new ProcessExecutor.Result(0, "", ""));
+                  }
+
+                  @Override
+                  public void close() {}
+                }));
+
+    ExecutionResult workerResult =
+        service.execute(uploadAction("echo worker > out.txt", Paths.get("out.txt"))).get();
+    assertEquals(
+        protocol.computeDigest("from worker".getBytes()).getHash(),
+        Iterables.getOnlyElement(workerResult.getOutputFiles()).getDigest().getHash());
+    assertEquals(1, workerCommands.size());
+
+    ExecutionResult processResult =
+        service.execute(uploadAction("echo process > out.txt", Paths.get("out.txt"))).get();
+    assertEquals(
+        protocol.computeDigest("process\n".getBytes()).getHash(),
+        Iterables.getOnlyElement(processResult.getOutputFiles()).getDigest().getHash());
+    assertEquals(1, workerCommands.size());
+  }
+
+  private Digest uploadAction(String script, Path output) throws Exception {
+    Protocol.Directory inputRoot =
+        protocol.newDirectory(ImmutableList.of(), ImmutableList.of(), ImmutableList.of());
+    byte[] inputRootData = protocol.toByteArray(inputRoot);
+    byte[] commandData =
+        protocol.toByteArray(
+            protocol.newCommand(
+                ImmutableList.of("/bin/sh", "-c", script),
+                ImmutableSortedMap.of(),
+                ImmutableSet.of(output)));
+    Digest commandDigest = protocol.computeDigest(commandData);
+    byte[] actionData =
+        protocol.toByteArray(
+            protocol.newAction(commandDigest, protocol.computeDigest(inputRootData)));
+    Digest actionDigest = protocol.computeDigest(actionData);
+    storage
+        .addMissing(
+            ImmutableMap.of(
+                protocol.computeDigest(inputRootData),
+                () -> new ByteArrayInputStream(inputRootData),
+                commandDigest,
+                () -> new ByteArrayInputStream(commandData),
+                actionDigest,
+                () -> new ByteArrayInputStream(actionData)))
+        .get();
+    return actionDigest;
+  }
+}
@@ -259,6 +259,43 @@ public class MerkleTreeNodeCacheTest {
     assertSame(combinedNode, nodeCache.mergeNodes(ImmutableList.of(firstNode, secondNode)));
   }
 
+  @Test
+  public void testForAllDataSkipsSharedSubtrees() {
+    Digest hash1 = protocol.computeDigest("hash1".getBytes(Charsets.UTF_8));
+    Digest hash2 = protocol.computeDigest("hash2".getBytes(Charsets.UTF_8));
+
+    MerkleTreeNodeCache nodeCache = new MerkleTreeNodeCache(protocol);
+    MerkleTreeNode sharedNode =
+        nodeCache.createNode(
+            ImmutableMap.of(
+                Paths.get("shared/dir/file.1"), protocol.newFileNode(hash1, "file.1", false)),
+            ImmutableMap.of());
+    MerkleTreeNode otherNode =
+        nodeCache.createNode(
+            ImmutableMap.of(
+                Paths.get("other/file.2"), protocol.newFileNode(hash2, "file.2", false)),
+            ImmutableMap.of());
+    MerkleTreeNode mergedNode = nodeCache.mergeNodes(ImmutableList.of(sharedNode, otherNode));
+
+    Set<MerkleTreeNode> sharedNodes = new HashSet<>();
+    sharedNode.forAllNodes(sharedNodes::add);
+
+    Set<Digest> allDigests = new HashSet<>();
+    nodeCache.forAllData(mergedNode, data -> allDigests.add(data.getDigest()));
+    Set<Digest> filteredDigests = new HashSet<>();
+    nodeCache.forAllData(
+        mergedNode,
+        node -> !sharedNodes.contains(node),
+        data -> filteredDigests.add(data.getDigest()));
+
+    // The root and other/ directories have to be visited, while shared/ and shared/dir/ are
+    // unchanged from the shared tree.
+    assertEquals(4, allDigests.size());
+    assertEquals(2, filteredDigests.size());
+    assertTrue(filteredDigests.contains(nodeCache.getData(mergedNode).getDigest()));
+    assertTrue(allDigests.containsAll(filteredDigests));
+  }
+
   @Test
   public void badFileNodeNameIsRejected() {
     expected.expect(IllegalStateException.class);
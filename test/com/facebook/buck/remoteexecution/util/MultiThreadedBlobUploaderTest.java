@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.remoteexecution.CasBlobUploader;
+import com.facebook.buck.remoteexecution.Protocol;
+import com.facebook.buck.remoteexecution.Protocol.Digest;
+import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.timing.SettableFakeClock;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class MultiThreadedBlobUploaderTest {
+  private static final Protocol PROTOCOL = new GrpcProtocol();
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private FakeCasBlobUploader cas;
+  private CasBlobIndex index;
+  private ExecutorService uploadService;
+  private MultiThreadedBlobUploader uploader;
+
+  @Before
+  public void setUp() {
+    cas = new FakeCasBlobUploader();
+    index =
+        CasBlobIndex.load(
+            tmp.getRoot().resolve("index"),
+            TimeUnit.HOURS.toMillis(1),
+            new SettableFakeClock(TimeUnit.DAYS.toMillis(1), 0));
+    uploadService = Executors.newSingleThreadExecutor();
+    uploader = new MultiThreadedBlobUploader(10, 1024, uploadService, cas, Optional.of(index));
+  }
+
+  @After
+  public void tearDown() {
+    uploadService.shutdownNow();
+  }
+
+  @Test
+  public void blobsThatTheCasConfirmedAreIndexed() throws Exception {
+    Digest present = PROTOCOL.computeDigest(bytes("present"));
+    Digest missing = PROTOCOL.computeDigest(bytes("missing"));
+    cas.contained.add(present.getHash());
+
+    uploader.addMissing(data("present", "missing")).get();
+
+    assertTrue(index.contains(present.getHash()));
+    assertTrue(index.contains(missing.getHash()));
+    assertEquals(ImmutableList.of(missing.getHash()), cas.uploaded);
+  }
+
+  @Test
+  public void indexedBlobsSkipTheMissingCheck() throws Exception {
+    Digest digest = PROTOCOL.computeDigest(bytes("indexed"));
+    index.add(digest.getHash());
+
+    uploader.addMissing(data("indexed")).get();
+
+    assertTrue(cas.checked.isEmpty());
+    assertTrue(cas.uploaded.isEmpty());
+  }
+
+  @Test
+  public void forgottenBlobsAreCheckedAndUploadedAgain() throws Exception {
+    Digest digest = PROTOCOL.computeDigest(bytes("evicted"));
+    index.add(digest.getHash());
+    uploader.addMissing(data("evicted")).get();
+
+    uploader.forget(ImmutableList.of(digest));
+    assertFalse(index.contains(digest.getHash()));
+    uploader.addMissing(data("evicted")).get();
+
+    assertEquals(ImmutableList.of(digest.getHash()), cas.checked);
+    assertEquals(ImmutableList.of(digest.getHash()), cas.uploaded);
+    assertTrue(index.contains(digest.getHash()));
+  }
+
+  @Test
+  public void failedUploadsAreNotIndexed() throws Exception {
+    Digest digest = PROTOCOL.computeDigest(bytes("rejected"));
+    cas.rejectUploads = true;
+
+    try {
+      uploader.addMissing(data("rejected")).get();
+    } catch (ExecutionException e) {
+      // Expected.
+    }
+
+    assertFalse(index.contains(digest.getHash()));
+  }
+
+  private static byte[] bytes(String content) {
+    return content.getBytes(Charsets.UTF_8);
+  }
+
+  private static ImmutableMap<Digest, UploadDataSupplier> data(String... contents) {
+    ImmutableMap.Builder<Digest, UploadDataSupplier> builder = ImmutableMap.builder();
+    for (String content : contents) {
+      builder.put(
+          PROTOCOL.computeDigest(bytes(content)), () -> new ByteArrayInputStream(bytes(content)));
+    }
+    return builder.build();
+  }
+
+  private static class FakeCasBlobUploader implements CasBlobUploader {
+    private final Set<String> contained = ConcurrentHashMap.newKeySet();
+    private final List<String> checked = new ArrayList<>();
+    private final List<String> uploaded = new ArrayList<>();
+    private volatile boolean rejectUploads = false;
+
+    @Override
+    public synchronized ImmutableSet<String> getMissingHashes(List<Digest> requiredDigests) {
+      ImmutableSet.Builder<String> missing = ImmutableSet.builder();
+      for (Digest digest : requiredDigests) {
+        checked.add(digest.getHash());
+        if (!contained.contains(digest.getHash())) {
+          missing.add(digest.getHash());
+        }
+      }
+      return missing.build();
+    }
+
+    @Override
+    public synchronized ImmutableList<UploadResult> batchUpdateBlobs(
+        ImmutableList<UploadData> blobs) {
+      ImmutableList.Builder<UploadResult> results = ImmutableList.builder();
+      for (UploadData blob : blobs) {
+        if (rejectUploads) {
+          results.add(new UploadResult(blob.digest, 1, "rejected"));
+        } else {
+          uploaded.add(blob.getHash());
+          contained.add(blob.getHash());
+          results.add(new UploadResult(blob.digest, 0, null));
+        }
+      }
+      return results.build();
+    }
+  }
+}
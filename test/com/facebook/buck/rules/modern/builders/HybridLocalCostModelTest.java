@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+public class HybridLocalCostModelTest {
+  @Test
+  public void noPreferenceWithoutHistoryForBothSides() {
+    HybridLocalCostModel model = new HybridLocalCostModel();
+    assertFalse(model.prefersLocal("genrule"));
+
+    model.recordLocal("genrule", TimeUnit.SECONDS.toNanos(1));
+    assertFalse(model.prefersLocal("genrule"));
+  }
+
+  @Test
+  public void prefersTheSideThatWasFasterRecently() {
+    HybridLocalCostModel model = new HybridLocalCostModel();
+    model.recordLocal("genrule", TimeUnit.SECONDS.toNanos(1));
+    model.recordDelegate("genrule", TimeUnit.SECONDS.toNanos(3));
+    assertTrue(model.prefersLocal("genrule"));
+    assertFalse(model.prefersLocal("java_library"));
+
+    for (int i = 0; i < 5; i++) {
+      model.recordDelegate("genrule", TimeUnit.MILLISECONDS.toNanos(100));
+    }
+    assertFalse(model.prefersLocal("genrule"));
+  }
+
+  @Test
+  public void reportContainsDecisionsPerRuleType() {
+    HybridLocalCostModel model = new HybridLocalCostModel();
+    model.recordLocal("genrule", TimeUnit.SECONDS.toNanos(1));
+    model.recordPreferredLocal("genrule");
+    model.recordStolen("java_library");
+
+    assertThat(
+        model.getReport(),
+        Matchers.allOf(
+            Matchers.containsString(
+                "genrule: local 1 (avg 1000 ms), delegate 0 (avg - ms), kept local 1, stolen 0"),
+            Matchers.containsString("java_library: local 0 (avg - ms), delegate 0 (avg - ms)")));
+  }
+}
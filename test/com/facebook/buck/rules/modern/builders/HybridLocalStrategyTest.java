@@ -289,6 +289,108 @@ public class HybridLocalStrategyTest {
     }
   }
 
+  @Test
+  public void testAdaptiveReservesAtMostNumLocalJobsForLocalSlots() throws Exception {
+    Semaphore waiting = new Semaphore(0);
+    Semaphore finished = new Semaphore(0);
+    Semaphore delegateStarted = new Semaphore(0);
+    int maxJobs = 2;
+    ListeningExecutorService service =
+        MoreExecutors.listeningDecorator(MostExecutors.newMultiThreadExecutor("test", 4));
+
+    try {
+      BuildRuleStrategy delegate =
+          new SimpleBuildRuleStrategy() {
+            @Override
+            public StrategyBuildResult build(BuildRule rule, BuildStrategyContext strategyContext) {
+              delegateStarted.release();
+              return super.build(rule, strategyContext);
+            }
+          };
+      JobLimitingStrategyContextFactory contextFactory =
+          new JobLimitingStrategyContextFactory(waiting, finished, maxJobs, service);
+
+      try (HybridLocalStrategy strategy =
+          new HybridLocalStrategy(
+              maxJobs, 10, delegate, Optional.of(createCostModelPreferringLocal()))) {
+        List<ListenableFuture<Optional<BuildResult>>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+          FakeBuildRule rule = new FakeBuildRule("//:target-" + i);
+          results.add(
+              Futures.submitAsync(
+                  () -> strategy.build(rule, contextFactory.createContext(rule)).getBuildResult(),
+                  service));
+        }
+
+        // While the local slots are busy, only as many jobs as there are local slots are reserved
+        // for them and the others go to the delegate.
+        assertTrue(delegateStarted.tryAcquire(6, 1, TimeUnit.SECONDS));
+        assertFalse(delegateStarted.tryAcquire(20, TimeUnit.MILLISECONDS));
+
+        // The reserved jobs are built locally once the slots are free.
+        waiting.release(4);
+        assertTrue(finished.tryAcquire(4, 1, TimeUnit.SECONDS));
+        assertFalse(finished.tryAcquire(20, TimeUnit.MILLISECONDS));
+
+        Futures.allAsList(results).get(1, TimeUnit.SECONDS);
+        for (ListenableFuture<Optional<BuildResult>> r : results) {
+          assertTrue(r.isDone());
+          assertTrue(r.get().get().isSuccess());
+        }
+        assertFalse(delegateStarted.tryAcquire());
+      }
+    } finally {
+      service.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testAdaptiveReservedJobsAreNotLeftInTheQueue() throws Exception {
+    Semaphore waiting = new Semaphore(0);
+    Semaphore finished = new Semaphore(0);
+    ListeningExecutorService service =
+        MoreExecutors.listeningDecorator(MostExecutors.newMultiThreadExecutor("test", 4));
+
+    try {
+      BuildRuleStrategy delegate = new SimpleBuildRuleStrategy();
+      JobLimitingStrategyContextFactory contextFactory =
+          new JobLimitingStrategyContextFactory(waiting, finished, 1, service);
+
+      try (HybridLocalStrategy strategy =
+          new HybridLocalStrategy(1, 1, delegate, Optional.of(createCostModelPreferringLocal()))) {
+        for (int round = 0; round < 20; round++) {
+          List<ListenableFuture<Optional<BuildResult>>> results = new ArrayList<>();
+          for (int i = 0; i < 3; i++) {
+            FakeBuildRule rule = new FakeBuildRule("//:target-" + round + "-" + i);
+            results.add(
+                Futures.submitAsync(
+                    () -> strategy.build(rule, contextFactory.createContext(rule)).getBuildResult(),
+                    service));
+          }
+          waiting.release(3);
+
+          // Each job schedules a single local slot, so a reserved job that a slot missed while it
+          // was being moved would never be built.
+          Futures.allAsList(results).get(1, TimeUnit.SECONDS);
+          for (ListenableFuture<Optional<BuildResult>> r : results) {
+            assertTrue(r.get().get().isSuccess());
+          }
+          waiting.drainPermits();
+        }
+      }
+    } finally {
+      service.shutdownNow();
+    }
+  }
+
+  private static HybridLocalCostModel createCostModelPreferringLocal() {
+    HybridLocalCostModel costModel = new HybridLocalCostModel();
+    String ruleType = new FakeBuildRule("//:target").getType();
+    costModel.recordLocal(ruleType, 1);
+    costModel.recordDelegate(ruleType, TimeUnit.SECONDS.toNanos(1));
+    return costModel;
+  }
+
   static class SimpleBuildRuleStrategy implements BuildRuleStrategy {
     @Override
     public void close() {}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.Test;
+
+public class IsolatedBuilderWorkerPoolTest {
+  private static final String TRAMPOLINE =
+      "./" + ModernBuildRuleRemoteExecutionHelper.TRAMPOLINE_PATH;
+
+  private static final ImmutableMap<String, String> WORKER_ENVIRONMENT =
+      ImmutableMap.of(
+          "CLASSPATH",
+          classpath("/opt/buck/bootstrap.jar"),
+          "BUCK_CLASSPATH",
+          classpath("/opt/buck/buck.jar", "/usr/share/java/guava.jar"),
+          "BUCK_PLUGIN_ROOT",
+          "/opt/buck/plugins",
+          "BUCK_PLUGIN_RESOURCES",
+          "",
+          "BUCK_DISTCC",
+          "0");
+
+  @Test
+  public void jobArgsAreTheArgumentsOfTrampoline() {
+    Path buildDir = Paths.get("/tmp/build dir");
+    assertEquals(
+        Optional.of(Joiner.on('\n').join(buildDir, "../../..", "abcdef")),
+        IsolatedBuilderWorkerPool.getJobArgs(
+            ImmutableList.of(TRAMPOLINE, "../../..", "abcdef"), buildDir));
+  }
+
+  @Test
+  public void otherCommandsAreNotRunInWorkers() {
+    Path buildDir = Paths.get("/tmp/build");
+    assertEquals(
+        Optional.empty(),
+        IsolatedBuilderWorkerPool.getJobArgs(ImmutableList.of(TRAMPOLINE, "../../.."), buildDir));
+    assertEquals(
+        Optional.empty(),
+        IsolatedBuilderWorkerPool.getJobArgs(
+            ImmutableList.of("./other.sh", "../../..", "abcdef"), buildDir));
+    assertEquals(
+        Optional.empty(),
+        IsolatedBuilderWorkerPool.getJobArgs(
+            ImmutableList.of(TRAMPOLINE, "../../..", "abcdef", "extra"), buildDir));
+  }
+
+  @Test
+  public void relativePathsMatchTheEndOfWorkerPaths() {
+    assertTrue(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT,
+            ImmutableMap.of(
+                "CLASSPATH",
+                classpath("bootstrap.jar"),
+                "BUCK_CLASSPATH",
+                classpath("buck/buck.jar", "/usr/share/java/guava.jar"),
+                "BUCK_PLUGIN_ROOT",
+                "plugins",
+                "BUCK_PLUGIN_RESOURCES",
+                "",
+                "BUCK_DISTCC",
+                "0")));
+  }
+
+  @Test
+  public void differentClasspathIsRejected() {
+    assertFalse(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT,
+            ImmutableMap.of("BUCK_CLASSPATH", classpath("buck.jar", "/usr/share/java/other.jar"))));
+    assertFalse(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT, ImmutableMap.of("BUCK_CLASSPATH", classpath("buck.jar"))));
+    assertFalse(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT, ImmutableMap.of("CLASSPATH", classpath("other/bootstrap.jar"))));
+  }
+
+  @Test
+  public void differentPluginsAreRejected() {
+    assertFalse(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT, ImmutableMap.of("BUCK_PLUGIN_ROOT", "")));
+    assertFalse(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT, ImmutableMap.of("BUCK_PLUGIN_RESOURCES", "resources")));
+  }
+
+  @Test
+  public void otherVariablesMustBeEqual() {
+    assertFalse(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT, ImmutableMap.of("BUCK_DISTCC", "1")));
+    assertFalse(
+        IsolatedBuilderWorkerPool.hasWorkerEnvironment(
+            WORKER_ENVIRONMENT, ImmutableMap.of("UNKNOWN", "")));
+  }
+
+  private static String classpath(String... entries) {
+    return Joiner.on(File.pathSeparator).join(entries);
+  }
+}
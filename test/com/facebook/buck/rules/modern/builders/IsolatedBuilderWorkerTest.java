@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.core.plugin.impl.BuckPluginManagerFactory;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.worker.WorkerProcessCommand;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IsolatedBuilderWorkerTest {
+  @Rule public TemporaryFolder tmp = new TemporaryFolder();
+
+  private WorkerProcessCommand command;
+
+  @Before
+  public void setUp() throws IOException {
+    command =
+        WorkerProcessCommand.of(
+            tmp.getRoot().toPath().resolve("args"),
+            tmp.getRoot().toPath().resolve("stdout"),
+            tmp.getRoot().toPath().resolve("stderr"));
+  }
+
+  @Test
+  public void jobWithWrongNumberOfArgumentsFails() throws IOException {
+    Files.write(command.getArgsPath(), ImmutableList.of("buildDir", "projectRoot"));
+
+    assertEquals(1, build());
+    assertThat(readStdErr(), Matchers.containsString("Expected three arguments, got 2"));
+  }
+
+  @Test
+  public void jobWithMissingBuildDirFailsWithoutStoppingTheWorker() throws IOException {
+    Path buildDir = tmp.getRoot().toPath().resolve("missing");
+    Files.write(
+        command.getArgsPath(),
+        ImmutableList.of(buildDir.toString(), "../../..", "0123456789abcdef0123456789abcdef"));
+
+    assertEquals(1, build());
+    assertEquals(1, build());
+    assertThat(readStdErr(), Matchers.not(Matchers.isEmptyString()));
+  }
+
+  private int build() throws IOException {
+    return IsolatedBuilderWorker.build(
+        command,
+        BuckPluginManagerFactory.createPluginManager(),
+        BuckEventBusForTests.newInstance());
+  }
+
+  private String readStdErr() throws IOException {
+    return new String(Files.readAllBytes(command.getStdErrPath()), StandardCharsets.UTF_8);
+  }
+}
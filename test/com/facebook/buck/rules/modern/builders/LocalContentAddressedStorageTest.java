@@ -18,6 +18,7 @@ package com.facebook.buck.rules.modern.builders;
 
 import static org.junit.Assert.assertEquals;
 
+import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.remoteexecution.Protocol;
 import com.facebook.buck.remoteexecution.Protocol.Digest;
 import com.facebook.buck.remoteexecution.Protocol.FileNode;
@@ -28,6 +29,7 @@ import com.facebook.buck.remoteexecution.util.MerkleTreeNodeCache;
 import com.facebook.buck.remoteexecution.util.MerkleTreeNodeCache.MerkleTreeNode;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
@@ -37,9 +39,11 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -126,6 +130,78 @@ public class LocalContentAddressedStorageTest {
     assertDataEquals(otherData, Files.readAllBytes(inputsDir.resolve(otherPath)));
   }
 
+  @Test
+  public void unchangedOutputsAreNotFetchedAgain() throws Exception {
+    byte[] data = "hello world!".getBytes(Charsets.UTF_8);
+    Digest digest = protocol.computeDigest(data);
+    Futures.getUnchecked(
+        storage.addMissing(ImmutableMap.of(digest, () -> new ByteArrayInputStream(data))));
+
+    Path outputsDir = tmp.getRoot().resolve("outputs");
+    Path outputPath = Paths.get("dir/some.path");
+    Map<Path, Digest> materialized = new HashMap<>();
+    storage
+        .materializeOutputs(
+            ImmutableList.of(),
+            ImmutableList.of(protocol.newOutputFile(outputPath, digest, false)),
+            outputsDir,
+            (path, fileDigest, isExecutable) -> materialized.put(path, fileDigest))
+        .get();
+    assertDataEquals(data, Files.readAllBytes(outputsDir.resolve(outputPath)));
+    assertEquals(ImmutableMap.of(outputsDir.resolve(outputPath), digest), materialized);
+
+    // Without the data in the storage, materialization only succeeds if nothing is fetched.
+    MostFiles.deleteRecursivelyIfExists(storageDir);
+    materialized.clear();
+    storage
+        .materializeOutputs(
+            ImmutableList.of(),
+            ImmutableList.of(protocol.newOutputFile(outputPath, digest, false)),
+            outputsDir,
+            (path, fileDigest, isExecutable) -> materialized.put(path, fileDigest))
+        .get();
+    assertDataEquals(data, Files.readAllBytes(outputsDir.resolve(outputPath)));
+    assertEquals(ImmutableMap.of(outputsDir.resolve(outputPath), digest), materialized);
+  }
+
+  @Test
+  public void outputsWithUnchangedSizeAndModificationTimeAreNotHashedAgain() throws Exception {
+    byte[] data = "hello world!".getBytes(Charsets.UTF_8);
+    Digest digest = protocol.computeDigest(data);
+    Futures.getUnchecked(
+        storage.addMissing(ImmutableMap.of(digest, () -> new ByteArrayInputStream(data))));
+
+    Path outputsDir = tmp.getRoot().resolve("outputs");
+    Path outputPath = Paths.get("some.path");
+    Path output = outputsDir.resolve(outputPath);
+    materializeOutput(outputsDir, protocol.newOutputFile(outputPath, digest, false));
+    assertDataEquals(data, Files.readAllBytes(output));
+
+    // A rewrite that keeps the size and the modification time is not noticed.
+    byte[] otherData = "HELLO WORLD!".getBytes(Charsets.UTF_8);
+    FileTime lastModifiedTime = Files.getLastModifiedTime(output);
+    Files.write(output, otherData);
+    Files.setLastModifiedTime(output, lastModifiedTime);
+    materializeOutput(outputsDir, protocol.newOutputFile(outputPath, digest, false));
+    assertDataEquals(otherData, Files.readAllBytes(output));
+
+    // Once the modification time changes, the file is hashed and fetched again.
+    Files.setLastModifiedTime(
+        output, FileTime.fromMillis(lastModifiedTime.toMillis() + TimeUnit.SECONDS.toMillis(10)));
+    materializeOutput(outputsDir, protocol.newOutputFile(outputPath, digest, false));
+    assertDataEquals(data, Files.readAllBytes(output));
+  }
+
+  private void materializeOutput(Path outputsDir, Protocol.OutputFile outputFile) throws Exception {
+    storage
+        .materializeOutputs(
+            ImmutableList.of(),
+            ImmutableList.of(outputFile),
+            outputsDir,
+            (path, fileDigest, isExecutable) -> {})
+        .get();
+  }
+
   private FileNode newFileNode(byte[] bytes, Path path, boolean isExecutable) {
     return protocol.newFileNode(
         protocol.computeDigest(bytes), path.getFileName().toString(), isExecutable);
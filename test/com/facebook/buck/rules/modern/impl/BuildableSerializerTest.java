@@ -24,6 +24,7 @@ import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.verify;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
 
 import com.facebook.buck.core.cell.CellPathResolver;
 import com.facebook.buck.core.model.BuildTarget;
@@ -58,6 +59,7 @@ import com.facebook.buck.util.Memoizer;
 import com.facebook.buck.util.types.Either;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.hash.HashCode;
@@ -66,7 +68,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -504,4 +508,33 @@ public class BuildableSerializerTest extends AbstractValueVisitorTest {
     ObjectWithToolchain deserialized = test(object);
     assertEquals(object.toolchain, deserialized.toolchain);
   }
+
+  private static class WithRepeatedValues implements AddsToRuleKey {
+    @AddToRuleKey
+    private final ImmutableList<String> strings =
+        ImmutableList.copyOf(Collections.nCopies(100, Strings.repeat("repeated", 10)));
+
+    @AddToRuleKey private final String large = Strings.repeat("x", 100000);
+    @AddToRuleKey private final int negative = -1;
+    @AddToRuleKey private final long min = Long.MIN_VALUE;
+  }
+
+  @Test
+  public void repeatedStringsAreWrittenOnce() throws IOException {
+    WithRepeatedValues instance = test(new WithRepeatedValues());
+    assertEquals(-1, instance.negative);
+    assertEquals(Long.MIN_VALUE, instance.min);
+
+    List<byte[]> data = new ArrayList<>();
+    new Serializer(
+            ruleFinder,
+            cellResolver,
+            (value, bytes, children) -> {
+              data.add(bytes);
+              return HashCode.fromInt(data.size());
+            })
+        .serialize(new WithRepeatedValues());
+    assertEquals(1, data.size());
+    assertThat(data.get(0).length, Matchers.lessThan(100000 + 1000));
+  }
 }
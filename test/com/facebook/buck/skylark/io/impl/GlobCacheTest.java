@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.skylark.io.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.io.filesystem.skylark.SkylarkFilesystem;
+import com.facebook.buck.skylark.io.Globber;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GlobCacheTest {
+
+  private FakeGlobber fakeGlobber;
+  private GlobCache globCache;
+  private Path packagePath;
+  private Globber globber;
+
+  @Before
+  public void setUp() {
+    fakeGlobber = new FakeGlobber();
+    globCache = new GlobCache();
+    ProjectFilesystem projectFilesystem = FakeProjectFilesystem.createRealTempFilesystem();
+    SkylarkFilesystem fileSystem = SkylarkFilesystem.using(projectFilesystem);
+    packagePath = projectFilesystem.getRootPath().resolve("foo").resolve("bar");
+    globber =
+        globCache
+            .decorate(basePath -> fakeGlobber)
+            .create(fileSystem.getPath(packagePath.toString()));
+  }
+
+  @Test
+  public void resultIsReusedUntilInvalidated() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("a.txt"));
+    assertThat(run(), is(ImmutableSet.of("a.txt")));
+
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("a.txt", "b.txt"));
+    assertThat(run(), is(ImmutableSet.of("a.txt")));
+  }
+
+  @Test
+  public void addingFileToSubdirectoryInvalidatesPackage() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("a.txt"));
+    run();
+
+    globCache.invalidatePath(packagePath.resolve("baz").resolve("b.txt"));
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("a.txt", "baz/b.txt"));
+    assertThat(run(), is(ImmutableSet.of("a.txt", "baz/b.txt")));
+  }
+
+  @Test
+  public void changesOutsideOfPackageDoNotInvalidateIt() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("a.txt"));
+    run();
+
+    globCache.invalidatePath(packagePath.getParent().resolve("c.txt"));
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of());
+    assertThat(run(), is(ImmutableSet.of("a.txt")));
+  }
+
+  @Test
+  public void invalidateAllDropsEverything() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("a.txt"));
+    run();
+
+    globCache.invalidateAll();
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of());
+    assertThat(run(), is(ImmutableSet.of()));
+  }
+
+  private Set<String> run() throws Exception {
+    return globber.run(ImmutableList.of("**/*.txt"), ImmutableList.of(), false);
+  }
+
+  private static class FakeGlobber implements Globber {
+    @Nullable private Set<String> result;
+
+    @Override
+    public Set<String> run(
+        Collection<String> include, Collection<String> exclude, boolean excludeDirectories) {
+      return result;
+    }
+
+    public void returnResultOnNextInvocations(Set<String> result) {
+      this.result = result;
+    }
+  }
+}
@@ -129,6 +129,23 @@ public class SkylarkProjectBuildFileParserTest {
         NativeGlobber::create);
   }
 
+  private SkylarkProjectBuildFileParser createParserWithExtensionCache(
+      LoadedExtensionCache loadedExtensionCache) {
+    ProjectBuildFileParserOptions options = getDefaultParserOptions().build();
+    return SkylarkProjectBuildFileParser.using(
+        options,
+        BuckEventBusForTests.newInstance(),
+        SkylarkFilesystem.using(projectFilesystem),
+        BuckGlobals.builder()
+            .setRuleFunctionFactory(new RuleFunctionFactory(new DefaultTypeCoercerFactory()))
+            .setDescriptions(options.getDescriptions())
+            .setDisableImplicitNativeRules(options.getDisableImplicitNativeRules())
+            .build(),
+        new PrintingEventHandler(EventKind.ALL_EVENTS),
+        NativeGlobber::create,
+        Optional.of(loadedExtensionCache));
+  }
+
   private SkylarkProjectBuildFileParser createParser(EventHandler eventHandler) {
     return createParserWithOptions(eventHandler, getDefaultParserOptions().build());
   }
@@ -626,6 +643,60 @@ public class SkylarkProjectBuildFileParserTest {
     assertThat(rule.get("binaryJar"), equalTo("jar"));
   }
 
+  @Test
+  public void sharedExtensionsAreReusedByOtherParsersUntilInvalidated() throws Exception {
+    Path directory = projectFilesystem.resolve("src").resolve("test");
+    Files.createDirectories(directory);
+    Path buildFile = directory.resolve("BUCK");
+    Path extensionFile = directory.resolve("build_rules.bzl");
+    Files.write(
+        buildFile,
+        Arrays.asList(
+            "load('//src/test:build_rules.bzl', 'JAR')",
+            "prebuilt_jar(name='foo', binary_jar=JAR)"));
+    Files.write(extensionFile, Collections.singletonList("JAR='jar'"));
+    LoadedExtensionCache loadedExtensionCache = new LoadedExtensionCache();
+    parser = createParserWithExtensionCache(loadedExtensionCache);
+    assertThat(getSingleRule(buildFile).get("binaryJar"), equalTo("jar"));
+
+    Files.write(extensionFile, Collections.singletonList("JAR='other_jar'"));
+    parser = createParserWithExtensionCache(loadedExtensionCache);
+    assertThat(getSingleRule(buildFile).get("binaryJar"), equalTo("jar"));
+
+    loadedExtensionCache.invalidatePath(extensionFile);
+    parser = createParserWithExtensionCache(loadedExtensionCache);
+    assertThat(getSingleRule(buildFile).get("binaryJar"), equalTo("other_jar"));
+  }
+
+  @Test
+  public void sharedExtensionsAreReusedWhenLoadedFromOtherPackages() throws Exception {
+    Path directory = projectFilesystem.resolve("src").resolve("test");
+    Path otherDirectory = projectFilesystem.resolve("src").resolve("other");
+    Files.createDirectories(directory);
+    Files.createDirectories(otherDirectory);
+    Path buildFile = directory.resolve("BUCK");
+    Path otherBuildFile = otherDirectory.resolve("BUCK");
+    Path extensionFile = directory.resolve("build_rules.bzl");
+    Files.write(
+        buildFile,
+        Arrays.asList(
+            "load(':build_rules.bzl', 'JAR')", "prebuilt_jar(name='foo', binary_jar=JAR)"));
+    Files.write(
+        otherBuildFile,
+        Arrays.asList(
+            "load('//src/test:build_rules.bzl', 'JAR')",
+            "prebuilt_jar(name='bar', binary_jar=JAR)"));
+    Files.write(extensionFile, Collections.singletonList("JAR='jar'"));
+    LoadedExtensionCache loadedExtensionCache = new LoadedExtensionCache();
+    parser = createParserWithExtensionCache(loadedExtensionCache);
+    assertThat(getSingleRule(otherBuildFile).get("binaryJar"), equalTo("jar"));
+
+    // Not invalidated, so the extension evaluated for the other package has to be reused.
+    Files.write(extensionFile, Collections.singletonList("JAR='other_jar'"));
+    parser = createParserWithExtensionCache(loadedExtensionCache);
+    assertThat(getSingleRule(buildFile).get("binaryJar"), equalTo("jar"));
+  }
+
   @Test
   public void canUseStructsInExtensionFiles() throws Exception {
     Path directory = projectFilesystem.resolve("src").resolve("test");
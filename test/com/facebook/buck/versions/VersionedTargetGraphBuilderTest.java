@@ -35,6 +35,7 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Maps;
 import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
@@ -387,7 +388,26 @@ public class VersionedTargetGraphBuilderTest {
                     versionSelector,
                     unversionedTargetGraphAndBuildTargets,
                     typeCoercerFactory,
-                    20)
+                    20,
+                    Optional.empty())
+      },
+      new Object[] {
+        (VersionedTargetGraphBuilderFactory)
+            (pool,
+                executor,
+                versionSelector,
+                unversionedTargetGraphAndBuildTargets,
+                typeCoercerFactory) ->
+                new ParallelVersionedTargetGraphBuilder(
+                    pool,
+                    versionSelector,
+                    unversionedTargetGraphAndBuildTargets,
+                    typeCoercerFactory,
+                    20,
+                    Optional.of(
+                        TranslatedTargetNodeCache.of(
+                            unversionedTargetGraphAndBuildTargets.getTargetGraph(),
+                            ImmutableMap.of())))
       },
       new Object[] {
         (VersionedTargetGraphBuilderFactory)
@@ -136,6 +136,28 @@ public class VersionedTargetGraphCacheTest {
     assertTimingsNotEmpty(stats);
   }
 
+  @Test
+  public void testGraphChangeProducesSameGraphAsEmptyCache() throws Exception {
+    InstrumentedVersionedTargetGraphCache cache =
+        new InstrumentedVersionedTargetGraphCache(
+            new VersionedTargetGraphCache(), new InstrumentingCacheStatsTracker());
+    cache.getVersionedTargetGraph(
+        BUS, new DefaultTypeCoercerFactory(), createSimpleGraph("foo"), ImmutableMap.of(), POOL);
+    TargetGraphAndBuildTargets secondGraph = createSimpleGraph("bar");
+    VersionedTargetGraphCacheResult secondResult =
+        cache.getVersionedTargetGraph(
+            BUS, new DefaultTypeCoercerFactory(), secondGraph, ImmutableMap.of(), POOL);
+    InstrumentedVersionedTargetGraphCache emptyCache =
+        new InstrumentedVersionedTargetGraphCache(
+            new VersionedTargetGraphCache(), new InstrumentingCacheStatsTracker());
+    VersionedTargetGraphCacheResult expectedResult =
+        emptyCache.getVersionedTargetGraph(
+            BUS, new DefaultTypeCoercerFactory(), secondGraph, ImmutableMap.of(), POOL);
+    assertThat(
+        secondResult.getTargetGraphAndBuildTargets(),
+        Matchers.is(expectedResult.getTargetGraphAndBuildTargets()));
+  }
+
   @Test
   public void testVersionUniverseChangeCausesMiss() throws Exception {
     InstrumentedVersionedTargetGraphCache cache =